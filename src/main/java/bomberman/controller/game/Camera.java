@@ -0,0 +1,366 @@
+package bomberman.controller.game;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.RenderSnapshot;
+import bomberman.utils.GameConstants;
+
+import java.util.List;
+
+/**
+ * Caméra de défilement pour l'affichage de grilles plus grandes que la fenêtre.
+ * La caméra définit la portion visible du monde (le viewport) et suit soit un
+ * joueur précis, soit le barycentre des joueurs encore en vie. Les renderers
+ * l'utilisent pour convertir les coordonnées du monde en coordonnées écran et
+ * pour ne dessiner que les cases et entités visibles : le coût de rendu dépend
+ * alors de la taille de l'écran et non de celle de la carte.
+ *
+ * <p>Systèmes de coordonnées :</p>
+ * <ul>
+ *   <li><strong>Monde</strong> : pixels depuis le coin haut-gauche de la grille (case x → x * TILE_SIZE)</li>
+ *   <li><strong>Écran</strong> : pixels du canvas, la zone de jeu commençant sous la barre de timer</li>
+ * </ul>
+ * Les positions visuelles des joueurs et des bombes en mouvement incluent déjà
+ * le décalage {@link GameConstants#TIMER_HEIGHT} ; {@link #getTranslateY()} en tient compte.
+ *
+ * <p>Comportement :</p>
+ * <ul>
+ *   <li>La caméra reste bornée aux limites du monde</li>
+ *   <li>Un monde plus petit que le viewport est centré</li>
+ *   <li>Le suivi est lissé (interpolation) pour éviter les à-coups</li>
+ * </ul>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class Camera {
+
+    /** Valeur de cible indiquant le suivi du barycentre des joueurs */
+    public static final int FOLLOW_CENTROID = 0;
+
+    /** Taille minimale d'une case à l'écran, en pixels */
+    public static final int MIN_TILE_SIZE = 16;
+
+    /** Facteur de lissage par défaut (fraction de l'écart rattrapée à chaque frame) */
+    private static final double DEFAULT_SMOOTHING = 0.2;
+
+    /** Largeur du viewport en pixels */
+    private int viewportWidth;
+
+    /** Hauteur du viewport en pixels (zone de jeu, hors barre de timer) */
+    private int viewportHeight;
+
+    /** Décalage horizontal de la caméra dans le monde, en pixels */
+    private double offsetX;
+
+    /** Décalage vertical de la caméra dans le monde, en pixels */
+    private double offsetY;
+
+    /** Numéro du joueur suivi, ou {@link #FOLLOW_CENTROID} */
+    private int followedPlayer = FOLLOW_CENTROID;
+
+    /** Facteur de lissage entre 0 (immobile) et 1 (suivi instantané) */
+    private double smoothing = DEFAULT_SMOOTHING;
+
+    /** Indique si la caméra doit se placer directement sur sa cible à la prochaine mise à jour */
+    private boolean snapNext = true;
+
+    /**
+     * Constructeur de la caméra.
+     *
+     * @param viewportWidth Largeur de la zone de jeu visible en pixels
+     * @param viewportHeight Hauteur de la zone de jeu visible en pixels
+     */
+    public Camera(int viewportWidth, int viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    // ==================== SUIVI ====================
+
+    /**
+     * Met à jour la position de la caméra pour la frame courante.
+     * Calcule le point suivi (joueur ou barycentre), centre le viewport dessus
+     * puis borne le résultat aux limites du monde.
+     *
+     * @param gridWidth Largeur du monde en cases
+     * @param gridHeight Hauteur du monde en cases
+     * @param players Les joueurs de la partie
+     */
+    public void update(int gridWidth, int gridHeight, List<GamePlayer> players) {
+        double half = GameConstants.TILE_SIZE / 2.0;
+        double focusX = 0;
+        double focusY = 0;
+        int count = 0;
+
+        for (GamePlayer player : players) {
+            if (player.getStats().isEliminated()) continue;
+            if (followedPlayer != FOLLOW_CENTROID && player.getPlayerNumber() != followedPlayer) continue;
+            focusX += player.getVisualX() + half;
+            focusY += player.getVisualY() - GameConstants.TIMER_HEIGHT + half;
+            count++;
+        }
+
+        moveTowards(gridWidth, gridHeight, focusX, focusY, count);
+    }
+
+    /**
+     * Met à jour la position de la caméra à partir d'un instantané de rendu.
+     * Même comportement que {@link #update(int, int, List)}, sans accéder
+     * aux entités vivantes de la simulation.
+     *
+     * @param snapshot L'instantané de la frame à afficher
+     */
+    public void update(RenderSnapshot snapshot) {
+        double half = GameConstants.TILE_SIZE / 2.0;
+        double focusX = 0;
+        double focusY = 0;
+        int count = 0;
+
+        for (int i = 0; i < snapshot.getPlayerSize(); i++) {
+            if (snapshot.isPlayerEliminated(i)) continue;
+            if (followedPlayer != FOLLOW_CENTROID && snapshot.getPlayerNumber(i) != followedPlayer) continue;
+            focusX += snapshot.getPlayerVisualX(i) + half;
+            focusY += snapshot.getPlayerVisualY(i) - GameConstants.TIMER_HEIGHT + half;
+            count++;
+        }
+
+        moveTowards(snapshot.getGridWidth(), snapshot.getGridHeight(), focusX, focusY, count);
+    }
+
+    /**
+     * Déplace la caméra vers le point suivi, bornée aux limites du monde.
+     *
+     * @param gridWidth Largeur du monde en cases
+     * @param gridHeight Hauteur du monde en cases
+     * @param focusX Somme des abscisses suivies
+     * @param focusY Somme des ordonnées suivies
+     * @param count Nombre de points suivis (0 : la caméra reste en place)
+     */
+    private void moveTowards(int gridWidth, int gridHeight, double focusX, double focusY, int count) {
+        double targetX;
+        double targetY;
+        if (count > 0) {
+            targetX = focusX / count - viewportWidth / 2.0;
+            targetY = focusY / count - viewportHeight / 2.0;
+        } else {
+            targetX = offsetX;
+            targetY = offsetY;
+        }
+
+        targetX = clamp(targetX, gridWidth * GameConstants.TILE_SIZE, viewportWidth);
+        targetY = clamp(targetY, gridHeight * GameConstants.TILE_SIZE, viewportHeight);
+
+        if (snapNext) {
+            offsetX = targetX;
+            offsetY = targetY;
+            snapNext = false;
+        } else {
+            offsetX += (targetX - offsetX) * smoothing;
+            offsetY += (targetY - offsetY) * smoothing;
+        }
+    }
+
+    /**
+     * Borne un décalage aux limites du monde sur un axe.
+     * Si le monde est plus petit que le viewport, il est centré.
+     *
+     * @param offset Le décalage souhaité
+     * @param worldSize La taille du monde en pixels
+     * @param viewportSize La taille du viewport en pixels
+     * @return Le décalage borné
+     */
+    private static double clamp(double offset, int worldSize, int viewportSize) {
+        if (worldSize <= viewportSize) {
+            return (worldSize - viewportSize) / 2.0;
+        }
+        return Math.max(0, Math.min(worldSize - viewportSize, offset));
+    }
+
+    /**
+     * Définit le joueur suivi par la caméra.
+     *
+     * @param playerNumber Le numéro du joueur (1-4), ou {@link #FOLLOW_CENTROID}
+     */
+    public void follow(int playerNumber) {
+        this.followedPlayer = playerNumber;
+    }
+
+    /**
+     * Définit le facteur de lissage du suivi.
+     *
+     * @param smoothing Valeur entre 0 et 1 (1 = suivi instantané)
+     */
+    public void setSmoothing(double smoothing) {
+        this.smoothing = Math.max(0, Math.min(1, smoothing));
+    }
+
+    /**
+     * Force la caméra à se placer directement sur sa cible à la prochaine mise à jour.
+     * À utiliser au démarrage ou au redémarrage d'une partie.
+     */
+    public void snap() {
+        this.snapNext = true;
+    }
+
+    /**
+     * Redimensionne le viewport.
+     *
+     * @param viewportWidth Nouvelle largeur en pixels
+     * @param viewportHeight Nouvelle hauteur en pixels
+     */
+    public void setViewportSize(int viewportWidth, int viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        snap();
+    }
+
+    /**
+     * Calcule la taille d'une case (en pixels écran) adaptée à une fenêtre.
+     * La taille retenue est la plus grande permettant d'afficher la grille et
+     * la barre de timer en entier ; pour une grille plus grande que la grille
+     * par défaut, le calcul se limite à la zone par défaut et la caméra fait
+     * défiler le reste.
+     *
+     * @param pixelWidth Largeur disponible en pixels
+     * @param pixelHeight Hauteur disponible en pixels (barre de timer comprise)
+     * @param gridWidth Largeur de la grille en cases
+     * @param gridHeight Hauteur de la grille en cases
+     * @return La taille d'une case, au minimum {@link #MIN_TILE_SIZE}
+     */
+    public static int fitTileSize(int pixelWidth, int pixelHeight, int gridWidth, int gridHeight) {
+        double columns = Math.min(gridWidth, GameConstants.GRID_WIDTH);
+        double rows = Math.min(gridHeight, GameConstants.GRID_HEIGHT)
+                + (double) GameConstants.TIMER_HEIGHT / GameConstants.TILE_SIZE;
+        int size = (int) Math.floor(Math.min(pixelWidth / columns, pixelHeight / rows));
+        return Math.max(MIN_TILE_SIZE, size);
+    }
+
+    // ==================== CULLING ====================
+
+    /**
+     * Retourne la première colonne visible (incluse).
+     *
+     * @return L'indice de colonne, au minimum 0
+     */
+    public int getFirstVisibleColumn() {
+        return Math.max(0, (int) Math.floor(offsetX / GameConstants.TILE_SIZE));
+    }
+
+    /**
+     * Retourne la dernière colonne visible (incluse).
+     *
+     * @param gridWidth Largeur du monde en cases
+     * @return L'indice de colonne, au maximum gridWidth - 1
+     */
+    public int getLastVisibleColumn(int gridWidth) {
+        return Math.min(gridWidth - 1,
+                (int) Math.floor((offsetX + viewportWidth) / GameConstants.TILE_SIZE));
+    }
+
+    /**
+     * Retourne la première ligne visible (incluse).
+     *
+     * @return L'indice de ligne, au minimum 0
+     */
+    public int getFirstVisibleRow() {
+        return Math.max(0, (int) Math.floor(offsetY / GameConstants.TILE_SIZE));
+    }
+
+    /**
+     * Retourne la dernière ligne visible (incluse).
+     *
+     * @param gridHeight Hauteur du monde en cases
+     * @return L'indice de ligne, au maximum gridHeight - 1
+     */
+    public int getLastVisibleRow(int gridHeight) {
+        return Math.min(gridHeight - 1,
+                (int) Math.floor((offsetY + viewportHeight) / GameConstants.TILE_SIZE));
+    }
+
+    /**
+     * Vérifie si une case est dans le viewport.
+     *
+     * @param cellX Colonne de la case
+     * @param cellY Ligne de la case
+     * @return true si au moins un pixel de la case est visible
+     */
+    public boolean isCellVisible(int cellX, int cellY) {
+        return isVisible(cellX * GameConstants.TILE_SIZE,
+                cellY * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT);
+    }
+
+    /**
+     * Vérifie si une tuile placée à une position visuelle est dans le viewport.
+     * La position suit la convention des positions visuelles des entités
+     * (décalage de la barre de timer inclus).
+     *
+     * @param visualX Position X visuelle en pixels
+     * @param visualY Position Y visuelle en pixels
+     * @return true si au moins un pixel de la tuile est visible
+     */
+    public boolean isVisible(double visualX, double visualY) {
+        double worldY = visualY - GameConstants.TIMER_HEIGHT;
+        return visualX + GameConstants.TILE_SIZE > offsetX && visualX < offsetX + viewportWidth
+                && worldY + GameConstants.TILE_SIZE > offsetY && worldY < offsetY + viewportHeight;
+    }
+
+    // ==================== TRANSFORMATION ====================
+
+    /**
+     * Retourne la translation horizontale à appliquer aux positions visuelles.
+     *
+     * La valeur est arrondie au pixel pour garder des tuiles nettes.
+     *
+     * @return Le décalage écran en pixels (à ajouter à une position visuelle X)
+     */
+    public int getTranslateX() {
+        return (int) -Math.round(offsetX);
+    }
+
+    /**
+     * Retourne la translation verticale à appliquer aux positions visuelles.
+     * Les positions visuelles incluant déjà la barre de timer, seul le
+     * décalage de la caméra est appliqué.
+     *
+     * @return Le décalage écran en pixels (à ajouter à une position visuelle Y)
+     */
+    public int getTranslateY() {
+        return (int) -Math.round(offsetY);
+    }
+
+    /**
+     * Retourne le décalage horizontal de la caméra dans le monde.
+     *
+     * @return Le décalage en pixels
+     */
+    public double getOffsetX() { return offsetX; }
+
+    /**
+     * Retourne le décalage vertical de la caméra dans le monde.
+     *
+     * @return Le décalage en pixels
+     */
+    public double getOffsetY() { return offsetY; }
+
+    /**
+     * Retourne la largeur du viewport.
+     *
+     * @return La largeur en pixels
+     */
+    public int getViewportWidth() { return viewportWidth; }
+
+    /**
+     * Retourne la hauteur du viewport.
+     *
+     * @return La hauteur en pixels
+     */
+    public int getViewportHeight() { return viewportHeight; }
+
+    /**
+     * Retourne le numéro du joueur suivi.
+     *
+     * @return Le numéro du joueur, ou {@link #FOLLOW_CENTROID}
+     */
+    public int getFollowedPlayer() { return followedPlayer; }
+}
@@ -0,0 +1,411 @@
+package bomberman.controller.game;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.MatchReplay;
+import bomberman.utils.GameConstants;
+import bomberman.utils.PngEncoder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Export headless de parties simulées ou enregistrées en séquences d'images.
+ * Cette classe simule une partie sans fenêtre, plus vite que le temps réel,
+ * (joueurs aux décisions aléatoires, ou trames d'un {@link MatchReplay}),
+ * rasterise chaque frame avec le {@link FramebufferRenderer} (même mise en page
+ * que le {@link GameRenderer}) et l'écrit en PNG ou dans un flux vidéo
+ * non compressé Y4M. Les frames alimentent les montages de temps forts
+ * et les tests de régression visuelle.
+ *
+ * <p>Pipeline d'export :</p>
+ * <ol>
+ *   <li>Le thread appelant simule un tick de jeu et rasterise la frame</li>
+ *   <li>La frame est copiée puis confiée à un pool de threads d'encodage</li>
+ *   <li>Les frames encodées sont écrites dans l'ordre (Y4M) ou directement en fichiers (PNG)</li>
+ * </ol>
+ * Le nombre de frames en cours d'encodage est borné pour limiter la mémoire.
+ *
+ * <p>Utilisation en ligne de commande :</p>
+ * <pre>
+ * java bomberman.controller.game.FrameExporter sortie/ png 600 4 42
+ * java bomberman.controller.game.FrameExporter match.y4m y4m 3600 2 7
+ * java bomberman.controller.game.FrameExporter sortie/ png 3600 salle-3-2a.bmr
+ * </pre>
+ *
+ * <p>La partie est créée par {@link GameManager#createSeededMatch} : une même
+ * graine donne la même grille et les mêmes frames, et un replay est rejoué à
+ * l'identique.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class FrameExporter {
+
+    /**
+     * Formats de sortie supportés.
+     */
+    public enum Format {
+        /** Un fichier PNG par frame (frame_00000.png, frame_00001.png, ...) */
+        PNG,
+        /** Flux vidéo YUV 4:2:0 non compressé au format YUV4MPEG2 */
+        Y4M
+    }
+
+    // ==================== CONSTANTES ====================
+
+    /** Durée simulée d'une frame en millisecondes : un tick de jeu */
+    public static final int FRAME_MILLIS = (int) (GameConstants.TICK_DURATION / 1_000_000);
+
+    /** Nombre de frames de l'écran de fin ajoutées après la partie */
+    private static final int GAME_OVER_FRAMES = 60;
+
+    /** Probabilité qu'un joueur simulé change de direction à chaque déplacement */
+    private static final double TURN_CHANCE = 0.2;
+
+    /** Probabilité qu'un joueur simulé pose une bombe à chaque tick */
+    private static final double BOMB_CHANCE = 0.01;
+
+    /** Directions de déplacement (gauche, droite, haut, bas) */
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    // ==================== CONFIGURATION ====================
+
+    /** Nombre de joueurs simulés (2-4) */
+    private final int playerCount;
+
+    /** Graine de la partie et des décisions des joueurs simulés */
+    private final long seed;
+
+    /** Partie enregistrée à rejouer, null pour des joueurs simulés */
+    private final MatchReplay replay;
+
+    /** Gestionnaire de textures (null pour un rendu en couleurs unies) */
+    private TextureManager textureManager;
+
+    /** Nombre de threads d'encodage */
+    private int encoderThreads = Runtime.getRuntime().availableProcessors();
+
+    // ==================== ÉTAT DE SIMULATION ====================
+
+    /** Générateur des décisions des joueurs simulés */
+    private Random random;
+
+    /** Direction courante de chaque joueur simulé */
+    private int[] currentDirections;
+
+    /** Numéro du tick simulé */
+    private long tick;
+
+    /** Effets de particules de la partie simulée */
+    private ParticleSystem particleSystem;
+
+    /**
+     * Constructeur de l'exporteur.
+     *
+     * @param playerCount Le nombre de joueurs simulés (contraint entre 2 et 4)
+     * @param seed La graine de la partie et des décisions des joueurs simulés
+     */
+    public FrameExporter(int playerCount, long seed) {
+        this.playerCount = Math.max(2, Math.min(4, playerCount));
+        this.seed = seed;
+        this.replay = null;
+    }
+
+    /**
+     * Constructeur d'un exporteur qui rejoue une partie enregistrée.
+     *
+     * @param replay La partie enregistrée
+     */
+    public FrameExporter(MatchReplay replay) {
+        this.playerCount = replay.getPlayerCount();
+        this.seed = replay.getSeed();
+        this.replay = replay;
+    }
+
+    /**
+     * Définit le gestionnaire de textures utilisé pour le rendu.
+     *
+     * @param textureManager Le gestionnaire de textures, ou null pour des couleurs unies
+     */
+    public void setTextureManager(TextureManager textureManager) {
+        this.textureManager = textureManager;
+    }
+
+    /**
+     * Définit le nombre de threads d'encodage.
+     *
+     * @param threads Le nombre de threads (au moins 1)
+     */
+    public void setEncoderThreads(int threads) {
+        this.encoderThreads = Math.max(1, threads);
+    }
+
+    // ==================== EXPORT ====================
+
+    /**
+     * Simule une partie et exporte ses frames.
+     * La simulation s'arrête à la fin de la partie (suivie de l'écran de fin),
+     * à la fin d'un replay interrompu avant la fin de partie, ou lorsque le
+     * nombre maximal de frames est atteint.
+     *
+     * @param output Le dossier de sortie (PNG) ou le fichier de sortie (Y4M)
+     * @param format Le format de sortie
+     * @param maxFrames Le nombre maximal de frames à exporter
+     * @return Le nombre de frames effectivement écrites
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public int export(Path output, Format format, int maxFrames) throws IOException {
+        GameManager gameManager = createMatch();
+        FramebufferRenderer renderer = new FramebufferRenderer(textureManager);
+        renderer.setParticleSystem(particleSystem);
+        int width = renderer.getWidth();
+        int height = renderer.getHeight();
+
+        if (format == Format.PNG) {
+            Files.createDirectories(output);
+        }
+
+        ExecutorService encoders = Executors.newFixedThreadPool(encoderThreads);
+        ThreadLocal<PngEncoder> pngEncoders = ThreadLocal.withInitial(PngEncoder::new);
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        int maxInFlight = encoderThreads * 2;
+        int frames = 0;
+        int gameOverFrames = 0;
+
+        try (OutputStream stream = format == Format.Y4M
+                ? new BufferedOutputStream(Files.newOutputStream(output), 1 << 20) : null) {
+            if (stream != null) {
+                String header = "YUV4MPEG2 W" + width + " H" + height + " F"
+                        + (1000 / FRAME_MILLIS) + ":1 Ip A1:1 C420jpeg\n";
+                stream.write(header.getBytes(StandardCharsets.US_ASCII));
+            }
+
+            while (frames < maxFrames && gameOverFrames < GAME_OVER_FRAMES) {
+                if (gameManager.isGameRunning()) {
+                    if (replay != null && tick >= replay.getTickCount()) break;
+                    simulateTick(gameManager);
+                    renderer.render(gameManager.getRenderSnapshots().acquire());
+                } else {
+                    renderer.renderGameOver(gameManager.getWinnerText());
+                    gameOverFrames++;
+                }
+
+                int[] frame = new int[width * height];
+                renderer.copyFrame(frame);
+                int index = frames++;
+
+                if (format == Format.PNG) {
+                    Path file = output.resolve(String.format("frame_%05d.png", index));
+                    pending.add(encoders.submit(() -> {
+                        Files.write(file, pngEncoders.get().encode(frame, width, height));
+                        return null;
+                    }));
+                } else {
+                    pending.add(encoders.submit(() -> toYuv420(frame, width, height)));
+                }
+
+                while (pending.size() >= maxInFlight) {
+                    drain(pending.poll(), stream);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                drain(pending.poll(), stream);
+            }
+        } finally {
+            encoders.shutdownNow();
+        }
+
+        return frames;
+    }
+
+    /**
+     * Attend la fin d'un encodage et écrit son résultat dans le flux si nécessaire.
+     *
+     * @param future L'encodage en attente
+     * @param stream Le flux Y4M (null pour l'export PNG)
+     * @throws IOException en cas d'erreur d'encodage ou d'écriture
+     */
+    private void drain(Future<byte[]> future, OutputStream stream) throws IOException {
+        byte[] data;
+        try {
+            data = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export interrompu", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Erreur d'encodage : " + e.getCause().getMessage(), e.getCause());
+        }
+        if (stream != null && data != null) {
+            stream.write("FRAME\n".getBytes(StandardCharsets.US_ASCII));
+            stream.write(data);
+        }
+    }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Crée une nouvelle partie en mode déterministe : le temps de jeu suit le
+     * nombre de ticks, un tick par frame.
+     *
+     * @return Le gestionnaire de jeu initialisé
+     */
+    private GameManager createMatch() {
+        random = new Random(seed);
+        currentDirections = new int[playerCount];
+        tick = 0;
+
+        GameManager gameManager = GameManager.createSeededMatch(playerCount, seed, false);
+        particleSystem = new ParticleSystem();
+        gameManager.setEventListener(particleSystem);
+        return gameManager;
+    }
+
+    /**
+     * Simule un tick de jeu : décisions des joueurs puis mise à jour du jeu.
+     * Pour un replay, la trame enregistrée est appliquée. Sinon, chaque joueur
+     * avance dans sa direction courante, en change aléatoirement ou lorsqu'il
+     * est bloqué, et pose parfois une bombe.
+     *
+     * @param gameManager Le gestionnaire de jeu à faire avancer
+     */
+    private void simulateTick(GameManager gameManager) {
+        tick++;
+        if (replay != null) {
+            gameManager.step(replay.getFrame((int) tick));
+            particleSystem.update();
+            return;
+        }
+        long currentTime = tick * FRAME_MILLIS * 1_000_000L;
+
+        for (GamePlayer player : gameManager.getPlayers()) {
+            if (player.getStats().isEliminated()) continue;
+            int index = player.getPlayerNumber() - 1;
+
+            if (player.canMoveNow(currentTime)) {
+                int[] direction = DIRECTIONS[currentDirections[index]];
+                int newX = player.getTargetX() + direction[0];
+                int newY = player.getTargetY() + direction[1];
+
+                if (random.nextDouble() < TURN_CHANCE || !gameManager.canPlayerMoveTo(player, newX, newY)) {
+                    currentDirections[index] = random.nextInt(DIRECTIONS.length);
+                } else {
+                    player.setTarget(newX, newY);
+                    player.startMoving(currentTime);
+                }
+            }
+
+            if (random.nextDouble() < BOMB_CHANCE && player.getStats().canPlaceBomb(currentTime)) {
+                gameManager.placeBombForPlayer(player);
+                player.getStats().setLastBombTime(currentTime);
+            }
+        }
+
+        gameManager.update();
+        particleSystem.update();
+    }
+
+    // ==================== CONVERSION VIDÉO ====================
+
+    /**
+     * Convertit une frame ARGB en YUV 4:2:0 plein range (BT.601).
+     * La chrominance est moyennée sur chaque bloc de 2x2 pixels.
+     *
+     * @param argb Les pixels ARGB
+     * @param width Largeur de la frame (paire)
+     * @param height Hauteur de la frame (paire)
+     * @return Les plans Y, U et V concaténés
+     */
+    static byte[] toYuv420(int[] argb, int width, int height) {
+        int chromaWidth = (width + 1) / 2;
+        int chromaHeight = (height + 1) / 2;
+        int lumaSize = width * height;
+        int chromaSize = chromaWidth * chromaHeight;
+        byte[] yuv = new byte[lumaSize + 2 * chromaSize];
+
+        for (int i = 0; i < lumaSize; i++) {
+            int pixel = argb[i];
+            int r = (pixel >> 16) & 0xFF;
+            int g = (pixel >> 8) & 0xFF;
+            int b = pixel & 0xFF;
+            yuv[i] = (byte) ((77 * r + 150 * g + 29 * b + 128) >> 8);
+        }
+
+        for (int cy = 0; cy < chromaHeight; cy++) {
+            for (int cx = 0; cx < chromaWidth; cx++) {
+                int r = 0, g = 0, b = 0, count = 0;
+                for (int dy = 0; dy < 2; dy++) {
+                    int y = cy * 2 + dy;
+                    if (y >= height) continue;
+                    for (int dx = 0; dx < 2; dx++) {
+                        int x = cx * 2 + dx;
+                        if (x >= width) continue;
+                        int pixel = argb[y * width + x];
+                        r += (pixel >> 16) & 0xFF;
+                        g += (pixel >> 8) & 0xFF;
+                        b += pixel & 0xFF;
+                        count++;
+                    }
+                }
+                r /= count;
+                g /= count;
+                b /= count;
+                int u = ((-43 * r - 85 * g + 128 * b + 128) >> 8) + 128;
+                int v = ((128 * r - 107 * g - 21 * b + 128) >> 8) + 128;
+                int index = cy * chromaWidth + cx;
+                yuv[lumaSize + index] = (byte) Math.max(0, Math.min(255, u));
+                yuv[lumaSize + chromaSize + index] = (byte) Math.max(0, Math.min(255, v));
+            }
+        }
+        return yuv;
+    }
+
+    // ==================== POINT D'ENTRÉE ====================
+
+    /**
+     * Point d'entrée en ligne de commande.
+     * Arguments : sortie [png|y4m] [frames max] [joueurs|replay .bmr] [graine].
+     *
+     * @param args Les arguments de la ligne de commande
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage : FrameExporter <sortie> [png|y4m] [frames] [joueurs|replay.bmr] [graine]");
+            return;
+        }
+
+        Path output = Path.of(args[0]);
+        Format format = args.length > 1 ? Format.valueOf(args[1].toUpperCase()) : Format.PNG;
+        int maxFrames = args.length > 2 ? Integer.parseInt(args[2]) : 3600;
+        long start = System.nanoTime();
+        try {
+            FrameExporter exporter;
+            if (args.length > 3 && args[3].endsWith(".bmr")) {
+                exporter = new FrameExporter(MatchReplay.read(Path.of(args[3])));
+            } else {
+                int players = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+                long seed = args.length > 4 ? Long.parseLong(args[4]) : System.currentTimeMillis();
+                exporter = new FrameExporter(players, seed);
+            }
+            int frames = exporter.export(output, format, maxFrames);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d frames exportées vers %s en %.2f s (%.0f frames/s)%n",
+                    frames, output, seconds, frames / seconds);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'export : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,898 @@
+package bomberman.controller.game;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.BombSystem;
+import bomberman.model.game.GameGrid;
+import bomberman.model.game.GameTimer;
+import bomberman.model.game.PowerUpSystem;
+import bomberman.model.game.RenderSnapshot;
+import bomberman.utils.GameConstants;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.List;
+
+/**
+ * Moteur de rendu logiciel par framebuffer pour le jeu Bomberman.
+ * Cette classe rasterise entièrement une frame (terrain, sprites et HUD) dans un
+ * tableau {@code int[]} ARGB en Java pur, puis la présente à JavaFX en une seule
+ * mise à jour de {@link PixelBuffer}. Elle remplace les centaines d'appels
+ * {@code GraphicsContext} du {@link GameRenderer} par un coût par frame prévisible,
+ * indépendant du pipeline Prism.
+ *
+ * <p>Fonctionnalités principales :</p>
+ * <ul>
+ *   <li>Rendu identique à la mise en page du GameRenderer (mêmes couches, mêmes positions)</li>
+ *   <li>Taille de case adaptée à la fenêtre ({@link #resize(int, int)}), tuiles
+ *       régénérées par le {@link SpriteCache} une seule fois par changement d'échelle</li>
+ *   <li>Texte du HUD dessiné avec une police matricielle ({@link PixelFont})</li>
+ *   <li>Fonctionnement headless pour les tests et l'export de frames</li>
+ *   <li>Présentation en une seule copie vers un {@link WritableImage}</li>
+ * </ul>
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * FramebufferRenderer renderer = new FramebufferRenderer(textureManager);
+ * ImageView view = new ImageView(renderer.getImage());
+ *
+ * // Dans la boucle de jeu
+ * renderer.render(gameManager.getRenderSnapshots().acquire());
+ * renderer.present();
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class FramebufferRenderer {
+
+    // ==================== COULEURS ARGB ====================
+
+    private static final int GREEN = 0xFF008000;
+    private static final int LIGHTGREEN = 0xFF90EE90;
+    private static final int DARKGREEN = 0xFF006400;
+    private static final int ORANGE = 0xFFFFA500;
+    private static final int TIMER_BAR = 0xFFFF8C00;
+    private static final int BLACK = 0xFF000000;
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int RED = 0xFFFF0000;
+    private static final int GRAY = 0xFF808080;
+    private static final int BROWN = 0xFFA52A2A;
+
+    // ==================== TAMPONS ====================
+
+    /** Largeur du framebuffer en pixels */
+    private int width;
+
+    /** Hauteur du framebuffer en pixels */
+    private int height;
+
+    /** Framebuffer ARGB de la frame en cours, ligne par ligne */
+    private int[] pixels;
+
+    /** Gestionnaire de textures (null en mode headless sans textures) */
+    private final TextureManager textureManager;
+
+    /** Textures converties en tuiles ARGB à la taille de case courante */
+    private final SpriteCache spriteCache;
+
+    /** Taille d'une case à l'écran, en pixels (0 tant qu'elle n'est pas calculée) */
+    private int tileSize;
+
+    /** Facteur d'échelle entre les unités du monde (TILE_SIZE par case) et l'écran */
+    private double scale = 1.0;
+
+    /** Hauteur de la barre de timer à l'écran, en pixels */
+    private int timerHeight = GameConstants.TIMER_HEIGHT;
+
+    /** Tick de simulation de la frame en cours (horloge des animations) */
+    private long currentTick;
+
+    /** Instantané interne utilisé par les appels de rendu à partir des systèmes vivants */
+    private final RenderSnapshot capturedSnapshot = new RenderSnapshot();
+
+    /** Caméra définissant la portion visible du terrain */
+    private final Camera camera;
+
+    /** Système de particules des explosions (optionnel) */
+    private ParticleSystem particleSystem;
+
+    /** Abscisse écran de l'origine du terrain pour la frame en cours */
+    private int originX;
+
+    /** Ordonnée écran de l'origine du terrain (sous la barre de timer) pour la frame en cours */
+    private int originY;
+
+    /** Tampon natif partagé avec JavaFX (créé à la première présentation) */
+    private IntBuffer presentBuffer;
+
+    /** PixelBuffer JavaFX enveloppant le tampon natif */
+    private PixelBuffer<IntBuffer> pixelBuffer;
+
+    /** Image JavaFX affichable alimentée par le PixelBuffer */
+    private WritableImage image;
+
+    /**
+     * Constructeur du renderer aux dimensions standard du canvas de jeu.
+     *
+     * @param textureManager Le gestionnaire de textures, ou null pour un rendu en couleurs unies
+     */
+    public FramebufferRenderer(TextureManager textureManager) {
+        this(GameConstants.CANVAS_WIDTH, GameConstants.CANVAS_HEIGHT, textureManager);
+    }
+
+    /**
+     * Constructeur du renderer avec des dimensions personnalisées.
+     *
+     * @param width Largeur du framebuffer en pixels
+     * @param height Hauteur du framebuffer en pixels
+     * @param textureManager Le gestionnaire de textures, ou null pour un rendu en couleurs unies
+     */
+    public FramebufferRenderer(int width, int height, TextureManager textureManager) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+        this.textureManager = textureManager;
+        this.spriteCache = new SpriteCache(textureManager);
+        this.camera = new Camera(width, height - GameConstants.TIMER_HEIGHT);
+    }
+
+    /**
+     * Redimensionne le framebuffer (fenêtre redimensionnée ou plein écran).
+     * Le tableau de pixels et l'image présentée sont réalloués ; la taille de
+     * case et le cache de sprites sont recalculés au prochain rendu. Après un
+     * redimensionnement, {@link #getImage()} retourne une nouvelle image.
+     *
+     * @param width Nouvelle largeur en pixels
+     * @param height Nouvelle hauteur en pixels
+     */
+    public void resize(int width, int height) {
+        width = Math.max(1, width);
+        height = Math.max(1, height);
+        if (width == this.width && height == this.height) return;
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+        this.image = null;
+        this.pixelBuffer = null;
+        this.presentBuffer = null;
+        this.tileSize = 0;
+    }
+
+    /**
+     * Met à jour la taille de case pour la grille affichée.
+     * Ne recalcule le viewport et ne régénère les tuiles que lorsque la taille change.
+     *
+     * @param gridWidth Largeur de la grille en cases
+     * @param gridHeight Hauteur de la grille en cases
+     */
+    private void updateScale(int gridWidth, int gridHeight) {
+        int size = Camera.fitTileSize(width, height, gridWidth, gridHeight);
+        if (size != tileSize) {
+            tileSize = size;
+            scale = (double) size / GameConstants.TILE_SIZE;
+            timerHeight = toScreen(GameConstants.TIMER_HEIGHT);
+            camera.setViewportSize((int) Math.ceil(width / scale),
+                    (int) Math.ceil((height - timerHeight) / scale));
+        }
+        spriteCache.refresh(tileSize);
+    }
+
+    /**
+     * Convertit une longueur en unités du monde en pixels écran.
+     *
+     * @param world La longueur en unités du monde
+     * @return La longueur en pixels, arrondie
+     */
+    private int toScreen(double world) {
+        return (int) Math.round(world * scale);
+    }
+
+    /**
+     * Retourne la taille d'une case à l'écran.
+     *
+     * @return La taille en pixels
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Retourne la caméra utilisée pour le rendu du terrain.
+     *
+     * @return La caméra du renderer
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Définit le système de particules dessiné par-dessus les entités.
+     *
+     * @param particleSystem Le système de particules, ou null pour aucun effet
+     */
+    public void setParticleSystem(ParticleSystem particleSystem) {
+        this.particleSystem = particleSystem;
+    }
+
+    // ==================== RENDU D'UNE FRAME ====================
+
+    /**
+     * Rasterise une frame complète du jeu dans le framebuffer.
+     * Reprend les couches du {@link GameRenderer} vues à travers la {@link Camera} :
+     * terrain → explosions → bombes → power-ups → joueurs → quadrillage, puis HUD.
+     * Le HUD est dessiné en dernier : il recouvre entièrement la barre supérieure,
+     * ce qui masque les sprites partiellement sortis du viewport.
+     *
+     * @param grid La grille de jeu contenant les murs et obstacles
+     * @param players La liste des joueurs à afficher
+     * @param bombSystem Le système de bombes contenant toutes les bombes actives
+     * @param powerUpSystem Le système de power-ups avec les bonus disponibles
+     * @param gameTimer Le timer de jeu pour l'affichage du temps
+     * @param playerCount Le nombre total de joueurs pour adapter l'interface
+     */
+    public void renderGame(GameGrid grid, List<GamePlayer> players, BombSystem bombSystem,
+                           PowerUpSystem powerUpSystem, GameTimer gameTimer, int playerCount) {
+        renderGame(grid, players, bombSystem, powerUpSystem, gameTimer, playerCount, currentTick + 1);
+    }
+
+    /**
+     * Rasterise une frame complète du jeu pour un tick de simulation donné.
+     * Le tick sert d'horloge aux animations : un même état rendu au même tick
+     * produit exactement les mêmes pixels. L'état est recopié dans un
+     * instantané interne puis rasterisé via {@link #render(RenderSnapshot)}.
+     *
+     * @param grid La grille de jeu contenant les murs et obstacles
+     * @param players La liste des joueurs à afficher
+     * @param bombSystem Le système de bombes contenant toutes les bombes actives
+     * @param powerUpSystem Le système de power-ups avec les bonus disponibles
+     * @param gameTimer Le timer de jeu pour l'affichage du temps
+     * @param playerCount Le nombre total de joueurs pour adapter l'interface
+     * @param tick Le tick de simulation courant
+     */
+    public void renderGame(GameGrid grid, List<GamePlayer> players, BombSystem bombSystem,
+                           PowerUpSystem powerUpSystem, GameTimer gameTimer, int playerCount, long tick) {
+        capturedSnapshot.capture(grid, players, bombSystem, powerUpSystem, gameTimer, playerCount, tick);
+        render(capturedSnapshot);
+    }
+
+    /**
+     * Rasterise une frame complète à partir d'un instantané de rendu.
+     * Seul l'instantané est lu : la simulation peut le remplacer par un plus
+     * récent pendant la rasterisation sans provoquer de déchirure.
+     *
+     * @param snapshot L'instantané de la frame à afficher
+     */
+    public void render(RenderSnapshot snapshot) {
+        currentTick = snapshot.getTick();
+        int gridWidth = snapshot.getGridWidth();
+        int gridHeight = snapshot.getGridHeight();
+        updateScale(gridWidth, gridHeight);
+
+        camera.update(snapshot);
+        originX = -toScreen(camera.getOffsetX());
+        originY = timerHeight - toScreen(camera.getOffsetY());
+
+        // Terrain
+        fillRect(0, timerHeight, width, height - timerHeight, GREEN);
+
+        // Grille (cases visibles uniquement)
+        if (snapshot.hasGrid()) {
+            renderCells(snapshot);
+        }
+
+        // Éléments du jeu
+        renderExplosions(snapshot);
+        renderBombs(snapshot);
+        renderPowerUps(snapshot);
+        renderPlayers(snapshot);
+        renderParticles();
+        renderGridLines(gridWidth, gridHeight);
+
+        // Timer
+        renderTimer(snapshot);
+    }
+
+    /**
+     * Rasterise l'écran de fin de partie par-dessus la frame courante.
+     * Assombrit la frame (équivalent d'un voile noir à 80 %) puis affiche
+     * le gagnant et les instructions pour rejouer.
+     *
+     * @param winner Le nom du gagnant à afficher
+     */
+    public void renderGameOver(String winner) {
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = blend(pixels[i], BLACK, 204);
+        }
+
+        int titleScale = fontScale(4);
+        int hintScale = fontScale(2);
+        String title = winner + " gagne !";
+        drawText(title, (width - PixelFont.textWidth(title, titleScale)) / 2, height / 2 - toScreen(28),
+                titleScale, WHITE);
+
+        String hint = "Appuyez sur ESPACE pour rejouer";
+        drawText(hint, (width - PixelFont.textWidth(hint, hintScale)) / 2, height / 2 + toScreen(24),
+                hintScale, WHITE);
+    }
+
+    /**
+     * Dessine toutes les cellules de la grille (sol puis murs).
+     *
+     * @param snapshot L'instantané contenant le terrain
+     */
+    private void renderCells(RenderSnapshot snapshot) {
+        int tile = tileSize;
+        int[] ground = spriteCache.getTile("ground");
+        int[] wallIndestructible = spriteCache.getTile("wall_indestructible");
+        int[] wallDestructible = spriteCache.getTile("wall_destructible");
+
+        int lastColumn = camera.getLastVisibleColumn(snapshot.getGridWidth());
+        int lastRow = camera.getLastVisibleRow(snapshot.getGridHeight());
+
+        for (int y = camera.getFirstVisibleRow(); y <= lastRow; y++) {
+            for (int x = camera.getFirstVisibleColumn(); x <= lastColumn; x++) {
+                int pixelX = x * tile + originX;
+                int pixelY = y * tile + originY;
+
+                if (ground != null) {
+                    blitTile(ground, pixelX, pixelY);
+                } else {
+                    fillRect(pixelX, pixelY, tile, tile, LIGHTGREEN);
+                }
+
+                int cell = snapshot.getCellType(x, y);
+                if (cell == GameGrid.WALL_INDESTRUCTIBLE) {
+                    if (wallIndestructible != null) blitTile(wallIndestructible, pixelX, pixelY);
+                    else fillRect(pixelX, pixelY, tile, tile, GRAY);
+                } else if (cell == GameGrid.WALL_DESTRUCTIBLE) {
+                    if (wallDestructible != null) blitTile(wallDestructible, pixelX, pixelY);
+                    else fillRect(pixelX, pixelY, tile, tile, BROWN);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dessine les explosions actives (texture ou carré orange de fallback).
+     *
+     * @param snapshot L'instantané contenant les explosions
+     */
+    private void renderExplosions(RenderSnapshot snapshot) {
+        int tile = tileSize;
+        int[] texture = spriteCache.getTile("explosion");
+        int[][] frames = spriteCache.getFrames("explosion");
+        for (int i = 0; i < snapshot.getExplosionSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getExplosionX(i), snapshot.getExplosionY(i))) continue;
+            int x = snapshot.getExplosionX(i) * tile + originX;
+            int y = snapshot.getExplosionY(i) * tile + originY;
+            int timer = snapshot.getExplosionTimer(i);
+            int duration = snapshot.getExplosionDuration(i);
+            if (frames != null) {
+                blitTile(frames[SpriteAnimator.flameFrame(textureManager.getAnimation("explosion"),
+                        timer, duration)], x, y);
+            } else if (texture != null) {
+                blitScaled(texture, x, y, SpriteAnimator.flameScale(timer, duration));
+            } else {
+                int inset = toScreen(5);
+                fillRect(x + inset, y + inset, tile - 2 * inset, tile - 2 * inset, ORANGE);
+            }
+        }
+    }
+
+    /**
+     * Dessine les bombes statiques puis les bombes en mouvement.
+     *
+     * @param snapshot L'instantané contenant les bombes
+     */
+    private void renderBombs(RenderSnapshot snapshot) {
+        int tile = tileSize;
+        int[] texture = spriteCache.getTile("bomb");
+
+        for (int i = 0; i < snapshot.getBombSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getBombX(i), snapshot.getBombY(i))) continue;
+            drawBomb(snapshot.getBombTimer(i), texture, snapshot.getBombX(i) * tile + originX,
+                    snapshot.getBombY(i) * tile + originY);
+        }
+
+        for (int i = 0; i < snapshot.getMovingBombSize(); i++) {
+            double visualX = snapshot.getMovingBombX(i);
+            double visualY = snapshot.getMovingBombY(i);
+            if (!camera.isVisible(visualX, visualY)) continue;
+            drawBomb(snapshot.getMovingBombTimer(i), texture, toScreen(visualX) + originX,
+                    toScreen(visualY - GameConstants.TIMER_HEIGHT) + originY);
+        }
+    }
+
+    /**
+     * Dessine une bombe à une position en pixels, avec l'animation de sa mèche.
+     *
+     * @param bombTimer Le timer restant de la bombe
+     * @param texture La tuile de la bombe (peut être null)
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     */
+    private void drawBomb(int bombTimer, int[] texture, int x, int y) {
+        int tile = tileSize;
+        int[][] frames = spriteCache.getFrames("bomb");
+        if (frames != null) {
+            blitTile(frames[SpriteAnimator.bombFrame(textureManager.getAnimation("bomb"), bombTimer)], x, y);
+        } else if (texture != null) {
+            blitScaled(texture, x, y, SpriteAnimator.bombScale(bombTimer));
+        } else {
+            int inset = toScreen(8);
+            fillOval(x + inset, y + inset, tile - 2 * inset, tile - 2 * inset, BLACK);
+        }
+    }
+
+    /**
+     * Dessine les power-ups : fond blanc, carré de couleur et lettre identificatrice.
+     *
+     * @param snapshot L'instantané contenant les power-ups
+     */
+    private void renderPowerUps(RenderSnapshot snapshot) {
+        int tile = tileSize;
+        int outer = toScreen(5);
+        int inner = toScreen(8);
+        int labelScale = fontScale(1);
+        for (int i = 0; i < snapshot.getPowerUpSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getPowerUpX(i), snapshot.getPowerUpY(i))) continue;
+            int x = snapshot.getPowerUpX(i) * tile + originX;
+            int y = snapshot.getPowerUpY(i) * tile + originY;
+            PowerUpSystem.PowerUpType type = snapshot.getPowerUpType(i);
+
+            fillRect(x + outer, y + outer, tile - 2 * outer, tile - 2 * outer, WHITE);
+            fillRect(x + inner, y + inner, tile - 2 * inner, tile - 2 * inner, toArgb(type.getColor()));
+
+            String label = type.getLabel().substring(0, 1);
+            drawText(label, x + (tile - PixelFont.textWidth(label, labelScale)) / 2,
+                    y + tile / 2 - 3 * labelScale, labelScale, BLACK);
+        }
+    }
+
+    /**
+     * Dessine tous les joueurs non éliminés avec l'effet de clignotement d'invincibilité.
+     *
+     * @param snapshot L'instantané contenant les joueurs
+     */
+    private void renderPlayers(RenderSnapshot snapshot) {
+        int tile = tileSize;
+        int inset = toScreen(5);
+        for (int i = 0; i < snapshot.getPlayerSize(); i++) {
+            if (snapshot.isPlayerEliminated(i)) continue;
+            if (!camera.isVisible(snapshot.getPlayerVisualX(i), snapshot.getPlayerVisualY(i))) continue;
+
+            int invincibilityTimer = snapshot.getPlayerInvincibility(i);
+            boolean shouldRender = invincibilityTimer <= 0 || (invincibilityTimer / 5) % 2 != 0;
+            if (!shouldRender) continue;
+
+            int playerNum = snapshot.getPlayerNumber(i);
+            boolean moving = snapshot.isPlayerMoving(i);
+            String textureName = playerTextureName(playerNum);
+            int[] texture = spriteCache.getTile(textureName);
+            int[][] frames = spriteCache.getFrames(textureName);
+            int x = toScreen(snapshot.getPlayerVisualX(i)) + originX;
+            int y = toScreen(snapshot.getPlayerVisualY(i) - GameConstants.TIMER_HEIGHT) + originY;
+
+            if (frames != null) {
+                blitTile(frames[SpriteAnimator.walkFrame(textureManager.getAnimation(textureName),
+                        moving, currentTick)], x, y);
+            } else if (texture != null) {
+                blitTile(texture, x, y + toScreen(SpriteAnimator.walkBob(moving, currentTick)));
+            } else {
+                Color color = GameConstants.PLAYER_COLORS[Math.min(playerNum - 1,
+                        GameConstants.PLAYER_COLORS.length - 1)];
+                int argb = toArgb(color);
+                if (invincibilityTimer > 0) {
+                    argb = (argb & 0x00FFFFFF) | 0x80000000;
+                }
+                fillOval(x + inset, y + inset, tile - 2 * inset, tile - 2 * inset, argb);
+            }
+        }
+    }
+
+    /**
+     * Dessine les particules en un seul passage, directement dans le framebuffer.
+     * Chaque particule est un carré mélangé selon son opacité.
+     */
+    private void renderParticles() {
+        if (particleSystem == null) return;
+        for (int i = 0; i < particleSystem.getCount(); i++) {
+            float particleSize = particleSystem.getSize(i);
+            int side = Math.max(1, toScreen(particleSize));
+            int x = toScreen(particleSystem.getX(i) - particleSize / 2) + originX;
+            int y = toScreen(particleSystem.getY(i) - particleSize / 2 - GameConstants.TIMER_HEIGHT) + originY;
+            fillRect(x, y, side, side, particleSystem.getArgb(i));
+        }
+    }
+
+    /**
+     * Retourne le nom de texture associé à un numéro de joueur.
+     *
+     * @param playerNum Le numéro du joueur (1-4)
+     * @return Le nom de la texture dans le TextureManager
+     */
+    private String playerTextureName(int playerNum) {
+        return playerNum <= 1 ? "player" : "player" + playerNum;
+    }
+
+    /**
+     * Dessine le quadrillage vert foncé délimitant les cases visibles.
+     *
+     * @param gridWidth Largeur de la grille en cases
+     * @param gridHeight Hauteur de la grille en cases
+     */
+    private void renderGridLines(int gridWidth, int gridHeight) {
+        int tile = tileSize;
+        int firstColumn = camera.getFirstVisibleColumn();
+        int lastColumn = camera.getLastVisibleColumn(gridWidth) + 1;
+        int firstRow = camera.getFirstVisibleRow();
+        int lastRow = camera.getLastVisibleRow(gridHeight) + 1;
+        int top = firstRow * tile + originY;
+        int left = firstColumn * tile + originX;
+
+        for (int x = firstColumn; x <= lastColumn; x++) {
+            fillRect(x * tile + originX, top, 1, (lastRow - firstRow) * tile, DARKGREEN);
+        }
+        for (int y = firstRow; y <= lastRow; y++) {
+            fillRect(left, y * tile + originY,
+                    (lastColumn - firstColumn) * tile, 1, DARKGREEN);
+        }
+    }
+
+    // ==================== HUD ====================
+
+    /**
+     * Dessine la barre de timer et les informations des joueurs.
+     *
+     * @param snapshot L'instantané contenant le temps et les statistiques des joueurs
+     */
+    private void renderTimer(RenderSnapshot snapshot) {
+        int barHeight = timerHeight;
+        int border = fontScale(2);
+        fillRect(0, 0, width, barHeight, TIMER_BAR);
+        strokeRect(0, 0, width, barHeight, border, BLACK);
+
+        // Boîte de timer centrée
+        int boxWidth = toScreen(80);
+        int boxHeight = toScreen(30);
+        int boxX = (width - boxWidth) / 2;
+        int boxY = (barHeight - boxHeight) / 2;
+        fillRect(boxX, boxY, boxWidth, boxHeight, BLACK);
+        strokeRect(boxX, boxY, boxWidth, boxHeight, border, WHITE);
+
+        String timeText = snapshot.getFormattedTime();
+        int timeScale = fontScale(2);
+        drawText(timeText, boxX + (boxWidth - PixelFont.textWidth(timeText, timeScale)) / 2,
+                boxY + (boxHeight - PixelFont.GLYPH_HEIGHT * timeScale) / 2, timeScale, WHITE);
+
+        if (snapshot.getPlayerCount() == 2) {
+            renderTwoPlayersInfo(snapshot);
+        } else {
+            renderFourPlayersInfo(snapshot);
+        }
+    }
+
+    /**
+     * Dessine les informations détaillées pour une partie à 2 joueurs.
+     *
+     * @param snapshot L'instantané contenant les joueurs (au moins 2 joueurs)
+     */
+    private void renderTwoPlayersInfo(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getPlayerSize() && i < 2; i++) {
+            boolean left = i == 0;
+
+            if (!snapshot.isPlayerEliminated(i)) {
+                String name = "Joueur " + snapshot.getPlayerNumber(i);
+                String lives = "Vies: " + snapshot.getPlayerLives(i);
+                String powers = "R:" + snapshot.getPlayerBombRange(i) +
+                        " S:" + String.format("%.1f", snapshot.getPlayerSpeed(i) / GameConstants.MOVEMENT_SPEED) +
+                        (snapshot.canPlayerPushBombs(i) ? " P" : "");
+                drawAligned(name, left, 6, 2, WHITE);
+                drawAligned(lives, left, 26, 2, WHITE);
+                drawAligned(powers, left, 46, 1, WHITE);
+            } else {
+                drawAligned("J" + snapshot.getPlayerNumber(i) + ": ÉLIMINÉ", left, 24, 2, RED);
+            }
+        }
+    }
+
+    /**
+     * Dessine les informations compactes pour une partie à 4 joueurs (un quadrant par joueur).
+     *
+     * @param snapshot L'instantané contenant les joueurs (jusqu'à 4 joueurs)
+     */
+    private void renderFourPlayersInfo(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getPlayerSize() && i < 4; i++) {
+            int playerNum = i + 1;
+            boolean left = i % 2 == 0;
+            int y = (i < 2) ? 6 : 34;
+
+            if (!snapshot.isPlayerEliminated(i)) {
+                drawAligned("J" + playerNum + ":" + snapshot.getPlayerLives(i), left, y, 2, WHITE);
+                drawAligned("R:" + snapshot.getPlayerBombRange(i), left, y + 16, 1, WHITE);
+            } else {
+                drawAligned("J" + playerNum + ": ÉLIMINÉ", left, y + 4, 1, RED);
+            }
+        }
+    }
+
+    /**
+     * Dessine un texte aligné sur le bord gauche ou droit de la barre de timer.
+     * La position et la taille sont données pour une case de TILE_SIZE pixels
+     * puis mises à l'échelle de l'écran.
+     *
+     * @param text Le texte à dessiner
+     * @param left true pour aligner à gauche, false pour aligner à droite
+     * @param y Position Y du haut du texte
+     * @param scale Le facteur d'agrandissement de base
+     * @param argb La couleur du texte
+     */
+    private void drawAligned(String text, boolean left, int y, int scale, int argb) {
+        int textScale = fontScale(scale);
+        int margin = toScreen(20);
+        int x = left ? margin : width - PixelFont.textWidth(text, textScale) - margin;
+        drawText(text, x, toScreen(y), textScale, argb);
+    }
+
+    /**
+     * Adapte un facteur d'agrandissement de police bitmap à l'échelle courante.
+     * La police {@link PixelFont} ne s'agrandit que par facteurs entiers.
+     *
+     * @param base Le facteur pour une case de TILE_SIZE pixels
+     * @return Le facteur entier à utiliser, au moins 1
+     */
+    private int fontScale(int base) {
+        return Math.max(1, toScreen(base));
+    }
+
+    // ==================== PRÉSENTATION JAVAFX ====================
+
+    /**
+     * Retourne l'image JavaFX alimentée par ce framebuffer.
+     * L'image est créée au premier appel et réutilisée ensuite ;
+     * elle peut être placée directement dans un {@code ImageView}.
+     *
+     * @return L'image affichable, mise à jour par {@link #present()}
+     */
+    public WritableImage getImage() {
+        if (image == null) {
+            presentBuffer = ByteBuffer.allocateDirect(width * height * 4)
+                    .order(ByteOrder.nativeOrder()).asIntBuffer();
+            pixelBuffer = new PixelBuffer<>(width, height, presentBuffer,
+                    PixelFormat.getIntArgbPreInstance());
+            image = new WritableImage(pixelBuffer);
+        }
+        return image;
+    }
+
+    /**
+     * Présente la frame rasterisée à JavaFX.
+     * Copie le framebuffer en un seul transfert dans le tampon partagé puis
+     * signale la zone modifiée au PixelBuffer. Toutes les frames étant opaques,
+     * le format prémultiplié de JavaFX est identique au format ARGB du framebuffer.
+     * Doit être appelée sur le thread JavaFX.
+     */
+    public void present() {
+        getImage();
+        pixelBuffer.updateBuffer(buffer -> {
+            presentBuffer.clear();
+            presentBuffer.put(pixels);
+            return null;
+        });
+    }
+
+    // ==================== ACCÈS AU FRAMEBUFFER ====================
+
+    /**
+     * Retourne le framebuffer ARGB de la frame courante (sans copie).
+     *
+     * @return Le tableau de pixels, ligne par ligne
+     */
+    public int[] getPixels() { return pixels; }
+
+    /**
+     * Copie la frame courante dans un tableau fourni par l'appelant.
+     *
+     * @param destination Le tableau de destination (au moins width * height éléments)
+     */
+    public void copyFrame(int[] destination) {
+        System.arraycopy(pixels, 0, destination, 0, pixels.length);
+    }
+
+    /**
+     * Retourne la largeur du framebuffer.
+     *
+     * @return La largeur en pixels
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * Retourne la hauteur du framebuffer.
+     *
+     * @return La hauteur en pixels
+     */
+    public int getHeight() { return height; }
+
+    // ==================== PRIMITIVES DE RASTERISATION ====================
+
+    /**
+     * Copie une tuile ARGB avec transparence (src-over) à une position donnée.
+     *
+     * @param tile La tuile source de tileSize x tileSize
+     * @param x Position X de destination
+     * @param y Position Y de destination
+     */
+    private void blitTile(int[] tile, int x, int y) {
+        int size = tileSize;
+        int startX = Math.max(0, -x);
+        int endX = Math.min(size, width - x);
+        for (int row = Math.max(0, -y); row < size && y + row < height; row++) {
+            int src = row * size;
+            int dst = (y + row) * width + x;
+            for (int col = startX; col < endX; col++) {
+                int argb = tile[src + col];
+                int alpha = argb >>> 24;
+                if (alpha == 255) {
+                    pixels[dst + col] = argb;
+                } else if (alpha != 0) {
+                    pixels[dst + col] = blend(pixels[dst + col], argb, alpha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copie une tuile réduite et centrée dans sa case (plus proche voisin).
+     *
+     * @param tile La tuile source de tileSize x tileSize
+     * @param x Position X de la case
+     * @param y Position Y de la case
+     * @param factor Le facteur de réduction (1.0 = case entière)
+     */
+    private void blitScaled(int[] tile, int x, int y, double factor) {
+        int side = tileSize;
+        int size = (int) Math.round(side * factor);
+        if (size >= side) {
+            blitTile(tile, x, y);
+            return;
+        }
+        if (size <= 0) return;
+
+        int left = x + (side - size) / 2;
+        int top = y + (side - size) / 2;
+        for (int row = 0; row < size; row++) {
+            int dstY = top + row;
+            if (dstY < 0 || dstY >= height) continue;
+            int src = (row * side / size) * side;
+            for (int col = 0; col < size; col++) {
+                int dstX = left + col;
+                if (dstX < 0 || dstX >= width) continue;
+                int argb = tile[src + col * side / size];
+                int alpha = argb >>> 24;
+                int dst = dstY * width + dstX;
+                if (alpha == 255) {
+                    pixels[dst] = argb;
+                } else if (alpha != 0) {
+                    pixels[dst] = blend(pixels[dst], argb, alpha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remplit un rectangle, avec mélange si la couleur est semi-transparente.
+     *
+     * @param x Position X du coin supérieur gauche
+     * @param y Position Y du coin supérieur gauche
+     * @param w Largeur du rectangle
+     * @param h Hauteur du rectangle
+     * @param argb La couleur de remplissage
+     */
+    private void fillRect(int x, int y, int w, int h, int argb) {
+        int x0 = Math.max(0, x);
+        int y0 = Math.max(0, y);
+        int x1 = Math.min(width, x + w);
+        int y1 = Math.min(height, y + h);
+        if (x0 >= x1 || y0 >= y1) return;
+        int alpha = argb >>> 24;
+        for (int yy = y0; yy < y1; yy++) {
+            int offset = yy * width;
+            if (alpha == 255) {
+                java.util.Arrays.fill(pixels, offset + x0, offset + x1, argb);
+            } else {
+                for (int xx = x0; xx < x1; xx++) {
+                    pixels[offset + xx] = blend(pixels[offset + xx], argb, alpha);
+                }
+            }
+        }
+    }
+
+    /**
+     * Trace le contour d'un rectangle avec une épaisseur donnée.
+     *
+     * @param x Position X du coin supérieur gauche
+     * @param y Position Y du coin supérieur gauche
+     * @param w Largeur du rectangle
+     * @param h Hauteur du rectangle
+     * @param thickness Épaisseur du trait en pixels
+     * @param argb La couleur du trait
+     */
+    private void strokeRect(int x, int y, int w, int h, int thickness, int argb) {
+        fillRect(x, y, w, thickness, argb);
+        fillRect(x, y + h - thickness, w, thickness, argb);
+        fillRect(x, y, thickness, h, argb);
+        fillRect(x + w - thickness, y, thickness, h, argb);
+    }
+
+    /**
+     * Remplit une ellipse inscrite dans un rectangle.
+     *
+     * @param x Position X du rectangle englobant
+     * @param y Position Y du rectangle englobant
+     * @param w Largeur du rectangle englobant
+     * @param h Hauteur du rectangle englobant
+     * @param argb La couleur de remplissage
+     */
+    private void fillOval(int x, int y, int w, int h, int argb) {
+        double rx = w / 2.0;
+        double ry = h / 2.0;
+        double cx = x + rx;
+        double cy = y + ry;
+        for (int yy = y; yy < y + h; yy++) {
+            double dy = (yy + 0.5 - cy) / ry;
+            double span = 1.0 - dy * dy;
+            if (span <= 0) continue;
+            int half = (int) Math.round(rx * Math.sqrt(span));
+            fillRect((int) Math.round(cx) - half, yy, half * 2, 1, argb);
+        }
+    }
+
+    /**
+     * Dessine un texte avec la police matricielle.
+     *
+     * @param text Le texte à dessiner
+     * @param x Position X du coin supérieur gauche
+     * @param y Position Y du coin supérieur gauche
+     * @param scale Le facteur d'agrandissement entier
+     * @param argb La couleur du texte
+     */
+    private void drawText(String text, int x, int y, int scale, int argb) {
+        PixelFont.drawText(pixels, width, height, text, x, y, scale, argb);
+    }
+
+    /**
+     * Mélange une couleur source sur une couleur de destination (src-over).
+     *
+     * @param dst La couleur de destination (opaque)
+     * @param src La couleur source
+     * @param alpha L'opacité de la source (0-255)
+     * @return La couleur résultante opaque
+     */
+    private static int blend(int dst, int src, int alpha) {
+        int inv = 255 - alpha;
+        int r = (((src >> 16) & 0xFF) * alpha + ((dst >> 16) & 0xFF) * inv) / 255;
+        int g = (((src >> 8) & 0xFF) * alpha + ((dst >> 8) & 0xFF) * inv) / 255;
+        int b = ((src & 0xFF) * alpha + (dst & 0xFF) * inv) / 255;
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Convertit une couleur JavaFX en entier ARGB.
+     *
+     * @param color La couleur JavaFX
+     * @return La couleur au format 0xAARRGGBB
+     */
+    static int toArgb(Color color) {
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * 255);
+        int g = (int) Math.round(color.getGreen() * 255);
+        int b = (int) Math.round(color.getBlue() * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+}
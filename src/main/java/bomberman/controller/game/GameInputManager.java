@@ -146,4 +146,21 @@ public class GameInputManager {
     public boolean isEscapePressed() {
         return inputHandler.isKeyPressed(KeyCode.ESCAPE);
     }
+
+    /**
+     * Vérifie si la touche de bascule plein écran (F11) est pressée.
+     *
+     * @return true si la touche F11 est pressée, false sinon
+     */
+    public boolean isFullScreenTogglePressed() {
+        return inputHandler.isKeyPressed(KeyCode.F11);
+    }
+
+    /**
+     * Force la libération de la touche plein écran.
+     * Évite de basculer à chaque frame tant que la touche reste enfoncée.
+     */
+    public void releaseFullScreenToggle() {
+        inputHandler.setKeyReleased(KeyCode.F11);
+    }
 }
\ No newline at end of file
@@ -1,12 +1,12 @@
 package bomberman.controller.game;
 
-import bomberman.model.entities.Bomb;
-import bomberman.model.entities.Explosion;
 import bomberman.model.entities.GamePlayer;
 import bomberman.model.game.BombSystem;
 import bomberman.model.game.GameGrid;
 import bomberman.model.game.GameTimer;
 import bomberman.model.game.PowerUpSystem;
+import bomberman.model.game.RenderSnapshot;
+import bomberman.model.game.RenderSnapshotBuffer;
 import bomberman.utils.GameConstants;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
@@ -35,6 +35,13 @@ import java.util.List;
  * Le rendu s'effectue par couches successives :
  * fond → grille → explosions → bombes → power-ups → joueurs → UI
  *
+ * <p>Les données affichées proviennent d'un {@link RenderSnapshot} : le renderer
+ * ne parcourt jamais les listes vivantes de la simulation pendant le dessin.</p>
+ *
+ * <p>Le dessin se fait en unités du monde (TILE_SIZE par case) ; une mise à l'échelle
+ * adapte la taille de case à la fenêtre ({@link #resize(int, int)}). Les textures sont
+ * pré-redimensionnées par le {@link SpriteCache} à chaque changement d'échelle.</p>
+ *
  * @author BUT1_TD3_G35
  * @version 1.0
  * @since 1.0
@@ -47,6 +54,39 @@ public class GameRenderer {
     /** Gestionnaire de textures pour les sprites du jeu */
     private TextureManager textureManager;
 
+    /** Caméra définissant la portion visible du terrain */
+    private final Camera camera;
+
+    /** Système de particules des explosions (optionnel) */
+    private ParticleSystem particleSystem;
+
+    /** Tick de simulation de la frame en cours (horloge des animations) */
+    private long currentTick;
+
+    /** Instantané interne utilisé par les appels de rendu à partir des systèmes vivants */
+    private final RenderSnapshot capturedSnapshot = new RenderSnapshot();
+
+    /** Sprites pré-redimensionnés à la taille de case courante */
+    private final SpriteCache spriteCache;
+
+    /** Largeur du canvas en pixels écran */
+    private int pixelWidth;
+
+    /** Hauteur du canvas en pixels écran */
+    private int pixelHeight;
+
+    /** Taille d'une case à l'écran, en pixels (0 tant qu'elle n'est pas calculée) */
+    private int tileSize;
+
+    /** Facteur d'échelle entre les unités du monde (TILE_SIZE par case) et l'écran */
+    private double scale = 1.0;
+
+    /** Largeur visible en unités du monde */
+    private double viewWidth = GameConstants.CANVAS_WIDTH;
+
+    /** Hauteur visible en unités du monde (barre de timer comprise) */
+    private double viewHeight = GameConstants.CANVAS_HEIGHT;
+
     /**
      * Constructeur du moteur de rendu.
      * Initialise le renderer avec le contexte graphique et le gestionnaire de textures.
@@ -57,6 +97,83 @@ public class GameRenderer {
     public GameRenderer(GraphicsContext gc, TextureManager textureManager) {
         this.gc = gc;
         this.textureManager = textureManager;
+        this.camera = new Camera(GameConstants.CANVAS_WIDTH,
+                GameConstants.CANVAS_HEIGHT - GameConstants.TIMER_HEIGHT);
+        this.spriteCache = new SpriteCache(textureManager);
+        this.pixelWidth = (int) gc.getCanvas().getWidth();
+        this.pixelHeight = (int) gc.getCanvas().getHeight();
+    }
+
+    /**
+     * Indique la nouvelle taille du canvas en pixels écran.
+     * La taille de case, l'échelle et le cache de sprites sont recalculés
+     * au prochain rendu, uniquement si la taille de case change.
+     *
+     * @param pixelWidth Largeur du canvas en pixels
+     * @param pixelHeight Hauteur du canvas en pixels
+     */
+    public void resize(int pixelWidth, int pixelHeight) {
+        this.pixelWidth = Math.max(1, pixelWidth);
+        this.pixelHeight = Math.max(1, pixelHeight);
+        this.tileSize = 0;
+    }
+
+    /**
+     * Met à jour la taille de case pour la grille affichée.
+     * Appelée à chaque frame ; ne recalcule le viewport de la caméra et ne
+     * régénère le cache de sprites que lorsque la taille de case change.
+     *
+     * @param gridWidth Largeur de la grille en cases
+     * @param gridHeight Hauteur de la grille en cases
+     */
+    private void updateScale(int gridWidth, int gridHeight) {
+        int size = Camera.fitTileSize(pixelWidth, pixelHeight, gridWidth, gridHeight);
+        if (size != tileSize) {
+            tileSize = size;
+            scale = (double) size / GameConstants.TILE_SIZE;
+            viewWidth = pixelWidth / scale;
+            viewHeight = pixelHeight / scale;
+            camera.setViewportSize((int) Math.ceil(viewWidth),
+                    (int) Math.ceil(viewHeight - GameConstants.TIMER_HEIGHT));
+        }
+        spriteCache.refresh(tileSize);
+    }
+
+    /**
+     * Retourne la taille d'une case à l'écran.
+     *
+     * @return La taille en pixels
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Retourne le cache des sprites redimensionnés.
+     *
+     * @return Le cache de sprites
+     */
+    public SpriteCache getSpriteCache() {
+        return spriteCache;
+    }
+
+    /**
+     * Retourne la caméra utilisée pour le rendu du terrain.
+     * Permet de choisir le joueur suivi ou de régler le lissage.
+     *
+     * @return La caméra du renderer
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Définit le système de particules dessiné par-dessus les entités.
+     *
+     * @param particleSystem Le système de particules, ou null pour aucun effet
+     */
+    public void setParticleSystem(ParticleSystem particleSystem) {
+        this.particleSystem = particleSystem;
     }
 
     /**
@@ -64,6 +181,9 @@ public class GameRenderer {
      * Cette méthode orchestre l'affichage de tous les éléments du jeu dans l'ordre correct
      * pour assurer un rendu cohérent et optimisé.
      *
+     * <p>Le terrain est dessiné à travers la {@link Camera} : seules les cases et
+     * entités présentes dans le viewport sont rendues, la barre de timer restant fixe.</p>
+     *
      * <p>Ordre de rendu :</p>
      * <ol>
      *   <li>Fond et terrain</li>
@@ -85,33 +205,144 @@ public class GameRenderer {
     public void renderGame(GameGrid grid, List<GamePlayer> players, BombSystem bombSystem,
                            PowerUpSystem powerUpSystem, GameTimer gameTimer,
                            int playerCount) {
+        renderGame(grid, players, bombSystem, powerUpSystem, gameTimer, playerCount, currentTick + 1);
+    }
+
+    /**
+     * Effectue le rendu complet d'une frame du jeu pour un tick de simulation donné.
+     * Le tick sert d'horloge aux animations (marche des joueurs) : un même état
+     * de jeu rendu au même tick donne toujours la même image.
+     *
+     * <p>L'état est d'abord recopié dans un instantané interne puis rendu via
+     * {@link #render(RenderSnapshot)} ; le rendu d'une partie en cours doit
+     * de préférence utiliser directement les instantanés publiés par le
+     * {@link bomberman.model.game.GameManager}.</p>
+     *
+     * @param grid La grille de jeu contenant les murs et obstacles
+     * @param players La liste des joueurs à afficher
+     * @param bombSystem Le système de bombes contenant toutes les bombes actives
+     * @param powerUpSystem Le système de power-ups avec les bonus disponibles
+     * @param gameTimer Le timer de jeu pour l'affichage du temps
+     * @param playerCount Le nombre total de joueurs pour adapter l'interface
+     * @param tick Le tick de simulation courant
+     */
+    public void renderGame(GameGrid grid, List<GamePlayer> players, BombSystem bombSystem,
+                           PowerUpSystem powerUpSystem, GameTimer gameTimer,
+                           int playerCount, long tick) {
+        capturedSnapshot.capture(grid, players, bombSystem, powerUpSystem, gameTimer, playerCount, tick);
+        render(capturedSnapshot);
+    }
+
+    /**
+     * Effectue le rendu complet d'une frame à partir d'un instantané de rendu.
+     * Le renderer ne lit que l'instantané : la simulation peut continuer à
+     * faire évoluer ses listes pendant le dessin (voir {@link RenderSnapshotBuffer}).
+     *
+     * @param snapshot L'instantané de la frame à afficher
+     */
+    public void render(RenderSnapshot snapshot) {
+        currentTick = snapshot.getTick();
+        int gridWidth = snapshot.getGridWidth();
+        int gridHeight = snapshot.getGridHeight();
+        updateScale(gridWidth, gridHeight);
+
+        // Tout le rendu est exprimé en unités du monde, mises à l'échelle de l'écran
+        gc.save();
+        gc.setImageSmoothing(false);
+        gc.scale(scale, scale);
+
         // Fond
         gc.setFill(Color.LIGHTGRAY);
-        gc.fillRect(0, 0, GameConstants.CANVAS_WIDTH, GameConstants.CANVAS_HEIGHT);
+        gc.fillRect(0, 0, viewWidth, viewHeight);
 
         // Timer
-        renderTimer(gameTimer, players, playerCount);
+        renderTimer(snapshot);
 
         // Terrain
         gc.setFill(Color.GREEN);
-        gc.fillRect(0, GameConstants.TIMER_HEIGHT,
-                GameConstants.CANVAS_WIDTH,
-                GameConstants.CANVAS_HEIGHT - GameConstants.TIMER_HEIGHT);
-
-        // Grille
-        if (grid != null) {
-            gc.save();
-            gc.translate(0, GameConstants.TIMER_HEIGHT);
-            grid.render(gc);
-            gc.restore();
+        gc.fillRect(0, GameConstants.TIMER_HEIGHT, viewWidth, viewHeight - GameConstants.TIMER_HEIGHT);
+
+        camera.update(snapshot);
+
+        // Zone de jeu vue à travers la caméra, limitée sous la barre de timer
+        gc.save();
+        gc.beginPath();
+        gc.rect(0, GameConstants.TIMER_HEIGHT, viewWidth, viewHeight - GameConstants.TIMER_HEIGHT);
+        gc.clip();
+        // Translation arrondie au pixel écran pour garder les sprites nets
+        gc.translate(Math.round(-camera.getOffsetX() * scale) / scale,
+                Math.round(-camera.getOffsetY() * scale) / scale);
+
+        // Grille (cases visibles uniquement)
+        if (snapshot.hasGrid()) {
+            renderCells(snapshot);
         }
 
         // Éléments du jeu
-        renderExplosions(bombSystem.getExplosions());
-        renderBombs(bombSystem);
-        renderPowerUps(powerUpSystem.getPowerUps());
-        renderPlayers(players);
-        renderGrid();
+        renderExplosions(snapshot);
+        renderBombs(snapshot);
+        renderPowerUps(snapshot);
+        renderPlayers(snapshot);
+        if (particleSystem != null) {
+            particleSystem.render(gc);
+        }
+        renderGrid(gridWidth, gridHeight);
+        gc.restore();
+        gc.restore();
+    }
+
+    /**
+     * Affiche les cases du terrain visibles par la caméra.
+     * Dessine le sol sous chaque case puis le mur ou power-up éventuel,
+     * avec des couleurs de fallback si les textures sont indisponibles.
+     *
+     * @param snapshot L'instantané contenant le terrain
+     */
+    private void renderCells(RenderSnapshot snapshot) {
+        int tile = GameConstants.TILE_SIZE;
+
+        // Textures récupérées une seule fois par frame
+        Image groundTexture = spriteCache.getImage("ground");
+        Image wallIndestructibleTexture = spriteCache.getImage("wall_indestructible");
+        Image wallDestructibleTexture = spriteCache.getImage("wall_destructible");
+        Image powerUpBombTexture = spriteCache.getImage("powerup_bomb");
+        Image powerUpFireTexture = spriteCache.getImage("powerup_fire");
+
+        int lastColumn = camera.getLastVisibleColumn(snapshot.getGridWidth());
+        int lastRow = camera.getLastVisibleRow(snapshot.getGridHeight());
+
+        for (int y = camera.getFirstVisibleRow(); y <= lastRow; y++) {
+            for (int x = camera.getFirstVisibleColumn(); x <= lastColumn; x++) {
+                int pixelX = x * tile;
+                int pixelY = y * tile + GameConstants.TIMER_HEIGHT;
+
+                if (groundTexture != null) {
+                    gc.drawImage(groundTexture, pixelX, pixelY, tile, tile);
+                } else {
+                    gc.setFill(Color.LIGHTGREEN);
+                    gc.fillRect(pixelX, pixelY, tile, tile);
+                }
+
+                Image texture = null;
+                switch (snapshot.getCellType(x, y)) {
+                    case GameGrid.WALL_INDESTRUCTIBLE:
+                        texture = wallIndestructibleTexture;
+                        break;
+                    case GameGrid.WALL_DESTRUCTIBLE:
+                        texture = wallDestructibleTexture;
+                        break;
+                    case GameGrid.POWERUP_BOMB:
+                        texture = powerUpBombTexture;
+                        break;
+                    case GameGrid.POWERUP_FIRE:
+                        texture = powerUpFireTexture;
+                        break;
+                }
+                if (texture != null) {
+                    gc.drawImage(texture, pixelX, pixelY, tile, tile);
+                }
+            }
+        }
     }
 
     /**
@@ -119,15 +350,23 @@ public class GameRenderer {
      * Utilise les textures si disponibles, sinon utilise un rendu de fallback
      * avec des rectangles orange.
      *
-     * @param explosions La liste des explosions à afficher
+     * @param snapshot L'instantané contenant les explosions
      */
-    private void renderExplosions(List<Explosion> explosions) {
-        Image explosionTexture = textureManager.getTexture("explosion");
-        for (Explosion explosion : explosions) {
-            int x = explosion.getX() * GameConstants.TILE_SIZE;
-            int y = explosion.getY() * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
-            if (explosionTexture != null) {
-                gc.drawImage(explosionTexture, x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
+    private void renderExplosions(RenderSnapshot snapshot) {
+        Image explosionTexture = spriteCache.getImage("explosion");
+        SpriteAnimation explosionAnimation = textureManager.getAnimation("explosion");
+        Image[] explosionFrames = spriteCache.getFrameImages("explosion");
+        for (int i = 0; i < snapshot.getExplosionSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getExplosionX(i), snapshot.getExplosionY(i))) continue;
+            int x = snapshot.getExplosionX(i) * GameConstants.TILE_SIZE;
+            int y = snapshot.getExplosionY(i) * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+            int timer = snapshot.getExplosionTimer(i);
+            int duration = snapshot.getExplosionDuration(i);
+            if (explosionFrames != null) {
+                gc.drawImage(explosionFrames[SpriteAnimator.flameFrame(explosionAnimation, timer, duration)],
+                        x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
+            } else if (explosionTexture != null) {
+                drawScaled(explosionTexture, x, y, SpriteAnimator.flameScale(timer, duration));
             } else {
                 gc.setFill(Color.ORANGE);
                 gc.fillRect(x + 5, y + 5, GameConstants.TILE_SIZE - 10, GameConstants.TILE_SIZE - 10);
@@ -140,67 +379,95 @@ public class GameRenderer {
      * Gère séparément les bombes statiques et les bombes en mouvement (poussées).
      * Utilise les textures si disponibles, sinon dessine des cercles noirs.
      *
-     * @param bombSystem Le système de bombes contenant toutes les bombes actives
+     * @param snapshot L'instantané contenant les bombes
      */
-    private void renderBombs(BombSystem bombSystem) {
-        Image bombTexture = textureManager.getTexture("bomb");
+    private void renderBombs(RenderSnapshot snapshot) {
+        Image bombTexture = spriteCache.getImage("bomb");
+        SpriteAnimation bombAnimation = textureManager.getAnimation("bomb");
+        Image[] bombFrames = spriteCache.getFrameImages("bomb");
 
         // Bombes statiques
-        for (Bomb bomb : bombSystem.getBombs()) {
-            boolean isMoving = bombSystem.getMovingBombs().stream()
-                    .anyMatch(mb -> mb.getBomb() == bomb);
-
-            if (!isMoving) {
-                int x = bomb.getX() * GameConstants.TILE_SIZE;
-                int y = bomb.getY() * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
-
-                if (bombTexture != null) {
-                    gc.drawImage(bombTexture, x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
-                } else {
-                    gc.setFill(Color.BLACK);
-                    gc.fillOval(x + 8, y + 8, GameConstants.TILE_SIZE - 16, GameConstants.TILE_SIZE - 16);
-                }
-            }
+        for (int i = 0; i < snapshot.getBombSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getBombX(i), snapshot.getBombY(i))) continue;
+            int x = snapshot.getBombX(i) * GameConstants.TILE_SIZE;
+            int y = snapshot.getBombY(i) * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+            drawBomb(snapshot.getBombTimer(i), x, y, bombTexture, bombAnimation, bombFrames);
         }
 
         // Bombes en mouvement
-        for (BombSystem.MovingBomb movingBomb : bombSystem.getMovingBombs()) {
-            double x = movingBomb.getVisualX();
-            double y = movingBomb.getVisualY();
+        for (int i = 0; i < snapshot.getMovingBombSize(); i++) {
+            double x = snapshot.getMovingBombX(i);
+            double y = snapshot.getMovingBombY(i);
+            if (!camera.isVisible(x, y)) continue;
+            drawBomb(snapshot.getMovingBombTimer(i), x, y, bombTexture, bombAnimation, bombFrames);
+        }
+    }
 
-            if (bombTexture != null) {
-                gc.drawImage(bombTexture, x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
-            } else {
-                gc.setFill(Color.BLACK);
-                gc.fillOval(x + 8, y + 8, GameConstants.TILE_SIZE - 16, GameConstants.TILE_SIZE - 16);
-            }
+    /**
+     * Dessine une bombe avec l'animation de sa mèche.
+     * Utilise la planche d'animation si elle existe, sinon fait pulser
+     * la texture statique, sinon dessine un cercle noir.
+     *
+     * @param bombTimer Le timer restant de la bombe
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     * @param texture La texture statique (peut être null)
+     * @param animation La planche d'animation (peut être null)
+     * @param frames Les frames redimensionnées de la planche (peut être null)
+     */
+    private void drawBomb(int bombTimer, double x, double y, Image texture, SpriteAnimation animation,
+                          Image[] frames) {
+        if (frames != null) {
+            gc.drawImage(frames[SpriteAnimator.bombFrame(animation, bombTimer)],
+                    x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
+        } else if (texture != null) {
+            drawScaled(texture, x, y, SpriteAnimator.bombScale(bombTimer));
+        } else {
+            gc.setFill(Color.BLACK);
+            gc.fillOval(x + 8, y + 8, GameConstants.TILE_SIZE - 16, GameConstants.TILE_SIZE - 16);
         }
     }
 
+    /**
+     * Dessine une texture centrée dans une case avec un facteur d'échelle.
+     *
+     * @param texture La texture à dessiner
+     * @param x Position X de la case en pixels
+     * @param y Position Y de la case en pixels
+     * @param scale Le facteur d'échelle (1.0 = case entière)
+     */
+    private void drawScaled(Image texture, double x, double y, double scale) {
+        double size = GameConstants.TILE_SIZE * scale;
+        double offset = (GameConstants.TILE_SIZE - size) / 2;
+        gc.drawImage(texture, x + offset, y + offset, size, size);
+    }
+
     /**
      * Affiche tous les power-ups disponibles sur le terrain.
      * Chaque power-up est représenté par un carré coloré avec une lettre
      * correspondant au type de bonus (R=Range, S=Speed, P=Push, etc.).
      *
-     * @param powerUps La liste des power-ups à afficher
+     * @param snapshot L'instantané contenant les power-ups
      */
-    private void renderPowerUps(List<PowerUpSystem.PowerUp> powerUps) {
-        for (PowerUpSystem.PowerUp powerUp : powerUps) {
-            int x = powerUp.getX() * GameConstants.TILE_SIZE;
-            int y = powerUp.getY() * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+    private void renderPowerUps(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getPowerUpSize(); i++) {
+            if (!camera.isCellVisible(snapshot.getPowerUpX(i), snapshot.getPowerUpY(i))) continue;
+            int x = snapshot.getPowerUpX(i) * GameConstants.TILE_SIZE;
+            int y = snapshot.getPowerUpY(i) * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+            PowerUpSystem.PowerUpType type = snapshot.getPowerUpType(i);
 
             // Fond blanc
             gc.setFill(Color.WHITE);
             gc.fillRect(x + 5, y + 5, GameConstants.TILE_SIZE - 10, GameConstants.TILE_SIZE - 10);
 
             // Couleur du power-up
-            gc.setFill(powerUp.getType().getColor());
+            gc.setFill(type.getColor());
             gc.fillRect(x + 8, y + 8, GameConstants.TILE_SIZE - 16, GameConstants.TILE_SIZE - 16);
 
             // Lettre identificatrice
             gc.setFill(Color.BLACK);
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
-            String label = powerUp.getType().getLabel().substring(0, 1).toUpperCase();
+            String label = type.getLabel().substring(0, 1).toUpperCase();
             gc.fillText(label, x + GameConstants.TILE_SIZE / 2 - 3, y + GameConstants.TILE_SIZE / 2 + 3);
         }
     }
@@ -210,25 +477,29 @@ public class GameRenderer {
      * Gère les textures spécifiques à chaque joueur et les couleurs de fallback.
      * Exclut automatiquement les joueurs éliminés du rendu.
      *
-     * @param players La liste des joueurs à afficher
+     * @param snapshot L'instantané contenant les joueurs
      */
-    private void renderPlayers(List<GamePlayer> players) {
+    private void renderPlayers(RenderSnapshot snapshot) {
         Image[] playerTextures = {
-                textureManager.getTexture("player"),
-                textureManager.getTexture("player2"),
-                textureManager.getTexture("player3"),
-                textureManager.getTexture("player4")
+                spriteCache.getImage("player"),
+                spriteCache.getImage("player2"),
+                spriteCache.getImage("player3"),
+                spriteCache.getImage("player4")
         };
 
-        for (GamePlayer gamePlayer : players) {
-            if (!gamePlayer.getStats().isEliminated()) {
-                int playerNum = gamePlayer.getPlayerNumber();
+        for (int i = 0; i < snapshot.getPlayerSize(); i++) {
+            if (!snapshot.isPlayerEliminated(i)
+                    && camera.isVisible(snapshot.getPlayerVisualX(i), snapshot.getPlayerVisualY(i))) {
+                int playerNum = snapshot.getPlayerNumber(i);
                 Image texture = (playerNum - 1 < playerTextures.length) ?
                         playerTextures[playerNum - 1] : playerTextures[0];
+                String textureName = playerNum <= 1 ? "player" : "player" + playerNum;
+                SpriteAnimation animation = textureManager.getAnimation(textureName);
+                Image[] frames = spriteCache.getFrameImages(textureName);
                 Color fallbackColor = GameConstants.PLAYER_COLORS[Math.min(playerNum - 1,
                         GameConstants.PLAYER_COLORS.length - 1)];
 
-                renderPlayer(gamePlayer, texture, fallbackColor);
+                renderPlayer(snapshot, i, texture, animation, frames, fallbackColor);
             }
         }
     }
@@ -238,19 +509,28 @@ public class GameRenderer {
      * Gère l'effet de clignotement pendant l'invincibilité et utilise
      * la texture ou la couleur de fallback selon la disponibilité.
      *
-     * @param gamePlayer Le joueur à afficher
+     * @param snapshot L'instantané contenant le joueur
+     * @param index L'indice du joueur dans l'instantané
      * @param texture La texture du joueur (peut être null)
+     * @param animation La planche de marche du joueur (peut être null)
+     * @param frames Les frames redimensionnées de la planche (peut être null)
      * @param fallbackColor La couleur de fallback si pas de texture
      */
-    private void renderPlayer(GamePlayer gamePlayer, Image texture, Color fallbackColor) {
-        int invincibilityTimer = gamePlayer.getStats().getInvincibilityTimer();
+    private void renderPlayer(RenderSnapshot snapshot, int index, Image texture, SpriteAnimation animation,
+                              Image[] frames, Color fallbackColor) {
+        int invincibilityTimer = snapshot.getPlayerInvincibility(index);
         boolean shouldRender = invincibilityTimer <= 0 || (invincibilityTimer / 5) % 2 != 0;
 
         if (shouldRender) {
-            double x = gamePlayer.getVisualX();
-            double y = gamePlayer.getVisualY();
-
-            if (texture != null) {
+            double x = snapshot.getPlayerVisualX(index);
+            double y = snapshot.getPlayerVisualY(index);
+            boolean moving = snapshot.isPlayerMoving(index);
+
+            if (frames != null) {
+                gc.drawImage(frames[SpriteAnimator.walkFrame(animation, moving, currentTick)],
+                        x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
+            } else if (texture != null) {
+                y += SpriteAnimator.walkBob(moving, currentTick);
                 gc.drawImage(texture, x, y, GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
             } else {
                 if (invincibilityTimer > 0) {
@@ -267,22 +547,34 @@ public class GameRenderer {
     /**
      * Affiche la grille de jeu avec les lignes de séparation.
      * Dessine un quadrillage vert foncé par-dessus le terrain pour améliorer
-     * la lisibilité et délimiter les cases de jeu.
+     * la lisibilité et délimiter les cases de jeu. Seules les lignes
+     * traversant le viewport de la caméra sont tracées.
+     *
+     * @param gridWidth Largeur de la grille en cases
+     * @param gridHeight Hauteur de la grille en cases
      */
-    private void renderGrid() {
+    private void renderGrid(int gridWidth, int gridHeight) {
         gc.setStroke(Color.DARKGREEN);
         gc.setLineWidth(1);
 
+        int firstColumn = camera.getFirstVisibleColumn();
+        int lastColumn = camera.getLastVisibleColumn(gridWidth) + 1;
+        int firstRow = camera.getFirstVisibleRow();
+        int lastRow = camera.getLastVisibleRow(gridHeight) + 1;
+        double top = firstRow * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+        double bottom = lastRow * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT;
+        double left = firstColumn * GameConstants.TILE_SIZE;
+        double right = lastColumn * GameConstants.TILE_SIZE;
+
         // Lignes verticales
-        for (int x = 0; x <= GameConstants.GRID_WIDTH; x++) {
-            gc.strokeLine(x * GameConstants.TILE_SIZE, GameConstants.TIMER_HEIGHT,
-                    x * GameConstants.TILE_SIZE, GameConstants.CANVAS_HEIGHT);
+        for (int x = firstColumn; x <= lastColumn; x++) {
+            gc.strokeLine(x * GameConstants.TILE_SIZE, top, x * GameConstants.TILE_SIZE, bottom);
         }
 
         // Lignes horizontales
-        for (int y = 0; y <= GameConstants.GRID_HEIGHT; y++) {
-            gc.strokeLine(0, y * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT,
-                    GameConstants.CANVAS_WIDTH, y * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT);
+        for (int y = firstRow; y <= lastRow; y++) {
+            gc.strokeLine(left, y * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT,
+                    right, y * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT);
         }
     }
 
@@ -291,33 +583,30 @@ public class GameRenderer {
      * Adapte automatiquement l'affichage selon le nombre de joueurs
      * (interface différente pour 2 ou 4 joueurs).
      *
-     * @param gameTimer Le timer de jeu pour afficher le temps restant
-     * @param players La liste des joueurs pour afficher leurs statistiques
-     * @param playerCount Le nombre total de joueurs pour adapter l'interface
+     * @param snapshot L'instantané contenant le temps et les statistiques des joueurs
      */
-    private void renderTimer(GameTimer gameTimer, List<GamePlayer> players,
-                             int playerCount) {
+    private void renderTimer(RenderSnapshot snapshot) {
         // Fond orange de la barre de timer
         gc.setFill(Color.web("#FF8C00"));
-        gc.fillRect(0, 0, GameConstants.CANVAS_WIDTH, GameConstants.TIMER_HEIGHT);
+        gc.fillRect(0, 0, viewWidth, GameConstants.TIMER_HEIGHT);
 
         // Bordure noire
         gc.setStroke(Color.BLACK);
         gc.setLineWidth(2);
-        gc.strokeRect(0, 0, GameConstants.CANVAS_WIDTH, GameConstants.TIMER_HEIGHT);
+        gc.strokeRect(0, 0, viewWidth, GameConstants.TIMER_HEIGHT);
 
         // Boîte de timer centrée
         double timerBoxWidth = 80;
         double timerBoxHeight = 30;
-        renderTimerBox((GameConstants.CANVAS_WIDTH - timerBoxWidth) / 2,
+        renderTimerBox((viewWidth - timerBoxWidth) / 2,
                 (GameConstants.TIMER_HEIGHT - timerBoxHeight) / 2,
-                timerBoxWidth, timerBoxHeight, gameTimer);
+                timerBoxWidth, timerBoxHeight, snapshot.getFormattedTime());
 
         // Informations des joueurs selon le nombre
-        if (playerCount == 2) {
-            renderTwoPlayersInfo(players);
+        if (snapshot.getPlayerCount() == 2) {
+            renderTwoPlayersInfo(snapshot);
         } else {
-            renderFourPlayersInfo(players);
+            renderFourPlayersInfo(snapshot);
         }
     }
 
@@ -329,9 +618,9 @@ public class GameRenderer {
      * @param y Position Y de la boîte
      * @param width Largeur de la boîte
      * @param height Hauteur de la boîte
-     * @param gameTimer Le timer pour récupérer le temps formaté
+     * @param timeText Le temps formaté à afficher
      */
-    private void renderTimerBox(double x, double y, double width, double height, GameTimer gameTimer) {
+    private void renderTimerBox(double x, double y, double width, double height, String timeText) {
         // Fond noir
         gc.setFill(Color.BLACK);
         gc.fillRect(x, y, width, height);
@@ -344,8 +633,6 @@ public class GameRenderer {
         // Texte du timer
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-        String timeText = gameTimer.getFormattedTime();
-
         double textX = x + (width - timeText.length() * 9) / 2;
         double textY = y + height / 2 + 6;
         gc.fillText(timeText, textX, textY);
@@ -365,22 +652,21 @@ public class GameRenderer {
      *   <li>Capacité de pousser les bombes (P)</li>
      * </ul>
      *
-     * @param players La liste des joueurs (doit contenir au moins 2 joueurs)
+     * @param snapshot L'instantané contenant les joueurs (au moins 2 joueurs)
      */
-    private void renderTwoPlayersInfo(List<GamePlayer> players) {
+    private void renderTwoPlayersInfo(RenderSnapshot snapshot) {
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
 
         // Joueur 1 (à gauche)
-        GamePlayer player1 = players.get(0);
-        if (!player1.getStats().isEliminated()) {
+        if (!snapshot.isPlayerEliminated(0)) {
             gc.fillText("Joueur 1", 20, GameConstants.TIMER_HEIGHT / 2 - 5);
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-            gc.fillText("Vies: " + player1.getStats().getLives(), 20, GameConstants.TIMER_HEIGHT / 2 + 15);
+            gc.fillText("Vies: " + snapshot.getPlayerLives(0), 20, GameConstants.TIMER_HEIGHT / 2 + 15);
             gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
-            String p1Powers = "R:" + player1.getStats().getBombRange() +
-                    " S:" + String.format("%.1f", player1.getStats().getSpeed() / GameConstants.MOVEMENT_SPEED) +
-                    (player1.getStats().canPushBombs() ? " P" : "");
+            String p1Powers = "R:" + snapshot.getPlayerBombRange(0) +
+                    " S:" + String.format("%.1f", snapshot.getPlayerSpeed(0) / GameConstants.MOVEMENT_SPEED) +
+                    (snapshot.canPlayerPushBombs(0) ? " P" : "");
             gc.fillText(p1Powers, 20, GameConstants.TIMER_HEIGHT / 2 + 30);
         } else {
             gc.setFill(Color.RED);
@@ -388,31 +674,30 @@ public class GameRenderer {
         }
 
         // Joueur 2 (à droite)
-        if (players.size() > 1) {
-            GamePlayer player2 = players.get(1);
+        if (snapshot.getPlayerSize() > 1) {
             gc.setFill(Color.WHITE);
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
             String player2Text ="Joueur 2";
             double textWidth = player2Text.length() * 9;
 
-            if (!player2.getStats().isEliminated()) {
-                gc.fillText(player2Text, GameConstants.CANVAS_WIDTH - textWidth - 20,
+            if (!snapshot.isPlayerEliminated(1)) {
+                gc.fillText(player2Text, viewWidth - textWidth - 20,
                         GameConstants.TIMER_HEIGHT / 2 - 5);
                 gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
-                String livesText = "Vies: " + player2.getStats().getLives();
+                String livesText = "Vies: " + snapshot.getPlayerLives(1);
                 double livesWidth = livesText.length() * 8;
-                gc.fillText(livesText, GameConstants.CANVAS_WIDTH - livesWidth - 20,
+                gc.fillText(livesText, viewWidth - livesWidth - 20,
                         GameConstants.TIMER_HEIGHT / 2 + 15);
                 gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
-                String p2Powers = "R:" + player2.getStats().getBombRange() +
-                        " S:" + String.format("%.1f", player2.getStats().getSpeed() / GameConstants.MOVEMENT_SPEED) +
-                        (player2.getStats().canPushBombs() ? " P" : "");
+                String p2Powers = "R:" + snapshot.getPlayerBombRange(1) +
+                        " S:" + String.format("%.1f", snapshot.getPlayerSpeed(1) / GameConstants.MOVEMENT_SPEED) +
+                        (snapshot.canPlayerPushBombs(1) ? " P" : "");
                 double p2PowersWidth = p2Powers.length() * 6;
-                gc.fillText(p2Powers, GameConstants.CANVAS_WIDTH - p2PowersWidth - 20,
+                gc.fillText(p2Powers, viewWidth - p2PowersWidth - 20,
                         GameConstants.TIMER_HEIGHT / 2 + 30);
             } else {
                 gc.setFill(Color.RED);
-                gc.fillText("J2: ÉLIMINÉ", GameConstants.CANVAS_WIDTH - 100,
+                gc.fillText("J2: ÉLIMINÉ", viewWidth - 100,
                         GameConstants.TIMER_HEIGHT / 2 + 5);
             }
         }
@@ -432,24 +717,23 @@ public class GameRenderer {
      * R: 3   |         |  R: 2
      * </pre>
      *
-     * @param players La liste des joueurs (jusqu'à 4 joueurs)
+     * @param snapshot L'instantané contenant les joueurs (jusqu'à 4 joueurs)
      */
-    private void renderFourPlayersInfo(List<GamePlayer> players) {
-        for (int i = 0; i < players.size() && i < 4; i++) {
-            GamePlayer player = players.get(i);
+    private void renderFourPlayersInfo(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getPlayerSize() && i < 4; i++) {
             int playerNum = i + 1;
 
             gc.setFill(Color.WHITE);
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
 
             // Positionnement en quadrants
-            double x = (i % 2 == 0) ? 10 : GameConstants.CANVAS_WIDTH - 50;
+            double x = (i % 2 == 0) ? 10 : viewWidth - 50;
             double y = (i < 2) ? 20 : 50;
 
-            if (!player.getStats().isEliminated()) {
-                gc.fillText("J" + playerNum + ":" + player.getStats().getLives(), x, y);
+            if (!snapshot.isPlayerEliminated(i)) {
+                gc.fillText("J" + playerNum + ":" + snapshot.getPlayerLives(i), x, y);
                 gc.setFont(Font.font("Arial", FontWeight.NORMAL, 8));
-                gc.fillText("R:" + player.getStats().getBombRange(), x, y + 15);
+                gc.fillText("R:" + snapshot.getPlayerBombRange(i), x, y + 15);
             } else {
                 gc.setFill(Color.RED);
                 gc.fillText("J" + playerNum + ": ÉLIMINÉ", x, y + 5);
@@ -466,21 +750,25 @@ public class GameRenderer {
      * @param winner Le nom du gagnant à afficher
      */
     public void renderGameOver(String winner) {
+        gc.save();
+        gc.scale(scale, scale);
+
         // Fond semi-transparent
         gc.setFill(new Color(0, 0, 0, 0.8));
-        gc.fillRect(0, 0, GameConstants.CANVAS_WIDTH, GameConstants.CANVAS_HEIGHT);
+        gc.fillRect(0, 0, viewWidth, viewHeight);
 
         // Texte de victoire
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font("Arial", FontWeight.BOLD, 40));
         gc.fillText(winner + " gagne !",
-                GameConstants.CANVAS_WIDTH / 2 - 100,
-                GameConstants.CANVAS_HEIGHT / 2);
+                viewWidth / 2 - 100,
+                viewHeight / 2);
 
         // Instructions pour rejouer
         gc.setFont(Font.font("Arial", FontWeight.NORMAL, 20));
         gc.fillText("Appuyez sur ESPACE pour rejouer",
-                GameConstants.CANVAS_WIDTH / 2 - 140,
-                GameConstants.CANVAS_HEIGHT / 2 + 40);
+                viewWidth / 2 - 140,
+                viewHeight / 2 + 40);
+        gc.restore();
     }
 }
\ No newline at end of file
@@ -0,0 +1,444 @@
+package bomberman.controller.game;
+
+import bomberman.model.game.GameEventListener;
+import bomberman.utils.GameConstants;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Système de particules pour les effets d'explosion du jeu Bomberman.
+ * Cette classe gère les gerbes de flammes, la fumée et les débris de murs
+ * produits par les explosions. Elle écoute les événements de la simulation
+ * ({@link GameEventListener}) et reste purement visuelle : elle n'influence
+ * jamais l'état du jeu.
+ *
+ * <p>Organisation mémoire :</p>
+ * <ul>
+ *   <li>Pool préalloué en « structure de tableaux » (un tableau par attribut)</li>
+ *   <li>Capacité maximale fixe : au-delà, les nouvelles particules sont ignorées</li>
+ *   <li>Suppression par échange avec la dernière particule vivante (O(1))</li>
+ *   <li>Générateur pseudo-aléatoire interne (xorshift) sans allocation</li>
+ * </ul>
+ * Aucune allocation n'a lieu après la construction, même lors d'explosions
+ * en chaîne : le ramasse-miettes n'est jamais sollicité par les effets.
+ *
+ * <p>Rendu :</p>
+ * Les particules sont dessinées en un seul passage groupé par type et par
+ * niveau d'opacité, ce qui limite les changements d'état du contexte graphique.
+ * Les positions sont des positions visuelles (barre de timer incluse), comme
+ * celles des joueurs, et suivent donc la translation de la caméra.
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ParticleSystem implements GameEventListener {
+
+    // ==================== TYPES DE PARTICULES ====================
+
+    /** Flamme : rapide, courte durée, orange */
+    public static final int KIND_FLAME = 0;
+
+    /** Fumée : lente, monte et s'estompe, grise */
+    public static final int KIND_SMOKE = 1;
+
+    /** Débris de mur : projetés puis retombent, bruns */
+    public static final int KIND_DEBRIS = 2;
+
+    /** Nombre de types de particules */
+    private static final int KIND_COUNT = 3;
+
+    /** Couleurs ARGB opaques de chaque type */
+    private static final int[] KIND_COLORS = {0xFFFFA020, 0xFF707070, 0xFF8B5A2B};
+
+    /** Nombre de niveaux d'opacité utilisés pour grouper le rendu */
+    private static final int ALPHA_LEVELS = 4;
+
+    /** Capacité par défaut du pool */
+    public static final int DEFAULT_CAPACITY = 2048;
+
+    /** Gravité appliquée aux débris (pixels par frame²) */
+    private static final float GRAVITY = 0.25f;
+
+    /** Amortissement de la vitesse de la fumée et des flammes */
+    private static final float DRAG = 0.92f;
+
+    // ==================== POOL (STRUCTURE DE TABLEAUX) ====================
+
+    /** Capacité maximale du pool */
+    private final int capacity;
+
+    /** Positions X visuelles en pixels */
+    private final float[] posX;
+
+    /** Positions Y visuelles en pixels */
+    private final float[] posY;
+
+    /** Vitesses horizontales en pixels par frame */
+    private final float[] velX;
+
+    /** Vitesses verticales en pixels par frame */
+    private final float[] velY;
+
+    /** Tailles en pixels */
+    private final float[] size;
+
+    /** Durées de vie restantes en frames */
+    private final int[] life;
+
+    /** Durées de vie initiales en frames */
+    private final int[] maxLife;
+
+    /** Types des particules */
+    private final byte[] kind;
+
+    /** Nombre de particules vivantes (occupant les indices 0..count-1) */
+    private int count;
+
+    /** Nombre de particules refusées faute de place depuis la création */
+    private long droppedCount;
+
+    /** État du générateur xorshift */
+    private int randomState = 0x2545F491;
+
+    /** Couleurs JavaFX précalculées par type et niveau d'opacité */
+    private final Color[][] fillColors;
+
+    /**
+     * Constructeur avec la capacité par défaut.
+     */
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructeur avec une capacité personnalisée.
+     *
+     * @param capacity Le nombre maximal de particules simultanées
+     */
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        this.posX = new float[capacity];
+        this.posY = new float[capacity];
+        this.velX = new float[capacity];
+        this.velY = new float[capacity];
+        this.size = new float[capacity];
+        this.life = new int[capacity];
+        this.maxLife = new int[capacity];
+        this.kind = new byte[capacity];
+
+        this.fillColors = new Color[KIND_COUNT][ALPHA_LEVELS];
+        for (int k = 0; k < KIND_COUNT; k++) {
+            int argb = KIND_COLORS[k];
+            for (int level = 0; level < ALPHA_LEVELS; level++) {
+                fillColors[k][level] = Color.rgb((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF,
+                        (level + 1) / (double) ALPHA_LEVELS);
+            }
+        }
+    }
+
+    // ==================== ÉVÉNEMENTS DE JEU ====================
+
+    /**
+     * Gerbe de flammes et fumée au centre de la bombe.
+     *
+     * @param x Colonne de la bombe
+     * @param y Ligne de la bombe
+     * @param range Portée de l'explosion
+     */
+    @Override
+    public void onBombExploded(int x, int y, int range) {
+        float centerX = cellCenterX(x);
+        float centerY = cellCenterY(y);
+        for (int i = 0; i < 12; i++) {
+            float angle = nextFloat() * 6.2831855f;
+            float speed = 1.5f + nextFloat() * 2.5f;
+            spawn(KIND_FLAME, centerX, centerY, (float) Math.cos(angle) * speed,
+                    (float) Math.sin(angle) * speed, 18 + nextInt(10), 4 + nextFloat() * 3);
+        }
+        for (int i = 0; i < 6; i++) {
+            spawn(KIND_SMOKE, centerX + nextSigned() * 8, centerY + nextSigned() * 8,
+                    nextSigned() * 0.4f, -0.5f - nextFloat() * 0.6f, 40 + nextInt(20), 6 + nextFloat() * 4);
+        }
+    }
+
+    /**
+     * Quelques flammes sur chaque case touchée.
+     *
+     * @param x Colonne de la case
+     * @param y Ligne de la case
+     */
+    @Override
+    public void onFlame(int x, int y) {
+        float centerX = cellCenterX(x);
+        float centerY = cellCenterY(y);
+        for (int i = 0; i < 4; i++) {
+            spawn(KIND_FLAME, centerX + nextSigned() * 12, centerY + nextSigned() * 12,
+                    nextSigned() * 1.2f, nextSigned() * 1.2f, 12 + nextInt(10), 3 + nextFloat() * 3);
+        }
+    }
+
+    /**
+     * Débris projetés et nuage de poussière à l'emplacement du mur détruit.
+     *
+     * @param x Colonne du mur
+     * @param y Ligne du mur
+     */
+    @Override
+    public void onWallDestroyed(int x, int y) {
+        float centerX = cellCenterX(x);
+        float centerY = cellCenterY(y);
+        for (int i = 0; i < 10; i++) {
+            spawn(KIND_DEBRIS, centerX + nextSigned() * 10, centerY + nextSigned() * 10,
+                    nextSigned() * 2.5f, -1.5f - nextFloat() * 3f, 25 + nextInt(15), 2 + nextFloat() * 3);
+        }
+        for (int i = 0; i < 5; i++) {
+            spawn(KIND_SMOKE, centerX + nextSigned() * 10, centerY + nextSigned() * 10,
+                    nextSigned() * 0.3f, -0.3f - nextFloat() * 0.5f, 45 + nextInt(20), 7 + nextFloat() * 5);
+        }
+    }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Ajoute une particule au pool.
+     * Si le pool est plein, la particule est simplement ignorée (plafond strict).
+     *
+     * @param particleKind Le type de particule
+     * @param x Position X visuelle
+     * @param y Position Y visuelle
+     * @param vx Vitesse horizontale
+     * @param vy Vitesse verticale
+     * @param lifetime Durée de vie en frames
+     * @param particleSize Taille en pixels
+     * @return true si la particule a été ajoutée
+     */
+    public boolean spawn(int particleKind, float x, float y, float vx, float vy, int lifetime, float particleSize) {
+        if (count >= capacity) {
+            droppedCount++;
+            return false;
+        }
+        int i = count++;
+        kind[i] = (byte) particleKind;
+        posX[i] = x;
+        posY[i] = y;
+        velX[i] = vx;
+        velY[i] = vy;
+        life[i] = lifetime;
+        maxLife[i] = lifetime;
+        size[i] = particleSize;
+        return true;
+    }
+
+    /**
+     * Fait avancer toutes les particules d'une frame et retire celles qui ont expiré.
+     */
+    public void update() {
+        int i = 0;
+        while (i < count) {
+            if (--life[i] <= 0) {
+                removeAt(i);
+                continue;
+            }
+
+            posX[i] += velX[i];
+            posY[i] += velY[i];
+            if (kind[i] == KIND_DEBRIS) {
+                velY[i] += GRAVITY;
+            } else {
+                velX[i] *= DRAG;
+                velY[i] *= DRAG;
+                if (kind[i] == KIND_SMOKE) {
+                    size[i] += 0.1f;
+                }
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Retire une particule en la remplaçant par la dernière particule vivante.
+     *
+     * @param i L'indice de la particule à retirer
+     */
+    private void removeAt(int i) {
+        int last = --count;
+        posX[i] = posX[last];
+        posY[i] = posY[last];
+        velX[i] = velX[last];
+        velY[i] = velY[last];
+        size[i] = size[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        kind[i] = kind[last];
+    }
+
+    /**
+     * Supprime toutes les particules (nouvelle partie).
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    // ==================== RENDU ====================
+
+    /**
+     * Dessine toutes les particules en un passage groupé.
+     * Les particules sont regroupées par type et par niveau d'opacité :
+     * la couleur de remplissage n'est changée qu'une fois par groupe.
+     * Le contexte doit déjà porter la translation de la caméra.
+     *
+     * @param gc Le contexte graphique JavaFX
+     */
+    public void render(GraphicsContext gc) {
+        if (count == 0) return;
+        for (int k = 0; k < KIND_COUNT; k++) {
+            for (int level = 0; level < ALPHA_LEVELS; level++) {
+                boolean colorSet = false;
+                for (int i = 0; i < count; i++) {
+                    if (kind[i] != k || getAlphaLevel(i) != level) continue;
+                    if (!colorSet) {
+                        gc.setFill(fillColors[k][level]);
+                        colorSet = true;
+                    }
+                    float half = size[i] / 2;
+                    gc.fillRect(posX[i] - half, posY[i] - half, size[i], size[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne le niveau d'opacité d'une particule selon sa vie restante.
+     *
+     * @param i L'indice de la particule
+     * @return Le niveau entre 0 (presque transparent) et ALPHA_LEVELS - 1 (opaque)
+     */
+    private int getAlphaLevel(int i) {
+        return Math.min(ALPHA_LEVELS - 1, life[i] * ALPHA_LEVELS / maxLife[i]);
+    }
+
+    // ==================== ACCÈS POUR LE RENDU LOGICIEL ====================
+
+    /**
+     * Retourne la position X visuelle d'une particule.
+     *
+     * @param i L'indice de la particule (0..count-1)
+     * @return La position X en pixels
+     */
+    float getX(int i) { return posX[i]; }
+
+    /**
+     * Retourne la position Y visuelle d'une particule.
+     *
+     * @param i L'indice de la particule (0..count-1)
+     * @return La position Y en pixels
+     */
+    float getY(int i) { return posY[i]; }
+
+    /**
+     * Retourne la taille d'une particule.
+     *
+     * @param i L'indice de la particule (0..count-1)
+     * @return La taille en pixels
+     */
+    float getSize(int i) { return size[i]; }
+
+    /**
+     * Retourne la couleur ARGB d'une particule, opacité comprise.
+     *
+     * @param i L'indice de la particule (0..count-1)
+     * @return La couleur au format 0xAARRGGBB
+     */
+    int getArgb(int i) {
+        int alpha = (getAlphaLevel(i) + 1) * 255 / ALPHA_LEVELS;
+        return (alpha << 24) | (KIND_COLORS[kind[i]] & 0x00FFFFFF);
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre de particules vivantes.
+     *
+     * @return Le nombre de particules
+     */
+    public int getCount() { return count; }
+
+    /**
+     * Retourne la capacité maximale du pool.
+     *
+     * @return La capacité
+     */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Retourne le nombre de particules refusées car le pool était plein.
+     *
+     * @return Le nombre de particules ignorées
+     */
+    public long getDroppedCount() { return droppedCount; }
+
+    // ==================== OUTILS ====================
+
+    /**
+     * Retourne le centre X visuel d'une case.
+     *
+     * @param cellX La colonne
+     * @return La position X en pixels
+     */
+    private static float cellCenterX(int cellX) {
+        return cellX * GameConstants.TILE_SIZE + GameConstants.TILE_SIZE / 2f;
+    }
+
+    /**
+     * Retourne le centre Y visuel d'une case (barre de timer incluse).
+     *
+     * @param cellY La ligne
+     * @return La position Y en pixels
+     */
+    private static float cellCenterY(int cellY) {
+        return cellY * GameConstants.TILE_SIZE + GameConstants.TIMER_HEIGHT + GameConstants.TILE_SIZE / 2f;
+    }
+
+    /**
+     * Tire un entier pseudo-aléatoire (xorshift 32 bits).
+     *
+     * @return Un entier pseudo-aléatoire
+     */
+    private int nextRandom() {
+        int value = randomState;
+        value ^= value << 13;
+        value ^= value >>> 17;
+        value ^= value << 5;
+        randomState = value;
+        return value;
+    }
+
+    /**
+     * Tire un flottant uniforme dans [0, 1).
+     *
+     * @return Le flottant tiré
+     */
+    private float nextFloat() {
+        return (nextRandom() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * Tire un flottant uniforme dans [-1, 1).
+     *
+     * @return Le flottant tiré
+     */
+    private float nextSigned() {
+        return nextFloat() * 2f - 1f;
+    }
+
+    /**
+     * Tire un entier uniforme dans [0, bound).
+     *
+     * @param bound La borne exclue
+     * @return L'entier tiré
+     */
+    private int nextInt(int bound) {
+        return (int) (nextFloat() * bound);
+    }
+}
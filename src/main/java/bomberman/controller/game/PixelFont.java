@@ -0,0 +1,185 @@
+package bomberman.controller.game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Police matricielle 5x7 pour le rendu de texte sans JavaFX.
+ * Cette classe fournit les glyphes nécessaires à l'affichage du HUD
+ * (timer, vies, messages de fin de partie) directement dans un tampon
+ * de pixels ARGB, sans passer par le pipeline de texte de JavaFX.
+ * Elle est utilisée par le {@link FramebufferRenderer}, y compris en mode headless.
+ *
+ * <p>Caractéristiques :</p>
+ * <ul>
+ *   <li>Glyphes de 5 colonnes sur 7 lignes, avec un pixel d'espacement</li>
+ *   <li>Chiffres, lettres majuscules et ponctuation courante</li>
+ *   <li>Minuscules et lettres accentuées ramenées aux majuscules simples</li>
+ *   <li>Mise à l'échelle entière pour les différentes tailles du HUD</li>
+ * </ul>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PixelFont {
+
+    /** Largeur d'un glyphe en pixels (hors espacement) */
+    public static final int GLYPH_WIDTH = 5;
+
+    /** Hauteur d'un glyphe en pixels */
+    public static final int GLYPH_HEIGHT = 7;
+
+    /** Avance horizontale entre deux caractères en pixels (à l'échelle 1) */
+    public static final int ADVANCE = GLYPH_WIDTH + 1;
+
+    /** Table des glyphes : 7 lignes de 5 bits par caractère */
+    private static final Map<Character, int[]> GLYPHS = new HashMap<>();
+
+    static {
+        define('0', "0E11131519110E");
+        define('1', "040C040404040E");
+        define('2', "0E11010204081F");
+        define('3', "1F02040201110E");
+        define('4', "02060A121F0202");
+        define('5', "1F101E0101110E");
+        define('6', "0608101E11110E");
+        define('7', "1F010204080808");
+        define('8', "0E11110E11110E");
+        define('9', "0E11110F01020C");
+        define(':', "000C0C000C0C00");
+        define('A', "0E1111111F1111");
+        define('B', "1E11111E11111E");
+        define('C', "0E11101010110E");
+        define('D', "1C12111111121C");
+        define('E', "1F10101E10101F");
+        define('F', "1F10101E101010");
+        define('G', "0E11101711110F");
+        define('H', "1111111F111111");
+        define('I', "0E04040404040E");
+        define('J', "0702020202120C");
+        define('K', "11121418141211");
+        define('L', "1010101010101F");
+        define('M', "111B1515111111");
+        define('N', "11111915131111");
+        define('O', "0E11111111110E");
+        define('P', "1E11111E101010");
+        define('Q', "0E11111115120D");
+        define('R', "1E11111E141211");
+        define('S', "0F10100E01011E");
+        define('T', "1F040404040404");
+        define('U', "1111111111110E");
+        define('V', "11111111110A04");
+        define('W', "1111111515150A");
+        define('X', "11110A040A1111");
+        define('Y', "1111110A040404");
+        define('Z', "1F01020408101F");
+        define('!', "04040404040004");
+        define('.', "00000000000C0C");
+        define(',', "00000000000C04");
+        define('-', "0000001F000000");
+        define('/', "00010204081000");
+        define('%', "18190204081303");
+        define('?', "0E110102040004");
+        define('(', "02040808080402");
+        define(')', "08040202020408");
+        define(' ', "00000000000000");
+    }
+
+    /**
+     * Constructeur privé : classe utilitaire non instanciable.
+     */
+    private PixelFont() {}
+
+    /**
+     * Enregistre un glyphe à partir de sa description hexadécimale.
+     * Chaque paire de chiffres hexadécimaux décrit une ligne (5 bits de poids faible).
+     *
+     * @param c Le caractère décrit
+     * @param hexRows Les 7 lignes encodées en hexadécimal
+     */
+    private static void define(char c, String hexRows) {
+        int[] glyph = new int[GLYPH_HEIGHT];
+        for (int i = 0; i < GLYPH_HEIGHT; i++) {
+            glyph[i] = Integer.parseInt(hexRows.substring(i * 2, i * 2 + 2), 16);
+        }
+        GLYPHS.put(c, glyph);
+    }
+
+    /**
+     * Retourne le glyphe associé à un caractère.
+     * Les minuscules et les lettres accentuées sont normalisées vers
+     * leur équivalent majuscule ; les caractères inconnus donnent un '?'.
+     *
+     * @param c Le caractère à afficher
+     * @return Les 7 lignes de bits du glyphe
+     */
+    static int[] glyph(char c) {
+        char normalized = Character.toUpperCase(c);
+        switch (normalized) {
+            case 'É': case 'È': case 'Ê': case 'Ë': normalized = 'E'; break;
+            case 'À': case 'Â': normalized = 'A'; break;
+            case 'Ù': case 'Û': normalized = 'U'; break;
+            case 'Î': case 'Ï': normalized = 'I'; break;
+            case 'Ô': normalized = 'O'; break;
+            case 'Ç': normalized = 'C'; break;
+            default: break;
+        }
+        int[] glyph = GLYPHS.get(normalized);
+        return glyph != null ? glyph : GLYPHS.get('?');
+    }
+
+    /**
+     * Calcule la largeur en pixels d'un texte à une échelle donnée.
+     *
+     * @param text Le texte à mesurer
+     * @param scale Le facteur d'agrandissement entier (1 = 5x7)
+     * @return La largeur occupée en pixels
+     */
+    public static int textWidth(String text, int scale) {
+        return text.length() * ADVANCE * scale;
+    }
+
+    /**
+     * Dessine un texte dans un tampon de pixels ARGB.
+     * Le point (x, y) correspond au coin supérieur gauche du premier glyphe.
+     * Les pixels hors du tampon sont ignorés.
+     *
+     * @param pixels Le tampon ARGB de destination
+     * @param width Largeur du tampon en pixels
+     * @param height Hauteur du tampon en pixels
+     * @param text Le texte à dessiner
+     * @param x Position X du coin supérieur gauche
+     * @param y Position Y du coin supérieur gauche
+     * @param scale Le facteur d'agrandissement entier
+     * @param argb La couleur opaque du texte
+     */
+    public static void drawText(int[] pixels, int width, int height, String text,
+                                int x, int y, int scale, int argb) {
+        int penX = x;
+        for (int i = 0; i < text.length(); i++) {
+            int[] glyph = glyph(text.charAt(i));
+            for (int row = 0; row < GLYPH_HEIGHT; row++) {
+                int bits = glyph[row];
+                if (bits == 0) continue;
+                for (int col = 0; col < GLYPH_WIDTH; col++) {
+                    if ((bits & (1 << (GLYPH_WIDTH - 1 - col))) == 0) continue;
+                    int px = penX + col * scale;
+                    int py = y + row * scale;
+                    for (int sy = 0; sy < scale; sy++) {
+                        int yy = py + sy;
+                        if (yy < 0 || yy >= height) continue;
+                        int rowOffset = yy * width;
+                        for (int sx = 0; sx < scale; sx++) {
+                            int xx = px + sx;
+                            if (xx >= 0 && xx < width) {
+                                pixels[rowOffset + xx] = argb;
+                            }
+                        }
+                    }
+                }
+            }
+            penX += ADVANCE * scale;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package bomberman.controller.game;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Animation de sprite découpée dans une planche horizontale (strip).
+ * Une planche contient des frames carrées placées côte à côte ; leurs
+ * rectangles source sont calculés une seule fois au chargement. La frame
+ * affichée est choisie à partir d'un numéro de tick de simulation, ce qui
+ * rend la sélection déterministe (même tick → même frame) et indépendante
+ * du nombre d'images par seconde réellement affichées.
+ *
+ * <p>Caractéristiques :</p>
+ * <ul>
+ *   <li>Rectangles source précalculés (aucune allocation lors du rendu)</li>
+ *   <li>Animations en boucle ou jouées une seule fois</li>
+ *   <li>Sélection par tick absolu ou par progression (écoulé / durée)</li>
+ * </ul>
+ *
+ * <p>Convention des packs de textures : une planche {@code <nom>_sheet.png}
+ * placée à côté de la texture statique {@code <nom>.png}, par exemple
+ * {@code bombe_sheet.png} de 4 frames de 32x32 pixels (128x32).</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpriteAnimation {
+
+    /** Planche source contenant toutes les frames */
+    private final Image sheet;
+
+    /** Nombre de frames de l'animation */
+    private final int frameCount;
+
+    /** Largeur d'une frame dans la planche */
+    private final int frameWidth;
+
+    /** Hauteur d'une frame dans la planche */
+    private final int frameHeight;
+
+    /** Abscisses source précalculées de chaque frame */
+    private final int[] frameX;
+
+    /** Nombre de ticks pendant lesquels chaque frame reste affichée */
+    private final int ticksPerFrame;
+
+    /** Indique si l'animation boucle (sinon elle reste sur la dernière frame) */
+    private final boolean looping;
+
+    /**
+     * Constructeur d'une animation à partir d'une planche horizontale.
+     *
+     * @param sheet La planche de sprites
+     * @param frameCount Le nombre de frames dans la planche
+     * @param ticksPerFrame La durée d'affichage d'une frame en ticks
+     * @param looping true pour une animation en boucle
+     */
+    public SpriteAnimation(Image sheet, int frameCount, int ticksPerFrame, boolean looping) {
+        this.sheet = sheet;
+        this.frameCount = Math.max(1, frameCount);
+        this.frameWidth = (int) sheet.getWidth() / this.frameCount;
+        this.frameHeight = (int) sheet.getHeight();
+        this.ticksPerFrame = Math.max(1, ticksPerFrame);
+        this.looping = looping;
+
+        this.frameX = new int[this.frameCount];
+        for (int i = 0; i < this.frameCount; i++) {
+            frameX[i] = i * frameWidth;
+        }
+    }
+
+    /**
+     * Crée une animation à partir d'une planche de frames carrées.
+     * Le nombre de frames est déduit du rapport largeur / hauteur.
+     *
+     * @param sheet La planche de sprites
+     * @param ticksPerFrame La durée d'affichage d'une frame en ticks
+     * @param looping true pour une animation en boucle
+     * @return L'animation, ou null si la planche est invalide
+     */
+    public static SpriteAnimation fromSquareStrip(Image sheet, int ticksPerFrame, boolean looping) {
+        if (sheet == null || sheet.isError() || sheet.getHeight() <= 0) return null;
+        int frames = (int) (sheet.getWidth() / sheet.getHeight());
+        if (frames < 1) return null;
+        return new SpriteAnimation(sheet, frames, ticksPerFrame, looping);
+    }
+
+    // ==================== SÉLECTION DE FRAME ====================
+
+    /**
+     * Retourne la frame à afficher pour un tick donné.
+     *
+     * @param tick Le nombre de ticks écoulés depuis le début de l'animation
+     * @return L'indice de frame
+     */
+    public int frameAt(long tick) {
+        long step = Math.max(0, tick) / ticksPerFrame;
+        if (looping) {
+            return (int) (step % frameCount);
+        }
+        return (int) Math.min(frameCount - 1, step);
+    }
+
+    /**
+     * Retourne la frame correspondant à une progression (animation étalée sur une durée).
+     *
+     * @param elapsed Le nombre de ticks écoulés
+     * @param duration La durée totale en ticks
+     * @return L'indice de frame, de 0 à frameCount - 1
+     */
+    public int frameAtProgress(int elapsed, int duration) {
+        if (duration <= 0) return frameCount - 1;
+        int frame = (int) ((long) Math.max(0, elapsed) * frameCount / duration);
+        return Math.min(frameCount - 1, frame);
+    }
+
+    // ==================== RENDU ====================
+
+    /**
+     * Dessine une frame de l'animation.
+     *
+     * @param gc Le contexte graphique JavaFX
+     * @param frame L'indice de frame
+     * @param x Position X de destination
+     * @param y Position Y de destination
+     * @param width Largeur de destination
+     * @param height Hauteur de destination
+     */
+    public void draw(GraphicsContext gc, int frame, double x, double y, double width, double height) {
+        gc.drawImage(sheet, frameX[frame], 0, frameWidth, frameHeight, x, y, width, height);
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne la planche source.
+     *
+     * @return L'image de la planche
+     */
+    public Image getSheet() { return sheet; }
+
+    /**
+     * Retourne le nombre de frames.
+     *
+     * @return Le nombre de frames
+     */
+    public int getFrameCount() { return frameCount; }
+
+    /**
+     * Retourne l'abscisse source d'une frame dans la planche.
+     *
+     * @param frame L'indice de frame
+     * @return L'abscisse en pixels
+     */
+    public int getFrameX(int frame) { return frameX[frame]; }
+
+    /**
+     * Retourne la largeur d'une frame.
+     *
+     * @return La largeur en pixels
+     */
+    public int getFrameWidth() { return frameWidth; }
+
+    /**
+     * Retourne la hauteur d'une frame.
+     *
+     * @return La hauteur en pixels
+     */
+    public int getFrameHeight() { return frameHeight; }
+}
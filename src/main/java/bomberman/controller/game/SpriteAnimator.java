@@ -0,0 +1,147 @@
+package bomberman.controller.game;
+
+/**
+ * Règles d'animation des entités du jeu Bomberman.
+ * Cette classe utilitaire centralise le choix de la frame (ou de la
+ * déformation procédurale) de chaque entité animée, afin que le
+ * {@link GameRenderer} et le {@link FramebufferRenderer} affichent
+ * exactement la même chose pour un même état de simulation.
+ *
+ * <p>Animations gérées :</p>
+ * <ul>
+ *   <li><strong>Mèche des bombes</strong> : pulsation qui accélère à l'approche de l'explosion</li>
+ *   <li><strong>Flammes</strong> : expansion au début de l'explosion</li>
+ *   <li><strong>Marche des joueurs</strong> : cycle de marche pendant les déplacements</li>
+ * </ul>
+ * Si le pack de textures fournit une planche ({@link SpriteAnimation}), la frame
+ * en est tirée ; sinon une animation procédurale est appliquée à la texture
+ * statique à l'aide de tables précalculées. Toutes les sélections dépendent
+ * uniquement de l'état de simulation (timers, tick) : elles sont déterministes
+ * et prennent des valeurs primitives, lisibles aussi bien depuis les entités
+ * que depuis un {@link bomberman.model.game.RenderSnapshot}.
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SpriteAnimator {
+
+    /** Durée initiale du timer d'une bombe (en ticks) */
+    private static final int BOMB_FUSE_TICKS = 180;
+
+    /** Seuil du timer en dessous duquel la mèche pulse plus vite */
+    private static final int BOMB_HURRY_TICKS = 60;
+
+    /** Facteurs d'échelle d'un cycle de pulsation de bombe */
+    private static final double[] BOMB_PULSE = new double[16];
+
+    /** Facteurs d'échelle de l'expansion des flammes, par tick écoulé */
+    private static final double[] FLAME_GROWTH = {0.45, 0.6, 0.72, 0.82, 0.9, 0.95, 0.98, 1.0};
+
+    /** Décalages verticaux (pixels) du cycle de marche procédural */
+    private static final int[] WALK_BOB = {0, -1, -2, -3, -2, -1};
+
+    /** Durée d'une étape du cycle de marche procédural (en ticks) */
+    private static final int WALK_TICKS_PER_STEP = 3;
+
+    static {
+        for (int i = 0; i < BOMB_PULSE.length; i++) {
+            BOMB_PULSE[i] = 0.9 + 0.1 * Math.cos(2 * Math.PI * i / BOMB_PULSE.length);
+        }
+    }
+
+    /**
+     * Constructeur privé : classe utilitaire non instanciable.
+     */
+    private SpriteAnimator() {}
+
+    // ==================== BOMBES ====================
+
+    /**
+     * Retourne le nombre de ticks écoulés depuis la pose d'une bombe.
+     * La mèche accélère (deux fois plus vite) sur la dernière seconde.
+     *
+     * @param bombTimer Le timer restant de la bombe
+     * @return Le temps d'animation écoulé en ticks
+     */
+    private static int bombAnimationTicks(int bombTimer) {
+        int elapsed = BOMB_FUSE_TICKS - bombTimer;
+        int hurry = BOMB_HURRY_TICKS - bombTimer;
+        return hurry > 0 ? elapsed + hurry : elapsed;
+    }
+
+    /**
+     * Retourne la frame de la planche de bombe à afficher.
+     *
+     * @param animation L'animation de la bombe
+     * @param bombTimer Le timer restant de la bombe
+     * @return L'indice de frame
+     */
+    public static int bombFrame(SpriteAnimation animation, int bombTimer) {
+        return animation.frameAt(bombAnimationTicks(bombTimer));
+    }
+
+    /**
+     * Retourne l'échelle procédurale d'une bombe (pulsation de la mèche).
+     *
+     * @param bombTimer Le timer restant de la bombe
+     * @return Le facteur d'échelle entre 0.8 et 1.0
+     */
+    public static double bombScale(int bombTimer) {
+        return BOMB_PULSE[(bombAnimationTicks(bombTimer) / 2) % BOMB_PULSE.length];
+    }
+
+    // ==================== FLAMMES ====================
+
+    /**
+     * Retourne la frame de la planche d'explosion à afficher.
+     * La planche est étalée sur toute la durée de l'explosion.
+     *
+     * @param animation L'animation d'explosion
+     * @param timer Le timer restant de l'explosion
+     * @param duration La durée totale de l'explosion
+     * @return L'indice de frame
+     */
+    public static int flameFrame(SpriteAnimation animation, int timer, int duration) {
+        return animation.frameAtProgress(duration - timer, duration);
+    }
+
+    /**
+     * Retourne l'échelle procédurale d'une flamme (expansion initiale).
+     *
+     * @param timer Le timer restant de l'explosion
+     * @param duration La durée totale de l'explosion
+     * @return Le facteur d'échelle entre 0.45 et 1.0
+     */
+    public static double flameScale(int timer, int duration) {
+        int elapsed = duration - timer;
+        return FLAME_GROWTH[Math.max(0, Math.min(FLAME_GROWTH.length - 1, elapsed))];
+    }
+
+    // ==================== JOUEURS ====================
+
+    /**
+     * Retourne la frame de la planche de marche d'un joueur.
+     * Un joueur immobile affiche la première frame.
+     *
+     * @param animation L'animation de marche
+     * @param moving true si le joueur est en déplacement
+     * @param tick Le tick de simulation courant
+     * @return L'indice de frame
+     */
+    public static int walkFrame(SpriteAnimation animation, boolean moving, long tick) {
+        return moving ? animation.frameAt(tick) : 0;
+    }
+
+    /**
+     * Retourne le décalage vertical procédural d'un joueur en marche.
+     *
+     * @param moving true si le joueur est en déplacement
+     * @param tick Le tick de simulation courant
+     * @return Le décalage en pixels (0 à l'arrêt)
+     */
+    public static int walkBob(boolean moving, long tick) {
+        if (!moving) return 0;
+        return WALK_BOB[(int) ((tick / WALK_TICKS_PER_STEP) % WALK_BOB.length)];
+    }
+}
@@ -0,0 +1,297 @@
+package bomberman.controller.game;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache des sprites du jeu Bomberman pré-redimensionnés à la taille d'une case.
+ * Les textures des packs ont des tailles hétérogènes (32x32, 225x225, 300x168...) ;
+ * les redimensionner à chaque dessin coûte cher et produit un rendu flou. Ce cache
+ * les rééchantillonne une seule fois pour une taille de case donnée, et n'est
+ * régénéré que lorsque cette taille (fenêtre redimensionnée, plein écran) ou le
+ * pack de textures change. Les renderers dessinent ensuite les sprites pixel pour pixel.
+ *
+ * <p>Formats fournis :</p>
+ * <ul>
+ *   <li><strong>Tuiles ARGB</strong> ({@code int[]}) pour le {@link FramebufferRenderer}</li>
+ *   <li><strong>Images JavaFX</strong> créées à la demande pour le {@link GameRenderer}</li>
+ *   <li><strong>Frames d'animation</strong> découpées dans les planches ({@link SpriteAnimation})</li>
+ * </ul>
+ *
+ * <p>Rééchantillonnage : moyenne de zone lors d'une réduction (pas de scintillement
+ * sur les grandes textures), plus proche voisin lors d'un agrandissement (pixel art net).</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpriteCache {
+
+    /** Noms des textures mises en cache */
+    private static final String[] SPRITE_NAMES = {
+            "ground", "wall_indestructible", "wall_destructible", "powerup_bomb", "powerup_fire",
+            "explosion", "bomb", "player", "player2", "player3", "player4"
+    };
+
+    /** Gestionnaire de textures source */
+    private final TextureManager textureManager;
+
+    /** Tuiles ARGB par nom de texture */
+    private final Map<String, int[]> tiles;
+
+    /** Frames ARGB des animations par nom de texture */
+    private final Map<String, int[][]> frames;
+
+    /** Images JavaFX créées à la demande par nom de texture */
+    private final Map<String, Image> images;
+
+    /** Images JavaFX des frames d'animation créées à la demande */
+    private final Map<String, Image[]> frameImages;
+
+    /** Taille de case (en pixels) des sprites en cache, 0 si vide */
+    private int tileSize;
+
+    /** Pack de textures correspondant au cache */
+    private String texturePack;
+
+    /** Nombre de régénérations du cache (diagnostic) */
+    private int rebuildCount;
+
+    /**
+     * Constructeur du cache de sprites.
+     *
+     * @param textureManager Le gestionnaire de textures source (peut être null)
+     */
+    public SpriteCache(TextureManager textureManager) {
+        this.textureManager = textureManager;
+        this.tiles = new HashMap<>();
+        this.frames = new HashMap<>();
+        this.images = new HashMap<>();
+        this.frameImages = new HashMap<>();
+    }
+
+    // ==================== RÉGÉNÉRATION ====================
+
+    /**
+     * Met le cache à jour pour une taille de case.
+     * Ne fait rien si la taille et le pack de textures n'ont pas changé ;
+     * l'appel peut donc être fait à chaque frame.
+     *
+     * @param size La taille d'une case en pixels
+     * @return true si le cache a été régénéré
+     */
+    public boolean refresh(int size) {
+        if (textureManager == null) return false;
+        String pack = textureManager.getCurrentTexturePack();
+        if (size == tileSize && pack.equals(texturePack)) return false;
+
+        tiles.clear();
+        frames.clear();
+        images.clear();
+        frameImages.clear();
+
+        for (String name : SPRITE_NAMES) {
+            Image texture = textureManager.getTexture(name);
+            if (texture != null) {
+                int[] tile = resample(texture, 0, 0, (int) texture.getWidth(), (int) texture.getHeight(), size);
+                if (tile != null) {
+                    tiles.put(name, tile);
+                }
+            }
+
+            SpriteAnimation animation = textureManager.getAnimation(name);
+            if (animation != null) {
+                int[][] animationFrames = new int[animation.getFrameCount()][];
+                boolean complete = true;
+                for (int i = 0; i < animationFrames.length && complete; i++) {
+                    animationFrames[i] = resample(animation.getSheet(), animation.getFrameX(i), 0,
+                            animation.getFrameWidth(), animation.getFrameHeight(), size);
+                    complete = animationFrames[i] != null;
+                }
+                if (complete) {
+                    frames.put(name, animationFrames);
+                }
+            }
+        }
+
+        tileSize = size;
+        texturePack = pack;
+        rebuildCount++;
+        return true;
+    }
+
+    // ==================== ACCÈS ====================
+
+    /**
+     * Retourne la tuile ARGB d'une texture.
+     *
+     * @param name Le nom de la texture
+     * @return La tuile de tileSize x tileSize pixels, ou null si indisponible
+     */
+    public int[] getTile(String name) {
+        return tiles.get(name);
+    }
+
+    /**
+     * Retourne les frames ARGB d'une animation.
+     *
+     * @param name Le nom de la texture animée
+     * @return Les frames de tileSize x tileSize pixels, ou null si pas de planche
+     */
+    public int[][] getFrames(String name) {
+        return frames.get(name);
+    }
+
+    /**
+     * Retourne l'image JavaFX d'une texture à la taille d'une case.
+     * L'image est créée au premier appel puis conservée jusqu'à la régénération.
+     *
+     * @param name Le nom de la texture
+     * @return L'image de tileSize x tileSize pixels, ou null si indisponible
+     */
+    public Image getImage(String name) {
+        Image image = images.get(name);
+        if (image == null) {
+            int[] tile = tiles.get(name);
+            if (tile == null) return null;
+            image = toImage(tile);
+            images.put(name, image);
+        }
+        return image;
+    }
+
+    /**
+     * Retourne les images JavaFX des frames d'une animation.
+     *
+     * @param name Le nom de la texture animée
+     * @return Les images des frames, ou null si pas de planche
+     */
+    public Image[] getFrameImages(String name) {
+        Image[] result = frameImages.get(name);
+        if (result == null) {
+            int[][] animationFrames = frames.get(name);
+            if (animationFrames == null) return null;
+            result = new Image[animationFrames.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = toImage(animationFrames[i]);
+            }
+            frameImages.put(name, result);
+        }
+        return result;
+    }
+
+    /**
+     * Retourne la taille de case des sprites en cache.
+     *
+     * @return La taille en pixels, 0 si le cache n'a jamais été construit
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Retourne le nombre de régénérations effectuées depuis la création.
+     *
+     * @return Le nombre de régénérations
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    // ==================== RÉÉCHANTILLONNAGE ====================
+
+    /**
+     * Convertit une tuile ARGB en image JavaFX.
+     *
+     * @param tile La tuile de tileSize x tileSize pixels
+     * @return L'image correspondante
+     */
+    private Image toImage(int[] tile) {
+        WritableImage image = new WritableImage(tileSize, tileSize);
+        image.getPixelWriter().setPixels(0, 0, tileSize, tileSize,
+                PixelFormat.getIntArgbInstance(), tile, 0, tileSize);
+        return image;
+    }
+
+    /**
+     * Lit une zone d'une image et la rééchantillonne en tuile carrée.
+     *
+     * @param texture L'image source (peut être null)
+     * @param srcX Abscisse de la zone source
+     * @param srcY Ordonnée de la zone source
+     * @param srcWidth Largeur de la zone source
+     * @param srcHeight Hauteur de la zone source
+     * @param size La taille de la tuile produite
+     * @return La tuile ARGB, ou null si l'image est indisponible
+     */
+    static int[] resample(Image texture, int srcX, int srcY, int srcWidth, int srcHeight, int size) {
+        if (texture == null || texture.isError() || size <= 0) return null;
+        PixelReader reader = texture.getPixelReader();
+        if (reader == null || srcWidth <= 0 || srcHeight <= 0) return null;
+
+        int[] source = new int[srcWidth * srcHeight];
+        try {
+            reader.getPixels(srcX, srcY, srcWidth, srcHeight, PixelFormat.getIntArgbInstance(),
+                    source, 0, srcWidth);
+        } catch (RuntimeException e) {
+            System.err.println("Texture illisible pour le cache de sprites : " + e.getMessage());
+            return null;
+        }
+        return resample(source, srcWidth, srcHeight, size);
+    }
+
+    /**
+     * Rééchantillonne un tableau ARGB en tuile carrée.
+     * Chaque pixel de destination est la moyenne (pondérée par l'opacité) des
+     * pixels source qu'il recouvre ; en agrandissement, cela revient au plus
+     * proche voisin.
+     *
+     * @param source Les pixels source
+     * @param srcWidth Largeur de la source
+     * @param srcHeight Hauteur de la source
+     * @param size La taille de la tuile produite
+     * @return La tuile ARGB de size x size pixels
+     */
+    static int[] resample(int[] source, int srcWidth, int srcHeight, int size) {
+        int[] scaled = new int[size * size];
+        for (int y = 0; y < size; y++) {
+            int y0 = y * srcHeight / size;
+            int y1 = Math.max(y0 + 1, (y + 1) * srcHeight / size);
+            for (int x = 0; x < size; x++) {
+                int x0 = x * srcWidth / size;
+                int x1 = Math.max(x0 + 1, (x + 1) * srcWidth / size);
+
+                if (x1 - x0 == 1 && y1 - y0 == 1) {
+                    scaled[y * size + x] = source[y0 * srcWidth + x0];
+                    continue;
+                }
+
+                long a = 0, r = 0, g = 0, b = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    int row = sy * srcWidth;
+                    for (int sx = x0; sx < x1; sx++) {
+                        int argb = source[row + sx];
+                        int alpha = argb >>> 24;
+                        a += alpha;
+                        r += ((argb >> 16) & 0xFF) * alpha;
+                        g += ((argb >> 8) & 0xFF) * alpha;
+                        b += (argb & 0xFF) * alpha;
+                    }
+                }
+                int count = (x1 - x0) * (y1 - y0);
+                if (a == 0) {
+                    scaled[y * size + x] = 0;
+                } else {
+                    scaled[y * size + x] = (int) (a / count) << 24
+                            | (int) (r / a) << 16 | (int) (g / a) << 8 | (int) (b / a);
+                }
+            }
+        }
+        return scaled;
+    }
+}
@@ -50,6 +50,9 @@ public class TextureManager {
     /** Cache des textures chargées, indexées par nom */
     private Map<String, Image> textures;
 
+    /** Animations optionnelles du pack courant (planches *_sheet.png), indexées par nom de texture */
+    private Map<String, SpriteAnimation> animations;
+
     /** Nom du pack de textures actuellement utilisé */
     private String currentTexturePack = "default";
 
@@ -63,6 +66,7 @@ public class TextureManager {
      */
     public TextureManager() {
         textures = new HashMap<>();
+        animations = new HashMap<>();
         availableTexturePacks = new ArrayList<>();
         scanAvailableTexturePacks();
         loadTextures("default");
@@ -200,6 +204,7 @@ public class TextureManager {
      */
     private void loadTextures(String packName) {
         textures.clear();
+        animations.clear();
         currentTexturePack = packName;
 
         if (!isTexturePackAvailable(packName)) {
@@ -217,6 +222,7 @@ public class TextureManager {
             textures.put("wall_indestructible", new Image(getClass().getResourceAsStream(basePath + "mur_indestructible.png")));
             textures.put("wall_destructible", new Image(getClass().getResourceAsStream(basePath + "mur_destructible.png")));
             textures.put("ground", new Image(getClass().getResourceAsStream(basePath + "sol.png")));
+            loadAnimations(basePath);
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement du texture pack '" + packName + "': " + e.getMessage());
             createDefaultTextures();
@@ -299,6 +305,50 @@ public class TextureManager {
         return textures.get(name);
     }
 
+    /**
+     * Charge les planches d'animation optionnelles d'un pack.
+     * Chaque planche est une bande horizontale de frames carrées nommée
+     * {@code <fichier>_sheet.png} ; une planche absente laisse la texture statique.
+     *
+     * @param basePath Le chemin du pack de textures
+     */
+    private void loadAnimations(String basePath) {
+        loadAnimation("bomb", basePath + "bombe_sheet.png", 8, true);
+        loadAnimation("explosion", basePath + "explosion_sheet.png", 1, false);
+        loadAnimation("player", basePath + "player_sheet.png", 6, true);
+        loadAnimation("player2", basePath + "player2_sheet.png", 6, true);
+        loadAnimation("player3", basePath + "player3_sheet.png", 6, true);
+        loadAnimation("player4", basePath + "player4_sheet.png", 6, true);
+    }
+
+    /**
+     * Charge une planche d'animation si elle existe dans les ressources.
+     *
+     * @param name Le nom de texture associé
+     * @param path Le chemin de la planche
+     * @param ticksPerFrame La durée d'une frame en ticks
+     * @param looping true pour une animation en boucle
+     */
+    private void loadAnimation(String name, String path, int ticksPerFrame, boolean looping) {
+        java.io.InputStream stream = getClass().getResourceAsStream(path);
+        if (stream == null) return;
+        SpriteAnimation animation = SpriteAnimation.fromSquareStrip(new Image(stream), ticksPerFrame, looping);
+        if (animation != null) {
+            animations.put(name, animation);
+            System.out.println("Animation chargée: " + path + " (" + animation.getFrameCount() + " frames)");
+        }
+    }
+
+    /**
+     * Retourne l'animation associée à une texture, si le pack en fournit une.
+     *
+     * @param name Le nom de la texture (bomb, explosion, player, ...)
+     * @return L'animation, ou null si la texture est statique
+     */
+    public SpriteAnimation getAnimation(String name) {
+        return animations.get(name);
+    }
+
     /**
      * Vérifie si une texture existe dans le cache.
      *
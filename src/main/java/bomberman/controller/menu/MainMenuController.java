@@ -6,7 +6,10 @@ import bomberman.model.game.BombermanGame;
 import bomberman.model.game.CaptureTheFlag;
 import bomberman.controller.game.BombermanLevelEditor;
 import bomberman.controller.game.TextureManager;
+import bomberman.network.LockstepClient;
+import bomberman.network.LockstepServer;
 import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
@@ -21,6 +24,7 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
@@ -117,6 +121,9 @@ public class MainMenuController implements Initializable {
     /** Bouton pour jouer à 4 joueurs (ajouté programmatiquement) */
     private Button play4PlayersButton;
 
+    /** Bouton pour rejoindre une partie en réseau (ajouté programmatiquement) */
+    private Button playNetworkButton;
+
     /**
      * Méthode d'initialisation appelée automatiquement par JavaFX.
      * Configure tous les éléments de l'interface utilisateur, initialise les animations
@@ -311,6 +318,14 @@ public class MainMenuController implements Initializable {
             setupButton(play4PlayersButton, "#FF4757");
             play4PlayersButton.setOnAction(e -> handlePlay4Players());
 
+            // Créer le bouton de partie en réseau
+            playNetworkButton = new Button("🌐 JOUER EN RÉSEAU");
+            playNetworkButton.setPrefHeight(50.0);
+            playNetworkButton.setPrefWidth(300.0);
+            playNetworkButton.setFont(Font.font("System Bold", 18.0));
+            setupButton(playNetworkButton, "#1E90FF");
+            playNetworkButton.setOnAction(e -> handlePlayNetwork());
+
             // Trouver le conteneur des boutons (VBox avec les boutons)
             if (mainContainer != null && mainContainer.getChildren().size() > 1) {
                 // Le deuxième enfant devrait être le VBox contenant les boutons
@@ -321,8 +336,9 @@ public class MainMenuController implements Initializable {
                     // Insérer le bouton 4 joueurs après le bouton jouer (index 1)
                     if (vbox.getChildren().size() > 1) {
                         vbox.getChildren().add(1, play4PlayersButton);
+                        vbox.getChildren().add(2, playNetworkButton);
                     } else {
-                        vbox.getChildren().add(play4PlayersButton);
+                        vbox.getChildren().addAll(play4PlayersButton, playNetworkButton);
                     }
                 }
             }
@@ -554,6 +570,51 @@ public class MainMenuController implements Initializable {
         }
     }
 
+    /**
+     * Rejoint une partie en réseau hébergée par un {@link LockstepServer}.
+     * Demande l'adresse du serveur, puis attend en arrière-plan que tous les
+     * joueurs soient connectés avant d'ouvrir la fenêtre de jeu.
+     */
+    public void handlePlayNetwork() {
+        TextInputDialog dialog = new TextInputDialog("localhost:" + LockstepServer.DEFAULT_PORT);
+        dialog.setTitle("Partie en réseau");
+        dialog.setHeaderText("Adresse du serveur (hôte:port)");
+        String address = dialog.showAndWait().orElse(null);
+        if (address == null || address.isBlank()) return;
+
+        String host = address.trim();
+        int port = LockstepServer.DEFAULT_PORT;
+        int separator = host.lastIndexOf(':');
+        try {
+            if (separator > 0) {
+                port = Integer.parseInt(host.substring(separator + 1));
+                host = host.substring(0, separator);
+            }
+        } catch (NumberFormatException e) {
+            showNotification("❌ Port invalide : " + address, NotificationType.ERROR);
+            return;
+        }
+
+        showNotification("🌐 En attente des autres joueurs...", NotificationType.INFO);
+        String serverHost = host;
+        int serverPort = port;
+        Thread connectThread = new Thread(() -> {
+            try {
+                LockstepClient client = new LockstepClient(serverHost, serverPort);
+                Platform.runLater(() -> {
+                    Stage currentStage = (Stage) playButton.getScene().getWindow();
+                    new BombermanGame().startNetworkGame(new Stage(), client);
+                    currentStage.close();
+                });
+            } catch (IOException e) {
+                Platform.runLater(() -> showNotification("❌ Connexion impossible : " + e.getMessage(),
+                        NotificationType.ERROR));
+            }
+        }, "lockstep-connexion");
+        connectThread.setDaemon(true);
+        connectThread.start();
+    }
+
     /**
      * Lance une partie contre l'IA.
      * Ferme le menu actuel et démarre le mode de jeu contre l'intelligence artificielle.
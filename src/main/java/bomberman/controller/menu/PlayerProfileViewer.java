@@ -1,11 +1,17 @@
 package bomberman.controller.menu;
 
+import bomberman.model.profile.MappedProfileStore;
+import bomberman.model.profile.MatchHistory;
+import bomberman.model.profile.MatchRecord;
 import bomberman.model.profile.PlayerProfile;
 import bomberman.model.profile.PlayerProfileManager;
+import bomberman.model.profile.ProfileLeaderboard;
+import bomberman.model.profile.RatingSystem;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
+import javafx.collections.ObservableListBase;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,6 +21,8 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.List;
+
 /**
  * Interface graphique de gestion des profils joueurs.
  * Cette application JavaFX permet de visualiser, créer, sélectionner et supprimer
@@ -28,6 +36,9 @@ import javafx.stage.Stage;
  *   <li>Sélection d'un profil actif pour les parties</li>
  *   <li>Suppression de profils existants</li>
  *   <li>Affichage des statistiques (parties jouées/gagnées)</li>
+ *   <li>Tendances des dernières parties, tirées de l'historique de chaque profil</li>
+ *   <li>Note de niveau de chaque profil, y compris celui des bots</li>
+ *   <li>Classement par note, taux de victoire ou victoires, lu page par page</li>
  * </ul>
  *
  * <p>Architecture de l'interface :</p>
@@ -40,6 +51,11 @@ import javafx.stage.Stage;
  * │  - Prénom                       │
  * │  - Parties jouées               │
  * │  - Parties gagnées              │
+ * │  - Taux de victoire             │
+ * │  - Note                         │
+ * │  - Forme récente                │
+ * │  - Éliminations par partie      │
+ * │  Dernières parties du profil    │
  * ├─────────────────────────────────┤
  * │    Créer un nouveau profil      │
  * │  [Nom] [Prénom]                 │
@@ -59,6 +75,21 @@ public class PlayerProfileViewer extends Application {
     /** Tableau d'affichage des profils existants */
     private TableView<PlayerProfile> profileTable;
 
+    /** Résumé des dernières parties du profil sélectionné */
+    private Label historyLabel;
+
+    /** Nombre de parties récentes prises en compte pour les tendances */
+    private static final int RECENT_MATCHES = 10;
+
+    /** Nombre de profils lus à la fois dans le classement */
+    private static final int PAGE_SIZE = 100;
+
+    /** Ligne affichée à la place d'un profil supprimé, le temps de relire le classement */
+    private static final PlayerProfile REMOVED_ROW = new PlayerProfile("…", "…");
+
+    /** Indique si une relecture du classement est déjà demandée */
+    private boolean refreshPending;
+
     /**
      * Point d'entrée principal de l'application JavaFX.
      * Initialise l'interface utilisateur, configure les composants
@@ -81,6 +112,10 @@ public class PlayerProfileViewer extends Application {
 
         // Initialisation de la TableView
         setupTableView();
+        historyLabel = new Label();
+        historyLabel.setStyle("-fx-text-fill: white;");
+        profileTable.getSelectionModel().selectedItemProperty().addListener(
+                (observable, previous, selected) -> historyLabel.setText(describeHistory(selected)));
 
         // Section création de profil
         GridPane inputGrid = createInputGrid();
@@ -93,6 +128,7 @@ public class PlayerProfileViewer extends Application {
         root.getChildren().addAll(
                 existingProfilesLabel,
                 profileTable,
+                historyLabel,
                 new Label("Créer un nouveau profil :") {{
                     setStyle("-fx-text-fill: white; -fx-font-size: 16px; -fx-font-weight: bold;");
                 }},
@@ -100,7 +136,7 @@ public class PlayerProfileViewer extends Application {
                 buttonBox
         );
 
-        Scene scene = new Scene(root, 600, 500);
+        Scene scene = new Scene(root, 900, 540);
         stage.setTitle("Gestion des profils");
         stage.setScene(scene);
         stage.show();
@@ -118,7 +154,16 @@ public class PlayerProfileViewer extends Application {
      *   <li><strong>Prénom</strong> : Prénom du joueur</li>
      *   <li><strong>Parties jouées</strong> : Nombre total de parties</li>
      *   <li><strong>Parties gagnées</strong> : Nombre de victoires</li>
+     *   <li><strong>Victoires</strong> : Taux de victoire global</li>
+     *   <li><strong>Note</strong> : Note de niveau (Glicko), arrondie</li>
+     *   <li><strong>Forme</strong> : Taux de victoire des dernières parties, comparé au taux global</li>
+     *   <li><strong>Élim./partie</strong> : Éliminations moyennes des dernières parties</li>
      * </ul>
+     *
+     * <p>Les colonnes Nom, Prénom, Parties jouées, Parties gagnées, Victoires et
+     * Note trient le tableau selon le {@link ProfileLeaderboard} du gestionnaire ;
+     * les colonnes de tendances récentes ne sont pas triables. Les profils des
+     * bots ne sont pas classés, donc pas affichés.</p>
      */
     private void setupTableView() {
         profileTable = new TableView<>();
@@ -141,10 +186,91 @@ public class PlayerProfileViewer extends Application {
         gamesWonCol.setCellValueFactory(data ->
                 new SimpleIntegerProperty(data.getValue().getGamesWon()));
 
-        profileTable.getColumns().addAll(usernameCol, firstNameCol, gamesPlayedCol, gamesWonCol);
+        TableColumn<PlayerProfile, String> winRateCol = new TableColumn<>("Victoires");
+        winRateCol.setCellValueFactory(data ->
+                new SimpleStringProperty(String.format("%.0f%%", data.getValue().getWinRate())));
+
+        TableColumn<PlayerProfile, Number> ratingCol = new TableColumn<>("Note");
+        ratingCol.setCellValueFactory(data ->
+                new SimpleIntegerProperty((int) Math.round(data.getValue().getRating().getRating())));
+
+        TableColumn<PlayerProfile, String> formCol = new TableColumn<>("Forme (" + RECENT_MATCHES + " dern.)");
+        formCol.setCellValueFactory(data ->
+                new SimpleStringProperty(describeForm(data.getValue())));
+
+        TableColumn<PlayerProfile, String> killsCol = new TableColumn<>("Élim./partie");
+        killsCol.setCellValueFactory(data -> {
+            MatchHistory history = data.getValue().getMatchHistory();
+            return new SimpleStringProperty(history.size() == 0 ? "-"
+                    : String.format("%.1f", history.getAverageKills(RECENT_MATCHES)));
+        });
+
+        profileTable.getColumns().addAll(usernameCol, firstNameCol, gamesPlayedCol, gamesWonCol, winRateCol,
+                ratingCol, formCol, killsCol);
+
+        // Tri par le classement tenu à jour, jamais en mémoire sur tous les profils
+        usernameCol.setUserData(ProfileLeaderboard.Order.USERNAME);
+        firstNameCol.setUserData(ProfileLeaderboard.Order.FIRST_NAME);
+        gamesPlayedCol.setUserData(ProfileLeaderboard.Order.GAMES_PLAYED);
+        gamesWonCol.setUserData(ProfileLeaderboard.Order.GAMES_WON);
+        winRateCol.setUserData(ProfileLeaderboard.Order.WIN_RATE);
+        ratingCol.setUserData(ProfileLeaderboard.Order.RATING);
+        for (TableColumn<PlayerProfile, ?> column : profileTable.getColumns()) {
+            column.setSortable(column.getUserData() != null);
+        }
+        profileTable.setSortPolicy(table -> {
+            updateTableData();
+            return true;
+        });
         updateTableData();
     }
 
+    /**
+     * Décrit la forme récente d'un profil : taux de victoire des dernières parties
+     * et sens de l'écart avec son taux global.
+     *
+     * @param profile Le profil
+     * @return Par exemple « 60% ↑ », ou « - » sans historique
+     */
+    private static String describeForm(PlayerProfile profile) {
+        MatchHistory history = profile.getMatchHistory();
+        if (history.size() == 0) {
+            return "-";
+        }
+        double recent = history.getWinRate(RECENT_MATCHES);
+        double overall = profile.getWinRate();
+        String trend = recent > overall + 5 ? " ↑" : recent < overall - 5 ? " ↓" : " =";
+        return String.format("%.0f%%%s", recent, trend);
+    }
+
+    /**
+     * Résume les dernières parties d'un profil : classements et moyennes.
+     *
+     * @param profile Le profil sélectionné, ou null
+     * @return Le résumé à afficher sous le tableau
+     */
+    private static String describeHistory(PlayerProfile profile) {
+        if (profile == null) {
+            return "";
+        }
+        MatchHistory history = profile.getMatchHistory();
+        if (history.size() == 0) {
+            return "Aucune partie enregistrée pour " + profile.getFirstName();
+        }
+        StringBuilder placements = new StringBuilder();
+        int bombs = 0;
+        int powerUps = 0;
+        int count = Math.min(RECENT_MATCHES, history.size());
+        for (int i = 0; i < count; i++) {
+            MatchRecord record = history.get(i);
+            placements.append(i == 0 ? "" : " ").append(record.getPlacement()).append('/').append(record.getPlayerCount());
+            bombs += record.getBombsPlaced();
+            powerUps += record.getPowerUpsCollected();
+        }
+        return String.format("Note %s — dernières parties : %s — place moyenne %.1f, %.1f bombes et %.1f power-ups par partie",
+                profile.getRating(), placements, history.getAveragePlacement(RECENT_MATCHES), (double) bombs / count, (double) powerUps / count);
+    }
+
     /**
      * Crée la grille de saisie pour un nouveau profil.
      * Configure un formulaire avec les champs nom et prénom,
@@ -215,11 +341,40 @@ public class PlayerProfileViewer extends Application {
 
     /**
      * Met à jour les données affichées dans le tableau.
-     * Récupère tous les profils depuis le gestionnaire et rafraîchit
-     * l'affichage du tableau avec les données actuelles.
+     * Le tableau reçoit une vue du classement selon la colonne de tri (la note
+     * par défaut) : seules les pages affichées sont lues.
      */
     private void updateTableData() {
-        profileTable.setItems(FXCollections.observableArrayList(profileManager.getAllProfiles()));
+        refreshPending = false;
+        ProfileLeaderboard.Order order = ProfileLeaderboard.Order.RATING;
+        boolean reversed = false;
+        if (!profileTable.getSortOrder().isEmpty()) {
+            TableColumn<PlayerProfile, ?> column = profileTable.getSortOrder().get(0);
+            order = (ProfileLeaderboard.Order) column.getUserData();
+            // Le classement est parcouru à l'envers quand le tri demandé est contraire à son sens
+            reversed = (column.getSortType() == TableColumn.SortType.ASCENDING) != order.isAscending();
+        }
+        profileTable.setItems(new LeaderboardList(profileManager, order, reversed, this::requestRefresh));
+    }
+
+    /**
+     * Demande une relecture du classement après l'affichage en cours : la vue
+     * du tableau est plus longue que le classement (profils supprimés).
+     */
+    private void requestRefresh() {
+        if (refreshPending) return;
+        refreshPending = true;
+        Platform.runLater(this::updateTableData);
+    }
+
+    /**
+     * Retourne le profil sélectionné dans le tableau.
+     *
+     * @return Le profil, null si aucun profil (ou une ligne en cours de relecture) n'est sélectionné
+     */
+    private PlayerProfile getSelectedProfile() {
+        PlayerProfile selected = profileTable.getSelectionModel().getSelectedItem();
+        return selected == REMOVED_ROW ? null : selected;
     }
 
     /**
@@ -234,7 +389,12 @@ public class PlayerProfileViewer extends Application {
         String username = usernameField.getText().trim();
         String firstName = firstNameField.getText().trim();
 
-        if (!username.isEmpty() && !firstName.isEmpty()) {
+        if (RatingSystem.isBot(username)) {
+            showAlert("Erreur", "Les noms commençant par @ sont réservés aux bots.");
+        } else if (!PlayerProfileManager.isStorableName(username) || !PlayerProfileManager.isStorableName(firstName)) {
+            showAlert("Erreur", "Le nom et le prénom sont limités à " + MappedProfileStore.MAX_NAME_BYTES
+                    + " caractères (moins avec des lettres accentuées).");
+        } else if (!username.isEmpty() && !firstName.isEmpty()) {
             profileManager.getOrCreateProfile(username, firstName);
             updateTableData();
             usernameField.clear();
@@ -252,7 +412,7 @@ public class PlayerProfileViewer extends Application {
      * @param stage La fenêtre à fermer après sélection
      */
     private void handleSelectProfile(Stage stage) {
-        PlayerProfile selectedProfile = profileTable.getSelectionModel().getSelectedItem();
+        PlayerProfile selectedProfile = getSelectedProfile();
         if (selectedProfile != null) {
             profileManager.setCurrentProfile(selectedProfile);
             stage.close();
@@ -267,7 +427,7 @@ public class PlayerProfileViewer extends Application {
      * et met à jour l'affichage du tableau.
      */
     private void handleDeleteProfile() {
-        PlayerProfile selectedProfile = profileTable.getSelectionModel().getSelectedItem();
+        PlayerProfile selectedProfile = getSelectedProfile();
         if (selectedProfile != null) {
             profileManager.deleteProfile(selectedProfile.getUsername());
             updateTableData();
@@ -291,4 +451,83 @@ public class PlayerProfileViewer extends Application {
         alert.setContentText(content);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+
+    /**
+     * Vue du classement pour le tableau : la taille est connue d'avance et les
+     * profils sont lus par pages de {@value #PAGE_SIZE}, à mesure que le tableau
+     * affiche les lignes correspondantes. Si des profils ont été supprimés depuis
+     * la création de la vue, les dernières lignes affichent {@link #REMOVED_ROW}
+     * et une nouvelle vue est demandée.
+     */
+    private static final class LeaderboardList extends ObservableListBase<PlayerProfile> {
+
+        /** Gestionnaire lisant les pages */
+        private final PlayerProfileManager profileManager;
+
+        /** Critère de classement */
+        private final ProfileLeaderboard.Order order;
+
+        /** Parcours du moins bon au meilleur */
+        private final boolean reversed;
+
+        /** Demande de relecture quand la vue dépasse le classement */
+        private final Runnable onStale;
+
+        /** Nombre de profils classés à la création de la vue */
+        private final int size;
+
+        /** Rang du premier profil de la page en cache */
+        private int pageStart;
+
+        /** Page en cache */
+        private List<PlayerProfile> page = List.of();
+
+        /**
+         * Constructeur d'une vue du classement.
+         *
+         * @param profileManager Le gestionnaire des profils
+         * @param order Le critère de classement
+         * @param reversed true pour parcourir du moins bon au meilleur
+         * @param onStale La demande de relecture du classement
+         */
+        LeaderboardList(PlayerProfileManager profileManager, ProfileLeaderboard.Order order, boolean reversed,
+                        Runnable onStale) {
+            this.profileManager = profileManager;
+            this.order = order;
+            this.reversed = reversed;
+            this.onStale = onStale;
+            this.size = profileManager.getLeaderboard().size();
+        }
+
+        /**
+         * Retourne le profil classé à un rang, en lisant sa page si nécessaire.
+         *
+         * @param index Le rang
+         * @return Le profil, {@link #REMOVED_ROW} si le classement a raccourci depuis la création de la vue
+         */
+        @Override
+        public PlayerProfile get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Rang " + index + " sur " + size);
+            }
+            if (index < pageStart || index >= pageStart + page.size()) {
+                pageStart = index / PAGE_SIZE * PAGE_SIZE;
+                page = profileManager.getLeaderboardPage(order, pageStart, PAGE_SIZE, reversed);
+            }
+            int position = index - pageStart;
+            if (position < page.size()) {
+                return page.get(position);
+            }
+            onStale.run();
+            return REMOVED_ROW;
+        }
+
+        /**
+         * Retourne le nombre de profils classés.
+         *
+         * @return La taille de la vue
+         */
+        @Override
+        public int size() { return size; }
+    }
+}
@@ -0,0 +1,366 @@
+package bomberman.model.ai;
+
+import bomberman.model.entities.Bomb;
+import bomberman.model.entities.Explosion;
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.BombSystem;
+import bomberman.model.game.GameGrid;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Intelligence artificielle sans affichage pilotant un joueur d'une partie
+ * {@link GameManager} par des commandes {@link PlayerInput}, comme un joueur
+ * en réseau. Elle reprend les priorités de l'{@link AIPlayer} :
+ * <ol>
+ *   <li><strong>Survie</strong> : quitter une case menacée par une flamme ou une
+ *       bombe posée, vers la case sûre la plus proche</li>
+ *   <li><strong>Stratégie</strong> : poser une bombe si elle touche un mur
+ *       destructible ou un adversaire et qu'une fuite existe</li>
+ *   <li><strong>Mouvement</strong> : se rapprocher de l'adversaire le plus proche
+ *       s'il est loin, s'en éloigner s'il est trop près, sinon errer</li>
+ * </ol>
+ *
+ * <p>Une décision n'est prise que lorsque le joueur est arrêté sur une case ; la
+ * commande précédente est maintenue pendant un déplacement. Les tableaux de
+ * travail sont alloués une fois : des milliers de bots peuvent jouer dans une
+ * même JVM ({@code bomberman.network.BotSwarm}).</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class BotBrain {
+
+    /** Ticks entre deux décisions hors danger (200 ms, comme l'{@link AIPlayer}) */
+    static final int DECISION_TICKS = 12;
+
+    /** Profondeur maximale de la recherche d'une case sûre */
+    private static final int ESCAPE_DEPTH = 8;
+
+    /** Directions essayées, dans l'ordre des décalages ci-dessous */
+    private static final int[] DIRECTIONS = {PlayerInput.LEFT, PlayerInput.RIGHT, PlayerInput.UP, PlayerInput.DOWN};
+
+    /** Décalages horizontaux des directions */
+    private static final int[] DX = {-1, 1, 0, 0};
+
+    /** Décalages verticaux des directions */
+    private static final int[] DY = {0, 0, -1, 1};
+
+    /** Tirages de la stratégie (reproductibles avec une même graine) */
+    private final Random random;
+
+    /** Cases menacées, indexées par y * largeur + x */
+    private boolean[] danger = new boolean[0];
+
+    /** Cases menacées par la bombe envisagée */
+    private boolean[] blast = new boolean[0];
+
+    /** File de la recherche en largeur */
+    private int[] queue = new int[0];
+
+    /** Profondeur de chaque case atteinte, -1 si non visitée */
+    private int[] depth = new int[0];
+
+    /** Première direction menant à chaque case atteinte */
+    private int[] firstStep = new int[0];
+
+    /** Largeur de la grille analysée */
+    private int width;
+
+    /** Commande maintenue */
+    private int held = PlayerInput.NONE;
+
+    /** Tick de la prochaine décision hors danger */
+    private long nextDecisionTick;
+
+    /**
+     * Constructeur d'un bot.
+     *
+     * @param seed La graine des choix aléatoires
+     */
+    public BotBrain(long seed) {
+        this.random = new Random(seed);
+    }
+
+    // ==================== DÉCISION ====================
+
+    /**
+     * Choisit la commande d'un joueur pour le prochain tick.
+     *
+     * @param gameManager La partie (copie locale d'un client en réseau)
+     * @param playerIndex L'indice du joueur piloté
+     * @return La commande ({@link PlayerInput})
+     */
+    public int nextInput(GameManager gameManager, int playerIndex) {
+        GamePlayer self = gameManager.getPlayers().get(playerIndex);
+        if (self.getStats().isEliminated() || !gameManager.isGameRunning()) {
+            held = PlayerInput.NONE;
+            return held;
+        }
+        if (self.isMoving()) return held;
+
+        GameGrid grid = gameManager.getGrid();
+        prepare(grid);
+        markDanger(gameManager);
+        int x = self.getTargetX();
+        int y = self.getTargetY();
+        long tick = gameManager.getTickCount();
+
+        // Priorité 1 : survie
+        if (danger[y * width + x]) {
+            held = escape(gameManager, x, y, danger, null);
+            return held;
+        }
+
+        // Une direction maintenue qui mène au danger ou dans un mur force une décision
+        boolean heldBlocked = held != PlayerInput.NONE && !isSafeMove(gameManager, self, x, y, held);
+        if (tick < nextDecisionTick && !heldBlocked) return held;
+        nextDecisionTick = tick + DECISION_TICKS;
+
+        // Priorité 2 : bombe utile avec une fuite possible
+        if (isBombUseful(gameManager, playerIndex, x, y)) {
+            markBlast(grid, x, y, self.getStats().getBombRange());
+            if (escape(gameManager, x, y, danger, blast) != PlayerInput.NONE) {
+                held = PlayerInput.NONE;
+                return PlayerInput.of(PlayerInput.NONE, true);
+            }
+        }
+
+        // Priorité 3 : déplacement
+        held = chooseMove(gameManager, self, playerIndex, x, y);
+        return held;
+    }
+
+    /**
+     * Adapte les tableaux de travail à la taille de la grille.
+     *
+     * @param grid La grille
+     */
+    private void prepare(GameGrid grid) {
+        int size = grid.getWidth() * grid.getHeight();
+        width = grid.getWidth();
+        if (danger.length != size) {
+            danger = new boolean[size];
+            blast = new boolean[size];
+            queue = new int[size];
+            depth = new int[size];
+            firstStep = new int[size];
+        }
+    }
+
+    // ==================== DANGER ====================
+
+    /**
+     * Marque les cases couvertes par les flammes et par le souffle de toutes les bombes posées.
+     *
+     * @param gameManager La partie
+     */
+    private void markDanger(GameManager gameManager) {
+        Arrays.fill(danger, false);
+        BombSystem bombs = gameManager.getBombSystem();
+        for (Explosion explosion : bombs.getExplosions()) {
+            danger[explosion.getY() * width + explosion.getX()] = true;
+        }
+        GameGrid grid = gameManager.getGrid();
+        for (Bomb bomb : bombs.getBombs()) {
+            markRange(grid, danger, bomb.getX(), bomb.getY(), bomb.getRange());
+        }
+    }
+
+    /**
+     * Marque le souffle d'une bombe envisagée (en plus du danger existant).
+     *
+     * @param grid La grille
+     * @param x La colonne de la bombe
+     * @param y La ligne de la bombe
+     * @param range La portée de la bombe
+     */
+    private void markBlast(GameGrid grid, int x, int y, int range) {
+        Arrays.fill(blast, false);
+        markRange(grid, blast, x, y, range);
+    }
+
+    /**
+     * Marque les cases atteintes par une explosion : la propagation s'arrête au
+     * premier mur, le mur destructible étant lui-même touché.
+     *
+     * @param grid La grille
+     * @param cells Les cases à marquer
+     * @param x La colonne de la bombe
+     * @param y La ligne de la bombe
+     * @param range La portée
+     */
+    private void markRange(GameGrid grid, boolean[] cells, int x, int y, int range) {
+        cells[y * width + x] = true;
+        for (int d = 0; d < 4; d++) {
+            for (int r = 1; r <= range; r++) {
+                int cx = x + DX[d] * r;
+                int cy = y + DY[d] * r;
+                if (!grid.inBounds(cx, cy) || grid.isIndestructibleWall(cx, cy)) break;
+                cells[cy * width + cx] = true;
+                if (grid.isDestructibleWall(cx, cy)) break;
+            }
+        }
+    }
+
+    /**
+     * Cherche la case sûre la plus proche (recherche en largeur sur les cases
+     * praticables sans bombe) et retourne la première direction pour l'atteindre.
+     *
+     * @param gameManager La partie
+     * @param x La colonne de départ
+     * @param y La ligne de départ
+     * @param threat Les cases menacées
+     * @param extra Des cases menacées supplémentaires, ou null
+     * @return La direction ({@link PlayerInput#NONE} si aucune fuite n'existe)
+     */
+    private int escape(GameManager gameManager, int x, int y, boolean[] threat, boolean[] extra) {
+        GameGrid grid = gameManager.getGrid();
+        BombSystem bombs = gameManager.getBombSystem();
+        Arrays.fill(depth, -1);
+        int start = y * width + x;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        depth[start] = 0;
+        firstStep[start] = PlayerInput.NONE;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            if (!threat[cell] && (extra == null || !extra[cell])) {
+                return firstStep[cell];
+            }
+            if (depth[cell] >= ESCAPE_DEPTH) continue;
+            int cx = cell % width;
+            int cy = cell / width;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (!grid.isWalkable(nx, ny) || bombs.hasBombAt(nx, ny)) continue;
+                int next = ny * width + nx;
+                if (depth[next] >= 0) continue;
+                depth[next] = depth[cell] + 1;
+                firstStep[next] = cell == start ? DIRECTIONS[d] : firstStep[cell];
+                queue[tail++] = next;
+            }
+        }
+        return PlayerInput.NONE;
+    }
+
+    // ==================== STRATÉGIE ====================
+
+    /**
+     * Évalue l'utilité d'une bombe posée sur la case du joueur : un mur
+     * destructible ou un adversaire dans le souffle.
+     *
+     * @param gameManager La partie
+     * @param playerIndex L'indice du joueur
+     * @param x La colonne du joueur
+     * @param y La ligne du joueur
+     * @return true si la bombe serait utile
+     */
+    private boolean isBombUseful(GameManager gameManager, int playerIndex, int x, int y) {
+        GameGrid grid = gameManager.getGrid();
+        if (gameManager.getBombSystem().hasBombAt(x, y)) return false;
+        int range = gameManager.getPlayers().get(playerIndex).getStats().getBombRange();
+        for (int d = 0; d < 4; d++) {
+            for (int r = 1; r <= range; r++) {
+                int cx = x + DX[d] * r;
+                int cy = y + DY[d] * r;
+                if (!grid.inBounds(cx, cy) || grid.isIndestructibleWall(cx, cy)) break;
+                if (grid.isDestructibleWall(cx, cy)) return true;
+                if (isOpponentAt(gameManager, playerIndex, cx, cy)) return random.nextDouble() < 0.5;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indique si un adversaire encore en jeu occupe une case.
+     *
+     * @param gameManager La partie
+     * @param playerIndex L'indice du joueur piloté
+     * @param x La colonne
+     * @param y La ligne
+     * @return true si un adversaire est sur la case
+     */
+    private boolean isOpponentAt(GameManager gameManager, int playerIndex, int x, int y) {
+        for (int i = 0; i < gameManager.getPlayers().size(); i++) {
+            GamePlayer other = gameManager.getPlayers().get(i);
+            if (i != playerIndex && !other.getStats().isEliminated()
+                    && other.getTargetX() == x && other.getTargetY() == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Choisit un déplacement sûr selon la distance à l'adversaire le plus proche.
+     *
+     * @param gameManager La partie
+     * @param self Le joueur piloté
+     * @param playerIndex L'indice du joueur piloté
+     * @param x La colonne du joueur
+     * @param y La ligne du joueur
+     * @return La direction choisie, {@link PlayerInput#NONE} si aucune n'est sûre
+     */
+    private int chooseMove(GameManager gameManager, GamePlayer self, int playerIndex, int x, int y) {
+        GamePlayer target = null;
+        int targetDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < gameManager.getPlayers().size(); i++) {
+            GamePlayer other = gameManager.getPlayers().get(i);
+            if (i == playerIndex || other.getStats().isEliminated()) continue;
+            int distance = Math.abs(other.getTargetX() - x) + Math.abs(other.getTargetY() - y);
+            if (distance < targetDistance) {
+                targetDistance = distance;
+                target = other;
+            }
+        }
+
+        int best = PlayerInput.NONE;
+        int bestScore = Integer.MIN_VALUE;
+        boolean chase = target != null && random.nextDouble() < 0.6;
+        int start = random.nextInt(4);
+        for (int i = 0; i < 4; i++) {
+            int d = (start + i) % 4;
+            if (!isSafeMove(gameManager, self, x, y, DIRECTIONS[d])) continue;
+            int score = 0;
+            if (chase) {
+                int distance = Math.abs(target.getTargetX() - (x + DX[d])) + Math.abs(target.getTargetY() - (y + DY[d]));
+                if (targetDistance > 5) {
+                    score = -distance;
+                } else if (targetDistance <= 2) {
+                    score = distance;
+                }
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = DIRECTIONS[d];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Indique si un pas dans une direction est permis et ne mène pas au danger.
+     *
+     * @param gameManager La partie
+     * @param self Le joueur piloté
+     * @param x La colonne du joueur
+     * @param y La ligne du joueur
+     * @param direction La direction ({@link PlayerInput})
+     * @return true si le pas est sûr
+     */
+    private boolean isSafeMove(GameManager gameManager, GamePlayer self, int x, int y, int direction) {
+        int nx = x + PlayerInput.deltaX(direction);
+        int ny = y + PlayerInput.deltaY(direction);
+        return gameManager.canPlayerMoveTo(self, nx, ny, false)
+                && gameManager.getGrid().isWalkable(nx, ny)
+                && !danger[ny * width + nx];
+    }
+}
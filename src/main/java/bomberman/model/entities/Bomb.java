@@ -23,6 +23,9 @@ public class Bomb {
     /** Portée de l'explosion en cases */
     private int range = 1;
 
+    /** Numéro du joueur qui a posé la bombe (0 si inconnu) */
+    private int owner;
+
     /**
      * Constructeur d'une bombe à la position spécifiée.
      * Le timer est initialisé à 180 frames (3 secondes à 60 FPS).
@@ -64,6 +67,20 @@ public class Bomb {
      */
     public void setRange(int range) { this.range = range; }
 
+    /**
+     * Retourne le joueur qui a posé la bombe, crédité des éliminations.
+     *
+     * @return Le numéro du joueur, 0 si inconnu
+     */
+    public int getOwner() { return owner; }
+
+    /**
+     * Définit le joueur qui a posé la bombe.
+     *
+     * @param owner Le numéro du joueur, 0 si inconnu
+     */
+    public void setOwner(int owner) { this.owner = owner; }
+
     /**
      * Décrémente le timer de la bombe d'une frame.
      * Appelé à chaque cycle de jeu pour faire progresser vers l'explosion.
@@ -81,6 +98,16 @@ public class Bomb {
         return timer <= 0;
     }
 
+    /**
+     * Modifie le timer de la bombe.
+     * Utilisé pour restaurer un état sauvegardé de la partie (rollback).
+     *
+     * @param timer Le nombre de frames restantes avant l'explosion
+     */
+    public void setTimer(int timer) {
+        this.timer = timer;
+    }
+
     /**
      * Modifie la position de la bombe.
      * Utilisé notamment pour les bombes poussées par les joueurs.
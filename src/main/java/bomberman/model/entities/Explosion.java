@@ -20,6 +20,12 @@ public class Explosion {
     /** Timer de durée de l'explosion (en frames) */
     private int timer;
 
+    /** Durée totale de l'explosion (en frames) */
+    private final int duration;
+
+    /** Numéro du joueur dont la bombe a provoqué l'explosion (0 si inconnu) */
+    private int owner;
+
     /**
      * Constructeur d'une explosion à la position spécifiée.
      *
@@ -31,6 +37,7 @@ public class Explosion {
         this.x = x;
         this.y = y;
         this.timer = duration;
+        this.duration = duration;
     }
 
     /**
@@ -47,6 +54,42 @@ public class Explosion {
      */
     public int getY() { return y; }
 
+    /**
+     * Retourne le nombre de frames restantes avant la disparition de l'explosion.
+     *
+     * @return Le timer restant
+     */
+    public int getTimer() { return timer; }
+
+    /**
+     * Retourne le joueur dont la bombe a provoqué l'explosion.
+     *
+     * @return Le numéro du joueur, 0 si inconnu
+     */
+    public int getOwner() { return owner; }
+
+    /**
+     * Définit le joueur dont la bombe a provoqué l'explosion.
+     *
+     * @param owner Le numéro du joueur, 0 si inconnu
+     */
+    public void setOwner(int owner) { this.owner = owner; }
+
+    /**
+     * Retourne la durée totale de l'explosion.
+     *
+     * @return La durée en frames
+     */
+    public int getDuration() { return duration; }
+
+    /**
+     * Modifie le timer de l'explosion.
+     * Utilisé pour restaurer un état sauvegardé de la partie (rollback).
+     *
+     * @param timer Le nombre de frames restantes
+     */
+    public void setTimer(int timer) { this.timer = timer; }
+
     /**
      * Décrémente le timer de l'explosion et vérifie si elle doit disparaître.
      *
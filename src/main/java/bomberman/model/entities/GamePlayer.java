@@ -4,6 +4,10 @@ import bomberman.utils.GameConstants;
 import bomberman.model.game.GameGrid;
 import bomberman.model.profile.PlayerStats;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Représente un joueur dans le jeu Bomberman.
  * Cette classe encapsule les données du joueur (Player), ses statistiques (PlayerStats),
@@ -273,4 +277,58 @@ public class GamePlayer {
      * @param time Le nouveau timestamp
      */
     public void setLastMoveTime(long time) { this.lastMoveTime = time; }
-}
\ No newline at end of file
+
+    /**
+     * Recopie l'état d'un autre joueur (position, mouvement et statistiques).
+     * Le numéro et le point de spawn ne sont pas modifiés. Utilisé pour sauvegarder
+     * et restaurer l'état de la partie sans allocation (rollback).
+     *
+     * @param other Le joueur dont l'état est recopié
+     */
+    public void copyFrom(GamePlayer other) {
+        player.setPosition(other.player.getX(), other.player.getY());
+        targetX = other.targetX;
+        targetY = other.targetY;
+        visualX = other.visualX;
+        visualY = other.visualY;
+        isMoving = other.isMoving;
+        lastMoveTime = other.lastMoveTime;
+        stats.copyFrom(other.stats);
+    }
+
+    /**
+     * Écrit l'état du joueur dans un flux binaire : les mêmes champs que
+     * {@link #copyFrom(GamePlayer)}, pour les images clés des replays.
+     *
+     * @param out Le flux de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte(player.getX());
+        out.writeByte(player.getY());
+        out.writeByte(targetX);
+        out.writeByte(targetY);
+        out.writeDouble(visualX);
+        out.writeDouble(visualY);
+        out.writeBoolean(isMoving);
+        out.writeLong(lastMoveTime);
+        stats.writeState(out);
+    }
+
+    /**
+     * Relit l'état écrit par {@link #writeState(DataOutput)}.
+     *
+     * @param in Le flux source
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public void readState(DataInput in) throws IOException {
+        player.setPosition(in.readUnsignedByte(), in.readUnsignedByte());
+        targetX = in.readUnsignedByte();
+        targetY = in.readUnsignedByte();
+        visualX = in.readDouble();
+        visualY = in.readDouble();
+        isMoving = in.readBoolean();
+        lastMoveTime = in.readLong();
+        stats.readState(in);
+    }
+}
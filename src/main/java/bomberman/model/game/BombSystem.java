@@ -8,6 +8,7 @@ import bomberman.model.entities.GamePlayer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Système de gestion des bombes et explosions du jeu Bomberman.
@@ -59,6 +60,12 @@ public class BombSystem {
     /** Liste des explosions actives */
     private List<Explosion> explosions;
 
+    /** Écouteur des événements d'explosion (jamais null) */
+    private GameEventListener eventListener = new GameEventListener() {};
+
+    /** Générateur aléatoire des apparitions de power-ups */
+    private Random random = new Random();
+
     /**
      * Constructeur du système de bombes.
      * Initialise toutes les collections d'entités vides.
@@ -115,6 +122,27 @@ public class BombSystem {
             this.isMoving = true;
         }
 
+        /**
+         * Constructeur de restauration d'une bombe en mouvement.
+         * Recrée une animation dans l'état exact où elle a été sauvegardée (rollback).
+         *
+         * @param bomb La bombe animée
+         * @param visualX Position visuelle X en pixels
+         * @param visualY Position visuelle Y en pixels
+         * @param targetX Position cible X en pixels
+         * @param targetY Position cible Y en pixels
+         * @param isMoving true si l'animation n'est pas terminée
+         */
+        public MovingBomb(Bomb bomb, double visualX, double visualY,
+                          double targetX, double targetY, boolean isMoving) {
+            this.bomb = bomb;
+            this.visualX = visualX;
+            this.visualY = visualY;
+            this.targetX = targetX;
+            this.targetY = targetY;
+            this.isMoving = isMoving;
+        }
+
         /**
          * Met à jour la position visuelle de la bombe en mouvement.
          * Calcule la nouvelle position en interpolant vers la destination
@@ -163,6 +191,20 @@ public class BombSystem {
          */
         public double getVisualY() { return visualY; }
 
+        /**
+         * Retourne la position cible X.
+         *
+         * @return La position X de destination en pixels
+         */
+        public double getTargetX() { return targetX; }
+
+        /**
+         * Retourne la position cible Y.
+         *
+         * @return La position Y de destination en pixels
+         */
+        public double getTargetY() { return targetY; }
+
         /**
          * Retourne la bombe associée à ce mouvement.
          *
@@ -189,11 +231,29 @@ public class BombSystem {
      * @param grid La grille de jeu pour validation
      */
     public void placeBomb(int x, int y, int range, GameGrid grid) {
+        placeBomb(x, y, range, grid, 0);
+    }
+
+    /**
+     * Place une nouvelle bombe posée par un joueur, crédité des éliminations
+     * provoquées par son explosion.
+     *
+     * @param x Coordonnée X sur la grille
+     * @param y Coordonnée Y sur la grille
+     * @param range Portée d'explosion de la bombe
+     * @param grid La grille de jeu pour validation
+     * @param owner Le numéro du joueur, 0 si inconnu
+     * @return true si la bombe a été posée
+     */
+    public boolean placeBomb(int x, int y, int range, GameGrid grid, int owner) {
         if (grid.isWalkable(x, y) && !hasBombAt(x, y)) {
             Bomb bomb = new Bomb(x, y);
             bomb.setRange(range);
+            bomb.setOwner(owner);
             bombs.add(bomb);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -384,7 +444,9 @@ public class BombSystem {
      */
     private void explodeBomb(Bomb bomb, GameGrid grid, PowerUpSystem powerUpSystem) {
         int range = bomb.getRange();
-        explosions.add(new Explosion(bomb.getX(), bomb.getY(), 60));
+        addExplosion(bomb.getX(), bomb.getY(), bomb.getOwner());
+        eventListener.onBombExploded(bomb.getX(), bomb.getY(), range);
+        eventListener.onFlame(bomb.getX(), bomb.getY());
 
         // Directions : haut, droite, bas, gauche
         int[] dx = {0, 1, 0, -1};
@@ -399,13 +461,15 @@ public class BombSystem {
                 if (!grid.inBounds(x, y)) break;
                 if (grid.isIndestructibleWall(x, y)) break;
 
-                explosions.add(new Explosion(x, y, 60));
+                addExplosion(x, y, bomb.getOwner());
+                eventListener.onFlame(x, y);
 
                 // Gestion des murs destructibles
                 if (grid.isDestructibleWall(x, y)) {
                     grid.setEmpty(x, y);
+                    eventListener.onWallDestroyed(x, y);
                     // Génération aléatoire de power-up
-                    if (Math.random() < GameConstants.POWERUP_SPAWN_CHANCE) {
+                    if (random.nextDouble() < GameConstants.POWERUP_SPAWN_CHANCE) {
                         powerUpSystem.spawnPowerUp(x, y);
                     }
                     break; // L'explosion s'arrête sur un mur destructible
@@ -414,6 +478,35 @@ public class BombSystem {
         }
     }
 
+    /**
+     * Ajoute une flamme attribuée au joueur qui a posé la bombe.
+     *
+     * @param x Coordonnée X de la flamme
+     * @param y Coordonnée Y de la flamme
+     * @param owner Le numéro du joueur, 0 si inconnu
+     */
+    private void addExplosion(int x, int y, int owner) {
+        Explosion explosion = new Explosion(x, y, 60);
+        explosion.setOwner(owner);
+        explosions.add(explosion);
+    }
+
+    /**
+     * Retourne le joueur dont une flamme couvre une position.
+     *
+     * @param x Coordonnée X à vérifier
+     * @param y Coordonnée Y à vérifier
+     * @return Le numéro du joueur de la première flamme trouvée, 0 si inconnu ou sans flamme
+     */
+    public int getExplosionOwner(int x, int y) {
+        for (Explosion explosion : explosions) {
+            if (explosion.getX() == x && explosion.getY() == y) {
+                return explosion.getOwner();
+            }
+        }
+        return 0;
+    }
+
     /**
      * Vérifie s'il y a une collision avec une explosion à une position.
      * Utilisé pour détecter si un joueur est touché par une explosion.
@@ -437,6 +530,24 @@ public class BombSystem {
         explosions.clear();
     }
 
+    /**
+     * Définit l'écouteur notifié des explosions et destructions de murs.
+     *
+     * @param listener L'écouteur, ou null pour ne plus notifier personne
+     */
+    public void setEventListener(GameEventListener listener) {
+        this.eventListener = listener != null ? listener : new GameEventListener() {};
+    }
+
+    /**
+     * Définit le générateur aléatoire utilisé pour l'apparition des power-ups.
+     *
+     * @param random Le générateur, partagé avec la partie en mode déterministe
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
     // ==================== GETTERS ====================
 
     /**
@@ -2,18 +2,22 @@ package bomberman.model.game;
 
 import bomberman.model.game.GameManager;
 import bomberman.utils.GameConstants;
+import bomberman.controller.game.FramebufferRenderer;
 import bomberman.controller.game.GameInputManager;
 import bomberman.controller.game.GameRenderer;
+import bomberman.controller.game.ParticleSystem;
 import bomberman.controller.game.TextureManager;
 import bomberman.controller.menu.InputHandler;
 import bomberman.model.entities.GamePlayer;
 import bomberman.model.entities.Player;
+import bomberman.network.LockstepClient;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -92,6 +96,21 @@ public class BombermanGame {
     /** Moteur de rendu pour l'affichage */
     private GameRenderer gameRenderer;
 
+    /** Renderer logiciel par framebuffer (null si le rendu Canvas est utilisé) */
+    private FramebufferRenderer framebufferRenderer;
+
+    /** Vue affichant l'image du framebuffer (null si le rendu Canvas est utilisé) */
+    private ImageView framebufferView;
+
+    /** Indique que la fenêtre a changé de taille depuis la dernière frame */
+    private boolean resizePending;
+
+    /** Client lockstep en partie réseau (null en partie locale) */
+    private LockstepClient networkClient;
+
+    /** Système de particules des explosions */
+    private ParticleSystem particleSystem;
+
     /** Gestionnaire des entrées de jeu */
     private GameInputManager inputManager;
 
@@ -106,6 +125,15 @@ public class BombermanGame {
     /** Nombre de joueurs dans la partie (2-4) */
     private int playerCount = 2;
 
+    /** Largeur de la grille générée, en cases */
+    private int gridWidth = GameConstants.GRID_WIDTH;
+
+    /** Hauteur de la grille générée, en cases */
+    private int gridHeight = GameConstants.GRID_HEIGHT;
+
+    /** Active le rendu logiciel par framebuffer (propriété système bomberman.framebuffer) */
+    private boolean framebufferRendering = Boolean.getBoolean("bomberman.framebuffer");
+
     /**
      * Constructeur par défaut du jeu Bomberman.
      * Initialise une instance de jeu avec la configuration par défaut.
@@ -135,6 +163,40 @@ public class BombermanGame {
         return playerCount;
     }
 
+    /**
+     * Définit la taille de la grille générée pour les parties sans niveau personnalisé.
+     * Les grilles plus grandes que la fenêtre sont parcourues par la caméra
+     * qui suit les joueurs. Cette méthode doit être appelée avant {@link #startGame(Stage)}.
+     *
+     * @param width Largeur en cases (au minimum {@link GameConstants#GRID_WIDTH})
+     * @param height Hauteur en cases (au minimum {@link GameConstants#GRID_HEIGHT})
+     */
+    public void setGridSize(int width, int height) {
+        this.gridWidth = Math.max(GameConstants.GRID_WIDTH, width);
+        this.gridHeight = Math.max(GameConstants.GRID_HEIGHT, height);
+    }
+
+    /**
+     * Active ou désactive le rendu logiciel par framebuffer.
+     * Lorsqu'il est actif, chaque frame est rasterisée dans un tableau de pixels
+     * puis présentée via un {@code ImageView} au lieu d'être dessinée sur le Canvas.
+     * Cette méthode doit être appelée avant {@link #startGame(Stage)}.
+     *
+     * @param enabled true pour utiliser le {@link FramebufferRenderer}
+     */
+    public void setFramebufferRendering(boolean enabled) {
+        this.framebufferRendering = enabled;
+    }
+
+    /**
+     * Indique si le rendu logiciel par framebuffer est utilisé.
+     *
+     * @return true si le FramebufferRenderer est actif
+     */
+    public boolean isFramebufferRendering() {
+        return framebufferRendering;
+    }
+
     /**
      * Démarre une nouvelle partie avec un niveau par défaut.
      * Surcharge de convénience qui appelle {@link #startGame(Stage, File)}
@@ -161,6 +223,8 @@ public class BombermanGame {
         // Initialiser les systèmes
         textureManager = new TextureManager();
         gameManager = new GameManager(playerCount);
+        particleSystem = new ParticleSystem();
+        gameManager.setEventListener(particleSystem);
 
         // Initialiser la grille
         GameGrid grid;
@@ -180,6 +244,30 @@ public class BombermanGame {
         startGameLoop();
     }
 
+    /**
+     * Démarre une partie en réseau.
+     * La simulation est celle du client lockstep, identique chez tous les pairs ;
+     * le joueur local utilise les commandes du joueur 1 (flèches + Entrée),
+     * quel que soit son numéro dans la partie.
+     *
+     * @param stage La fenêtre JavaFX pour afficher le jeu
+     * @param client Le client connecté au serveur lockstep
+     */
+    public void startNetworkGame(Stage stage, LockstepClient client) {
+        this.gameStage = stage;
+        this.networkClient = client;
+        this.playerCount = client.getPlayerCount();
+
+        textureManager = new TextureManager();
+        gameManager = client.getGameManager();
+        particleSystem = new ParticleSystem();
+        gameManager.setEventListener(particleSystem);
+
+        setupUI(stage);
+        gameStage.setTitle(gameStage.getTitle() + " (réseau, joueur " + client.getPlayerNumber() + ")");
+        startGameLoop();
+    }
+
     /**
      * Crée un niveau par défaut avec génération procédurale.
      * Utilise l'algorithme de génération intégré pour créer
@@ -188,7 +276,7 @@ public class BombermanGame {
      * @return Une nouvelle grille de jeu générée procéduralement
      */
     private GameGrid createDefaultLevel() {
-        GameGrid grid = new GameGrid(GameConstants.GRID_WIDTH, GameConstants.GRID_HEIGHT);
+        GameGrid grid = new GameGrid(gridWidth, gridHeight);
         grid.generate();
         return grid;
     }
@@ -296,11 +384,25 @@ public class BombermanGame {
 
         // Initialiser le renderer
         gameRenderer = new GameRenderer(gc, textureManager);
-
-        // Créer la scène
-        VBox root = new VBox(canvas);
+        gameRenderer.setParticleSystem(particleSystem);
+
+        // Créer la scène (ImageView alimentée par le framebuffer si activé)
+        VBox root;
+        if (framebufferRendering) {
+            framebufferRenderer = new FramebufferRenderer(textureManager);
+            framebufferRenderer.setParticleSystem(particleSystem);
+            framebufferView = new ImageView(framebufferRenderer.getImage());
+            root = new VBox(framebufferView);
+            root.setFocusTraversable(true);
+        } else {
+            root = new VBox(canvas);
+        }
         Scene scene = new Scene(root);
 
+        // Redimensionnement appliqué une seule fois, à la frame suivante
+        scene.widthProperty().addListener((obs, oldValue, newValue) -> resizePending = true);
+        scene.heightProperty().addListener((obs, oldValue, newValue) -> resizePending = true);
+
         // Initialiser l'input manager
         inputHandler = new InputHandler(scene);
         inputManager = new GameInputManager(inputHandler);
@@ -316,9 +418,14 @@ public class BombermanGame {
         }
         gameStage.setTitle(title);
 
-        gameStage.setResizable(false);
+        gameStage.setResizable(true);
+        gameStage.setFullScreenExitHint("F11 pour quitter le plein écran");
         gameStage.show();
-        canvas.requestFocus();
+        if (framebufferRendering) {
+            root.requestFocus();
+        } else {
+            canvas.requestFocus();
+        }
     }
 
     /**
@@ -344,8 +451,13 @@ public class BombermanGame {
         if (!gameManager.isGameRunning()) return;
 
         try {
-            handleInput();
-            gameManager.update();
+            if (networkClient != null) {
+                updateNetwork();
+            } else {
+                handleInput();
+                gameManager.update();
+            }
+            particleSystem.update();
         } catch (Exception e) {
             System.err.println("Erreur dans la boucle de jeu: " + e.getMessage());
             e.printStackTrace();
@@ -366,6 +478,11 @@ public class BombermanGame {
             return;
         }
 
+        if (inputManager.isFullScreenTogglePressed()) {
+            gameStage.setFullScreen(!gameStage.isFullScreen());
+            inputManager.releaseFullScreenToggle();
+        }
+
         // Gérer les entrées de tous les joueurs actifs
         for (GamePlayer player : gameManager.getPlayers()) {
             if (!player.getStats().isEliminated()) {
@@ -374,6 +491,48 @@ public class BombermanGame {
         }
     }
 
+    /**
+     * Avance une partie réseau d'une frame.
+     * Envoie la commande du joueur local puis simule toutes les trames
+     * déjà reçues du serveur ; la simulation n'avance jamais sans elles.
+     *
+     * @throws IOException en cas d'erreur de communication avec le serveur
+     */
+    private void updateNetwork() throws IOException {
+        if (inputManager.isEscapePressed()) {
+            stopGame();
+            networkClient.close();
+            return;
+        }
+
+        if (inputManager.isFullScreenTogglePressed()) {
+            gameStage.setFullScreen(!gameStage.isFullScreen());
+            inputManager.releaseFullScreenToggle();
+        }
+
+        int input = readPlayerInput(1);
+        if (networkClient.submitInput(input) && PlayerInput.isBomb(input)) {
+            releasePlayerKey(1, "BOMB");
+        }
+        networkClient.advance();
+    }
+
+    /**
+     * Lit les touches d'un schéma de contrôle et les encode en commande.
+     * Une seule direction est retenue, par ordre de priorité gauche, droite, haut, bas.
+     *
+     * @param playerNum Le numéro du schéma de touches (1-4)
+     * @return La commande encodée ({@link PlayerInput})
+     */
+    private int readPlayerInput(int playerNum) {
+        int direction = PlayerInput.NONE;
+        if (isPlayerKeyPressed(playerNum, "LEFT")) direction = PlayerInput.LEFT;
+        else if (isPlayerKeyPressed(playerNum, "RIGHT")) direction = PlayerInput.RIGHT;
+        else if (isPlayerKeyPressed(playerNum, "UP")) direction = PlayerInput.UP;
+        else if (isPlayerKeyPressed(playerNum, "DOWN")) direction = PlayerInput.DOWN;
+        return PlayerInput.of(direction, isPlayerKeyPressed(playerNum, "BOMB"));
+    }
+
     /**
      * Gère les entrées spécifiques à un joueur.
      * Traite les commandes de mouvement et de placement de bombes
@@ -383,35 +542,12 @@ public class BombermanGame {
      * @param currentTime Le timestamp actuel pour les cooldowns
      */
     private void handlePlayerInput(GamePlayer player, long currentTime) {
-        // Gestion du mouvement
-        if (player.canMoveNow(currentTime)) {
-            int newX = player.getTargetX();
-            int newY = player.getTargetY();
-
-            int playerNum = player.getPlayerNumber();
-
-            // Vérifier les touches directionnelles
-            if (isPlayerKeyPressed(playerNum, "LEFT")) newX--;
-            else if (isPlayerKeyPressed(playerNum, "RIGHT")) newX++;
-            else if (isPlayerKeyPressed(playerNum, "UP")) newY--;
-            else if (isPlayerKeyPressed(playerNum, "DOWN")) newY++;
-
-            // Appliquer le mouvement si valide
-            if ((newX != player.getTargetX() || newY != player.getTargetY())) {
-                if (gameManager.canPlayerMoveTo(player, newX, newY)) {
-                    player.setTarget(newX, newY);
-                    player.startMoving(currentTime);
-                }
-            }
-        }
+        int playerNum = player.getPlayerNumber();
+        int input = readPlayerInput(playerNum);
 
-        // Gestion du placement de bombes
-        if (isPlayerKeyPressed(player.getPlayerNumber(), "BOMB")) {
-            if (player.getStats().canPlaceBomb(currentTime)) {
-                gameManager.placeBombForPlayer(player);
-                player.getStats().setLastBombTime(currentTime);
-                releasePlayerKey(player.getPlayerNumber(), "BOMB");
-            }
+        // Mouvement et bombe appliqués par le GameManager, comme en partie réseau
+        if (gameManager.applyPlayerInput(player, input, currentTime)) {
+            releasePlayerKey(playerNum, "BOMB");
         }
     }
 
@@ -501,19 +637,20 @@ public class BombermanGame {
     /**
      * Effectue le rendu d'une frame du jeu.
      * Délègue au GameRenderer l'affichage du jeu en cours ou
-     * de l'écran de fin de partie selon l'état actuel.
+     * de l'écran de fin de partie selon l'état actuel. Le jeu en cours
+     * est dessiné à partir du dernier instantané publié par la simulation.
      */
     private void render() {
+        if (resizePending) {
+            applyResize();
+        }
+        if (framebufferRenderer != null) {
+            renderFramebuffer();
+            return;
+        }
         try {
             if (gameManager.isGameRunning()) {
-                gameRenderer.renderGame(
-                        gameManager.getGrid(),
-                        gameManager.getPlayers(),
-                        gameManager.getBombSystem(),
-                        gameManager.getPowerUpSystem(),
-                        gameManager.getGameTimer(),
-                        playerCount
-                );
+                gameRenderer.render(gameManager.getRenderSnapshots().acquire());
             } else {
                 // Afficher l'écran de fin de partie
                 String winner = gameManager.getWinnerText();
@@ -524,6 +661,42 @@ public class BombermanGame {
         }
     }
 
+    /**
+     * Adapte la surface de rendu à la taille actuelle de la fenêtre.
+     * Le renderer recalcule alors la taille de case et régénère ses sprites
+     * une seule fois, au lieu de les redimensionner à chaque dessin.
+     */
+    private void applyResize() {
+        resizePending = false;
+        Scene scene = gameStage.getScene();
+        int width = (int) scene.getWidth();
+        int height = (int) scene.getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        if (framebufferRenderer != null) {
+            framebufferRenderer.resize(width, height);
+            framebufferView.setImage(framebufferRenderer.getImage());
+        } else {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+            gameRenderer.resize(width, height);
+        }
+    }
+
+    /**
+     * Effectue le rendu d'une frame via le framebuffer logiciel.
+     * La frame est entièrement rasterisée en mémoire puis présentée
+     * à JavaFX en une seule mise à jour de l'image.
+     */
+    private void renderFramebuffer() {
+        if (gameManager.isGameRunning()) {
+            framebufferRenderer.render(gameManager.getRenderSnapshots().acquire());
+        } else {
+            framebufferRenderer.renderGameOver(gameManager.getWinnerText());
+        }
+        framebufferRenderer.present();
+    }
+
     /**
      * Arrête la partie en cours.
      * Marque le jeu comme non actif et interrompt la boucle de jeu.
@@ -552,6 +725,7 @@ public class BombermanGame {
     public void restartGame() {
         if (gameManager != null) {
             gameManager.restartGame();
+            particleSystem.clear();
             if (gameLoop != null) {
                 gameLoop.play();
             }
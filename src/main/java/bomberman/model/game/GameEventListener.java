@@ -0,0 +1,55 @@
+package bomberman.model.game;
+
+/**
+ * Écouteur des événements ponctuels de la simulation du jeu Bomberman.
+ * Cette interface permet à des couches extérieures à la logique de jeu
+ * (effets visuels, sons, statistiques) de réagir aux événements sans que
+ * les systèmes de jeu n'en dépendent. Toutes les méthodes ont une
+ * implémentation vide par défaut : un écouteur ne redéfinit que celles
+ * qui l'intéressent.
+ *
+ * <p>Les coordonnées transmises sont des coordonnées de grille (colonne, ligne).
+ * Les méthodes sont appelées pendant la mise à jour du jeu et doivent donc
+ * rester rapides et ne pas allouer inutilement.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public interface GameEventListener {
+
+    /**
+     * Appelée lorsqu'une bombe explose.
+     *
+     * @param x Colonne de la bombe
+     * @param y Ligne de la bombe
+     * @param range Portée de l'explosion
+     */
+    default void onBombExploded(int x, int y, int range) {}
+
+    /**
+     * Appelée pour chaque case atteinte par une flamme (case centrale comprise).
+     *
+     * @param x Colonne de la case
+     * @param y Ligne de la case
+     */
+    default void onFlame(int x, int y) {}
+
+    /**
+     * Appelée lorsqu'un mur destructible est détruit par une explosion.
+     *
+     * @param x Colonne du mur
+     * @param y Ligne du mur
+     */
+    default void onWallDestroyed(int x, int y) {}
+
+    /**
+     * Appelée lorsqu'un joueur est touché par une explosion et perd une vie.
+     *
+     * @param playerNumber Numéro du joueur (1-4)
+     * @param livesLeft Vies restantes (0 si le joueur est éliminé)
+     * @param x Colonne où le joueur a été touché
+     * @param y Ligne où le joueur a été touché
+     */
+    default void onPlayerDeath(int playerNumber, int livesLeft, int x, int y) {}
+}
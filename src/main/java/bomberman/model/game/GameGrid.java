@@ -64,9 +64,6 @@ public class GameGrid {
     /** Matrice 2D stockant les types de cellules [y][x] */
     private final int[][] grid;
 
-    /** Gestionnaire de textures pour le rendu visuel */
-    private final TextureManager textureManager;
-
     // ==================== CONSTANTES DE TYPES DE CELLULES ====================
 
     /** Case vide, praticable par les joueurs et entités */
@@ -96,7 +93,6 @@ public class GameGrid {
         this.width = width;
         this.height = height;
         this.grid = new int[height][width];
-        this.textureManager = TextureManager.getInstance();
     }
 
     /**
@@ -121,8 +117,17 @@ public class GameGrid {
      * </ul>
      */
     public void generate() {
-        Random rand = new Random();
+        generate(new Random());
+    }
 
+    /**
+     * Génère un niveau de jeu procédural à partir d'un générateur donné.
+     * Avec un générateur initialisé par une graine, le niveau produit est
+     * identique sur toutes les machines (parties en réseau, replays).
+     *
+     * @param rand Le générateur aléatoire à utiliser
+     */
+    public void generate(Random rand) {
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
                 if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
@@ -280,6 +285,32 @@ public class GameGrid {
         return height;
     }
 
+    /**
+     * Copie les types de cellules dans un tableau à plat, ligne par ligne.
+     * La cellule (x, y) est placée à l'indice {@code y * width + x}. Utilisé
+     * par les instantanés de rendu pour figer le terrain sans allocation.
+     *
+     * @param destination Le tableau de destination (au moins width * height cases)
+     */
+    public void copyCells(int[] destination) {
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(grid[y], 0, destination, y * width, width);
+        }
+    }
+
+    /**
+     * Restaure les types de cellules depuis un tableau à plat, ligne par ligne.
+     * Opération inverse de {@link #copyCells(int[])}, utilisée pour revenir
+     * à un état sauvegardé de la partie (rollback).
+     *
+     * @param source Le tableau source (au moins width * height cases)
+     */
+    public void restoreCells(int[] source) {
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(source, y * width, grid[y], 0, width);
+        }
+    }
+
     /**
      * Effectue le rendu visuel de la grille complète.
      * Dessine toutes les cellules avec leurs textures appropriées ou des fallbacks
@@ -304,14 +335,43 @@ public class GameGrid {
      * @param gc Le contexte graphique JavaFX pour le dessin
      */
     public void render(GraphicsContext gc) {
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
+        render(gc, 0, 0, width - 1, height - 1);
+    }
+
+    /**
+     * Effectue le rendu visuel d'une portion rectangulaire de la grille.
+     * Seules les cellules comprises entre les bornes (incluses) sont dessinées,
+     * ce qui permet à une caméra de ne rendre que la zone visible d'une grande carte.
+     * Les bornes sont ramenées automatiquement aux limites de la grille.
+     *
+     * @param gc Le contexte graphique JavaFX pour le dessin
+     * @param firstX Première colonne à dessiner
+     * @param firstY Première ligne à dessiner
+     * @param lastX Dernière colonne à dessiner
+     * @param lastY Dernière ligne à dessiner
+     */
+    public void render(GraphicsContext gc, int firstX, int firstY, int lastX, int lastY) {
+        int minX = Math.max(0, firstX);
+        int minY = Math.max(0, firstY);
+        int maxX = Math.min(width - 1, lastX);
+        int maxY = Math.min(height - 1, lastY);
+
+        // Textures récupérées une seule fois par frame (gestionnaire chargé au premier rendu :
+        // une grille simulée par le serveur dédié ne charge aucune image)
+        TextureManager textureManager = TextureManager.getInstance();
+        Image groundTexture = textureManager.getTexture("ground");
+        Image wallIndestructibleTexture = textureManager.getTexture("wall_indestructible");
+        Image wallDestructibleTexture = textureManager.getTexture("wall_destructible");
+        Image powerUpBombTexture = textureManager.getTexture("powerup_bomb");
+        Image powerUpFireTexture = textureManager.getTexture("powerup_fire");
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
                 int tileType = grid[y][x];
                 int pixelX = x * GameConstants.TILE_SIZE;
                 int pixelY = y * GameConstants.TILE_SIZE;
 
                 // Dessiner le sol en arrière-plan pour toutes les cases
-                Image groundTexture = textureManager.getTexture("ground");
                 if (groundTexture != null) {
                     gc.drawImage(groundTexture, pixelX, pixelY,
                             GameConstants.TILE_SIZE, GameConstants.TILE_SIZE);
@@ -325,16 +385,16 @@ public class GameGrid {
                 Image texture = null;
                 switch (tileType) {
                     case WALL_INDESTRUCTIBLE:
-                        texture = textureManager.getTexture("wall_indestructible");
+                        texture = wallIndestructibleTexture;
                         break;
                     case WALL_DESTRUCTIBLE:
-                        texture = textureManager.getTexture("wall_destructible");
+                        texture = wallDestructibleTexture;
                         break;
                     case POWERUP_BOMB:
-                        texture = textureManager.getTexture("powerup_bomb");
+                        texture = powerUpBombTexture;
                         break;
                     case POWERUP_FIRE:
-                        texture = textureManager.getTexture("powerup_fire");
+                        texture = powerUpFireTexture;
                         break;
                     // EMPTY ne nécessite aucune texture supplémentaire
                 }
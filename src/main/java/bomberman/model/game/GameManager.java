@@ -1,9 +1,16 @@
 package bomberman.model.game;
 
+import bomberman.model.profile.MatchRecord;
 import bomberman.model.profile.PlayerProfile;
 import bomberman.model.profile.PlayerProfileManager;
 import bomberman.model.ai.AIPlayer;
+import bomberman.model.entities.Bomb;
+import bomberman.model.entities.Explosion;
 import bomberman.model.entities.GamePlayer;
+import bomberman.model.profile.PlayerStats;
+import bomberman.model.profile.Rating;
+import bomberman.model.profile.RatingSystem;
+import bomberman.utils.GameConstants;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,8 +51,15 @@ import java.util.List;
  *   <li>Collecte des power-ups</li>
  *   <li>Vérification des collisions d'explosion</li>
  *   <li>Contrôle des conditions de fin de partie</li>
+ *   <li>Publication de l'instantané de rendu ({@link RenderSnapshot})</li>
  * </ol>
  *
+ * <p>Mode déterministe : après {@link #setSeed(long)}, tout l'aléatoire de la partie
+ * provient d'un générateur unique et le temps est mesuré en ticks. La partie peut alors
+ * être avancée par {@link #step(int)} avec une trame de commandes ({@link PlayerInput}) ;
+ * deux instances recevant les mêmes trames restent identiques, ce que vérifie
+ * {@link #checksum()} (multijoueur en lockstep).</p>
+ *
  * <p>Positions de spawn par défaut :</p>
  * <ul>
  *   <li><strong>Joueur 1</strong> : (1, 1) - Coin haut-gauche</li>
@@ -87,6 +101,24 @@ public class GameManager {
     /** État de fonctionnement de la partie */
     private boolean gameRunning;
 
+    /** Nombre de ticks de simulation depuis le début de la partie */
+    private long tickCount;
+
+    /** Instantanés de rendu publiés à chaque tick pour les renderers */
+    private final RenderSnapshotBuffer renderSnapshots = new RenderSnapshotBuffer();
+
+    /** Générateur aléatoire de la partie (initialisé par une graine en mode déterministe) */
+    private final GameRandom random = new GameRandom();
+
+    /** Écouteur des événements de jeu transmis aux sous-systèmes */
+    private GameEventListener eventListener;
+
+    /** Mode serveur : ni instantanés de rendu, ni mise à jour du profil local */
+    private boolean headless;
+
+    /** Numéro du joueur contrôlé sur cette machine, crédité au profil courant */
+    private int localPlayerNumber = 1;
+
     /**
      * Constructeur du gestionnaire de jeu.
      * Initialise tous les sous-systèmes et configure le nombre de joueurs.
@@ -102,6 +134,8 @@ public class GameManager {
         this.powerUpSystem = new PowerUpSystem();
         this.gameTimer = new GameTimer();
         this.gameRunning = false;
+        bombSystem.setRandom(random);
+        powerUpSystem.setRandom(random);
     }
 
     /**
@@ -118,7 +152,9 @@ public class GameManager {
         bombSystem.clear();
         powerUpSystem.clear();
         gameTimer.reset();
+        tickCount = 0;
         gameRunning = true;
+        publishRenderSnapshot();
     }
 
     /**
@@ -136,12 +172,14 @@ public class GameManager {
     private void initializePlayers() {
         players.clear();
 
-        // Positions de spawn optimisées pour l'équilibrage
+        // Positions de spawn optimisées pour l'équilibrage (relatives à la taille de la grille)
+        int right = (grid != null ? grid.getWidth() : GameConstants.GRID_WIDTH) - 2;
+        int bottom = (grid != null ? grid.getHeight() : GameConstants.GRID_HEIGHT) - 2;
         int[][] spawnPositions = {
-                {1, 1},     // Joueur 1 - Coin haut-gauche
-                {13, 11},   // Joueur 2 - Coin bas-droite (diagonale)
-                {13, 1},    // Joueur 3 - Coin haut-droite
-                {1, 11}     // Joueur 4 - Coin bas-gauche (diagonale)
+                {1, 1},             // Joueur 1 - Coin haut-gauche
+                {right, bottom},    // Joueur 2 - Coin bas-droite (diagonale)
+                {right, 1},         // Joueur 3 - Coin haut-droite
+                {1, bottom}         // Joueur 4 - Coin bas-gauche (diagonale)
         };
 
         for (int i = 0; i < playerCount; i++) {
@@ -164,11 +202,13 @@ public class GameManager {
      *   <li>Collecte de power-ups</li>
      *   <li>Collisions avec explosions</li>
      *   <li>Conditions de fin de partie</li>
+     *   <li>Publication de l'instantané de rendu</li>
      * </ol>
      */
     public void update() {
         if (!gameRunning) return;
 
+        tickCount++;
         gameTimer.update();
 
         // Mise à jour des joueurs actifs
@@ -183,6 +223,187 @@ public class GameManager {
         updatePowerUpCollections();
         checkExplosionCollisions();
         checkGameEnd();
+        publishRenderSnapshot();
+    }
+
+    // ==================== SIMULATION DÉTERMINISTE ====================
+
+    /**
+     * Crée une partie déterministe prête à jouer : graine fixée, grille générée
+     * avec le générateur de la partie, joueurs placés. Deux appels avec les mêmes
+     * paramètres donnent deux parties identiques (pairs lockstep, serveur et
+     * clients dédiés, relecture de replays).
+     *
+     * @param playerCount Le nombre de joueurs (2-4)
+     * @param seed La graine de la partie
+     * @param headless true pour une simulation sans interface (serveur, tests)
+     * @return La partie initialisée, au tick 0
+     */
+    public static GameManager createSeededMatch(int playerCount, long seed, boolean headless) {
+        GameManager manager = new GameManager(playerCount);
+        manager.setHeadless(headless);
+        manager.setSeed(seed);
+        GameGrid grid = new GameGrid(GameConstants.GRID_WIDTH, GameConstants.GRID_HEIGHT);
+        grid.generate(manager.getRandom());
+        manager.initializeGame(grid);
+        return manager;
+    }
+
+    /**
+     * Passe la partie en mode déterministe.
+     * Le générateur aléatoire est initialisé avec la graine et partagé avec les
+     * systèmes de bombes et de power-ups, et le timer de partie suit le nombre de
+     * ticks au lieu de l'horloge système. À appeler avant de générer la grille
+     * avec {@link #getRandom()} puis d'appeler {@link #initializeGame(GameGrid)}.
+     *
+     * @param seed La graine commune à tous les pairs
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+        gameTimer.setTimeSource(() -> tickCount * GameConstants.TICK_DURATION / 1_000_000);
+    }
+
+    /**
+     * Retourne le générateur aléatoire de la partie.
+     *
+     * @return Le générateur (initialisé par {@link #setSeed(long)} en mode déterministe)
+     */
+    public GameRandom getRandom() { return random; }
+
+    /**
+     * Avance la simulation d'un tick en appliquant une trame de commandes.
+     * Le temps utilisé pour les délais de mouvement et de bombe est dérivé
+     * du numéro de tick, jamais de l'horloge système.
+     *
+     * @param frame La trame des commandes de tous les joueurs ({@link PlayerInput})
+     */
+    public void step(int frame) {
+        if (!gameRunning) return;
+
+        long currentTime = (tickCount + 1) * GameConstants.TICK_DURATION;
+        for (int i = 0; i < players.size(); i++) {
+            GamePlayer player = players.get(i);
+            if (!player.getStats().isEliminated()) {
+                applyPlayerInput(player, PlayerInput.unpack(frame, i), currentTime);
+            }
+        }
+        update();
+    }
+
+    /**
+     * Applique la commande d'un joueur : déplacement d'une case puis pose de bombe.
+     * Le mouvement n'est accepté que si le joueur est disponible et la case praticable,
+     * la bombe que si le délai de recharge est écoulé.
+     *
+     * @param player Le joueur concerné
+     * @param input La commande du joueur ({@link PlayerInput})
+     * @param currentTime Le temps courant en nanosecondes
+     * @return true si une bombe a été posée
+     */
+    public boolean applyPlayerInput(GamePlayer player, int input, long currentTime) {
+        if (player.getStats().isEliminated()) return false;
+
+        if (PlayerInput.direction(input) != PlayerInput.NONE && player.canMoveNow(currentTime)) {
+            int newX = player.getTargetX() + PlayerInput.deltaX(input);
+            int newY = player.getTargetY() + PlayerInput.deltaY(input);
+            if (canPlayerMoveTo(player, newX, newY)) {
+                player.setTarget(newX, newY);
+                player.startMoving(currentTime);
+            }
+        }
+
+        if (PlayerInput.isBomb(input) && player.getStats().canPlaceBomb(currentTime)) {
+            placeBombForPlayer(player);
+            player.getStats().setLastBombTime(currentTime);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calcule une empreinte de l'état de la simulation (FNV-1a 64 bits).
+     * Couvre la grille, les joueurs, les bombes, les explosions et les power-ups :
+     * deux pairs en lockstep dont les empreintes diffèrent pour un même tick
+     * sont désynchronisés.
+     *
+     * @return L'empreinte de l'état courant
+     */
+    public long checksum() {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, tickCount);
+
+        if (grid != null) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                for (int x = 0; x < grid.getWidth(); x++) {
+                    hash = mix(hash, grid.getCellType(x, y));
+                }
+            }
+        }
+
+        for (GamePlayer player : players) {
+            PlayerStats stats = player.getStats();
+            hash = mix(hash, player.getPlayer().getX());
+            hash = mix(hash, player.getPlayer().getY());
+            hash = mix(hash, player.getTargetX());
+            hash = mix(hash, player.getTargetY());
+            hash = mix(hash, Double.doubleToLongBits(player.getVisualX()));
+            hash = mix(hash, Double.doubleToLongBits(player.getVisualY()));
+            hash = mix(hash, player.getLastMoveTime());
+            hash = mix(hash, stats.getLives());
+            hash = mix(hash, stats.isEliminated() ? 1 : 0);
+            hash = mix(hash, stats.getInvincibilityTimer());
+            hash = mix(hash, stats.getBombRange());
+            hash = mix(hash, Double.doubleToLongBits(stats.getSpeed()));
+            hash = mix(hash, stats.getLastBombTime());
+        }
+
+        for (Bomb bomb : bombSystem.getBombs()) {
+            hash = mix(hash, bomb.getX());
+            hash = mix(hash, bomb.getY());
+            hash = mix(hash, bomb.getTimer());
+            hash = mix(hash, bomb.getRange());
+        }
+        for (BombSystem.MovingBomb movingBomb : bombSystem.getMovingBombs()) {
+            hash = mix(hash, Double.doubleToLongBits(movingBomb.getVisualX()));
+            hash = mix(hash, Double.doubleToLongBits(movingBomb.getVisualY()));
+        }
+        for (Explosion explosion : bombSystem.getExplosions()) {
+            hash = mix(hash, explosion.getX());
+            hash = mix(hash, explosion.getY());
+            hash = mix(hash, explosion.getTimer());
+        }
+        for (PowerUpSystem.PowerUp powerUp : powerUpSystem.getPowerUps()) {
+            hash = mix(hash, powerUp.getX());
+            hash = mix(hash, powerUp.getY());
+            hash = mix(hash, powerUp.getType().ordinal());
+        }
+        return hash;
+    }
+
+    /**
+     * Ajoute une valeur à une empreinte FNV-1a, octet par octet.
+     *
+     * @param hash L'empreinte courante
+     * @param value La valeur à intégrer
+     * @return L'empreinte mise à jour
+     */
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Capture l'état visible du jeu et le publie pour les renderers.
+     * Appelée à la fin de chaque tick : le renderer lit ensuite cet instantané
+     * au lieu des listes vivantes, éventuellement depuis un autre thread.
+     */
+    private void publishRenderSnapshot() {
+        if (headless) return;
+        renderSnapshots.beginWrite().capture(this);
+        renderSnapshots.publish();
     }
 
     /**
@@ -223,7 +444,7 @@ public class GameManager {
                 int x = player.getPlayer().getX();
                 int y = player.getPlayer().getY();
                 if (bombSystem.checkExplosionCollision(x, y)) {
-                    handlePlayerDeath(player);
+                    handlePlayerDeath(player, bombSystem.getExplosionOwner(x, y));
                     return; // Sortir après la première mort pour éviter les problèmes de concurrence
                 }
             }
@@ -233,16 +454,27 @@ public class GameManager {
     /**
      * Gère la mort d'un joueur suite à une explosion.
      * Applique les dégâts, vérifie l'élimination et gère le respawn
-     * avec periode d'invincibilité appropriée.
+     * avec periode d'invincibilité appropriée. Une élimination est créditée au
+     * joueur dont la bombe a provoqué la flamme (sauf s'il s'est éliminé lui-même).
      *
      * @param player Le joueur qui a subi des dégâts
+     * @param killer Le numéro du joueur auteur de la flamme, 0 si inconnu
      */
-    private void handlePlayerDeath(GamePlayer player) {
+    private void handlePlayerDeath(GamePlayer player, int killer) {
         player.getStats().takeDamage();
         System.out.println("Joueur " + player.getPlayerNumber() + " mort! Vies restantes: " +
                 player.getStats().getLives());
+        if (eventListener != null) {
+            eventListener.onPlayerDeath(player.getPlayerNumber(), player.getStats().getLives(),
+                    player.getPlayer().getX(), player.getPlayer().getY());
+        }
 
         if (player.getStats().isEliminated()) {
+            player.getStats().setEliminationTick(tickCount);
+            GamePlayer credited = findPlayer(killer);
+            if (credited != null && credited != player) {
+                credited.getStats().incrementKills();
+            }
             System.out.println("🔥 Joueur " + player.getPlayerNumber() + " ÉLIMINÉ!");
         } else {
             player.respawn();
@@ -283,21 +515,25 @@ public class GameManager {
     /**
      * Gère la victoire d'un joueur.
      * Met à jour les statistiques du profil actuel si configuré
-     * et enregistre la partie gagnée pour le joueur 1.
+     * et enregistre la partie gagnée pour le joueur local.
      *
      * @param winner Le joueur gagnant
      */
     private void handleGameWin(GamePlayer winner) {
+        if (headless) return;
+
         // Mettre à jour les profils de joueur si nécessaire
         PlayerProfileManager profileManager = PlayerProfileManager.getInstance();
         PlayerProfile profile = profileManager.getCurrentProfile();
 
         if (profile != null) {
             profile.incrementGamesPlayed();
-            if (winner.getPlayerNumber() == 1) {
+            if (winner.getPlayerNumber() == localPlayerNumber) {
                 profile.incrementGamesWon();
             }
-            profileManager.saveProfiles();
+            recordMatch(profile);
+            updateRatings(profileManager, profile);
+            profileManager.saveProfile(profile);
         }
 
         System.out.println("Joueur " + winner.getPlayerNumber() + " gagne!");
@@ -309,17 +545,116 @@ public class GameManager {
      * mais aucune victoire enregistrée.
      */
     private void handleGameDraw() {
+        if (headless) return;
+
         PlayerProfileManager profileManager = PlayerProfileManager.getInstance();
         PlayerProfile profile = profileManager.getCurrentProfile();
 
         if (profile != null) {
             profile.incrementGamesPlayed();
-            profileManager.saveProfiles();
+            recordMatch(profile);
+            updateRatings(profileManager, profile);
+            profileManager.saveProfile(profile);
         }
 
         System.out.println("Match nul!");
     }
 
+    /**
+     * Ajoute la partie terminée à l'historique du profil, du point de vue du joueur local.
+     *
+     * @param profile Le profil du joueur local
+     */
+    private void recordMatch(PlayerProfile profile) {
+        GamePlayer player = findPlayer(localPlayerNumber);
+        if (player == null) return;
+        PlayerStats stats = player.getStats();
+        int placement = getPlacement(player);
+        int tied = 0;
+        for (GamePlayer other : players) {
+            if (other != player && getPlacement(other) == placement) tied++;
+        }
+        profile.recordMatch(new MatchRecord(
+                System.currentTimeMillis() / 1000,
+                aiMode ? MatchRecord.MODE_AI : MatchRecord.MODE_CLASSIC,
+                players.size(),
+                placement,
+                tied,
+                (int) (tickCount * GameConstants.TICK_DURATION / 1_000_000_000L),
+                stats.getKills(),
+                stats.getBombsPlaced(),
+                stats.getPowerUpsCollected()));
+    }
+
+    /**
+     * Met à jour les notes de niveau des participants notés : le joueur local
+     * (profil courant) et, en mode IA, le profil des bots. Les autres joueurs
+     * n'ont pas de profil sur cette machine et comptent avec la note initiale.
+     *
+     * <p>Le profil des bots, qui occupe plusieurs places, prend la note de sa
+     * mieux classée.</p>
+     *
+     * @param profileManager Le gestionnaire des profils
+     * @param profile Le profil du joueur local
+     */
+    private void updateRatings(PlayerProfileManager profileManager, PlayerProfile profile) {
+        PlayerProfile bot = aiMode ? profileManager.getBotProfile() : null;
+        Rating[] ratings = new Rating[players.size()];
+        int[] placements = new int[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            GamePlayer player = players.get(i);
+            ratings[i] = player.getPlayerNumber() == localPlayerNumber ? profile.getRating()
+                    : bot != null ? bot.getRating() : Rating.DEFAULT;
+            placements[i] = getPlacement(player);
+        }
+
+        Rating[] updated = RatingSystem.update(ratings, placements);
+        int bestBot = -1;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getPlayerNumber() == localPlayerNumber) {
+                profile.setRating(updated[i]);
+            } else if (bestBot < 0 || placements[i] < placements[bestBot]) {
+                bestBot = i;
+            }
+        }
+        if (bot != null && bestBot >= 0) {
+            bot.setRating(updated[bestBot]);
+            profileManager.saveProfile(bot);
+        }
+    }
+
+    /**
+     * Calcule le classement d'un joueur : 1 plus le nombre d'adversaires
+     * éliminés après lui ou encore en jeu. Des joueurs éliminés au même tick
+     * partagent le même classement.
+     *
+     * @param player Le joueur
+     * @return Le classement, 1 pour le vainqueur
+     */
+    public int getPlacement(GamePlayer player) {
+        long tick = player.getStats().isEliminated() ? player.getStats().getEliminationTick() : Long.MAX_VALUE;
+        int placement = 1;
+        for (GamePlayer other : players) {
+            if (other == player) continue;
+            long otherTick = other.getStats().isEliminated() ? other.getStats().getEliminationTick() : Long.MAX_VALUE;
+            if (otherTick > tick) placement++;
+        }
+        return placement;
+    }
+
+    /**
+     * Retrouve un joueur par son numéro.
+     *
+     * @param playerNumber Le numéro du joueur (1 à 4)
+     * @return Le joueur, null s'il n'existe pas
+     */
+    private GamePlayer findPlayer(int playerNumber) {
+        for (GamePlayer player : players) {
+            if (player.getPlayerNumber() == playerNumber) return player;
+        }
+        return null;
+    }
+
     /**
      * Valide si un joueur peut se déplacer vers une position donnée.
      * Effectue une validation complète incluant les limites de grille,
@@ -340,6 +675,22 @@ public class GameManager {
      * @return true si le mouvement est autorisé, false sinon
      */
     public boolean canPlayerMoveTo(GamePlayer gamePlayer, int x, int y) {
+        return canPlayerMoveTo(gamePlayer, x, y, true);
+    }
+
+    /**
+     * Valide un déplacement avec les mêmes règles que {@link #canPlayerMoveTo(GamePlayer, int, int)},
+     * en choisissant si une bombe poussable est effectivement poussée.
+     * Sans poussée, la vérification n'a aucun effet de bord (une bombe poussable
+     * bloque alors le passage) : c'est ce qu'utilise la prédiction côté client.
+     *
+     * @param gamePlayer Le joueur qui souhaite se déplacer
+     * @param x Coordonnée X de destination
+     * @param y Coordonnée Y de destination
+     * @param pushBombs true pour pousser une bombe rencontrée si le joueur en est capable
+     * @return true si le mouvement est autorisé, false sinon
+     */
+    public boolean canPlayerMoveTo(GamePlayer gamePlayer, int x, int y, boolean pushBombs) {
         if (gamePlayer.getStats().isEliminated()) return false;
 
         // Vérifier les limites de la grille
@@ -353,7 +704,7 @@ public class GameManager {
 
         // Gestion des bombes avec mécaniques de poussée
         if (bombSystem.hasBombAt(x, y)) {
-            if (gamePlayer.getStats().canPushBombs() && !bombSystem.isBombMovingAt(x, y)) {
+            if (pushBombs && gamePlayer.getStats().canPushBombs() && !bombSystem.isBombMovingAt(x, y)) {
                 // Calculer la direction de poussée
                 int currentX = gamePlayer.getPlayer().getX();
                 int currentY = gamePlayer.getPlayer().getY();
@@ -387,7 +738,9 @@ public class GameManager {
         int y = gamePlayer.getPlayer().getY();
         int range = gamePlayer.getStats().getBombRange();
 
-        bombSystem.placeBomb(x, y, range, grid);
+        if (bombSystem.placeBomb(x, y, range, grid, gamePlayer.getPlayerNumber())) {
+            gamePlayer.getStats().incrementBombsPlaced();
+        }
     }
 
     /**
@@ -402,6 +755,7 @@ public class GameManager {
         bombSystem.clear();
         powerUpSystem.clear();
         gameTimer.reset();
+        tickCount = 0;
 
         // Réinitialiser les joueurs
         for (GamePlayer player : players) {
@@ -409,6 +763,7 @@ public class GameManager {
         }
 
         gameRunning = true;
+        publishRenderSnapshot();
     }
 
     /**
@@ -499,6 +854,36 @@ public class GameManager {
      */
     public boolean isGameRunning() { return gameRunning; }
 
+    /**
+     * Retourne le nombre de ticks de simulation écoulés depuis le début de la partie.
+     * Sert d'horloge déterministe pour les animations.
+     *
+     * @return Le numéro du tick courant
+     */
+    public long getTickCount() { return tickCount; }
+
+    /**
+     * Retourne le tampon des instantanés de rendu publiés à chaque tick.
+     * Le renderer y récupère le dernier état complet via {@link RenderSnapshotBuffer#acquire()}.
+     *
+     * @return Le triple tampon d'instantanés
+     */
+    public RenderSnapshotBuffer getRenderSnapshots() { return renderSnapshots; }
+
+    /**
+     * Retourne l'écouteur des événements de jeu.
+     *
+     * @return L'écouteur courant, ou null si aucun
+     */
+    public GameEventListener getEventListener() { return eventListener; }
+
+    /**
+     * Indique si la partie est en mode serveur (sans affichage).
+     *
+     * @return true si la partie est hébergée par un serveur dédié
+     */
+    public boolean isHeadless() { return headless; }
+
     // ==================== MODIFICATEURS ====================
 
     /**
@@ -507,4 +892,48 @@ public class GameManager {
      * @param running true pour activer le jeu, false pour l'arrêter
      */
     public void setGameRunning(boolean running) { this.gameRunning = running; }
+
+    /**
+     * Active le mode serveur (sans affichage).
+     * La partie ne publie plus d'instantanés de rendu et ne met plus à jour
+     * le profil du joueur local en fin de partie.
+     *
+     * @param headless true pour une partie hébergée par un serveur dédié
+     */
+    public void setHeadless(boolean headless) { this.headless = headless; }
+
+    /**
+     * Définit le joueur contrôlé sur cette machine : c'est lui que le profil
+     * courant suit en fin de partie (victoire, historique, note de niveau).
+     * Le joueur 1 par défaut ; un client réseau y met le numéro attribué par le serveur.
+     *
+     * @param playerNumber Le numéro du joueur local (1-4)
+     */
+    public void setLocalPlayerNumber(int playerNumber) { this.localPlayerNumber = playerNumber; }
+
+    /**
+     * Retourne le joueur contrôlé sur cette machine.
+     *
+     * @return Le numéro du joueur local
+     */
+    public int getLocalPlayerNumber() { return localPlayerNumber; }
+
+    /**
+     * Modifie le nombre de ticks écoulés.
+     * Utilisé pour restaurer un état sauvegardé de la partie (rollback).
+     *
+     * @param tickCount Le numéro du tick restauré
+     */
+    void setTickCount(long tickCount) { this.tickCount = tickCount; }
+
+    /**
+     * Définit l'écouteur des événements de jeu (explosions, murs détruits, morts).
+     * L'écouteur est transmis aux sous-systèmes concernés.
+     *
+     * @param listener L'écouteur, ou null pour désactiver les notifications
+     */
+    public void setEventListener(GameEventListener listener) {
+        this.eventListener = listener;
+        bombSystem.setEventListener(listener);
+    }
 }
\ No newline at end of file
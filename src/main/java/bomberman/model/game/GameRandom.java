@@ -0,0 +1,90 @@
+package bomberman.model.game;
+
+import java.util.Random;
+
+/**
+ * Générateur aléatoire de la partie dont l'état interne peut être sauvegardé et restauré.
+ * Il s'agit du même générateur congruentiel linéaire (48 bits) que {@link Random}, avec
+ * les mêmes suites pour une même graine ; seul l'accès à l'état est ajouté, ce qui permet
+ * de revenir en arrière dans une partie (rollback) sans perdre le déterminisme.
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class GameRandom extends Random {
+
+    /**
+     * Identifiant de version pour la sérialisation ({@link Random} est Serializable).
+     */
+    private static final long serialVersionUID = 1L;
+
+    /** Multiplicateur du générateur (identique à {@link Random}) */
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+
+    /** Incrément du générateur */
+    private static final long ADDEND = 0xBL;
+
+    /** Masque des 48 bits d'état */
+    private static final long MASK = (1L << 48) - 1;
+
+    /** État courant du générateur (48 bits) */
+    private long state;
+
+    /**
+     * Constructeur avec une graine aléatoire.
+     */
+    public GameRandom() {
+        super();
+    }
+
+    /**
+     * Constructeur avec une graine donnée.
+     *
+     * @param seed La graine
+     */
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Réinitialise le générateur avec une graine.
+     * Appelée par le constructeur de {@link Random}.
+     *
+     * @param seed La graine
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    /**
+     * Produit les bits aléatoires suivants.
+     *
+     * @param bits Le nombre de bits demandés (1-32)
+     * @return Les bits aléatoires dans les bits de poids faible
+     */
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Retourne l'état interne du générateur.
+     *
+     * @return L'état sur 48 bits
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaure un état interne sauvegardé par {@link #getState()}.
+     *
+     * @param state L'état à restaurer
+     */
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -0,0 +1,507 @@
+package bomberman.model.game;
+
+import bomberman.model.entities.Bomb;
+import bomberman.model.entities.Explosion;
+import bomberman.model.entities.GamePlayer;
+import bomberman.utils.GameConstants;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sauvegarde complète de l'état d'une partie à un tick donné.
+ * Contrairement au {@link RenderSnapshot}, qui ne garde que ce qui est affiché,
+ * cet instantané contient tout ce qui influence la suite de la simulation
+ * (terrain, joueurs et statistiques, bombes, explosions, power-ups, état du
+ * générateur aléatoire, timer) : restaurer l'instantané puis rejouer les mêmes
+ * commandes redonne exactement le même état. C'est la base du rollback réseau.
+ *
+ * <p>Organisation mémoire :</p>
+ * <ul>
+ *   <li>Joueurs recopiés dans des {@link GamePlayer} fantômes via {@link GamePlayer#copyFrom}</li>
+ *   <li>Entités stockées en tableaux de primitives, agrandis uniquement si une capacité est dépassée</li>
+ *   <li>Aucune allocation lors d'une capture en régime établi</li>
+ *   <li>La restauration recrée seulement les quelques bombes, explosions et power-ups</li>
+ * </ul>
+ *
+ * <p>L'instantané peut aussi être écrit en binaire ({@link #write(DataOutput)}) :
+ * c'est la forme des images clés embarquées dans les {@link MatchReplay}.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class GameStateSnapshot {
+
+    /** Capacité initiale des tableaux d'entités */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Types de power-ups, indexés par ordinal */
+    private static final PowerUpSystem.PowerUpType[] POWER_UP_TYPES = PowerUpSystem.PowerUpType.values();
+
+    // ==================== PARTIE ====================
+
+    /** Tick sauvegardé, -1 si l'instantané est vide */
+    private long tick = -1;
+
+    /** Indique si la partie était en cours */
+    private boolean gameRunning;
+
+    /** État du générateur aléatoire */
+    private long randomState;
+
+    /** Timestamp de début du timer de partie */
+    private long timerStart;
+
+    /** Durée écoulée du timer de partie en secondes */
+    private long timerDuration;
+
+    /** Indicateur de génération du power-up WALL_PASS */
+    private boolean wallPassDropped;
+
+    /** Types de cellules à plat, ligne par ligne */
+    private int[] cells = new int[GameConstants.GRID_WIDTH * GameConstants.GRID_HEIGHT];
+
+    // ==================== JOUEURS ====================
+
+    /** Copies des joueurs, dans l'ordre de la liste du gestionnaire */
+    private final List<GamePlayer> players = new ArrayList<>(4);
+
+    // ==================== BOMBES ====================
+
+    /** Nombre de bombes sauvegardées */
+    private int bombSize;
+
+    // Bombes, indexées de 0 à bombSize - 1 (bombes en mouvement comprises)
+    private int[] bombX = new int[INITIAL_CAPACITY];
+    private int[] bombY = new int[INITIAL_CAPACITY];
+    private int[] bombTimer = new int[INITIAL_CAPACITY];
+    private int[] bombRange = new int[INITIAL_CAPACITY];
+    private int[] bombOwner = new int[INITIAL_CAPACITY];
+
+    /** Nombre de bombes en mouvement sauvegardées */
+    private int movingBombSize;
+
+    // Bombes en cours de poussée, indexées de 0 à movingBombSize - 1
+    private int[] movingBombIndex = new int[INITIAL_CAPACITY];
+    private double[] movingVisualX = new double[INITIAL_CAPACITY];
+    private double[] movingVisualY = new double[INITIAL_CAPACITY];
+    private double[] movingTargetX = new double[INITIAL_CAPACITY];
+    private double[] movingTargetY = new double[INITIAL_CAPACITY];
+    private boolean[] movingActive = new boolean[INITIAL_CAPACITY];
+
+    // ==================== EXPLOSIONS ====================
+
+    /** Nombre d'explosions sauvegardées */
+    private int explosionSize;
+
+    // Explosions actives, indexées de 0 à explosionSize - 1
+    private int[] explosionX = new int[INITIAL_CAPACITY];
+    private int[] explosionY = new int[INITIAL_CAPACITY];
+    private int[] explosionTimer = new int[INITIAL_CAPACITY];
+    private int[] explosionDuration = new int[INITIAL_CAPACITY];
+    private int[] explosionOwner = new int[INITIAL_CAPACITY];
+
+    // ==================== POWER-UPS ====================
+
+    /** Nombre de power-ups sauvegardés */
+    private int powerUpSize;
+
+    // Power-ups présents sur le terrain, indexés de 0 à powerUpSize - 1
+    private int[] powerUpX = new int[INITIAL_CAPACITY];
+    private int[] powerUpY = new int[INITIAL_CAPACITY];
+    private int[] powerUpType = new int[INITIAL_CAPACITY];
+
+    // ==================== CAPTURE ====================
+
+    /**
+     * Sauvegarde l'état courant de la partie.
+     *
+     * @param gameManager Le gestionnaire de jeu à sauvegarder
+     */
+    public void capture(GameManager gameManager) {
+        tick = gameManager.getTickCount();
+        gameRunning = gameManager.isGameRunning();
+        randomState = gameManager.getRandom().getState();
+        timerStart = gameManager.getGameTimer().getStartTime();
+        timerDuration = gameManager.getGameTimer().getDuration();
+        wallPassDropped = gameManager.getPowerUpSystem().isWallPassDropped();
+
+        GameGrid grid = gameManager.getGrid();
+        if (cells.length < grid.getWidth() * grid.getHeight()) {
+            cells = new int[grid.getWidth() * grid.getHeight()];
+        }
+        grid.copyCells(cells);
+
+        capturePlayers(gameManager.getPlayers());
+        captureBombs(gameManager.getBombSystem());
+        captureExplosions(gameManager.getBombSystem().getExplosions());
+        capturePowerUps(gameManager.getPowerUpSystem().getPowerUps());
+    }
+
+    /**
+     * Recopie les joueurs dans les copies fantômes (créées une seule fois).
+     *
+     * @param live La liste des joueurs de la partie
+     */
+    private void capturePlayers(List<GamePlayer> live) {
+        while (players.size() < live.size()) {
+            GamePlayer player = live.get(players.size());
+            players.add(new GamePlayer(player.getPlayerNumber(), player.getSpawnX(), player.getSpawnY()));
+        }
+        for (int i = 0; i < live.size(); i++) {
+            players.get(i).copyFrom(live.get(i));
+        }
+    }
+
+    /**
+     * Recopie les bombes et les animations de poussée.
+     * Une bombe en mouvement est repérée par son indice dans la liste des bombes.
+     *
+     * @param bombSystem Le système de bombes
+     */
+    private void captureBombs(BombSystem bombSystem) {
+        List<Bomb> bombs = bombSystem.getBombs();
+        int size = bombs.size();
+        if (bombX.length < size) {
+            int capacity = grow(bombX.length, size);
+            bombX = Arrays.copyOf(bombX, capacity);
+            bombY = Arrays.copyOf(bombY, capacity);
+            bombTimer = Arrays.copyOf(bombTimer, capacity);
+            bombRange = Arrays.copyOf(bombRange, capacity);
+            bombOwner = Arrays.copyOf(bombOwner, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            Bomb bomb = bombs.get(i);
+            bombX[i] = bomb.getX();
+            bombY[i] = bomb.getY();
+            bombTimer[i] = bomb.getTimer();
+            bombRange[i] = bomb.getRange();
+            bombOwner[i] = bomb.getOwner();
+        }
+        bombSize = size;
+
+        List<BombSystem.MovingBomb> movingBombs = bombSystem.getMovingBombs();
+        int movingSize = movingBombs.size();
+        if (movingBombIndex.length < movingSize) {
+            int capacity = grow(movingBombIndex.length, movingSize);
+            movingBombIndex = Arrays.copyOf(movingBombIndex, capacity);
+            movingVisualX = Arrays.copyOf(movingVisualX, capacity);
+            movingVisualY = Arrays.copyOf(movingVisualY, capacity);
+            movingTargetX = Arrays.copyOf(movingTargetX, capacity);
+            movingTargetY = Arrays.copyOf(movingTargetY, capacity);
+            movingActive = Arrays.copyOf(movingActive, capacity);
+        }
+        movingBombSize = 0;
+        for (int i = 0; i < movingSize; i++) {
+            BombSystem.MovingBomb movingBomb = movingBombs.get(i);
+            int index = bombs.indexOf(movingBomb.getBomb());
+            if (index < 0) continue;
+            movingBombIndex[movingBombSize] = index;
+            movingVisualX[movingBombSize] = movingBomb.getVisualX();
+            movingVisualY[movingBombSize] = movingBomb.getVisualY();
+            movingTargetX[movingBombSize] = movingBomb.getTargetX();
+            movingTargetY[movingBombSize] = movingBomb.getTargetY();
+            movingActive[movingBombSize] = movingBomb.isMoving();
+            movingBombSize++;
+        }
+    }
+
+    /**
+     * Recopie les explosions actives.
+     *
+     * @param explosions La liste des explosions
+     */
+    private void captureExplosions(List<Explosion> explosions) {
+        int size = explosions.size();
+        if (explosionX.length < size) {
+            int capacity = grow(explosionX.length, size);
+            explosionX = Arrays.copyOf(explosionX, capacity);
+            explosionY = Arrays.copyOf(explosionY, capacity);
+            explosionTimer = Arrays.copyOf(explosionTimer, capacity);
+            explosionDuration = Arrays.copyOf(explosionDuration, capacity);
+            explosionOwner = Arrays.copyOf(explosionOwner, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            Explosion explosion = explosions.get(i);
+            explosionX[i] = explosion.getX();
+            explosionY[i] = explosion.getY();
+            explosionTimer[i] = explosion.getTimer();
+            explosionDuration[i] = explosion.getDuration();
+            explosionOwner[i] = explosion.getOwner();
+        }
+        explosionSize = size;
+    }
+
+    /**
+     * Recopie les power-ups présents sur le terrain.
+     *
+     * @param powerUps La liste des power-ups
+     */
+    private void capturePowerUps(List<PowerUpSystem.PowerUp> powerUps) {
+        int size = powerUps.size();
+        if (powerUpX.length < size) {
+            int capacity = grow(powerUpX.length, size);
+            powerUpX = Arrays.copyOf(powerUpX, capacity);
+            powerUpY = Arrays.copyOf(powerUpY, capacity);
+            powerUpType = Arrays.copyOf(powerUpType, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            PowerUpSystem.PowerUp powerUp = powerUps.get(i);
+            powerUpX[i] = powerUp.getX();
+            powerUpY[i] = powerUp.getY();
+            powerUpType[i] = powerUp.getType().ordinal();
+        }
+        powerUpSize = size;
+    }
+
+    // ==================== RESTAURATION ====================
+
+    /**
+     * Remet la partie dans l'état sauvegardé.
+     * Le gestionnaire doit être celui (ou une copie conforme de celui) qui a été capturé.
+     *
+     * @param gameManager Le gestionnaire de jeu à restaurer
+     * @throws IllegalStateException si l'instantané est vide
+     */
+    public void restore(GameManager gameManager) {
+        if (tick < 0) {
+            throw new IllegalStateException("Aucun état sauvegardé");
+        }
+        gameManager.setTickCount(tick);
+        gameManager.setGameRunning(gameRunning);
+        gameManager.getRandom().setState(randomState);
+        gameManager.getGameTimer().restore(timerStart, timerDuration);
+        gameManager.getGrid().restoreCells(cells);
+
+        List<GamePlayer> live = gameManager.getPlayers();
+        for (int i = 0; i < live.size(); i++) {
+            live.get(i).copyFrom(players.get(i));
+        }
+
+        BombSystem bombSystem = gameManager.getBombSystem();
+        List<Bomb> bombs = bombSystem.getBombs();
+        bombs.clear();
+        for (int i = 0; i < bombSize; i++) {
+            Bomb bomb = new Bomb(bombX[i], bombY[i]);
+            bomb.setTimer(bombTimer[i]);
+            bomb.setRange(bombRange[i]);
+            bomb.setOwner(bombOwner[i]);
+            bombs.add(bomb);
+        }
+        List<BombSystem.MovingBomb> movingBombs = bombSystem.getMovingBombs();
+        movingBombs.clear();
+        for (int i = 0; i < movingBombSize; i++) {
+            movingBombs.add(new BombSystem.MovingBomb(bombs.get(movingBombIndex[i]),
+                    movingVisualX[i], movingVisualY[i], movingTargetX[i], movingTargetY[i], movingActive[i]));
+        }
+
+        List<Explosion> explosions = bombSystem.getExplosions();
+        explosions.clear();
+        for (int i = 0; i < explosionSize; i++) {
+            Explosion explosion = new Explosion(explosionX[i], explosionY[i], explosionDuration[i]);
+            explosion.setTimer(explosionTimer[i]);
+            explosion.setOwner(explosionOwner[i]);
+            explosions.add(explosion);
+        }
+
+        PowerUpSystem powerUpSystem = gameManager.getPowerUpSystem();
+        powerUpSystem.setWallPassDropped(wallPassDropped);
+        List<PowerUpSystem.PowerUp> powerUps = powerUpSystem.getPowerUps();
+        powerUps.clear();
+        for (int i = 0; i < powerUpSize; i++) {
+            powerUps.add(new PowerUpSystem.PowerUp(powerUpX[i], powerUpY[i], POWER_UP_TYPES[powerUpType[i]]));
+        }
+    }
+
+    // ==================== SÉRIALISATION ====================
+
+    /**
+     * Écrit l'instantané dans un flux binaire.
+     *
+     * @param out Le flux de destination
+     * @throws IOException en cas d'erreur d'écriture
+     * @throws IllegalStateException si l'instantané est vide
+     */
+    public void write(DataOutput out) throws IOException {
+        if (tick < 0) {
+            throw new IllegalStateException("Aucun état sauvegardé");
+        }
+        out.writeLong(tick);
+        out.writeBoolean(gameRunning);
+        out.writeLong(randomState);
+        out.writeLong(timerStart);
+        out.writeLong(timerDuration);
+        out.writeBoolean(wallPassDropped);
+        out.writeShort(cells.length);
+        for (int cell : cells) {
+            out.writeByte(cell);
+        }
+
+        out.writeByte(players.size());
+        for (GamePlayer player : players) {
+            out.writeByte(player.getPlayerNumber());
+            out.writeByte(player.getSpawnX());
+            out.writeByte(player.getSpawnY());
+            player.writeState(out);
+        }
+
+        out.writeShort(bombSize);
+        for (int i = 0; i < bombSize; i++) {
+            out.writeByte(bombX[i]);
+            out.writeByte(bombY[i]);
+            out.writeShort(bombTimer[i]);
+            out.writeByte(bombRange[i]);
+            out.writeByte(bombOwner[i]);
+        }
+        out.writeShort(movingBombSize);
+        for (int i = 0; i < movingBombSize; i++) {
+            out.writeShort(movingBombIndex[i]);
+            out.writeDouble(movingVisualX[i]);
+            out.writeDouble(movingVisualY[i]);
+            out.writeDouble(movingTargetX[i]);
+            out.writeDouble(movingTargetY[i]);
+            out.writeBoolean(movingActive[i]);
+        }
+        out.writeShort(explosionSize);
+        for (int i = 0; i < explosionSize; i++) {
+            out.writeByte(explosionX[i]);
+            out.writeByte(explosionY[i]);
+            out.writeShort(explosionTimer[i]);
+            out.writeShort(explosionDuration[i]);
+            out.writeByte(explosionOwner[i]);
+        }
+        out.writeShort(powerUpSize);
+        for (int i = 0; i < powerUpSize; i++) {
+            out.writeByte(powerUpX[i]);
+            out.writeByte(powerUpY[i]);
+            out.writeByte(powerUpType[i]);
+        }
+    }
+
+    /**
+     * Remplace le contenu de l'instantané par celui écrit par {@link #write(DataOutput)}.
+     *
+     * @param in Le flux source
+     * @throws IOException en cas d'erreur de lecture ou de contenu invalide
+     */
+    public void read(DataInput in) throws IOException {
+        tick = in.readLong();
+        gameRunning = in.readBoolean();
+        randomState = in.readLong();
+        timerStart = in.readLong();
+        timerDuration = in.readLong();
+        wallPassDropped = in.readBoolean();
+        int cellCount = in.readUnsignedShort();
+        if (cells.length < cellCount) {
+            cells = new int[cellCount];
+        }
+        for (int i = 0; i < cellCount; i++) {
+            cells[i] = in.readByte();
+        }
+
+        int playerCount = in.readUnsignedByte();
+        players.clear();
+        for (int i = 0; i < playerCount; i++) {
+            GamePlayer player = new GamePlayer(in.readUnsignedByte(), in.readUnsignedByte(), in.readUnsignedByte());
+            player.readState(in);
+            players.add(player);
+        }
+
+        bombSize = in.readUnsignedShort();
+        if (bombX.length < bombSize) {
+            bombX = new int[bombSize];
+            bombY = new int[bombSize];
+            bombTimer = new int[bombSize];
+            bombRange = new int[bombSize];
+            bombOwner = new int[bombSize];
+        }
+        for (int i = 0; i < bombSize; i++) {
+            bombX[i] = in.readUnsignedByte();
+            bombY[i] = in.readUnsignedByte();
+            bombTimer[i] = in.readShort();
+            bombRange[i] = in.readByte();
+            bombOwner[i] = in.readUnsignedByte();
+        }
+        movingBombSize = in.readUnsignedShort();
+        if (movingBombIndex.length < movingBombSize) {
+            movingBombIndex = new int[movingBombSize];
+            movingVisualX = new double[movingBombSize];
+            movingVisualY = new double[movingBombSize];
+            movingTargetX = new double[movingBombSize];
+            movingTargetY = new double[movingBombSize];
+            movingActive = new boolean[movingBombSize];
+        }
+        for (int i = 0; i < movingBombSize; i++) {
+            movingBombIndex[i] = in.readUnsignedShort();
+            if (movingBombIndex[i] >= bombSize) {
+                throw new IOException("Bombe poussée inconnue : " + movingBombIndex[i]);
+            }
+            movingVisualX[i] = in.readDouble();
+            movingVisualY[i] = in.readDouble();
+            movingTargetX[i] = in.readDouble();
+            movingTargetY[i] = in.readDouble();
+            movingActive[i] = in.readBoolean();
+        }
+        explosionSize = in.readUnsignedShort();
+        if (explosionX.length < explosionSize) {
+            explosionX = new int[explosionSize];
+            explosionY = new int[explosionSize];
+            explosionTimer = new int[explosionSize];
+            explosionDuration = new int[explosionSize];
+            explosionOwner = new int[explosionSize];
+        }
+        for (int i = 0; i < explosionSize; i++) {
+            explosionX[i] = in.readUnsignedByte();
+            explosionY[i] = in.readUnsignedByte();
+            explosionTimer[i] = in.readShort();
+            explosionDuration[i] = in.readShort();
+            explosionOwner[i] = in.readUnsignedByte();
+        }
+        powerUpSize = in.readUnsignedShort();
+        if (powerUpX.length < powerUpSize) {
+            powerUpX = new int[powerUpSize];
+            powerUpY = new int[powerUpSize];
+            powerUpType = new int[powerUpSize];
+        }
+        for (int i = 0; i < powerUpSize; i++) {
+            powerUpX[i] = in.readUnsignedByte();
+            powerUpY[i] = in.readUnsignedByte();
+            powerUpType[i] = in.readUnsignedByte();
+            if (powerUpType[i] >= POWER_UP_TYPES.length) {
+                throw new IOException("Type de power-up inconnu : " + powerUpType[i]);
+            }
+        }
+    }
+
+    /**
+     * Calcule la nouvelle capacité d'un tableau (doublement).
+     *
+     * @param current La capacité actuelle
+     * @param required La capacité minimale requise
+     * @return La nouvelle capacité
+     */
+    private static int grow(int current, int required) {
+        return Math.max(required, current * 2);
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le tick sauvegardé.
+     *
+     * @return Le numéro du tick, ou -1 si l'instantané est vide
+     */
+    public long getTick() { return tick; }
+
+    /**
+     * Retourne le nombre de joueurs sauvegardés.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return players.size(); }
+}
@@ -1,5 +1,7 @@
 package bomberman.model.game;
 
+import java.util.function.LongSupplier;
+
 /**
  * Horloge de partie pour le jeu Bomberman.
  * Cette classe gère le chronométrage d'une partie en cours, en calculant
@@ -56,6 +58,13 @@ public class GameTimer {
      */
     private long gameDuration;
 
+    /**
+     * Source de temps en millisecondes.
+     * Par défaut l'horloge système ; remplaçable par une horloge simulée
+     * pour les exports et simulations plus rapides que le temps réel.
+     */
+    private LongSupplier timeSource = System::currentTimeMillis;
+
     /**
      * Constructeur du timer de partie.
      * Initialise automatiquement le timer en appelant {@link #reset()}
@@ -79,10 +88,43 @@ public class GameTimer {
      * </ul>
      */
     public void reset() {
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = timeSource.getAsLong();
         this.gameDuration = 0;
     }
 
+    /**
+     * Remplace la source de temps utilisée par le timer.
+     * Permet de piloter le chronomètre par une horloge simulée (par exemple
+     * le numéro de frame multiplié par la durée d'une frame) lorsque la partie
+     * est simulée sans fenêtre. Le timer est réinitialisé sur la nouvelle source.
+     *
+     * @param timeSource La nouvelle source de temps en millisecondes
+     */
+    public void setTimeSource(LongSupplier timeSource) {
+        this.timeSource = timeSource;
+        reset();
+    }
+
+    /**
+     * Retourne le timestamp de début de partie.
+     *
+     * @return Le timestamp de début en millisecondes (selon la source de temps)
+     */
+    public long getStartTime() {
+        return gameStartTime;
+    }
+
+    /**
+     * Restaure un état sauvegardé du timer (rollback).
+     *
+     * @param startTime Le timestamp de début en millisecondes
+     * @param duration La durée écoulée en secondes
+     */
+    public void restore(long startTime, long duration) {
+        this.gameStartTime = startTime;
+        this.gameDuration = duration;
+    }
+
     /**
      * Met à jour la durée de partie calculée.
      * Calcule le temps écoulé depuis le début de la partie en comparant
@@ -98,7 +140,7 @@ public class GameTimer {
      * la boucle de jeu) pour maintenir le timer à jour.</p>
      */
     public void update() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = timeSource.getAsLong();
         gameDuration = (currentTime - gameStartTime) / 1000;
     }
 
@@ -135,8 +177,20 @@ public class GameTimer {
      * @return Le temps formaté sous forme de chaîne "MM:SS"
      */
     public String getFormattedTime() {
-        long minutes = gameDuration / 60;
-        long seconds = gameDuration % 60;
+        return formatDuration(gameDuration);
+    }
+
+    /**
+     * Formate une durée en secondes au format "MM:SS".
+     * Utilisé par {@link #getFormattedTime()} et par les instantanés de rendu
+     * qui ne conservent que la durée brute.
+     *
+     * @param duration La durée en secondes
+     * @return Le temps formaté sous forme de chaîne "MM:SS"
+     */
+    public static String formatDuration(long duration) {
+        long minutes = duration / 60;
+        long seconds = duration % 60;
         return String.format("%02d:%02d", minutes, seconds);
     }
 }
\ No newline at end of file
@@ -0,0 +1,560 @@
+package bomberman.model.game;
+
+import bomberman.utils.GameConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Enregistrement compact d'une partie en mode déterministe : la graine et la
+ * trame de commandes ({@link PlayerInput}) appliquée à chaque tick. Comme deux
+ * parties initialisées avec la même graine et recevant les mêmes trames restent
+ * identiques, rejouer l'enregistrement avec {@link GameManager#step(int)}
+ * reproduit exactement la partie d'origine.
+ *
+ * <p>Compression : les commandes de chaque joueur forment un flux séparé codé
+ * par plages (une commande et son nombre de répétitions). Une commande maintenue
+ * ou un joueur inactif ne coûte presque rien, et une plage ne coûte jamais plus
+ * d'un octet par tick.</p>
+ *
+ * <p>Format d'une plage :</p>
+ * <pre>
+ * bits 0-3 : commande
+ * bits 4-7 : longueur - 1 (0 à 14), ou 15 suivi d'un varint (longueur - 16)
+ * </pre>
+ *
+ * <p>Images clés : toutes les {@value #KEYFRAME_SECONDS} secondes de jeu,
+ * l'enregistrement garde l'état complet de la partie ({@link GameStateSnapshot} :
+ * grille, bombes, flammes, power-ups, joueurs et statistiques). Un déplacement
+ * dans le replay ({@link #seek(GameManager, int)}) restaure l'image clé la plus
+ * proche puis simule au plus {@link #KEYFRAME_INTERVAL} ticks, quelle que soit
+ * la longueur de la partie.</p>
+ *
+ * <p>Format du fichier :</p>
+ * <pre>
+ * magique (4 o) | version (1 o) | joueurs (1 o) | graine (8 o) | ticks (4 o)
+ * puis pour chaque joueur : taille du flux (4 o) et ses plages
+ * version 2+ : taille (4 o) du bloc compressé (deflate) des images clés :
+ *              nombre (2 o), puis pour chacune son indice (2 o) et l'instantané
+ * </pre>
+ *
+ * <p>La version 3 ajoute aux instantanés les auteurs des bombes et les compteurs
+ * de partie des joueurs : les images clés d'un fichier de version 2 sont
+ * ignorées et recalculées au besoin par {@link #seek(GameManager, int)}.</p>
+ *
+ * <p>Les méthodes sont synchronisées : une salle peut enregistrer son dernier
+ * tick pendant qu'un autre thread sauvegarde l'enregistrement.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class MatchReplay {
+
+    /** Marqueur de début de fichier ("BMRP") */
+    private static final int MAGIC = 0x424D5250;
+
+    /** Version du format (les versions 1 et 2 restent lisibles, sans leurs images clés) */
+    private static final int VERSION = 3;
+
+    /** Intervalle entre deux images clés, en secondes de jeu */
+    public static final int KEYFRAME_SECONDS = 5;
+
+    /** Intervalle entre deux images clés, en ticks */
+    public static final int KEYFRAME_INTERVAL = (int) (KEYFRAME_SECONDS * 1_000_000_000L / GameConstants.TICK_DURATION);
+
+    /** Longueur maximale d'une plage codée sur un seul octet */
+    private static final int SHORT_RUN = 15;
+
+    /** Nombre de joueurs de la partie */
+    private final int playerCount;
+
+    /** Graine de la partie */
+    private final long seed;
+
+    /** Plages terminées de chaque joueur */
+    private final ByteArrayOutputStream[] streams;
+
+    /** Commande de la plage en cours de chaque joueur */
+    private final int[] runInput;
+
+    /** Longueur de la plage en cours de chaque joueur (0 si aucune) */
+    private final int[] runLength;
+
+    /** Nombre de ticks enregistrés */
+    private int tickCount;
+
+    /** Trames décodées, recalculées après un nouvel enregistrement */
+    private int[] frames;
+
+    /** Images clés sérialisées : l'indice i correspond au tick i × KEYFRAME_INTERVAL (null si absente) */
+    private final List<byte[]> keyframes = new ArrayList<>();
+
+    /** Instantané réutilisé pour capturer et restaurer les images clés */
+    private final GameStateSnapshot keyframeBuffer = new GameStateSnapshot();
+
+    /**
+     * Constructeur d'un enregistrement vide.
+     *
+     * @param playerCount Le nombre de joueurs (2-4)
+     * @param seed La graine de la partie
+     * @throws IllegalArgumentException si le nombre de joueurs est invalide
+     */
+    public MatchReplay(int playerCount, long seed) {
+        if (playerCount < 2 || playerCount > 4) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.seed = seed;
+        this.streams = new ByteArrayOutputStream[playerCount];
+        this.runInput = new int[playerCount];
+        this.runLength = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            streams[i] = new ByteArrayOutputStream();
+        }
+    }
+
+    // ==================== ENREGISTREMENT ====================
+
+    /**
+     * Ajoute la trame appliquée au tick suivant.
+     *
+     * @param frame La trame des commandes de tous les joueurs
+     */
+    public synchronized void record(int frame) {
+        for (int i = 0; i < playerCount; i++) {
+            int input = PlayerInput.unpack(frame, i);
+            if (runLength[i] > 0 && runInput[i] != input) {
+                writeRun(streams[i], runInput[i], runLength[i]);
+                runLength[i] = 0;
+            }
+            runInput[i] = input;
+            runLength[i]++;
+        }
+        tickCount++;
+        frames = null;
+    }
+
+    /**
+     * Ajoute la trame appliquée au tick suivant et, si ce tick tombe sur
+     * l'intervalle des images clés, capture l'état de la partie.
+     *
+     * @param frame La trame des commandes de tous les joueurs
+     * @param manager La partie, déjà avancée avec cette trame
+     */
+    public synchronized void record(int frame, GameManager manager) {
+        record(frame);
+        if (tickCount % KEYFRAME_INTERVAL == 0) {
+            storeKeyframe(manager);
+        }
+    }
+
+    /**
+     * Capture l'état d'une partie comme image clé de son tick courant.
+     *
+     * @param manager La partie, sur un tick multiple de {@link #KEYFRAME_INTERVAL}
+     */
+    private synchronized void storeKeyframe(GameManager manager) {
+        int index = (int) (manager.getTickCount() / KEYFRAME_INTERVAL);
+        keyframeBuffer.capture(manager);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try {
+            keyframeBuffer.write(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        while (keyframes.size() <= index) {
+            keyframes.add(null);
+        }
+        keyframes.set(index, bytes.toByteArray());
+    }
+
+    /**
+     * Écrit une plage dans un flux.
+     *
+     * @param out Le flux de destination
+     * @param input La commande répétée
+     * @param length Le nombre de ticks de la plage
+     */
+    private static void writeRun(ByteArrayOutputStream out, int input, int length) {
+        if (length <= SHORT_RUN) {
+            out.write((length - 1) << PlayerInput.BITS | input);
+            return;
+        }
+        out.write(SHORT_RUN << PlayerInput.BITS | input);
+        int rest = length - SHORT_RUN - 1;
+        while ((rest & ~0x7F) != 0) {
+            out.write(rest & 0x7F | 0x80);
+            rest >>>= 7;
+        }
+        out.write(rest);
+    }
+
+    /**
+     * Retourne les plages d'un joueur, plage en cours comprise.
+     *
+     * @param player L'indice du joueur
+     * @return Le flux codé du joueur
+     */
+    private byte[] encodedStream(int player) {
+        if (runLength[player] == 0) return streams[player].toByteArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(streams[player].size() + 4);
+        out.writeBytes(streams[player].toByteArray());
+        writeRun(out, runInput[player], runLength[player]);
+        return out.toByteArray();
+    }
+
+    // ==================== RELECTURE ====================
+
+    /**
+     * Crée une partie initialisée comme la partie enregistrée, au tick 0.
+     *
+     * @param headless true pour une partie sans instantanés de rendu ni profils
+     * @return Le gestionnaire de jeu prêt à rejouer
+     */
+    public GameManager createGame(boolean headless) {
+        return GameManager.createSeededMatch(playerCount, seed, headless);
+    }
+
+    /**
+     * Avance une partie créée par {@link #createGame(boolean)} jusqu'à un tick,
+     * en appliquant les trames enregistrées par le chemin de simulation normal.
+     *
+     * @param manager La partie à avancer (déjà au tick courant)
+     * @param tick Le tick à atteindre, borné au nombre de ticks enregistrés
+     */
+    public void playTo(GameManager manager, int tick) {
+        int[] decoded = getFrames();
+        int target = Math.min(tick, decoded.length);
+        while (manager.getTickCount() < target && manager.isGameRunning()) {
+            manager.step(decoded[(int) manager.getTickCount()]);
+        }
+    }
+
+    /**
+     * Place une partie créée par {@link #createGame(boolean)} sur un tick
+     * quelconque, en avant comme en arrière. La partie est restaurée depuis
+     * l'image clé la plus proche (sauf si elle est déjà plus près du tick
+     * demandé), puis les ticks restants sont simulés. Les images clés manquantes
+     * croisées en chemin sont capturées : un retour en arrière ultérieur est
+     * aussi rapide, même pour un enregistrement sans images clés.
+     *
+     * @param manager La partie à déplacer
+     * @param tick Le tick à atteindre, borné à [0, nombre de ticks enregistrés]
+     */
+    public void seek(GameManager manager, int tick) {
+        int[] decoded = getFrames();
+        int target = Math.max(0, Math.min(tick, decoded.length));
+        long current = manager.getTickCount();
+        synchronized (this) {
+            int index = Math.min(target / KEYFRAME_INTERVAL, keyframes.size() - 1);
+            while (index > 0 && keyframes.get(index) == null) {
+                index--;
+            }
+            long keyframeTick = (long) Math.max(index, 0) * KEYFRAME_INTERVAL;
+            if (current > target || keyframeTick > current) {
+                if (index < 0 || keyframes.get(index) == null) {
+                    storeKeyframe(createGame(true));
+                    index = 0;
+                }
+                restoreKeyframe(index, manager);
+            }
+        }
+
+        while (manager.getTickCount() < target && manager.isGameRunning()) {
+            manager.step(decoded[(int) manager.getTickCount()]);
+            if (manager.getTickCount() % KEYFRAME_INTERVAL == 0 && !hasKeyframe(manager.getTickCount())) {
+                storeKeyframe(manager);
+            }
+        }
+    }
+
+    /**
+     * Restaure une image clé dans une partie.
+     *
+     * @param index L'indice de l'image clé
+     * @param manager La partie à restaurer
+     */
+    private synchronized void restoreKeyframe(int index, GameManager manager) {
+        try {
+            keyframeBuffer.read(new DataInputStream(new ByteArrayInputStream(keyframes.get(index))));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        keyframeBuffer.restore(manager);
+    }
+
+    /**
+     * Indique si une image clé existe pour un tick.
+     *
+     * @param tick Le tick, multiple de {@link #KEYFRAME_INTERVAL}
+     * @return true si l'état de ce tick est enregistré
+     */
+    private synchronized boolean hasKeyframe(long tick) {
+        int index = (int) (tick / KEYFRAME_INTERVAL);
+        return index < keyframes.size() && keyframes.get(index) != null;
+    }
+
+    /**
+     * Retourne la trame appliquée pour atteindre un tick.
+     *
+     * @param tick Le tick atteint (1 pour la première trame)
+     * @return La trame des commandes
+     * @throws IndexOutOfBoundsException si le tick n'est pas enregistré
+     */
+    public int getFrame(int tick) {
+        return getFrames()[tick - 1];
+    }
+
+    /**
+     * Décode toutes les trames à partir des flux des joueurs.
+     *
+     * @return Les trames, indexées par tick - 1
+     */
+    private synchronized int[] getFrames() {
+        if (frames != null) return frames;
+        int[] decoded = new int[tickCount];
+        for (int i = 0; i < playerCount; i++) {
+            decodeRuns(encodedStream(i), i, decoded);
+        }
+        frames = decoded;
+        return decoded;
+    }
+
+    /**
+     * Parcourt les plages d'un flux et, si demandé, reporte les commandes dans les trames.
+     *
+     * @param stream Le flux codé d'un joueur
+     * @param player L'indice du joueur
+     * @param decoded Les trames à compléter, ou null pour seulement compter les ticks
+     * @return Le nombre de ticks couverts par le flux
+     * @throws IndexOutOfBoundsException si le flux est tronqué ou dépasse les trames
+     */
+    private static int decodeRuns(byte[] stream, int player, int[] decoded) {
+        int position = 0;
+        int tick = 0;
+        while (position < stream.length) {
+            int code = stream[position++] & 0xFF;
+            int input = code & PlayerInput.MASK;
+            int length = (code >>> PlayerInput.BITS) + 1;
+            if (length > SHORT_RUN) {
+                int rest = 0;
+                for (int shift = 0; ; shift += 7) {
+                    int b = stream[position++];
+                    rest |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+                length += rest;
+            }
+            if (decoded != null) {
+                for (int end = tick + length; tick < end; tick++) {
+                    decoded[tick] = PlayerInput.pack(decoded[tick], player, input);
+                }
+            } else {
+                tick += length;
+            }
+        }
+        return tick;
+    }
+
+    // ==================== FICHIER ====================
+
+    /**
+     * Encode l'enregistrement au format fichier.
+     *
+     * @return Les octets de l'enregistrement
+     */
+    public synchronized byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(playerCount);
+            out.writeLong(seed);
+            out.writeInt(tickCount);
+            for (int i = 0; i < playerCount; i++) {
+                byte[] stream = encodedStream(i);
+                out.writeInt(stream.length);
+                out.write(stream);
+            }
+            byte[] compressed = compressKeyframes();
+            out.writeInt(compressed.length);
+            out.write(compressed);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Compresse les images clés présentes : deux images successives ne diffèrent
+     * que par quelques cellules et entités.
+     *
+     * @return Le bloc compressé
+     * @throws IOException en cas d'erreur de compression
+     */
+    private byte[] compressKeyframes() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            int count = 0;
+            for (byte[] keyframe : keyframes) {
+                if (keyframe != null) count++;
+            }
+            out.writeShort(count);
+            for (int i = 0; i < keyframes.size(); i++) {
+                if (keyframes.get(i) == null) continue;
+                out.writeShort(i);
+                out.write(keyframes.get(i));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Décode un enregistrement et vérifie que chaque flux couvre tous les ticks.
+     *
+     * @param bytes Les octets produits par {@link #toBytes()}
+     * @return L'enregistrement
+     * @throws IOException si le format est invalide
+     */
+    public static MatchReplay fromBytes(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Format de replay invalide");
+        }
+        int version = in.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Version de replay non prise en charge : " + version);
+        }
+        int playerCount = in.readUnsignedByte();
+        if (playerCount < 2 || playerCount > 4) {
+            throw new IOException("Nombre de joueurs invalide : " + playerCount);
+        }
+        MatchReplay replay = new MatchReplay(playerCount, in.readLong());
+        int ticks = in.readInt();
+        for (int i = 0; i < playerCount; i++) {
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+                throw new IOException("Flux du joueur " + (i + 1) + " tronqué");
+            }
+            replay.streams[i].write(in.readNBytes(length));
+        }
+        replay.tickCount = ticks;
+
+        for (int i = 0; i < playerCount; i++) {
+            int covered;
+            try {
+                covered = decodeRuns(replay.streams[i].toByteArray(), i, null);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Flux du joueur " + (i + 1) + " invalide", e);
+            }
+            if (covered != ticks) {
+                throw new IOException("Le flux du joueur " + (i + 1) + " couvre " + covered + " ticks sur " + ticks);
+            }
+        }
+        if (version >= 2) {
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+                throw new IOException("Images clés tronquées");
+            }
+            byte[] block = in.readNBytes(length);
+            if (version == VERSION) {
+                replay.readKeyframes(block);
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Décompresse et vérifie les images clés d'un fichier.
+     *
+     * @param compressed Le bloc compressé
+     * @throws IOException si une image clé est invalide
+     */
+    private void readKeyframes(byte[] compressed) throws IOException {
+        DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressed)));
+        int count = in.readUnsignedShort();
+        for (int k = 0; k < count; k++) {
+            int index = in.readUnsignedShort();
+            if ((long) index * KEYFRAME_INTERVAL > tickCount) {
+                throw new IOException("Image clé " + index + " au-delà de la partie");
+            }
+            keyframeBuffer.read(in);
+            if (keyframeBuffer.getTick() != (long) index * KEYFRAME_INTERVAL || keyframeBuffer.getPlayerCount() != playerCount) {
+                throw new IOException("Image clé " + index + " incohérente");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+            keyframeBuffer.write(new DataOutputStream(bytes));
+            while (keyframes.size() <= index) {
+                keyframes.add(null);
+            }
+            keyframes.set(index, bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Écrit l'enregistrement dans un fichier.
+     *
+     * @param path Le fichier de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void write(Path path) throws IOException {
+        Files.write(path, toBytes());
+    }
+
+    /**
+     * Lit un enregistrement depuis un fichier.
+     *
+     * @param path Le fichier à lire
+     * @return L'enregistrement
+     * @throws IOException en cas d'erreur de lecture ou de format invalide
+     */
+    public static MatchReplay read(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre de joueurs de la partie.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne la graine de la partie.
+     *
+     * @return La graine
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Retourne le nombre de ticks enregistrés.
+     *
+     * @return Le nombre de ticks
+     */
+    public synchronized int getTickCount() { return tickCount; }
+
+    /**
+     * Retourne le nombre d'images clés disponibles.
+     *
+     * @return Le nombre d'images clés enregistrées ou capturées
+     */
+    public synchronized int getKeyframeCount() {
+        int count = 0;
+        for (byte[] keyframe : keyframes) {
+            if (keyframe != null) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,143 @@
+package bomberman.model.game;
+
+/**
+ * Encodage compact des commandes d'un joueur pour un tick de simulation.
+ * Une commande tient sur 4 bits : 3 bits de direction et 1 bit de bombe.
+ * Les commandes de tous les joueurs d'un tick sont regroupées dans une
+ * seule trame de 16 bits (4 bits par joueur, joueur 1 dans les bits de poids faible).
+ *
+ * <p>Cet encodage est celui échangé en réseau par le lockstep : chaque client
+ * n'envoie que sa commande de 4 bits, et le serveur diffuse la trame complète.
+ * Appliquer la même suite de trames à des parties initialisées avec la même
+ * graine produit exactement le même état sur tous les pairs.</p>
+ *
+ * <p>Format d'une commande :</p>
+ * <pre>
+ * bit 3    : bombe
+ * bits 0-2 : direction (0 = aucune, 1 = gauche, 2 = droite, 3 = haut, 4 = bas)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PlayerInput {
+
+    /** Aucune commande */
+    public static final int NONE = 0;
+
+    /** Déplacement vers la gauche */
+    public static final int LEFT = 1;
+
+    /** Déplacement vers la droite */
+    public static final int RIGHT = 2;
+
+    /** Déplacement vers le haut */
+    public static final int UP = 3;
+
+    /** Déplacement vers le bas */
+    public static final int DOWN = 4;
+
+    /** Bit de pose de bombe */
+    public static final int BOMB = 8;
+
+    /** Nombre de bits par commande dans une trame */
+    public static final int BITS = 4;
+
+    /** Masque d'une commande */
+    public static final int MASK = (1 << BITS) - 1;
+
+    /** Masque de la direction dans une commande */
+    private static final int DIRECTION_MASK = 7;
+
+    /** Déplacements horizontaux indexés par direction */
+    private static final int[] DELTA_X = {0, -1, 1, 0, 0};
+
+    /** Déplacements verticaux indexés par direction */
+    private static final int[] DELTA_Y = {0, 0, 0, -1, 1};
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private PlayerInput() {}
+
+    // ==================== COMMANDE ====================
+
+    /**
+     * Construit une commande.
+     *
+     * @param direction La direction (NONE, LEFT, RIGHT, UP ou DOWN)
+     * @param bomb true si le joueur pose une bombe
+     * @return La commande encodée sur 4 bits
+     */
+    public static int of(int direction, boolean bomb) {
+        return (direction & DIRECTION_MASK) | (bomb ? BOMB : 0);
+    }
+
+    /**
+     * Retourne la direction d'une commande.
+     *
+     * @param input La commande
+     * @return La direction (NONE, LEFT, RIGHT, UP ou DOWN)
+     */
+    public static int direction(int input) {
+        int direction = input & DIRECTION_MASK;
+        return direction <= DOWN ? direction : NONE;
+    }
+
+    /**
+     * Indique si une commande demande la pose d'une bombe.
+     *
+     * @param input La commande
+     * @return true si le bit de bombe est présent
+     */
+    public static boolean isBomb(int input) {
+        return (input & BOMB) != 0;
+    }
+
+    /**
+     * Retourne le déplacement horizontal d'une commande.
+     *
+     * @param input La commande
+     * @return -1, 0 ou 1
+     */
+    public static int deltaX(int input) {
+        return DELTA_X[direction(input)];
+    }
+
+    /**
+     * Retourne le déplacement vertical d'une commande.
+     *
+     * @param input La commande
+     * @return -1, 0 ou 1
+     */
+    public static int deltaY(int input) {
+        return DELTA_Y[direction(input)];
+    }
+
+    // ==================== TRAME ====================
+
+    /**
+     * Insère la commande d'un joueur dans une trame.
+     *
+     * @param frame La trame existante
+     * @param playerIndex L'indice du joueur (0-3)
+     * @param input La commande du joueur
+     * @return La trame mise à jour
+     */
+    public static int pack(int frame, int playerIndex, int input) {
+        int shift = playerIndex * BITS;
+        return (frame & ~(MASK << shift)) | ((input & MASK) << shift);
+    }
+
+    /**
+     * Extrait la commande d'un joueur d'une trame.
+     *
+     * @param frame La trame
+     * @param playerIndex L'indice du joueur (0-3)
+     * @return La commande du joueur
+     */
+    public static int unpack(int frame, int playerIndex) {
+        return (frame >>> (playerIndex * BITS)) & MASK;
+    }
+}
@@ -4,6 +4,7 @@ import bomberman.utils.GameConstants;
 import javafx.scene.paint.Color;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Système de gestion des power-ups dans le jeu Bomberman.
@@ -63,6 +64,9 @@ public class PowerUpSystem {
      */
     private boolean wallPassDropped = false;
 
+    /** Générateur aléatoire du choix des power-ups (partagé avec la partie en mode déterministe) */
+    private Random random = new Random();
+
     /**
      * Constructeur du système de power-ups.
      * Initialise la liste des power-ups vide et les variables d'état.
@@ -224,11 +228,11 @@ public class PowerUpSystem {
                     PowerUpType.BOMB_COOLDOWN,
                     PowerUpType.BOMB_PUSH
             };
-            return availableTypes[(int)(Math.random() * availableTypes.length)];
+            return availableTypes[random.nextInt(availableTypes.length)];
         } else {
             // WALL_PASS pas encore généré, tous les types disponibles
             PowerUpType[] types = PowerUpType.values();
-            PowerUpType randomType = types[(int)(Math.random() * types.length)];
+            PowerUpType randomType = types[random.nextInt(types.length)];
             if (randomType == PowerUpType.WALL_PASS) {
                 wallPassDropped = true;
             }
@@ -287,6 +291,30 @@ public class PowerUpSystem {
         wallPassDropped = false;
     }
 
+    /**
+     * Définit le générateur aléatoire utilisé pour le choix des power-ups.
+     *
+     * @param random Le générateur, partagé avec la partie en mode déterministe
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Indique si le power-up WALL_PASS a déjà été généré dans la partie.
+     *
+     * @return true si WALL_PASS ne peut plus apparaître
+     */
+    public boolean isWallPassDropped() { return wallPassDropped; }
+
+    /**
+     * Modifie l'indicateur de génération du power-up WALL_PASS.
+     * Utilisé pour restaurer un état sauvegardé de la partie (rollback).
+     *
+     * @param dropped true si WALL_PASS a déjà été généré
+     */
+    public void setWallPassDropped(boolean dropped) { this.wallPassDropped = dropped; }
+
     /**
      * Retourne la liste des power-ups actuellement actifs.
      * Fournit l'accès en lecture à la liste des power-ups présents
@@ -0,0 +1,612 @@
+package bomberman.model.game;
+
+import bomberman.model.entities.Bomb;
+import bomberman.model.entities.Explosion;
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.profile.PlayerStats;
+import bomberman.utils.GameConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Instantané de l'état visible du jeu Bomberman pour un tick de simulation.
+ * La simulation recopie dans cet objet tout ce dont les renderers ont besoin
+ * (terrain, joueurs, bombes, explosions, power-ups, timer) ; les renderers ne
+ * lisent ensuite plus que l'instantané, jamais les listes vivantes du
+ * {@link GameManager}. Simulation et rendu peuvent ainsi s'exécuter sur des
+ * threads différents sans verrou ni lecture d'un état à moitié mis à jour.
+ *
+ * <p>Organisation mémoire :</p>
+ * <ul>
+ *   <li>Données stockées en tableaux de primitives (une colonne par attribut)</li>
+ *   <li>Tableaux préalloués, agrandis uniquement si une capacité est dépassée</li>
+ *   <li>Aucune allocation lors d'une capture en régime établi</li>
+ *   <li>Terrain recopié à plat : la cellule (x, y) est à l'indice y * largeur + x</li>
+ * </ul>
+ *
+ * <p>Les instantanés sont recyclés par un {@link RenderSnapshotBuffer} : seul
+ * le thread de simulation appelle {@link #capture}, seul le thread de rendu lit
+ * les accesseurs, et le tampon garantit qu'ils ne partagent jamais la même instance.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class RenderSnapshot {
+
+    /** Capacité initiale des tableaux d'entités */
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ==================== PARTIE ====================
+
+    /** Tick de simulation capturé */
+    private long tick;
+
+    /** Nombre de joueurs de la partie */
+    private int playerCount;
+
+    /** Durée de partie écoulée en secondes */
+    private long duration = -1;
+
+    /** Temps formaté, recalculé uniquement lorsque la durée change */
+    private String formattedTime = GameTimer.formatDuration(0);
+
+    // ==================== TERRAIN ====================
+
+    /** Indique si une grille était présente lors de la capture */
+    private boolean hasGrid;
+
+    /** Largeur de la grille en cases */
+    private int gridWidth = GameConstants.GRID_WIDTH;
+
+    /** Hauteur de la grille en cases */
+    private int gridHeight = GameConstants.GRID_HEIGHT;
+
+    /** Types de cellules à plat, ligne par ligne */
+    private int[] cells = new int[0];
+
+    // ==================== JOUEURS ====================
+
+    /** Nombre de joueurs capturés */
+    private int playerSize;
+
+    // Attributs des joueurs, indexés de 0 à playerSize - 1
+    private int[] playerNumbers = new int[4];
+    private double[] playerVisualX = new double[4];
+    private double[] playerVisualY = new double[4];
+    private boolean[] playerEliminated = new boolean[4];
+    private boolean[] playerMoving = new boolean[4];
+    private int[] playerInvincibility = new int[4];
+    private int[] playerLives = new int[4];
+    private int[] playerBombRange = new int[4];
+    private double[] playerSpeed = new double[4];
+    private boolean[] playerCanPush = new boolean[4];
+
+    // ==================== BOMBES ====================
+
+    /** Nombre de bombes statiques capturées */
+    private int bombSize;
+
+    // Bombes statiques, indexées de 0 à bombSize - 1
+    private int[] bombX = new int[INITIAL_CAPACITY];
+    private int[] bombY = new int[INITIAL_CAPACITY];
+    private int[] bombTimer = new int[INITIAL_CAPACITY];
+
+    /** Nombre de bombes en mouvement capturées */
+    private int movingBombSize;
+
+    // Bombes en cours de poussée (positions visuelles en pixels), indexées de 0 à movingBombSize - 1
+    private double[] movingBombX = new double[INITIAL_CAPACITY];
+    private double[] movingBombY = new double[INITIAL_CAPACITY];
+    private int[] movingBombTimer = new int[INITIAL_CAPACITY];
+
+    // ==================== EXPLOSIONS ====================
+
+    /** Nombre d'explosions capturées */
+    private int explosionSize;
+
+    // Explosions actives, indexées de 0 à explosionSize - 1
+    private int[] explosionX = new int[INITIAL_CAPACITY];
+    private int[] explosionY = new int[INITIAL_CAPACITY];
+    private int[] explosionTimer = new int[INITIAL_CAPACITY];
+    private int[] explosionDuration = new int[INITIAL_CAPACITY];
+
+    // ==================== POWER-UPS ====================
+
+    /** Nombre de power-ups capturés */
+    private int powerUpSize;
+
+    // Power-ups présents sur le terrain, indexés de 0 à powerUpSize - 1
+    private int[] powerUpX = new int[INITIAL_CAPACITY];
+    private int[] powerUpY = new int[INITIAL_CAPACITY];
+    private PowerUpSystem.PowerUpType[] powerUpTypes = new PowerUpSystem.PowerUpType[INITIAL_CAPACITY];
+
+    // ==================== CAPTURE ====================
+
+    /**
+     * Capture l'état visible d'une partie gérée par un {@link GameManager}.
+     *
+     * @param gameManager Le gestionnaire de jeu à capturer
+     */
+    public void capture(GameManager gameManager) {
+        capture(gameManager.getGrid(), gameManager.getPlayers(), gameManager.getBombSystem(),
+                gameManager.getPowerUpSystem(), gameManager.getGameTimer(),
+                gameManager.getPlayerCount(), gameManager.getTickCount());
+    }
+
+    /**
+     * Capture l'état visible du jeu à partir de ses différents systèmes.
+     * Doit être appelée par le thread qui fait évoluer ces systèmes.
+     *
+     * @param grid La grille de jeu (peut être null)
+     * @param players La liste des joueurs
+     * @param bombSystem Le système de bombes
+     * @param powerUpSystem Le système de power-ups
+     * @param gameTimer Le timer de partie
+     * @param playerCount Le nombre de joueurs de la partie
+     * @param tick Le tick de simulation courant
+     */
+    public void capture(GameGrid grid, List<GamePlayer> players, BombSystem bombSystem,
+                        PowerUpSystem powerUpSystem, GameTimer gameTimer, int playerCount, long tick) {
+        this.tick = tick;
+        this.playerCount = playerCount;
+        if (gameTimer.getDuration() != duration) {
+            duration = gameTimer.getDuration();
+            formattedTime = gameTimer.getFormattedTime();
+        }
+
+        captureGrid(grid);
+        capturePlayers(players);
+        captureBombs(bombSystem);
+        captureExplosions(bombSystem.getExplosions());
+        capturePowerUps(powerUpSystem.getPowerUps());
+    }
+
+    /**
+     * Recopie le terrain.
+     *
+     * @param grid La grille de jeu (peut être null)
+     */
+    private void captureGrid(GameGrid grid) {
+        hasGrid = grid != null;
+        if (!hasGrid) {
+            gridWidth = GameConstants.GRID_WIDTH;
+            gridHeight = GameConstants.GRID_HEIGHT;
+            return;
+        }
+        gridWidth = grid.getWidth();
+        gridHeight = grid.getHeight();
+        if (cells.length < gridWidth * gridHeight) {
+            cells = new int[gridWidth * gridHeight];
+        }
+        grid.copyCells(cells);
+    }
+
+    /**
+     * Recopie les joueurs et leurs statistiques affichées.
+     *
+     * @param players La liste des joueurs
+     */
+    private void capturePlayers(List<GamePlayer> players) {
+        int size = players.size();
+        if (playerNumbers.length < size) {
+            playerNumbers = Arrays.copyOf(playerNumbers, size);
+            playerVisualX = Arrays.copyOf(playerVisualX, size);
+            playerVisualY = Arrays.copyOf(playerVisualY, size);
+            playerEliminated = Arrays.copyOf(playerEliminated, size);
+            playerMoving = Arrays.copyOf(playerMoving, size);
+            playerInvincibility = Arrays.copyOf(playerInvincibility, size);
+            playerLives = Arrays.copyOf(playerLives, size);
+            playerBombRange = Arrays.copyOf(playerBombRange, size);
+            playerSpeed = Arrays.copyOf(playerSpeed, size);
+            playerCanPush = Arrays.copyOf(playerCanPush, size);
+        }
+
+        for (int i = 0; i < size; i++) {
+            GamePlayer player = players.get(i);
+            PlayerStats stats = player.getStats();
+            playerNumbers[i] = player.getPlayerNumber();
+            playerVisualX[i] = player.getVisualX();
+            playerVisualY[i] = player.getVisualY();
+            playerEliminated[i] = stats.isEliminated();
+            playerMoving[i] = player.isMoving();
+            playerInvincibility[i] = stats.getInvincibilityTimer();
+            playerLives[i] = stats.getLives();
+            playerBombRange[i] = stats.getBombRange();
+            playerSpeed[i] = stats.getSpeed();
+            playerCanPush[i] = stats.canPushBombs();
+        }
+        playerSize = size;
+    }
+
+    /**
+     * Recopie les bombes statiques et les bombes en cours de poussée.
+     * Une bombe poussée n'apparaît que parmi les bombes en mouvement.
+     *
+     * @param bombSystem Le système de bombes
+     */
+    private void captureBombs(BombSystem bombSystem) {
+        List<Bomb> bombs = bombSystem.getBombs();
+        List<BombSystem.MovingBomb> movingBombs = bombSystem.getMovingBombs();
+
+        if (bombX.length < bombs.size()) {
+            int capacity = grow(bombX.length, bombs.size());
+            bombX = Arrays.copyOf(bombX, capacity);
+            bombY = Arrays.copyOf(bombY, capacity);
+            bombTimer = Arrays.copyOf(bombTimer, capacity);
+        }
+        bombSize = 0;
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            boolean isMoving = false;
+            for (int j = 0; j < movingBombs.size(); j++) {
+                if (movingBombs.get(j).getBomb() == bomb) {
+                    isMoving = true;
+                    break;
+                }
+            }
+            if (isMoving) continue;
+            bombX[bombSize] = bomb.getX();
+            bombY[bombSize] = bomb.getY();
+            bombTimer[bombSize] = bomb.getTimer();
+            bombSize++;
+        }
+
+        if (movingBombX.length < movingBombs.size()) {
+            int capacity = grow(movingBombX.length, movingBombs.size());
+            movingBombX = Arrays.copyOf(movingBombX, capacity);
+            movingBombY = Arrays.copyOf(movingBombY, capacity);
+            movingBombTimer = Arrays.copyOf(movingBombTimer, capacity);
+        }
+        for (int i = 0; i < movingBombs.size(); i++) {
+            BombSystem.MovingBomb movingBomb = movingBombs.get(i);
+            movingBombX[i] = movingBomb.getVisualX();
+            movingBombY[i] = movingBomb.getVisualY();
+            movingBombTimer[i] = movingBomb.getBomb().getTimer();
+        }
+        movingBombSize = movingBombs.size();
+    }
+
+    /**
+     * Recopie les explosions actives.
+     *
+     * @param explosions La liste des explosions
+     */
+    private void captureExplosions(List<Explosion> explosions) {
+        int size = explosions.size();
+        if (explosionX.length < size) {
+            int capacity = grow(explosionX.length, size);
+            explosionX = Arrays.copyOf(explosionX, capacity);
+            explosionY = Arrays.copyOf(explosionY, capacity);
+            explosionTimer = Arrays.copyOf(explosionTimer, capacity);
+            explosionDuration = Arrays.copyOf(explosionDuration, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            Explosion explosion = explosions.get(i);
+            explosionX[i] = explosion.getX();
+            explosionY[i] = explosion.getY();
+            explosionTimer[i] = explosion.getTimer();
+            explosionDuration[i] = explosion.getDuration();
+        }
+        explosionSize = size;
+    }
+
+    /**
+     * Recopie les power-ups présents sur le terrain.
+     *
+     * @param powerUps La liste des power-ups
+     */
+    private void capturePowerUps(List<PowerUpSystem.PowerUp> powerUps) {
+        int size = powerUps.size();
+        if (powerUpX.length < size) {
+            int capacity = grow(powerUpX.length, size);
+            powerUpX = Arrays.copyOf(powerUpX, capacity);
+            powerUpY = Arrays.copyOf(powerUpY, capacity);
+            powerUpTypes = Arrays.copyOf(powerUpTypes, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            PowerUpSystem.PowerUp powerUp = powerUps.get(i);
+            powerUpX[i] = powerUp.getX();
+            powerUpY[i] = powerUp.getY();
+            powerUpTypes[i] = powerUp.getType();
+        }
+        powerUpSize = size;
+    }
+
+    /**
+     * Calcule la nouvelle capacité d'un tableau (doublement).
+     *
+     * @param current La capacité actuelle
+     * @param required La capacité minimale requise
+     * @return La nouvelle capacité
+     */
+    private static int grow(int current, int required) {
+        return Math.max(required, current * 2);
+    }
+
+    // ==================== PARTIE ====================
+
+    /**
+     * Retourne le tick de simulation capturé.
+     *
+     * @return Le tick de simulation capturé
+     */
+    public long getTick() { return tick; }
+
+    /**
+     * Retourne le nombre de joueurs de la partie.
+     *
+     * @return Le nombre de joueurs de la partie
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne le temps de partie formaté "MM:SS".
+     *
+     * @return Le temps de partie formaté "MM:SS"
+     */
+    public String getFormattedTime() { return formattedTime; }
+
+    // ==================== TERRAIN ====================
+
+    /**
+     * Indique si une grille était présente lors de la capture.
+     *
+     * @return true si une grille était présente lors de la capture
+     */
+    public boolean hasGrid() { return hasGrid; }
+
+    /**
+     * Retourne la largeur de la grille en cases.
+     *
+     * @return La largeur de la grille en cases
+     */
+    public int getGridWidth() { return gridWidth; }
+
+    /**
+     * Retourne la hauteur de la grille en cases.
+     *
+     * @return La hauteur de la grille en cases
+     */
+    public int getGridHeight() { return gridHeight; }
+
+    /**
+     * Retourne le type d'une cellule capturée.
+     *
+     * @param x Colonne de la cellule
+     * @param y Ligne de la cellule
+     * @return Le type de cellule, ou -1 si hors limites ou sans grille
+     */
+    public int getCellType(int x, int y) {
+        if (!hasGrid || x < 0 || y < 0 || x >= gridWidth || y >= gridHeight) return -1;
+        return cells[y * gridWidth + x];
+    }
+
+    // ==================== JOUEURS ====================
+
+    /**
+     * Retourne le nombre de joueurs capturés.
+     *
+     * @return Le nombre de joueurs capturés
+     */
+    public int getPlayerSize() { return playerSize; }
+
+    /**
+     * Retourne le numéro du joueur (1 à 4).
+     *
+     * @param i Indice du joueur
+     * @return Le numéro du joueur (1 à 4)
+     */
+    public int getPlayerNumber(int i) { return playerNumbers[i]; }
+
+    /**
+     * Retourne la position visuelle X en pixels.
+     *
+     * @param i Indice du joueur
+     * @return La position visuelle X en pixels
+     */
+    public double getPlayerVisualX(int i) { return playerVisualX[i]; }
+
+    /**
+     * Retourne la position visuelle Y en pixels.
+     *
+     * @param i Indice du joueur
+     * @return La position visuelle Y en pixels
+     */
+    public double getPlayerVisualY(int i) { return playerVisualY[i]; }
+
+    /**
+     * Indique si le joueur est éliminé.
+     *
+     * @param i Indice du joueur
+     * @return true si le joueur est éliminé
+     */
+    public boolean isPlayerEliminated(int i) { return playerEliminated[i]; }
+
+    /**
+     * Indique si le joueur est en déplacement.
+     *
+     * @param i Indice du joueur
+     * @return true si le joueur est en déplacement
+     */
+    public boolean isPlayerMoving(int i) { return playerMoving[i]; }
+
+    /**
+     * Retourne le timer d'invincibilité restant.
+     *
+     * @param i Indice du joueur
+     * @return Le timer d'invincibilité restant
+     */
+    public int getPlayerInvincibility(int i) { return playerInvincibility[i]; }
+
+    /**
+     * Retourne le nombre de vies restantes.
+     *
+     * @param i Indice du joueur
+     * @return Le nombre de vies restantes
+     */
+    public int getPlayerLives(int i) { return playerLives[i]; }
+
+    /**
+     * Retourne la portée des bombes.
+     *
+     * @param i Indice du joueur
+     * @return La portée des bombes
+     */
+    public int getPlayerBombRange(int i) { return playerBombRange[i]; }
+
+    /**
+     * Retourne la vitesse du joueur.
+     *
+     * @param i Indice du joueur
+     * @return La vitesse du joueur
+     */
+    public double getPlayerSpeed(int i) { return playerSpeed[i]; }
+
+    /**
+     * Indique si le joueur peut pousser les bombes.
+     *
+     * @param i Indice du joueur
+     * @return true si le joueur peut pousser les bombes
+     */
+    public boolean canPlayerPushBombs(int i) { return playerCanPush[i]; }
+
+    // ==================== BOMBES ====================
+
+    /**
+     * Retourne le nombre de bombes statiques capturées.
+     *
+     * @return Le nombre de bombes statiques capturées
+     */
+    public int getBombSize() { return bombSize; }
+
+    /**
+     * Retourne la colonne de la bombe.
+     *
+     * @param i Indice de la bombe
+     * @return La colonne de la bombe
+     */
+    public int getBombX(int i) { return bombX[i]; }
+
+    /**
+     * Retourne la ligne de la bombe.
+     *
+     * @param i Indice de la bombe
+     * @return La ligne de la bombe
+     */
+    public int getBombY(int i) { return bombY[i]; }
+
+    /**
+     * Retourne le timer restant de la bombe.
+     *
+     * @param i Indice de la bombe
+     * @return Le timer restant de la bombe
+     */
+    public int getBombTimer(int i) { return bombTimer[i]; }
+
+    /**
+     * Retourne le nombre de bombes en mouvement capturées.
+     *
+     * @return Le nombre de bombes en mouvement capturées
+     */
+    public int getMovingBombSize() { return movingBombSize; }
+
+    /**
+     * Retourne la position visuelle X en pixels.
+     *
+     * @param i Indice de la bombe
+     * @return La position visuelle X en pixels
+     */
+    public double getMovingBombX(int i) { return movingBombX[i]; }
+
+    /**
+     * Retourne la position visuelle Y en pixels.
+     *
+     * @param i Indice de la bombe
+     * @return La position visuelle Y en pixels
+     */
+    public double getMovingBombY(int i) { return movingBombY[i]; }
+
+    /**
+     * Retourne le timer restant de la bombe.
+     *
+     * @param i Indice de la bombe
+     * @return Le timer restant de la bombe
+     */
+    public int getMovingBombTimer(int i) { return movingBombTimer[i]; }
+
+    // ==================== EXPLOSIONS ====================
+
+    /**
+     * Retourne le nombre d'explosions capturées.
+     *
+     * @return Le nombre d'explosions capturées
+     */
+    public int getExplosionSize() { return explosionSize; }
+
+    /**
+     * Retourne la colonne de l'explosion.
+     *
+     * @param i Indice de l'explosion
+     * @return La colonne de l'explosion
+     */
+    public int getExplosionX(int i) { return explosionX[i]; }
+
+    /**
+     * Retourne la ligne de l'explosion.
+     *
+     * @param i Indice de l'explosion
+     * @return La ligne de l'explosion
+     */
+    public int getExplosionY(int i) { return explosionY[i]; }
+
+    /**
+     * Retourne le timer restant de l'explosion.
+     *
+     * @param i Indice de l'explosion
+     * @return Le timer restant de l'explosion
+     */
+    public int getExplosionTimer(int i) { return explosionTimer[i]; }
+
+    /**
+     * Retourne la durée totale de l'explosion.
+     *
+     * @param i Indice de l'explosion
+     * @return La durée totale de l'explosion
+     */
+    public int getExplosionDuration(int i) { return explosionDuration[i]; }
+
+    // ==================== POWER-UPS ====================
+
+    /**
+     * Retourne le nombre de power-ups capturés.
+     *
+     * @return Le nombre de power-ups capturés
+     */
+    public int getPowerUpSize() { return powerUpSize; }
+
+    /**
+     * Retourne la colonne du power-up.
+     *
+     * @param i Indice du power-up
+     * @return La colonne du power-up
+     */
+    public int getPowerUpX(int i) { return powerUpX[i]; }
+
+    /**
+     * Retourne la ligne du power-up.
+     *
+     * @param i Indice du power-up
+     * @return La ligne du power-up
+     */
+    public int getPowerUpY(int i) { return powerUpY[i]; }
+
+    /**
+     * Retourne le type du power-up.
+     *
+     * @param i Indice du power-up
+     * @return Le type du power-up
+     */
+    public PowerUpSystem.PowerUpType getPowerUpType(int i) { return powerUpTypes[i]; }
+}
@@ -0,0 +1,112 @@
+package bomberman.model.game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple tampon d'instantanés de rendu entre la simulation et l'affichage.
+ * Trois {@link RenderSnapshot} préalloués circulent entre trois rôles :
+ * <ul>
+ *   <li><strong>Écriture</strong> : instantané rempli par le thread de simulation</li>
+ *   <li><strong>Prêt</strong> : dernier instantané publié, pas encore récupéré</li>
+ *   <li><strong>Lecture</strong> : instantané en cours d'affichage par le renderer</li>
+ * </ul>
+ *
+ * <p>Publier ou récupérer un instantané revient à échanger atomiquement un indice
+ * avec la case « prêt » : aucun verrou, aucune allocation, et aucun des deux threads
+ * n'attend l'autre. Le renderer obtient toujours l'instantané complet le plus récent ;
+ * si la simulation publie plusieurs fois entre deux frames, les instantanés
+ * intermédiaires sont simplement écrasés.</p>
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * // Thread de simulation
+ * buffer.beginWrite().capture(gameManager);
+ * buffer.publish();
+ *
+ * // Thread de rendu
+ * renderer.render(buffer.acquire());
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class RenderSnapshotBuffer {
+
+    /** Bit signalant que la case « prêt » contient un instantané non lu */
+    private static final int FRESH = 4;
+
+    /** Masque extrayant l'indice d'instantané */
+    private static final int INDEX_MASK = 3;
+
+    /** Les trois instantanés recyclés */
+    private final RenderSnapshot[] snapshots;
+
+    /** Indice de l'instantané prêt, combiné au bit {@link #FRESH} */
+    private final AtomicInteger ready;
+
+    /** Indice de l'instantané en écriture (thread de simulation uniquement) */
+    private int writeIndex;
+
+    /** Indice de l'instantané en lecture (thread de rendu uniquement) */
+    private int readIndex;
+
+    /**
+     * Constructeur du triple tampon.
+     * Les trois instantanés sont alloués une fois pour toutes.
+     */
+    public RenderSnapshotBuffer() {
+        this.snapshots = new RenderSnapshot[] {
+                new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+        };
+        this.writeIndex = 0;
+        this.ready = new AtomicInteger(1);
+        this.readIndex = 2;
+    }
+
+    // ==================== CÔTÉ SIMULATION ====================
+
+    /**
+     * Retourne l'instantané à remplir avant le prochain {@link #publish()}.
+     * Cet instantané n'est jamais lu par le renderer tant qu'il n'est pas publié.
+     *
+     * @return L'instantané en écriture
+     */
+    public RenderSnapshot beginWrite() {
+        return snapshots[writeIndex];
+    }
+
+    /**
+     * Publie l'instantané en écriture et récupère une autre instance à remplir.
+     */
+    public void publish() {
+        int previous = ready.getAndSet(writeIndex | FRESH);
+        writeIndex = previous & INDEX_MASK;
+    }
+
+    // ==================== CÔTÉ RENDU ====================
+
+    /**
+     * Retourne le dernier instantané publié.
+     * Si aucun nouvel instantané n'a été publié depuis l'appel précédent,
+     * le même instantané est retourné (l'image est simplement redessinée).
+     *
+     * @return L'instantané à afficher
+     */
+    public RenderSnapshot acquire() {
+        if ((ready.get() & FRESH) != 0) {
+            int previous = ready.getAndSet(readIndex);
+            readIndex = previous & INDEX_MASK;
+        }
+        return snapshots[readIndex];
+    }
+
+    /**
+     * Indique si un instantané a été publié depuis le dernier {@link #acquire()}.
+     *
+     * @return true si un nouvel instantané est disponible
+     */
+    public boolean hasNewSnapshot() {
+        return (ready.get() & FRESH) != 0;
+    }
+}
@@ -0,0 +1,581 @@
+package bomberman.model.profile;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base de profils projetée en mémoire : les profils sont des enregistrements de
+ * taille fixe rangés directement dans une table de hachage à adressage ouvert,
+ * indexée par nom d'utilisateur. L'ouverture ne lit rien (le système charge les
+ * pages à la demande) : le démarrage ne dépend plus du nombre de profils, et une
+ * recherche, une mise à jour ou une incrémentation de compteur ne touche qu'un
+ * enregistrement.
+ *
+ * <p>Format du fichier :</p>
+ * <pre>
+ * en-tête (64 o) : "BMPM" | version | capacité | profils | emplacements supprimés | taille d'un enregistrement
+ * enregistrement (320 o) :
+ *   état (1 o) | taille du nom (1 o) | taille du prénom (1 o) | réservé (1 o)
+ *   hachage du nom (4 o) | parties jouées (4 o) | parties gagnées (4 o)
+ *   note (4 o, flottant) | écart de la note (4 o, flottant, 0 sans note)
+ *   réservé aux futures statistiques (8 o) | nom (40 o) | prénom (40 o)
+ *   parties de l'historique (1 o) | réservé (3 o) | historique ({@value MatchHistory#CAPACITY} × {@value MatchHistory#ENTRY_SIZE} o)
+ * </pre>
+ *
+ * <p>Table de hachage :</p>
+ * <ul>
+ *   <li>La capacité est une puissance de deux ; l'emplacement initial vient du
+ *       hachage du nom, puis le sondage est linéaire</li>
+ *   <li>Une suppression laisse une pierre tombale, réutilisée par les insertions</li>
+ *   <li>Au-delà de 70 % d'emplacements occupés, la table est reconstruite dans un
+ *       fichier temporaire (deux fois plus grand si nécessaire) puis renommée
+ *       atomiquement, comme le compactage de {@link ProfileJournal}</li>
+ * </ul>
+ *
+ * <p>Les modifications sont écrites dans la projection et atteignent le disque
+ * au plus tard à {@link #force()} ou à la fermeture.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class MappedProfileStore implements AutoCloseable {
+
+    /** Signature du fichier ("BMPM") */
+    public static final int MAGIC = 0x424D504D;
+
+    /** Version du format */
+    public static final int VERSION = 1;
+
+    /** Capacité initiale par défaut (nombre d'emplacements) */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Capacité maximale : la projection doit rester sous 2 Go */
+    public static final int MAX_CAPACITY = 1 << 22;
+
+    /** Taille maximale d'un nom ou d'un prénom, en octets UTF-8 */
+    public static final int MAX_NAME_BYTES = 40;
+
+    /** Taille de l'en-tête */
+    static final int HEADER_SIZE = 64;
+
+    /** Taille d'un enregistrement */
+    static final int RECORD_SIZE = 320;
+
+    /** Taux d'occupation (profils et pierres tombales) déclenchant une reconstruction */
+    private static final double MAX_LOAD = 0.7;
+
+    /** État d'un emplacement libre */
+    private static final byte EMPTY = 0;
+
+    /** État d'un emplacement occupé */
+    private static final byte USED = 1;
+
+    /** État d'un emplacement supprimé (pierre tombale) */
+    private static final byte DELETED = 2;
+
+    // Positions dans l'en-tête
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int DELETED_OFFSET = 16;
+    private static final int RECORD_SIZE_OFFSET = 20;
+
+    // Positions dans un enregistrement
+    private static final int USERNAME_LENGTH = 1;
+    private static final int FIRST_NAME_LENGTH = 2;
+    private static final int HASH = 4;
+    private static final int GAMES_PLAYED = 8;
+    private static final int GAMES_WON = 12;
+    private static final int RATING = 16;
+    private static final int DEVIATION = 20;
+    private static final int USERNAME = 32;
+    private static final int FIRST_NAME = USERNAME + MAX_NAME_BYTES;
+    private static final int HISTORY_SIZE = FIRST_NAME + MAX_NAME_BYTES;
+    private static final int HISTORY = HISTORY_SIZE + 4;
+
+    /** Fichier de la base */
+    private final Path path;
+
+    /** Canal du fichier */
+    private FileChannel channel;
+
+    /** Projection du fichier */
+    private MappedByteBuffer buffer;
+
+    /** Nombre d'emplacements */
+    private int capacity;
+
+    /** Nombre de profils */
+    private int count;
+
+    /** Nombre de pierres tombales */
+    private int deleted;
+
+    /**
+     * Ouvre une base existante ou en crée une de capacité {@link #DEFAULT_CAPACITY}.
+     *
+     * @param path Le fichier de la base
+     * @throws IOException si le fichier est illisible ou n'est pas une base de profils
+     */
+    public MappedProfileStore(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Ouvre une base existante ou en crée une de capacité donnée.
+     *
+     * @param path Le fichier de la base
+     * @param initialCapacity La capacité d'une nouvelle base, arrondie à une puissance de deux
+     * @throws IOException si le fichier est illisible ou n'est pas une base de profils
+     */
+    public MappedProfileStore(Path path, int initialCapacity) throws IOException {
+        this.path = path;
+        if (Files.exists(path) && Files.size(path) > 0) {
+            map();
+        } else {
+            create(path, tableSize(initialCapacity));
+            map();
+        }
+    }
+
+    // ==================== FICHIER ====================
+
+    /**
+     * Crée un fichier vide de capacité donnée.
+     *
+     * @param file Le fichier à créer
+     * @param slots Le nombre d'emplacements (puissance de deux)
+     * @return La projection du nouveau fichier (valide après fermeture du canal)
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private static MappedByteBuffer create(Path file, int slots) throws IOException {
+        try (FileChannel created = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = created.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(slots));
+            mapped.putInt(0, MAGIC);
+            mapped.putInt(4, VERSION);
+            mapped.putInt(CAPACITY_OFFSET, slots);
+            mapped.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+            return mapped;
+        }
+    }
+
+    /**
+     * Projette le fichier de la base et vérifie son en-tête.
+     *
+     * @throws IOException si le fichier n'est pas une base de profils valide
+     */
+    private void map() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            channel.close();
+            throw new IOException("Base de profils tronquée : " + path);
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        int slots = header.getInt(CAPACITY_OFFSET);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE
+                || slots <= 0 || Integer.bitCount(slots) != 1 || slots > MAX_CAPACITY
+                || size < fileSize(slots)) {
+            channel.close();
+            throw new IOException("Base de profils invalide : " + path);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(slots));
+        capacity = slots;
+        count = buffer.getInt(COUNT_OFFSET);
+        deleted = buffer.getInt(DELETED_OFFSET);
+    }
+
+    /**
+     * Calcule la taille du fichier pour une capacité donnée.
+     *
+     * @param slots Le nombre d'emplacements
+     * @return La taille en octets
+     */
+    private static long fileSize(int slots) {
+        return HEADER_SIZE + (long) slots * RECORD_SIZE;
+    }
+
+    /**
+     * Arrondit une capacité demandée à la puissance de deux supérieure.
+     *
+     * @param requested La capacité demandée
+     * @return La capacité de la table
+     */
+    private static int tableSize(int requested) {
+        int slots = Integer.highestOneBit(Math.max(16, requested - 1)) << 1;
+        return Math.min(slots, MAX_CAPACITY);
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Lit un profil.
+     *
+     * @param username Le nom d'utilisateur
+     * @return Une copie du profil, null s'il n'existe pas
+     */
+    public synchronized PlayerProfile get(String username) {
+        int slot = find(encode(username));
+        return slot < 0 ? null : readProfile(offset(slot));
+    }
+
+    /**
+     * Indique si un profil existe.
+     *
+     * @param username Le nom d'utilisateur
+     * @return true si le profil existe
+     */
+    public synchronized boolean contains(String username) {
+        return find(encode(username)) >= 0;
+    }
+
+    /**
+     * Lit tous les profils, dans l'ordre des emplacements.
+     *
+     * @return Des copies de tous les profils
+     */
+    public synchronized List<PlayerProfile> getAll() {
+        checkOpen();
+        List<PlayerProfile> profiles = new ArrayList<>(count);
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if (buffer.get(offset) == USED) {
+                profiles.add(readProfile(offset));
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * Lit un enregistrement.
+     *
+     * @param offset La position de l'enregistrement
+     * @return Le profil lu
+     */
+    private PlayerProfile readProfile(int offset) {
+        PlayerProfile profile = new PlayerProfile(
+                readName(offset + USERNAME, buffer.get(offset + USERNAME_LENGTH)),
+                readName(offset + FIRST_NAME, buffer.get(offset + FIRST_NAME_LENGTH)));
+        profile.restoreCounters(buffer.getInt(offset + GAMES_PLAYED), buffer.getInt(offset + GAMES_WON));
+        float deviation = buffer.getFloat(offset + DEVIATION);
+        if (deviation > 0) {
+            profile.setRating(new Rating(buffer.getFloat(offset + RATING), deviation));
+        }
+        int matches = buffer.get(offset + HISTORY_SIZE) & 0xFF;
+        if (matches > 0) {
+            byte[] history = new byte[matches * MatchHistory.ENTRY_SIZE];
+            buffer.get(offset + HISTORY, history);
+            profile.restoreMatchHistory(MatchHistory.fromBytes(history, 0, history.length));
+        }
+        return profile;
+    }
+
+    /**
+     * Lit un nom UTF-8 dans la projection.
+     *
+     * @param offset La position du nom
+     * @param length La taille du nom
+     * @return Le nom lu
+     */
+    private String readName(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== ÉCRITURE ====================
+
+    /**
+     * Crée ou met à jour un profil, sur place s'il existe déjà.
+     *
+     * @param profile Le profil à écrire
+     * @throws IOException si la table doit grandir et que la reconstruction échoue
+     * @throws IllegalArgumentException si un nom dépasse {@value #MAX_NAME_BYTES} octets
+     */
+    public synchronized void put(PlayerProfile profile) throws IOException {
+        byte[] username = encode(profile.getUsername());
+        byte[] firstName = encode(profile.getFirstName());
+        int slot = find(username);
+        if (slot < 0) {
+            if (count + deleted + 1 > capacity * MAX_LOAD) {
+                rebuild();
+            }
+            slot = -find(username) - 1;
+            int offset = offset(slot);
+            if (buffer.get(offset) == DELETED) {
+                deleted--;
+            }
+            buffer.put(offset + USERNAME_LENGTH, (byte) username.length);
+            buffer.putInt(offset + HASH, hash(username));
+            buffer.put(offset + USERNAME, username);
+            buffer.put(offset, USED);
+            count++;
+            writeCounts();
+        }
+        int offset = offset(slot);
+        buffer.put(offset + FIRST_NAME_LENGTH, (byte) firstName.length);
+        buffer.put(offset + FIRST_NAME, firstName);
+        buffer.putInt(offset + GAMES_PLAYED, profile.getGamesPlayed());
+        buffer.putInt(offset + GAMES_WON, profile.getGamesWon());
+        buffer.putFloat(offset + RATING, profile.isRated() ? (float) profile.getRating().getRating() : 0f);
+        buffer.putFloat(offset + DEVIATION, profile.isRated() ? (float) profile.getRating().getDeviation() : 0f);
+        byte[] history = profile.getMatchHistory().toBytes();
+        buffer.put(offset + HISTORY, history);
+        buffer.put(offset + HISTORY_SIZE, (byte) (history.length / MatchHistory.ENTRY_SIZE));
+    }
+
+    /**
+     * Incrémente sur place le nombre de parties jouées d'un profil.
+     *
+     * @param username Le nom d'utilisateur
+     * @return false si le profil n'existe pas
+     */
+    public synchronized boolean incrementGamesPlayed(String username) {
+        return increment(username, GAMES_PLAYED);
+    }
+
+    /**
+     * Incrémente sur place le nombre de parties gagnées d'un profil.
+     *
+     * @param username Le nom d'utilisateur
+     * @return false si le profil n'existe pas
+     */
+    public synchronized boolean incrementGamesWon(String username) {
+        return increment(username, GAMES_WON);
+    }
+
+    /**
+     * Incrémente un compteur d'un enregistrement.
+     *
+     * @param username Le nom d'utilisateur
+     * @param field La position du compteur dans l'enregistrement
+     * @return false si le profil n'existe pas
+     */
+    private boolean increment(String username, int field) {
+        int slot = find(encode(username));
+        if (slot < 0) return false;
+        int position = offset(slot) + field;
+        buffer.putInt(position, buffer.getInt(position) + 1);
+        return true;
+    }
+
+    /**
+     * Supprime un profil en laissant une pierre tombale.
+     *
+     * @param username Le nom d'utilisateur
+     * @return false si le profil n'existait pas
+     */
+    public synchronized boolean delete(String username) {
+        int slot = find(encode(username));
+        if (slot < 0) return false;
+        int offset = offset(slot);
+        buffer.put(offset, DELETED);
+        count--;
+        deleted++;
+        writeCounts();
+        return true;
+    }
+
+    /**
+     * Écrit les compteurs de la table dans l'en-tête.
+     */
+    private void writeCounts() {
+        buffer.putInt(COUNT_OFFSET, count);
+        buffer.putInt(DELETED_OFFSET, deleted);
+    }
+
+    // ==================== TABLE DE HACHAGE ====================
+
+    /**
+     * Cherche l'emplacement d'un nom.
+     *
+     * @param username Le nom encodé
+     * @return L'emplacement du profil, ou {@code -(emplacement d'insertion) - 1}
+     *         s'il n'existe pas (première pierre tombale ou emplacement libre rencontré)
+     */
+    private int find(byte[] username) {
+        checkOpen();
+        int hash = hash(username);
+        int mask = capacity - 1;
+        int insert = -1;
+        for (int probe = 0, slot = hash & mask; probe < capacity; probe++, slot = (slot + 1) & mask) {
+            int offset = offset(slot);
+            byte state = buffer.get(offset);
+            if (state == EMPTY) {
+                return -(insert >= 0 ? insert : slot) - 1;
+            }
+            if (state == DELETED) {
+                if (insert < 0) insert = slot;
+            } else if (buffer.getInt(offset + HASH) == hash && nameEquals(offset, username)) {
+                return slot;
+            }
+        }
+        return -(insert >= 0 ? insert : 0) - 1;
+    }
+
+    /**
+     * Compare le nom d'un enregistrement à un nom encodé.
+     *
+     * @param offset La position de l'enregistrement
+     * @param username Le nom encodé
+     * @return true si les noms sont identiques
+     */
+    private boolean nameEquals(int offset, byte[] username) {
+        if (buffer.get(offset + USERNAME_LENGTH) != username.length) return false;
+        for (int i = 0; i < username.length; i++) {
+            if (buffer.get(offset + USERNAME + i) != username[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reconstruit la table sans pierres tombales, en doublant la capacité si les
+     * profils l'occupent déjà à plus de moitié du seuil. La nouvelle table est écrite
+     * dans un fichier temporaire, forcée sur disque puis renommée atomiquement.
+     * Les projections sont abandonnées avant le renommage (un fichier projeté ne
+     * peut pas être remplacé sous Windows) ; si le renommage échoue, l'ancienne
+     * base, restée ouverte, est projetée à nouveau.
+     *
+     * @throws IOException en cas d'erreur d'écriture, ou si la capacité maximale est atteinte
+     */
+    private void rebuild() throws IOException {
+        int slots = capacity;
+        while ((count + 1) > slots * MAX_LOAD / 2) {
+            slots <<= 1;
+        }
+        if (slots > MAX_CAPACITY) {
+            throw new IOException("Base de profils pleine : " + count + " profils");
+        }
+        long start = System.nanoTime();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        MappedByteBuffer target = create(temporary, slots);
+        int mask = slots - 1;
+        byte[] record = new byte[RECORD_SIZE];
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if (buffer.get(offset) != USED) continue;
+            buffer.get(offset, record);
+            int free = buffer.getInt(offset + HASH) & mask;
+            while (target.get(HEADER_SIZE + free * RECORD_SIZE) != EMPTY) {
+                free = (free + 1) & mask;
+            }
+            target.put(HEADER_SIZE + free * RECORD_SIZE, record);
+        }
+        target.putInt(COUNT_OFFSET, count);
+        target.force();
+        target = null;
+
+        buffer.force();
+        buffer = null;
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(capacity));
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        channel.close();
+        map();
+        System.out.println("Base de profils reconstruite : " + count + " profils, " + slots
+                + " emplacements en " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Calcule le hachage d'un nom encodé (FNV-1a, puis brassage des bits).
+     *
+     * @param bytes Le nom encodé
+     * @return Le hachage
+     */
+    private static int hash(byte[] bytes) {
+        int hash = 0x811C9DC5;
+        for (byte b : bytes) {
+            hash = (hash ^ b) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Encode un nom en UTF-8 en vérifiant sa taille.
+     *
+     * @param name Le nom
+     * @return Le nom encodé
+     * @throws IllegalArgumentException si le nom dépasse {@value #MAX_NAME_BYTES} octets
+     */
+    private static byte[] encode(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Nom trop long pour la base de profils (" + bytes.length
+                    + " octets, " + MAX_NAME_BYTES + " au plus) : " + name);
+        }
+        return bytes;
+    }
+
+    /**
+     * Calcule la position d'un emplacement.
+     *
+     * @param slot L'emplacement
+     * @return La position de son enregistrement dans la projection
+     */
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    /**
+     * Vérifie que la base est ouverte.
+     */
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("Base de profils fermée");
+        }
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre de profils.
+     *
+     * @return Le nombre de profils
+     */
+    public synchronized int size() { return count; }
+
+    /**
+     * Retourne le nombre d'emplacements de la table.
+     *
+     * @return La capacité
+     */
+    public synchronized int getCapacity() { return capacity; }
+
+    /**
+     * Force sur disque les modifications de la projection.
+     */
+    public synchronized void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Force les modifications sur disque puis ferme la base.
+     */
+    @Override
+    public synchronized void close() {
+        if (buffer == null) return;
+        buffer.force();
+        buffer = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture de la base de profils : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package bomberman.model.profile;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Historique des dernières parties d'un profil, dans un tampon circulaire de
+ * taille fixe : chaque partie occupe {@value #ENTRY_SIZE} octets et la plus
+ * ancienne est écrasée au-delà de {@value #CAPACITY} parties. L'historique est
+ * sauvegardé avec le profil, et les tendances (forme récente) se calculent sans
+ * parcourir de journal global.
+ *
+ * <p>Format d'une entrée :</p>
+ * <pre>
+ * date en secondes (4 o, non signé) | durée en secondes (2 o)
+ * adversaires à égalité (4 bits) et mode (4 bits) (1 o)
+ * joueurs (4 bits) et classement (4 bits) (1 o) | éliminations (1 o)
+ * bombes posées (2 o) | power-ups ramassés (1 o)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class MatchHistory implements Serializable {
+
+    /**
+     * Identifiant de version pour la sérialisation (relecture des anciens profils).
+     */
+    private static final long serialVersionUID = 1L;
+
+    /** Nombre de parties conservées */
+    public static final int CAPACITY = 16;
+
+    /** Taille d'une entrée en octets */
+    public static final int ENTRY_SIZE = 12;
+
+    /** Entrées, rangées en tampon circulaire */
+    private final byte[] entries = new byte[CAPACITY * ENTRY_SIZE];
+
+    /** Indice de la prochaine entrée écrite */
+    private int next;
+
+    /** Nombre d'entrées valides */
+    private int size;
+
+    // ==================== MODIFICATION ====================
+
+    /**
+     * Ajoute une partie, en écrasant la plus ancienne si l'historique est plein.
+     *
+     * @param record La partie à ajouter
+     */
+    public void add(MatchRecord record) {
+        int offset = next * ENTRY_SIZE;
+        putUnsigned(offset, 4, Math.max(0, Math.min(record.getDate(), 0xFFFFFFFFL)));
+        putUnsigned(offset + 4, 2, clamp(record.getDurationSeconds(), 0xFFFF));
+        entries[offset + 6] = (byte) (clamp(record.getTiedOpponents(), 15) << 4 | clamp(record.getMode(), 15));
+        entries[offset + 7] = (byte) (clamp(record.getPlayerCount(), 15) << 4 | clamp(record.getPlacement(), 15));
+        entries[offset + 8] = (byte) clamp(record.getKills(), 0xFF);
+        putUnsigned(offset + 9, 2, clamp(record.getBombsPlaced(), 0xFFFF));
+        entries[offset + 11] = (byte) clamp(record.getPowerUpsCollected(), 0xFF);
+        next = (next + 1) % CAPACITY;
+        size = Math.min(size + 1, CAPACITY);
+    }
+
+    /**
+     * Crée une copie indépendante de l'historique.
+     *
+     * @return La copie
+     */
+    public MatchHistory copy() {
+        MatchHistory copy = new MatchHistory();
+        System.arraycopy(entries, 0, copy.entries, 0, entries.length);
+        copy.next = next;
+        copy.size = size;
+        return copy;
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Retourne le nombre de parties conservées.
+     *
+     * @return Le nombre de parties, au plus {@value #CAPACITY}
+     */
+    public int size() { return size; }
+
+    /**
+     * Retourne une partie de l'historique.
+     *
+     * @param index 0 pour la plus récente, jusqu'à {@code size() - 1} pour la plus ancienne
+     * @return La partie
+     * @throws IndexOutOfBoundsException si l'indice est hors de l'historique
+     */
+    public MatchRecord get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Partie " + index + " sur " + size);
+        }
+        int offset = slot(index) * ENTRY_SIZE;
+        return new MatchRecord(
+                getUnsigned(offset, 4),
+                entries[offset + 6] & 0x0F,
+                (entries[offset + 7] & 0xFF) >>> 4,
+                entries[offset + 7] & 0x0F,
+                (entries[offset + 6] & 0xFF) >>> 4,
+                (int) getUnsigned(offset + 4, 2),
+                entries[offset + 8] & 0xFF,
+                (int) getUnsigned(offset + 9, 2),
+                entries[offset + 11] & 0xFF);
+    }
+
+    /**
+     * Retourne toutes les parties, de la plus récente à la plus ancienne.
+     *
+     * @return Les parties conservées
+     */
+    public List<MatchRecord> toList() {
+        List<MatchRecord> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(get(i));
+        }
+        return records;
+    }
+
+    // ==================== TENDANCES ====================
+
+    /**
+     * Calcule le taux de victoire sur les dernières parties.
+     *
+     * @param last Le nombre de parties récentes à considérer
+     * @return Le taux en pourcentage (0.0 à 100.0), 0 sans partie
+     */
+    public double getWinRate(int last) {
+        int count = Math.min(last, size);
+        if (count == 0) return 0.0;
+        int wins = 0;
+        for (int i = 0; i < count; i++) {
+            if ((entries[slot(i) * ENTRY_SIZE + 7] & 0x0F) == 1) wins++;
+        }
+        return wins * 100.0 / count;
+    }
+
+    /**
+     * Calcule le classement moyen sur les dernières parties.
+     *
+     * @param last Le nombre de parties récentes à considérer
+     * @return Le classement moyen, 0 sans partie
+     */
+    public double getAveragePlacement(int last) {
+        return average(last, 7, 0x0F);
+    }
+
+    /**
+     * Calcule le nombre moyen d'éliminations sur les dernières parties.
+     *
+     * @param last Le nombre de parties récentes à considérer
+     * @return La moyenne d'éliminations par partie, 0 sans partie
+     */
+    public double getAverageKills(int last) {
+        return average(last, 8, 0xFF);
+    }
+
+    /**
+     * Calcule la moyenne d'un champ d'un octet sur les dernières parties.
+     *
+     * @param last Le nombre de parties récentes à considérer
+     * @param field La position du champ dans l'entrée
+     * @param mask Le masque du champ
+     * @return La moyenne, 0 sans partie
+     */
+    private double average(int last, int field, int mask) {
+        int count = Math.min(last, size);
+        if (count == 0) return 0.0;
+        int total = 0;
+        for (int i = 0; i < count; i++) {
+            total += entries[slot(i) * ENTRY_SIZE + field] & mask;
+        }
+        return (double) total / count;
+    }
+
+    // ==================== PERSISTANCE ====================
+
+    /**
+     * Encode les entrées, de la plus ancienne à la plus récente.
+     *
+     * @return {@code size() * ENTRY_SIZE} octets
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[size * ENTRY_SIZE];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(entries, slot(size - 1 - i) * ENTRY_SIZE, bytes, i * ENTRY_SIZE, ENTRY_SIZE);
+        }
+        return bytes;
+    }
+
+    /**
+     * Relit des entrées encodées par {@link #toBytes()}. Seules les
+     * {@value #CAPACITY} plus récentes sont gardées.
+     *
+     * @param bytes Le tableau source
+     * @param offset La position de la première entrée
+     * @param length La taille des entrées, multiple de {@value #ENTRY_SIZE}
+     * @return L'historique relu
+     * @throws IllegalArgumentException si la taille n'est pas un multiple de {@value #ENTRY_SIZE}
+     */
+    public static MatchHistory fromBytes(byte[] bytes, int offset, int length) {
+        if (length % ENTRY_SIZE != 0) {
+            throw new IllegalArgumentException("Historique tronqué : " + length + " octets");
+        }
+        MatchHistory history = new MatchHistory();
+        int count = Math.min(length / ENTRY_SIZE, CAPACITY);
+        int start = offset + length - count * ENTRY_SIZE;
+        System.arraycopy(bytes, start, history.entries, 0, count * ENTRY_SIZE);
+        history.size = count;
+        history.next = count % CAPACITY;
+        return history;
+    }
+
+    // ==================== OUTILS ====================
+
+    /**
+     * Calcule l'emplacement d'une partie dans le tampon.
+     *
+     * @param index 0 pour la plus récente
+     * @return L'emplacement dans le tampon circulaire
+     */
+    private int slot(int index) {
+        return (next - 1 - index + CAPACITY) % CAPACITY;
+    }
+
+    /**
+     * Borne une valeur à la taille de son champ.
+     *
+     * @param value La valeur
+     * @param max La valeur maximale du champ
+     * @return La valeur bornée entre 0 et max
+     */
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+
+    /**
+     * Écrit un entier non signé gros-boutiste.
+     *
+     * @param offset La position d'écriture
+     * @param length Le nombre d'octets
+     * @param value La valeur
+     */
+    private void putUnsigned(int offset, int length, long value) {
+        for (int i = length - 1; i >= 0; i--) {
+            entries[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * Lit un entier non signé gros-boutiste.
+     *
+     * @param offset La position de lecture
+     * @param length Le nombre d'octets
+     * @return La valeur
+     */
+    private long getUnsigned(int offset, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value << 8 | (entries[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
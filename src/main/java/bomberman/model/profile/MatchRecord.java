@@ -0,0 +1,172 @@
+package bomberman.model.profile;
+
+/**
+ * Résumé d'une partie jouée par un profil, conservé dans son
+ * {@link MatchHistory}. Les valeurs sont bornées à la taille de leur champ
+ * dans l'historique (par exemple 255 éliminations au plus).
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MatchRecord {
+
+    /** Mode de jeu : partie classique entre joueurs locaux */
+    public static final int MODE_CLASSIC = 0;
+
+    /** Mode de jeu : partie contre l'IA */
+    public static final int MODE_AI = 1;
+
+    /** Date de fin de la partie, en secondes depuis le 1er janvier 1970 */
+    private final long date;
+
+    /** Mode de jeu */
+    private final int mode;
+
+    /** Nombre de joueurs de la partie */
+    private final int playerCount;
+
+    /** Classement du joueur (1 = vainqueur) */
+    private final int placement;
+
+    /** Nombre d'adversaires classés à égalité avec le joueur */
+    private final int tiedOpponents;
+
+    /** Durée de la partie en secondes */
+    private final int durationSeconds;
+
+    /** Nombre d'adversaires éliminés */
+    private final int kills;
+
+    /** Nombre de bombes posées */
+    private final int bombsPlaced;
+
+    /** Nombre de power-ups ramassés */
+    private final int powerUpsCollected;
+
+    /**
+     * Constructeur d'un résumé de partie.
+     *
+     * @param date La date de fin, en secondes depuis le 1er janvier 1970
+     * @param mode Le mode de jeu ({@link #MODE_CLASSIC} ou {@link #MODE_AI})
+     * @param playerCount Le nombre de joueurs
+     * @param placement Le classement du joueur (1 = vainqueur)
+     * @param durationSeconds La durée de la partie en secondes
+     * @param kills Le nombre d'adversaires éliminés
+     * @param bombsPlaced Le nombre de bombes posées
+     * @param powerUpsCollected Le nombre de power-ups ramassés
+     */
+    public MatchRecord(long date, int mode, int playerCount, int placement, int durationSeconds,
+                       int kills, int bombsPlaced, int powerUpsCollected) {
+        this(date, mode, playerCount, placement, 0, durationSeconds, kills, bombsPlaced, powerUpsCollected);
+    }
+
+    /**
+     * Constructeur d'un résumé de partie avec des adversaires à égalité.
+     *
+     * @param date La date de fin, en secondes depuis le 1er janvier 1970
+     * @param mode Le mode de jeu ({@link #MODE_CLASSIC} ou {@link #MODE_AI})
+     * @param playerCount Le nombre de joueurs
+     * @param placement Le classement du joueur (1 = vainqueur)
+     * @param tiedOpponents Le nombre d'adversaires classés à égalité avec le joueur
+     * @param durationSeconds La durée de la partie en secondes
+     * @param kills Le nombre d'adversaires éliminés
+     * @param bombsPlaced Le nombre de bombes posées
+     * @param powerUpsCollected Le nombre de power-ups ramassés
+     */
+    public MatchRecord(long date, int mode, int playerCount, int placement, int tiedOpponents,
+                       int durationSeconds, int kills, int bombsPlaced, int powerUpsCollected) {
+        this.tiedOpponents = tiedOpponents;
+        this.date = date;
+        this.mode = mode;
+        this.playerCount = playerCount;
+        this.placement = placement;
+        this.durationSeconds = durationSeconds;
+        this.kills = kills;
+        this.bombsPlaced = bombsPlaced;
+        this.powerUpsCollected = powerUpsCollected;
+    }
+
+    /**
+     * Retourne la date de fin de la partie.
+     *
+     * @return La date en secondes depuis le 1er janvier 1970
+     */
+    public long getDate() { return date; }
+
+    /**
+     * Retourne le mode de jeu.
+     *
+     * @return {@link #MODE_CLASSIC} ou {@link #MODE_AI}
+     */
+    public int getMode() { return mode; }
+
+    /**
+     * Retourne le nombre de joueurs de la partie.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne le classement du joueur.
+     *
+     * @return Le classement, 1 pour le vainqueur
+     */
+    public int getPlacement() { return placement; }
+
+    /**
+     * Retourne le nombre d'adversaires classés à égalité avec le joueur
+     * (éliminés au même tick, ou encore en jeu ensemble à la fin).
+     *
+     * @return Le nombre d'adversaires à égalité
+     */
+    public int getTiedOpponents() { return tiedOpponents; }
+
+    /**
+     * Retourne la durée de la partie.
+     *
+     * @return La durée en secondes
+     */
+    public int getDurationSeconds() { return durationSeconds; }
+
+    /**
+     * Retourne le nombre d'adversaires éliminés.
+     *
+     * @return Le nombre d'éliminations
+     */
+    public int getKills() { return kills; }
+
+    /**
+     * Retourne le nombre de bombes posées.
+     *
+     * @return Le nombre de bombes
+     */
+    public int getBombsPlaced() { return bombsPlaced; }
+
+    /**
+     * Retourne le nombre de power-ups ramassés.
+     *
+     * @return Le nombre de power-ups
+     */
+    public int getPowerUpsCollected() { return powerUpsCollected; }
+
+    /**
+     * Indique si le joueur a remporté la partie.
+     *
+     * @return true si le joueur est classé premier
+     */
+    public boolean isWin() { return placement == 1; }
+
+    /**
+     * Retourne une représentation textuelle du résumé.
+     *
+     * @return Une chaîne décrivant la partie
+     */
+    @Override
+    public String toString() {
+        return String.format("MatchRecord{date=%d, mode=%d, joueurs=%d, place=%d, égalités=%d, durée=%ds, " +
+                        "éliminations=%d, bombes=%d, powerUps=%d}",
+                date, mode, playerCount, placement, tiedOpponents, durationSeconds, kills, bombsPlaced, powerUpsCollected);
+    }
+}
@@ -13,6 +13,8 @@ import java.io.Serializable;
  * <ul>
  *   <li><strong>Identification</strong> : Nom d'utilisateur et prénom</li>
  *   <li><strong>Statistiques</strong> : Parties jouées et parties gagnées</li>
+ *   <li><strong>Historique</strong> : Les dernières parties ({@link MatchHistory})</li>
+ *   <li><strong>Note</strong> : Niveau estimé selon les adversaires rencontrés ({@link Rating})</li>
  *   <li><strong>Calculs dérivés</strong> : Taux de victoire (calculé dynamiquement)</li>
  * </ul>
  *
@@ -33,9 +35,9 @@ import java.io.Serializable;
  * </ul>
  *
  * <p>Sérialisation :</p>
- * La classe implémente Serializable avec un serialVersionUID fixe pour
- * garantir la compatibilité lors des mises à jour de la classe, permettant
- * ainsi la migration des profils existants.
+ * Les profils sont sauvegardés au format binaire versionné de {@link ProfileCodec}.
+ * La classe reste Serializable avec un serialVersionUID fixe pour relire une
+ * dernière fois les anciens fichiers {@code profiles.dat} et les migrer.
  *
  * @author BUT1_TD3_G35
  * @version 1.0
@@ -78,6 +80,18 @@ public class PlayerProfile implements Serializable {
      */
     private int gamesWon;
 
+    /**
+     * Historique des dernières parties du joueur.
+     * Absent des profils relus depuis l'ancien format : créé à la première demande.
+     */
+    private MatchHistory history;
+
+    /**
+     * Note de niveau du joueur, mise à jour en fin de partie par {@link RatingSystem}.
+     * Null tant qu'aucune partie notée n'a été jouée : la note initiale s'applique.
+     */
+    private Rating rating;
+
     /**
      * Constructeur d'un profil de joueur.
      * Initialise un nouveau profil avec les informations personnelles
@@ -182,6 +196,93 @@ public class PlayerProfile implements Serializable {
         this.gamesWon++;
     }
 
+    /**
+     * Enregistre le résumé d'une partie dans l'historique du joueur.
+     * Les compteurs de parties jouées et gagnées restent mis à jour séparément.
+     *
+     * @param record Le résumé de la partie
+     */
+    public void recordMatch(MatchRecord record) {
+        getMatchHistory().add(record);
+    }
+
+    /**
+     * Retourne l'historique des dernières parties du joueur.
+     *
+     * @return L'historique (vide si aucune partie n'a été enregistrée)
+     */
+    public MatchHistory getMatchHistory() {
+        if (history == null) {
+            history = new MatchHistory();
+        }
+        return history;
+    }
+
+    /**
+     * Retourne la note de niveau du joueur.
+     *
+     * @return La note, {@link Rating#DEFAULT} avant la première partie notée
+     */
+    public Rating getRating() {
+        return rating != null ? rating : Rating.DEFAULT;
+    }
+
+    /**
+     * Remplace la note de niveau du joueur, calculée par {@link RatingSystem}
+     * en fin de partie ou relue depuis le stockage.
+     *
+     * @param rating La nouvelle note
+     */
+    public void setRating(Rating rating) {
+        this.rating = rating;
+    }
+
+    /**
+     * Indique si le joueur a déjà une note issue de parties notées.
+     *
+     * @return false tant que la note initiale s'applique
+     */
+    public boolean isRated() {
+        return rating != null;
+    }
+
+    /**
+     * Remplace l'historique d'un profil relu depuis le stockage.
+     *
+     * @param history L'historique relu
+     */
+    void restoreMatchHistory(MatchHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * Restaure les compteurs d'un profil relu depuis le stockage.
+     * Réservé à la persistance des profils : le jeu ne fait qu'incrémenter.
+     *
+     * @param gamesPlayed Le nombre de parties jouées
+     * @param gamesWon Le nombre de parties gagnées
+     */
+    void restoreCounters(int gamesPlayed, int gamesWon) {
+        this.gamesPlayed = gamesPlayed;
+        this.gamesWon = gamesWon;
+    }
+
+    /**
+     * Crée une copie indépendante du profil, écrite en arrière-plan
+     * pendant que le jeu continue à modifier l'original.
+     *
+     * @return La copie du profil
+     */
+    PlayerProfile copy() {
+        PlayerProfile copy = new PlayerProfile(username, firstName);
+        copy.restoreCounters(gamesPlayed, gamesWon);
+        if (history != null) {
+            copy.history = history.copy();
+        }
+        copy.rating = rating;
+        return copy;
+    }
+
     // ==================== MÉTHODES UTILITAIRES ====================
 
     /**
@@ -208,8 +309,8 @@ public class PlayerProfile implements Serializable {
     @Override
     public String toString() {
         return String.format("PlayerProfile{username='%s', firstName='%s', " +
-                        "gamesPlayed=%d, gamesWon=%d, winRate=%.1f%%}",
-                username, firstName, gamesPlayed, gamesWon, getWinRate());
+                        "gamesPlayed=%d, gamesWon=%d, winRate=%.1f%%, rating=%s}",
+                username, firstName, gamesPlayed, gamesWon, getWinRate(), getRating());
     }
 
     /**
@@ -1,15 +1,36 @@
 package bomberman.model.profile;
 
-import java.io.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * Gestionnaire de profils de joueurs pour le jeu Bomberman.
  * Cette classe implémente le pattern Singleton pour gérer les profils des joueurs,
- * incluant la persistance des données via la sérialisation.
+ * incluant la persistance des données via un {@link ProfileJournal} : chaque
+ * modification n'ajoute qu'un enregistrement au journal, et l'ensemble des
+ * profils n'est réécrit (atomiquement) qu'au compactage. Les écritures sont
+ * confiées à un {@link ProfileWriter} : le thread du jeu ne touche jamais le disque.
+ *
+ * <p>Pour un très grand nombre de profils, le gestionnaire peut s'appuyer sur une
+ * {@link MappedProfileStore} (propriété système {@value #BACKEND_PROPERTY} égale à
+ * {@code mapped}) : rien n'est chargé au démarrage, les profils sont lus à la
+ * demande et modifiés sur place dans le fichier projeté, par le même écrivain
+ * en arrière-plan.</p>
+ *
+ * <p>Un {@link ProfileLeaderboard} classe les profils et suit chaque
+ * modification : l'affichage d'un classement lit une page à son rang sans
+ * copier ni trier l'ensemble des profils. Il est construit au chargement avec
+ * le journal, et en arrière-plan dès l'ouverture d'une base projetée (dont
+ * l'ouverture ne lit aucun profil) : le thread du jeu ne l'attend que s'il le
+ * demande avant la fin de la construction.</p>
  *
  * @author BUT1_TD3_G35
  * @version 1.0
@@ -20,22 +41,93 @@ public class PlayerProfileManager {
     /** Chemin du fichier de sauvegarde des profils */
     private static final String FILE_PATH = "profiles.dat";
 
-    /** Map contenant tous les profils de joueurs indexés par nom d'utilisateur */
+    /** Chemin du journal des modifications de profils */
+    private static final String JOURNAL_PATH = "profiles.journal";
+
+    /** Chemin de la base projetée en mémoire */
+    private static final String STORE_PATH = "profiles.db";
+
+    /** Propriété système choisissant la persistance ({@code journal} par défaut, ou {@code mapped}) */
+    public static final String BACKEND_PROPERTY = "bomberman.profiles";
+
+    /** Journal de persistance des profils, null avec une base projetée */
+    private final ProfileJournal journal;
+
+    /** Écrivain en arrière-plan du journal ou de la base projetée */
+    private final ProfileWriter writer;
+
+    /** Base projetée en mémoire, null avec le journal */
+    private final MappedProfileStore store;
+
+    /**
+     * Map contenant tous les profils de joueurs indexés par nom d'utilisateur.
+     * Avec une base projetée, ne contient que les profils déjà demandés.
+     * Parcourue par l'écrivain lors d'un compactage, d'où une map concurrente.
+     */
     private Map<String, PlayerProfile> profiles;
 
+    /** Classement des profils, null tant que sa construction en arrière-plan n'est pas récupérée */
+    private ProfileLeaderboard leaderboard;
+
+    /** Construction du classement en arrière-plan (base projetée), null une fois récupérée */
+    private FutureTask<ProfileLeaderboard> leaderboardBuild;
+
     /** Profil actuellement sélectionné */
     private PlayerProfile currentProfile;
 
     /** Instance unique du gestionnaire (pattern Singleton) */
     private static PlayerProfileManager instance;
 
+    /** Répertoire des fichiers de l'instance unique */
+    private static Path directory = Path.of("");
+
+    /** Indique si la fermeture de l'instance unique en fin d'application est programmée */
+    private static boolean shutdownHook;
+
     /**
-     * Constructeur privé pour le pattern Singleton.
-     * Initialise la map des profils et charge les profils existants depuis le fichier.
+     * Constructeur sur des fichiers donnés (tests et outils).
+     *
+     * @param snapshotPath le fichier de sauvegarde des profils
+     * @param journalPath le journal des modifications
      */
-    private PlayerProfileManager() {
-        profiles = new HashMap<>();
+    PlayerProfileManager(Path snapshotPath, Path journalPath) {
+        profiles = new ConcurrentHashMap<>();
+        journal = new ProfileJournal(snapshotPath, journalPath);
+        store = null;
         loadProfiles();
+        leaderboard = new ProfileLeaderboard(profiles.values());
+        writer = new ProfileWriter(journal, ProfileWriter.DEFAULT_COALESCE_MILLIS);
+        writer.start();
+    }
+
+    /**
+     * Constructeur sur une base projetée en mémoire.
+     *
+     * @param store la base des profils, fermée avec le gestionnaire
+     */
+    PlayerProfileManager(MappedProfileStore store) {
+        profiles = new ConcurrentHashMap<>();
+        journal = null;
+        this.store = store;
+        writer = new ProfileWriter(store, ProfileWriter.DEFAULT_COALESCE_MILLIS);
+        writer.start();
+        leaderboardBuild = new FutureTask<>(() -> new ProfileLeaderboard(store.getAll()));
+        Thread.ofPlatform().name("leaderboard-build").daemon().start(leaderboardBuild);
+    }
+
+    /**
+     * Ouvre la base projetée du singleton.
+     *
+     * @param path le fichier de la base
+     * @return la base ouverte
+     * @throws IllegalStateException si la base est illisible
+     */
+    private static MappedProfileStore openStore(Path path) {
+        try {
+            return new MappedProfileStore(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Base de profils illisible : " + path, e);
+        }
     }
 
     /**
@@ -44,13 +136,68 @@ public class PlayerProfileManager {
      *
      * @return l'instance unique de PlayerProfileManager
      */
-    public static PlayerProfileManager getInstance() {
+    public static synchronized PlayerProfileManager getInstance() {
         if (instance == null) {
-            instance = new PlayerProfileManager();
+            instance = "mapped".equals(System.getProperty(BACKEND_PROPERTY))
+                    ? new PlayerProfileManager(openStore(directory.resolve(STORE_PATH)))
+                    : new PlayerProfileManager(directory.resolve(FILE_PATH), directory.resolve(JOURNAL_PATH));
+            if (!shutdownHook) {
+                Runtime.getRuntime().addShutdownHook(new Thread(PlayerProfileManager::closeInstance, "profile-shutdown"));
+                shutdownHook = true;
+            }
         }
         return instance;
     }
 
+    /**
+     * Change le répertoire des fichiers de profils de l'instance unique (tests
+     * et outils). L'instance courante est fermée ; la suivante est ouverte dans
+     * le nouveau répertoire au prochain {@link #getInstance()}.
+     *
+     * @param profileDirectory le répertoire des fichiers, null pour le répertoire de travail
+     */
+    public static synchronized void setDirectory(Path profileDirectory) {
+        closeInstance();
+        directory = profileDirectory != null ? profileDirectory : Path.of("");
+    }
+
+    /**
+     * Ferme l'instance unique si elle est ouverte (fin de l'application).
+     */
+    private static synchronized void closeInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Indique si un nom ou un prénom peut être enregistré : au plus
+     * {@value MappedProfileStore#MAX_NAME_BYTES} octets en UTF-8, la taille d'un
+     * champ de la base projetée. La limite vaut aussi avec le journal, pour
+     * qu'un profil puisse passer d'une persistance à l'autre.
+     *
+     * @param name le nom ou le prénom
+     * @return true si le nom tient dans un profil
+     */
+    public static boolean isStorableName(String name) {
+        return name.getBytes(StandardCharsets.UTF_8).length <= MappedProfileStore.MAX_NAME_BYTES;
+    }
+
+    /**
+     * Vérifie qu'un profil peut être enregistré, avant toute modification.
+     *
+     * @param username le nom d'utilisateur
+     * @param firstName le prénom
+     * @throws IllegalArgumentException si l'un des deux est trop long
+     */
+    private static void requireStorableNames(String username, String firstName) {
+        if (!isStorableName(username) || !isStorableName(firstName)) {
+            throw new IllegalArgumentException("Nom ou prénom trop long (" + MappedProfileStore.MAX_NAME_BYTES
+                    + " octets au plus) : " + username);
+        }
+    }
+
     /**
      * Récupère un profil existant ou en crée un nouveau si inexistant.
      * Si le profil est créé, il devient automatiquement le profil courant.
@@ -58,18 +205,40 @@ public class PlayerProfileManager {
      * @param username le nom d'utilisateur du profil
      * @param firstName le prénom du joueur
      * @return le profil correspondant (existant ou nouvellement créé)
+     * @throws IllegalArgumentException si le profil est à créer et qu'un nom
+     *         dépasse la taille enregistrable (voir {@link #isStorableName})
      */
     public PlayerProfile getOrCreateProfile(String username, String firstName) {
         PlayerProfile profile = profiles.get(username);
+        if (profile == null && store != null) {
+            profile = store.get(username);
+            if (profile != null) {
+                profiles.put(username, profile);
+            }
+        }
         if (profile == null) {
+            requireStorableNames(username, firstName);
             profile = new PlayerProfile(username, firstName);
             profiles.put(username, profile);
             currentProfile = profile;
-            saveProfiles();
+            saveProfile(profile);
         }
         return profile;
     }
 
+    /**
+     * Récupère le profil noté des bots ({@value RatingSystem#BOT_USERNAME}),
+     * créé au premier appel. Le profil courant n'est pas modifié.
+     *
+     * @return le profil des bots
+     */
+    public PlayerProfile getBotProfile() {
+        PlayerProfile current = currentProfile;
+        PlayerProfile bot = getOrCreateProfile(RatingSystem.BOT_USERNAME, "IA");
+        currentProfile = current;
+        return bot;
+    }
+
     /**
      * Récupère le profil actuellement sélectionné.
      *
@@ -89,45 +258,197 @@ public class PlayerProfileManager {
     }
 
     /**
-     * Récupère tous les profils de joueurs.
+     * Récupère tous les profils de joueurs. Avec une base projetée, les
+     * modifications en attente y sont d'abord écrites.
      *
      * @return une collection contenant tous les profils enregistrés
      */
     public Collection<PlayerProfile> getAllProfiles() {
+        if (store != null) {
+            flush();
+            List<PlayerProfile> all = store.getAll();
+            all.replaceAll(profile -> profiles.getOrDefault(profile.getUsername(), profile));
+            return all;
+        }
         return new ArrayList<>(profiles.values());
     }
 
+    /**
+     * Retourne le classement des profils. Avec une base projetée, attend la fin
+     * de sa construction en arrière-plan si nécessaire.
+     *
+     * @return le classement, tenu à jour à chaque modification de profil
+     */
+    public synchronized ProfileLeaderboard getLeaderboard() {
+        if (leaderboard == null) {
+            leaderboard = awaitLeaderboard();
+            leaderboardBuild = null;
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Récupère le classement construit en arrière-plan, ou le construit ici si
+     * la construction a échoué ou n'a pas été lancée.
+     *
+     * @return le classement
+     */
+    private ProfileLeaderboard awaitLeaderboard() {
+        if (leaderboardBuild != null) {
+            try {
+                return leaderboardBuild.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.err.println("Erreur lors de la construction du classement : " + e.getCause().getMessage());
+            }
+        }
+        return new ProfileLeaderboard(store != null ? store.getAll() : profiles.values());
+    }
+
+    /**
+     * Retourne le classement à tenir à jour après une modification.
+     *
+     * @return le classement (construction attendue si elle est en cours), null
+     *         pendant sa reconstruction par {@link #recomputeRatings()}
+     */
+    private synchronized ProfileLeaderboard rankedLeaderboard() {
+        return leaderboard != null || leaderboardBuild != null ? getLeaderboard() : null;
+    }
+
+    /**
+     * Lit une page du classement des profils.
+     *
+     * @param order le critère de classement
+     * @param offset le rang du premier profil de la page (0 pour le meilleur)
+     * @param limit le nombre maximal de profils
+     * @param reversed true pour lire le classement du moins bon au meilleur
+     * @return les profils de la page, dans l'ordre du classement
+     */
+    public List<PlayerProfile> getLeaderboardPage(ProfileLeaderboard.Order order, int offset, int limit, boolean reversed) {
+        List<PlayerProfile> page = new ArrayList<>(limit);
+        int rank = offset;
+        List<String> usernames;
+        // Un profil supprimé entre la lecture du classement et celle du profil est
+        // remplacé par le suivant : la page n'a pas de trou
+        while (page.size() < limit
+                && !(usernames = getLeaderboard().page(order, rank, limit - page.size(), reversed)).isEmpty()) {
+            rank += usernames.size();
+            for (String username : usernames) {
+                PlayerProfile profile = profiles.get(username);
+                if (profile == null && store != null) {
+                    profile = store.get(username);
+                }
+                if (profile != null) {
+                    page.add(profile);
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Enregistre la modification d'un profil : une copie est confiée à l'écrivain
+     * en arrière-plan, qui n'ajoute qu'un enregistrement au journal quel que soit
+     * le nombre de profils. Le journal est compacté quand il devient trop long.
+     * Avec une base projetée, l'écrivain modifie l'enregistrement sur place (et
+     * reconstruit la table si elle est pleine) : le thread du jeu n'y touche pas.
+     * Le profil change de place dans le classement si nécessaire.
+     *
+     * @param profile le profil modifié
+     * @throws IllegalArgumentException si la base projetée ne peut pas enregistrer
+     *         ses noms ; rien n'est alors modifié
+     */
+    public void saveProfile(PlayerProfile profile) {
+        if (store != null) {
+            requireStorableNames(profile.getUsername(), profile.getFirstName());
+        }
+        ProfileLeaderboard ranked = rankedLeaderboard();
+        if (ranked != null) {
+            ranked.update(profile);
+        }
+        writer.submitPut(profile);
+        if (journal != null) {
+            compactIfNeeded();
+        }
+    }
+
     /**
      * Sauvegarde tous les profils dans le fichier de persistance.
-     * Utilise la sérialisation Java pour écrire la map des profils.
-     * En cas d'erreur, affiche un message d'erreur et la stack trace.
+     * Réécrit l'instantané complet de façon atomique, vide le journal, et
+     * attend la fin de l'écriture.
      */
     public void saveProfiles() {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(FILE_PATH))) {
-            out.writeObject(profiles);
-        } catch (IOException e) {
-            System.err.println("Erreur lors de la sauvegarde des profils : " + e.getMessage());
-            e.printStackTrace();
+        if (store != null) {
+            flush();
+            return;
         }
+        writer.submitCompaction(profiles);
+        flush();
     }
 
     /**
-     * Charge les profils depuis le fichier de persistance.
+     * Recalcule la note de chaque profil depuis son historique (voir
+     * {@link RatingSystem#recompute}), en parallèle, puis enregistre les profils
+     * et reconstruit le classement.
+     */
+    public void recomputeRatings() {
+        Rating bot = getBotProfile().getRating();
+        Collection<PlayerProfile> all = getAllProfiles();
+        RatingSystem.recompute(all, bot);
+        // Toutes les places changent : le classement est reconstruit plutôt que mis à jour profil par profil
+        synchronized (this) {
+            leaderboard = null;
+            leaderboardBuild = null;
+        }
+        if (store != null) {
+            for (PlayerProfile profile : all) {
+                saveProfile(profile);
+            }
+            flush();
+        } else {
+            saveProfiles();
+        }
+        ProfileLeaderboard rebuilt = new ProfileLeaderboard(all);
+        synchronized (this) {
+            leaderboard = rebuilt;
+        }
+    }
+
+    /**
+     * Attend que toutes les modifications déjà enregistrées soient écrites sur disque.
+     */
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (store != null) {
+            store.force();
+        }
+    }
+
+    /**
+     * Compacte le journal s'il contient plus d'enregistrements que de profils.
+     */
+    private void compactIfNeeded() {
+        if (!writer.isCompactionPending() && journal.needsCompaction(profiles.size())) {
+            writer.submitCompaction(profiles);
+        }
+    }
+
+    /**
+     * Charge les profils depuis le fichier de persistance et son journal.
      * Si le fichier n'existe pas, initialise une map vide.
      * En cas d'erreur de lecture, initialise une map vide et affiche un message d'erreur.
      */
-    @SuppressWarnings("unchecked")
     private void loadProfiles() {
-        File file = new File(FILE_PATH);
-        if (!file.exists()) {
-            profiles = new HashMap<>();
-            return;
-        }
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(file))) {
-            profiles = (Map<String, PlayerProfile>) in.readObject();
-        } catch (IOException | ClassNotFoundException e) {
+        try {
+            profiles = new ConcurrentHashMap<>(journal.load());
+        } catch (IOException e) {
             System.err.println("Erreur lors du chargement des profils : " + e.getMessage());
-            profiles = new HashMap<>();
+            profiles = new ConcurrentHashMap<>();
         }
     }
 
@@ -140,14 +461,49 @@ public class PlayerProfileManager {
      * @return true si le profil a été supprimé avec succès, false si le profil n'existait pas
      */
     public boolean deleteProfile(String username) {
+        if (store != null) {
+            // Les modifications en attente sont écrites d'abord : elles ne recréeront pas le profil
+            flush();
+        }
         PlayerProfile removed = profiles.remove(username);
-        if (removed != null) {
+        boolean existed = store != null ? store.delete(username) : removed != null;
+        if (existed) {
+            ProfileLeaderboard ranked = rankedLeaderboard();
+            if (ranked != null) {
+                ranked.remove(username);
+            }
             if (currentProfile != null && currentProfile.getUsername().equals(username)) {
                 currentProfile = null;
             }
-            saveProfiles();
+            if (journal != null) {
+                writer.submitDelete(username);
+                compactIfNeeded();
+            }
             return true;
         }
         return false;
     }
+
+    /**
+     * Retourne l'écrivain des profils, pour ses mesures (écritures en attente,
+     * durée du dernier lot).
+     *
+     * @return l'écrivain en arrière-plan
+     */
+    public ProfileWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Écrit les modifications en attente puis ferme le journal des profils
+     * (fin de l'application).
+     */
+    public void close() {
+        writer.close();
+        if (store != null) {
+            store.close();
+        } else {
+            journal.close();
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,10 @@ package bomberman.model.profile;
 import bomberman.utils.GameConstants;
 import bomberman.model.game.PowerUpSystem;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Gestion des statistiques et capacités d'un joueur dans le jeu Bomberman.
  * Cette classe contient toutes les propriétés qui définissent l'état d'un joueur,
@@ -41,6 +45,18 @@ public class PlayerStats {
     /** Indique si le joueur a été éliminé de la partie */
     private boolean eliminated;
 
+    /** Tick de l'élimination du joueur, -1 s'il est encore en jeu */
+    private long eliminationTick;
+
+    /** Nombre de bombes posées pendant la partie */
+    private int bombsPlaced;
+
+    /** Nombre de power-ups ramassés pendant la partie */
+    private int powerUpsCollected;
+
+    /** Nombre d'adversaires éliminés par les bombes du joueur */
+    private int kills;
+
     /**
      * Constructeur par défaut.
      * Initialise les statistiques du joueur avec les valeurs par défaut.
@@ -63,6 +79,10 @@ public class PlayerStats {
         this.lastBombTime = 0;
         this.invincibilityTimer = 0;
         this.eliminated = false;
+        this.eliminationTick = -1;
+        this.bombsPlaced = 0;
+        this.powerUpsCollected = 0;
+        this.kills = 0;
     }
 
     /**
@@ -72,6 +92,7 @@ public class PlayerStats {
      * @param type le type de power-up à appliquer
      */
     public void applyPowerUp(PowerUpSystem.PowerUpType type) {
+        powerUpsCollected++;
         switch (type) {
             case BOMB_RANGE:
                 bombRange = Math.min(bombRange + 1, 5);
@@ -105,6 +126,29 @@ public class PlayerStats {
         }
     }
 
+    /**
+     * Enregistre le tick de l'élimination du joueur, pour son classement.
+     *
+     * @param tick le tick de la partie
+     */
+    public void setEliminationTick(long tick) {
+        this.eliminationTick = tick;
+    }
+
+    /**
+     * Compte une bombe posée par le joueur.
+     */
+    public void incrementBombsPlaced() {
+        bombsPlaced++;
+    }
+
+    /**
+     * Compte un adversaire éliminé par une bombe du joueur.
+     */
+    public void incrementKills() {
+        kills++;
+    }
+
     /**
      * Met à jour le timer d'invincibilité du joueur.
      * Appelé à chaque frame pour décrémenter le temps d'invincibilité restant.
@@ -135,6 +179,72 @@ public class PlayerStats {
         this.lastBombTime = time;
     }
 
+    /**
+     * Recopie toutes les statistiques d'un autre joueur.
+     * Utilisé pour sauvegarder et restaurer l'état de la partie sans allocation.
+     *
+     * @param other les statistiques à recopier
+     */
+    public void copyFrom(PlayerStats other) {
+        this.lives = other.lives;
+        this.bombRange = other.bombRange;
+        this.speed = other.speed;
+        this.canPassWalls = other.canPassWalls;
+        this.canPushBombs = other.canPushBombs;
+        this.bombCooldown = other.bombCooldown;
+        this.lastBombTime = other.lastBombTime;
+        this.invincibilityTimer = other.invincibilityTimer;
+        this.eliminated = other.eliminated;
+        this.eliminationTick = other.eliminationTick;
+        this.bombsPlaced = other.bombsPlaced;
+        this.powerUpsCollected = other.powerUpsCollected;
+        this.kills = other.kills;
+    }
+
+    /**
+     * Écrit toutes les statistiques dans un flux binaire (images clés des replays).
+     *
+     * @param out le flux de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte(lives);
+        out.writeByte(bombRange);
+        out.writeDouble(speed);
+        out.writeBoolean(canPassWalls);
+        out.writeBoolean(canPushBombs);
+        out.writeLong(bombCooldown);
+        out.writeLong(lastBombTime);
+        out.writeInt(invincibilityTimer);
+        out.writeBoolean(eliminated);
+        out.writeLong(eliminationTick);
+        out.writeShort(bombsPlaced);
+        out.writeShort(powerUpsCollected);
+        out.writeByte(kills);
+    }
+
+    /**
+     * Relit les statistiques écrites par {@link #writeState(DataOutput)}.
+     *
+     * @param in le flux source
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public void readState(DataInput in) throws IOException {
+        this.lives = in.readByte();
+        this.bombRange = in.readByte();
+        this.speed = in.readDouble();
+        this.canPassWalls = in.readBoolean();
+        this.canPushBombs = in.readBoolean();
+        this.bombCooldown = in.readLong();
+        this.lastBombTime = in.readLong();
+        this.invincibilityTimer = in.readInt();
+        this.eliminated = in.readBoolean();
+        this.eliminationTick = in.readLong();
+        this.bombsPlaced = in.readUnsignedShort();
+        this.powerUpsCollected = in.readUnsignedShort();
+        this.kills = in.readUnsignedByte();
+    }
+
     /**
      * Définit manuellement le timer d'invincibilité du joueur.
      *
@@ -233,4 +343,40 @@ public class PlayerStats {
     public boolean isInvincible() {
         return invincibilityTimer > 0;
     }
+
+    /**
+     * Récupère le tick de l'élimination du joueur.
+     *
+     * @return le tick, -1 si le joueur est encore en jeu
+     */
+    public long getEliminationTick() {
+        return eliminationTick;
+    }
+
+    /**
+     * Récupère le nombre de bombes posées pendant la partie.
+     *
+     * @return le nombre de bombes
+     */
+    public int getBombsPlaced() {
+        return bombsPlaced;
+    }
+
+    /**
+     * Récupère le nombre de power-ups ramassés pendant la partie.
+     *
+     * @return le nombre de power-ups
+     */
+    public int getPowerUpsCollected() {
+        return powerUpsCollected;
+    }
+
+    /**
+     * Récupère le nombre d'adversaires éliminés par les bombes du joueur.
+     *
+     * @return le nombre d'éliminations
+     */
+    public int getKills() {
+        return kills;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,466 @@
+package bomberman.model.profile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Format binaire versionné des profils, écrit à la main pour remplacer la
+ * sérialisation Java : compact, rapide à relire et tolérant à l'ajout de champs.
+ *
+ * <p>Format de l'instantané :</p>
+ * <pre>
+ * "BMPF" (4 o) | version (1 o) | génération (8 o) | nombre de profils (4 o) | profils | CRC32 des profils (4 o)
+ * profil : taille (varint) | champs
+ * champ  : étiquette (1 o) | taille (varint) | valeur
+ * </pre>
+ *
+ * <p>La génération est le numéro du compactage qui a écrit l'instantané : le
+ * {@link ProfileJournal} s'en sert pour reconnaître un journal déjà absorbé.</p>
+ *
+ * <p>Évolution du schéma :</p>
+ * <ul>
+ *   <li>Chaque champ est étiqueté : un lecteur ignore les étiquettes qu'il ne
+ *       connaît pas (fichier écrit par une version plus récente)</li>
+ *   <li>Un champ absent prend sa valeur par défaut (fichier écrit par une
+ *       version plus ancienne, avant l'ajout du champ)</li>
+ *   <li>Ajouter une statistique ne demande qu'une nouvelle étiquette ; la version
+ *       du format ne change que si le découpage lui-même change</li>
+ * </ul>
+ *
+ * <p>Les compteurs sont écrits en varint (1 octet jusqu'à 127) : un profil
+ * sans historique tient en une vingtaine d'octets, et chaque partie de son
+ * historique en ajoute {@value MatchHistory#ENTRY_SIZE}. La note de niveau, en
+ * flottants, en ajoute 10 une fois la première partie notée jouée.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ProfileCodec {
+
+    /** Signature d'un instantané binaire ("BMPF") */
+    public static final int MAGIC = 0x424D5046;
+
+    /** Version du découpage de l'instantané */
+    public static final int VERSION = 1;
+
+    /** Taille de l'en-tête : signature, version, génération, nombre de profils */
+    static final int HEADER_SIZE = 17;
+
+    /** Champ : nom d'utilisateur (UTF-8) */
+    static final int TAG_USERNAME = 1;
+
+    /** Champ : prénom (UTF-8) */
+    static final int TAG_FIRST_NAME = 2;
+
+    /** Champ : parties jouées (varint) */
+    static final int TAG_GAMES_PLAYED = 3;
+
+    /** Champ : parties gagnées (varint) */
+    static final int TAG_GAMES_WON = 4;
+
+    /** Champ : historique des dernières parties ({@link MatchHistory#toBytes()}), absent s'il est vide */
+    static final int TAG_HISTORY = 5;
+
+    /** Champ : note de niveau (niveau puis écart, flottants sur 4 octets), absent avant la première partie notée */
+    static final int TAG_RATING = 6;
+
+    /** Taille de la valeur d'une note */
+    private static final int RATING_SIZE = 8;
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private ProfileCodec() {}
+
+    // ==================== ÉCRITURE ====================
+
+    /**
+     * Encode un instantané complet des profils, de génération 0.
+     *
+     * @param profiles Les profils à écrire
+     * @return L'instantané encodé
+     */
+    public static byte[] encode(Collection<PlayerProfile> profiles) {
+        return encode(profiles, 0);
+    }
+
+    /**
+     * Encode un instantané complet des profils.
+     *
+     * @param profiles Les profils à écrire
+     * @param generation Le numéro du compactage qui écrit l'instantané
+     * @return L'instantané encodé
+     */
+    public static byte[] encode(Collection<PlayerProfile> profiles, long generation) {
+        Output out = new Output(HEADER_SIZE + profiles.size() * 24 + 4);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt((int) (generation >>> 32));
+        out.writeInt((int) generation);
+        out.writeInt(profiles.size());
+        for (PlayerProfile profile : profiles) {
+            writeProfile(out, profile);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(out.bytes, HEADER_SIZE, out.size - HEADER_SIZE);
+        out.writeInt((int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    /**
+     * Encode un seul profil (taille puis champs), tel qu'il apparaît dans
+     * l'instantané et dans le journal.
+     *
+     * @param profile Le profil à encoder
+     * @return Le profil encodé
+     */
+    public static byte[] encodeProfile(PlayerProfile profile) {
+        Output out = new Output(32);
+        writeProfile(out, profile);
+        return out.toByteArray();
+    }
+
+    /**
+     * Écrit un profil : les champs sont encodés à la suite, puis précédés de leur taille.
+     *
+     * @param out La destination
+     * @param profile Le profil à écrire
+     */
+    private static void writeProfile(Output out, PlayerProfile profile) {
+        byte[] username = profile.getUsername().getBytes(StandardCharsets.UTF_8);
+        byte[] firstName = profile.getFirstName().getBytes(StandardCharsets.UTF_8);
+        byte[] history = profile.getMatchHistory().toBytes();
+        int size = fieldSize(username.length) + fieldSize(firstName.length)
+                + fieldSize(varintSize(profile.getGamesPlayed())) + fieldSize(varintSize(profile.getGamesWon()))
+                + (history.length > 0 ? fieldSize(history.length) : 0)
+                + (profile.isRated() ? fieldSize(RATING_SIZE) : 0);
+
+        out.writeVarint(size);
+        out.writeField(TAG_USERNAME, username);
+        out.writeField(TAG_FIRST_NAME, firstName);
+        out.writeVarintField(TAG_GAMES_PLAYED, profile.getGamesPlayed());
+        out.writeVarintField(TAG_GAMES_WON, profile.getGamesWon());
+        if (history.length > 0) {
+            out.writeField(TAG_HISTORY, history);
+        }
+        if (profile.isRated()) {
+            out.writeByte(TAG_RATING);
+            out.writeVarint(RATING_SIZE);
+            out.writeInt(Float.floatToIntBits((float) profile.getRating().getRating()));
+            out.writeInt(Float.floatToIntBits((float) profile.getRating().getDeviation()));
+        }
+    }
+
+    /**
+     * Calcule la taille encodée d'un champ.
+     *
+     * @param length La taille de la valeur
+     * @return La taille de l'étiquette, de la taille et de la valeur
+     */
+    private static int fieldSize(int length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    /**
+     * Calcule la taille d'un entier en varint.
+     *
+     * @param value L'entier (traité comme non signé)
+     * @return Le nombre d'octets, de 1 à 5
+     */
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Indique si des octets commencent par la signature d'un instantané binaire.
+     *
+     * @param bytes Le début du fichier
+     * @return true pour un instantané binaire, false pour un autre format (ancien
+     *         instantané en sérialisation Java)
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes.length >= 4 && readInt(bytes, 0) == MAGIC;
+    }
+
+    /**
+     * Décode un instantané complet.
+     *
+     * @param bytes L'instantané encodé
+     * @return Les profils indexés par nom d'utilisateur
+     * @throws IOException si l'instantané est tronqué, corrompu ou d'une version inconnue
+     */
+    public static Map<String, PlayerProfile> decode(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_SIZE + 4 || !isBinary(bytes)) {
+            throw new IOException("Instantané des profils invalide");
+        }
+        int version = bytes[4] & 0xFF;
+        if (version > VERSION) {
+            throw new IOException("Version d'instantané non supportée : " + version);
+        }
+        int count = readInt(bytes, 13);
+        int end = bytes.length - 4;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, HEADER_SIZE, end - HEADER_SIZE);
+        if ((int) crc.getValue() != readInt(bytes, end)) {
+            throw new IOException("Instantané des profils corrompu (CRC)");
+        }
+        if (count < 0 || count > end - HEADER_SIZE) {
+            throw new IOException("Nombre de profils invalide : " + count);
+        }
+
+        Map<String, PlayerProfile> profiles = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+        Input in = new Input(bytes, HEADER_SIZE, end);
+        try {
+            for (int i = 0; i < count; i++) {
+                PlayerProfile profile = readProfile(in);
+                profiles.put(profile.getUsername(), profile);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Instantané des profils invalide", e);
+        }
+        if (in.position != end) {
+            throw new IOException("Instantané des profils invalide : " + (end - in.position) + " octets en trop");
+        }
+        return profiles;
+    }
+
+    /**
+     * Lit la génération d'un instantané binaire, sans le décoder.
+     *
+     * @param bytes L'instantané encodé
+     * @return Le numéro du compactage qui l'a écrit
+     * @throws IOException si l'en-tête est tronqué ou n'est pas celui d'un instantané binaire
+     */
+    public static long readGeneration(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_SIZE || !isBinary(bytes)) {
+            throw new IOException("Instantané des profils invalide");
+        }
+        return ((long) readInt(bytes, 5) << 32) | (readInt(bytes, 9) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Décode un seul profil encodé par {@link #encodeProfile}.
+     *
+     * @param bytes Le tableau source
+     * @param offset La position du profil
+     * @param length La taille disponible
+     * @return Le profil décodé
+     * @throws IllegalArgumentException si le profil est tronqué ou invalide
+     */
+    public static PlayerProfile decodeProfile(byte[] bytes, int offset, int length) {
+        return readProfile(new Input(bytes, offset, offset + length));
+    }
+
+    /**
+     * Lit un profil. Les champs inconnus sont ignorés et les champs absents
+     * gardent leur valeur par défaut.
+     *
+     * @param in La source, positionnée sur la taille du profil
+     * @return Le profil lu
+     * @throws IllegalArgumentException si le profil est tronqué ou sans identité
+     */
+    private static PlayerProfile readProfile(Input in) {
+        int size = in.readVarint();
+        int end = in.position + size;
+        if (size < 0 || end > in.limit) {
+            throw new IllegalArgumentException("Profil tronqué");
+        }
+        String username = null;
+        String firstName = null;
+        int gamesPlayed = 0;
+        int gamesWon = 0;
+        MatchHistory history = null;
+        Rating rating = null;
+        while (in.position < end) {
+            int tag = in.readByte();
+            int length = in.readVarint();
+            int valueEnd = in.position + length;
+            if (length < 0 || valueEnd > end) {
+                throw new IllegalArgumentException("Champ tronqué : " + tag);
+            }
+            switch (tag) {
+                case TAG_USERNAME -> username = in.readString(length);
+                case TAG_FIRST_NAME -> firstName = in.readString(length);
+                case TAG_GAMES_PLAYED -> gamesPlayed = in.readVarint();
+                case TAG_GAMES_WON -> gamesWon = in.readVarint();
+                case TAG_HISTORY -> history = MatchHistory.fromBytes(in.bytes, in.position, length);
+                case TAG_RATING -> {
+                    if (length < RATING_SIZE) {
+                        throw new IllegalArgumentException("Champ tronqué : " + tag);
+                    }
+                    rating = new Rating(Float.intBitsToFloat(readInt(in.bytes, in.position)),
+                            Float.intBitsToFloat(readInt(in.bytes, in.position + 4)));
+                }
+                default -> { }
+            }
+            // Champ inconnu (ou plus long que prévu) : la suite reste lisible
+            in.position = valueEnd;
+        }
+        PlayerProfile profile = new PlayerProfile(username, firstName);
+        profile.restoreCounters(gamesPlayed, gamesWon);
+        if (history != null) {
+            profile.restoreMatchHistory(history);
+        }
+        profile.setRating(rating);
+        return profile;
+    }
+
+    /**
+     * Lit un entier gros-boutiste.
+     *
+     * @param bytes Le tableau source
+     * @param offset La position de l'entier
+     * @return L'entier lu
+     */
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8 | (bytes[offset + 3] & 0xFF);
+    }
+
+    // ==================== TAMPONS ====================
+
+    /**
+     * Tampon d'écriture extensible, sans synchronisation ni copie intermédiaire.
+     */
+    private static final class Output {
+
+        /** Octets écrits */
+        private byte[] bytes;
+
+        /** Nombre d'octets écrits */
+        private int size;
+
+        /**
+         * Constructeur d'un tampon vide.
+         *
+         * @param capacity La capacité initiale
+         */
+        Output(int capacity) {
+            bytes = new byte[Math.max(16, capacity)];
+        }
+
+        /**
+         * Garantit la place pour des octets supplémentaires.
+         *
+         * @param extra Le nombre d'octets à écrire
+         */
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        /** Écrit un octet. */
+        void writeByte(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        /** Écrit un entier gros-boutiste sur 4 octets. */
+        void writeInt(int value) {
+            ensure(4);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        /** Écrit un entier non signé en varint (7 bits par octet). */
+        void writeVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        /** Écrit un champ : étiquette, taille puis valeur. */
+        void writeField(int tag, byte[] value) {
+            writeByte(tag);
+            writeVarint(value.length);
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        /** Écrit un champ dont la valeur est un varint. */
+        void writeVarintField(int tag, int value) {
+            writeByte(tag);
+            writeVarint(varintSize(value));
+            writeVarint(value);
+        }
+
+        /** Retourne les octets écrits. */
+        byte[] toByteArray() {
+            return size == bytes.length ? bytes : Arrays.copyOf(bytes, size);
+        }
+    }
+
+    /**
+     * Curseur de lecture sur un tableau d'octets.
+     */
+    private static final class Input {
+
+        /** Octets lus */
+        private final byte[] bytes;
+
+        /** Position courante */
+        private int position;
+
+        /** Fin des octets lisibles */
+        private final int limit;
+
+        /**
+         * Constructeur d'un curseur.
+         *
+         * @param bytes Le tableau source
+         * @param position La position de départ
+         * @param limit La fin des octets lisibles
+         */
+        Input(byte[] bytes, int position, int limit) {
+            this.bytes = bytes;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        /** Lit un octet non signé. */
+        int readByte() {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Fin des données");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        /** Lit un entier en varint. */
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalArgumentException("Varint trop long");
+        }
+
+        /** Lit une chaîne UTF-8 de taille connue. */
+        String readString(int length) {
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package bomberman.model.profile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Persistance des profils par journal : au lieu de réécrire tous les profils à
+ * chaque modification, chaque changement ajoute un court enregistrement à la fin
+ * d'un journal. L'état complet (instantané) n'est réécrit qu'au compactage, quand
+ * le journal devient plus long que nécessaire.
+ *
+ * <p>Fichiers :</p>
+ * <ul>
+ *   <li><strong>Instantané</strong> ({@code profiles.dat}) : tous les profils au
+ *       format binaire de {@link ProfileCodec}. Un ancien instantané en
+ *       sérialisation Java est relu tel quel, puis réécrit dans ce format au
+ *       premier compactage</li>
+ *   <li><strong>Journal</strong> ({@code profiles.journal}) : les modifications
+ *       postérieures à l'instantané, relues dans l'ordre au chargement. Il n'est
+ *       créé qu'à la première modification : charger les profils sans les
+ *       modifier n'écrit rien sur disque</li>
+ * </ul>
+ *
+ * <p>Format du journal et d'un enregistrement :</p>
+ * <pre>
+ * journal : génération de l'instantané (8 o) | enregistrements
+ * taille (4 o) | opération (1 o) | contenu | CRC32 de l'opération et du contenu (4 o)
+ * PUT    : profil complet au format de {@link ProfileCodec}
+ * DELETE : nom d'utilisateur (UTF)
+ * </pre>
+ *
+ * <p>Les enregistrements sont écrits par {@link #put} et {@link #delete}, puis
+ * forcés sur disque ensemble par {@link #sync()} ({@link ProfileWriter} en fait
+ * un seul par lot).</p>
+ *
+ * <p>Résistance aux pannes :</p>
+ * <ul>
+ *   <li>Un enregistrement est un profil complet : le rejouer deux fois est sans effet</li>
+ *   <li>Une fin de journal tronquée ou corrompue (écriture interrompue) est
+ *       détectée par sa taille ou son CRC, ignorée puis effacée</li>
+ *   <li>Le compactage écrit l'instantané dans un fichier temporaire, le force sur
+ *       disque puis le renomme atomiquement : {@code profiles.dat} est toujours
+ *       soit l'ancien, soit le nouvel instantané complet</li>
+ *   <li>Chaque compactage incrémente la génération de l'instantané, et le journal
+ *       porte la génération sur laquelle il s'applique : un journal d'une génération
+ *       antérieure (panne entre le renommage et la remise à zéro du journal) est
+ *       déjà absorbé par l'instantané et n'est pas rejoué</li>
+ * </ul>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProfileJournal implements AutoCloseable {
+
+    /** Nombre minimal d'enregistrements avant un compactage */
+    public static final int COMPACTION_MIN_RECORDS = 1000;
+
+    /** Opération : création ou mise à jour d'un profil complet au format {@link ProfileCodec} */
+    static final byte PUT = 1;
+
+    /** Opération : suppression d'un profil */
+    static final byte DELETE = 2;
+
+    /** Taille maximale d'un enregistrement, au-delà la fin du journal est considérée corrompue */
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    /** Taille de l'en-tête du journal : génération de l'instantané */
+    static final int HEADER_SIZE = 8;
+
+    /** Fichier de l'instantané */
+    private final Path snapshotPath;
+
+    /** Fichier du journal */
+    private final Path journalPath;
+
+    /** Canal d'ajout au journal, ouvert par {@link #load()} s'il existe, sinon à la première écriture */
+    private FileChannel journal;
+
+    /** Indique si les profils ont été chargés */
+    private boolean loaded;
+
+    /** Nombre d'enregistrements dans le journal */
+    private int recordCount;
+
+    /** Génération de l'instantané courant */
+    private long generation;
+
+    /** Somme de contrôle réutilisée */
+    private final CRC32 crc = new CRC32();
+
+    /** Indique si l'instantané lu est encore en sérialisation Java */
+    private boolean legacySnapshot;
+
+    /**
+     * Constructeur d'un journal de profils.
+     *
+     * @param snapshotPath Le fichier de l'instantané
+     * @param journalPath Le fichier du journal
+     */
+    public ProfileJournal(Path snapshotPath, Path journalPath) {
+        this.snapshotPath = snapshotPath;
+        this.journalPath = journalPath;
+    }
+
+    // ==================== CHARGEMENT ====================
+
+    /**
+     * Charge les profils : lit l'instantané puis rejoue le journal s'il existe et
+     * porte la même génération. Une fin de journal incomplète est retirée, puis
+     * le journal est ouvert en ajout. Aucun fichier n'est créé ici.
+     *
+     * @return Les profils indexés par nom d'utilisateur
+     * @throws IOException si l'instantané ou le journal ne peut pas être lu
+     */
+    public synchronized Map<String, PlayerProfile> load() throws IOException {
+        Map<String, PlayerProfile> profiles = readSnapshot();
+        loaded = true;
+        recordCount = 0;
+        if (!Files.exists(journalPath)) {
+            return profiles;
+        }
+
+        journal = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long journalGeneration = readJournalGeneration();
+        if (journalGeneration < generation) {
+            if (journal.size() > HEADER_SIZE) {
+                System.out.println("Journal des profils déjà absorbé par l'instantané : ignoré");
+            }
+            resetJournal();
+            return profiles;
+        }
+        long valid = replay(profiles);
+        if (valid < journal.size()) {
+            System.err.println("Journal des profils : " + (journal.size() - valid)
+                    + " octets incomplets ignorés après " + recordCount + " enregistrements");
+            journal.truncate(valid);
+            journal.force(true);
+        }
+        journal.position(valid);
+        return profiles;
+    }
+
+    /**
+     * Lit la génération inscrite en tête du journal.
+     *
+     * @return La génération, -1 si le journal est vide ou son en-tête incomplet
+     * @throws IOException en cas d'erreur de lecture
+     */
+    private long readJournalGeneration() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        return readFully(header, 0) < HEADER_SIZE ? -1 : header.getLong(0);
+    }
+
+    /**
+     * Vide le journal et y inscrit la génération de l'instantané courant.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private void resetJournal() throws IOException {
+        journal.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putLong(0, generation);
+        while (header.hasRemaining()) {
+            journal.write(header, header.position());
+        }
+        journal.position(HEADER_SIZE);
+        journal.force(true);
+    }
+
+    /**
+     * Lit l'instantané des profils, au format binaire ou en sérialisation Java
+     * (format historique, à migrer).
+     *
+     * @return Les profils de l'instantané (vide s'il n'existe pas)
+     * @throws IOException si l'instantané est illisible
+     */
+    private Map<String, PlayerProfile> readSnapshot() throws IOException {
+        legacySnapshot = false;
+        generation = 0;
+        if (!Files.exists(snapshotPath)) {
+            return new HashMap<>();
+        }
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        if (ProfileCodec.isBinary(bytes)) {
+            Map<String, PlayerProfile> profiles = ProfileCodec.decode(bytes);
+            generation = ProfileCodec.readGeneration(bytes);
+            return profiles;
+        }
+        legacySnapshot = true;
+        return readLegacySnapshot(bytes);
+    }
+
+    /**
+     * Lit un instantané en sérialisation Java (map des profils).
+     *
+     * @param bytes Le contenu du fichier
+     * @return Les profils de l'instantané
+     * @throws IOException si l'instantané est illisible
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, PlayerProfile> readLegacySnapshot(byte[] bytes) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return new HashMap<>((Map<String, PlayerProfile>) in.readObject());
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Instantané des profils invalide", e);
+        }
+    }
+
+    /**
+     * Rejoue les enregistrements valides du journal sur les profils.
+     *
+     * @param profiles Les profils de l'instantané, mis à jour
+     * @return La position de fin du dernier enregistrement valide
+     * @throws IOException en cas d'erreur de lecture
+     */
+    private long replay(Map<String, PlayerProfile> profiles) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        long position = HEADER_SIZE;
+        recordCount = 0;
+        while (true) {
+            header.clear();
+            if (readFully(header, position) < 4) return position;
+            int size = header.getInt(0);
+            if (size < 1 || size > MAX_RECORD_SIZE) return position;
+
+            ByteBuffer record = ByteBuffer.allocate(size + 4);
+            if (readFully(record, position + 4) < size + 4) return position;
+            crc.reset();
+            crc.update(record.array(), 0, size);
+            if ((int) crc.getValue() != record.getInt(size)) return position;
+
+            record.clear().limit(size);
+            try {
+                apply(record, profiles);
+            } catch (RuntimeException e) {
+                return position;
+            }
+            position += 4 + size + 4;
+            recordCount++;
+        }
+    }
+
+    /**
+     * Lit depuis le journal jusqu'à remplir le tampon ou atteindre la fin.
+     *
+     * @param buffer Le tampon à remplir
+     * @param position La position de lecture
+     * @return Le nombre d'octets lus
+     * @throws IOException en cas d'erreur de lecture
+     */
+    private int readFully(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = journal.read(buffer, position + total);
+            if (read < 0) break;
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Applique un enregistrement aux profils.
+     *
+     * @param record L'enregistrement, positionné sur l'opération
+     * @param profiles Les profils à modifier
+     */
+    private static void apply(ByteBuffer record, Map<String, PlayerProfile> profiles) {
+        byte operation = record.get();
+        if (operation == PUT) {
+            PlayerProfile profile = ProfileCodec.decodeProfile(record.array(), record.position(), record.remaining());
+            profiles.put(profile.getUsername(), profile);
+        } else if (operation == DELETE) {
+            profiles.remove(readString(record));
+        } else {
+            throw new IllegalArgumentException("Opération inconnue : " + operation);
+        }
+    }
+
+    /**
+     * Lit une chaîne UTF-8 préfixée par sa taille sur 2 octets.
+     *
+     * @param buffer Le tampon source
+     * @return La chaîne lue
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ==================== ÉCRITURE ====================
+
+    /**
+     * Ajoute au journal l'état complet d'un profil (création ou mise à jour).
+     *
+     * @param profile Le profil modifié
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void put(PlayerProfile profile) throws IOException {
+        append(PUT, profile.getUsername(), profile);
+    }
+
+    /**
+     * Ajoute au journal la suppression d'un profil.
+     *
+     * @param username Le nom d'utilisateur du profil supprimé
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void delete(String username) throws IOException {
+        append(DELETE, username, null);
+    }
+
+    /**
+     * Écrit un enregistrement à la fin du journal, créé au premier appel. Il
+     * n'est garanti sur disque qu'après {@link #sync()}.
+     *
+     * @param operation L'opération
+     * @param username Le nom d'utilisateur concerné
+     * @param profile Le profil complet pour {@link #PUT}, null sinon
+     * @throws IOException en cas d'erreur d'écriture
+     * @throws IllegalArgumentException si l'enregistrement dépasse la taille relue au chargement
+     */
+    private synchronized void append(byte operation, String username, PlayerProfile profile) throws IOException {
+        if (!loaded) {
+            throw new IllegalStateException("Journal non chargé");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0);
+        out.writeByte(operation);
+        if (profile != null) {
+            out.write(ProfileCodec.encodeProfile(profile));
+        } else {
+            writeString(out, username);
+        }
+        int size = bytes.size() - 4;
+        if (size > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Profil trop volumineux pour le journal : " + size + " octets");
+        }
+        crc.reset();
+        crc.update(bytes.toByteArray(), 4, size);
+        out.writeInt((int) crc.getValue());
+
+        if (journal == null) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            resetJournal();
+        }
+        ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+        record.putInt(0, size);
+        while (record.hasRemaining()) {
+            journal.write(record);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Force sur disque les enregistrements écrits : un seul appel suffit pour
+     * tout un lot de modifications.
+     *
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public synchronized void sync() throws IOException {
+        if (journal != null) {
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Écrit une chaîne UTF-8 préfixée par sa taille sur 2 octets.
+     *
+     * @param out Le flux de destination
+     * @param value La chaîne à écrire
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    // ==================== COMPACTAGE ====================
+
+    /**
+     * Indique si le journal mérite d'être compacté : il contient plus
+     * d'enregistrements que de profils (et au moins {@value #COMPACTION_MIN_RECORDS}),
+     * ou l'instantané est encore en sérialisation Java.
+     *
+     * @param profileCount Le nombre de profils actuels
+     * @return true si un compactage est conseillé
+     */
+    public synchronized boolean needsCompaction(int profileCount) {
+        return legacySnapshot || recordCount >= Math.max(COMPACTION_MIN_RECORDS, profileCount);
+    }
+
+    /**
+     * Réécrit l'instantané avec l'état complet, d'une génération de plus, puis vide
+     * le journal. Une panne à n'importe quel moment laisse soit l'ancien instantané
+     * et tout le journal, soit le nouvel instantané ; le journal restant, d'une
+     * génération antérieure, est alors ignoré au chargement.
+     *
+     * <p>Les profils doivent inclure toutes les modifications déjà écrites dans le
+     * journal : elles ne sont plus rejouées ensuite.</p>
+     *
+     * @param profiles L'état complet des profils
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public synchronized void compact(Map<String, PlayerProfile> profiles) throws IOException {
+        long next = generation + 1;
+        Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer snapshot = ByteBuffer.wrap(ProfileCodec.encode(profiles.values(), next));
+            while (snapshot.hasRemaining()) {
+                channel.write(snapshot);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        generation = next;
+        if (legacySnapshot) {
+            legacySnapshot = false;
+            System.out.println("Profils migrés vers le format binaire : " + profiles.size() + " profils");
+        }
+
+        if (journal != null) {
+            resetJournal();
+        }
+        recordCount = 0;
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre d'enregistrements du journal depuis le dernier compactage.
+     *
+     * @return Le nombre d'enregistrements
+     */
+    public synchronized int getRecordCount() { return recordCount; }
+
+    /**
+     * Retourne la génération de l'instantané courant.
+     *
+     * @return Le nombre de compactages depuis le premier instantané binaire
+     */
+    public synchronized long getGeneration() { return generation; }
+
+    /**
+     * Retourne la taille du journal.
+     *
+     * @return La taille en octets, 0 si le journal n'est pas ouvert
+     * @throws IOException en cas d'erreur d'accès au fichier
+     */
+    public synchronized long getJournalSize() throws IOException {
+        return journal == null ? 0 : journal.size();
+    }
+
+    /**
+     * Ferme le journal.
+     */
+    @Override
+    public synchronized void close() {
+        loaded = false;
+        if (journal == null) return;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du journal des profils : " + e.getMessage());
+        }
+        journal = null;
+    }
+}
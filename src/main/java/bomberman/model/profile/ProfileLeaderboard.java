@@ -0,0 +1,337 @@
+package bomberman.model.profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classement des profils, tenu à jour à chaque modification : pour chaque
+ * critère ({@link Order}), un tableau trié du meilleur au moins bon. Une page
+ * du classement se lit directement à son rang, sans copier ni trier les profils.
+ *
+ * <p>Coûts :</p>
+ * <ul>
+ *   <li><strong>Construction</strong> : un tri parallèle par nom, puis un par critère, une seule fois</li>
+ *   <li><strong>Modification d'un profil</strong> : recherche dichotomique de son
+ *       ancienne et de sa nouvelle place, puis décalage des seules entrées entre
+ *       les deux (copie mémoire contiguë)</li>
+ *   <li><strong>Page</strong> : proportionnelle à la taille de la page, quel que
+ *       soit son rang</li>
+ * </ul>
+ *
+ * <p>Le classement ne garde que le résumé de chaque profil (noms, compteurs,
+ * note) : les profils d'une page sont relus par le {@link PlayerProfileManager}.
+ * Les profils des bots ({@link RatingSystem#isBot}) ne sont pas classés.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProfileLeaderboard {
+
+    /**
+     * Critères de classement. À valeur égale, les profils sont départagés par
+     * nom d'utilisateur : chaque profil a une place unique.
+     */
+    public enum Order {
+        /** Taux de victoire, puis nombre de parties jouées */
+        WIN_RATE(false) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                int byRate = Double.compare(b.winRate, a.winRate);
+                return byRate != 0 ? byRate : Integer.compare(b.gamesPlayed, a.gamesPlayed);
+            }
+        },
+        /** Note de niveau */
+        RATING(false) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                return Double.compare(b.rating, a.rating);
+            }
+        },
+        /** Nombre de parties gagnées */
+        GAMES_WON(false) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                return Integer.compare(b.gamesWon, a.gamesWon);
+            }
+        },
+        /** Nombre de parties jouées */
+        GAMES_PLAYED(false) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                return Integer.compare(b.gamesPlayed, a.gamesPlayed);
+            }
+        },
+        /** Nom d'utilisateur, par ordre alphabétique */
+        USERNAME(true) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                return 0;
+            }
+        },
+        /** Prénom, par ordre alphabétique */
+        FIRST_NAME(true) {
+            @Override
+            int compareValues(Entry a, Entry b) {
+                return a.firstName.compareTo(b.firstName);
+            }
+        };
+
+        /** Classement des plus petites valeurs aux plus grandes (noms) */
+        private final boolean ascending;
+
+        /** Ordre du meilleur au moins bon, départagé par nom d'utilisateur */
+        private final Comparator<Entry> comparator = (a, b) -> {
+            int byValue = compareValues(a, b);
+            return byValue != 0 ? byValue : a.username.compareTo(b.username);
+        };
+
+        /**
+         * Constructeur d'un critère.
+         *
+         * @param ascending true si le classement va des plus petites valeurs aux plus grandes
+         */
+        Order(boolean ascending) {
+            this.ascending = ascending;
+        }
+
+        /**
+         * Indique le sens du classement : alphabétique pour les noms, des plus
+         * grandes valeurs aux plus petites pour les compteurs et la note.
+         *
+         * @return true si le premier rang a la plus petite valeur
+         */
+        public boolean isAscending() { return ascending; }
+
+        /**
+         * Compare les valeurs classées de deux résumés. Écrit sans composition de
+         * comparateurs : la construction du classement en fait des dizaines de
+         * millions d'appels.
+         *
+         * @param a Le premier résumé
+         * @param b Le second résumé
+         * @return Négatif si a est mieux classé que b, 0 à valeur égale
+         */
+        abstract int compareValues(Entry a, Entry b);
+    }
+
+    /** Résumés indexés par nom d'utilisateur */
+    private final Map<String, Entry> entries;
+
+    /** Résumés triés, un tableau par critère (indice {@link Order#ordinal()}) */
+    private final Entry[][] ranks = new Entry[Order.values().length][];
+
+    /** Nombre de profils classés */
+    private int size;
+
+    /**
+     * Construit le classement d'un ensemble de profils.
+     *
+     * @param profiles Les profils à classer
+     */
+    public ProfileLeaderboard(Collection<PlayerProfile> profiles) {
+        entries = new HashMap<>(Math.max(16, (int) (profiles.size() / 0.75f) + 1));
+        for (PlayerProfile profile : profiles) {
+            if (!RatingSystem.isBot(profile.getUsername())) {
+                entries.put(profile.getUsername(), new Entry(profile));
+            }
+        }
+        size = entries.size();
+        // Le tri est stable : une fois les noms triés, les égalités gardent leur ordre
+        // et chaque critère ne compare plus que ses valeurs
+        Entry[] all = entries.values().toArray(new Entry[0]);
+        Arrays.parallelSort(all, Comparator.comparing(entry -> entry.username));
+        for (Order order : Order.values()) {
+            Entry[] sorted = Arrays.copyOf(all, Math.max(16, size + size / 4));
+            Arrays.parallelSort(sorted, 0, size, order::compareValues);
+            ranks[order.ordinal()] = sorted;
+        }
+    }
+
+    // ==================== MODIFICATION ====================
+
+    /**
+     * Met à jour la place d'un profil créé ou modifié. Sans effet pour un bot.
+     *
+     * @param profile Le profil
+     */
+    public synchronized void update(PlayerProfile profile) {
+        if (RatingSystem.isBot(profile.getUsername())) return;
+        Entry entry = new Entry(profile);
+        Entry previous = entries.put(entry.username, entry);
+        if (previous == null) {
+            ensureCapacity(size + 1);
+        } else if (previous.sameRanking(entry)) {
+            // Historique modifié : les places sont inchangées
+            for (Order order : Order.values()) {
+                Entry[] sorted = ranks[order.ordinal()];
+                sorted[find(sorted, previous, order)] = entry;
+            }
+            return;
+        }
+        for (Order order : Order.values()) {
+            Entry[] sorted = ranks[order.ordinal()];
+            int found = find(sorted, entry, order);
+            if (found >= 0) {
+                // Valeur classée inchangée pour ce critère : même place
+                sorted[found] = entry;
+                continue;
+            }
+            int from = previous == null ? size : find(sorted, previous, order);
+            int to = -found - 1;
+            if (to > from) {
+                // L'entrée retirée libère sa place : la nouvelle se range juste avant
+                to--;
+                System.arraycopy(sorted, from + 1, sorted, from, to - from);
+            } else if (to < from) {
+                System.arraycopy(sorted, to, sorted, to + 1, from - to);
+            }
+            sorted[to] = entry;
+        }
+        if (previous == null) {
+            size++;
+        }
+    }
+
+    /**
+     * Retire un profil supprimé du classement.
+     *
+     * @param username Le nom d'utilisateur
+     * @return false si le profil n'était pas classé
+     */
+    public synchronized boolean remove(String username) {
+        Entry previous = entries.remove(username);
+        if (previous == null) {
+            return false;
+        }
+        for (Order order : Order.values()) {
+            Entry[] sorted = ranks[order.ordinal()];
+            int from = find(sorted, previous, order);
+            System.arraycopy(sorted, from + 1, sorted, from, size - from - 1);
+            sorted[size - 1] = null;
+        }
+        size--;
+        return true;
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Retourne le nombre de profils classés.
+     *
+     * @return Le nombre de profils
+     */
+    public synchronized int size() { return size; }
+
+    /**
+     * Lit une page du classement.
+     *
+     * @param order Le critère de classement
+     * @param offset Le rang du premier profil de la page (0 pour le meilleur)
+     * @param limit Le nombre maximal de profils
+     * @param reversed true pour lire le classement du moins bon au meilleur
+     * @return Les noms d'utilisateur de la page, vide au-delà du dernier rang
+     */
+    public synchronized List<String> page(Order order, int offset, int limit, boolean reversed) {
+        Entry[] sorted = ranks[order.ordinal()];
+        int end = Math.min(size, offset + limit);
+        List<String> usernames = new ArrayList<>(Math.max(0, end - offset));
+        for (int rank = Math.max(0, offset); rank < end; rank++) {
+            usernames.add(sorted[reversed ? size - 1 - rank : rank].username);
+        }
+        return usernames;
+    }
+
+    /**
+     * Retourne le rang d'un profil.
+     *
+     * @param order Le critère de classement
+     * @param username Le nom d'utilisateur
+     * @return Le rang (0 pour le meilleur), -1 si le profil n'est pas classé
+     */
+    public synchronized int rankOf(Order order, String username) {
+        Entry entry = entries.get(username);
+        return entry == null ? -1 : find(ranks[order.ordinal()], entry, order);
+    }
+
+    // ==================== OUTILS ====================
+
+    /**
+     * Retrouve la place d'une entrée classée.
+     *
+     * @param sorted Le tableau trié
+     * @param entry L'entrée, présente dans le tableau
+     * @param order Le critère du tableau
+     * @return L'indice de l'entrée
+     */
+    private int find(Entry[] sorted, Entry entry, Order order) {
+        return Arrays.binarySearch(sorted, 0, size, entry, order.comparator);
+    }
+
+    /**
+     * Agrandit les tableaux triés si nécessaire.
+     *
+     * @param capacity Le nombre de profils à contenir
+     */
+    private void ensureCapacity(int capacity) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i].length < capacity) {
+                ranks[i] = Arrays.copyOf(ranks[i], Math.max(capacity, ranks[i].length * 2));
+            }
+        }
+    }
+
+    /**
+     * Résumé immuable d'un profil : ce qui suffit à le classer.
+     */
+    static final class Entry {
+
+        /** Nom d'utilisateur */
+        private final String username;
+
+        /** Prénom */
+        private final String firstName;
+
+        /** Parties jouées */
+        private final int gamesPlayed;
+
+        /** Parties gagnées */
+        private final int gamesWon;
+
+        /** Note de niveau */
+        private final double rating;
+
+        /** Taux de victoire, calculé comme {@link PlayerProfile#getWinRate()} */
+        private final double winRate;
+
+        /**
+         * Constructeur d'un résumé.
+         *
+         * @param profile Le profil résumé
+         */
+        Entry(PlayerProfile profile) {
+            username = profile.getUsername();
+            firstName = profile.getFirstName();
+            gamesPlayed = profile.getGamesPlayed();
+            gamesWon = profile.getGamesWon();
+            rating = profile.getRating().getRating();
+            winRate = profile.getWinRate();
+        }
+
+        /**
+         * Indique si deux résumés du même profil occupent les mêmes places.
+         *
+         * @param other L'autre résumé
+         * @return true si toutes les valeurs classées sont égales
+         */
+        boolean sameRanking(Entry other) {
+            return gamesPlayed == other.gamesPlayed && gamesWon == other.gamesWon
+                    && Double.compare(rating, other.rating) == 0 && firstName.equals(other.firstName);
+        }
+    }
+}
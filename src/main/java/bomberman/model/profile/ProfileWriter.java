@@ -0,0 +1,378 @@
+package bomberman.model.profile;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Écriture des profils en arrière-plan. Le thread du jeu ne fait que déposer
+ * une copie du profil modifié ; un thread dédié écrit les modifications dans le
+ * {@link ProfileJournal} et les force sur disque en une seule fois.
+ *
+ * <p>Regroupement des écritures :</p>
+ * <ul>
+ *   <li>Après une première modification, le thread attend {@code coalesceMillis}
+ *       pour regrouper la rafale qui suit (fin de partie, menus)</li>
+ *   <li>Plusieurs modifications d'un même profil ne produisent qu'un enregistrement</li>
+ *   <li>Un compactage demandé est écrit après les modifications du même lot ;
+ *       les profils sont copiés par le thread d'écriture, pas par le thread du jeu</li>
+ *   <li>Chaque lot se termine par un unique forçage sur disque</li>
+ * </ul>
+ *
+ * <p>Un profil que le journal ou la base refuse (trop volumineux) est signalé puis ignoré :
+ * le reste du lot est écrit et le thread continue.</p>
+ *
+ * <p>Avec une {@link MappedProfileStore}, les modifications sont écrites sur place
+ * dans la base projetée, et le forçage sur disque porte sur la projection. La
+ * reconstruction de la table, quand elle se remplit, a lieu sur ce thread.</p>
+ *
+ * <p>{@link #flush()} attend que tout ce qui a été déposé soit écrit, et
+ * {@link #close()} vide la file avant d'arrêter le thread.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProfileWriter implements AutoCloseable {
+
+    /** Fenêtre de regroupement par défaut, en millisecondes */
+    public static final long DEFAULT_COALESCE_MILLIS = 200;
+
+    /** Journal dans lequel les modifications sont écrites, null avec une base projetée */
+    private final ProfileJournal journal;
+
+    /** Base projetée dans laquelle les modifications sont écrites, null avec le journal */
+    private final MappedProfileStore store;
+
+    /** Fenêtre de regroupement, en millisecondes */
+    private final long coalesceMillis;
+
+    /** Modifications en attente par nom d'utilisateur (null = suppression) */
+    private Map<String, PlayerProfile> pending = new LinkedHashMap<>();
+
+    /** Profils à réécrire par compactage (copiés au moment de l'écriture), null si aucun */
+    private Map<String, PlayerProfile> compaction;
+
+    /** Indique si un compactage est en cours d'écriture */
+    private boolean compacting;
+
+    /** Numéro de la dernière demande déposée */
+    private long submitted;
+
+    /** Numéro de la dernière demande écrite sur disque */
+    private long written;
+
+    /** Indique si une écriture immédiate est attendue (flush) */
+    private boolean urgent;
+
+    /** Indique si le thread doit continuer */
+    private boolean running;
+
+    /** Thread d'écriture */
+    private Thread thread;
+
+    /** Durée du dernier lot écrit, en nanosecondes */
+    private volatile long lastFlushNanos;
+
+    /** Nombre de lots écrits */
+    private volatile long flushCount;
+
+    /** Nombre d'enregistrements écrits */
+    private volatile long writtenRecords;
+
+    /** Nombre de lots en échec */
+    private volatile long failedFlushes;
+
+    /** Nombre de modifications refusées par le journal */
+    private volatile long rejectedRecords;
+
+    /**
+     * Constructeur d'un écrivain de profils.
+     *
+     * @param journal Le journal chargé dans lequel écrire
+     * @param coalesceMillis La fenêtre de regroupement (0 pour écrire dès que possible)
+     */
+    public ProfileWriter(ProfileJournal journal, long coalesceMillis) {
+        this.journal = journal;
+        this.store = null;
+        this.coalesceMillis = coalesceMillis;
+    }
+
+    /**
+     * Constructeur d'un écrivain de profils dans une base projetée. Les
+     * compactages ne s'y appliquent pas : la base se reconstruit d'elle-même.
+     *
+     * @param store La base ouverte dans laquelle écrire
+     * @param coalesceMillis La fenêtre de regroupement (0 pour écrire dès que possible)
+     */
+    public ProfileWriter(MappedProfileStore store, long coalesceMillis) {
+        this.journal = null;
+        this.store = store;
+        this.coalesceMillis = coalesceMillis;
+    }
+
+    /**
+     * Démarre le thread d'écriture.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "profile-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ==================== DÉPÔT ====================
+
+    /**
+     * Dépose l'état courant d'un profil. Une copie est prise immédiatement :
+     * le profil peut continuer à être modifié par le jeu.
+     *
+     * @param profile Le profil modifié
+     */
+    public synchronized void submitPut(PlayerProfile profile) {
+        pending.put(profile.getUsername(), profile.copy());
+        submitted++;
+        notifyAll();
+    }
+
+    /**
+     * Dépose la suppression d'un profil.
+     *
+     * @param username Le nom d'utilisateur du profil supprimé
+     */
+    public synchronized void submitDelete(String username) {
+        pending.put(username, null);
+        submitted++;
+        notifyAll();
+    }
+
+    /**
+     * Dépose un compactage de l'ensemble des profils. Les modifications encore
+     * en attente sont gardées : elles sont écrites dans le journal juste avant
+     * le compactage, et restent donc sur disque même si celui-ci échoue.
+     *
+     * <p>Les profils ne sont pas copiés ici : le thread d'écriture les copie
+     * juste avant de réécrire l'instantané. La map doit donc supporter un
+     * parcours concurrent ({@link java.util.concurrent.ConcurrentHashMap}) ;
+     * un profil modifié pendant la copie est de toute façon redéposé par
+     * {@link #submitPut}.</p>
+     *
+     * @param profiles Les profils du jeu, lus par le thread d'écriture
+     */
+    public synchronized void submitCompaction(Map<String, PlayerProfile> profiles) {
+        compaction = profiles;
+        submitted++;
+        notifyAll();
+    }
+
+    /**
+     * Attend que toutes les demandes déposées jusqu'ici soient écrites sur disque,
+     * sans attendre la fin de la fenêtre de regroupement.
+     *
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public synchronized void flush() throws InterruptedException {
+        long target = submitted;
+        urgent = true;
+        notifyAll();
+        while (written < target && thread != null && thread.isAlive()) {
+            wait(100);
+        }
+    }
+
+    // ==================== ÉCRITURE ====================
+
+    /**
+     * Boucle du thread : attend une demande, laisse passer la fenêtre de
+     * regroupement, puis écrit le lot.
+     */
+    private void run() {
+        while (true) {
+            Map<String, PlayerProfile> changes;
+            Map<String, PlayerProfile> snapshot;
+            long target;
+            synchronized (this) {
+                try {
+                    while (running && pending.isEmpty() && compaction == null) {
+                        wait();
+                    }
+                    long deadline = System.currentTimeMillis() + coalesceMillis;
+                    long remaining;
+                    while (running && !urgent && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        wait(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+                if (pending.isEmpty() && compaction == null) {
+                    written = submitted;
+                    notifyAll();
+                    if (!running) return;
+                    continue;
+                }
+                changes = pending;
+                snapshot = compaction;
+                pending = new LinkedHashMap<>();
+                compaction = null;
+                compacting = snapshot != null;
+                target = submitted;
+                urgent = false;
+            }
+
+            write(changes, snapshot);
+            synchronized (this) {
+                compacting = false;
+                written = target;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Écrit un lot : modifications, un seul forçage sur disque, puis compactage éventuel.
+     * Le compactage vient en dernier : l'instantané, copié après l'écriture des
+     * modifications, est au moins aussi récent que tout ce que le journal contient.
+     *
+     * @param changes Les modifications par nom d'utilisateur (null = suppression)
+     * @param profiles Les profils à compacter, copiés ici, ou null
+     */
+    private void write(Map<String, PlayerProfile> changes, Map<String, PlayerProfile> profiles) {
+        long start = System.nanoTime();
+        try {
+            for (Map.Entry<String, PlayerProfile> change : changes.entrySet()) {
+                try {
+                    writeChange(change.getKey(), change.getValue());
+                    writtenRecords++;
+                } catch (IllegalArgumentException e) {
+                    rejectedRecords++;
+                    System.err.println("Profil " + change.getKey() + " non écrit : " + e.getMessage());
+                }
+            }
+            if (store != null) {
+                store.force();
+            } else {
+                journal.sync();
+            }
+            if (profiles != null && journal != null) {
+                journal.compact(copyAll(profiles));
+            }
+        } catch (IOException | RuntimeException e) {
+            failedFlushes++;
+            System.err.println("Erreur lors de l'écriture des profils : " + e.getMessage());
+            e.printStackTrace();
+        }
+        lastFlushNanos = System.nanoTime() - start;
+        flushCount++;
+    }
+
+    /**
+     * Écrit une modification dans le journal ou la base projetée.
+     *
+     * @param username Le nom d'utilisateur
+     * @param profile Le profil complet, null pour une suppression
+     * @throws IOException en cas d'erreur d'écriture
+     * @throws IllegalArgumentException si le profil ne peut pas être enregistré
+     */
+    private void writeChange(String username, PlayerProfile profile) throws IOException {
+        if (store != null) {
+            if (profile == null) {
+                store.delete(username);
+            } else {
+                store.put(profile);
+            }
+        } else if (profile == null) {
+            journal.delete(username);
+        } else {
+            journal.put(profile);
+        }
+    }
+
+    /**
+     * Copie les profils à compacter, sur le thread d'écriture.
+     *
+     * @param profiles Les profils du jeu
+     * @return Les copies, par nom d'utilisateur
+     */
+    private static Map<String, PlayerProfile> copyAll(Map<String, PlayerProfile> profiles) {
+        Map<String, PlayerProfile> copy = new HashMap<>(profiles.size() * 2);
+        for (PlayerProfile profile : profiles.values()) {
+            copy.put(profile.getUsername(), profile.copy());
+        }
+        return copy;
+    }
+
+    // ==================== MESURES ====================
+
+    /**
+     * Retourne le nombre de modifications déposées et pas encore écrites.
+     *
+     * @return Le nombre de profils en attente (un compactage compte pour un)
+     */
+    public synchronized int getPendingCount() {
+        return pending.size() + (compaction != null ? 1 : 0);
+    }
+
+    /**
+     * Indique si un compactage est déposé ou en cours d'écriture.
+     *
+     * @return true jusqu'au retour du compactage
+     */
+    public synchronized boolean isCompactionPending() { return compaction != null || compacting; }
+
+    /**
+     * Retourne la durée d'écriture du dernier lot.
+     *
+     * @return La durée en nanosecondes, 0 si aucun lot n'a été écrit
+     */
+    public long getLastFlushNanos() { return lastFlushNanos; }
+
+    /**
+     * Retourne le nombre de lots écrits.
+     *
+     * @return Le nombre de forçages sur disque
+     */
+    public long getFlushCount() { return flushCount; }
+
+    /**
+     * Retourne le nombre d'enregistrements écrits dans le journal.
+     *
+     * @return Le nombre d'enregistrements
+     */
+    public long getWrittenRecords() { return writtenRecords; }
+
+    /**
+     * Retourne le nombre de lots dont l'écriture a échoué.
+     *
+     * @return Le nombre d'échecs
+     */
+    public long getFailedFlushes() { return failedFlushes; }
+
+    /**
+     * Retourne le nombre de modifications refusées par le journal.
+     *
+     * @return Le nombre de profils non écrits
+     */
+    public long getRejectedRecords() { return rejectedRecords; }
+
+    /**
+     * Écrit les demandes en attente puis arrête le thread.
+     */
+    @Override
+    public void close() {
+        Thread writerThread;
+        synchronized (this) {
+            if (!running) return;
+            running = false;
+            urgent = true;
+            notifyAll();
+            writerThread = thread;
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package bomberman.model.profile;
+
+import java.io.Serializable;
+
+/**
+ * Note de niveau d'un joueur ou d'un bot, au sens de Glicko : une estimation
+ * du niveau et l'écart qui mesure l'incertitude de cette estimation. L'écart
+ * diminue à chaque partie jouée et remonte doucement d'une partie à l'autre
+ * (voir {@link RatingSystem}).
+ *
+ * <p>Contrairement au taux de victoire, la note tient compte du niveau des
+ * adversaires : battre un joueur mieux noté rapporte davantage.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Rating implements Serializable {
+
+    /**
+     * Identifiant de version pour la sérialisation (relecture des anciens profils).
+     */
+    private static final long serialVersionUID = 1L;
+
+    /** Note d'un joueur qui n'a encore joué aucune partie notée */
+    public static final Rating DEFAULT = new Rating(1500.0, 350.0);
+
+    /** Niveau estimé */
+    private final double rating;
+
+    /** Écart (incertitude) du niveau estimé */
+    private final double deviation;
+
+    /**
+     * Constructeur d'une note.
+     *
+     * @param rating Le niveau estimé
+     * @param deviation L'écart du niveau estimé, strictement positif
+     * @throws IllegalArgumentException si l'écart n'est pas strictement positif
+     */
+    public Rating(double rating, double deviation) {
+        if (!(deviation > 0)) {
+            throw new IllegalArgumentException("Écart de note invalide : " + deviation);
+        }
+        this.rating = rating;
+        this.deviation = deviation;
+    }
+
+    /**
+     * Retourne le niveau estimé.
+     *
+     * @return La note, 1500 pour un nouveau joueur
+     */
+    public double getRating() { return rating; }
+
+    /**
+     * Retourne l'écart du niveau estimé.
+     *
+     * @return L'écart, 350 pour un nouveau joueur
+     */
+    public double getDeviation() { return deviation; }
+
+    /**
+     * Retourne une note prudente : le niveau diminué de deux écarts. Un joueur
+     * qui a peu joué n'est pas classé devant un joueur régulier de même niveau.
+     *
+     * @return La note prudente
+     */
+    public double getConservativeRating() { return rating - 2 * deviation; }
+
+    /**
+     * Retourne une représentation textuelle de la note.
+     *
+     * @return Par exemple « 1623 ± 87 »
+     */
+    @Override
+    public String toString() {
+        return String.format("%.0f ± %.0f", rating, deviation);
+    }
+
+    /**
+     * Vérifie l'égalité avec une autre note.
+     *
+     * @param obj L'objet à comparer
+     * @return true si le niveau et l'écart sont identiques
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        Rating that = (Rating) obj;
+        return Double.compare(rating, that.rating) == 0 && Double.compare(deviation, that.deviation) == 0;
+    }
+
+    /**
+     * Calcule le code de hachage de la note.
+     *
+     * @return Le code de hachage
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(rating) * 31 + Double.hashCode(deviation);
+    }
+}
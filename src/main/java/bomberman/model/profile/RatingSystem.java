@@ -0,0 +1,214 @@
+package bomberman.model.profile;
+
+import java.util.Collection;
+
+/**
+ * Calcul des notes de niveau ({@link Rating}) selon le système Glicko : chaque
+ * partie est une période de notation, et une partie à plusieurs joueurs compte
+ * comme une confrontation contre chacun des adversaires (victoire contre ceux
+ * classés derrière, défaite contre ceux classés devant, nulle à égalité).
+ *
+ * <p>Mise à jour en fin de partie :</p>
+ * <ul>
+ *   <li>Toutes les notes sont calculées à partir des notes d'avant la partie :
+ *       l'ordre de traitement des joueurs ne change rien</li>
+ *   <li>La nouvelle note d'un participant ne demande qu'un passage sur ses
+ *       adversaires : O(joueurs) par participant</li>
+ *   <li>Les bots sont des participants notés comme les autres, partagés par
+ *       toutes les parties contre l'IA (profil {@value #BOT_USERNAME})</li>
+ *   <li>Un adversaire sans profil (joueur local invité) compte avec la note
+ *       {@link Rating#DEFAULT}, et sa note n'est pas conservée</li>
+ * </ul>
+ *
+ * <p>Recalcul depuis l'historique :</p>
+ * Les profils étant indépendants les uns des autres (les adversaires sont
+ * notés avec une note de référence), {@link #recompute} rejoue l'historique de
+ * chaque profil en parallèle. Les égalités comptent comme des nulles, comme
+ * en fin de partie. L'historique ne conserve pas l'identité des adversaires :
+ * le recalcul ne voit que les
+ * {@value MatchHistory#CAPACITY} dernières parties, contre des adversaires
+ * notés {@link Rating#DEFAULT} en mode classique et avec la note actuelle du
+ * bot en mode IA.
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RatingSystem {
+
+    /** Nom d'utilisateur réservé au profil noté des bots */
+    public static final String BOT_USERNAME = "@IA";
+
+    /** Écart minimal : la note d'un joueur régulier continue d'évoluer */
+    public static final double MIN_DEVIATION = 30.0;
+
+    /** Remontée de l'écart avant chaque partie (incertitude sur l'évolution du joueur) */
+    static final double DEVIATION_DRIFT = 15.0;
+
+    /** Constante de Glicko : ln(10) / 400 */
+    private static final double Q = Math.log(10) / 400;
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private RatingSystem() {}
+
+    /**
+     * Indique si un nom d'utilisateur désigne un bot : les noms commençant par
+     * {@code @} leur sont réservés.
+     *
+     * @param username Le nom d'utilisateur
+     * @return true pour un profil de bot
+     */
+    public static boolean isBot(String username) {
+        return username.startsWith("@");
+    }
+
+    // ==================== FIN DE PARTIE ====================
+
+    /**
+     * Calcule les notes des participants d'une partie terminée.
+     *
+     * @param ratings Les notes d'avant la partie, une par participant
+     * @param placements Les classements (1 = vainqueur, égalité possible), dans le même ordre
+     * @return Les nouvelles notes, dans le même ordre
+     * @throws IllegalArgumentException si les tableaux n'ont pas la même taille
+     */
+    public static Rating[] update(Rating[] ratings, int[] placements) {
+        if (ratings.length != placements.length) {
+            throw new IllegalArgumentException("Une note et un classement par participant");
+        }
+        double[] impacts = new double[ratings.length];
+        for (int i = 0; i < ratings.length; i++) {
+            impacts[i] = impact(drift(ratings[i]).getDeviation());
+        }
+
+        Rating[] updated = new Rating[ratings.length];
+        for (int i = 0; i < ratings.length; i++) {
+            Period period = new Period(ratings[i]);
+            for (int j = 0; j < ratings.length; j++) {
+                if (j == i) continue;
+                double score = placements[i] < placements[j] ? 1.0 : placements[i] == placements[j] ? 0.5 : 0.0;
+                period.add(ratings[j].getRating(), impacts[j], 1, score);
+            }
+            updated[i] = period.result();
+        }
+        return updated;
+    }
+
+    // ==================== RECALCUL ====================
+
+    /**
+     * Rejoue l'historique d'un profil depuis la note initiale, de la plus
+     * ancienne partie à la plus récente.
+     *
+     * @param history L'historique du profil
+     * @param bot La note des bots, adversaires des parties contre l'IA
+     * @return La note recalculée
+     */
+    public static Rating replay(MatchHistory history, Rating bot) {
+        Rating rating = Rating.DEFAULT;
+        double defaultImpact = impact(drift(Rating.DEFAULT).getDeviation());
+        double botImpact = impact(drift(bot).getDeviation());
+        for (int i = history.size() - 1; i >= 0; i--) {
+            MatchRecord record = history.get(i);
+            int opponents = record.getPlayerCount() - 1;
+            if (opponents < 1 || record.getPlacement() < 1) continue;
+            boolean ai = record.getMode() == MatchRecord.MODE_AI;
+            // Adversaires identiques : victoires, nulles et défaites se cumulent en une seule confrontation
+            int ahead = Math.min(record.getPlacement() - 1, opponents);
+            int tied = Math.min(record.getTiedOpponents(), opponents - ahead);
+            int beaten = opponents - ahead - tied;
+            Period period = new Period(rating);
+            period.add(ai ? bot.getRating() : Rating.DEFAULT.getRating(), ai ? botImpact : defaultImpact,
+                    opponents, (beaten + 0.5 * tied) / opponents);
+            rating = period.result();
+        }
+        return rating;
+    }
+
+    /**
+     * Recalcule en parallèle la note de chaque profil depuis son historique.
+     * Le profil des bots garde sa note, qui sert de référence aux parties contre l'IA.
+     *
+     * @param profiles Les profils à recalculer, modifiés sur place
+     * @param bot La note des bots
+     */
+    public static void recompute(Collection<PlayerProfile> profiles, Rating bot) {
+        profiles.parallelStream()
+                .filter(profile -> !isBot(profile.getUsername()))
+                .forEach(profile -> profile.setRating(replay(profile.getMatchHistory(), bot)));
+    }
+
+    // ==================== CALCULS ====================
+
+    /**
+     * Remonte l'écart d'une note avant une nouvelle partie, sans dépasser l'écart initial.
+     *
+     * @param rating La note
+     * @return La note avec son écart remonté
+     */
+    private static Rating drift(Rating rating) {
+        double deviation = Math.sqrt(rating.getDeviation() * rating.getDeviation() + DEVIATION_DRIFT * DEVIATION_DRIFT);
+        return new Rating(rating.getRating(), Math.min(deviation, Rating.DEFAULT.getDeviation()));
+    }
+
+    /**
+     * Atténue l'effet d'un adversaire selon l'incertitude de sa note (fonction g de Glicko).
+     *
+     * @param deviation L'écart de la note de l'adversaire
+     * @return Un facteur entre 0 et 1
+     */
+    private static double impact(double deviation) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * deviation * deviation / (Math.PI * Math.PI));
+    }
+
+    /**
+     * Confrontations d'un joueur pendant une période de notation.
+     */
+    private static final class Period {
+
+        /** Note du joueur, écart remonté */
+        private final Rating player;
+
+        /** Somme des g² E (1 - E) : inverse de la variance des résultats, à Q² près */
+        private double information;
+
+        /** Somme des g (s - E) : écart entre résultats obtenus et attendus */
+        private double surprise;
+
+        /**
+         * Constructeur d'une période.
+         *
+         * @param player La note du joueur avant la période
+         */
+        Period(Rating player) {
+            this.player = drift(player);
+        }
+
+        /**
+         * Ajoute des confrontations contre un adversaire.
+         *
+         * @param opponent La note de l'adversaire
+         * @param impact Le facteur g de l'adversaire
+         * @param games Le nombre de confrontations
+         * @param score Le score moyen obtenu (1 victoire, 0.5 nulle, 0 défaite)
+         */
+        void add(double opponent, double impact, int games, double score) {
+            double expected = 1 / (1 + Math.pow(10, -impact * (player.getRating() - opponent) / 400));
+            information += games * impact * impact * expected * (1 - expected);
+            surprise += games * impact * (score - expected);
+        }
+
+        /**
+         * Calcule la note en fin de période.
+         *
+         * @return La nouvelle note
+         */
+        Rating result() {
+            double precision = 1 / (player.getDeviation() * player.getDeviation()) + Q * Q * information;
+            return new Rating(player.getRating() + Q / precision * surprise,
+                    Math.max(MIN_DEVIATION, Math.sqrt(1 / precision)));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package bomberman.network;
+
+import bomberman.model.ai.BotBrain;
+import bomberman.utils.GameConstants;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Essaim de bots clients pour les tests de charge d'un {@link DedicatedServer}.
+ * Chaque bot est un thread virtuel qui rejoint la première salle libre avec un
+ * {@link DedicatedClient}, joue avec un {@link BotBrain} à chaque tick rejoué,
+ * puis rejoint une nouvelle salle à la fin de chaque partie : des milliers
+ * de bots tiennent dans une JVM et le serveur reste occupé en continu.
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * try (BotSwarm swarm = new BotSwarm("localhost", 7778, 1)) {
+ *     swarm.spawn(400);
+ *     Thread.sleep(60_000);
+ *     System.out.println(swarm.getMatchesPlayed() + " parties jouées");
+ * }
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class BotSwarm implements AutoCloseable {
+
+    /** Attente avant une nouvelle tentative après un refus du serveur */
+    static final long RETRY_MILLIS = 1000;
+
+    /** Adresse du serveur */
+    private final String host;
+
+    /** Port du serveur */
+    private final int port;
+
+    /** Graine des bots (le bot n reçoit la graine + n) */
+    private final long seed;
+
+    /** Clients connectés, fermés avec l'essaim */
+    private final Set<DedicatedClient> clients = ConcurrentHashMap.newKeySet();
+
+    /** Nombre de bots lancés */
+    private final AtomicLong spawned = new AtomicLong();
+
+    /** Nombre de parties menées à leur terme (une par bot et par partie) */
+    private final AtomicLong matchesPlayed = new AtomicLong();
+
+    /** Nombre d'entrées refusées ou de connexions impossibles */
+    private final AtomicLong failedJoins = new AtomicLong();
+
+    /** Octets reçus par les clients fermés */
+    private final AtomicLong closedReceivedBytes = new AtomicLong();
+
+    /** Octets envoyés par les clients fermés */
+    private final AtomicLong closedSentBytes = new AtomicLong();
+
+    /** Indique si les bots doivent continuer à jouer */
+    private volatile boolean running = true;
+
+    /**
+     * Constructeur d'un essaim vide.
+     *
+     * @param host L'adresse du serveur
+     * @param port Le port du serveur
+     * @param seed La graine des bots
+     */
+    public BotSwarm(String host, int port, long seed) {
+        this.host = host;
+        this.port = port;
+        this.seed = seed;
+    }
+
+    /**
+     * Lance des bots supplémentaires, chacun dans son thread virtuel.
+     *
+     * @param count Le nombre de bots à lancer
+     */
+    public void spawn(int count) {
+        for (int i = 0; i < count; i++) {
+            long id = spawned.getAndIncrement();
+            Thread.ofVirtual().name("bot-" + id).start(() -> play(id));
+        }
+    }
+
+    // ==================== BOTS ====================
+
+    /**
+     * Boucle d'un bot : rejoint une salle, joue la partie, recommence.
+     *
+     * @param id Le numéro du bot
+     */
+    private void play(long id) {
+        BotBrain brain = new BotBrain(seed + id);
+        while (running) {
+            DedicatedClient client;
+            try {
+                client = new DedicatedClient(host, port, DedicatedClient.ANY_ROOM);
+            } catch (IOException e) {
+                failedJoins.incrementAndGet();
+                if (!pause(RETRY_MILLIS)) return;
+                continue;
+            }
+            clients.add(client);
+            try {
+                playMatch(client, brain);
+            } catch (IOException e) {
+                // Connexion coupée : le bot rejoint une autre salle
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                clients.remove(client);
+                client.close();
+                closedReceivedBytes.addAndGet(client.getReceivedBytes());
+                closedSentBytes.addAndGet(client.getSentBytes());
+            }
+        }
+    }
+
+    /**
+     * Joue une partie : une décision à chaque nouveau tick rejoué, jusqu'à la fin
+     * annoncée par le serveur. Le bot dort entre deux ticks au lieu d'attendre
+     * sur le verrou du client : un thread virtuel bloqué dans {@code wait()}
+     * immobiliserait son thread porteur, ce qui limite le nombre de bots.
+     *
+     * @param client Le client connecté
+     * @param brain L'intelligence du bot
+     * @throws IOException en cas d'erreur d'envoi
+     * @throws InterruptedException si le bot est interrompu
+     */
+    private void playMatch(DedicatedClient client, BotBrain brain) throws IOException, InterruptedException {
+        int playerIndex = client.getPlayerNumber() - 1;
+        int tick = 0;
+        long nextTime = System.nanoTime();
+        while (running && client.isConnected()) {
+            if (client.isEnded()) {
+                matchesPlayed.incrementAndGet();
+                return;
+            }
+            nextTime = Math.max(nextTime + GameConstants.TICK_DURATION, System.nanoTime());
+            TimeUnit.NANOSECONDS.sleep(nextTime - System.nanoTime());
+
+            int input;
+            synchronized (client) {
+                if (client.getTick() == tick) continue;
+                tick = client.getTick();
+                input = brain.nextInput(client.getGameManager(), playerIndex);
+            }
+            client.sendInput(input);
+        }
+    }
+
+    /**
+     * Attend sans interrompre l'essaim.
+     *
+     * @param millis La durée en millisecondes
+     * @return false si l'essaim s'arrête pendant l'attente
+     */
+    private boolean pause(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return running;
+    }
+
+    // ==================== MESURES ====================
+
+    /**
+     * Retourne le nombre de bots lancés.
+     *
+     * @return Le nombre de bots
+     */
+    public long getBotCount() { return spawned.get(); }
+
+    /**
+     * Retourne le nombre de bots actuellement connectés à une salle.
+     *
+     * @return Le nombre de clients
+     */
+    public int getConnectedCount() { return clients.size(); }
+
+    /**
+     * Retourne le nombre de parties terminées, comptées une fois par bot.
+     *
+     * @return Le nombre de parties
+     */
+    public long getMatchesPlayed() { return matchesPlayed.get(); }
+
+    /**
+     * Retourne le nombre d'entrées refusées ou impossibles.
+     *
+     * @return Le nombre d'échecs
+     */
+    public long getFailedJoins() { return failedJoins.get(); }
+
+    /**
+     * Retourne le nombre d'octets reçus par tous les bots.
+     *
+     * @return Le nombre d'octets
+     */
+    public long getReceivedBytes() {
+        long total = closedReceivedBytes.get();
+        for (DedicatedClient client : clients) {
+            total += client.getReceivedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le nombre d'octets envoyés par tous les bots.
+     *
+     * @return Le nombre d'octets
+     */
+    public long getSentBytes() {
+        long total = closedSentBytes.get();
+        for (DedicatedClient client : clients) {
+            total += client.getSentBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Arrête les bots et ferme leurs connexions.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (DedicatedClient client : clients) {
+            client.close();
+        }
+    }
+
+    /**
+     * Lance un essaim en ligne de commande contre un serveur distant et affiche
+     * ses mesures toutes les 5 secondes. Les bots tournent ainsi sur une autre
+     * machine que le serveur mesuré.
+     * Arguments optionnels : hôte, port, nombre de bots.
+     *
+     * @param args Les arguments de la ligne de commande
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DedicatedServer.DEFAULT_PORT;
+        int bots = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+        BotSwarm swarm = new BotSwarm(host, port, System.nanoTime());
+        swarm.spawn(bots);
+        System.out.println(bots + " bots lancés vers " + host + ":" + port);
+        long previousBytes = 0;
+        while (swarm.running) {
+            Thread.sleep(5000);
+            long bytes = swarm.getReceivedBytes() + swarm.getSentBytes();
+            System.out.printf("connectés=%d parties=%d échecs=%d débit=%.1fKo/s%n",
+                    swarm.getConnectedCount(), swarm.getMatchesPlayed(), swarm.getFailedJoins(),
+                    (bytes - previousBytes) / 5.0 / 1024);
+            previousBytes = bytes;
+        }
+    }
+}
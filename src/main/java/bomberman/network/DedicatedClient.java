@@ -0,0 +1,383 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Client d'un {@link DedicatedServer}.
+ * Le client rejoint une salle, envoie la commande de son joueur chaque fois
+ * qu'elle change et rejoue localement les trames appliquées par le serveur :
+ * sa partie reste identique à celle de la salle, tick pour tick.
+ *
+ * <p>La réception tourne dans un thread virtuel : des milliers de clients
+ * peuvent coexister dans une même JVM pour les tests de charge.</p>
+ *
+ * <p>Pour que les commandes ne paraissent pas retardées par la latence, le
+ * déplacement du joueur local est prédit ({@link PlayerPredictor}) : l'affichage
+ * utilise {@link #getPredictor()} pour ce joueur et la partie rejouée pour le reste.
+ * Avec la prédiction, une commande numérotée est envoyée à chaque tick local ;
+ * chaque trame reçue indique la dernière que le serveur a appliquée.</p>
+ *
+ * <p>Utilisation typique (à chaque tick de la boucle locale) :</p>
+ * <pre>
+ * DedicatedClient client = new DedicatedClient("hote", 7778, DedicatedClient.ANY_ROOM);
+ * client.sendPredictedInput(PlayerInput.of(PlayerInput.LEFT, false));
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class DedicatedClient implements AutoCloseable {
+
+    /** Salle demandée : première salle en attente de joueurs */
+    public static final int ANY_ROOM = DedicatedProtocol.ANY_ROOM;
+
+    /** Socket connectée au serveur */
+    private final Socket socket;
+
+    /** Flux entrant */
+    private final DataInputStream in;
+
+    /** Flux sortant (messages de 6 octets, non tamponné) */
+    private final DataOutputStream out;
+
+    /** Identifiant de la salle */
+    private final int roomId;
+
+    /** Numéro du joueur local (1-4) */
+    private final int playerNumber;
+
+    /** Nombre de joueurs de la salle */
+    private final int playerCount;
+
+    /** Graine de la partie */
+    private final long seed;
+
+    /** Copie locale de la partie */
+    private final GameManager gameManager;
+
+    /** Prédiction du déplacement du joueur local, protégée par le verrou du client */
+    private final PlayerPredictor predictor;
+
+    /** Dernière commande envoyée */
+    private int lastInput = PlayerInput.NONE;
+
+    /** Dernier tick rejoué */
+    private int tick;
+
+    /** Numéro du gagnant annoncé par le serveur (0 si match nul), -1 tant que la partie continue */
+    private int winner = -1;
+
+    /** Nombre d'octets reçus du serveur (écrit par le thread de réception) */
+    private volatile long receivedBytes;
+
+    /** Nombre d'octets envoyés au serveur (écrit sous le verrou du flux sortant) */
+    private volatile long sentBytes;
+
+    /** Indique si la connexion est ouverte */
+    private volatile boolean connected;
+
+    /**
+     * Se connecte au serveur et entre dans une salle.
+     *
+     * @param host L'adresse du serveur
+     * @param port Le port du serveur
+     * @param roomId La salle demandée, ou {@link #ANY_ROOM}
+     * @throws IOException en cas d'erreur de connexion ou de refus du serveur
+     */
+    public DedicatedClient(String host, int port, int roomId) throws IOException {
+        this.socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(socket.getOutputStream());
+
+        out.writeByte(DedicatedProtocol.JOIN);
+        out.writeInt(roomId);
+        out.flush();
+
+        byte type = in.readByte();
+        if (type == DedicatedProtocol.REJECT) {
+            byte reason = in.readByte();
+            socket.close();
+            throw new IOException(reason == DedicatedProtocol.OVERLOADED
+                    ? "Entrée refusée : serveur surchargé"
+                    : "Entrée refusée : salle pleine");
+        }
+        if (type != DedicatedProtocol.WELCOME) {
+            socket.close();
+            throw new IOException("Message d'accueil attendu, reçu : " + type);
+        }
+        this.roomId = in.readInt();
+        this.playerNumber = in.readByte();
+        this.playerCount = in.readByte();
+        this.seed = in.readLong();
+        this.sentBytes = DedicatedProtocol.JOIN_SIZE;
+        this.receivedBytes = DedicatedProtocol.WELCOME_SIZE;
+        this.gameManager = createMatch();
+        this.predictor = new PlayerPredictor(gameManager, playerNumber - 1);
+        this.connected = true;
+
+        Thread.ofVirtual().name("dedicated-client-" + roomId + "-" + playerNumber).start(this::readMessages);
+    }
+
+    /**
+     * Crée la copie locale de la partie, identique à celle de la salle. Le
+     * profil courant suit le joueur attribué par le serveur.
+     *
+     * @return Le gestionnaire de jeu initialisé avec la graine de la salle
+     */
+    private GameManager createMatch() {
+        GameManager manager = GameManager.createSeededMatch(playerCount, seed, false);
+        manager.setLocalPlayerNumber(playerNumber);
+        return manager;
+    }
+
+    // ==================== RÉCEPTION ====================
+
+    /**
+     * Lit en boucle les trames du serveur et les rejoue jusqu'à la fin de partie.
+     */
+    private void readMessages() {
+        try {
+            while (connected) {
+                byte type = in.readByte();
+                int frameTick = in.readInt();
+                switch (type) {
+                    case DedicatedProtocol.FRAME -> {
+                        int frame = in.readShort() & 0xFFFF;
+                        int acknowledged = in.readInt();
+                        receivedBytes += DedicatedProtocol.FRAME_SIZE;
+                        synchronized (this) {
+                            gameManager.step(frame);
+                            predictor.acknowledge(acknowledged);
+                            tick = frameTick;
+                            notifyAll();
+                        }
+                    }
+                    case DedicatedProtocol.END -> {
+                        int winnerNumber = in.readByte();
+                        receivedBytes += DedicatedProtocol.END_SIZE;
+                        synchronized (this) {
+                            winner = winnerNumber;
+                            notifyAll();
+                        }
+                        return;
+                    }
+                    default -> throw new IOException("Message inconnu : " + type);
+                }
+            }
+        } catch (IOException e) {
+            if (connected) {
+                System.err.println("Client dédié : connexion au serveur perdue : " + e.getMessage());
+                connected = false;
+            }
+        } finally {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    // ==================== COMMANDES ====================
+
+    /**
+     * Envoie la commande du joueur local si elle a changé, sans prédiction
+     * (numérotée avec la dernière commande prédite).
+     * Le serveur l'applique à chaque tick jusqu'à la suivante ; la pose de bombe
+     * n'est appliquée qu'une fois.
+     *
+     * @param input La commande ({@link PlayerInput})
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    public void sendInput(int input) throws IOException {
+        input &= PlayerInput.MASK;
+        long sequence;
+        synchronized (this) {
+            sequence = predictor.getSequence();
+        }
+        synchronized (out) {
+            if (input == lastInput && !PlayerInput.isBomb(input)) return;
+            send((int) sequence, input);
+        }
+    }
+
+    /**
+     * Tick de la boucle locale : avance immédiatement la prédiction du joueur
+     * local, sans attendre le serveur, et envoie la commande avec son numéro.
+     * La commande est envoyée même inchangée : le serveur applique une commande
+     * par tick et la prédiction rejoue celles qu'il n'a pas encore confirmées.
+     *
+     * @param input La commande du joueur local pour ce tick ({@link PlayerInput})
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    public void sendPredictedInput(int input) throws IOException {
+        input &= PlayerInput.MASK;
+        long sequence;
+        synchronized (this) {
+            if (!predictor.predict(input)) return;
+            sequence = predictor.getSequence();
+        }
+        synchronized (out) {
+            send((int) sequence, input);
+        }
+    }
+
+    /**
+     * Écrit un message INPUT, en tenant le verrou du flux sortant.
+     *
+     * @param sequence Le numéro de la commande
+     * @param input La commande ({@link PlayerInput})
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    private void send(int sequence, int input) throws IOException {
+        out.writeByte(DedicatedProtocol.INPUT);
+        out.writeInt(sequence);
+        out.writeByte(input);
+        out.flush();
+        sentBytes += DedicatedProtocol.INPUT_SIZE;
+        lastInput = input;
+    }
+
+    /**
+     * Attend que la partie locale ait atteint un tick.
+     *
+     * @param target Le tick attendu
+     * @param timeoutMillis Le délai d'attente maximal en millisecondes
+     * @return true si le tick est atteint, false en cas de délai dépassé, de fin de partie ou de déconnexion
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public synchronized boolean awaitTick(int target, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (tick < target && winner < 0 && connected) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+            wait(remaining);
+        }
+        return tick >= target;
+    }
+
+    /**
+     * Attend la fin de la partie annoncée par le serveur.
+     *
+     * @param timeoutMillis Le délai d'attente maximal en millisecondes
+     * @return true si la partie est terminée
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public synchronized boolean awaitEnd(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (winner < 0 && connected) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+            wait(remaining);
+        }
+        return winner >= 0;
+    }
+
+    // ==================== ÉTAT ====================
+
+    /**
+     * Retourne la copie locale de la partie.
+     * Elle est modifiée par le thread de réception : la lire en tenant le verrou du client.
+     *
+     * @return Le gestionnaire de jeu
+     */
+    public GameManager getGameManager() { return gameManager; }
+
+    /**
+     * Retourne la prédiction du joueur local.
+     * Elle est réconciliée avec la partie rejouée : la lire en tenant le verrou du client.
+     *
+     * @return Le prédicteur du joueur local
+     */
+    public PlayerPredictor getPredictor() { return predictor; }
+
+    /**
+     * Retourne l'identifiant de la salle.
+     *
+     * @return L'identifiant
+     */
+    public int getRoomId() { return roomId; }
+
+    /**
+     * Retourne le numéro du joueur local.
+     *
+     * @return Le numéro du joueur (1-4)
+     */
+    public int getPlayerNumber() { return playerNumber; }
+
+    /**
+     * Retourne le nombre de joueurs de la salle.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne la graine de la partie.
+     *
+     * @return La graine
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Retourne le dernier tick rejoué.
+     *
+     * @return Le numéro du tick
+     */
+    public synchronized int getTick() { return tick; }
+
+    /**
+     * Indique si le serveur a annoncé la fin de la partie.
+     *
+     * @return true si la partie est terminée
+     */
+    public synchronized boolean isEnded() { return winner >= 0; }
+
+    /**
+     * Retourne le gagnant annoncé par le serveur.
+     *
+     * @return Le numéro du gagnant, 0 si match nul, -1 si la partie continue
+     */
+    public synchronized int getWinner() { return winner; }
+
+    /**
+     * Retourne le nombre d'octets reçus du serveur depuis la connexion.
+     *
+     * @return Le nombre d'octets
+     */
+    public long getReceivedBytes() { return receivedBytes; }
+
+    /**
+     * Retourne le nombre d'octets envoyés au serveur depuis la connexion.
+     *
+     * @return Le nombre d'octets
+     */
+    public long getSentBytes() { return sentBytes; }
+
+    /**
+     * Indique si la connexion au serveur est ouverte.
+     *
+     * @return true si le client est connecté
+     */
+    public boolean isConnected() { return connected; }
+
+    /**
+     * Ferme la connexion au serveur.
+     */
+    @Override
+    public void close() {
+        connected = false;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du client : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package bomberman.network;
+
+/**
+ * Constantes du protocole du serveur dédié.
+ * Le serveur fait autorité : il simule chaque salle et diffuse à chaque tick la
+ * trame de commandes qu'il a appliquée. Les messages ont une taille fixe
+ * déterminée par leur octet de type (ordre réseau).
+ *
+ * <p>Chaque commande porte le numéro du tick local du client qui l'a produite ;
+ * le serveur applique les commandes une par tick, dans l'ordre, et renvoie à
+ * chaque joueur dans FRAME le numéro de la dernière commande appliquée. La
+ * prédiction du client ({@link PlayerPredictor}) ne rejoue que les commandes
+ * suivantes.</p>
+ *
+ * <p>Messages :</p>
+ * <pre>
+ * JOIN    client → serveur : type, salle (4 o, {@link #ANY_ROOM} pour la première salle libre)
+ * INPUT   client → serveur : type, numéro (4 o, tick local), commande (1 o, maintenue jusqu'à la suivante)
+ * WELCOME serveur → client : type, salle (4 o), joueur (1 o), joueurs (1 o), graine (8 o)
+ * FRAME   serveur → client : type, tick (4 o), trame (2 o, 4 bits par joueur),
+ *                            numéro de la dernière commande appliquée du destinataire (4 o)
+ * END     serveur → client : type, tick (4 o), gagnant (1 o, 0 si match nul)
+ * REJECT  serveur → client : type, raison (1 o)
+ * </pre>
+ *
+ * <p>Spectateurs ({@link SpectatorServer}, port séparé) : le spectateur envoie
+ * un message WATCH (type, salle sur 4 o), puis reçoit en continu des états
+ * préfixés par leur longueur (4 o) et codés par {@link StateCodec}.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+final class DedicatedProtocol {
+
+    /** Demande d'entrée dans une salle */
+    static final byte JOIN = 1;
+
+    /** Commande maintenue d'un joueur */
+    static final byte INPUT = 2;
+
+    /** Entrée acceptée : salle, numéro de joueur et graine de la partie */
+    static final byte WELCOME = 3;
+
+    /** Trame appliquée par le serveur pour un tick */
+    static final byte FRAME = 4;
+
+    /** Fin de partie */
+    static final byte END = 5;
+
+    /** Entrée refusée */
+    static final byte REJECT = 6;
+
+    /** Demande de suivi d'une salle par un spectateur */
+    static final byte WATCH = 7;
+
+    /** Salle demandée : première salle en attente de joueurs */
+    static final int ANY_ROOM = -1;
+
+    /** Raison du refus : la salle est pleine ou déjà commencée */
+    static final byte ROOM_FULL = 1;
+
+    /** Raison du refus : le serveur est surchargé */
+    static final byte OVERLOADED = 2;
+
+    /** Taille d'un message JOIN */
+    static final int JOIN_SIZE = 5;
+
+    /** Taille d'un message INPUT */
+    static final int INPUT_SIZE = 6;
+
+    /** Taille d'un message WELCOME */
+    static final int WELCOME_SIZE = 15;
+
+    /** Taille d'un message FRAME */
+    static final int FRAME_SIZE = 11;
+
+    /** Position, dans un message FRAME, du numéro de la dernière commande appliquée */
+    static final int FRAME_ACK_OFFSET = 7;
+
+    /** Taille d'un message END */
+    static final int END_SIZE = 6;
+
+    /** Taille d'un message REJECT */
+    static final int REJECT_SIZE = 2;
+
+    /** Taille d'un message WATCH */
+    static final int WATCH_SIZE = 5;
+
+    /**
+     * Constructeur privé : classe de constantes.
+     */
+    private DedicatedProtocol() {}
+}
@@ -0,0 +1,722 @@
+package bomberman.network;
+
+import bomberman.utils.GameConstants;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serveur dédié sans affichage hébergeant de nombreuses salles simultanées.
+ * Contrairement au {@link LockstepServer}, ce serveur fait autorité : chaque
+ * {@link ServerRoom} simule sa propre partie avec les règles de
+ * {@link bomberman.model.game.GameManager} et diffuse la trame appliquée à chaque
+ * tick ; les clients ({@link DedicatedClient}) rejouent ces trames à l'identique.
+ *
+ * <p>Architecture :</p>
+ * <ul>
+ *   <li><strong>Réseau</strong> : un seul thread et un {@link Selector} NIO pour
+ *       toutes les connexions (acceptation, lecture, fin d'écriture)</li>
+ *   <li><strong>Simulation</strong> : les ticks de toutes les salles sont multiplexés
+ *       sur un petit pool de threads planifiés (un par cœur par défaut)</li>
+ *   <li><strong>Envoi</strong> : chaque connexion a un tampon de sortie borné ; un
+ *       client qui ne suit pas est déconnecté au lieu de faire grossir la mémoire</li>
+ *   <li><strong>Délestage</strong> : une salle en retard abandonne des ticks au lieu
+ *       de les rattraper, et les nouvelles salles sont refusées quand la charge
+ *       dépasse {@link #MAX_LOAD}</li>
+ *   <li><strong>Mesures</strong> : durées de tick par salle et agrégées ({@link TickMetrics})</li>
+ *   <li><strong>Replays</strong> : si un dossier est configuré, chaque partie jouée
+ *       y est sauvegardée à la fermeture de sa salle ({@link bomberman.model.game.MatchReplay})</li>
+ * </ul>
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * DedicatedServer server = new DedicatedServer(DedicatedServer.DEFAULT_PORT, 4, 2);
+ * server.start();
+ * // Chaque joueur : new DedicatedClient("hote", 7778, DedicatedClient.ANY_ROOM)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class DedicatedServer implements AutoCloseable {
+
+    /** Port utilisé par défaut */
+    public static final int DEFAULT_PORT = 7778;
+
+    /**
+     * Charge maximale acceptant de nouvelles salles : fraction du temps de calcul
+     * disponible (threads du pool × durée d'un tick) consommée par les ticks.
+     */
+    public static final double MAX_LOAD = 0.8;
+
+    /** Capacité du tampon de sortie d'une connexion, en octets */
+    static final int OUTBOUND_CAPACITY = 16 * 1024;
+
+    /** Canal d'écoute des connexions */
+    private final ServerSocketChannel serverChannel;
+
+    /** Sélecteur de toutes les connexions */
+    private final Selector selector;
+
+    /** Nombre de joueurs par salle (2-4) */
+    private final int playersPerRoom;
+
+    /** Nombre de threads du pool de simulation */
+    private final int workers;
+
+    /** Pool exécutant les ticks des salles */
+    private final ScheduledExecutorService scheduler;
+
+    /** Salles ouvertes, par identifiant */
+    private final Map<Integer, ServerRoom> rooms = new ConcurrentHashMap<>();
+
+    /** Mesures cumulées des salles fermées */
+    private final TickMetrics closedRoomMetrics = new TickMetrics();
+
+    /** Salle en attente de joueurs pour les demandes sans salle précise */
+    private ServerRoom waitingRoom;
+
+    /** Prochain identifiant de salle automatique */
+    private int nextRoomId = 1;
+
+    /** Nombre de connexions ouvertes */
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    /** Nombre d'entrées refusées */
+    private volatile long rejectedJoins;
+
+    /** Nombre de salles terminées */
+    private volatile long closedRooms;
+
+    /** Dossier de sauvegarde des replays, null si désactivé */
+    private volatile Path replayDirectory;
+
+    /** Indique si le serveur tourne */
+    private volatile boolean running;
+
+    /** Thread de la boucle réseau, null avant le démarrage */
+    private volatile Thread ioThread;
+
+    /**
+     * Constructeur du serveur. Ouvre le port d'écoute sans accepter de connexion.
+     *
+     * @param port Le port d'écoute (0 pour un port libre choisi par le système)
+     * @param playersPerRoom Le nombre de joueurs par salle (2-4)
+     * @param workers Le nombre de threads de simulation (au moins 1)
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public DedicatedServer(int port, int playersPerRoom, int workers) throws IOException {
+        if (playersPerRoom < 2 || playersPerRoom > 4) {
+            throw new IllegalArgumentException("Nombre de joueurs par salle invalide : " + playersPerRoom);
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("Nombre de threads invalide : " + workers);
+        }
+        this.playersPerRoom = playersPerRoom;
+        this.workers = workers;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+        this.scheduler = Executors.newScheduledThreadPool(workers,
+                Thread.ofPlatform().name("room-worker-", 0).daemon().factory());
+    }
+
+    /**
+     * Démarre la boucle réseau dans un thread dédié.
+     *
+     * @throws IOException si le canal d'écoute ne peut pas être enregistré
+     */
+    public void start() throws IOException {
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        Thread thread = new Thread(this::runSelector, "dedicated-server-io");
+        thread.setDaemon(true);
+        ioThread = thread;
+        thread.start();
+    }
+
+    // ==================== RÉSEAU ====================
+
+    /**
+     * Boucle réseau : traite les événements du sélecteur jusqu'à l'arrêt, puis
+     * ferme les connexions et le sélecteur. Seul ce thread parcourt les clés du
+     * sélecteur.
+     */
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            read(connection);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                System.err.println("Serveur dédié : erreur réseau : " + e.getMessage());
+            }
+        } finally {
+            closeChannels();
+        }
+    }
+
+    /**
+     * Ferme toutes les connexions, le sélecteur et le canal d'écoute.
+     */
+    private void closeChannels() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+            serverChannel.close();
+        } catch (IOException | ClosedSelectorException e) {
+            System.err.println("Erreur lors de l'arrêt du serveur dédié : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepte les connexions en attente.
+     *
+     * @throws IOException en cas d'erreur du canal d'écoute
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(this, channel, key));
+            connectionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Lit et traite les messages complets reçus d'une connexion.
+     *
+     * @param connection La connexion prête en lecture
+     */
+    private void read(Connection connection) {
+        ByteBuffer in = connection.in;
+        try {
+            if (connection.channel.read(in) < 0) {
+                disconnect(connection);
+                return;
+            }
+        } catch (IOException e) {
+            disconnect(connection);
+            return;
+        }
+
+        in.flip();
+        while (in.hasRemaining()) {
+            byte type = in.get(in.position());
+            int size = switch (type) {
+                case DedicatedProtocol.JOIN -> DedicatedProtocol.JOIN_SIZE;
+                case DedicatedProtocol.INPUT -> DedicatedProtocol.INPUT_SIZE;
+                default -> -1;
+            };
+            if (size < 0) {
+                System.err.println("Serveur dédié : message inconnu " + type + ", client déconnecté");
+                disconnect(connection);
+                return;
+            }
+            if (in.remaining() < size) break;
+
+            in.get();
+            if (type == DedicatedProtocol.JOIN) {
+                join(connection, in.getInt());
+            } else {
+                int sequence = in.getInt();
+                byte input = in.get();
+                ServerRoom room = connection.room;
+                if (room != null) {
+                    room.setInput(connection.player, sequence, input);
+                }
+            }
+        }
+        in.compact();
+    }
+
+    /**
+     * Ferme une connexion et la retire de sa salle. Sans effet si elle est déjà fermée.
+     *
+     * @param connection La connexion à fermer
+     */
+    void disconnect(Connection connection) {
+        if (!connection.markClosed()) return;
+        connectionCount.decrementAndGet();
+        ServerRoom room = connection.room;
+        if (room != null && room.leave(connection)) {
+            closeRoom(room);
+        }
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture d'une connexion : " + e.getMessage());
+        }
+    }
+
+    // ==================== SALLES ====================
+
+    /**
+     * Fait entrer un joueur dans une salle, en la créant si nécessaire.
+     *
+     * @param connection La connexion du joueur
+     * @param roomId La salle demandée, ou {@link DedicatedProtocol#ANY_ROOM}
+     */
+    private synchronized void join(Connection connection, int roomId) {
+        if (connection.room != null) {
+            connection.reply(reject(DedicatedProtocol.ROOM_FULL));
+            return;
+        }
+
+        ServerRoom room = roomId == DedicatedProtocol.ANY_ROOM ? waitingRoom : rooms.get(roomId);
+        if (room == null || room.isClosed()) {
+            if (isOverloaded()) {
+                rejectedJoins++;
+                connection.reply(reject(DedicatedProtocol.OVERLOADED));
+                return;
+            }
+            room = createRoom(roomId);
+        }
+
+        int player = room.join(connection);
+        if (player < 0) {
+            rejectedJoins++;
+            connection.reply(reject(DedicatedProtocol.ROOM_FULL));
+            return;
+        }
+        connection.attach(room, player);
+
+        ByteBuffer welcome = ByteBuffer.allocate(DedicatedProtocol.WELCOME_SIZE);
+        welcome.put(DedicatedProtocol.WELCOME).putInt(room.getId()).put((byte) (player + 1))
+                .put((byte) playersPerRoom).putLong(room.getSeed()).flip();
+        connection.reply(welcome);
+
+        if (room.isFull()) {
+            if (room == waitingRoom) {
+                waitingRoom = null;
+            }
+            room.start();
+        }
+    }
+
+    /**
+     * Crée une salle avec une graine aléatoire.
+     *
+     * @param roomId L'identifiant demandé, ou {@link DedicatedProtocol#ANY_ROOM} pour un identifiant libre
+     * @return La nouvelle salle
+     */
+    private ServerRoom createRoom(int roomId) {
+        int id = roomId;
+        if (id == DedicatedProtocol.ANY_ROOM) {
+            while (rooms.containsKey(nextRoomId) || nextRoomId == DedicatedProtocol.ANY_ROOM) {
+                nextRoomId++;
+            }
+            id = nextRoomId++;
+        }
+        ServerRoom room = new ServerRoom(id, this, scheduler, playersPerRoom,
+                ThreadLocalRandom.current().nextLong());
+        rooms.put(id, room);
+        if (roomId == DedicatedProtocol.ANY_ROOM) {
+            waitingRoom = room;
+        }
+        return room;
+    }
+
+    /**
+     * Ferme une salle terminée ou abandonnée et conserve ses mesures.
+     * Les joueurs restent connectés et peuvent rejoindre une autre salle.
+     *
+     * @param room La salle à fermer
+     */
+    synchronized void closeRoom(ServerRoom room) {
+        if (!rooms.remove(room.getId(), room)) return;
+        if (room == waitingRoom) {
+            waitingRoom = null;
+        }
+        room.close();
+        closedRoomMetrics.merge(room.getMetrics());
+        closedRooms++;
+        Path directory = replayDirectory;
+        if (directory != null && room.getTick() > 0) {
+            Thread.ofVirtual().name("replay-" + room.getId()).start(() -> saveReplay(room, directory));
+        }
+    }
+
+    /**
+     * Sauvegarde le replay d'une salle fermée, hors du thread réseau et des ticks.
+     *
+     * @param room La salle fermée
+     * @param directory Le dossier de destination
+     */
+    private static void saveReplay(ServerRoom room, Path directory) {
+        Path file = directory.resolve("salle-" + room.getId() + "-" + Long.toHexString(room.getSeed()) + ".bmr");
+        try {
+            room.getReplay().write(file);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la sauvegarde du replay " + file + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Construit un message de refus.
+     *
+     * @param reason La raison du refus
+     * @return Le message prêt à l'envoi
+     */
+    private static ByteBuffer reject(byte reason) {
+        ByteBuffer message = ByteBuffer.allocate(DedicatedProtocol.REJECT_SIZE);
+        message.put(DedicatedProtocol.REJECT).put(reason).flip();
+        return message;
+    }
+
+    // ==================== CHARGE ET MESURES ====================
+
+    /**
+     * Calcule la charge du pool de simulation : temps moyen récent consommé par
+     * les ticks de toutes les salles, rapporté au temps disponible par tick.
+     *
+     * @return La charge (1.0 = pool entièrement occupé)
+     */
+    public double getLoad() {
+        long busy = 0;
+        for (ServerRoom room : rooms.values()) {
+            busy += room.getMetrics().getRecentNanos();
+        }
+        return (double) busy / ((double) workers * GameConstants.TICK_DURATION);
+    }
+
+    /**
+     * Indique si le serveur refuse les nouvelles salles.
+     *
+     * @return true si la charge dépasse {@link #MAX_LOAD}
+     */
+    public boolean isOverloaded() {
+        return getLoad() > MAX_LOAD;
+    }
+
+    /**
+     * Agrège les mesures de toutes les salles, ouvertes et fermées.
+     *
+     * @return Une nouvelle instance contenant les mesures cumulées
+     */
+    public TickMetrics getMetrics() {
+        TickMetrics total = new TickMetrics();
+        total.merge(closedRoomMetrics);
+        for (ServerRoom room : rooms.values()) {
+            total.merge(room.getMetrics());
+        }
+        return total;
+    }
+
+    /**
+     * Retourne les salles ouvertes.
+     *
+     * @return Une copie de la liste des salles
+     */
+    public List<ServerRoom> getRooms() { return new ArrayList<>(rooms.values()); }
+
+    /**
+     * Retourne le flux des spectateurs d'une salle ouverte.
+     * Sert de recherche de flux à un {@link SpectatorServer}.
+     *
+     * @param roomId L'identifiant de la salle
+     * @return Le flux de la salle, null si elle n'existe pas ou est fermée
+     */
+    public SpectatorFeed getSpectatorFeed(int roomId) {
+        ServerRoom room = rooms.get(roomId);
+        return room == null ? null : room.getSpectatorFeed();
+    }
+
+    /**
+     * Retourne le flux d'événements SSE d'une salle ouverte.
+     * Sert de recherche de flux à un {@link LiveFeedServer}.
+     *
+     * @param roomId L'identifiant de la salle
+     * @return Le flux de la salle, null si elle n'existe pas ou est fermée
+     */
+    public LiveEventFeed getLiveFeed(int roomId) {
+        ServerRoom room = rooms.get(roomId);
+        return room == null ? null : room.getLiveFeed();
+    }
+
+    /**
+     * Retourne le nombre de salles ouvertes.
+     *
+     * @return Le nombre de salles
+     */
+    public int getRoomCount() { return rooms.size(); }
+
+    /**
+     * Retourne le nombre de salles terminées.
+     *
+     * @return Le nombre de salles fermées
+     */
+    public long getClosedRoomCount() { return closedRooms; }
+
+    /**
+     * Retourne le nombre de connexions ouvertes.
+     *
+     * @return Le nombre de clients connectés
+     */
+    public int getConnectionCount() { return connectionCount.get(); }
+
+    /**
+     * Retourne le nombre d'entrées refusées (salle pleine ou surcharge).
+     *
+     * @return Le nombre de refus
+     */
+    public long getRejectedJoins() { return rejectedJoins; }
+
+    /**
+     * Active la sauvegarde des replays : chaque salle ayant joué au moins un tick
+     * écrit son replay dans le dossier à sa fermeture.
+     *
+     * @param directory Le dossier de destination (existant), null pour désactiver
+     */
+    public void setReplayDirectory(Path directory) { this.replayDirectory = directory; }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port
+     */
+    public int getPort() { return serverChannel.socket().getLocalPort(); }
+
+    /**
+     * Arrête le serveur : ferme toutes les salles, réveille la boucle réseau qui
+     * ferme les connexions en sortant, et attend la fin de son thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (ServerRoom room : getRooms()) {
+            closeRoom(room);
+        }
+        scheduler.shutdownNow();
+        Thread thread = ioThread;
+        if (thread == null) {
+            // Jamais démarré : aucune boucle pour fermer les canaux
+            closeChannels();
+            return;
+        }
+        selector.wakeup();
+        if (thread == Thread.currentThread()) return;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lance un serveur dédié en ligne de commande et affiche ses mesures toutes les 5 secondes.
+     * Les spectateurs se connectent sur le port suivant, et le flux SSE local
+     * est servi sur le port d'après.
+     * Arguments optionnels : port, joueurs par salle, threads de simulation,
+     * dossier de sauvegarde des replays.
+     *
+     * @param args Les arguments de la ligne de commande
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        DedicatedServer server = new DedicatedServer(port, players, workers);
+        if (args.length > 3) {
+            server.setReplayDirectory(Files.createDirectories(Path.of(args[3])));
+        }
+        server.start();
+        SpectatorServer spectators = new SpectatorServer(server.getPort() + 1, server::getSpectatorFeed);
+        spectators.start();
+        LiveFeedServer liveFeeds = new LiveFeedServer(server.getPort() + 2, server::getLiveFeed);
+        liveFeeds.start();
+        System.out.println("Serveur dédié sur le port " + server.getPort() + " (" + players
+                + " joueurs par salle, " + workers + " threads), spectateurs sur le port " + spectators.getPort()
+                + ", flux SSE sur http://localhost:" + liveFeeds.getPort() + LiveFeedServer.PATH);
+        while (server.running) {
+            Thread.sleep(5000);
+            System.out.printf("salles=%d terminées=%d connexions=%d spectateurs=%d charge=%.0f%% refus=%d %s%n",
+                    server.getRoomCount(), server.getClosedRoomCount(), server.getConnectionCount(),
+                    spectators.getSpectatorCount(), server.getLoad() * 100, server.getRejectedJoins(),
+                    server.getMetrics());
+        }
+    }
+
+    /**
+     * Connexion non bloquante d'un client et ses tampons.
+     */
+    static final class Connection {
+
+        /** Serveur propriétaire */
+        private final DedicatedServer server;
+
+        /** Canal du client */
+        final SocketChannel channel;
+
+        /** Clé d'enregistrement auprès du sélecteur */
+        final SelectionKey key;
+
+        /** Tampon d'entrée (thread réseau uniquement) */
+        final ByteBuffer in = ByteBuffer.allocate(256);
+
+        /** Tampon de sortie borné, protégé par le verrou de la connexion */
+        private final ByteBuffer out = ByteBuffer.allocate(OUTBOUND_CAPACITY);
+
+        /** Salle du joueur, null s'il n'est dans aucune salle */
+        volatile ServerRoom room;
+
+        /** Indice du joueur dans sa salle */
+        volatile int player = -1;
+
+        /** Indique si la connexion est fermée */
+        private boolean closed;
+
+        /**
+         * Constructeur d'une connexion.
+         *
+         * @param server Le serveur propriétaire
+         * @param channel Le canal du client
+         * @param key La clé d'enregistrement
+         */
+        Connection(DedicatedServer server, SocketChannel channel, SelectionKey key) {
+            this.server = server;
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Associe la connexion à une salle.
+         *
+         * @param room La salle
+         * @param player L'indice du joueur dans la salle
+         */
+        void attach(ServerRoom room, int player) {
+            this.player = player;
+            this.room = room;
+        }
+
+        /**
+         * Détache la connexion de sa salle (fin de partie).
+         *
+         * @param from La salle quittée
+         */
+        void detach(ServerRoom from) {
+            if (room == from) {
+                room = null;
+                player = -1;
+            }
+        }
+
+        /**
+         * Envoie une réponse et déconnecte le client s'il ne suit pas.
+         *
+         * @param message Le message à envoyer
+         */
+        void reply(ByteBuffer message) {
+            if (!send(message)) {
+                server.disconnect(this);
+            }
+        }
+
+        /**
+         * Ajoute un message au tampon de sortie puis tente de l'envoyer.
+         *
+         * @param message Le message (sa position n'est pas modifiée)
+         * @return false si le tampon est plein ou la connexion rompue
+         */
+        synchronized boolean send(ByteBuffer message) {
+            if (closed) return true;
+            if (out.remaining() < message.remaining()) return false;
+            out.put(message.duplicate());
+            return write();
+        }
+
+        /**
+         * Termine l'envoi du tampon de sortie quand le canal redevient disponible.
+         */
+        void flush() {
+            boolean ok;
+            synchronized (this) {
+                ok = closed || write();
+            }
+            if (!ok) {
+                server.disconnect(this);
+            }
+        }
+
+        /**
+         * Écrit autant que possible du tampon de sortie et n'attend la disponibilité
+         * du canal (OP_WRITE) que s'il reste des données.
+         *
+         * @return false si la connexion est rompue
+         */
+        private boolean write() {
+            try {
+                out.flip();
+                channel.write(out);
+                out.compact();
+                int ops = out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+                if (key.interestOps() != ops) {
+                    key.interestOps(ops);
+                    key.selector().wakeup();
+                }
+                return true;
+            } catch (IOException | CancelledKeyException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Marque la connexion comme fermée.
+         *
+         * @return true si elle était encore ouverte
+         */
+        synchronized boolean markClosed() {
+            if (closed) return false;
+            closed = true;
+            return true;
+        }
+    }
+}
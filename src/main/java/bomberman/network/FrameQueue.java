@@ -0,0 +1,135 @@
+package bomberman.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+
+/**
+ * File d'attente bornée des messages d'un spectateur.
+ * Les messages sont des vues de tampons partagés ({@link SpectatorFeed}) : la file
+ * ne copie jamais leur contenu. Quand le spectateur ne suit pas et que la file
+ * est pleine, les messages en attente sont abandonnés (sauf celui en cours
+ * d'écriture, pour ne pas couper le flux au milieu d'un message) et plus rien
+ * n'est accepté jusqu'à la prochaine image clé : le spectateur saute directement
+ * à un état complet au lieu d'accumuler du retard et de la mémoire.
+ *
+ * <p>La file n'est pas synchronisée : l'appelant la protège.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+final class FrameQueue {
+
+    /** Nombre de messages en attente par défaut (1,6 seconde à 10 messages par seconde) */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /** Messages en attente, le premier éventuellement en partie écrit */
+    private final ArrayDeque<ByteBuffer> pending;
+
+    /** Nombre maximal de messages en attente */
+    private final int capacity;
+
+    /** Indique si seuls les images clés sont acceptées (début ou retard) */
+    private boolean waitingKeyframe = true;
+
+    /** Nombre de messages abandonnés */
+    private long skippedFrames;
+
+    /** Nombre d'octets écrits */
+    private long sentBytes;
+
+    /**
+     * Constructeur d'une file.
+     *
+     * @param capacity Le nombre maximal de messages en attente
+     */
+    FrameQueue(int capacity) {
+        this.capacity = capacity;
+        this.pending = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Ajoute un message, ou l'abandonne selon la politique de retard.
+     *
+     * @param frame Une vue du message (sa position avance à l'écriture)
+     * @param keyframe true si le message est une image clé
+     * @return true si le message a été mis en attente
+     */
+    boolean offer(ByteBuffer frame, boolean keyframe) {
+        if (pending.size() >= capacity) {
+            ByteBuffer partial = pending.peekFirst().position() > 0 ? pending.pollFirst() : null;
+            skippedFrames += pending.size();
+            pending.clear();
+            if (partial != null) {
+                pending.addFirst(partial);
+            }
+            waitingKeyframe = true;
+        }
+        if (waitingKeyframe && !keyframe) {
+            skippedFrames++;
+            return false;
+        }
+        waitingKeyframe = false;
+        pending.addLast(frame);
+        return true;
+    }
+
+    /**
+     * Écrit les messages en attente tant que le canal les accepte.
+     *
+     * @param channel Le canal du spectateur (non bloquant de préférence)
+     * @throws IOException si le canal est rompu
+     */
+    void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer head;
+        while ((head = pending.peekFirst()) != null) {
+            sentBytes += channel.write(head);
+            if (head.hasRemaining()) return;
+            pending.pollFirst();
+        }
+    }
+
+    /**
+     * Retire le prochain message pour une écriture bloquante, faite hors du
+     * verrou de l'appelant. Le message retiré sera écrit en entier.
+     *
+     * @return Le message, ou null si la file est vide
+     */
+    ByteBuffer poll() {
+        ByteBuffer frame = pending.pollFirst();
+        if (frame != null) {
+            sentBytes += frame.remaining();
+        }
+        return frame;
+    }
+
+    /**
+     * Indique s'il reste des messages à écrire.
+     *
+     * @return true si la file est vide
+     */
+    boolean isEmpty() { return pending.isEmpty(); }
+
+    /**
+     * Retourne le nombre de messages en attente.
+     *
+     * @return Le nombre de messages
+     */
+    int size() { return pending.size(); }
+
+    /**
+     * Retourne le nombre de messages abandonnés.
+     *
+     * @return Le nombre de messages sautés
+     */
+    long getSkippedFrames() { return skippedFrames; }
+
+    /**
+     * Retourne le nombre d'octets écrits.
+     *
+     * @return Le nombre d'octets
+     */
+    long getSentBytes() { return sentBytes; }
+}
@@ -0,0 +1,120 @@
+package bomberman.network;
+
+/**
+ * Conditions réseau simulées par un {@link ImpairmentProxy} dans un sens de
+ * transmission : latence, gigue, perte, désordre et débit maximal.
+ *
+ * <p>Les protocoles du jeu passent par TCP : un segment perdu ou arrivé dans le
+ * désordre n'est jamais vu comme tel par l'application, qui constate seulement
+ * un retard (retransmission, attente du segment manquant) bloquant aussi les
+ * données suivantes. C'est cet effet que le proxy reproduit.</p>
+ *
+ * <p>Les profils sont immuables et peuvent être partagés entre proxys et scénarios.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ImpairmentProfile {
+
+    /** Réseau parfait : aucune dégradation */
+    public static final ImpairmentProfile NONE = new ImpairmentProfile(0, 0, 0, 0, 0);
+
+    /** Réseau local filaire */
+    public static final ImpairmentProfile LAN = new ImpairmentProfile(1, 1, 0, 0, 0);
+
+    /** Wi-Fi domestique chargé */
+    public static final ImpairmentProfile WIFI = new ImpairmentProfile(15, 10, 0.01, 0.005, 0);
+
+    /** Réseau mobile : latence élevée, pertes et débit limité */
+    public static final ImpairmentProfile MOBILE = new ImpairmentProfile(60, 30, 0.03, 0.01, 32 * 1024);
+
+    /** Latence d'un trajet en millisecondes */
+    private final int latencyMillis;
+
+    /** Gigue maximale ajoutée à la latence, en millisecondes */
+    private final int jitterMillis;
+
+    /** Probabilité de perte d'un segment (0 à 1) */
+    private final double lossRate;
+
+    /** Probabilité qu'un segment arrive après les suivants (0 à 1) */
+    private final double reorderRate;
+
+    /** Débit maximal en octets par seconde, 0 si illimité */
+    private final int bytesPerSecond;
+
+    /**
+     * Constructeur d'un profil.
+     *
+     * @param latencyMillis La latence d'un trajet en millisecondes
+     * @param jitterMillis La gigue maximale ajoutée à la latence, en millisecondes
+     * @param lossRate La probabilité de perte d'un segment (0 à 1)
+     * @param reorderRate La probabilité de désordre d'un segment (0 à 1)
+     * @param bytesPerSecond Le débit maximal en octets par seconde, 0 si illimité
+     * @throws IllegalArgumentException si un paramètre est hors limites
+     */
+    public ImpairmentProfile(int latencyMillis, int jitterMillis, double lossRate,
+                             double reorderRate, int bytesPerSecond) {
+        if (latencyMillis < 0 || jitterMillis < 0 || bytesPerSecond < 0) {
+            throw new IllegalArgumentException("Latence, gigue et débit doivent être positifs");
+        }
+        if (lossRate < 0 || lossRate >= 1 || reorderRate < 0 || reorderRate >= 1) {
+            throw new IllegalArgumentException("Probabilités de perte et de désordre invalides");
+        }
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.lossRate = lossRate;
+        this.reorderRate = reorderRate;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne la latence d'un trajet.
+     *
+     * @return La latence en millisecondes
+     */
+    public int getLatencyMillis() { return latencyMillis; }
+
+    /**
+     * Retourne la gigue maximale.
+     *
+     * @return La gigue en millisecondes
+     */
+    public int getJitterMillis() { return jitterMillis; }
+
+    /**
+     * Retourne la probabilité de perte d'un segment.
+     *
+     * @return La probabilité (0 à 1)
+     */
+    public double getLossRate() { return lossRate; }
+
+    /**
+     * Retourne la probabilité de désordre d'un segment.
+     *
+     * @return La probabilité (0 à 1)
+     */
+    public double getReorderRate() { return reorderRate; }
+
+    /**
+     * Retourne le débit maximal.
+     *
+     * @return Le débit en octets par seconde, 0 si illimité
+     */
+    public int getBytesPerSecond() { return bytesPerSecond; }
+
+    /**
+     * Résume le profil sur une ligne.
+     *
+     * @return Le résumé
+     */
+    @Override
+    public String toString() {
+        return String.format("latence=%dms gigue=%dms perte=%.1f%% désordre=%.1f%% débit=%s",
+                latencyMillis, jitterMillis, lossRate * 100, reorderRate * 100,
+                bytesPerSecond == 0 ? "illimité" : bytesPerSecond / 1024 + "Ko/s");
+    }
+}
@@ -0,0 +1,498 @@
+package bomberman.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Proxy TCP local dégradant le réseau entre des clients et un serveur de jeu,
+ * pour tester le multijoueur sous latence et pertes sans vrai réseau.
+ * Les clients se connectent au proxy au lieu du serveur :
+ * <pre>
+ * ImpairmentProxy proxy = new ImpairmentProxy(0, "localhost", server.getPort(), 1);
+ * proxy.start();
+ * proxy.play(ImpairmentScenario.lossBursts());
+ * DedicatedClient client = new DedicatedClient("localhost", proxy.getPort(), DedicatedClient.ANY_ROOM);
+ * </pre>
+ *
+ * <p>Chaque sens d'une connexion a un thread virtuel de lecture, qui découpe le
+ * flux en segments et calcule leur heure de livraison selon le profil en vigueur
+ * ({@link ImpairmentScenario#profileAt(long)}), et un thread virtuel d'écriture,
+ * qui les livre à l'heure dite :</p>
+ * <ul>
+ *   <li>Débit : un segment n'est émis qu'une fois le précédent transmis au débit maximal</li>
+ *   <li>Latence et gigue : délai fixe plus un délai aléatoire jusqu'à la gigue</li>
+ *   <li>Perte : le segment est livré après un délai de retransmission
+ *       ({@value #MIN_RETRANSMIT_MILLIS} ms au minimum)</li>
+ *   <li>Désordre : le segment arrive après les suivants, que TCP retient jusqu'à son arrivée</li>
+ *   <li>Les segments sont livrés dans l'ordre : un segment retardé bloque les
+ *       suivants, comme dans une vraie connexion TCP</li>
+ * </ul>
+ *
+ * <p>Les effets côté jeu (désynchronisations, retours en arrière, corrections de
+ * prédiction) sont rassemblés par un {@link ImpairmentReport}.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ImpairmentProxy implements AutoCloseable {
+
+    /** Taille maximale d'un segment en octets (MSS Ethernet typique) */
+    static final int SEGMENT_SIZE = 1460;
+
+    /** Délai minimal de retransmission d'un segment perdu */
+    static final int MIN_RETRANSMIT_MILLIS = 200;
+
+    /** Attente ajoutée à la gigue pour un segment arrivé dans le désordre */
+    static final int REORDER_HOLD_MILLIS = 20;
+
+    /** Nombre maximal de segments en attente par sens (au-delà, la lecture attend) */
+    private static final int QUEUE_SEGMENTS = 256;
+
+    /** Socket d'écoute des clients */
+    private final ServerSocket serverSocket;
+
+    /** Adresse du serveur de jeu */
+    private final String targetHost;
+
+    /** Port du serveur de jeu */
+    private final int targetPort;
+
+    /** Graine des tirages aléatoires (gigue, pertes, désordre) */
+    private final long seed;
+
+    /** Sockets ouvertes (clients et serveur), fermées avec le proxy */
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+    /** Scénario en cours */
+    private volatile ImpairmentScenario scenario = ImpairmentScenario.constant(ImpairmentProfile.NONE);
+
+    /** Début du scénario en cours (System.nanoTime) */
+    private volatile long scenarioStart = System.nanoTime();
+
+    /** Indique si le proxy accepte des connexions */
+    private volatile boolean running;
+
+    /** Nombre de connexions relayées */
+    private int connections;
+
+    /** Nombre de segments relayés */
+    private long segments;
+
+    /** Nombre de segments perdus (livrés après retransmission) */
+    private long lostSegments;
+
+    /** Nombre de segments arrivés dans le désordre */
+    private long reorderedSegments;
+
+    /** Nombre d'octets relayés */
+    private long relayedBytes;
+
+    /** Somme des délais ajoutés en nanosecondes */
+    private long totalDelayNanos;
+
+    /** Plus grand délai ajouté en nanosecondes */
+    private long maxDelayNanos;
+
+    /**
+     * Constructeur du proxy. Ouvre le port sur l'interface locale sans démarrer.
+     *
+     * @param port Le port d'écoute (0 pour un port libre choisi par le système)
+     * @param targetHost L'adresse du serveur de jeu
+     * @param targetPort Le port du serveur de jeu
+     * @param seed La graine des tirages aléatoires
+     * @throws IOException si le port ne peut pas être ouvert
+     */
+    public ImpairmentProxy(int port, String targetHost, int targetPort, long seed) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+        this.seed = seed;
+    }
+
+    /**
+     * Démarre l'acceptation des connexions.
+     */
+    public void start() {
+        running = true;
+        Thread.ofVirtual().name("impairment-proxy-" + getPort()).start(this::acceptConnections);
+    }
+
+    // ==================== SCÉNARIOS ====================
+
+    /**
+     * Démarre un scénario ; ses phases s'appliquent aux segments lus à partir de maintenant.
+     *
+     * @param scenario Le scénario, à ne plus modifier ensuite
+     */
+    public void play(ImpairmentScenario scenario) {
+        this.scenarioStart = System.nanoTime();
+        this.scenario = scenario;
+    }
+
+    /**
+     * Applique un profil constant.
+     *
+     * @param profile Le profil
+     */
+    public void setProfile(ImpairmentProfile profile) {
+        play(ImpairmentScenario.constant(profile));
+    }
+
+    /**
+     * Retourne le profil en vigueur.
+     *
+     * @return Le profil de la phase en cours du scénario
+     */
+    public ImpairmentProfile getCurrentProfile() {
+        return profileAt(System.nanoTime());
+    }
+
+    /**
+     * Retourne le profil en vigueur à un instant.
+     *
+     * @param nanos L'instant (System.nanoTime)
+     * @return Le profil
+     */
+    private ImpairmentProfile profileAt(long nanos) {
+        return scenario.profileAt(TimeUnit.NANOSECONDS.toMillis(nanos - scenarioStart));
+    }
+
+    // ==================== CONNEXIONS ====================
+
+    /**
+     * Accepte les clients en boucle et relie chacun à une nouvelle connexion au serveur.
+     */
+    private void acceptConnections() {
+        while (running) {
+            Socket client = null;
+            try {
+                client = serverSocket.accept();
+                Socket server = new Socket(targetHost, targetPort);
+                client.setTcpNoDelay(true);
+                server.setTcpNoDelay(true);
+                sockets.add(client);
+                sockets.add(server);
+
+                int index;
+                synchronized (this) {
+                    index = connections++;
+                }
+                AtomicInteger openLinks = new AtomicInteger(2);
+                new Link(client, server, seed * 31 + 2 * index, openLinks).start("impairment-up-" + index);
+                new Link(server, client, seed * 31 + 2 * index + 1, openLinks).start("impairment-down-" + index);
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Proxy : connexion impossible : " + e.getMessage());
+                    closeQuietly(client);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ferme une socket en ignorant les erreurs.
+     *
+     * @param socket La socket (peut être null)
+     */
+    private void closeQuietly(Socket socket) {
+        if (socket == null) return;
+        sockets.remove(socket);
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Déjà fermée
+        }
+    }
+
+    /**
+     * Enregistre un segment dans les mesures.
+     *
+     * @param bytes La taille du segment
+     * @param delayNanos Le délai ajouté
+     * @param lost true si le segment a été perdu
+     * @param reordered true si le segment est arrivé dans le désordre
+     */
+    private synchronized void record(int bytes, long delayNanos, boolean lost, boolean reordered) {
+        segments++;
+        relayedBytes += bytes;
+        totalDelayNanos += delayNanos;
+        maxDelayNanos = Math.max(maxDelayNanos, delayNanos);
+        if (lost) lostSegments++;
+        if (reordered) reorderedSegments++;
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre de connexions relayées depuis le démarrage.
+     *
+     * @return Le nombre de connexions
+     */
+    public synchronized int getConnectionCount() { return connections; }
+
+    /**
+     * Retourne le nombre de segments relayés (deux sens confondus).
+     *
+     * @return Le nombre de segments
+     */
+    public synchronized long getSegmentCount() { return segments; }
+
+    /**
+     * Retourne le nombre de segments perdus puis retransmis.
+     *
+     * @return Le nombre de segments perdus
+     */
+    public synchronized long getLostSegments() { return lostSegments; }
+
+    /**
+     * Retourne le nombre de segments arrivés dans le désordre.
+     *
+     * @return Le nombre de segments
+     */
+    public synchronized long getReorderedSegments() { return reorderedSegments; }
+
+    /**
+     * Retourne le nombre d'octets relayés.
+     *
+     * @return Le nombre d'octets
+     */
+    public synchronized long getRelayedBytes() { return relayedBytes; }
+
+    /**
+     * Retourne le délai moyen ajouté à un segment (attente derrière les précédents comprise).
+     *
+     * @return Le délai moyen en millisecondes
+     */
+    public synchronized double getMeanDelayMillis() {
+        return segments == 0 ? 0 : totalDelayNanos / (segments * 1e6);
+    }
+
+    /**
+     * Retourne le plus grand délai ajouté à un segment.
+     *
+     * @return Le délai maximal en millisecondes
+     */
+    public synchronized double getMaxDelayMillis() { return maxDelayNanos / 1e6; }
+
+    /**
+     * Retourne le scénario en cours.
+     *
+     * @return Le scénario
+     */
+    public ImpairmentScenario getScenario() { return scenario; }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port
+     */
+    public int getPort() { return serverSocket.getLocalPort(); }
+
+    /**
+     * Arrête le proxy et coupe toutes les connexions relayées.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du proxy : " + e.getMessage());
+        }
+        for (Socket socket : sockets) {
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Segment en attente de livraison.
+     */
+    private static final class Segment {
+
+        /** Marque de fin du flux */
+        static final Segment END = new Segment(new byte[0], 0);
+
+        /** Données du segment */
+        final byte[] data;
+
+        /** Heure de livraison (System.nanoTime) */
+        final long dueNanos;
+
+        /**
+         * Constructeur d'un segment.
+         *
+         * @param data Les données
+         * @param dueNanos L'heure de livraison
+         */
+        Segment(byte[] data, long dueNanos) {
+            this.data = data;
+            this.dueNanos = dueNanos;
+        }
+    }
+
+    /**
+     * Un sens de transmission d'une connexion relayée.
+     */
+    private final class Link {
+
+        /** Socket lue */
+        private final Socket from;
+
+        /** Socket écrite */
+        private final Socket to;
+
+        /** Tirages propres au sens de transmission */
+        private final Random random;
+
+        /** Sens encore ouverts de la connexion (partagé avec le sens opposé) */
+        private final AtomicInteger openLinks;
+
+        /** Segments en attente de livraison */
+        private final BlockingQueue<Segment> queue = new ArrayBlockingQueue<>(QUEUE_SEGMENTS);
+
+        /** Fin de transmission du dernier segment au débit maximal (thread de lecture) */
+        private long linkFreeNanos;
+
+        /** Heure de livraison du dernier segment (thread de lecture) */
+        private long lastDueNanos;
+
+        /**
+         * Constructeur d'un sens de transmission.
+         *
+         * @param from La socket lue
+         * @param to La socket écrite
+         * @param seed La graine des tirages
+         * @param openLinks Le compteur des sens ouverts de la connexion
+         */
+        Link(Socket from, Socket to, long seed, AtomicInteger openLinks) {
+            this.from = from;
+            this.to = to;
+            this.random = new Random(seed);
+            this.openLinks = openLinks;
+        }
+
+        /**
+         * Démarre les threads de lecture et d'écriture.
+         *
+         * @param name Le préfixe du nom des threads
+         */
+        void start(String name) {
+            Thread.ofVirtual().name(name + "-read").start(this::read);
+            Thread.ofVirtual().name(name + "-write").start(this::write);
+        }
+
+        /**
+         * Lit le flux source et programme la livraison de chaque segment.
+         */
+        private void read() {
+            byte[] buffer = new byte[SEGMENT_SIZE];
+            try {
+                InputStream in = from.getInputStream();
+                int count;
+                while ((count = in.read(buffer)) > 0) {
+                    long now = System.nanoTime();
+                    queue.put(new Segment(Arrays.copyOf(buffer, count), schedule(count, now)));
+                }
+            } catch (IOException e) {
+                // Source fermée : fin du flux
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if (!queue.offer(Segment.END)) {
+                    // File pleine d'un sens bloqué : la connexion est coupée
+                    disconnect();
+                    queue.clear();
+                    queue.offer(Segment.END);
+                }
+            }
+        }
+
+        /**
+         * Calcule l'heure de livraison d'un segment selon le profil en vigueur.
+         *
+         * @param bytes La taille du segment
+         * @param now L'heure de lecture
+         * @return L'heure de livraison (System.nanoTime)
+         */
+        private long schedule(int bytes, long now) {
+            ImpairmentProfile profile = profileAt(now);
+            long sent = now;
+            if (profile.getBytesPerSecond() > 0) {
+                linkFreeNanos = Math.max(linkFreeNanos, now) + bytes * 1_000_000_000L / profile.getBytesPerSecond();
+                sent = linkFreeNanos;
+            }
+
+            long delayMillis = profile.getLatencyMillis();
+            if (profile.getJitterMillis() > 0) {
+                delayMillis += random.nextInt(profile.getJitterMillis() + 1);
+            }
+            boolean lost = random.nextDouble() < profile.getLossRate();
+            if (lost) {
+                // Délai de retransmission : aller-retour plus quatre fois la gigue
+                delayMillis += Math.max(MIN_RETRANSMIT_MILLIS,
+                        2L * profile.getLatencyMillis() + 4L * profile.getJitterMillis());
+            }
+            boolean reordered = random.nextDouble() < profile.getReorderRate();
+            if (reordered) {
+                delayMillis += profile.getJitterMillis() + REORDER_HOLD_MILLIS;
+            }
+
+            // Livraison dans l'ordre : un segment ne double jamais le précédent
+            long due = Math.max(sent + TimeUnit.MILLISECONDS.toNanos(delayMillis), lastDueNanos);
+            lastDueNanos = due;
+            record(bytes, due - now, lost, reordered);
+            return due;
+        }
+
+        /**
+         * Livre les segments à leur heure, puis propage la fin du flux.
+         */
+        private void write() {
+            try {
+                OutputStream out = to.getOutputStream();
+                while (true) {
+                    Segment segment = queue.take();
+                    if (segment == Segment.END) {
+                        if (!to.isClosed()) to.shutdownOutput();
+                        break;
+                    }
+                    long wait = segment.dueNanos - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    out.write(segment.data);
+                }
+            } catch (IOException e) {
+                disconnect();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                disconnect();
+            } finally {
+                if (openLinks.decrementAndGet() == 0) {
+                    disconnect();
+                }
+            }
+        }
+
+        /**
+         * Ferme les deux sockets de la connexion.
+         */
+        private void disconnect() {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package bomberman.network;
+
+/**
+ * Bilan d'un test sous réseau dégradé : ce que le {@link ImpairmentProxy} a
+ * infligé et ce que le jeu en a subi. Les mesures côté jeu sont relevées sur
+ * les composants existants :
+ * <ul>
+ *   <li>Désynchronisations : signalées par le serveur lockstep
+ *       ({@link LockstepClient#isDesynced()}) ou constatées en fin de partie
+ *       dédiée en comparant l'empreinte du client à celle de la salle</li>
+ *   <li>Retours en arrière : {@link RollbackSession} (nombre, ticks re-simulés)</li>
+ *   <li>Corrections de prédiction : {@link PlayerPredictor} (nombre, distances)</li>
+ * </ul>
+ *
+ * <p>Utilisation typique, une fois le scénario joué :</p>
+ * <pre>
+ * ImpairmentReport report = new ImpairmentReport(proxy.getScenario().getName());
+ * report.recordProxy(proxy);
+ * clients.forEach(client -&gt; report.recordClient(client, room));
+ * System.out.println(report);
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ImpairmentReport {
+
+    /** Nom du scénario joué */
+    private final String scenario;
+
+    /** Nombre de segments relayés */
+    private long segments;
+
+    /** Nombre de segments perdus puis retransmis */
+    private long lostSegments;
+
+    /** Nombre de segments arrivés dans le désordre */
+    private long reorderedSegments;
+
+    /** Délai moyen ajouté en millisecondes (pondéré par les segments) */
+    private double meanDelayMillis;
+
+    /** Plus grand délai ajouté en millisecondes */
+    private double maxDelayMillis;
+
+    /** Nombre de clients dont la synchronisation a pu être vérifiée */
+    private int checkedClients;
+
+    /** Nombre de clients désynchronisés */
+    private int desyncedClients;
+
+    /** Nombre de retours en arrière */
+    private long rollbacks;
+
+    /** Nombre de ticks re-simulés */
+    private long resimulatedTicks;
+
+    /** Nombre de corrections de prédiction */
+    private long corrections;
+
+    /** Somme des distances de correction en pixels */
+    private double totalCorrection;
+
+    /** Plus grande distance de correction en pixels */
+    private double maxCorrection;
+
+    /**
+     * Constructeur d'un bilan vide.
+     *
+     * @param scenario Le nom du scénario joué
+     */
+    public ImpairmentReport(String scenario) {
+        this.scenario = scenario;
+    }
+
+    // ==================== RELEVÉS ====================
+
+    /**
+     * Relève les mesures d'un proxy.
+     *
+     * @param proxy Le proxy
+     */
+    public void recordProxy(ImpairmentProxy proxy) {
+        long count = proxy.getSegmentCount();
+        if (segments + count > 0) {
+            meanDelayMillis = (meanDelayMillis * segments + proxy.getMeanDelayMillis() * count) / (segments + count);
+        }
+        segments += count;
+        lostSegments += proxy.getLostSegments();
+        reorderedSegments += proxy.getReorderedSegments();
+        maxDelayMillis = Math.max(maxDelayMillis, proxy.getMaxDelayMillis());
+    }
+
+    /**
+     * Relève un client lockstep : la désynchronisation est signalée par le serveur.
+     *
+     * @param client Le client
+     */
+    public void recordClient(LockstepClient client) {
+        checkedClients++;
+        if (client.isDesynced()) desyncedClients++;
+    }
+
+    /**
+     * Relève un client dédié : corrections de sa prédiction et, si la partie est
+     * terminée, comparaison de sa copie de la partie avec celle de la salle.
+     *
+     * @param client Le client
+     * @param room La salle du client sur le serveur
+     */
+    public void recordClient(DedicatedClient client, ServerRoom room) {
+        synchronized (client) {
+            recordPredictor(client.getPredictor());
+            // La partie de la salle n'est lisible qu'une fois la salle fermée
+            if (client.isEnded() && room.isClosed() && client.getTick() == room.getTick()) {
+                checkedClients++;
+                if (client.getGameManager().checksum() != room.getGameManager().checksum()) {
+                    desyncedClients++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Relève les corrections d'un prédicteur.
+     *
+     * @param predictor Le prédicteur
+     */
+    public void recordPredictor(PlayerPredictor predictor) {
+        corrections += predictor.getCorrectionCount();
+        totalCorrection += predictor.getMeanCorrection() * predictor.getCorrectionCount();
+        maxCorrection = Math.max(maxCorrection, predictor.getMaxCorrection());
+    }
+
+    /**
+     * Relève les retours en arrière d'une session.
+     *
+     * @param session La session
+     */
+    public void recordSession(RollbackSession session) {
+        rollbacks += session.getRollbackCount();
+        resimulatedTicks += session.getResimulatedTicks();
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nom du scénario joué.
+     *
+     * @return Le nom
+     */
+    public String getScenario() { return scenario; }
+
+    /**
+     * Retourne le nombre de segments relayés.
+     *
+     * @return Le nombre de segments
+     */
+    public long getSegmentCount() { return segments; }
+
+    /**
+     * Retourne le nombre de segments perdus puis retransmis.
+     *
+     * @return Le nombre de segments
+     */
+    public long getLostSegments() { return lostSegments; }
+
+    /**
+     * Retourne le nombre de segments arrivés dans le désordre.
+     *
+     * @return Le nombre de segments
+     */
+    public long getReorderedSegments() { return reorderedSegments; }
+
+    /**
+     * Retourne le délai moyen ajouté à un segment.
+     *
+     * @return Le délai en millisecondes
+     */
+    public double getMeanDelayMillis() { return meanDelayMillis; }
+
+    /**
+     * Retourne le plus grand délai ajouté à un segment.
+     *
+     * @return Le délai en millisecondes
+     */
+    public double getMaxDelayMillis() { return maxDelayMillis; }
+
+    /**
+     * Retourne le nombre de clients dont la synchronisation a été vérifiée.
+     *
+     * @return Le nombre de clients
+     */
+    public int getCheckedClients() { return checkedClients; }
+
+    /**
+     * Retourne le nombre de clients désynchronisés.
+     *
+     * @return Le nombre de clients
+     */
+    public int getDesyncedClients() { return desyncedClients; }
+
+    /**
+     * Retourne le nombre de retours en arrière.
+     *
+     * @return Le nombre de retours en arrière
+     */
+    public long getRollbackCount() { return rollbacks; }
+
+    /**
+     * Retourne le nombre de ticks re-simulés.
+     *
+     * @return Le nombre de ticks
+     */
+    public long getResimulatedTicks() { return resimulatedTicks; }
+
+    /**
+     * Retourne le nombre de corrections de prédiction.
+     *
+     * @return Le nombre de corrections
+     */
+    public long getCorrectionCount() { return corrections; }
+
+    /**
+     * Retourne la distance de correction moyenne.
+     *
+     * @return La moyenne en pixels, 0 sans correction
+     */
+    public double getMeanCorrection() { return corrections == 0 ? 0 : totalCorrection / corrections; }
+
+    /**
+     * Retourne la plus grande distance de correction.
+     *
+     * @return Le maximum en pixels
+     */
+    public double getMaxCorrection() { return maxCorrection; }
+
+    /**
+     * Résume le bilan sur une ligne.
+     *
+     * @return Le résumé
+     */
+    @Override
+    public String toString() {
+        return String.format("[%s] segments=%d perdus=%d désordre=%d délai moy=%.1fms max=%.1fms"
+                        + " désync=%d/%d rollbacks=%d re-simulés=%d corrections=%d moy=%.1fpx max=%.1fpx",
+                scenario, segments, lostSegments, reorderedSegments, meanDelayMillis, maxDelayMillis,
+                desyncedClients, checkedClients, rollbacks, resimulatedTicks,
+                corrections, getMeanCorrection(), maxCorrection);
+    }
+}
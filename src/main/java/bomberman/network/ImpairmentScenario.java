@@ -0,0 +1,177 @@
+package bomberman.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scénario de conditions réseau : suite de phases, chacune appliquant un
+ * {@link ImpairmentProfile} pendant une durée donnée. Un {@link ImpairmentProxy}
+ * choisit le profil de chaque segment selon le temps écoulé depuis le début du
+ * scénario ; après la dernière phase, le scénario reprend au début s'il est
+ * répété, sinon la dernière phase se prolonge.
+ *
+ * <p>Exemple :</p>
+ * <pre>
+ * ImpairmentScenario scenario = new ImpairmentScenario("coupure")
+ *         .then(2000, ImpairmentProfile.WIFI)
+ *         .then(500, new ImpairmentProfile(300, 100, 0.2, 0, 0))
+ *         .repeat();
+ * proxy.play(scenario);
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ImpairmentScenario {
+
+    /** Nom du scénario (rapports) */
+    private final String name;
+
+    /** Durées des phases en millisecondes */
+    private final List<Long> durations = new ArrayList<>();
+
+    /** Profils des phases */
+    private final List<ImpairmentProfile> profiles = new ArrayList<>();
+
+    /** Durée totale des phases en millisecondes */
+    private long totalMillis;
+
+    /** Indique si le scénario reprend au début après la dernière phase */
+    private boolean repeating;
+
+    /**
+     * Constructeur d'un scénario vide (réseau parfait tant qu'aucune phase n'est ajoutée).
+     *
+     * @param name Le nom du scénario
+     */
+    public ImpairmentScenario(String name) {
+        this.name = name;
+    }
+
+    // ==================== SCÉNARIOS PRÉDÉFINIS ====================
+
+    /**
+     * Crée un scénario appliquant toujours le même profil.
+     *
+     * @param profile Le profil
+     * @return Le scénario
+     */
+    public static ImpairmentScenario constant(ImpairmentProfile profile) {
+        return new ImpairmentScenario(profile.toString()).then(1, profile);
+    }
+
+    /**
+     * Crée un scénario de pics de latence : 3 s de Wi-Fi puis 1 s à 250 ms.
+     *
+     * @return Le scénario répété
+     */
+    public static ImpairmentScenario latencySpikes() {
+        return new ImpairmentScenario("pics de latence")
+                .then(3000, ImpairmentProfile.WIFI)
+                .then(1000, new ImpairmentProfile(250, 50, 0.01, 0, 0))
+                .repeat();
+    }
+
+    /**
+     * Crée un scénario de rafales de pertes : 4 s de Wi-Fi puis 1 s à 20 % de perte.
+     *
+     * @return Le scénario répété
+     */
+    public static ImpairmentScenario lossBursts() {
+        return new ImpairmentScenario("rafales de pertes")
+                .then(4000, ImpairmentProfile.WIFI)
+                .then(1000, new ImpairmentProfile(20, 10, 0.2, 0.05, 0))
+                .repeat();
+    }
+
+    /**
+     * Crée un scénario de réseau mobile qui se dégrade puis se rétablit
+     * (changement d'antenne), en boucle.
+     *
+     * @return Le scénario répété
+     */
+    public static ImpairmentScenario mobileHandover() {
+        return new ImpairmentScenario("changement d'antenne")
+                .then(5000, ImpairmentProfile.MOBILE)
+                .then(1500, new ImpairmentProfile(150, 80, 0.08, 0.03, 16 * 1024))
+                .then(500, new ImpairmentProfile(800, 0, 0, 0, 4 * 1024))
+                .repeat();
+    }
+
+    // ==================== CONSTRUCTION ====================
+
+    /**
+     * Ajoute une phase à la fin du scénario.
+     *
+     * @param durationMillis La durée de la phase en millisecondes
+     * @param profile Le profil appliqué pendant la phase
+     * @return Le scénario, pour enchaîner les phases
+     * @throws IllegalArgumentException si la durée n'est pas positive
+     */
+    public ImpairmentScenario then(long durationMillis, ImpairmentProfile profile) {
+        if (durationMillis <= 0) {
+            throw new IllegalArgumentException("Durée de phase invalide : " + durationMillis);
+        }
+        durations.add(durationMillis);
+        profiles.add(profile);
+        totalMillis += durationMillis;
+        return this;
+    }
+
+    /**
+     * Fait reprendre le scénario au début après la dernière phase.
+     *
+     * @return Le scénario
+     */
+    public ImpairmentScenario repeat() {
+        repeating = true;
+        return this;
+    }
+
+    // ==================== LECTURE ====================
+
+    /**
+     * Retourne le profil en vigueur après un temps écoulé depuis le début du scénario.
+     *
+     * @param elapsedMillis Le temps écoulé en millisecondes
+     * @return Le profil de la phase en cours
+     */
+    public ImpairmentProfile profileAt(long elapsedMillis) {
+        if (profiles.isEmpty()) return ImpairmentProfile.NONE;
+        long time = repeating ? elapsedMillis % totalMillis : elapsedMillis;
+        for (int i = 0; i < profiles.size(); i++) {
+            time -= durations.get(i);
+            if (time < 0) return profiles.get(i);
+        }
+        return profiles.get(profiles.size() - 1);
+    }
+
+    /**
+     * Retourne le nom du scénario.
+     *
+     * @return Le nom
+     */
+    public String getName() { return name; }
+
+    /**
+     * Retourne la durée d'un passage complet du scénario.
+     *
+     * @return La durée en millisecondes
+     */
+    public long getDurationMillis() { return totalMillis; }
+
+    /**
+     * Retourne le nombre de phases.
+     *
+     * @return Le nombre de phases
+     */
+    public int getPhaseCount() { return profiles.size(); }
+
+    /**
+     * Indique si le scénario reprend au début après la dernière phase.
+     *
+     * @return true si le scénario est répété
+     */
+    public boolean isRepeating() { return repeating; }
+}
@@ -0,0 +1,339 @@
+package bomberman.network;
+
+import bomberman.model.game.GameEventListener;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.RenderSnapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Flux d'événements d'une partie au format Server-Sent Events, destiné aux
+ * tableaux de bord et aux habillages des commentateurs ({@link LiveFeedServer}).
+ * Le flux écoute les événements calculés par la simulation (explosions,
+ * flammes, murs détruits, morts) et, après chaque tick, les encode
+ * <strong>une seule fois</strong> en texte SSE dans un tampon partagé par tous
+ * les abonnés, comme le {@link SpectatorFeed}.
+ *
+ * <p>Événements émis (données en JSON compact) :</p>
+ * <pre>
+ * event: events  {"tick":t,"explosions":[[x,y,portée]],"flames":[[x,y]],"walls":[[x,y]],"deaths":[[joueur,vies,x,y]]}
+ * event: state   {"tick":t,"time":"m:ss","players":[[joueur,px,py,vies,portée,éliminé]],
+ *                 "bombs":[[x,y,ticks]],"flames":[[x,y]],"powerUps":[[x,y,"TYPE"]],"grid":["0120..."]}
+ * event: end     {"tick":t,"winner":n}
+ * </pre>
+ * <p>L'état est émis tous les {@value StateCodec#SNAPSHOT_INTERVAL} ticks à partir
+ * de l'instantané de rendu ; la grille n'y figure que dans les images clés
+ * (à l'arrivée d'un abonné et toutes les {@value #KEYFRAME_INTERVAL} émissions),
+ * les images suivantes étant tenues à jour par les événements "walls".</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class LiveEventFeed implements GameEventListener {
+
+    /** Nombre d'états entre deux images clés (3 secondes) */
+    public static final int KEYFRAME_INTERVAL = 30;
+
+    /** Abonnés au flux */
+    private final List<SpectatorFeed.Viewer> viewers = new CopyOnWriteArrayList<>();
+
+    /** Explosions du tick en cours (thread de simulation uniquement) */
+    private final StringBuilder explosions = new StringBuilder();
+
+    /** Flammes du tick en cours */
+    private final StringBuilder flames = new StringBuilder();
+
+    /** Murs détruits pendant le tick en cours */
+    private final StringBuilder walls = new StringBuilder();
+
+    /** Morts du tick en cours */
+    private final StringBuilder deaths = new StringBuilder();
+
+    /** Texte de l'événement en cours d'encodage */
+    private final StringBuilder text = new StringBuilder(2048);
+
+    /** Instantané utilisé pour encoder l'état */
+    private final RenderSnapshot snapshot = new RenderSnapshot();
+
+    /** Écouteur remplacé par le flux, qui continue de recevoir les événements */
+    private GameEventListener delegate;
+
+    /** Nombre d'états émis depuis la dernière image clé */
+    private int statesSinceKeyframe;
+
+    /** Indique si le prochain état doit être une image clé */
+    private volatile boolean keyframeRequested = true;
+
+    /** Nombre d'événements SSE encodés */
+    private long encodedEvents;
+
+    /** Nombre d'octets encodés */
+    private long encodedBytes;
+
+    /** Indique si le flux est terminé */
+    private boolean ended;
+
+    /**
+     * Branche le flux sur une partie. L'écouteur déjà installé (effets visuels)
+     * reste notifié à travers le flux.
+     *
+     * @param gameManager La partie à suivre
+     */
+    public void attach(GameManager gameManager) {
+        GameEventListener current = gameManager.getEventListener();
+        delegate = current == this ? delegate : current;
+        gameManager.setEventListener(this);
+    }
+
+    // ==================== ÉVÉNEMENTS DE JEU ====================
+
+    @Override
+    public void onBombExploded(int x, int y, int range) {
+        if (delegate != null) delegate.onBombExploded(x, y, range);
+        if (!viewers.isEmpty()) {
+            entry(explosions).append(x).append(',').append(y).append(',').append(range).append(']');
+        }
+    }
+
+    @Override
+    public void onFlame(int x, int y) {
+        if (delegate != null) delegate.onFlame(x, y);
+        if (!viewers.isEmpty()) entry(flames).append(x).append(',').append(y).append(']');
+    }
+
+    @Override
+    public void onWallDestroyed(int x, int y) {
+        if (delegate != null) delegate.onWallDestroyed(x, y);
+        if (!viewers.isEmpty()) entry(walls).append(x).append(',').append(y).append(']');
+    }
+
+    @Override
+    public void onPlayerDeath(int playerNumber, int livesLeft, int x, int y) {
+        if (delegate != null) delegate.onPlayerDeath(playerNumber, livesLeft, x, y);
+        if (!viewers.isEmpty()) {
+            entry(deaths).append(playerNumber).append(',').append(livesLeft)
+                    .append(',').append(x).append(',').append(y).append(']');
+        }
+    }
+
+    /**
+     * Ouvre un nouveau tableau JSON à la fin d'une liste en cours.
+     *
+     * @param list La liste (sans crochets)
+     * @return La liste, prête à recevoir les valeurs puis le crochet fermant
+     */
+    private static StringBuilder entry(StringBuilder list) {
+        if (!list.isEmpty()) list.append(',');
+        return list.append('[');
+    }
+
+    // ==================== PUBLICATION ====================
+
+    /**
+     * Émet les événements du tick écoulé et, aux ticks d'envoi, l'état de la partie.
+     * Appelée après chaque tick par le thread de simulation.
+     *
+     * @param gameManager La partie suivie
+     */
+    public synchronized void publish(GameManager gameManager) {
+        long tick = gameManager.getTickCount();
+        if (viewers.isEmpty() || ended) {
+            clearEvents();
+            keyframeRequested = true;
+            return;
+        }
+
+        if (!explosions.isEmpty() || !flames.isEmpty() || !walls.isEmpty() || !deaths.isEmpty()) {
+            text.setLength(0);
+            text.append("{\"tick\":").append(tick);
+            appendList("explosions", explosions);
+            appendList("flames", flames);
+            appendList("walls", walls);
+            appendList("deaths", deaths);
+            text.append('}');
+            emit("events", false);
+            clearEvents();
+        }
+
+        if (tick % StateCodec.SNAPSHOT_INTERVAL == 0) {
+            boolean keyframe = keyframeRequested || statesSinceKeyframe >= KEYFRAME_INTERVAL;
+            snapshot.capture(gameManager);
+            writeState(keyframe);
+            keyframeRequested = false;
+            statesSinceKeyframe = keyframe ? 0 : statesSinceKeyframe + 1;
+            emit("state", keyframe);
+        }
+    }
+
+    /**
+     * Termine le flux en annonçant le résultat, puis désabonne tout le monde.
+     *
+     * @param tick Le dernier tick de la partie
+     * @param winner Le numéro du gagnant, 0 si match nul, -1 si la partie est abandonnée
+     */
+    public synchronized void end(long tick, int winner) {
+        if (ended) return;
+        text.setLength(0);
+        text.append("{\"tick\":").append(tick).append(",\"winner\":").append(winner).append('}');
+        // Marqué comme image clé pour atteindre aussi les abonnés en attente de resynchronisation
+        emit("end", true);
+        ended = true;
+        for (SpectatorFeed.Viewer viewer : viewers) {
+            viewer.end();
+        }
+        viewers.clear();
+    }
+
+    /**
+     * Ajoute une liste d'événements non vide à l'objet en cours.
+     *
+     * @param name Le nom de la liste
+     * @param list Le contenu de la liste
+     */
+    private void appendList(String name, StringBuilder list) {
+        if (list.isEmpty()) return;
+        text.append(",\"").append(name).append("\":[").append(list).append(']');
+    }
+
+    /**
+     * Vide les événements accumulés.
+     */
+    private void clearEvents() {
+        explosions.setLength(0);
+        flames.setLength(0);
+        walls.setLength(0);
+        deaths.setLength(0);
+    }
+
+    /**
+     * Encode l'instantané courant en JSON.
+     *
+     * @param keyframe true pour inclure la grille complète
+     */
+    private void writeState(boolean keyframe) {
+        text.setLength(0);
+        text.append("{\"tick\":").append(snapshot.getTick())
+                .append(",\"time\":\"").append(snapshot.getFormattedTime()).append('"');
+
+        text.append(",\"players\":[");
+        for (int i = 0; i < snapshot.getPlayerSize(); i++) {
+            if (i > 0) text.append(',');
+            text.append('[').append(snapshot.getPlayerNumber(i))
+                    .append(',').append(Math.round(snapshot.getPlayerVisualX(i)))
+                    .append(',').append(Math.round(snapshot.getPlayerVisualY(i)))
+                    .append(',').append(snapshot.getPlayerLives(i))
+                    .append(',').append(snapshot.getPlayerBombRange(i))
+                    .append(',').append(snapshot.isPlayerEliminated(i) ? 1 : 0).append(']');
+        }
+
+        text.append("],\"bombs\":[");
+        for (int i = 0; i < snapshot.getBombSize(); i++) {
+            if (i > 0) text.append(',');
+            text.append('[').append(snapshot.getBombX(i)).append(',').append(snapshot.getBombY(i))
+                    .append(',').append(snapshot.getBombTimer(i)).append(']');
+        }
+
+        text.append("],\"flames\":[");
+        for (int i = 0; i < snapshot.getExplosionSize(); i++) {
+            if (i > 0) text.append(',');
+            text.append('[').append(snapshot.getExplosionX(i)).append(',').append(snapshot.getExplosionY(i)).append(']');
+        }
+
+        text.append("],\"powerUps\":[");
+        for (int i = 0; i < snapshot.getPowerUpSize(); i++) {
+            if (i > 0) text.append(',');
+            text.append('[').append(snapshot.getPowerUpX(i)).append(',').append(snapshot.getPowerUpY(i))
+                    .append(",\"").append(snapshot.getPowerUpType(i).name()).append("\"]");
+        }
+        text.append(']');
+
+        if (keyframe && snapshot.hasGrid()) {
+            text.append(",\"grid\":[");
+            for (int y = 0; y < snapshot.getGridHeight(); y++) {
+                if (y > 0) text.append(',');
+                text.append('"');
+                for (int x = 0; x < snapshot.getGridWidth(); x++) {
+                    text.append(snapshot.getCellType(x, y));
+                }
+                text.append('"');
+            }
+            text.append(']');
+        }
+        text.append('}');
+    }
+
+    /**
+     * Encode l'objet JSON en cours en événement SSE et le distribue aux abonnés.
+     *
+     * @param event Le nom de l'événement
+     * @param keyframe true si l'événement suffit à un abonné pour se resynchroniser
+     */
+    private void emit(String event, boolean keyframe) {
+        byte[] bytes = ("event: " + event + "\ndata: " + text + "\n\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        encodedEvents++;
+        encodedBytes += bytes.length;
+        for (SpectatorFeed.Viewer viewer : viewers) {
+            if (!viewer.offer(frame.duplicate(), keyframe)) {
+                viewers.remove(viewer);
+            }
+        }
+    }
+
+    // ==================== ABONNÉS ====================
+
+    /**
+     * Abonne un destinataire. Le prochain état émis sera une image clé.
+     *
+     * @param viewer L'abonné
+     */
+    public synchronized void addViewer(SpectatorFeed.Viewer viewer) {
+        if (ended) {
+            viewer.end();
+            return;
+        }
+        keyframeRequested = true;
+        viewers.add(viewer);
+    }
+
+    /**
+     * Désabonne un destinataire.
+     *
+     * @param viewer L'abonné
+     */
+    public void removeViewer(SpectatorFeed.Viewer viewer) {
+        viewers.remove(viewer);
+    }
+
+    /**
+     * Retourne le nombre d'abonnés.
+     *
+     * @return Le nombre d'abonnés
+     */
+    public int getViewerCount() { return viewers.size(); }
+
+    /**
+     * Retourne le nombre d'événements SSE encodés (une fois pour tous les abonnés).
+     *
+     * @return Le nombre d'événements
+     */
+    public synchronized long getEncodedEvents() { return encodedEvents; }
+
+    /**
+     * Retourne le nombre d'octets encodés (une fois pour tous les abonnés).
+     *
+     * @return Le nombre d'octets
+     */
+    public synchronized long getEncodedBytes() { return encodedBytes; }
+
+    /**
+     * Indique si le flux est terminé.
+     *
+     * @return true si la partie est finie ou abandonnée
+     */
+    public synchronized boolean isEnded() { return ended; }
+}
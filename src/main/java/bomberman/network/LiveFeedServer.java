@@ -0,0 +1,266 @@
+package bomberman.network;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ * Serveur HTTP local diffusant les parties en direct au format Server-Sent Events.
+ * Un navigateur (tableau de bord, habillage de commentateur) suit une salle avec :
+ * <pre>
+ * const source = new EventSource("http://localhost:7780/live/12");
+ * source.addEventListener("state", e =&gt; afficher(JSON.parse(e.data)));
+ * </pre>
+ *
+ * <p>Le serveur repose sur le serveur HTTP du JDK ({@code com.sun.net.httpserver}),
+ * n'écoute que l'interface locale et traite chaque abonné dans un thread virtuel
+ * qui écrit les événements partagés du {@link LiveEventFeed} de la salle. Un
+ * abonné trop lent saute à la prochaine image clé ({@link FrameQueue}) ; un
+ * commentaire est envoyé toutes les {@value #HEARTBEAT_MILLIS} ms sans événement
+ * pour détecter les connexions fermées.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class LiveFeedServer implements AutoCloseable {
+
+    /** Port utilisé par défaut */
+    public static final int DEFAULT_PORT = 7780;
+
+    /** Préfixe des adresses des flux : /live/{salle} */
+    public static final String PATH = "/live/";
+
+    /** Délai sans événement avant l'envoi d'un commentaire de maintien */
+    static final long HEARTBEAT_MILLIS = 15_000;
+
+    /** Nombre maximal d'événements en attente par abonné */
+    private static final int QUEUE_CAPACITY = 64;
+
+    /** Commentaire SSE de maintien de connexion */
+    private static final ByteBuffer HEARTBEAT =
+            ByteBuffer.wrap(":\n\n".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+    /** Serveur HTTP du JDK */
+    private final HttpServer server;
+
+    /** Threads des abonnés (un thread virtuel par requête) */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Recherche du flux d'une salle (null si la salle n'existe pas) */
+    private final IntFunction<LiveEventFeed> feeds;
+
+    /** Abonnés connectés */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructeur du serveur. Ouvre le port sur l'interface locale sans démarrer.
+     *
+     * @param port Le port d'écoute (0 pour un port libre choisi par le système)
+     * @param feeds La recherche du flux d'une salle par identifiant
+     * @throws IOException si le port ne peut pas être ouvert
+     */
+    public LiveFeedServer(int port, IntFunction<LiveEventFeed> feeds) throws IOException {
+        this.feeds = feeds;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Démarre le serveur HTTP.
+     */
+    public void start() {
+        server.start();
+    }
+
+    // ==================== REQUÊTES ====================
+
+    /**
+     * Traite une requête GET /live/{salle} : l'abonné reçoit les événements de la
+     * salle jusqu'à la fin de la partie ou sa déconnexion.
+     *
+     * @param exchange L'échange HTTP
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            LiveEventFeed feed = null;
+            try {
+                feed = feeds.apply(Integer.parseInt(exchange.getRequestURI().getPath().substring(PATH.length())));
+            } catch (NumberFormatException e) {
+                // Salle invalide : traitée comme une salle inconnue
+            }
+            if (feed == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+            exchange.sendResponseHeaders(200, 0);
+
+            Subscriber subscriber = new Subscriber(exchange.getResponseBody());
+            subscribers.add(subscriber);
+            feed.addViewer(subscriber);
+            try {
+                subscriber.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // Abonné parti : rien à signaler
+            } finally {
+                feed.removeViewer(subscriber);
+                subscribers.remove(subscriber);
+                subscriber.close();
+            }
+        }
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre d'abonnés connectés.
+     *
+     * @return Le nombre d'abonnés
+     */
+    public int getSubscriberCount() { return subscribers.size(); }
+
+    /**
+     * Retourne le nombre d'événements abandonnés par des abonnés trop lents (connectés).
+     *
+     * @return Le nombre d'événements sautés
+     */
+    public long getSkippedEvents() {
+        long total = 0;
+        for (Subscriber subscriber : subscribers) {
+            total += subscriber.getSkippedEvents();
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port
+     */
+    public int getPort() { return server.getAddress().getPort(); }
+
+    /**
+     * Arrête le serveur et ferme tous les flux en cours.
+     */
+    @Override
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Abonné SSE : file bornée des événements partagés, écrite par le thread de la requête.
+     */
+    private static final class Subscriber implements SpectatorFeed.Viewer {
+
+        /** Corps de la réponse HTTP */
+        private final OutputStream body;
+
+        /** Canal d'écriture sur le corps de la réponse */
+        private final WritableByteChannel channel;
+
+        /** Événements en attente, protégés par le verrou de l'abonné */
+        private final FrameQueue queue = new FrameQueue(QUEUE_CAPACITY);
+
+        /** Indique si la fin du flux a été annoncée */
+        private boolean ending;
+
+        /** Indique si l'abonné est fermé */
+        private boolean closed;
+
+        /**
+         * Constructeur d'un abonné.
+         *
+         * @param body Le corps de la réponse HTTP
+         */
+        Subscriber(OutputStream body) {
+            this.body = body;
+            this.channel = Channels.newChannel(body);
+        }
+
+        @Override
+        public synchronized boolean offer(ByteBuffer frame, boolean keyframe) {
+            if (closed) return false;
+            if (queue.offer(frame, keyframe)) {
+                notifyAll();
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized void end() {
+            ending = true;
+            notifyAll();
+        }
+
+        /**
+         * Écrit les événements au fil de leur arrivée jusqu'à la fin du flux.
+         *
+         * @throws IOException si l'abonné s'est déconnecté
+         * @throws InterruptedException si le thread est interrompu
+         */
+        void run() throws IOException, InterruptedException {
+            while (true) {
+                ByteBuffer frame;
+                synchronized (this) {
+                    if (queue.isEmpty() && !ending && !closed) {
+                        wait(HEARTBEAT_MILLIS);
+                    }
+                    if (closed) return;
+                    frame = queue.poll();
+                    if (frame == null && ending) return;
+                }
+                if (frame == null) {
+                    frame = HEARTBEAT.duplicate();
+                }
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+                body.flush();
+            }
+        }
+
+        /**
+         * Retourne le nombre d'événements abandonnés.
+         *
+         * @return Le nombre d'événements sautés
+         */
+        synchronized long getSkippedEvents() { return queue.getSkippedFrames(); }
+
+        /**
+         * Ferme l'abonné ; son thread termine son écriture en cours puis s'arrête.
+         */
+        synchronized void close() {
+            closed = true;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package bomberman.network;
+
+import bomberman.utils.GameConstants;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Banc de charge d'un {@link DedicatedServer} : remplit un serveur local d'un
+ * nombre donné de salles jouées par un {@link BotSwarm}, puis mesure pendant
+ * une fenêtre fixe (après un temps de chauffe) :
+ * <ul>
+ *   <li>Les percentiles de durée de tick du serveur ({@link TickMetrics#since})</li>
+ *   <li>Le débit réseau par salle (octets envoyés et reçus par les bots)</li>
+ *   <li>Le processeur consommé par salle : temps de simulation des ticks, en
+ *       fraction d'un cœur, et temps processeur total du processus</li>
+ * </ul>
+ *
+ * <p>{@link #main(String[])} double le nombre de salles jusqu'au premier palier
+ * où le serveur ne tient plus la cadence, et en déduit combien de parties une
+ * machine peut héberger. Les bots tournent dans la même JVM : le processeur du
+ * processus les inclut, le temps de simulation non.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class LoadBenchmark {
+
+    /**
+     * Mesures d'un palier de charge.
+     */
+    public static final class Sample {
+
+        /** Nombre de salles demandées */
+        private final int rooms;
+
+        /** Nombre de salles ouvertes en fin de mesure */
+        private final int openRooms;
+
+        /** Durées des ticks pendant la fenêtre de mesure */
+        private final TickMetrics ticks;
+
+        /** Octets échangés par seconde et par salle */
+        private final double bytesPerRoomPerSecond;
+
+        /** Temps de simulation par salle, en fraction d'un cœur */
+        private final double simulationCpuPerRoom;
+
+        /** Processeur consommé par le processus, en cœurs (-1 si indisponible) */
+        private final double processCpu;
+
+        /** Charge du pool de simulation en fin de mesure */
+        private final double load;
+
+        /** Nombre d'entrées refusées ou impossibles */
+        private final long failedJoins;
+
+        /**
+         * Constructeur d'un palier.
+         *
+         * @param rooms Le nombre de salles demandées
+         * @param openRooms Le nombre de salles ouvertes en fin de mesure
+         * @param ticks Les durées des ticks de la fenêtre
+         * @param bytesPerRoomPerSecond Le débit par salle
+         * @param simulationCpuPerRoom Le temps de simulation par salle
+         * @param processCpu Le processeur du processus, en cœurs
+         * @param load La charge du pool de simulation
+         * @param failedJoins Le nombre d'entrées refusées
+         */
+        Sample(int rooms, int openRooms, TickMetrics ticks, double bytesPerRoomPerSecond,
+               double simulationCpuPerRoom, double processCpu, double load, long failedJoins) {
+            this.rooms = rooms;
+            this.openRooms = openRooms;
+            this.ticks = ticks;
+            this.bytesPerRoomPerSecond = bytesPerRoomPerSecond;
+            this.simulationCpuPerRoom = simulationCpuPerRoom;
+            this.processCpu = processCpu;
+            this.load = load;
+            this.failedJoins = failedJoins;
+        }
+
+        /**
+         * Indique si le serveur a tenu la cadence : p99 sous la durée d'un tick,
+         * aucun tick abandonné et aucune entrée refusée.
+         *
+         * @return true si le palier est tenu
+         */
+        public boolean isHealthy() {
+            return ticks.getCount() > 0 && ticks.getPercentileNanos(99) <= GameConstants.TICK_DURATION
+                    && ticks.getShedTicks() == 0 && failedJoins == 0;
+        }
+
+        /**
+         * Retourne le nombre de salles demandées.
+         *
+         * @return Le nombre de salles
+         */
+        public int getRooms() { return rooms; }
+
+        /**
+         * Retourne le nombre de salles ouvertes en fin de mesure.
+         *
+         * @return Le nombre de salles
+         */
+        public int getOpenRooms() { return openRooms; }
+
+        /**
+         * Retourne les durées des ticks de la fenêtre de mesure.
+         *
+         * @return Les mesures
+         */
+        public TickMetrics getTicks() { return ticks; }
+
+        /**
+         * Retourne le débit réseau par salle.
+         *
+         * @return Les octets échangés par seconde et par salle
+         */
+        public double getBytesPerRoomPerSecond() { return bytesPerRoomPerSecond; }
+
+        /**
+         * Retourne le temps de simulation par salle.
+         *
+         * @return La fraction d'un cœur consommée par une salle
+         */
+        public double getSimulationCpuPerRoom() { return simulationCpuPerRoom; }
+
+        /**
+         * Retourne le processeur consommé par le processus (serveur et bots).
+         *
+         * @return Le nombre de cœurs occupés, -1 si indisponible
+         */
+        public double getProcessCpu() { return processCpu; }
+
+        /**
+         * Retourne la charge du pool de simulation en fin de mesure.
+         *
+         * @return La charge (1.0 = pool entièrement occupé)
+         */
+        public double getLoad() { return load; }
+
+        /**
+         * Retourne le nombre d'entrées refusées ou impossibles.
+         *
+         * @return Le nombre d'échecs
+         */
+        public long getFailedJoins() { return failedJoins; }
+
+        /**
+         * Résume le palier sur une ligne.
+         *
+         * @return Le résumé
+         */
+        @Override
+        public String toString() {
+            return String.format("salles=%d/%d p50=%dµs p99=%dµs max=%dµs débit=%.0fo/s/salle"
+                            + " simulation=%.2f%%cœur/salle processus=%.2f cœurs charge=%.0f%% refus=%d %s",
+                    openRooms, rooms, ticks.getPercentileNanos(50) / 1000, ticks.getPercentileNanos(99) / 1000,
+                    ticks.getMaxNanos() / 1000, bytesPerRoomPerSecond, simulationCpuPerRoom * 100,
+                    processCpu, load * 100, failedJoins, isHealthy() ? "OK" : "SATURÉ");
+        }
+    }
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private LoadBenchmark() {}
+
+    // ==================== MESURE ====================
+
+    /**
+     * Mesure un palier de charge sur un serveur local neuf.
+     *
+     * @param rooms Le nombre de salles à remplir
+     * @param playersPerRoom Le nombre de joueurs par salle (2-4)
+     * @param workers Le nombre de threads de simulation du serveur
+     * @param warmupMillis La durée de chauffe avant la mesure
+     * @param measureMillis La durée de la fenêtre de mesure
+     * @return Les mesures du palier
+     * @throws IOException si le serveur ne peut pas démarrer
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static Sample measure(int rooms, int playersPerRoom, int workers, long warmupMillis, long measureMillis)
+            throws IOException, InterruptedException {
+        try (DedicatedServer server = new DedicatedServer(0, playersPerRoom, workers);
+             BotSwarm swarm = new BotSwarm("localhost", server.getPort(), rooms)) {
+            server.start();
+            swarm.spawn(rooms * playersPerRoom);
+            Thread.sleep(warmupMillis);
+
+            TickMetrics baseline = server.getMetrics();
+            long bytes = swarm.getReceivedBytes() + swarm.getSentBytes();
+            long cpu = processCpuNanos();
+            long start = System.nanoTime();
+            Thread.sleep(measureMillis);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            TickMetrics window = server.getMetrics().since(baseline);
+            double bytesPerRoom = (swarm.getReceivedBytes() + swarm.getSentBytes() - bytes) / seconds / rooms;
+            double simulation = window.getMeanNanos() * (double) window.getCount() / 1e9 / seconds / rooms;
+            long cpuEnd = processCpuNanos();
+            double process = cpu < 0 || cpuEnd < 0 ? -1 : (cpuEnd - cpu) / 1e9 / seconds;
+            return new Sample(rooms, server.getRoomCount(), window, bytesPerRoom, simulation, process,
+                    server.getLoad(), swarm.getFailedJoins());
+        }
+    }
+
+    /**
+     * Retourne le temps processeur consommé par le processus.
+     *
+     * @return Le temps en nanosecondes, -1 si le système ne le fournit pas
+     */
+    private static long processCpuNanos() {
+        return ProcessHandle.current().info().totalCpuDuration().map(Duration::toNanos).orElse(-1L);
+    }
+
+    /**
+     * Double le nombre de salles jusqu'à saturation et affiche la capacité mesurée.
+     * Arguments optionnels : joueurs par salle, threads de simulation, nombre
+     * maximal de salles, durée de mesure d'un palier en secondes.
+     *
+     * @param args Les arguments de la ligne de commande
+     * @throws IOException si un serveur ne peut pas démarrer
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxRooms = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+        long measureMillis = (args.length > 3 ? Integer.parseInt(args[3]) : 10) * 1000L;
+
+        System.out.println("Banc de charge : " + players + " joueurs par salle, " + workers + " threads de simulation");
+        Sample lastHealthy = null;
+        for (int rooms = 1; rooms <= maxRooms; rooms *= 2) {
+            Sample sample = measure(rooms, players, workers, 3000, measureMillis);
+            System.out.println(sample);
+            if (!sample.isHealthy()) break;
+            lastHealthy = sample;
+        }
+
+        if (lastHealthy == null) {
+            System.out.println("Le serveur ne tient pas une seule salle");
+            return;
+        }
+        System.out.println("Capacité mesurée : au moins " + lastHealthy.getRooms() + " salles ("
+                + lastHealthy.getRooms() * players + " joueurs)");
+        if (lastHealthy.getSimulationCpuPerRoom() > 0) {
+            System.out.printf("Capacité estimée à %.0f%% de charge : %.0f salles%n", DedicatedServer.MAX_LOAD * 100,
+                    workers * DedicatedServer.MAX_LOAD / lastHealthy.getSimulationCpuPerRoom());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client d'une partie en lockstep déterministe.
+ * Le client possède sa propre simulation ({@link GameManager} en mode déterministe,
+ * initialisée avec la graine reçue du serveur). Il n'envoie que la commande de son
+ * joueur pour chaque tick et n'avance la simulation qu'à réception de la trame
+ * complète du tick : tous les pairs exécutent ainsi exactement les mêmes ticks.
+ *
+ * <p>Délai de commande : la commande envoyée après le tick t est jouée au tick
+ * t + délai + 1. Les premiers ticks sont joués sans commande ; en échange, la
+ * trame d'un tick est en général déjà arrivée quand le client en a besoin.</p>
+ *
+ * <p>Après chaque tick, l'empreinte de l'état ({@link GameManager#checksum()}) est
+ * envoyée au serveur, qui signale toute divergence ({@link #isDesynced()}).</p>
+ *
+ * <p>Utilisation typique, à chaque frame :</p>
+ * <pre>
+ * client.submitInput(PlayerInput.of(PlayerInput.LEFT, false));
+ * client.advance();
+ * renderer.render(client.getGameManager().getRenderSnapshots().acquire());
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class LockstepClient implements AutoCloseable {
+
+    /** Socket connectée au serveur */
+    private final Socket socket;
+
+    /** Flux entrant */
+    private final DataInputStream in;
+
+    /** Flux sortant */
+    private final DataOutputStream out;
+
+    /** Numéro du joueur local (1-4) */
+    private final int playerNumber;
+
+    /** Nombre de joueurs de la partie */
+    private final int playerCount;
+
+    /** Graine commune de la partie */
+    private final long seed;
+
+    /** Délai de commande en ticks */
+    private final int inputDelay;
+
+    /** Simulation locale */
+    private final GameManager gameManager;
+
+    /** Trames reçues et pas encore simulées, dans l'ordre des ticks */
+    private final BlockingQueue<Integer> frames = new LinkedBlockingQueue<>();
+
+    /** Prochain tick pour lequel une commande doit être envoyée */
+    private int nextInputTick;
+
+    /** Nombre de ticks simulés */
+    private int simulatedTick;
+
+    /** Premier tick désynchronisé signalé par le serveur, -1 si aucun */
+    private volatile int desyncTick = -1;
+
+    /** Indique si la connexion est ouverte */
+    private volatile boolean connected;
+
+    /**
+     * Se connecte au serveur et attend le début de la partie.
+     * Bloque jusqu'à ce que tous les joueurs soient connectés.
+     *
+     * @param host L'adresse du serveur
+     * @param port Le port du serveur
+     * @throws IOException en cas d'erreur de connexion ou de message inattendu
+     */
+    public LockstepClient(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        byte type = in.readByte();
+        if (type != LockstepProtocol.WELCOME) {
+            socket.close();
+            throw new IOException("Message d'accueil attendu, reçu : " + type);
+        }
+        this.playerNumber = in.readByte();
+        this.playerCount = in.readByte();
+        this.seed = in.readLong();
+        this.inputDelay = in.readShort();
+        this.gameManager = createMatch();
+        this.connected = true;
+
+        // Les premiers ticks sont joués sans commande, le temps que le délai soit absorbé
+        for (int tick = 1; tick <= inputDelay; tick++) {
+            writeInput(tick, PlayerInput.NONE);
+        }
+        this.nextInputTick = inputDelay + 1;
+        out.flush();
+
+        Thread reader = new Thread(this::readMessages, "lockstep-client-" + playerNumber);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Crée la simulation locale, identique sur tous les pairs. Le profil
+     * courant suit le joueur attribué par le serveur.
+     *
+     * @return Le gestionnaire de jeu initialisé avec la graine commune
+     */
+    private GameManager createMatch() {
+        GameManager manager = GameManager.createSeededMatch(playerCount, seed, false);
+        manager.setLocalPlayerNumber(playerNumber);
+        return manager;
+    }
+
+    // ==================== RÉCEPTION ====================
+
+    /**
+     * Lit en boucle les messages du serveur jusqu'à la déconnexion.
+     */
+    private void readMessages() {
+        try {
+            while (connected) {
+                byte type = in.readByte();
+                int tick = in.readInt();
+                switch (type) {
+                    case LockstepProtocol.FRAME -> frames.add(in.readShort() & 0xFFFF);
+                    case LockstepProtocol.DESYNC -> {
+                        desyncTick = tick;
+                        System.err.println("Lockstep : désynchronisation signalée au tick " + tick);
+                    }
+                    default -> throw new IOException("Message inconnu : " + type);
+                }
+            }
+        } catch (IOException e) {
+            if (connected) {
+                System.err.println("Lockstep : connexion au serveur perdue : " + e.getMessage());
+                connected = false;
+            }
+        }
+    }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Envoie la commande du joueur local pour le prochain tick disponible.
+     * Refuse la commande si le client est déjà en avance de tout le délai
+     * sur sa simulation (il attend alors les trames des autres joueurs).
+     *
+     * @param input La commande du joueur local ({@link PlayerInput})
+     * @return true si la commande a été envoyée
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    public synchronized boolean submitInput(int input) throws IOException {
+        if (!connected || nextInputTick > simulatedTick + inputDelay + 1) return false;
+        writeInput(nextInputTick++, input);
+        out.flush();
+        return true;
+    }
+
+    /**
+     * Simule toutes les trames déjà reçues, sans attendre.
+     *
+     * @return Le nombre de ticks simulés
+     * @throws IOException en cas d'erreur d'envoi des empreintes
+     */
+    public synchronized int advance() throws IOException {
+        int count = 0;
+        Integer frame;
+        while ((frame = frames.poll()) != null) {
+            stepFrame(frame);
+            count++;
+        }
+        if (count > 0) {
+            out.flush();
+        }
+        return count;
+    }
+
+    /**
+     * Attend la trame du prochain tick puis la simule.
+     *
+     * @param timeoutMillis Le délai d'attente maximal en millisecondes
+     * @return true si un tick a été simulé, false si le délai a expiré
+     * @throws IOException en cas d'erreur d'envoi de l'empreinte
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public boolean awaitFrame(long timeoutMillis) throws IOException, InterruptedException {
+        Integer frame = frames.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (frame == null) return false;
+        synchronized (this) {
+            stepFrame(frame);
+            out.flush();
+        }
+        return true;
+    }
+
+    /**
+     * Simule un tick et envoie l'empreinte de l'état obtenu.
+     *
+     * @param frame La trame des commandes du tick
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    private void stepFrame(int frame) throws IOException {
+        gameManager.step(frame);
+        simulatedTick++;
+        out.writeByte(LockstepProtocol.CHECKSUM);
+        out.writeInt(simulatedTick);
+        out.writeLong(gameManager.checksum());
+    }
+
+    /**
+     * Écrit un message de commande (sans vider le flux).
+     *
+     * @param tick Le tick auquel la commande doit être jouée
+     * @param input La commande
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    private void writeInput(int tick, int input) throws IOException {
+        out.writeByte(LockstepProtocol.INPUT);
+        out.writeInt(tick);
+        out.writeByte(input & PlayerInput.MASK);
+    }
+
+    // ==================== ÉTAT ====================
+
+    /**
+     * Retourne la simulation locale.
+     *
+     * @return Le gestionnaire de jeu partagé par tous les pairs
+     */
+    public GameManager getGameManager() { return gameManager; }
+
+    /**
+     * Retourne le numéro du joueur local.
+     *
+     * @return Le numéro du joueur (1-4)
+     */
+    public int getPlayerNumber() { return playerNumber; }
+
+    /**
+     * Retourne le nombre de joueurs de la partie.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne la graine commune de la partie.
+     *
+     * @return La graine
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Retourne le délai de commande.
+     *
+     * @return Le délai en ticks
+     */
+    public int getInputDelay() { return inputDelay; }
+
+    /**
+     * Retourne le nombre de ticks simulés.
+     *
+     * @return Le numéro du dernier tick simulé
+     */
+    public synchronized int getSimulatedTick() { return simulatedTick; }
+
+    /**
+     * Indique si le serveur a signalé une désynchronisation.
+     *
+     * @return true si les simulations des pairs ont divergé
+     */
+    public boolean isDesynced() { return desyncTick >= 0; }
+
+    /**
+     * Retourne le premier tick désynchronisé signalé par le serveur.
+     *
+     * @return Le tick, ou -1 si aucune désynchronisation
+     */
+    public int getDesyncTick() { return desyncTick; }
+
+    /**
+     * Indique si la connexion au serveur est ouverte.
+     *
+     * @return true si le client est connecté
+     */
+    public boolean isConnected() { return connected; }
+
+    /**
+     * Ferme la connexion au serveur.
+     */
+    @Override
+    public void close() {
+        connected = false;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du client : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package bomberman.network;
+
+/**
+ * Constantes du protocole lockstep échangé sur TCP.
+ * Chaque message commence par un octet de type suivi de champs de taille fixe
+ * (ordre réseau, via {@code DataOutputStream}).
+ *
+ * <p>Messages :</p>
+ * <pre>
+ * WELCOME  serveur → client : type, joueur (1 o), joueurs (1 o), graine (8 o), délai (2 o)
+ * INPUT    client → serveur : type, tick (4 o), commande (1 o, 4 bits utiles)
+ * FRAME    serveur → client : type, tick (4 o), trame (2 o, 4 bits par joueur)
+ * CHECKSUM client → serveur : type, tick (4 o), empreinte (8 o)
+ * DESYNC   serveur → client : type, tick (4 o)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+final class LockstepProtocol {
+
+    /** Message d'accueil : numéro de joueur et paramètres de la partie */
+    static final byte WELCOME = 1;
+
+    /** Commande d'un joueur pour un tick */
+    static final byte INPUT = 2;
+
+    /** Trame complète d'un tick, diffusée quand tous les joueurs ont envoyé leur commande */
+    static final byte FRAME = 3;
+
+    /** Empreinte de l'état d'un client après un tick */
+    static final byte CHECKSUM = 4;
+
+    /** Désynchronisation détectée par le serveur */
+    static final byte DESYNC = 5;
+
+    /** Délai de commande maximal, en ticks */
+    static final int MAX_INPUT_DELAY = 32;
+
+    /**
+     * Taille des fenêtres circulaires de ticks en attente.
+     * Un client ne peut pas dépasser la dernière trame confirmée de plus de
+     * {@link #MAX_INPUT_DELAY} ticks ; la fenêtre couvre largement cet écart.
+     */
+    static final int WINDOW = 128;
+
+    /**
+     * Constructeur privé : classe de constantes.
+     */
+    private LockstepProtocol() {}
+}
@@ -0,0 +1,363 @@
+package bomberman.network;
+
+import bomberman.model.game.PlayerInput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Serveur relais d'une partie en lockstep déterministe.
+ * Le serveur ne simule rien : il attend la connexion de tous les joueurs, leur
+ * attribue un numéro et une graine commune, puis regroupe leurs commandes tick
+ * par tick. Dès que la commande de chaque joueur est connue pour un tick, la
+ * trame complète (4 bits par joueur) est diffusée à tous les clients, qui
+ * avancent alors leur propre simulation à l'identique.
+ *
+ * <p>Fonctionnalités principales :</p>
+ * <ul>
+ *   <li><strong>Délai de commande</strong> : une commande saisie au tick t est jouée
+ *       au tick t + délai, ce qui masque la latence du réseau</li>
+ *   <li><strong>Trames compactes</strong> : 1 octet de commande par client, 2 octets
+ *       de trame diffusée par tick ({@link PlayerInput})</li>
+ *   <li><strong>Détection de désynchronisation</strong> : les clients renvoient
+ *       l'empreinte de leur état après chaque tick ; à la première divergence,
+ *       le tick fautif est signalé à tous</li>
+ * </ul>
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * LockstepServer server = new LockstepServer(LockstepServer.DEFAULT_PORT, 2, seed, 3);
+ * server.start();
+ * // Chaque joueur : new LockstepClient("hote", 7777)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class LockstepServer implements AutoCloseable {
+
+    /** Port utilisé par défaut */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Socket d'écoute des connexions */
+    private final ServerSocket serverSocket;
+
+    /** Nombre de joueurs attendus (2-4) */
+    private final int playerCount;
+
+    /** Graine commune de la partie */
+    private final long seed;
+
+    /** Délai de commande en ticks */
+    private final int inputDelay;
+
+    /** Connexions des joueurs, indexées par numéro de joueur - 1 */
+    private final Connection[] connections;
+
+    /** Trames en cours de constitution, par tick modulo la fenêtre */
+    private final int[] frames = new int[LockstepProtocol.WINDOW];
+
+    /** Joueurs ayant envoyé leur commande, par tick modulo la fenêtre (un bit par joueur) */
+    private final int[] inputMasks = new int[LockstepProtocol.WINDOW];
+
+    /** Première empreinte reçue, par tick modulo la fenêtre */
+    private final long[] checksums = new long[LockstepProtocol.WINDOW];
+
+    /** Joueurs ayant envoyé leur empreinte, par tick modulo la fenêtre */
+    private final int[] checksumMasks = new int[LockstepProtocol.WINDOW];
+
+    /** Prochain tick à diffuser */
+    private int nextFrameTick = 1;
+
+    /** Premier tick désynchronisé, -1 si aucun */
+    private int desyncTick = -1;
+
+    /** Indique si le serveur est actif */
+    private volatile boolean running;
+
+    /**
+     * Constructeur du serveur lockstep.
+     * Ouvre le port d'écoute ; les connexions sont acceptées après {@link #start()}.
+     *
+     * @param port Le port TCP (0 pour un port libre choisi par le système)
+     * @param playerCount Le nombre de joueurs (2-4)
+     * @param seed La graine commune de la partie
+     * @param inputDelay Le délai de commande en ticks (0-32)
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws IllegalArgumentException si le nombre de joueurs ou le délai est invalide
+     */
+    public LockstepServer(int port, int playerCount, long seed, int inputDelay) throws IOException {
+        if (playerCount < 2 || playerCount > 4) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + playerCount);
+        }
+        if (inputDelay < 0 || inputDelay > LockstepProtocol.MAX_INPUT_DELAY) {
+            throw new IllegalArgumentException("Délai de commande invalide : " + inputDelay);
+        }
+        this.playerCount = playerCount;
+        this.seed = seed;
+        this.inputDelay = inputDelay;
+        this.connections = new Connection[playerCount];
+        this.serverSocket = new ServerSocket(port);
+    }
+
+    /**
+     * Démarre l'attente des joueurs dans un thread dédié.
+     * La partie commence dès que le dernier joueur est connecté.
+     */
+    public void start() {
+        running = true;
+        Thread acceptThread = new Thread(this::acceptPlayers, "lockstep-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    // ==================== CONNEXIONS ====================
+
+    /**
+     * Accepte les joueurs un par un, puis leur envoie le message d'accueil
+     * et démarre la lecture de leurs messages.
+     */
+    private void acceptPlayers() {
+        try {
+            for (int i = 0; i < playerCount; i++) {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections[i] = new Connection(i, socket);
+                System.out.println("Lockstep : joueur " + (i + 1) + " connecté (" + socket.getRemoteSocketAddress() + ")");
+            }
+            serverSocket.close();
+
+            synchronized (this) {
+                for (Connection connection : connections) {
+                    connection.out.writeByte(LockstepProtocol.WELCOME);
+                    connection.out.writeByte(connection.index + 1);
+                    connection.out.writeByte(playerCount);
+                    connection.out.writeLong(seed);
+                    connection.out.writeShort(inputDelay);
+                    connection.out.flush();
+                }
+            }
+
+            for (Connection connection : connections) {
+                Thread reader = new Thread(() -> readMessages(connection),
+                        "lockstep-joueur-" + (connection.index + 1));
+                reader.setDaemon(true);
+                reader.start();
+            }
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("Erreur lors de l'attente des joueurs : " + e.getMessage());
+                close();
+            }
+        }
+    }
+
+    /**
+     * Lit en boucle les messages d'un joueur jusqu'à sa déconnexion.
+     * La partie ne pouvant pas avancer sans lui, le serveur est alors fermé.
+     *
+     * @param connection La connexion du joueur
+     */
+    private void readMessages(Connection connection) {
+        try {
+            while (running) {
+                byte type = connection.in.readByte();
+                int tick = connection.in.readInt();
+                switch (type) {
+                    case LockstepProtocol.INPUT -> onInput(connection.index, tick, connection.in.readByte());
+                    case LockstepProtocol.CHECKSUM -> onChecksum(connection.index, tick, connection.in.readLong());
+                    default -> throw new IOException("Message inconnu : " + type);
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("Lockstep : joueur " + (connection.index + 1) + " déconnecté : " + e.getMessage());
+                close();
+            }
+        }
+    }
+
+    // ==================== TRAMES ====================
+
+    /**
+     * Enregistre la commande d'un joueur et diffuse les trames devenues complètes.
+     *
+     * @param playerIndex L'indice du joueur
+     * @param tick Le tick auquel la commande doit être jouée
+     * @param input La commande ({@link PlayerInput})
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    private synchronized void onInput(int playerIndex, int tick, int input) throws IOException {
+        if (tick < nextFrameTick || tick >= nextFrameTick + LockstepProtocol.WINDOW) {
+            System.err.println("Lockstep : commande hors fenêtre ignorée (joueur " + (playerIndex + 1)
+                    + ", tick " + tick + ")");
+            return;
+        }
+        int slot = tick % LockstepProtocol.WINDOW;
+        frames[slot] = PlayerInput.pack(frames[slot], playerIndex, input);
+        inputMasks[slot] |= 1 << playerIndex;
+
+        int complete = (1 << playerCount) - 1;
+        while (inputMasks[nextFrameTick % LockstepProtocol.WINDOW] == complete) {
+            int readySlot = nextFrameTick % LockstepProtocol.WINDOW;
+            for (Connection connection : connections) {
+                connection.out.writeByte(LockstepProtocol.FRAME);
+                connection.out.writeInt(nextFrameTick);
+                connection.out.writeShort(frames[readySlot]);
+            }
+            frames[readySlot] = 0;
+            inputMasks[readySlot] = 0;
+            checksumMasks[readySlot] = 0;
+            nextFrameTick++;
+        }
+        for (Connection connection : connections) {
+            connection.out.flush();
+        }
+    }
+
+    /**
+     * Compare l'empreinte d'un joueur à celles des autres pour le même tick.
+     * La première divergence est signalée à tous les joueurs.
+     *
+     * @param playerIndex L'indice du joueur
+     * @param tick Le tick simulé
+     * @param checksum L'empreinte de l'état du joueur après ce tick
+     * @throws IOException en cas d'erreur d'envoi
+     */
+    private synchronized void onChecksum(int playerIndex, int tick, long checksum) throws IOException {
+        if (tick >= nextFrameTick || tick <= nextFrameTick - LockstepProtocol.WINDOW) return;
+        int slot = tick % LockstepProtocol.WINDOW;
+        if (checksumMasks[slot] == 0) {
+            checksums[slot] = checksum;
+        } else if (checksums[slot] != checksum && desyncTick < 0) {
+            desyncTick = tick;
+            System.err.println("Lockstep : désynchronisation au tick " + tick + " (joueur " + (playerIndex + 1) + ")");
+            for (Connection connection : connections) {
+                connection.out.writeByte(LockstepProtocol.DESYNC);
+                connection.out.writeInt(tick);
+                connection.out.flush();
+            }
+        }
+        checksumMasks[slot] |= 1 << playerIndex;
+    }
+
+    // ==================== ÉTAT ====================
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port TCP
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Retourne le dernier tick diffusé à tous les joueurs.
+     *
+     * @return Le numéro du dernier tick confirmé, 0 avant le premier
+     */
+    public synchronized int getConfirmedTick() {
+        return nextFrameTick - 1;
+    }
+
+    /**
+     * Retourne le premier tick pour lequel les empreintes des joueurs ont divergé.
+     *
+     * @return Le tick désynchronisé, ou -1 si tous les joueurs sont synchronisés
+     */
+    public synchronized int getDesyncTick() {
+        return desyncTick;
+    }
+
+    /**
+     * Ferme le serveur et toutes les connexions des joueurs.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du serveur : " + e.getMessage());
+        }
+        for (Connection connection : connections) {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    // ==================== POINT D'ENTRÉE ====================
+
+    /**
+     * Héberge une partie en ligne de commande.
+     * Arguments : [port] [joueurs] [délai] [graine].
+     *
+     * @param args Les arguments de la ligne de commande
+     * @throws IOException si le port ne peut pas être ouvert
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int delay = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.currentTimeMillis();
+
+        LockstepServer server = new LockstepServer(port, players, seed, delay);
+        server.start();
+        System.out.println("Serveur lockstep en attente de " + players + " joueurs sur le port " + server.getPort());
+        while (server.running) {
+            Thread.sleep(1000);
+        }
+    }
+
+    /**
+     * Connexion TCP d'un joueur et ses flux de données.
+     */
+    private static class Connection {
+
+        /** Indice du joueur (numéro - 1) */
+        private final int index;
+
+        /** Socket du joueur */
+        private final Socket socket;
+
+        /** Flux entrant */
+        private final DataInputStream in;
+
+        /** Flux sortant, vidé explicitement après chaque lot de messages */
+        private final DataOutputStream out;
+
+        /**
+         * Constructeur d'une connexion.
+         *
+         * @param index L'indice du joueur
+         * @param socket La socket connectée
+         * @throws IOException si les flux ne peuvent pas être ouverts
+         */
+        Connection(int index, Socket socket) throws IOException {
+            this.index = index;
+            this.socket = socket;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        /**
+         * Ferme la socket du joueur.
+         */
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                System.err.println("Erreur lors de la fermeture d'une connexion : " + e.getMessage());
+            }
+        }
+    }
+}
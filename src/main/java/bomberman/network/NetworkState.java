@@ -0,0 +1,534 @@
+package bomberman.network;
+
+import bomberman.model.game.PowerUpSystem;
+import bomberman.model.game.RenderSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * État d'une partie tel qu'il circule sur le réseau.
+ * Version entière et compacte d'un {@link RenderSnapshot} : positions arrondies
+ * au pixel, vitesse en centièmes, et durées converties en ticks d'échéance
+ * (tick courant + timer) pour qu'une bombe ou une flamme qui ne fait que
+ * s'écouler ne change pas d'un état à l'autre. C'est ce qui rend les deltas
+ * de {@link StateCodec} aussi petits.
+ *
+ * <p>Organisation :</p>
+ * <ul>
+ *   <li>Terrain : un octet par cellule, ligne par ligne</li>
+ *   <li>Joueurs : une colonne par attribut</li>
+ *   <li>Bombes, bombes poussées, flammes et power-ups : ensembles d'entrées de
+ *       taille fixe, triés, comparables par fusion ({@link EntrySet})</li>
+ * </ul>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class NetworkState {
+
+    /** Drapeau de joueur : éliminé */
+    public static final int FLAG_ELIMINATED = 1;
+
+    /** Drapeau de joueur : en mouvement */
+    public static final int FLAG_MOVING = 2;
+
+    /** Drapeau de joueur : peut pousser les bombes */
+    public static final int FLAG_CAN_PUSH = 4;
+
+    /** Nombre maximal de joueurs */
+    static final int MAX_PLAYERS = 4;
+
+    // ==================== PARTIE ====================
+
+    /** Tick de l'état */
+    int tick;
+
+    /** Largeur de la grille */
+    int gridWidth;
+
+    /** Hauteur de la grille */
+    int gridHeight;
+
+    /** Types de cellules, ligne par ligne */
+    byte[] cells = new byte[0];
+
+    // ==================== JOUEURS ====================
+
+    /** Nombre de joueurs */
+    int playerCount;
+
+    // Attributs des joueurs, indexés de 0 à playerCount - 1
+    final int[] playerNumber = new int[MAX_PLAYERS];
+    final int[] playerX = new int[MAX_PLAYERS];
+    final int[] playerY = new int[MAX_PLAYERS];
+    final int[] playerLives = new int[MAX_PLAYERS];
+    final int[] playerRange = new int[MAX_PLAYERS];
+    final int[] playerSpeed = new int[MAX_PLAYERS];
+    final int[] playerInvincibleUntil = new int[MAX_PLAYERS];
+    final int[] playerFlags = new int[MAX_PLAYERS];
+
+    // ==================== ENSEMBLES ====================
+
+    /** Bombes statiques : cellule, tick d'explosion */
+    final EntrySet bombs = new EntrySet(2);
+
+    /** Bombes poussées : pixel X, pixel Y, tick d'explosion */
+    final EntrySet movingBombs = new EntrySet(3);
+
+    /** Flammes : cellule, tick d'extinction, durée totale */
+    final EntrySet flames = new EntrySet(3);
+
+    /** Power-ups : cellule, type (ordinal) */
+    final EntrySet powerUps = new EntrySet(2);
+
+    // ==================== CAPTURE ====================
+
+    /**
+     * Convertit un instantané de rendu en état réseau.
+     *
+     * @param snapshot L'instantané publié par la simulation
+     */
+    public void capture(RenderSnapshot snapshot) {
+        tick = (int) snapshot.getTick();
+        gridWidth = snapshot.hasGrid() ? snapshot.getGridWidth() : 0;
+        gridHeight = snapshot.hasGrid() ? snapshot.getGridHeight() : 0;
+        if (cells.length != gridWidth * gridHeight) {
+            cells = new byte[gridWidth * gridHeight];
+        }
+        for (int y = 0; y < gridHeight; y++) {
+            for (int x = 0; x < gridWidth; x++) {
+                cells[y * gridWidth + x] = (byte) snapshot.getCellType(x, y);
+            }
+        }
+
+        playerCount = Math.min(MAX_PLAYERS, snapshot.getPlayerSize());
+        for (int i = 0; i < playerCount; i++) {
+            int flags = (snapshot.isPlayerEliminated(i) ? FLAG_ELIMINATED : 0)
+                    | (snapshot.isPlayerMoving(i) ? FLAG_MOVING : 0)
+                    | (snapshot.canPlayerPushBombs(i) ? FLAG_CAN_PUSH : 0);
+            int invincibility = snapshot.getPlayerInvincibility(i);
+            playerNumber[i] = snapshot.getPlayerNumber(i);
+            playerX[i] = (int) Math.round(snapshot.getPlayerVisualX(i));
+            playerY[i] = (int) Math.round(snapshot.getPlayerVisualY(i));
+            playerLives[i] = snapshot.getPlayerLives(i);
+            playerRange[i] = snapshot.getPlayerBombRange(i);
+            playerSpeed[i] = (int) Math.round(snapshot.getPlayerSpeed(i) * 100);
+            playerInvincibleUntil[i] = invincibility > 0 && (flags & FLAG_ELIMINATED) == 0 ? tick + invincibility : 0;
+            playerFlags[i] = flags;
+        }
+
+        bombs.clear();
+        for (int i = 0; i < snapshot.getBombSize(); i++) {
+            bombs.add(cell(snapshot.getBombX(i), snapshot.getBombY(i)), tick + snapshot.getBombTimer(i), 0);
+        }
+        bombs.sort();
+
+        movingBombs.clear();
+        for (int i = 0; i < snapshot.getMovingBombSize(); i++) {
+            movingBombs.add((int) Math.round(snapshot.getMovingBombX(i)),
+                    (int) Math.round(snapshot.getMovingBombY(i)), tick + snapshot.getMovingBombTimer(i));
+        }
+        movingBombs.sort();
+
+        flames.clear();
+        for (int i = 0; i < snapshot.getExplosionSize(); i++) {
+            flames.add(cell(snapshot.getExplosionX(i), snapshot.getExplosionY(i)),
+                    tick + snapshot.getExplosionTimer(i), snapshot.getExplosionDuration(i));
+        }
+        flames.sort();
+
+        powerUps.clear();
+        for (int i = 0; i < snapshot.getPowerUpSize(); i++) {
+            powerUps.add(cell(snapshot.getPowerUpX(i), snapshot.getPowerUpY(i)),
+                    snapshot.getPowerUpType(i).ordinal(), 0);
+        }
+        powerUps.sort();
+    }
+
+    /**
+     * Calcule l'indice à plat d'une cellule.
+     *
+     * @param x La colonne
+     * @param y La ligne
+     * @return L'indice y * largeur + x
+     */
+    private int cell(int x, int y) {
+        return y * gridWidth + x;
+    }
+
+    /**
+     * Recopie un autre état (sans allocation si les tailles sont identiques).
+     *
+     * @param other L'état à recopier
+     */
+    public void copyFrom(NetworkState other) {
+        tick = other.tick;
+        gridWidth = other.gridWidth;
+        gridHeight = other.gridHeight;
+        if (cells.length != other.cells.length) {
+            cells = new byte[other.cells.length];
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+
+        playerCount = other.playerCount;
+        System.arraycopy(other.playerNumber, 0, playerNumber, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerX, 0, playerX, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerY, 0, playerY, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerLives, 0, playerLives, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerRange, 0, playerRange, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerSpeed, 0, playerSpeed, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerInvincibleUntil, 0, playerInvincibleUntil, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerFlags, 0, playerFlags, 0, MAX_PLAYERS);
+
+        bombs.copyFrom(other.bombs);
+        movingBombs.copyFrom(other.movingBombs);
+        flames.copyFrom(other.flames);
+        powerUps.copyFrom(other.powerUps);
+    }
+
+    /**
+     * Compare le contenu de deux états.
+     *
+     * @param other L'état à comparer
+     * @return true si les deux états sont identiques
+     */
+    public boolean contentEquals(NetworkState other) {
+        if (tick != other.tick || gridWidth != other.gridWidth || gridHeight != other.gridHeight
+                || playerCount != other.playerCount || !Arrays.equals(cells, other.cells)) {
+            return false;
+        }
+        for (int i = 0; i < playerCount; i++) {
+            if (playerNumber[i] != other.playerNumber[i] || playerX[i] != other.playerX[i]
+                    || playerY[i] != other.playerY[i] || playerLives[i] != other.playerLives[i]
+                    || playerRange[i] != other.playerRange[i] || playerSpeed[i] != other.playerSpeed[i]
+                    || playerInvincibleUntil[i] != other.playerInvincibleUntil[i]
+                    || playerFlags[i] != other.playerFlags[i]) {
+                return false;
+            }
+        }
+        return bombs.contentEquals(other.bombs) && movingBombs.contentEquals(other.movingBombs)
+                && flames.contentEquals(other.flames) && powerUps.contentEquals(other.powerUps);
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le tick de l'état.
+     *
+     * @return Le numéro du tick
+     */
+    public int getTick() { return tick; }
+
+    /**
+     * Retourne la largeur de la grille.
+     *
+     * @return La largeur en cases (0 sans grille)
+     */
+    public int getGridWidth() { return gridWidth; }
+
+    /**
+     * Retourne la hauteur de la grille.
+     *
+     * @return La hauteur en cases (0 sans grille)
+     */
+    public int getGridHeight() { return gridHeight; }
+
+    /**
+     * Retourne le type d'une cellule.
+     *
+     * @param x La colonne
+     * @param y La ligne
+     * @return Le type de cellule, ou -1 hors limites
+     */
+    public int getCellType(int x, int y) {
+        if (x < 0 || y < 0 || x >= gridWidth || y >= gridHeight) return -1;
+        return cells[y * gridWidth + x];
+    }
+
+    /**
+     * Retourne le nombre de joueurs.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne le numéro d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return Le numéro (1-4)
+     */
+    public int getPlayerNumber(int i) { return playerNumber[i]; }
+
+    /**
+     * Retourne la position visuelle X d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return La position en pixels
+     */
+    public int getPlayerX(int i) { return playerX[i]; }
+
+    /**
+     * Retourne la position visuelle Y d'un joueur (bandeau du timer compris).
+     *
+     * @param i L'indice du joueur
+     * @return La position en pixels
+     */
+    public int getPlayerY(int i) { return playerY[i]; }
+
+    /**
+     * Retourne le nombre de vies d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return Le nombre de vies
+     */
+    public int getPlayerLives(int i) { return playerLives[i]; }
+
+    /**
+     * Retourne la portée des bombes d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return La portée en cases
+     */
+    public int getPlayerBombRange(int i) { return playerRange[i]; }
+
+    /**
+     * Retourne la vitesse d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return La vitesse (arrondie au centième)
+     */
+    public double getPlayerSpeed(int i) { return playerSpeed[i] / 100.0; }
+
+    /**
+     * Retourne le temps d'invincibilité restant d'un joueur.
+     *
+     * @param i L'indice du joueur
+     * @return Le nombre de ticks restants (0 si vulnérable)
+     */
+    public int getPlayerInvincibility(int i) { return Math.max(0, playerInvincibleUntil[i] - tick); }
+
+    /**
+     * Retourne les drapeaux d'un joueur ({@link #FLAG_ELIMINATED}, {@link #FLAG_MOVING}, {@link #FLAG_CAN_PUSH}).
+     *
+     * @param i L'indice du joueur
+     * @return Les drapeaux
+     */
+    public int getPlayerFlags(int i) { return playerFlags[i]; }
+
+    /**
+     * Retourne le nombre de bombes statiques.
+     *
+     * @return Le nombre de bombes
+     */
+    public int getBombCount() { return bombs.size(); }
+
+    /**
+     * Retourne la cellule d'une bombe.
+     *
+     * @param i L'indice de la bombe
+     * @return L'indice à plat de la cellule
+     */
+    public int getBombCell(int i) { return bombs.get(i, 0); }
+
+    /**
+     * Retourne le temps restant avant l'explosion d'une bombe.
+     *
+     * @param i L'indice de la bombe
+     * @return Le nombre de ticks restants
+     */
+    public int getBombTimer(int i) { return bombs.get(i, 1) - tick; }
+
+    /**
+     * Retourne le nombre de flammes.
+     *
+     * @return Le nombre de flammes
+     */
+    public int getFlameCount() { return flames.size(); }
+
+    /**
+     * Retourne la cellule d'une flamme.
+     *
+     * @param i L'indice de la flamme
+     * @return L'indice à plat de la cellule
+     */
+    public int getFlameCell(int i) { return flames.get(i, 0); }
+
+    /**
+     * Retourne le temps restant d'une flamme.
+     *
+     * @param i L'indice de la flamme
+     * @return Le nombre de ticks restants
+     */
+    public int getFlameTimer(int i) { return flames.get(i, 1) - tick; }
+
+    /**
+     * Retourne le nombre de power-ups.
+     *
+     * @return Le nombre de power-ups
+     */
+    public int getPowerUpCount() { return powerUps.size(); }
+
+    /**
+     * Retourne la cellule d'un power-up.
+     *
+     * @param i L'indice du power-up
+     * @return L'indice à plat de la cellule
+     */
+    public int getPowerUpCell(int i) { return powerUps.get(i, 0); }
+
+    /**
+     * Retourne le type d'un power-up.
+     *
+     * @param i L'indice du power-up
+     * @return Le type
+     */
+    public PowerUpSystem.PowerUpType getPowerUpType(int i) {
+        return PowerUpSystem.PowerUpType.values()[powerUps.get(i, 1)];
+    }
+
+    /**
+     * Ensemble trié d'entrées de taille fixe (jusqu'à 3 entiers par entrée).
+     * Le tri lexicographique permet de calculer la différence entre deux
+     * ensembles par une simple fusion, doublons compris.
+     */
+    static final class EntrySet {
+
+        /** Nombre d'entiers par entrée */
+        final int stride;
+
+        /** Entrées à plat */
+        private int[] data = new int[48];
+
+        /** Nombre d'entrées */
+        private int size;
+
+        /**
+         * Constructeur d'un ensemble vide.
+         *
+         * @param stride Le nombre d'entiers par entrée (1-3)
+         */
+        EntrySet(int stride) {
+            this.stride = stride;
+        }
+
+        /**
+         * Vide l'ensemble.
+         */
+        void clear() { size = 0; }
+
+        /**
+         * Retourne le nombre d'entrées.
+         *
+         * @return Le nombre d'entrées
+         */
+        int size() { return size; }
+
+        /**
+         * Retourne un champ d'une entrée.
+         *
+         * @param entry L'indice de l'entrée
+         * @param field L'indice du champ
+         * @return La valeur
+         */
+        int get(int entry, int field) { return data[entry * stride + field]; }
+
+        /**
+         * Ajoute une entrée en fin d'ensemble (appeler {@link #sort()} ensuite).
+         * Les champs au-delà de la taille d'entrée sont ignorés.
+         *
+         * @param a Premier champ
+         * @param b Deuxième champ
+         * @param c Troisième champ
+         */
+        void add(int a, int b, int c) {
+            if ((size + 1) * stride > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            int base = size * stride;
+            data[base] = a;
+            if (stride > 1) data[base + 1] = b;
+            if (stride > 2) data[base + 2] = c;
+            size++;
+        }
+
+        /**
+         * Ajoute une entrée copiée d'un autre ensemble de même taille d'entrée.
+         *
+         * @param other L'ensemble source
+         * @param entry L'indice de l'entrée source
+         */
+        void addFrom(EntrySet other, int entry) {
+            int base = entry * stride;
+            add(other.data[base], stride > 1 ? other.data[base + 1] : 0, stride > 2 ? other.data[base + 2] : 0);
+        }
+
+        /**
+         * Trie les entrées (tri par insertion : les ensembles sont petits).
+         */
+        void sort() {
+            for (int i = 1; i < size; i++) {
+                int j = i;
+                while (j > 0 && compare(this, j - 1, this, j) > 0) {
+                    swap(j - 1, j);
+                    j--;
+                }
+            }
+        }
+
+        /**
+         * Échange deux entrées.
+         *
+         * @param i Première entrée
+         * @param j Seconde entrée
+         */
+        private void swap(int i, int j) {
+            for (int k = 0; k < stride; k++) {
+                int tmp = data[i * stride + k];
+                data[i * stride + k] = data[j * stride + k];
+                data[j * stride + k] = tmp;
+            }
+        }
+
+        /**
+         * Compare deux entrées lexicographiquement.
+         *
+         * @param a Premier ensemble
+         * @param i Entrée du premier ensemble
+         * @param b Second ensemble
+         * @param j Entrée du second ensemble
+         * @return Négatif, nul ou positif
+         */
+        static int compare(EntrySet a, int i, EntrySet b, int j) {
+            for (int k = 0; k < a.stride; k++) {
+                int c = Integer.compare(a.data[i * a.stride + k], b.data[j * b.stride + k]);
+                if (c != 0) return c;
+            }
+            return 0;
+        }
+
+        /**
+         * Recopie un autre ensemble.
+         *
+         * @param other L'ensemble à recopier
+         */
+        void copyFrom(EntrySet other) {
+            if (data.length < other.size * stride) {
+                data = new int[other.data.length];
+            }
+            System.arraycopy(other.data, 0, data, 0, other.size * stride);
+            size = other.size;
+        }
+
+        /**
+         * Compare le contenu de deux ensembles.
+         *
+         * @param other L'ensemble à comparer
+         * @return true si les entrées sont identiques
+         */
+        boolean contentEquals(EntrySet other) {
+            return size == other.size && Arrays.equals(data, 0, size * stride, other.data, 0, size * stride);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package bomberman.network;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+
+/**
+ * Prédiction côté client du déplacement du joueur local, avec réconciliation.
+ * Sans prédiction, une commande n'est visible qu'après l'aller-retour vers le
+ * serveur ; ici, elle est appliquée immédiatement à une copie du joueur, avec
+ * les mêmes règles que la simulation
+ * ({@link GameManager#canPlayerMoveTo(GamePlayer, int, int, boolean)}, délai de
+ * déplacement, interpolation de {@link GamePlayer#updateVisualPosition()}).
+ *
+ * <p>Fonctionnement :</p>
+ * <ol>
+ *   <li>Chaque tick local, la commande reçoit un numéro (le tick local), est
+ *       mémorisée et appliquée à la copie du joueur ; le client l'envoie au
+ *       serveur avec ce numéro</li>
+ *   <li>Quand la partie de référence (celle rejouée à partir du serveur) avance,
+ *       le serveur indique le numéro de la dernière commande qu'il a appliquée
+ *       ({@link #acknowledge}) : la copie repart de la position de référence et
+ *       seules les commandes suivantes sont rejouées par-dessus</li>
+ *   <li>L'écart entre l'ancienne prédiction et la nouvelle (distance de correction)
+ *       est mesuré puis résorbé progressivement à l'affichage au lieu d'être
+ *       appliqué d'un coup ; un écart de plus de {@value #SNAP_TILES} cases
+ *       (réapparition) est appliqué immédiatement</li>
+ * </ol>
+ *
+ * <p>La prédiction ne pousse pas de bombe et ne pose pas de bombe : ces actions
+ * n'apparaissent qu'une fois confirmées par le serveur. Les méthodes doivent être
+ * appelées en tenant le verrou qui protège la partie de référence.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class PlayerPredictor {
+
+    /** Nombre maximal de ticks prédits en avance sur la référence (1 seconde) */
+    public static final int MAX_PREDICTED_TICKS = 64;
+
+    /** Part de l'écart d'affichage conservée à chaque tick (résorption en ~10 ticks) */
+    static final double CORRECTION_DECAY = 0.8;
+
+    /** Écart, en cases, au-delà duquel la correction est immédiate */
+    static final int SNAP_TILES = 2;
+
+    /** Partie de référence, rejouée à partir du serveur */
+    private final GameManager reference;
+
+    /** Indice du joueur local */
+    private final int playerIndex;
+
+    /** Copie prédite du joueur local */
+    private final GamePlayer predicted;
+
+    /** Commandes locales indexées par numéro (modulo la taille du tableau) */
+    private final int[] inputs = new int[MAX_PREDICTED_TICKS];
+
+    /** Numéro de la dernière commande prédite */
+    private long sequence;
+
+    /** Numéro de la dernière commande appliquée par le serveur dans la référence */
+    private long acknowledged;
+
+    /** Tick atteint par la copie prédite */
+    private long predictedTick;
+
+    /** Tick de la référence lors de la dernière réconciliation */
+    private long reconciledTick = -1;
+
+    /** Écart d'affichage restant à résorber, en pixels */
+    private double offsetX;
+
+    /** Écart d'affichage restant à résorber, en pixels */
+    private double offsetY;
+
+    /** Nombre de réconciliations ayant corrigé la prédiction */
+    private long corrections;
+
+    /** Somme des distances de correction, en pixels */
+    private double totalCorrection;
+
+    /** Plus grande distance de correction, en pixels */
+    private double maxCorrection;
+
+    /** Dernière distance de correction, en pixels */
+    private double lastCorrection;
+
+    /**
+     * Constructeur d'un prédicteur.
+     *
+     * @param reference La partie de référence, rejouée à partir du serveur
+     * @param playerIndex L'indice du joueur local (numéro - 1)
+     */
+    public PlayerPredictor(GameManager reference, int playerIndex) {
+        this.reference = reference;
+        this.playerIndex = playerIndex;
+        GamePlayer source = reference.getPlayers().get(playerIndex);
+        this.predicted = new GamePlayer(source.getPlayerNumber(), source.getSpawnX(), source.getSpawnY());
+        predicted.copyFrom(source);
+        this.predictedTick = reference.getTickCount();
+    }
+
+    // ==================== PRÉDICTION ====================
+
+    /**
+     * Avance la prédiction d'un tick avec la commande du joueur local.
+     * Réconcilie d'abord si la référence a avancé depuis le tick précédent.
+     * La commande prend le numéro {@link #getSequence()} : c'est ce numéro que
+     * le client envoie au serveur.
+     *
+     * @param input La commande du joueur pour ce tick ({@link PlayerInput})
+     * @return false si la prédiction attend la référence (commande ignorée, à ne pas envoyer)
+     */
+    public boolean predict(int input) {
+        if (reference.getTickCount() != reconciledTick) {
+            reconcile();
+        }
+
+        if (sequence + 1 - acknowledged > MAX_PREDICTED_TICKS - 1) {
+            // Trop d'avance (serveur muet) : la prédiction attend la référence
+            return false;
+        }
+        sequence++;
+        predictedTick++;
+        inputs[(int) (sequence % MAX_PREDICTED_TICKS)] = input;
+        simulate(predicted, input, predictedTick);
+
+        offsetX *= CORRECTION_DECAY;
+        offsetY *= CORRECTION_DECAY;
+        if (Math.abs(offsetX) < 0.05 && Math.abs(offsetY) < 0.05) {
+            offsetX = 0;
+            offsetY = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Enregistre le numéro de la dernière commande appliquée par le serveur,
+     * reçu avec la trame qui vient d'avancer la référence.
+     *
+     * @param sequence Le numéro de la commande, 0 si aucune n'a encore été appliquée
+     */
+    public void acknowledge(long sequence) {
+        acknowledged = Math.max(acknowledged, Math.min(sequence, this.sequence));
+    }
+
+    /**
+     * Repart de la position de référence et rejoue les commandes que le serveur
+     * n'a pas encore appliquées, puis mesure la correction.
+     */
+    public void reconcile() {
+        long referenceTick = reference.getTickCount();
+        reconciledTick = referenceTick;
+        double previousX = predicted.getVisualX();
+        double previousY = predicted.getVisualY();
+
+        predicted.copyFrom(reference.getPlayers().get(playerIndex));
+        // Le serveur applique une commande par tick : la suivante le sera au tick suivant
+        predictedTick = referenceTick;
+        for (long next = acknowledged + 1; next <= sequence; next++) {
+            predictedTick++;
+            simulate(predicted, inputs[(int) (next % MAX_PREDICTED_TICKS)], predictedTick);
+        }
+
+        double dx = predicted.getVisualX() - previousX;
+        double dy = predicted.getVisualY() - previousY;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance > 0.01) {
+            corrections++;
+            totalCorrection += distance;
+            maxCorrection = Math.max(maxCorrection, distance);
+            lastCorrection = distance;
+
+            offsetX -= dx;
+            offsetY -= dy;
+            double snap = SNAP_TILES * GameConstants.TILE_SIZE;
+            if (offsetX * offsetX + offsetY * offsetY > snap * snap) {
+                offsetX = 0;
+                offsetY = 0;
+            }
+        }
+    }
+
+    /**
+     * Applique un tick de déplacement à la copie du joueur, comme
+     * {@link GameManager#applyPlayerInput} suivi de la mise à jour du joueur.
+     *
+     * @param player La copie du joueur
+     * @param input La commande du tick
+     * @param tick Le numéro du tick simulé
+     */
+    private void simulate(GamePlayer player, int input, long tick) {
+        if (player.getStats().isEliminated()) return;
+        long currentTime = tick * GameConstants.TICK_DURATION;
+        if (PlayerInput.direction(input) != PlayerInput.NONE && player.canMoveNow(currentTime)) {
+            int newX = player.getTargetX() + PlayerInput.deltaX(input);
+            int newY = player.getTargetY() + PlayerInput.deltaY(input);
+            if (reference.canPlayerMoveTo(player, newX, newY, false)) {
+                player.setTarget(newX, newY);
+                player.startMoving(currentTime);
+            }
+        }
+        player.update();
+    }
+
+    // ==================== AFFICHAGE ET MESURES ====================
+
+    /**
+     * Retourne la position X à afficher : prédiction et reste de correction.
+     *
+     * @return La position visuelle X en pixels
+     */
+    public double getVisualX() { return predicted.getVisualX() + offsetX; }
+
+    /**
+     * Retourne la position Y à afficher : prédiction et reste de correction.
+     *
+     * @return La position visuelle Y en pixels
+     */
+    public double getVisualY() { return predicted.getVisualY() + offsetY; }
+
+    /**
+     * Retourne la copie prédite du joueur local (sans le lissage d'affichage).
+     *
+     * @return Le joueur prédit
+     */
+    public GamePlayer getPredictedPlayer() { return predicted; }
+
+    /**
+     * Retourne le tick atteint par la prédiction.
+     *
+     * @return Le tick prédit
+     */
+    public long getPredictedTick() { return predictedTick; }
+
+    /**
+     * Retourne le numéro de la dernière commande prédite.
+     *
+     * @return Le numéro, 0 avant la première commande
+     */
+    public long getSequence() { return sequence; }
+
+    /**
+     * Retourne le numéro de la dernière commande appliquée par le serveur.
+     *
+     * @return Le numéro, 0 si aucune n'a été confirmée
+     */
+    public long getAcknowledged() { return acknowledged; }
+
+    /**
+     * Retourne le nombre de commandes prédites non encore appliquées par le serveur.
+     *
+     * @return L'avance de la prédiction en ticks
+     */
+    public int getPendingTicks() { return (int) (sequence - acknowledged); }
+
+    /**
+     * Retourne le nombre de réconciliations ayant corrigé la prédiction.
+     *
+     * @return Le nombre de corrections
+     */
+    public long getCorrectionCount() { return corrections; }
+
+    /**
+     * Retourne la distance de correction moyenne.
+     *
+     * @return La moyenne en pixels, 0 sans correction
+     */
+    public double getMeanCorrection() { return corrections == 0 ? 0 : totalCorrection / corrections; }
+
+    /**
+     * Retourne la plus grande distance de correction.
+     *
+     * @return Le maximum en pixels
+     */
+    public double getMaxCorrection() { return maxCorrection; }
+
+    /**
+     * Retourne la dernière distance de correction.
+     *
+     * @return La distance en pixels
+     */
+    public double getLastCorrection() { return lastCorrection; }
+}
@@ -0,0 +1,347 @@
+package bomberman.network;
+
+import bomberman.model.game.GameEventListener;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.GameStateSnapshot;
+import bomberman.model.game.PlayerInput;
+
+import java.util.Arrays;
+
+/**
+ * Session de jeu en réseau avec prédiction et retour en arrière (rollback).
+ * Contrairement au lockstep, la simulation n'attend pas les commandes des autres
+ * joueurs : la commande locale est jouée immédiatement et celles des joueurs
+ * distants sont prédites (répétition de leur dernière commande connue). Quand
+ * une commande distante arrive et contredit la prédiction, la partie est
+ * restaurée au tick précédant l'erreur puis re-simulée jusqu'au tick courant,
+ * dans la même frame.
+ *
+ * <p>Fonctionnement :</p>
+ * <ul>
+ *   <li>Après chaque tick, l'état complet est sauvegardé dans un anneau de
+ *       {@link GameStateSnapshot} préalloués</li>
+ *   <li>Les commandes utilisées pour chaque tick sont conservées avec un masque
+ *       des commandes confirmées</li>
+ *   <li>La simulation ne dépasse jamais le dernier tick confirmé de plus de
+ *       {@code maxRollback} ticks : au-delà, {@link #advance(int)} attend</li>
+ *   <li>Pendant la re-simulation, l'écouteur d'événements est coupé pour ne pas
+ *       rejouer les particules et sons</li>
+ * </ul>
+ *
+ * <p>Utilisation typique, à chaque frame :</p>
+ * <pre>
+ * // commandes reçues du réseau
+ * session.addRemoteInput(joueur, tick, commande);
+ * // commande locale
+ * if (session.advance(commandeLocale)) envoyer(session.getCurrentTick(), commandeLocale);
+ * </pre>
+ *
+ * <p>La partie doit être en mode déterministe ({@link GameManager#setSeed(long)})
+ * et initialisée avant la création de la session.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class RollbackSession {
+
+    /** Nombre de ticks de retour en arrière par défaut */
+    public static final int DEFAULT_MAX_ROLLBACK = 8;
+
+    /** Aucune re-simulation en attente */
+    private static final int NO_ROLLBACK = Integer.MAX_VALUE;
+
+    /** La partie simulée */
+    private final GameManager gameManager;
+
+    /** Nombre de joueurs */
+    private final int playerCount;
+
+    /** Indice du joueur local (0 à playerCount - 1) */
+    private final int localPlayer;
+
+    /** Nombre maximal de ticks prédits non confirmés */
+    private final int maxRollback;
+
+    /** Taille des anneaux de ticks */
+    private final int ring;
+
+    /** Masque des commandes confirmées d'un tick complet */
+    private final int allKnown;
+
+    /** États sauvegardés après chaque tick, indexés par tick modulo ring */
+    private final GameStateSnapshot[] snapshots;
+
+    /** Tick occupant chaque case des anneaux */
+    private final int[] slotTick;
+
+    /** Commandes jouées (ou à jouer) pour chaque tick, par joueur */
+    private final int[][] inputs;
+
+    /** Masque des joueurs dont la commande est confirmée, par tick */
+    private final int[] knownMask;
+
+    /** Dernière commande confirmée de chaque joueur, utilisée pour la prédiction */
+    private final int[] lastKnownInput;
+
+    /** Tick de la dernière commande confirmée de chaque joueur */
+    private final int[] lastKnownTick;
+
+    /** Dernier tick simulé */
+    private int currentTick;
+
+    /** Dernier tick dont toutes les commandes sont confirmées */
+    private int confirmedTick;
+
+    /** Premier tick mal prédit à re-simuler */
+    private int rollbackFrom = NO_ROLLBACK;
+
+    /** Nombre de retours en arrière effectués */
+    private int rollbackCount;
+
+    /** Nombre total de ticks re-simulés */
+    private long resimulatedTicks;
+
+    /** Durée du dernier retour en arrière en nanosecondes */
+    private long lastRollbackNanos;
+
+    /**
+     * Constructeur avec la profondeur de retour en arrière par défaut.
+     *
+     * @param gameManager La partie initialisée en mode déterministe
+     * @param playerCount Le nombre de joueurs
+     * @param localPlayer L'indice du joueur local (0 à playerCount - 1)
+     */
+    public RollbackSession(GameManager gameManager, int playerCount, int localPlayer) {
+        this(gameManager, playerCount, localPlayer, DEFAULT_MAX_ROLLBACK);
+    }
+
+    /**
+     * Constructeur de la session.
+     * Sauvegarde l'état initial de la partie comme tick 0, confirmé.
+     *
+     * @param gameManager La partie initialisée en mode déterministe
+     * @param playerCount Le nombre de joueurs
+     * @param localPlayer L'indice du joueur local (0 à playerCount - 1)
+     * @param maxRollback Le nombre maximal de ticks prédits non confirmés
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public RollbackSession(GameManager gameManager, int playerCount, int localPlayer, int maxRollback) {
+        if (playerCount < 1 || playerCount > 4) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + playerCount);
+        }
+        if (localPlayer < 0 || localPlayer >= playerCount) {
+            throw new IllegalArgumentException("Joueur local invalide : " + localPlayer);
+        }
+        if (maxRollback < 1 || maxRollback > LockstepProtocol.MAX_INPUT_DELAY) {
+            throw new IllegalArgumentException("Profondeur de rollback invalide : " + maxRollback);
+        }
+        this.gameManager = gameManager;
+        this.playerCount = playerCount;
+        this.localPlayer = localPlayer;
+        this.maxRollback = maxRollback;
+        // Les joueurs distants peuvent avoir jusqu'à maxRollback ticks d'avance sur nous
+        this.ring = 2 * (maxRollback + 1);
+        this.allKnown = (1 << playerCount) - 1;
+
+        this.snapshots = new GameStateSnapshot[ring];
+        for (int i = 0; i < ring; i++) {
+            snapshots[i] = new GameStateSnapshot();
+        }
+        this.slotTick = new int[ring];
+        Arrays.fill(slotTick, -1);
+        this.inputs = new int[ring][playerCount];
+        this.knownMask = new int[ring];
+        this.lastKnownInput = new int[playerCount];
+        this.lastKnownTick = new int[playerCount];
+
+        claimSlot(0);
+        knownMask[0] = allKnown;
+        snapshots[0].capture(gameManager);
+    }
+
+    // ==================== COMMANDES ====================
+
+    /**
+     * Enregistre la commande d'un joueur distant pour un tick.
+     * Si le tick a déjà été simulé avec une prédiction différente, une
+     * re-simulation est programmée pour le prochain {@link #advance(int)}.
+     *
+     * @param player L'indice du joueur (0 à playerCount - 1)
+     * @param tick Le tick auquel la commande s'applique
+     * @param input La commande ({@link PlayerInput})
+     * @return true si la commande a été prise en compte, false si elle est
+     *         dupliquée, déjà confirmée ou trop en avance
+     */
+    public boolean addRemoteInput(int player, int tick, int input) {
+        if (player < 0 || player >= playerCount || player == localPlayer) return false;
+        if (tick <= confirmedTick || tick > currentTick + maxRollback + 1) return false;
+
+        int slot = claimSlot(tick);
+        int bit = 1 << player;
+        if ((knownMask[slot] & bit) != 0) return false;
+
+        input &= PlayerInput.MASK;
+        if (tick <= currentTick && inputs[slot][player] != input) {
+            rollbackFrom = Math.min(rollbackFrom, tick);
+        }
+        inputs[slot][player] = input;
+        knownMask[slot] |= bit;
+        if (tick > lastKnownTick[player]) {
+            lastKnownTick[player] = tick;
+            lastKnownInput[player] = input;
+        }
+        updateConfirmedTick();
+        return true;
+    }
+
+    /**
+     * Simule le tick suivant avec la commande locale, après avoir corrigé
+     * les éventuelles erreurs de prédiction.
+     *
+     * @param localInput La commande du joueur local ({@link PlayerInput})
+     * @return true si un tick a été simulé, false si la session attend des
+     *         commandes distantes (trop de ticks non confirmés)
+     */
+    public boolean advance(int localInput) {
+        rollback();
+        if (currentTick - confirmedTick >= maxRollback) return false;
+
+        int tick = currentTick + 1;
+        int slot = claimSlot(tick);
+        inputs[slot][localPlayer] = localInput & PlayerInput.MASK;
+        knownMask[slot] |= 1 << localPlayer;
+        simulate(tick);
+        currentTick = tick;
+        updateConfirmedTick();
+        return true;
+    }
+
+    /**
+     * Re-simule les ticks mal prédits, s'il y en a.
+     * La partie est restaurée à l'état sauvegardé juste avant le premier tick
+     * erroné, puis chaque tick est rejoué avec les commandes désormais connues.
+     */
+    private void rollback() {
+        if (rollbackFrom > currentTick) {
+            rollbackFrom = NO_ROLLBACK;
+            return;
+        }
+        long start = System.nanoTime();
+        snapshots[(rollbackFrom - 1) % ring].restore(gameManager);
+
+        GameEventListener listener = gameManager.getEventListener();
+        gameManager.setEventListener(null);
+        try {
+            for (int tick = rollbackFrom; tick <= currentTick; tick++) {
+                simulate(tick);
+            }
+        } finally {
+            gameManager.setEventListener(listener);
+        }
+
+        rollbackCount++;
+        resimulatedTicks += currentTick - rollbackFrom + 1;
+        rollbackFrom = NO_ROLLBACK;
+        lastRollbackNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Simule un tick : complète les commandes inconnues par prédiction,
+     * avance la partie et sauvegarde l'état obtenu.
+     *
+     * @param tick Le tick à simuler
+     */
+    private void simulate(int tick) {
+        int slot = tick % ring;
+        int frame = 0;
+        for (int player = 0; player < playerCount; player++) {
+            if ((knownMask[slot] & (1 << player)) == 0) {
+                inputs[slot][player] = lastKnownInput[player];
+            }
+            frame = PlayerInput.pack(frame, player, inputs[slot][player]);
+        }
+        gameManager.step(frame);
+        snapshots[slot].capture(gameManager);
+    }
+
+    /**
+     * Réserve la case d'anneau d'un tick, en la vidant si elle servait à un ancien tick.
+     *
+     * @param tick Le tick
+     * @return L'indice de la case
+     */
+    private int claimSlot(int tick) {
+        int slot = tick % ring;
+        if (slotTick[slot] != tick) {
+            slotTick[slot] = tick;
+            knownMask[slot] = 0;
+            Arrays.fill(inputs[slot], PlayerInput.NONE);
+        }
+        return slot;
+    }
+
+    /**
+     * Avance le dernier tick confirmé tant que les ticks simulés suivants
+     * ont toutes leurs commandes confirmées.
+     */
+    private void updateConfirmedTick() {
+        while (confirmedTick < currentTick) {
+            int next = confirmedTick + 1;
+            int slot = next % ring;
+            if (slotTick[slot] != next || knownMask[slot] != allKnown) break;
+            confirmedTick = next;
+        }
+    }
+
+    // ==================== ÉTAT ====================
+
+    /**
+     * Retourne la partie simulée.
+     *
+     * @return Le gestionnaire de jeu
+     */
+    public GameManager getGameManager() { return gameManager; }
+
+    /**
+     * Retourne le dernier tick simulé (prédit ou confirmé).
+     *
+     * @return Le numéro du tick
+     */
+    public int getCurrentTick() { return currentTick; }
+
+    /**
+     * Retourne le dernier tick dont toutes les commandes sont confirmées.
+     *
+     * @return Le numéro du tick
+     */
+    public int getConfirmedTick() { return confirmedTick; }
+
+    /**
+     * Retourne la profondeur maximale de retour en arrière.
+     *
+     * @return Le nombre maximal de ticks prédits non confirmés
+     */
+    public int getMaxRollback() { return maxRollback; }
+
+    /**
+     * Retourne le nombre de retours en arrière effectués.
+     *
+     * @return Le nombre de rollbacks
+     */
+    public int getRollbackCount() { return rollbackCount; }
+
+    /**
+     * Retourne le nombre total de ticks re-simulés.
+     *
+     * @return Le nombre de ticks
+     */
+    public long getResimulatedTicks() { return resimulatedTicks; }
+
+    /**
+     * Retourne la durée du dernier retour en arrière (restauration et re-simulation).
+     *
+     * @return La durée en nanosecondes
+     */
+    public long getLastRollbackNanos() { return lastRollbackNanos; }
+}
@@ -0,0 +1,487 @@
+package bomberman.network;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.MatchReplay;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Salle de jeu hébergée par un {@link DedicatedServer}.
+ * La salle possède sa propre partie (mode déterministe et sans affichage) et la
+ * fait avancer à cadence fixe dès que tous les joueurs sont présents. Chaque
+ * tick applique la commande suivante de chaque joueur (ou maintient la
+ * précédente s'il n'en a pas envoyé), puis la trame appliquée est diffusée à
+ * tous les joueurs de la salle, avec pour chacun le numéro de sa dernière
+ * commande appliquée.
+ *
+ * <p>Les commandes reçues entre deux ticks sont mises en attente
+ * ({@value #MAX_PENDING_INPUTS} au plus par joueur) au lieu de s'écraser : un
+ * client qui envoie une commande par tick voit chacune appliquée exactement une
+ * fois, dans l'ordre, même si deux arrivent pendant le même tick.</p>
+ *
+ * <p>Ordonnancement :</p>
+ * <ul>
+ *   <li>Les salles ne possèdent pas de thread : chaque tick est une tâche
+ *       planifiée sur le petit pool partagé du serveur</li>
+ *   <li>Le tick suivant est planifié à l'heure idéale (cadence fixe, sans dérive)</li>
+ *   <li>Si la salle a plus de {@value #MAX_LAG_TICKS} ticks de retard, les ticks
+ *       en trop sont abandonnés au lieu d'être rattrapés en rafale (délestage)</li>
+ * </ul>
+ *
+ * <p>La partie est aussi publiée sur un {@link SpectatorFeed} (état binaire) et
+ * un {@link LiveEventFeed} (événements SSE) ; rien n'est capturé ni encodé
+ * tant que personne ne les suit.</p>
+ *
+ * <p>Chaque trame appliquée est aussi ajoutée à un {@link MatchReplay}, avec
+ * une image clé périodique : la partie peut être sauvegardée puis rejouée à
+ * l'identique, à partir de n'importe quel tick.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class ServerRoom {
+
+    /** Retard maximal rattrapé, en ticks ; au-delà les ticks sont abandonnés */
+    public static final int MAX_LAG_TICKS = 4;
+
+    /** Nombre maximal de commandes en attente par joueur ; au-delà, la plus ancienne est abandonnée */
+    public static final int MAX_PENDING_INPUTS = 4;
+
+    /** Identifiant de la salle */
+    private final int id;
+
+    /** Serveur hébergeant la salle */
+    private final DedicatedServer server;
+
+    /** Pool partagé exécutant les ticks */
+    private final ScheduledExecutorService scheduler;
+
+    /** Nombre de joueurs attendus */
+    private final int playerCount;
+
+    /** Graine de la partie */
+    private final long seed;
+
+    /** Partie simulée */
+    private final GameManager gameManager;
+
+    /** Connexions des joueurs, indexées par numéro de joueur - 1 */
+    private final DedicatedServer.Connection[] connections;
+
+    /** Copie des connexions utilisée pour la diffusion (thread de la salle uniquement) */
+    private final DedicatedServer.Connection[] targets;
+
+    /** Commandes reçues et pas encore appliquées, une file par joueur */
+    private final InputQueue[] pendingInputs;
+
+    /** Commande appliquée à chaque joueur, maintenue jusqu'à la suivante (thread de la salle uniquement) */
+    private final int[] inputs;
+
+    /** Numéro de la dernière commande appliquée de chaque joueur (thread de la salle uniquement) */
+    private final int[] acknowledged;
+
+    /** Mesures des durées de tick */
+    private final TickMetrics metrics = new TickMetrics();
+
+    /** Flux diffusé aux spectateurs */
+    private final SpectatorFeed spectatorFeed = new SpectatorFeed();
+
+    /** Flux d'événements SSE de la partie */
+    private final LiveEventFeed liveFeed = new LiveEventFeed();
+
+    /** Enregistrement des trames appliquées */
+    private final MatchReplay replay;
+
+    /** Message de trame réutilisé à chaque tick */
+    private final ByteBuffer frameMessage = ByteBuffer.allocate(DedicatedProtocol.FRAME_SIZE);
+
+    /** Nombre de joueurs présents */
+    private int joined;
+
+    /** Indique si la partie a commencé */
+    private volatile boolean started;
+
+    /** Indique si la salle est fermée */
+    private volatile boolean closed;
+
+    /** Heure idéale du prochain tick (System.nanoTime) */
+    private long nextTickTime;
+
+    /** Nombre de ticks simulés */
+    private volatile int tick;
+
+    /**
+     * Constructeur d'une salle.
+     * Génère la grille à partir de la graine ; la partie démarre quand la salle est pleine.
+     *
+     * @param id L'identifiant de la salle
+     * @param server Le serveur hébergeant la salle
+     * @param scheduler Le pool partagé exécutant les ticks
+     * @param playerCount Le nombre de joueurs attendus (2-4)
+     * @param seed La graine de la partie
+     */
+    ServerRoom(int id, DedicatedServer server, ScheduledExecutorService scheduler, int playerCount, long seed) {
+        this.id = id;
+        this.server = server;
+        this.scheduler = scheduler;
+        this.playerCount = playerCount;
+        this.seed = seed;
+        this.connections = new DedicatedServer.Connection[playerCount];
+        this.targets = new DedicatedServer.Connection[playerCount];
+        this.pendingInputs = new InputQueue[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            pendingInputs[i] = new InputQueue();
+        }
+        this.inputs = new int[playerCount];
+        this.acknowledged = new int[playerCount];
+        this.replay = new MatchReplay(playerCount, seed);
+
+        this.gameManager = GameManager.createSeededMatch(playerCount, seed, true);
+        liveFeed.attach(gameManager);
+    }
+
+    // ==================== JOUEURS ====================
+
+    /**
+     * Ajoute un joueur à la salle.
+     *
+     * @param connection La connexion du joueur
+     * @return L'indice attribué (numéro - 1), ou -1 si la salle est pleine ou commencée
+     */
+    synchronized int join(DedicatedServer.Connection connection) {
+        if (started || closed || joined == playerCount) return -1;
+        for (int i = 0; i < playerCount; i++) {
+            if (connections[i] == null) {
+                connections[i] = connection;
+                joined++;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retire un joueur de la salle. Ses commandes en attente sont abandonnées
+     * et sa commande est remise à zéro au tick suivant.
+     *
+     * @param connection La connexion du joueur
+     * @return true si plus aucun joueur n'est présent dans une partie commencée
+     */
+    synchronized boolean leave(DedicatedServer.Connection connection) {
+        for (int i = 0; i < playerCount; i++) {
+            if (connections[i] == connection) {
+                connections[i] = null;
+                pendingInputs[i].reset();
+                joined--;
+            }
+        }
+        return started && joined == 0;
+    }
+
+    /**
+     * Met en attente la commande d'un joueur ; elle sera appliquée à un tick
+     * suivant, puis maintenue jusqu'à la suivante. La pose de bombe n'est
+     * appliquée qu'une fois.
+     *
+     * @param player L'indice du joueur
+     * @param sequence Le numéro de la commande (tick local du client), renvoyé une fois appliquée
+     * @param input La commande ({@link PlayerInput})
+     */
+    void setInput(int player, int sequence, int input) {
+        if (player >= 0 && player < playerCount) {
+            pendingInputs[player].offer(sequence, input & PlayerInput.MASK);
+        }
+    }
+
+    /**
+     * Indique si tous les joueurs sont présents.
+     *
+     * @return true si la salle est pleine
+     */
+    synchronized boolean isFull() { return joined == playerCount; }
+
+    // ==================== SIMULATION ====================
+
+    /**
+     * Démarre la partie : le premier tick est planifié une durée de tick plus tard.
+     */
+    void start() {
+        started = true;
+        nextTickTime = System.nanoTime() + GameConstants.TICK_DURATION;
+        scheduler.schedule(this::run, GameConstants.TICK_DURATION, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Tâche d'un tick : délestage éventuel, simulation, mesure puis
+     * planification du tick suivant.
+     */
+    private void run() {
+        if (closed) return;
+        long start = System.nanoTime();
+        long lag = start - nextTickTime;
+        if (lag > MAX_LAG_TICKS * GameConstants.TICK_DURATION) {
+            long dropped = lag / GameConstants.TICK_DURATION;
+            metrics.recordShed(dropped);
+            nextTickTime += dropped * GameConstants.TICK_DURATION;
+        }
+
+        boolean ended;
+        try {
+            ended = simulateTick();
+        } catch (RuntimeException e) {
+            System.err.println("Salle " + id + " : erreur de simulation : " + e.getMessage());
+            server.closeRoom(this);
+            return;
+        }
+        metrics.record(System.nanoTime() - start);
+
+        if (ended) {
+            server.closeRoom(this);
+        } else if (!closed) {
+            nextTickTime += GameConstants.TICK_DURATION;
+            scheduler.schedule(this::run, Math.max(0, nextTickTime - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Simule un tick et diffuse la trame appliquée.
+     *
+     * @return true si la partie est terminée
+     */
+    private boolean simulateTick() {
+        int frame = 0;
+        for (int i = 0; i < playerCount; i++) {
+            long next = pendingInputs[i].poll();
+            if (next != InputQueue.EMPTY) {
+                acknowledged[i] = (int) (next >> 32);
+                inputs[i] = (int) next & PlayerInput.MASK;
+            }
+            int input = inputs[i];
+            if (PlayerInput.isBomb(input)) {
+                inputs[i] = input & ~PlayerInput.BOMB;
+            }
+            frame = PlayerInput.pack(frame, i, input);
+        }
+        gameManager.step(frame);
+        replay.record(frame, gameManager);
+        tick++;
+
+        frameMessage.clear();
+        frameMessage.put(DedicatedProtocol.FRAME).putInt(tick).putShort((short) frame).putInt(0).flip();
+        broadcast(frameMessage, true);
+        spectatorFeed.publish(gameManager);
+        liveFeed.publish(gameManager);
+
+        if (gameManager.isGameRunning()) return false;
+
+        int winner = 0;
+        for (GamePlayer player : gameManager.getPlayers()) {
+            if (!player.getStats().isEliminated()) {
+                winner = player.getPlayerNumber();
+            }
+        }
+        ByteBuffer end = ByteBuffer.allocate(DedicatedProtocol.END_SIZE);
+        end.put(DedicatedProtocol.END).putInt(tick).put((byte) winner).flip();
+        broadcast(end, false);
+        liveFeed.end(tick, winner);
+        return true;
+    }
+
+    /**
+     * Envoie un message à tous les joueurs présents. Un joueur trop lent
+     * pour absorber les messages est déconnecté.
+     *
+     * @param message Le message (sa position n'est pas modifiée)
+     * @param frame true pour un message FRAME : chaque joueur y reçoit le numéro
+     *              de sa dernière commande appliquée
+     */
+    private void broadcast(ByteBuffer message, boolean frame) {
+        synchronized (this) {
+            System.arraycopy(connections, 0, targets, 0, playerCount);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            DedicatedServer.Connection connection = targets[i];
+            if (frame) {
+                message.putInt(DedicatedProtocol.FRAME_ACK_OFFSET, acknowledged[i]);
+            }
+            if (connection != null && !connection.send(message)) {
+                server.disconnect(connection);
+            }
+            targets[i] = null;
+        }
+    }
+
+    /**
+     * Ferme la salle : plus aucun tick n'est exécuté et les joueurs sont détachés.
+     * Appelée uniquement par le serveur.
+     */
+    void close() {
+        closed = true;
+        spectatorFeed.end();
+        liveFeed.end(tick, -1);
+        synchronized (this) {
+            for (int i = 0; i < playerCount; i++) {
+                if (connections[i] != null) {
+                    connections[i].detach(this);
+                    connections[i] = null;
+                }
+            }
+            joined = 0;
+        }
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne l'identifiant de la salle.
+     *
+     * @return L'identifiant
+     */
+    public int getId() { return id; }
+
+    /**
+     * Retourne le nombre de joueurs attendus.
+     *
+     * @return Le nombre de joueurs
+     */
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * Retourne le nombre de joueurs présents.
+     *
+     * @return Le nombre de joueurs connectés à la salle
+     */
+    public synchronized int getJoinedCount() { return joined; }
+
+    /**
+     * Retourne la graine de la partie.
+     *
+     * @return La graine
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Retourne le nombre de ticks simulés.
+     *
+     * @return Le numéro du dernier tick
+     */
+    public int getTick() { return tick; }
+
+    /**
+     * Indique si la partie a commencé.
+     *
+     * @return true si la salle est pleine et simulée
+     */
+    public boolean isStarted() { return started; }
+
+    /**
+     * Indique si la salle est fermée.
+     *
+     * @return true si la partie est terminée ou abandonnée
+     */
+    public boolean isClosed() { return closed; }
+
+    /**
+     * Retourne les mesures des durées de tick de la salle.
+     *
+     * @return Les mesures
+     */
+    public TickMetrics getMetrics() { return metrics; }
+
+    /**
+     * Retourne le flux diffusé aux spectateurs de la salle.
+     *
+     * @return Le flux des spectateurs
+     */
+    public SpectatorFeed getSpectatorFeed() { return spectatorFeed; }
+
+    /**
+     * Retourne le flux d'événements SSE de la salle.
+     *
+     * @return Le flux d'événements
+     */
+    public LiveEventFeed getLiveFeed() { return liveFeed; }
+
+    /**
+     * Retourne l'enregistrement des trames appliquées depuis le début de la partie.
+     *
+     * @return L'enregistrement de la partie
+     */
+    public MatchReplay getReplay() { return replay; }
+
+    /**
+     * Retourne la partie simulée. Elle n'est modifiée que par le thread
+     * exécutant le tick en cours : à ne lire qu'une fois la salle fermée.
+     *
+     * @return Le gestionnaire de jeu de la salle
+     */
+    public GameManager getGameManager() { return gameManager; }
+
+    /**
+     * File des commandes d'un joueur en attente d'application : remplie par le
+     * thread d'entrées-sorties du serveur, vidée par le tick de la salle.
+     * Chaque commande est rangée avec son numéro dans un long
+     * (numéro sur les 32 bits de poids fort).
+     */
+    private static final class InputQueue {
+
+        /** Valeur retournée par {@link #poll()} quand la file est vide */
+        static final long EMPTY = -1;
+
+        /** Commandes en attente, tableau circulaire */
+        private final long[] entries = new long[MAX_PENDING_INPUTS];
+
+        /** Indice de la plus ancienne commande */
+        private int head;
+
+        /** Nombre de commandes en attente */
+        private int count;
+
+        /**
+         * Ajoute une commande. File pleine : la plus ancienne est abandonnée,
+         * mais sa pose de bombe est reportée sur la suivante.
+         *
+         * @param sequence Le numéro de la commande
+         * @param input La commande
+         */
+        synchronized void offer(int sequence, int input) {
+            if (count == entries.length) {
+                int bomb = (int) entries[head] & PlayerInput.BOMB;
+                head = (head + 1) % entries.length;
+                count--;
+                entries[head] |= bomb;
+            }
+            entries[(head + count) % entries.length] = (long) sequence << 32 | input;
+            count++;
+        }
+
+        /**
+         * Retire la plus ancienne commande.
+         *
+         * @return La commande et son numéro, ou {@link #EMPTY}
+         */
+        synchronized long poll() {
+            if (count == 0) return EMPTY;
+            long entry = entries[head];
+            head = (head + 1) % entries.length;
+            count--;
+            return entry;
+        }
+
+        /**
+         * Abandonne les commandes en attente ; la commande maintenue redevient
+         * {@link PlayerInput#NONE} au tick suivant.
+         */
+        synchronized void reset() {
+            head = 0;
+            count = 1;
+            entries[0] = PlayerInput.NONE;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package bomberman.network;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+
+/**
+ * Client spectateur d'un {@link SpectatorServer}.
+ * Le spectateur ne simule rien : il décode les états reçus ({@link StateCodec})
+ * et conserve le dernier, prêt à être affiché. Les deltas dont la base manque
+ * (arrivée en cours de flux, messages sautés par le serveur) sont ignorés
+ * jusqu'à l'image clé suivante.
+ *
+ * <p>La réception tourne dans un thread virtuel.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpectatorClient implements AutoCloseable {
+
+    /** Socket connectée au serveur */
+    private final Socket socket;
+
+    /** Flux entrant */
+    private final DataInputStream in;
+
+    /** Identifiant de la salle suivie */
+    private final int roomId;
+
+    /** États reçus, bases possibles des prochains deltas */
+    private final StateHistory history = new StateHistory();
+
+    /** État en cours de décodage (thread de réception uniquement) */
+    private final NetworkState decoded = new NetworkState();
+
+    /** Dernier état reçu complet, protégé par le verrou du client */
+    private final NetworkState state = new NetworkState();
+
+    /** Nombre d'états décodés */
+    private long receivedFrames;
+
+    /** Nombre de messages ignorés faute de base */
+    private long missedFrames;
+
+    /** Nombre d'octets reçus */
+    private long receivedBytes;
+
+    /** Indique si la connexion est ouverte */
+    private volatile boolean connected;
+
+    /**
+     * Se connecte au serveur et demande à suivre une salle.
+     *
+     * @param host L'adresse du serveur
+     * @param port Le port des spectateurs
+     * @param roomId La salle à suivre
+     * @throws IOException en cas d'erreur de connexion
+     */
+    public SpectatorClient(String host, int port, int roomId) throws IOException {
+        this.roomId = roomId;
+        this.socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeByte(DedicatedProtocol.WATCH);
+        out.writeInt(roomId);
+        out.flush();
+        this.connected = true;
+
+        Thread.ofVirtual().name("spectator-client-" + roomId).start(this::readStates);
+    }
+
+    // ==================== RÉCEPTION ====================
+
+    /**
+     * Lit et décode en boucle les états du serveur jusqu'à la fin du flux.
+     */
+    private void readStates() {
+        ByteBuffer message = ByteBuffer.allocate(StateCodec.MAX_MESSAGE_SIZE);
+        try {
+            while (connected) {
+                int length = in.readInt();
+                if (length <= 0 || length > StateCodec.MAX_MESSAGE_SIZE) {
+                    throw new IOException("Taille de message invalide : " + length);
+                }
+                message.clear().limit(length);
+                in.readFully(message.array(), 0, length);
+
+                boolean complete = StateCodec.decode(message, history, decoded);
+                synchronized (this) {
+                    receivedBytes += Integer.BYTES + length;
+                    if (complete) {
+                        history.record(decoded);
+                        state.copyFrom(decoded);
+                        receivedFrames++;
+                    } else {
+                        missedFrames++;
+                    }
+                    notifyAll();
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            if (connected && !(e instanceof EOFException)) {
+                System.err.println("Spectateur : connexion au serveur perdue : " + e.getMessage());
+            }
+        } finally {
+            connected = false;
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Attend qu'un état d'un tick donné (ou plus récent) ait été reçu.
+     *
+     * @param target Le tick attendu
+     * @param timeoutMillis Le délai d'attente maximal en millisecondes
+     * @return true si le tick est atteint, false en cas de délai dépassé ou de fin du flux
+     * @throws InterruptedException si l'attente est interrompue
+     */
+    public synchronized boolean awaitTick(int target, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while ((receivedFrames == 0 || state.getTick() < target) && connected) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+            wait(remaining);
+        }
+        return receivedFrames > 0 && state.getTick() >= target;
+    }
+
+    // ==================== ÉTAT ====================
+
+    /**
+     * Recopie le dernier état reçu.
+     *
+     * @param into L'état à remplir
+     * @return false si aucun état complet n'a encore été reçu
+     */
+    public synchronized boolean copyState(NetworkState into) {
+        if (receivedFrames == 0) return false;
+        into.copyFrom(state);
+        return true;
+    }
+
+    /**
+     * Retourne le tick du dernier état reçu.
+     *
+     * @return Le tick, 0 avant le premier état
+     */
+    public synchronized int getTick() { return receivedFrames == 0 ? 0 : state.getTick(); }
+
+    /**
+     * Retourne l'identifiant de la salle suivie.
+     *
+     * @return L'identifiant
+     */
+    public int getRoomId() { return roomId; }
+
+    /**
+     * Retourne le nombre d'états décodés.
+     *
+     * @return Le nombre d'états
+     */
+    public synchronized long getReceivedFrames() { return receivedFrames; }
+
+    /**
+     * Retourne le nombre de messages ignorés faute d'état de base.
+     *
+     * @return Le nombre de messages
+     */
+    public synchronized long getMissedFrames() { return missedFrames; }
+
+    /**
+     * Retourne le nombre d'octets reçus.
+     *
+     * @return Le nombre d'octets, préfixes de longueur compris
+     */
+    public synchronized long getReceivedBytes() { return receivedBytes; }
+
+    /**
+     * Indique si la connexion au serveur est ouverte.
+     *
+     * @return true tant que le flux n'est pas terminé
+     */
+    public boolean isConnected() { return connected; }
+
+    /**
+     * Ferme la connexion au serveur.
+     */
+    @Override
+    public void close() {
+        connected = false;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture du spectateur : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.RenderSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Flux d'une partie destiné aux spectateurs.
+ * Tous les {@value StateCodec#SNAPSHOT_INTERVAL} ticks, l'instantané de rendu
+ * (le même état que celui consommé par le renderer) est converti en
+ * {@link NetworkState} puis encodé <strong>une seule fois</strong> dans un tampon
+ * en lecture seule ; chaque spectateur reçoit une vue ({@link ByteBuffer#duplicate()})
+ * de ce tampon : aucune copie n'est faite par spectateur, quel que soit leur nombre.
+ *
+ * <p>Chaque message est un delta par rapport au message précédent, avec une
+ * image clé tous les {@value #KEYFRAME_INTERVAL} messages. Un spectateur qui
+ * arrive reçoit la dernière image clé et les deltas suivants ; un spectateur
+ * trop lent abandonne ses messages en attente et reprend à l'image clé suivante
+ * (voir {@link FrameQueue}).</p>
+ *
+ * <p>Format d'un message : longueur (4 o) puis message {@link StateCodec}.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpectatorFeed {
+
+    /** Nombre de messages entre deux images clés (3 secondes) */
+    public static final int KEYFRAME_INTERVAL = 30;
+
+    /**
+     * Destinataire des messages d'un flux (une connexion de spectateur).
+     */
+    public interface Viewer {
+
+        /**
+         * Propose un message au spectateur. Appelée par le thread de simulation :
+         * ne doit pas bloquer.
+         *
+         * @param frame Une vue en lecture seule du message partagé
+         * @param keyframe true si le message est une image clé
+         * @return false si le spectateur est parti (il est alors retiré du flux)
+         */
+        boolean offer(ByteBuffer frame, boolean keyframe);
+
+        /**
+         * Signale la fin du flux (partie terminée).
+         */
+        void end();
+    }
+
+    /** Spectateurs abonnés */
+    private final List<Viewer> viewers = new CopyOnWriteArrayList<>();
+
+    /** Messages depuis la dernière image clé, pour les spectateurs qui arrivent */
+    private final List<ByteBuffer> sinceKeyframe = new ArrayList<>();
+
+    /** Instantané utilisé pour capturer une partie sans affichage */
+    private final RenderSnapshot snapshot = new RenderSnapshot();
+
+    /** État en cours d'encodage */
+    private final NetworkState current = new NetworkState();
+
+    /** Dernier état encodé, base du prochain delta */
+    private final NetworkState previous = new NetworkState();
+
+    /** Tampon d'encodage réutilisé */
+    private final ByteBuffer scratch = ByteBuffer.allocate(Integer.BYTES + StateCodec.MAX_MESSAGE_SIZE);
+
+    /** Indique si {@link #previous} contient un état */
+    private boolean hasPrevious;
+
+    /** Nombre de messages encodés */
+    private long encodedFrames;
+
+    /** Nombre d'octets encodés */
+    private long encodedBytes;
+
+    /** Indique si le flux est terminé */
+    private boolean ended;
+
+    // ==================== PUBLICATION ====================
+
+    /**
+     * Publie l'état d'une partie si le tick courant est un tick d'envoi et
+     * qu'au moins un spectateur suit le flux. Appelée après chaque tick par
+     * le thread de simulation.
+     *
+     * @param gameManager La partie à diffuser
+     */
+    public void publish(GameManager gameManager) {
+        if (viewers.isEmpty() || gameManager.getTickCount() % StateCodec.SNAPSHOT_INTERVAL != 0) return;
+        snapshot.capture(gameManager);
+        publish(snapshot);
+    }
+
+    /**
+     * Encode un instantané et le distribue à tous les spectateurs.
+     * Sans spectateur, rien n'est encodé et le prochain message sera une image clé.
+     *
+     * @param renderSnapshot L'instantané à diffuser
+     */
+    public synchronized void publish(RenderSnapshot renderSnapshot) {
+        if (ended) return;
+        if (viewers.isEmpty()) {
+            hasPrevious = false;
+            sinceKeyframe.clear();
+            return;
+        }
+
+        current.capture(renderSnapshot);
+        boolean keyframe = !hasPrevious || sinceKeyframe.size() >= KEYFRAME_INTERVAL;
+        scratch.clear();
+        scratch.position(Integer.BYTES);
+        int size = StateCodec.encode(current, keyframe ? null : previous, scratch);
+        scratch.putInt(0, size).flip();
+
+        // Copie unique dans un tampon direct : les écritures sur les sockets l'utilisent tel quel
+        ByteBuffer frame = ByteBuffer.allocateDirect(scratch.remaining()).put(scratch).flip().asReadOnlyBuffer();
+        previous.copyFrom(current);
+        hasPrevious = true;
+        if (keyframe) {
+            sinceKeyframe.clear();
+        }
+        sinceKeyframe.add(frame);
+        encodedFrames++;
+        encodedBytes += frame.remaining();
+
+        for (Viewer viewer : viewers) {
+            if (!viewer.offer(frame.duplicate(), keyframe)) {
+                viewers.remove(viewer);
+            }
+        }
+    }
+
+    // ==================== SPECTATEURS ====================
+
+    /**
+     * Abonne un spectateur. Il reçoit immédiatement la dernière image clé et
+     * les deltas suivants, puis les messages au fil de la partie.
+     *
+     * @param viewer Le spectateur
+     */
+    public synchronized void addViewer(Viewer viewer) {
+        if (ended) {
+            viewer.end();
+            return;
+        }
+        for (int i = 0; i < sinceKeyframe.size(); i++) {
+            if (!viewer.offer(sinceKeyframe.get(i).duplicate(), i == 0)) return;
+        }
+        viewers.add(viewer);
+    }
+
+    /**
+     * Désabonne un spectateur.
+     *
+     * @param viewer Le spectateur
+     */
+    public void removeViewer(Viewer viewer) {
+        viewers.remove(viewer);
+    }
+
+    /**
+     * Termine le flux : les spectateurs sont prévenus puis désabonnés.
+     */
+    public synchronized void end() {
+        if (ended) return;
+        ended = true;
+        for (Viewer viewer : viewers) {
+            viewer.end();
+        }
+        viewers.clear();
+        sinceKeyframe.clear();
+    }
+
+    // ==================== ACCESSEURS ====================
+
+    /**
+     * Retourne le nombre de spectateurs abonnés.
+     *
+     * @return Le nombre de spectateurs
+     */
+    public int getViewerCount() { return viewers.size(); }
+
+    /**
+     * Retourne le nombre de messages encodés (une fois pour tous les spectateurs).
+     *
+     * @return Le nombre de messages
+     */
+    public synchronized long getEncodedFrames() { return encodedFrames; }
+
+    /**
+     * Retourne le nombre d'octets encodés (une fois pour tous les spectateurs).
+     *
+     * @return Le nombre d'octets, préfixes de longueur compris
+     */
+    public synchronized long getEncodedBytes() { return encodedBytes; }
+
+    /**
+     * Indique si le flux est terminé.
+     *
+     * @return true si la partie est finie
+     */
+    public synchronized boolean isEnded() { return ended; }
+}
@@ -0,0 +1,407 @@
+package bomberman.network;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Serveur de spectateurs : diffuse les {@link SpectatorFeed} des parties à un
+ * grand nombre de connexions en lecture seule.
+ * Un spectateur envoie un message WATCH avec l'identifiant de la salle, puis
+ * reçoit les états de la partie jusqu'à sa fin. Une salle inconnue ferme la connexion.
+ *
+ * <p>Comme pour le {@link DedicatedServer}, un seul thread et un {@link Selector}
+ * gèrent toutes les connexions. Les messages sont écrits directement depuis les
+ * tampons partagés du flux ; un spectateur lent ne retient que
+ * {@value FrameQueue#DEFAULT_CAPACITY} messages au plus, puis reprend à l'image
+ * clé suivante.</p>
+ *
+ * <p>Utilisation typique :</p>
+ * <pre>
+ * SpectatorServer spectators = new SpectatorServer(7779, dedicatedServer::getSpectatorFeed);
+ * spectators.start();
+ * // Chaque spectateur : new SpectatorClient("hote", 7779, salle)
+ * </pre>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class SpectatorServer implements AutoCloseable {
+
+    /** Canal d'écoute des connexions */
+    private final ServerSocketChannel serverChannel;
+
+    /** Sélecteur de toutes les connexions */
+    private final Selector selector;
+
+    /** Recherche du flux d'une salle (null si la salle n'existe pas) */
+    private final IntFunction<SpectatorFeed> feeds;
+
+    /** Spectateurs connectés */
+    private final Set<Spectator> spectators = ConcurrentHashMap.newKeySet();
+
+    /** Messages abandonnés par les spectateurs déconnectés */
+    private final AtomicLong closedSkippedFrames = new AtomicLong();
+
+    /** Octets envoyés aux spectateurs déconnectés */
+    private final AtomicLong closedSentBytes = new AtomicLong();
+
+    /** Indique si le serveur tourne */
+    private volatile boolean running;
+
+    /** Thread de la boucle réseau, null avant le démarrage */
+    private volatile Thread ioThread;
+
+    /**
+     * Constructeur du serveur. Ouvre le port d'écoute sans accepter de connexion.
+     *
+     * @param port Le port d'écoute (0 pour un port libre choisi par le système)
+     * @param feeds La recherche du flux d'une salle par identifiant
+     * @throws IOException si le port ne peut pas être ouvert
+     */
+    public SpectatorServer(int port, IntFunction<SpectatorFeed> feeds) throws IOException {
+        this.feeds = feeds;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        serverChannel.configureBlocking(false);
+    }
+
+    /**
+     * Démarre la boucle réseau dans un thread dédié.
+     *
+     * @throws IOException si le canal d'écoute ne peut pas être enregistré
+     */
+    public void start() throws IOException {
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        Thread thread = new Thread(this::runSelector, "spectator-server-io");
+        thread.setDaemon(true);
+        ioThread = thread;
+        thread.start();
+    }
+
+    // ==================== RÉSEAU ====================
+
+    /**
+     * Boucle réseau : traite les événements du sélecteur jusqu'à l'arrêt, puis
+     * ferme les connexions et le sélecteur.
+     */
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Spectator spectator = (Spectator) key.attachment();
+                        if (key.isReadable()) {
+                            read(spectator);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            spectator.flush();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                System.err.println("Serveur de spectateurs : erreur réseau : " + e.getMessage());
+            }
+        } finally {
+            closeChannels();
+        }
+    }
+
+    /**
+     * Déconnecte tous les spectateurs et ferme le sélecteur et le canal d'écoute.
+     */
+    private void closeChannels() {
+        try {
+            for (Spectator spectator : spectators) {
+                disconnect(spectator);
+            }
+            selector.close();
+            serverChannel.close();
+        } catch (IOException | ClosedSelectorException e) {
+            System.err.println("Erreur lors de l'arrêt du serveur de spectateurs : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Accepte les connexions en attente.
+     *
+     * @throws IOException en cas d'erreur du canal d'écoute
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            Spectator spectator = new Spectator(this, channel, key);
+            key.attach(spectator);
+            spectators.add(spectator);
+        }
+    }
+
+    /**
+     * Lit la demande de suivi d'un spectateur ; tout autre message le déconnecte.
+     *
+     * @param spectator Le spectateur prêt en lecture
+     */
+    private void read(Spectator spectator) {
+        ByteBuffer in = spectator.in;
+        try {
+            if (spectator.channel.read(in) < 0) {
+                disconnect(spectator);
+                return;
+            }
+        } catch (IOException e) {
+            disconnect(spectator);
+            return;
+        }
+        if (in.position() < DedicatedProtocol.WATCH_SIZE) return;
+
+        in.flip();
+        SpectatorFeed feed = null;
+        if (spectator.feed == null && in.get() == DedicatedProtocol.WATCH) {
+            feed = feeds.apply(in.getInt());
+        }
+        in.clear();
+        if (feed == null) {
+            disconnect(spectator);
+            return;
+        }
+        spectator.feed = feed;
+        feed.addViewer(spectator);
+    }
+
+    /**
+     * Ferme la connexion d'un spectateur et le désabonne de son flux.
+     * Sans effet si elle est déjà fermée.
+     *
+     * @param spectator Le spectateur
+     */
+    void disconnect(Spectator spectator) {
+        if (!spectator.markClosed()) return;
+        spectators.remove(spectator);
+        closedSkippedFrames.addAndGet(spectator.getSkippedFrames());
+        closedSentBytes.addAndGet(spectator.getSentBytes());
+        if (spectator.feed != null) {
+            spectator.feed.removeViewer(spectator);
+        }
+        spectator.key.cancel();
+        try {
+            spectator.channel.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la fermeture d'un spectateur : " + e.getMessage());
+        }
+    }
+
+    // ==================== MESURES ====================
+
+    /**
+     * Retourne le nombre de spectateurs connectés.
+     *
+     * @return Le nombre de connexions
+     */
+    public int getSpectatorCount() { return spectators.size(); }
+
+    /**
+     * Retourne le nombre de messages abandonnés par des spectateurs trop lents.
+     *
+     * @return Le nombre de messages sautés, connexions fermées comprises
+     */
+    public long getSkippedFrames() {
+        long total = closedSkippedFrames.get();
+        for (Spectator spectator : spectators) {
+            total += spectator.getSkippedFrames();
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le nombre d'octets envoyés aux spectateurs.
+     *
+     * @return Le nombre d'octets, connexions fermées comprises
+     */
+    public long getSentBytes() {
+        long total = closedSentBytes.get();
+        for (Spectator spectator : spectators) {
+            total += spectator.getSentBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le port d'écoute effectif.
+     *
+     * @return Le port
+     */
+    public int getPort() { return serverChannel.socket().getLocalPort(); }
+
+    /**
+     * Arrête le serveur : réveille la boucle réseau qui ferme les connexions en
+     * sortant, et attend la fin de son thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread thread = ioThread;
+        if (thread == null) {
+            // Jamais démarré : aucune boucle pour fermer les canaux
+            closeChannels();
+            return;
+        }
+        selector.wakeup();
+        if (thread == Thread.currentThread()) return;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Connexion non bloquante d'un spectateur.
+     */
+    static final class Spectator implements SpectatorFeed.Viewer {
+
+        /** Serveur propriétaire */
+        private final SpectatorServer server;
+
+        /** Canal du spectateur */
+        final SocketChannel channel;
+
+        /** Clé d'enregistrement auprès du sélecteur */
+        final SelectionKey key;
+
+        /** Tampon d'entrée (thread réseau uniquement) */
+        final ByteBuffer in = ByteBuffer.allocate(DedicatedProtocol.WATCH_SIZE);
+
+        /** Messages en attente, protégés par le verrou du spectateur */
+        private final FrameQueue queue = new FrameQueue(FrameQueue.DEFAULT_CAPACITY);
+
+        /** Flux suivi, null avant la demande de suivi */
+        volatile SpectatorFeed feed;
+
+        /** Indique si la fin du flux a été annoncée */
+        private boolean ending;
+
+        /** Indique si la connexion est fermée */
+        private boolean closed;
+
+        /**
+         * Constructeur d'un spectateur.
+         *
+         * @param server Le serveur propriétaire
+         * @param channel Le canal du spectateur
+         * @param key La clé d'enregistrement
+         */
+        Spectator(SpectatorServer server, SocketChannel channel, SelectionKey key) {
+            this.server = server;
+            this.channel = channel;
+            this.key = key;
+        }
+
+        @Override
+        public boolean offer(ByteBuffer frame, boolean keyframe) {
+            synchronized (this) {
+                if (closed) return false;
+                if (!queue.offer(frame, keyframe)) return true;
+                if (write()) return true;
+            }
+            server.disconnect(this);
+            return false;
+        }
+
+        @Override
+        public void end() {
+            boolean drained;
+            synchronized (this) {
+                ending = true;
+                drained = queue.isEmpty();
+            }
+            if (drained) {
+                server.disconnect(this);
+            }
+        }
+
+        /**
+         * Termine l'envoi des messages quand le canal redevient disponible.
+         */
+        void flush() {
+            boolean done;
+            synchronized (this) {
+                done = !closed && (!write() || ending && queue.isEmpty());
+            }
+            if (done) {
+                server.disconnect(this);
+            }
+        }
+
+        /**
+         * Écrit autant que possible des messages en attente et n'attend la
+         * disponibilité du canal (OP_WRITE) que s'il en reste.
+         *
+         * @return false si la connexion est rompue
+         */
+        private boolean write() {
+            try {
+                queue.writeTo(channel);
+                int ops = queue.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+                if (key.interestOps() != ops) {
+                    key.interestOps(ops);
+                    key.selector().wakeup();
+                }
+                return true;
+            } catch (IOException | CancelledKeyException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Retourne le nombre de messages abandonnés.
+         *
+         * @return Le nombre de messages sautés
+         */
+        synchronized long getSkippedFrames() { return queue.getSkippedFrames(); }
+
+        /**
+         * Retourne le nombre d'octets envoyés.
+         *
+         * @return Le nombre d'octets
+         */
+        synchronized long getSentBytes() { return queue.getSentBytes(); }
+
+        /**
+         * Marque la connexion comme fermée.
+         *
+         * @return true si elle était encore ouverte
+         */
+        synchronized boolean markClosed() {
+            if (closed) return false;
+            closed = true;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,565 @@
+package bomberman.network;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Format binaire compact des états de partie ({@link NetworkState}).
+ * Un message est soit une image clé (état complet), soit un delta par rapport
+ * à un état de base que le client a confirmé avoir reçu. Les entiers sont codés
+ * en varint (7 bits par octet) et les valeurs signées en zigzag ; les champs
+ * inchangés ne sont pas transmis du tout.
+ *
+ * <p>Format d'un message :</p>
+ * <pre>
+ * drapeaux (1 o)  : IMAGE_CLE | GRILLE | JOUEURS | BOMBES | POUSSÉES | FLAMMES | POWER_UPS
+ * tick            : varint
+ * écart de base   : varint (tick - tick de base), absent pour une image clé
+ * GRILLE          : image clé : largeur, hauteur, plages (longueur - 1) &lt;&lt; 3 | type
+ *                   delta : nombre, puis (écart d'indice) &lt;&lt; 3 | type par cellule modifiée
+ * JOUEURS         : image clé : nombre, puis tous les champs de chaque joueur
+ *                   delta : masque des joueurs modifiés (1 o), puis par joueur un
+ *                   masque de champs (1 o) et les écarts zigzag des champs modifiés
+ * ENSEMBLES       : nombre d'entrées retirées et leurs écarts d'indice, puis nombre
+ *                   d'entrées ajoutées et leurs champs (premier champ en écart trié,
+ *                   échéances relatives au tick)
+ * </pre>
+ *
+ * <p>Les bombes et flammes étant stockées par échéance, une bombe qui s'écoule
+ * ne coûte rien : seuls les apparitions, disparitions et déplacements sont envoyés.
+ * Un état est en général envoyé tous les {@value #SNAPSHOT_INTERVAL} ticks.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public final class StateCodec {
+
+    /** Intervalle recommandé entre deux états envoyés, en ticks (10 par seconde) */
+    public static final int SNAPSHOT_INTERVAL = 6;
+
+    /** Taille de tampon suffisante pour n'importe quel message sur une grille standard */
+    public static final int MAX_MESSAGE_SIZE = 8192;
+
+    /** Drapeau : image clé (pas d'état de base) */
+    static final int KEYFRAME = 1;
+
+    /** Drapeau : section grille présente */
+    static final int GRID = 2;
+
+    /** Drapeau : section joueurs présente */
+    static final int PLAYERS = 4;
+
+    /** Drapeau : section bombes présente */
+    static final int BOMBS = 8;
+
+    /** Drapeau : section bombes poussées présente */
+    static final int MOVING_BOMBS = 16;
+
+    /** Drapeau : section flammes présente */
+    static final int FLAMES = 32;
+
+    /** Drapeau : section power-ups présente */
+    static final int POWER_UPS = 64;
+
+    /** Champ d'entrée : écart trié par rapport à l'entrée précédente */
+    private static final int GAP = 0;
+
+    /** Champ d'entrée : échéance relative au tick (zigzag) */
+    private static final int TIME = 1;
+
+    /** Champ d'entrée : valeur signée (zigzag) */
+    private static final int PLAIN = 2;
+
+    /** Nature des champs des bombes : cellule, échéance */
+    private static final int[] BOMB_FIELDS = {GAP, TIME};
+
+    /** Nature des champs des bombes poussées : pixel X, pixel Y, échéance */
+    private static final int[] MOVING_BOMB_FIELDS = {GAP, PLAIN, TIME};
+
+    /** Nature des champs des flammes : cellule, échéance, durée */
+    private static final int[] FLAME_FIELDS = {GAP, TIME, PLAIN};
+
+    /** Nature des champs des power-ups : cellule, type */
+    private static final int[] POWER_UP_FIELDS = {GAP, PLAIN};
+
+    /** État vide servant de base aux images clés */
+    private static final NetworkState EMPTY = new NetworkState();
+
+    /**
+     * Constructeur privé : classe utilitaire.
+     */
+    private StateCodec() {}
+
+    // ==================== ENCODAGE ====================
+
+    /**
+     * Encode un état, en delta si une base est fournie, sinon en image clé.
+     * Une base de grille ou de nombre de joueurs différent force une image clé.
+     *
+     * @param current L'état à envoyer
+     * @param baseline L'état confirmé par le destinataire, ou null
+     * @param out Le tampon de sortie ({@link #MAX_MESSAGE_SIZE} octets suffisent)
+     * @return Le nombre d'octets écrits
+     */
+    public static int encode(NetworkState current, NetworkState baseline, ByteBuffer out) {
+        boolean keyframe = baseline == null || baseline.gridWidth != current.gridWidth
+                || baseline.gridHeight != current.gridHeight || baseline.playerCount != current.playerCount;
+        NetworkState base = keyframe ? EMPTY : baseline;
+        int start = out.position();
+
+        int flags = keyframe ? KEYFRAME | GRID | PLAYERS | BOMBS | MOVING_BOMBS | FLAMES | POWER_UPS : 0;
+        if (!keyframe) {
+            if (!Arrays.equals(current.cells, base.cells)) flags |= GRID;
+            if (playersChanged(current, base)) flags |= PLAYERS;
+            if (!current.bombs.contentEquals(base.bombs)) flags |= BOMBS;
+            if (!current.movingBombs.contentEquals(base.movingBombs)) flags |= MOVING_BOMBS;
+            if (!current.flames.contentEquals(base.flames)) flags |= FLAMES;
+            if (!current.powerUps.contentEquals(base.powerUps)) flags |= POWER_UPS;
+        }
+
+        out.put((byte) flags);
+        writeVarint(out, current.tick);
+        if (!keyframe) {
+            writeVarint(out, current.tick - baseline.tick);
+        }
+
+        if ((flags & GRID) != 0) {
+            if (keyframe) writeGridKeyframe(current, out);
+            else writeGridDelta(current, base, out);
+        }
+        if ((flags & PLAYERS) != 0) {
+            if (keyframe) writePlayersKeyframe(current, out);
+            else writePlayersDelta(current, base, out);
+        }
+        if ((flags & BOMBS) != 0) writeSet(current.bombs, base.bombs, BOMB_FIELDS, current.tick, out);
+        if ((flags & MOVING_BOMBS) != 0) writeSet(current.movingBombs, base.movingBombs, MOVING_BOMB_FIELDS, current.tick, out);
+        if ((flags & FLAMES) != 0) writeSet(current.flames, base.flames, FLAME_FIELDS, current.tick, out);
+        if ((flags & POWER_UPS) != 0) writeSet(current.powerUps, base.powerUps, POWER_UP_FIELDS, current.tick, out);
+        return out.position() - start;
+    }
+
+    /**
+     * Encode la grille complète par plages de cellules identiques.
+     *
+     * @param state L'état
+     * @param out Le tampon de sortie
+     */
+    private static void writeGridKeyframe(NetworkState state, ByteBuffer out) {
+        writeVarint(out, state.gridWidth);
+        writeVarint(out, state.gridHeight);
+        int i = 0;
+        while (i < state.cells.length) {
+            int value = state.cells[i];
+            int run = 1;
+            while (i + run < state.cells.length && state.cells[i + run] == value) {
+                run++;
+            }
+            writeVarint(out, ((run - 1) << 3) | (value & 7));
+            i += run;
+        }
+    }
+
+    /**
+     * Encode les cellules modifiées depuis la base.
+     *
+     * @param state L'état
+     * @param base L'état de base
+     * @param out Le tampon de sortie
+     */
+    private static void writeGridDelta(NetworkState state, NetworkState base, ByteBuffer out) {
+        int count = 0;
+        for (int i = 0; i < state.cells.length; i++) {
+            if (state.cells[i] != base.cells[i]) count++;
+        }
+        writeVarint(out, count);
+        int previous = -1;
+        for (int i = 0; i < state.cells.length; i++) {
+            if (state.cells[i] != base.cells[i]) {
+                writeVarint(out, ((i - previous - 1) << 3) | (state.cells[i] & 7));
+                previous = i;
+            }
+        }
+    }
+
+    /**
+     * Indique si un joueur a changé depuis la base.
+     *
+     * @param state L'état
+     * @param base L'état de base
+     * @return true si au moins un champ d'un joueur diffère
+     */
+    private static boolean playersChanged(NetworkState state, NetworkState base) {
+        for (int i = 0; i < state.playerCount; i++) {
+            if (playerFieldMask(state, base, i) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calcule le masque des champs modifiés d'un joueur.
+     * Bits : 0 X, 1 Y, 2 vies, 3 portée, 4 vitesse, 5 invincibilité, 6 drapeaux.
+     *
+     * @param state L'état
+     * @param base L'état de base
+     * @param i L'indice du joueur
+     * @return Le masque des champs modifiés
+     */
+    private static int playerFieldMask(NetworkState state, NetworkState base, int i) {
+        int mask = 0;
+        if (state.playerX[i] != base.playerX[i]) mask |= 1;
+        if (state.playerY[i] != base.playerY[i]) mask |= 2;
+        if (state.playerLives[i] != base.playerLives[i]) mask |= 4;
+        if (state.playerRange[i] != base.playerRange[i]) mask |= 8;
+        if (state.playerSpeed[i] != base.playerSpeed[i]) mask |= 16;
+        if (state.playerInvincibleUntil[i] != base.playerInvincibleUntil[i]) mask |= 32;
+        if (state.playerFlags[i] != base.playerFlags[i]) mask |= 64;
+        return mask;
+    }
+
+    /**
+     * Encode tous les champs de tous les joueurs.
+     *
+     * @param state L'état
+     * @param out Le tampon de sortie
+     */
+    private static void writePlayersKeyframe(NetworkState state, ByteBuffer out) {
+        writeVarint(out, state.playerCount);
+        for (int i = 0; i < state.playerCount; i++) {
+            writeVarint(out, state.playerNumber[i]);
+            writeVarint(out, zigzag(state.playerX[i]));
+            writeVarint(out, zigzag(state.playerY[i]));
+            writeVarint(out, state.playerLives[i]);
+            writeVarint(out, state.playerRange[i]);
+            writeVarint(out, state.playerSpeed[i]);
+            writeVarint(out, invincibility(state, i));
+            writeVarint(out, state.playerFlags[i]);
+        }
+    }
+
+    /**
+     * Encode les champs modifiés des joueurs.
+     *
+     * @param state L'état
+     * @param base L'état de base
+     * @param out Le tampon de sortie
+     */
+    private static void writePlayersDelta(NetworkState state, NetworkState base, ByteBuffer out) {
+        int changed = 0;
+        for (int i = 0; i < state.playerCount; i++) {
+            if (playerFieldMask(state, base, i) != 0) changed |= 1 << i;
+        }
+        out.put((byte) changed);
+        for (int i = 0; i < state.playerCount; i++) {
+            int mask = playerFieldMask(state, base, i);
+            if (mask == 0) continue;
+            out.put((byte) mask);
+            if ((mask & 1) != 0) writeVarint(out, zigzag(state.playerX[i] - base.playerX[i]));
+            if ((mask & 2) != 0) writeVarint(out, zigzag(state.playerY[i] - base.playerY[i]));
+            if ((mask & 4) != 0) writeVarint(out, zigzag(state.playerLives[i] - base.playerLives[i]));
+            if ((mask & 8) != 0) writeVarint(out, zigzag(state.playerRange[i] - base.playerRange[i]));
+            if ((mask & 16) != 0) writeVarint(out, zigzag(state.playerSpeed[i] - base.playerSpeed[i]));
+            if ((mask & 32) != 0) writeVarint(out, invincibility(state, i));
+            if ((mask & 64) != 0) writeVarint(out, state.playerFlags[i]);
+        }
+    }
+
+    /**
+     * Code l'échéance d'invincibilité d'un joueur relativement au tick.
+     *
+     * @param state L'état
+     * @param i L'indice du joueur
+     * @return 0 si le joueur est vulnérable, sinon le nombre de ticks restants
+     */
+    private static int invincibility(NetworkState state, int i) {
+        int until = state.playerInvincibleUntil[i];
+        return until == 0 ? 0 : Math.max(1, until - state.tick);
+    }
+
+    /**
+     * Encode la différence entre deux ensembles triés (fusion).
+     *
+     * @param current L'ensemble courant
+     * @param base L'ensemble de base
+     * @param fields La nature de chaque champ
+     * @param tick Le tick de l'état (référence des échéances)
+     * @param out Le tampon de sortie
+     */
+    private static void writeSet(NetworkState.EntrySet current, NetworkState.EntrySet base,
+                                 int[] fields, int tick, ByteBuffer out) {
+        int removed = 0;
+        int added = 0;
+        for (int pass = 0; pass < 3; pass++) {
+            if (pass == 1) writeVarint(out, removed);
+            if (pass == 2) writeVarint(out, added);
+            int i = 0;
+            int j = 0;
+            int previousRemoved = -1;
+            int previousFirst = 0;
+            while (i < base.size() || j < current.size()) {
+                int c = i >= base.size() ? 1 : j >= current.size() ? -1
+                        : NetworkState.EntrySet.compare(base, i, current, j);
+                if (c == 0) {
+                    i++;
+                    j++;
+                } else if (c < 0) {
+                    if (pass == 0) removed++;
+                    if (pass == 1) writeVarint(out, i - previousRemoved - 1);
+                    previousRemoved = i++;
+                } else {
+                    if (pass == 0) added++;
+                    if (pass == 2) {
+                        for (int k = 0; k < fields.length; k++) {
+                            int value = current.get(j, k);
+                            switch (fields[k]) {
+                                case GAP -> {
+                                    writeVarint(out, zigzag(value - previousFirst));
+                                    previousFirst = value;
+                                }
+                                case TIME -> writeVarint(out, zigzag(value - tick));
+                                default -> writeVarint(out, zigzag(value));
+                            }
+                        }
+                    }
+                    j++;
+                }
+            }
+        }
+    }
+
+    // ==================== DÉCODAGE ====================
+
+    /**
+     * Décode un message en s'appuyant sur l'historique des états déjà reçus.
+     *
+     * @param in Le tampon contenant un message complet
+     * @param history Les états reçus précédemment (bases possibles)
+     * @param into L'état à remplir
+     * @return false si le message est un delta dont la base n'est plus dans l'historique
+     *         (le destinataire doit alors attendre une image clé)
+     * @throws IllegalArgumentException si le message est tronqué ou invalide
+     */
+    public static boolean decode(ByteBuffer in, StateHistory history, NetworkState into) {
+        try {
+            int flags = in.get() & 0xFF;
+            int tick = readVarint(in);
+            NetworkState base = EMPTY;
+            if ((flags & KEYFRAME) == 0) {
+                base = history.get(tick - readVarint(in));
+                if (base == null) return false;
+            }
+            if (into != base) {
+                into.copyFrom(base);
+            }
+            into.tick = tick;
+
+            if ((flags & GRID) != 0) {
+                if ((flags & KEYFRAME) != 0) readGridKeyframe(in, into);
+                else readGridDelta(in, into);
+            }
+            if ((flags & PLAYERS) != 0) {
+                if ((flags & KEYFRAME) != 0) readPlayersKeyframe(in, into);
+                else readPlayersDelta(in, into);
+            }
+            if ((flags & BOMBS) != 0) readSet(in, into.bombs, BOMB_FIELDS, tick);
+            if ((flags & MOVING_BOMBS) != 0) readSet(in, into.movingBombs, MOVING_BOMB_FIELDS, tick);
+            if ((flags & FLAMES) != 0) readSet(in, into.flames, FLAME_FIELDS, tick);
+            if ((flags & POWER_UPS) != 0) readSet(in, into.powerUps, POWER_UP_FIELDS, tick);
+            return true;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Message d'état invalide", e);
+        }
+    }
+
+    /**
+     * Décode une grille complète.
+     *
+     * @param in Le tampon d'entrée
+     * @param state L'état à remplir
+     */
+    private static void readGridKeyframe(ByteBuffer in, NetworkState state) {
+        state.gridWidth = readVarint(in);
+        state.gridHeight = readVarint(in);
+        int length = state.gridWidth * state.gridHeight;
+        if (state.cells.length != length) {
+            state.cells = new byte[length];
+        }
+        int i = 0;
+        while (i < length) {
+            int run = readVarint(in);
+            byte value = (byte) (run & 7);
+            int end = i + (run >>> 3) + 1;
+            while (i < end) {
+                state.cells[i++] = value;
+            }
+        }
+    }
+
+    /**
+     * Applique les cellules modifiées.
+     *
+     * @param in Le tampon d'entrée
+     * @param state L'état à modifier
+     */
+    private static void readGridDelta(ByteBuffer in, NetworkState state) {
+        int count = readVarint(in);
+        int index = -1;
+        for (int c = 0; c < count; c++) {
+            int value = readVarint(in);
+            index += (value >>> 3) + 1;
+            state.cells[index] = (byte) (value & 7);
+        }
+    }
+
+    /**
+     * Décode tous les joueurs.
+     *
+     * @param in Le tampon d'entrée
+     * @param state L'état à remplir
+     */
+    private static void readPlayersKeyframe(ByteBuffer in, NetworkState state) {
+        state.playerCount = readVarint(in);
+        for (int i = 0; i < state.playerCount; i++) {
+            state.playerNumber[i] = readVarint(in);
+            state.playerX[i] = unzigzag(readVarint(in));
+            state.playerY[i] = unzigzag(readVarint(in));
+            state.playerLives[i] = readVarint(in);
+            state.playerRange[i] = readVarint(in);
+            state.playerSpeed[i] = readVarint(in);
+            state.playerInvincibleUntil[i] = untilFrom(readVarint(in), state.tick);
+            state.playerFlags[i] = readVarint(in);
+        }
+    }
+
+    /**
+     * Applique les champs modifiés des joueurs.
+     *
+     * @param in Le tampon d'entrée
+     * @param state L'état à modifier
+     */
+    private static void readPlayersDelta(ByteBuffer in, NetworkState state) {
+        int changed = in.get() & 0xFF;
+        for (int i = 0; i < state.playerCount; i++) {
+            if ((changed & (1 << i)) == 0) continue;
+            int mask = in.get() & 0xFF;
+            if ((mask & 1) != 0) state.playerX[i] += unzigzag(readVarint(in));
+            if ((mask & 2) != 0) state.playerY[i] += unzigzag(readVarint(in));
+            if ((mask & 4) != 0) state.playerLives[i] += unzigzag(readVarint(in));
+            if ((mask & 8) != 0) state.playerRange[i] += unzigzag(readVarint(in));
+            if ((mask & 16) != 0) state.playerSpeed[i] += unzigzag(readVarint(in));
+            if ((mask & 32) != 0) state.playerInvincibleUntil[i] = untilFrom(readVarint(in), state.tick);
+            if ((mask & 64) != 0) state.playerFlags[i] = readVarint(in);
+        }
+    }
+
+    /**
+     * Reconstitue une échéance d'invincibilité.
+     *
+     * @param remaining Le nombre de ticks restants (0 si vulnérable)
+     * @param tick Le tick de l'état
+     * @return L'échéance absolue, 0 si vulnérable
+     */
+    private static int untilFrom(int remaining, int tick) {
+        return remaining == 0 ? 0 : tick + remaining;
+    }
+
+    /**
+     * Applique la différence d'un ensemble : retire les entrées indiquées de la
+     * base puis fusionne les entrées ajoutées.
+     *
+     * @param in Le tampon d'entrée
+     * @param set L'ensemble (contenant la base) à modifier
+     * @param fields La nature de chaque champ
+     * @param tick Le tick de l'état
+     */
+    private static void readSet(ByteBuffer in, NetworkState.EntrySet set, int[] fields, int tick) {
+        NetworkState.EntrySet result = new NetworkState.EntrySet(set.stride);
+        int removed = readVarint(in);
+        int next = -1;
+        int kept = 0;
+        for (int r = 0; r < removed; r++) {
+            next += readVarint(in) + 1;
+            while (kept < next) {
+                result.addFrom(set, kept++);
+            }
+            kept++;
+        }
+        while (kept < set.size()) {
+            result.addFrom(set, kept++);
+        }
+
+        int added = readVarint(in);
+        int previousFirst = 0;
+        int[] values = new int[3];
+        for (int a = 0; a < added; a++) {
+            for (int k = 0; k < fields.length; k++) {
+                int raw = unzigzag(readVarint(in));
+                switch (fields[k]) {
+                    case GAP -> {
+                        previousFirst += raw;
+                        values[k] = previousFirst;
+                    }
+                    case TIME -> values[k] = raw + tick;
+                    default -> values[k] = raw;
+                }
+            }
+            result.add(values[0], values[1], values[2]);
+        }
+        result.sort();
+        set.copyFrom(result);
+    }
+
+    // ==================== ENTIERS VARIABLES ====================
+
+    /**
+     * Écrit un entier non signé en varint (7 bits par octet, bit de poids fort = suite).
+     *
+     * @param out Le tampon de sortie
+     * @param value La valeur (traitée comme non signée)
+     */
+    static void writeVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * Lit un entier écrit par {@link #writeVarint}.
+     *
+     * @param in Le tampon d'entrée
+     * @return La valeur
+     * @throws IllegalArgumentException si le varint dépasse 5 octets
+     */
+    static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Varint trop long");
+    }
+
+    /**
+     * Code un entier signé pour que les petites valeurs négatives restent courtes.
+     *
+     * @param value La valeur signée
+     * @return La valeur zigzag (0, -1, 1, -2... → 0, 1, 2, 3...)
+     */
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Décode une valeur zigzag.
+     *
+     * @param value La valeur zigzag
+     * @return La valeur signée
+     */
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
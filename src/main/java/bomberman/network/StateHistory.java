@@ -0,0 +1,85 @@
+package bomberman.network;
+
+/**
+ * Historique circulaire des derniers états réseau envoyés ou reçus.
+ * Côté serveur, il conserve les états que les clients peuvent avoir confirmés ;
+ * côté client, les états reçus qui peuvent servir de base aux prochains deltas.
+ * Les états sont recopiés dans des instances préallouées.
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class StateHistory {
+
+    /** Nombre d'états conservés par défaut (3 secondes à 10 états par seconde) */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    /** États conservés */
+    private final NetworkState[] states;
+
+    /** Indique si chaque case contient un état */
+    private final boolean[] used;
+
+    /** Prochaine case à écrire */
+    private int next;
+
+    /**
+     * Constructeur avec la capacité par défaut.
+     */
+    public StateHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructeur d'un historique.
+     *
+     * @param capacity Le nombre d'états conservés
+     * @throws IllegalArgumentException si la capacité n'est pas positive
+     */
+    public StateHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacité invalide : " + capacity);
+        }
+        this.states = new NetworkState[capacity];
+        this.used = new boolean[capacity];
+        for (int i = 0; i < capacity; i++) {
+            states[i] = new NetworkState();
+        }
+    }
+
+    /**
+     * Enregistre une copie d'un état, en remplaçant le plus ancien.
+     *
+     * @param state L'état à conserver
+     * @return La copie conservée
+     */
+    public NetworkState record(NetworkState state) {
+        NetworkState slot = states[next];
+        slot.copyFrom(state);
+        used[next] = true;
+        next = (next + 1) % states.length;
+        return slot;
+    }
+
+    /**
+     * Recherche l'état d'un tick.
+     *
+     * @param tick Le tick recherché
+     * @return L'état conservé, ou null s'il n'est plus (ou pas) dans l'historique
+     */
+    public NetworkState get(int tick) {
+        for (int i = 0; i < states.length; i++) {
+            if (used[i] && states[i].tick == tick) return states[i];
+        }
+        return null;
+    }
+
+    /**
+     * Vide l'historique.
+     */
+    public void clear() {
+        java.util.Arrays.fill(used, false);
+        next = 0;
+    }
+}
@@ -0,0 +1,219 @@
+package bomberman.network;
+
+import bomberman.utils.GameConstants;
+
+/**
+ * Mesures de durée des ticks d'une salle (ou d'un serveur entier).
+ * Les durées sont rangées dans un histogramme à pas fixe, ce qui permet de
+ * calculer des percentiles sans conserver chaque mesure ni allouer pendant
+ * l'enregistrement.
+ *
+ * <p>Indicateurs suivis :</p>
+ * <ul>
+ *   <li>Nombre de ticks, durée moyenne, maximale et moyenne récente (lissée)</li>
+ *   <li>Dépassements : ticks plus longs que {@link GameConstants#TICK_DURATION}</li>
+ *   <li>Ticks abandonnés : ticks sautés pour rattraper un retard (délestage)</li>
+ *   <li>Percentiles (p50, p99...) à {@value #BUCKET_MICROS} µs près</li>
+ * </ul>
+ *
+ * <p>Les méthodes sont synchronisées : une salle enregistre depuis son thread
+ * de simulation pendant que le serveur lit les mesures depuis un autre thread.</p>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class TickMetrics {
+
+    /** Largeur d'une case de l'histogramme en microsecondes */
+    public static final int BUCKET_MICROS = 20;
+
+    /** Nombre de cases (la dernière regroupe toutes les durées supérieures) */
+    private static final int BUCKETS = 1000;
+
+    /** Facteur de lissage de la moyenne récente (1/16) */
+    private static final int SMOOTHING_SHIFT = 4;
+
+    /** Histogramme des durées */
+    private final long[] histogram = new long[BUCKETS];
+
+    /** Nombre de ticks mesurés */
+    private long count;
+
+    /** Somme des durées en nanosecondes */
+    private long totalNanos;
+
+    /** Durée maximale en nanosecondes */
+    private long maxNanos;
+
+    /** Moyenne récente lissée en nanosecondes */
+    private long recentNanos;
+
+    /** Nombre de ticks plus longs que la durée d'un tick */
+    private long overruns;
+
+    /** Nombre de ticks abandonnés pour rattraper un retard */
+    private long shedTicks;
+
+    /**
+     * Enregistre la durée d'un tick.
+     *
+     * @param nanos La durée du tick en nanosecondes
+     */
+    public synchronized void record(long nanos) {
+        int bucket = (int) Math.min(BUCKETS - 1, nanos / 1000 / BUCKET_MICROS);
+        histogram[bucket]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        recentNanos += (nanos - recentNanos) >> SMOOTHING_SHIFT;
+        if (nanos > GameConstants.TICK_DURATION) {
+            overruns++;
+        }
+    }
+
+    /**
+     * Enregistre des ticks abandonnés.
+     *
+     * @param ticks Le nombre de ticks sautés
+     */
+    public synchronized void recordShed(long ticks) {
+        shedTicks += ticks;
+    }
+
+    /**
+     * Ajoute les mesures d'une autre instance (agrégation de plusieurs salles).
+     *
+     * @param other Les mesures à ajouter
+     */
+    public void merge(TickMetrics other) {
+        long[] otherHistogram;
+        long otherCount, otherTotal, otherMax, otherRecent, otherOverruns, otherShed;
+        synchronized (other) {
+            otherHistogram = other.histogram.clone();
+            otherCount = other.count;
+            otherTotal = other.totalNanos;
+            otherMax = other.maxNanos;
+            otherRecent = other.recentNanos;
+            otherOverruns = other.overruns;
+            otherShed = other.shedTicks;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] += otherHistogram[i];
+            }
+            count += otherCount;
+            totalNanos += otherTotal;
+            maxNanos = Math.max(maxNanos, otherMax);
+            recentNanos += otherRecent;
+            overruns += otherOverruns;
+            shedTicks += otherShed;
+        }
+    }
+
+    /**
+     * Calcule les mesures enregistrées depuis un relevé antérieur des mêmes
+     * mesures (fenêtre de mesure d'un test de charge). Le maximum est estimé par
+     * la borne de la plus haute case non vide ; la moyenne récente est reprise telle quelle.
+     *
+     * @param baseline Le relevé antérieur (par exemple un {@link DedicatedServer#getMetrics()} précédent)
+     * @return Une nouvelle instance contenant uniquement les mesures postérieures
+     */
+    public TickMetrics since(TickMetrics baseline) {
+        TickMetrics window = new TickMetrics();
+        window.merge(this);
+        synchronized (baseline) {
+            for (int i = 0; i < BUCKETS; i++) {
+                window.histogram[i] = Math.max(0, window.histogram[i] - baseline.histogram[i]);
+            }
+            window.count = Math.max(0, window.count - baseline.count);
+            window.totalNanos = Math.max(0, window.totalNanos - baseline.totalNanos);
+            window.overruns = Math.max(0, window.overruns - baseline.overruns);
+            window.shedTicks = Math.max(0, window.shedTicks - baseline.shedTicks);
+        }
+        long max = 0;
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (window.histogram[i] > 0) {
+                max = i == BUCKETS - 1 ? window.maxNanos : Math.min(window.maxNanos, (i + 1) * BUCKET_MICROS * 1000L);
+                break;
+            }
+        }
+        window.maxNanos = max;
+        return window;
+    }
+
+    /**
+     * Calcule un percentile des durées de tick.
+     *
+     * @param percentile Le percentile voulu (0-100)
+     * @return La borne supérieure de la case du percentile en nanosecondes, 0 si aucune mesure
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * Math.max(0, Math.min(100, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= Math.max(1, rank)) {
+                return i == BUCKETS - 1 ? maxNanos : (i + 1) * BUCKET_MICROS * 1000L;
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Retourne le nombre de ticks mesurés.
+     *
+     * @return Le nombre de ticks
+     */
+    public synchronized long getCount() { return count; }
+
+    /**
+     * Retourne la durée moyenne d'un tick.
+     *
+     * @return La moyenne en nanosecondes
+     */
+    public synchronized long getMeanNanos() { return count == 0 ? 0 : totalNanos / count; }
+
+    /**
+     * Retourne la durée maximale d'un tick.
+     *
+     * @return Le maximum en nanosecondes
+     */
+    public synchronized long getMaxNanos() { return maxNanos; }
+
+    /**
+     * Retourne la moyenne récente des durées (lissage exponentiel).
+     * Pour des mesures agrégées, il s'agit de la somme des moyennes récentes,
+     * c'est-à-dire du temps de calcul consommé par tick par l'ensemble des salles.
+     *
+     * @return La moyenne récente en nanosecondes
+     */
+    public synchronized long getRecentNanos() { return recentNanos; }
+
+    /**
+     * Retourne le nombre de ticks plus longs que la durée d'un tick.
+     *
+     * @return Le nombre de dépassements
+     */
+    public synchronized long getOverruns() { return overruns; }
+
+    /**
+     * Retourne le nombre de ticks abandonnés pour rattraper un retard.
+     *
+     * @return Le nombre de ticks sautés
+     */
+    public synchronized long getShedTicks() { return shedTicks; }
+
+    /**
+     * Résume les mesures sur une ligne.
+     *
+     * @return Le résumé (moyenne, p99, maximum, dépassements, ticks abandonnés)
+     */
+    @Override
+    public String toString() {
+        return String.format("ticks=%d moy=%dµs p99=%dµs max=%dµs dépassements=%d abandonnés=%d",
+                getCount(), getMeanNanos() / 1000, getPercentileNanos(99) / 1000,
+                getMaxNanos() / 1000, getOverruns(), getShedTicks());
+    }
+}
@@ -20,6 +20,9 @@ public class GameConstants {
     // Constantes de bombes
     public static final long DEFAULT_BOMB_COOLDOWN = 500_000_000;
     
+    // Constantes de simulation (durée d'un tick en nanosecondes, 16 ms comme la boucle de jeu)
+    public static final long TICK_DURATION = 16_000_000;
+
     // Constantes d'invincibilité
     public static final int INVINCIBILITY_DURATION = 60;
     
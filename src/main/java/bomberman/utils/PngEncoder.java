@@ -0,0 +1,182 @@
+package bomberman.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodeur PNG minimal en Java pur.
+ * Cette classe convertit un tampon de pixels ARGB en fichier PNG (RGB 8 bits)
+ * sans dépendre de JavaFX ni d'AWT, ce qui permet d'encoder des frames
+ * depuis n'importe quel thread, y compris en mode headless.
+ *
+ * <p>Caractéristiques :</p>
+ * <ul>
+ *   <li>Sortie RGB 8 bits par canal (les frames du jeu sont opaques)</li>
+ *   <li>Filtre PNG "Sub" sur chaque ligne, efficace sur les aplats du jeu</li>
+ *   <li>Compression Deflate à niveau réglable</li>
+ *   <li>Instances sans état partagé : un encodeur par thread</li>
+ * </ul>
+ *
+ * @author BUT1_TD3_G35
+ * @version 1.0
+ * @since 1.0
+ */
+public class PngEncoder {
+
+    /** Signature de tout fichier PNG */
+    private static final byte[] SIGNATURE = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+
+    /** Octets par pixel en sortie (RGB) */
+    private static final int BYTES_PER_PIXEL = 3;
+
+    /** Type de filtre PNG "Sub" */
+    private static final int FILTER_SUB = 1;
+
+    /** Compresseur réutilisé d'une image à l'autre */
+    private final Deflater deflater;
+
+    /** Tampon de compression réutilisé */
+    private final byte[] chunkBuffer = new byte[64 * 1024];
+
+    /** Calcul de CRC réutilisé */
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Constructeur avec une compression rapide, adaptée aux séquences de frames.
+     */
+    public PngEncoder() {
+        this(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Constructeur avec un niveau de compression personnalisé.
+     *
+     * @param compressionLevel Niveau Deflate (0 = aucune, 9 = maximale)
+     */
+    public PngEncoder(int compressionLevel) {
+        this.deflater = new Deflater(compressionLevel);
+    }
+
+    /**
+     * Encode un tampon ARGB en fichier PNG complet.
+     *
+     * @param argb Les pixels ARGB, ligne par ligne
+     * @param width Largeur de l'image en pixels
+     * @param height Hauteur de l'image en pixels
+     * @return Les octets du fichier PNG
+     * @throws IllegalArgumentException si le tampon est trop petit
+     */
+    public byte[] encode(int[] argb, int width, int height) {
+        if (argb.length < width * height) {
+            throw new IllegalArgumentException("Tampon trop petit pour " + width + "x" + height);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(width * height + 1024);
+        out.writeBytes(SIGNATURE);
+
+        // En-tête IHDR : dimensions, 8 bits, RGB, compression/filtre/entrelacement standards
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;
+        header[9] = 2;
+        writeChunk(out, "IHDR", header, header.length);
+
+        byte[] compressed = compress(filterRows(argb, width, height));
+        writeChunk(out, "IDAT", compressed, compressed.length);
+        writeChunk(out, "IEND", new byte[0], 0);
+        return out.toByteArray();
+    }
+
+    /**
+     * Convertit les pixels en lignes RGB filtrées ("Sub" : différence avec le pixel de gauche).
+     *
+     * @param argb Les pixels ARGB
+     * @param width Largeur de l'image
+     * @param height Hauteur de l'image
+     * @return Les données brutes à compresser (un octet de filtre par ligne)
+     */
+    private byte[] filterRows(int[] argb, int width, int height) {
+        int stride = width * BYTES_PER_PIXEL + 1;
+        byte[] raw = new byte[stride * height];
+        for (int y = 0; y < height; y++) {
+            int out = y * stride;
+            raw[out++] = FILTER_SUB;
+            int previous = 0;
+            for (int x = 0; x < width; x++) {
+                int pixel = argb[y * width + x];
+                raw[out++] = (byte) ((pixel >> 16) - (previous >> 16));
+                raw[out++] = (byte) ((pixel >> 8) - (previous >> 8));
+                raw[out++] = (byte) (pixel - previous);
+                previous = pixel;
+            }
+        }
+        return raw;
+    }
+
+    /**
+     * Compresse les données avec le Deflater réutilisé.
+     *
+     * @param raw Les données filtrées
+     * @return Le flux zlib compressé
+     */
+    private byte[] compress(byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        while (!deflater.finished()) {
+            int count = deflater.deflate(chunkBuffer);
+            out.write(chunkBuffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Écrit un chunk PNG (longueur, type, données, CRC).
+     *
+     * @param out Le flux de sortie
+     * @param type Le type du chunk sur 4 caractères
+     * @param data Les données du chunk
+     * @param length Le nombre d'octets de données
+     */
+    private void writeChunk(ByteArrayOutputStream out, String type, byte[] data, int length) {
+        byte[] typeBytes = type.getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        byte[] lengthBytes = new byte[4];
+        writeInt(lengthBytes, 0, length);
+        out.writeBytes(lengthBytes);
+        out.writeBytes(typeBytes);
+        out.write(data, 0, length);
+
+        crc.reset();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        byte[] crcBytes = new byte[4];
+        writeInt(crcBytes, 0, (int) crc.getValue());
+        out.writeBytes(crcBytes);
+    }
+
+    /**
+     * Écrit un entier en big-endian.
+     *
+     * @param buffer Le tableau de destination
+     * @param offset La position d'écriture
+     * @param value La valeur à écrire
+     */
+    private static void writeInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Libère les ressources natives du compresseur.
+     */
+    public void close() {
+        deflater.end();
+    }
+}
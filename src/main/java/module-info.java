@@ -9,6 +9,7 @@
  *   <li>javafx.controls - Composants d'interface utilisateur JavaFX</li>
  *   <li>javafx.fxml - Support FXML pour les interfaces déclaratives</li>
  *   <li>javafx.graphics - API graphiques de base de JavaFX</li>
+ *   <li>jdk.httpserver - Serveur HTTP du JDK pour le flux des parties en direct</li>
  *   <li>org.junit.jupiter.api - Framework de tests unitaires</li>
  *   <li>org.junit.platform.commons - Plateforme commune JUnit</li>
  * </ul>
@@ -22,6 +23,7 @@
  *   <li>bomberman.model.entities - Entités du jeu</li>
  *   <li>bomberman.model.game - Logique de jeu</li>
  *   <li>bomberman.model.profile - Gestion des profils</li>
+ *   <li>bomberman.network - Multijoueur en réseau</li>
  *   <li>bomberman.utils - Utilitaires</li>
  * </ul>
  *
@@ -35,6 +37,9 @@ module bomberman {
     requires javafx.fxml;
     requires javafx.graphics;
 
+    // Serveur HTTP du JDK pour le flux des parties en direct (Server-Sent Events)
+    requires jdk.httpserver;
+
     // Dépendances JUnit pour les tests
     requires org.junit.jupiter.api;
     requires org.junit.platform.commons;
@@ -67,6 +72,10 @@ module bomberman {
     exports bomberman.model.profile;
     opens bomberman.model.profile to javafx.fxml;
 
+    // Multijoueur en réseau - exporté et ouvert pour FXML
+    exports bomberman.network;
+    opens bomberman.network to javafx.fxml;
+
     // Utilitaires - exportés et ouverts pour FXML
     exports bomberman.utils;
     opens bomberman.utils to javafx.fxml;
@@ -0,0 +1,131 @@
+package bomberman.controller.game;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CameraTest {
+
+    /** Monde de 30 x 30 cases, plus grand que le viewport */
+    private static final int GRID = 30;
+
+    /** Viewport de 5 x 5 cases */
+    private static final int VIEWPORT = 5 * GameConstants.TILE_SIZE;
+
+    /** Caméra centrée sur un joueur immobile à la case (15, 15) : décalage de 520 pixels */
+    private static Camera centeredCamera() {
+        Camera camera = new Camera(VIEWPORT, VIEWPORT);
+        camera.update(GRID, GRID, List.of(new GamePlayer(1, 15, 15)));
+        return camera;
+    }
+
+    @Nested
+    class FollowTests {
+
+        @Test
+        void shouldCenterOnPlayerWithinWorldBounds() {
+            Camera camera = centeredCamera();
+            assertEquals(15 * GameConstants.TILE_SIZE + GameConstants.TILE_SIZE / 2.0 - VIEWPORT / 2.0,
+                    camera.getOffsetX());
+            assertEquals(camera.getOffsetX(), camera.getOffsetY());
+            assertEquals(-520, camera.getTranslateX());
+
+            // Près du bord, la caméra reste dans le monde
+            Camera corner = new Camera(VIEWPORT, VIEWPORT);
+            corner.update(GRID, GRID, List.of(new GamePlayer(1, 1, 1)));
+            assertEquals(0, corner.getOffsetX());
+            assertEquals(0, corner.getOffsetY());
+        }
+
+        @Test
+        void shouldCenterWorldSmallerThanViewport() {
+            Camera camera = new Camera(VIEWPORT, VIEWPORT);
+            camera.update(3, 3, List.of(new GamePlayer(1, 1, 1)));
+
+            assertEquals((3 * GameConstants.TILE_SIZE - VIEWPORT) / 2.0, camera.getOffsetX());
+            assertTrue(camera.isCellVisible(0, 0) && camera.isCellVisible(2, 2));
+        }
+
+        @Test
+        void shouldFollowChosenPlayerSmoothly() {
+            GamePlayer first = new GamePlayer(1, 10, 15);
+            GamePlayer second = new GamePlayer(2, 20, 15);
+            Camera camera = new Camera(VIEWPORT, VIEWPORT);
+            camera.update(GRID, GRID, List.of(first, second));
+            assertEquals(15 * GameConstants.TILE_SIZE + GameConstants.TILE_SIZE / 2.0 - VIEWPORT / 2.0,
+                    camera.getOffsetX(), "Barycentre des joueurs");
+
+            camera.follow(2);
+            camera.setSmoothing(0.5);
+            double start = camera.getOffsetX();
+            double target = 20 * GameConstants.TILE_SIZE + GameConstants.TILE_SIZE / 2.0 - VIEWPORT / 2.0;
+            camera.update(GRID, GRID, List.of(first, second));
+            assertEquals(start + (target - start) / 2, camera.getOffsetX(), 1e-9);
+
+            camera.snap();
+            camera.update(GRID, GRID, List.of(first, second));
+            assertEquals(target, camera.getOffsetX());
+        }
+
+        @Test
+        void shouldFitTileSizeToWindow() {
+            assertEquals(GameConstants.TILE_SIZE, Camera.fitTileSize(GameConstants.CANVAS_WIDTH,
+                    GameConstants.CANVAS_HEIGHT, GameConstants.GRID_WIDTH, GameConstants.GRID_HEIGHT));
+            assertEquals(2 * GameConstants.TILE_SIZE, Camera.fitTileSize(2 * GameConstants.CANVAS_WIDTH,
+                    2 * GameConstants.CANVAS_HEIGHT, GameConstants.GRID_WIDTH, GameConstants.GRID_HEIGHT));
+            // Grande grille : la taille reste celle de la zone par défaut, la caméra fait défiler le reste
+            assertEquals(GameConstants.TILE_SIZE, Camera.fitTileSize(GameConstants.CANVAS_WIDTH,
+                    GameConstants.CANVAS_HEIGHT, GRID, GRID));
+            assertEquals(Camera.MIN_TILE_SIZE, Camera.fitTileSize(50, 50, GRID, GRID));
+        }
+    }
+
+    @Nested
+    class CullingTests {
+
+        @Test
+        void shouldKeepOnlyVisibleCells() {
+            Camera camera = centeredCamera();
+
+            // Décalage 520 : les pixels 520 à 719 sont les colonnes 13 à 17 ; la plage
+            // parcourue par le renderer est arrondie vers l'extérieur
+            assertEquals(13, camera.getFirstVisibleColumn());
+            assertEquals(18, camera.getLastVisibleColumn(GRID));
+            assertEquals(13, camera.getFirstVisibleRow());
+            assertEquals(18, camera.getLastVisibleRow(GRID));
+            assertFalse(camera.isCellVisible(12, 15), "Case juste à gauche du viewport");
+            assertTrue(camera.isCellVisible(13, 15));
+            assertTrue(camera.isCellVisible(17, 17));
+            assertFalse(camera.isCellVisible(18, 15), "Case juste à droite du viewport");
+            assertFalse(camera.isCellVisible(15, 18), "Case juste sous le viewport");
+        }
+
+        @Test
+        void shouldCullEntitiesByVisualPosition() {
+            Camera camera = centeredCamera();
+            double top = GameConstants.TIMER_HEIGHT + camera.getOffsetY();
+
+            assertTrue(camera.isVisible(camera.getOffsetX() - GameConstants.TILE_SIZE + 1, top));
+            assertFalse(camera.isVisible(camera.getOffsetX() - GameConstants.TILE_SIZE, top));
+            assertTrue(camera.isVisible(camera.getOffsetX() + VIEWPORT - 1, top));
+            assertFalse(camera.isVisible(camera.getOffsetX() + VIEWPORT, top));
+            assertFalse(camera.isVisible(camera.getOffsetX(), top + VIEWPORT));
+        }
+
+        @Test
+        void shouldClampVisibleRangeToGrid() {
+            Camera camera = new Camera(VIEWPORT, VIEWPORT);
+            camera.update(3, 3, List.of(new GamePlayer(1, 1, 1)));
+
+            assertEquals(0, camera.getFirstVisibleColumn());
+            assertEquals(2, camera.getLastVisibleColumn(3));
+            assertEquals(0, camera.getFirstVisibleRow());
+            assertEquals(2, camera.getLastVisibleRow(3));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package bomberman.controller.game;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.MatchReplay;
+import bomberman.model.game.PlayerInput;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameExporterTest {
+
+    /** Nombre de ticks de la partie enregistrée */
+    private static final int TICKS = 40;
+
+    private static byte[] exportY4m(FrameExporter exporter, int maxFrames) throws IOException {
+        Path file = Files.createTempFile("export", ".y4m");
+        try {
+            exporter.setEncoderThreads(2);
+            exporter.export(file, FrameExporter.Format.Y4M, maxFrames);
+            return Files.readAllBytes(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Nested
+    class ExportTests {
+
+        @Test
+        void shouldExportSameFramesForSameSeed() throws IOException {
+            byte[] first = exportY4m(new FrameExporter(2, 7), 30);
+            byte[] second = exportY4m(new FrameExporter(2, 7), 30);
+
+            assertArrayEquals(first, second);
+        }
+
+        @Test
+        void shouldExportRecordedMatch() throws IOException {
+            MatchReplay replay = new MatchReplay(2, 11);
+            GameManager manager = replay.createGame(true);
+            int frame = PlayerInput.pack(PlayerInput.pack(0, 0, PlayerInput.of(PlayerInput.RIGHT, false)),
+                    1, PlayerInput.of(PlayerInput.UP, false));
+            for (int i = 0; i < TICKS; i++) {
+                manager.step(frame);
+                replay.record(frame);
+            }
+
+            byte[] exported = exportY4m(new FrameExporter(replay), 1000);
+            FramebufferRenderer renderer = new FramebufferRenderer(null);
+            int frameSize = renderer.getWidth() * renderer.getHeight() * 3 / 2 + "FRAME\n".length();
+            int headerSize = exported.length - TICKS * frameSize;
+            assertTrue(headerSize > 0 && exported[headerSize - 1] == '\n');
+
+            // Le replay relu depuis ses octets donne exactement les mêmes images
+            byte[] reread = exportY4m(new FrameExporter(MatchReplay.fromBytes(replay.toBytes())), 1000);
+            assertArrayEquals(exported, reread);
+            byte[] firstFrame = Arrays.copyOfRange(exported, headerSize, headerSize + frameSize);
+            byte[] lastFrame = Arrays.copyOfRange(exported, exported.length - frameSize, exported.length);
+            assertFalse(Arrays.equals(firstFrame, lastFrame));
+        }
+    }
+}
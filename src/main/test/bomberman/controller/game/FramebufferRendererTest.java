@@ -0,0 +1,93 @@
+package bomberman.controller.game;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.RenderSnapshot;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FramebufferRendererTest {
+
+    /** Couleur de repli des murs indestructibles */
+    private static final int GRAY = 0xFF808080;
+
+    private static RenderSnapshot snapshot(long seed) {
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.capture(GameManager.createSeededMatch(2, seed, true));
+        return snapshot;
+    }
+
+    /** Pixel au centre d'une case, pour une taille de case donnée */
+    private static int cellCenter(FramebufferRenderer renderer, int cellX, int cellY) {
+        int tile = renderer.getTileSize();
+        int timerHeight = (int) Math.round(GameConstants.TIMER_HEIGHT * (double) tile / GameConstants.TILE_SIZE);
+        int x = cellX * tile + tile / 2;
+        int y = timerHeight + cellY * tile + tile / 2;
+        return renderer.getPixels()[y * renderer.getWidth() + x];
+    }
+
+    @Nested
+    class HeadlessTests {
+
+        @Test
+        void shouldRasterizeOpaqueFrameWithoutToolkit() {
+            FramebufferRenderer renderer = new FramebufferRenderer(null);
+            RenderSnapshot snapshot = snapshot(3);
+            renderer.render(snapshot);
+
+            assertEquals(GameConstants.TILE_SIZE, renderer.getTileSize());
+            assertEquals(GRAY, cellCenter(renderer, 0, 0), "Mur du bord en couleur de repli");
+            for (int argb : renderer.getPixels()) {
+                assertEquals(0xFF, argb >>> 24, "Toutes les frames sont opaques");
+            }
+
+            int[] first = new int[renderer.getPixels().length];
+            renderer.copyFrame(first);
+            renderer.render(snapshot);
+            assertArrayEquals(first, renderer.getPixels(), "Même état, mêmes pixels");
+        }
+
+        @Test
+        void shouldRescaleTilesOnResize() {
+            FramebufferRenderer renderer = new FramebufferRenderer(null);
+            RenderSnapshot snapshot = snapshot(3);
+            renderer.render(snapshot);
+
+            renderer.resize(2 * GameConstants.CANVAS_WIDTH, 2 * GameConstants.CANVAS_HEIGHT);
+            renderer.render(snapshot);
+
+            assertEquals(2 * GameConstants.TILE_SIZE, renderer.getTileSize());
+            assertEquals(renderer.getWidth() * renderer.getHeight(), renderer.getPixels().length);
+            assertEquals(GRAY, cellCenter(renderer, 0, 0));
+            assertEquals(GRAY, cellCenter(renderer, GameConstants.GRID_WIDTH - 1, GameConstants.GRID_HEIGHT - 1));
+        }
+
+        @Test
+        void shouldDrawCachedTextures() {
+            int blue = 0xFF0000FF;
+            SpriteCacheTest.FakeTextures textures = new SpriteCacheTest.FakeTextures()
+                    .put("wall_indestructible", SpriteCacheTest.solid(16, 16, blue));
+            FramebufferRenderer renderer = new FramebufferRenderer(textures);
+            RenderSnapshot snapshot = snapshot(3);
+            renderer.render(snapshot);
+            assertEquals(blue, cellCenter(renderer, 0, 0));
+
+            renderer.resize(GameConstants.CANVAS_WIDTH / 2, GameConstants.CANVAS_HEIGHT / 2);
+            renderer.render(snapshot);
+            assertEquals(GameConstants.TILE_SIZE / 2, renderer.getTileSize());
+            assertEquals(blue, cellCenter(renderer, 0, 0), "Tuile régénérée à la nouvelle échelle");
+        }
+
+        @Test
+        void shouldDarkenFrameForGameOver() {
+            FramebufferRenderer renderer = new FramebufferRenderer(null);
+            renderer.render(snapshot(3));
+            renderer.renderGameOver("Joueur 1");
+
+            int darkened = cellCenter(renderer, 0, 0);
+            assertTrue((darkened & 0xFF) < (GRAY & 0xFF), "Voile sombre sur la frame");
+        }
+    }
+}
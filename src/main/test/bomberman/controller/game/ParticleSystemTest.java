@@ -0,0 +1,68 @@
+package bomberman.controller.game;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+
+    private static boolean spawn(ParticleSystem particles, int lifetime) {
+        return particles.spawn(ParticleSystem.KIND_FLAME, 100, 100, 1, 0, lifetime, 4);
+    }
+
+    @Nested
+    class PoolTests {
+
+        @Test
+        void shouldDropParticlesWhenPoolIsFull() {
+            ParticleSystem particles = new ParticleSystem(4);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(spawn(particles, 10));
+            }
+
+            assertFalse(spawn(particles, 10));
+            assertFalse(spawn(particles, 10));
+            assertEquals(4, particles.getCount());
+            assertEquals(2, particles.getDroppedCount());
+        }
+
+        @Test
+        void shouldRecycleExpiredParticles() {
+            ParticleSystem particles = new ParticleSystem(4);
+            for (int lifetime = 1; lifetime <= 4; lifetime++) {
+                spawn(particles, lifetime);
+            }
+
+            particles.update();
+            assertEquals(3, particles.getCount(), "La particule d'une frame a expiré");
+            assertTrue(spawn(particles, 1), "Sa place est réutilisée");
+            assertEquals(0, particles.getDroppedCount());
+
+            particles.update();
+            assertEquals(2, particles.getCount());
+            for (int i = 0; i < 3; i++) {
+                particles.update();
+            }
+            assertEquals(0, particles.getCount());
+        }
+
+        @Test
+        void shouldCapExplosionsToCapacity() {
+            ParticleSystem particles = new ParticleSystem(64);
+            particles.onBombExploded(5, 5, 2);
+            assertEquals(18, particles.getCount(), "12 flammes et 6 fumées");
+
+            for (int i = 0; i < 10; i++) {
+                particles.onBombExploded(5, 5, 2);
+                particles.onWallDestroyed(6, 5);
+            }
+            assertEquals(particles.getCapacity(), particles.getCount());
+            assertEquals(18 + 10 * 33 - 64, particles.getDroppedCount());
+
+            particles.clear();
+            assertEquals(0, particles.getCount());
+            assertTrue(spawn(particles, 5));
+        }
+    }
+}
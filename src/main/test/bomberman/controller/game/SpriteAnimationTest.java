@@ -0,0 +1,71 @@
+package bomberman.controller.game;
+
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteAnimationTest {
+
+    /** Planche de 4 frames carrées de 8 pixels */
+    private static WritableImage strip() {
+        return new WritableImage(32, 8);
+    }
+
+    @Nested
+    class FrameTests {
+
+        @Test
+        void shouldStepFramesAndLoop() {
+            SpriteAnimation animation = new SpriteAnimation(strip(), 4, 3, true);
+
+            assertEquals(0, animation.frameAt(0));
+            assertEquals(0, animation.frameAt(2));
+            assertEquals(1, animation.frameAt(3));
+            assertEquals(3, animation.frameAt(11));
+            assertEquals(0, animation.frameAt(12), "L'animation reprend au début");
+            assertEquals(0, animation.frameAt(-5));
+        }
+
+        @Test
+        void shouldHoldLastFrameWithoutLooping() {
+            SpriteAnimation animation = new SpriteAnimation(strip(), 4, 3, false);
+
+            assertEquals(3, animation.frameAt(9));
+            assertEquals(3, animation.frameAt(1000));
+        }
+
+        @Test
+        void shouldSpreadFramesOverDuration() {
+            SpriteAnimation animation = new SpriteAnimation(strip(), 4, 1, false);
+
+            assertEquals(0, animation.frameAtProgress(0, 40));
+            assertEquals(1, animation.frameAtProgress(10, 40));
+            assertEquals(3, animation.frameAtProgress(39, 40));
+            assertEquals(3, animation.frameAtProgress(80, 40));
+            assertEquals(3, animation.frameAtProgress(5, 0));
+        }
+    }
+
+    @Nested
+    class SheetTests {
+
+        @Test
+        void shouldSliceSquareStrip() {
+            SpriteAnimation animation = SpriteAnimation.fromSquareStrip(strip(), 2, true);
+
+            assertNotNull(animation);
+            assertEquals(4, animation.getFrameCount());
+            assertEquals(8, animation.getFrameWidth());
+            assertEquals(8, animation.getFrameHeight());
+            assertEquals(16, animation.getFrameX(2));
+        }
+
+        @Test
+        void shouldRejectInvalidStrip() {
+            assertNull(SpriteAnimation.fromSquareStrip(null, 2, true));
+            assertNull(SpriteAnimation.fromSquareStrip(new WritableImage(4, 8), 2, true));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package bomberman.controller.game;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpriteCacheTest {
+
+    private static final int RED = 0xFFFF0000;
+    private static final int BLUE = 0xFF0000FF;
+
+    /** Image unie */
+    static WritableImage solid(int width, int height, int argb) {
+        WritableImage image = new WritableImage(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.getPixelWriter().setArgb(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Gestionnaire de textures en mémoire : les textures sont fournies par le
+     * test au lieu d'être lues dans un pack.
+     */
+    static final class FakeTextures extends TextureManager {
+
+        private final Map<String, Image> textures = new HashMap<>();
+        private final Map<String, SpriteAnimation> animations = new HashMap<>();
+        private String pack = "test";
+
+        FakeTextures put(String name, Image texture) {
+            textures.put(name, texture);
+            return this;
+        }
+
+        @Override
+        public Image getTexture(String name) { return textures.get(name); }
+
+        @Override
+        public SpriteAnimation getAnimation(String name) { return animations.get(name); }
+
+        @Override
+        public String getCurrentTexturePack() { return pack; }
+    }
+
+    @Nested
+    class RescaleTests {
+
+        @Test
+        void shouldRebuildOnlyWhenSizeOrPackChanges() {
+            FakeTextures textures = new FakeTextures().put("ground", solid(32, 32, RED));
+            SpriteCache cache = new SpriteCache(textures);
+
+            assertTrue(cache.refresh(40));
+            assertFalse(cache.refresh(40), "Même taille, même pack : rien à refaire");
+            assertEquals(1, cache.getRebuildCount());
+            assertEquals(40 * 40, cache.getTile("ground").length);
+
+            assertTrue(cache.refresh(80));
+            assertEquals(80, cache.getTileSize());
+            assertEquals(80 * 80, cache.getTile("ground").length);
+
+            textures.pack = "autre";
+            assertTrue(cache.refresh(80));
+            assertEquals(3, cache.getRebuildCount());
+            assertNull(cache.getTile("bomb"), "Texture absente du pack");
+            assertFalse(new SpriteCache(null).refresh(40));
+        }
+
+        @Test
+        void shouldAverageWhenShrinkingAndKeepPixelsWhenGrowing() {
+            // Moitié gauche rouge, moitié droite bleue
+            int[] source = new int[4 * 4];
+            for (int i = 0; i < source.length; i++) {
+                source[i] = i % 4 < 2 ? RED : BLUE;
+            }
+
+            int[] half = SpriteCache.resample(source, 4, 4, 2);
+            assertArrayEquals(new int[] {RED, BLUE, RED, BLUE}, half);
+            int[] single = SpriteCache.resample(source, 4, 4, 1);
+            assertEquals(0xFF7F007F, single[0], "Moyenne des quatre pixels");
+
+            int[] doubled = SpriteCache.resample(half, 2, 2, 4);
+            assertArrayEquals(source, doubled, "Agrandissement au plus proche voisin");
+        }
+
+        @Test
+        void shouldIgnoreTransparentPixelsInAverage() {
+            int[] source = {RED, 0x00000000, 0x00000000, 0x00000000};
+
+            int[] tile = SpriteCache.resample(source, 2, 2, 1);
+            assertEquals(0x3FFF0000, tile[0], "Opacité moyenne, couleur des seuls pixels visibles");
+        }
+
+        @Test
+        void shouldCutAnimationFramesAndCacheImages() {
+            WritableImage sheet = solid(16, 8, RED);
+            for (int y = 0; y < 8; y++) {
+                for (int x = 8; x < 16; x++) {
+                    sheet.getPixelWriter().setArgb(x, y, BLUE);
+                }
+            }
+            FakeTextures textures = new FakeTextures().put("bomb", solid(8, 8, BLUE));
+            textures.animations.put("explosion", SpriteAnimation.fromSquareStrip(sheet, 2, true));
+            SpriteCache cache = new SpriteCache(textures);
+            cache.refresh(4);
+
+            int[][] frames = cache.getFrames("explosion");
+            assertEquals(2, frames.length);
+            assertTrue(Arrays.stream(frames[0]).allMatch(argb -> argb == RED));
+            assertTrue(Arrays.stream(frames[1]).allMatch(argb -> argb == BLUE));
+
+            Image image = cache.getImage("bomb");
+            assertEquals(4, image.getWidth());
+            assertEquals(BLUE, image.getPixelReader().getArgb(3, 3));
+            assertSame(image, cache.getImage("bomb"));
+            assertEquals(2, cache.getFrameImages("explosion").length);
+
+            cache.refresh(8);
+            assertNotSame(image, cache.getImage("bomb"), "Images recréées après régénération");
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package bomberman.model.game;
 
 import bomberman.model.entities.GamePlayer;
+import bomberman.model.profile.PlayerProfile;
+import bomberman.model.profile.PlayerProfileManager;
+import bomberman.model.profile.Rating;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -219,6 +225,35 @@ class GameManagerTest {
             
             assertDoesNotThrow(() -> gameManager.placeBombForPlayer(player));
         }
+
+        @Test
+        void shouldCreditBombOwnerWithElimination() {
+            gameManager.setHeadless(true);
+            GamePlayer bomber = gameManager.getPlayers().get(0);
+            GamePlayer victim = gameManager.getPlayers().get(1);
+            int x = bomber.getPlayer().getX() + 1;
+            int y = bomber.getPlayer().getY();
+            mockGrid.setEmpty(x, y);
+            victim.setTarget(x, y);
+            victim.getPlayer().setPosition(x, y);
+            while (victim.getStats().getLives() > 1) {
+                victim.getStats().takeDamage();
+            }
+            victim.getStats().setInvincibilityTimer(0);
+
+            gameManager.placeBombForPlayer(bomber);
+            assertEquals(1, gameManager.getBombSystem().getBombs().get(0).getOwner());
+            for (int tick = 0; tick < 240 && gameManager.isGameRunning(); tick++) {
+                gameManager.update();
+            }
+
+            assertTrue(victim.getStats().isEliminated());
+            assertEquals(1, bomber.getStats().getBombsPlaced());
+            assertEquals(1, bomber.getStats().getKills());
+            assertEquals(0, victim.getStats().getKills());
+            assertEquals(1, gameManager.getPlacement(bomber));
+            assertEquals(2, gameManager.getPlacement(victim));
+        }
     }
 
     @Nested
@@ -263,6 +298,36 @@ class GameManagerTest {
             assertEquals("Match nul", gameManager.getWinnerText());
         }
 
+        @Test
+        void shouldCreditLocalPlayerToCurrentProfile() throws IOException {
+            Path directory = Files.createTempDirectory("profiles");
+            PlayerProfileManager.setDirectory(directory);
+            try {
+                PlayerProfile profile = PlayerProfileManager.getInstance().getOrCreateProfile("alice", "Alice");
+                // Client réseau qui joue le joueur 2 : sa victoire revient au profil courant
+                gameManager.setLocalPlayerNumber(2);
+                GamePlayer player1 = gameManager.getPlayers().get(0);
+                while (!player1.getStats().isEliminated()) {
+                    player1.getStats().takeDamage();
+                }
+
+                gameManager.update();
+
+                assertEquals(1, profile.getGamesPlayed());
+                assertEquals(1, profile.getGamesWon());
+                assertTrue(profile.getMatchHistory().get(0).isWin());
+                assertTrue(profile.getRating().getRating() > Rating.DEFAULT.getRating());
+            } finally {
+                PlayerProfileManager.setDirectory(null);
+                try (var files = Files.list(directory)) {
+                    for (Path file : files.toList()) {
+                        Files.delete(file);
+                    }
+                }
+                Files.delete(directory);
+            }
+        }
+
         @Test
         void shouldContinueWithMultiplePlayersAlive() {
             // Avec 2 joueurs vivants, le jeu devrait continuer
@@ -399,4 +464,61 @@ class GameManagerTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class RenderSnapshotTests {
+
+        @BeforeEach
+        void initializeGame() {
+            gameManager.initializeGame(mockGrid);
+        }
+
+        @Test
+        void shouldPublishSnapshotOnInitialization() {
+            RenderSnapshot snapshot = gameManager.getRenderSnapshots().acquire();
+
+            assertTrue(snapshot.hasGrid());
+            assertEquals(15, snapshot.getGridWidth());
+            assertEquals(13, snapshot.getGridHeight());
+            assertEquals(2, snapshot.getPlayerSize());
+            assertEquals(1, snapshot.getPlayerNumber(0));
+            assertEquals(mockGrid.getCellType(0, 0), snapshot.getCellType(0, 0));
+            assertEquals(0, snapshot.getTick());
+        }
+
+        @Test
+        void shouldPublishSnapshotEveryTick() {
+            gameManager.update();
+            gameManager.update();
+
+            assertEquals(2, gameManager.getRenderSnapshots().acquire().getTick());
+        }
+
+        @Test
+        void shouldKeepAcquiredSnapshotUnchangedWhileSimulating() {
+            RenderSnapshot acquired = gameManager.getRenderSnapshots().acquire();
+
+            gameManager.getBombSystem().placeBomb(1, 1, 1, mockGrid);
+            for (int i = 0; i < 5; i++) {
+                gameManager.update();
+            }
+
+            assertEquals(0, acquired.getTick());
+            assertEquals(0, acquired.getBombSize());
+
+            RenderSnapshot latest = gameManager.getRenderSnapshots().acquire();
+            assertNotSame(acquired, latest);
+            assertEquals(5, latest.getTick());
+            assertEquals(1, latest.getBombSize());
+        }
+
+        @Test
+        void shouldReturnSameSnapshotWhenNothingPublished() {
+            RenderSnapshotBuffer buffer = gameManager.getRenderSnapshots();
+            RenderSnapshot first = buffer.acquire();
+
+            assertFalse(buffer.hasNewSnapshot());
+            assertSame(first, buffer.acquire());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package bomberman.model.game;
+
+import bomberman.model.ai.BotBrain;
+import bomberman.model.entities.Bomb;
+import bomberman.model.entities.GamePlayer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchReplayTest {
+
+    /** Durée d'une partie de 5 minutes, en ticks */
+    private static final int FIVE_MINUTES = 5 * 60 * 1000 / 16;
+
+    /**
+     * Fait jouer 4 bots pendant au plus 5 minutes en enregistrant les trames,
+     * les images clés et l'empreinte de chaque tick.
+     */
+    private static MatchReplay recordBotMatch(long[] checksums) {
+        MatchReplay replay = new MatchReplay(4, 21);
+        playBotMatch(replay, checksums, true);
+        return replay;
+    }
+
+    /**
+     * Fait jouer 4 bots pendant au plus 5 minutes en enregistrant les trames
+     * et l'empreinte de chaque tick.
+     *
+     * @param keyframes true pour enregistrer aussi les images clés
+     * @return La partie jouée, dans son état final
+     */
+    private static GameManager playBotMatch(MatchReplay replay, long[] checksums, boolean keyframes) {
+        GameManager original = replay.createGame(true);
+        BotBrain[] brains = new BotBrain[4];
+        for (int i = 0; i < 4; i++) {
+            brains[i] = new BotBrain(i);
+        }
+        checksums[0] = original.checksum();
+        while (original.isGameRunning() && replay.getTickCount() < FIVE_MINUTES) {
+            int frame = 0;
+            for (int i = 0; i < 4; i++) {
+                frame = PlayerInput.pack(frame, i, brains[i].nextInput(original, i));
+            }
+            original.step(frame);
+            if (keyframes) {
+                replay.record(frame, original);
+            } else {
+                replay.record(frame);
+            }
+            checksums[replay.getTickCount()] = original.checksum();
+        }
+        return original;
+    }
+
+    /** Partie de 2 joueurs sur une grille de 200 x 200 cases */
+    private static GameManager largeMatch() {
+        GameManager manager = new GameManager(2);
+        manager.setHeadless(true);
+        manager.setSeed(5);
+        GameGrid grid = new GameGrid(200, 200);
+        grid.generate(manager.getRandom());
+        manager.initializeGame(grid);
+        return manager;
+    }
+
+    @Nested
+    class EncodingTests {
+
+        @Test
+        void shouldEncodeIdleStretchesInAFewBytes() throws IOException {
+            MatchReplay replay = new MatchReplay(4, 1);
+            for (int tick = 0; tick < FIVE_MINUTES; tick++) {
+                replay.record(0);
+            }
+            byte[] bytes = replay.toBytes();
+            assertTrue(bytes.length <= 64, "Taille : " + bytes.length);
+
+            MatchReplay decoded = MatchReplay.fromBytes(bytes);
+            assertEquals(FIVE_MINUTES, decoded.getTickCount());
+            assertEquals(0, decoded.getFrame(FIVE_MINUTES));
+        }
+
+        @Test
+        void shouldNeverExceedOneBytePerPlayerPerTick() throws IOException {
+            MatchReplay replay = new MatchReplay(2, 1);
+            for (int tick = 0; tick < 1000; tick++) {
+                int input = PlayerInput.of(tick % 5, tick % 7 == 0);
+                replay.record(PlayerInput.pack(PlayerInput.pack(0, 0, input), 1, input));
+            }
+            byte[] bytes = replay.toBytes();
+            // Au plus un octet par joueur et par tick, en-tête compris
+            assertTrue(bytes.length <= 2 * 1000 + 64, "Taille : " + bytes.length);
+
+            MatchReplay decoded = MatchReplay.fromBytes(bytes);
+            for (int tick = 1; tick <= 1000; tick++) {
+                assertEquals(replay.getFrame(tick), decoded.getFrame(tick));
+            }
+        }
+
+        @Test
+        void shouldRejectTruncatedReplay() {
+            MatchReplay replay = new MatchReplay(2, 1);
+            for (int tick = 0; tick < 100; tick++) {
+                replay.record(tick % 3);
+            }
+            byte[] bytes = replay.toBytes();
+            assertThrows(IOException.class, () -> MatchReplay.fromBytes(Arrays.copyOf(bytes, bytes.length - 3)));
+            bytes[0] = 0;
+            assertThrows(IOException.class, () -> MatchReplay.fromBytes(bytes));
+        }
+
+        @Test
+        void shouldKeepCoordinatesAbove127InKeyframes() throws IOException {
+            GameManager original = largeMatch();
+            original.getBombSystem().getBombs().add(new Bomb(150, 171));
+            GameStateSnapshot snapshot = new GameStateSnapshot();
+            snapshot.capture(original);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            snapshot.write(new DataOutputStream(bytes));
+
+            GameStateSnapshot decoded = new GameStateSnapshot();
+            decoded.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            GameManager restored = largeMatch();
+            decoded.restore(restored);
+
+            GamePlayer player = restored.getPlayers().get(1);
+            assertEquals(198, player.getSpawnX());
+            assertEquals(198, player.getPlayer().getX());
+            assertEquals(198, player.getTargetY());
+            Bomb bomb = restored.getBombSystem().getBombs().get(0);
+            assertEquals(150, bomb.getX());
+            assertEquals(171, bomb.getY());
+            assertEquals(original.checksum(), restored.checksum());
+        }
+    }
+
+    @Nested
+    class PlaybackTests {
+
+        @Test
+        void shouldReproduceBotMatchExactly() throws IOException {
+            long[] checksums = new long[FIVE_MINUTES + 1];
+            MatchReplay replay = new MatchReplay(4, 21);
+            GameManager original = playBotMatch(replay, checksums, false);
+
+            Path file = Files.createTempFile("partie", ".bmr");
+            MatchReplay loaded;
+            long size;
+            try {
+                replay.write(file);
+                size = Files.size(file);
+                loaded = MatchReplay.read(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+            int ticks = loaded.getTickCount();
+            assertEquals(replay.getTickCount(), ticks);
+            // Quelques kilo-octets pour une partie de 5 minutes à 4 joueurs
+            assertTrue(size < 8 * 1024, "Taille : " + size + " o pour " + ticks + " ticks");
+
+            GameManager playback = loaded.createGame(true);
+            for (int tick = 100; tick < ticks; tick += 100) {
+                loaded.playTo(playback, tick);
+                assertEquals(checksums[tick], playback.checksum(), "Désynchronisation au tick " + tick);
+            }
+            loaded.playTo(playback, ticks);
+            assertEquals(ticks, playback.getTickCount());
+            assertEquals(original.checksum(), playback.checksum());
+            assertEquals(original.isGameRunning(), playback.isGameRunning());
+        }
+
+        @Test
+        void shouldSeekAnywhereFromNearestKeyframe() throws IOException {
+            long[] checksums = new long[FIVE_MINUTES + 1];
+            MatchReplay replay = MatchReplay.fromBytes(recordBotMatch(checksums).toBytes());
+            int ticks = replay.getTickCount();
+            assertEquals(ticks / MatchReplay.KEYFRAME_INTERVAL, replay.getKeyframeCount());
+
+            GameManager playback = replay.createGame(true);
+            replay.seek(playback, ticks / 2);
+            Random random = new Random(4);
+            long[] durations = new long[40];
+            for (int i = 0; i < durations.length; i++) {
+                int tick = random.nextInt(ticks + 1);
+                long start = System.nanoTime();
+                replay.seek(playback, tick);
+                durations[i] = System.nanoTime() - start;
+                assertEquals(tick, playback.getTickCount());
+                assertEquals(checksums[tick], playback.checksum(), "Désynchronisation au tick " + tick);
+            }
+            // Moins de 50 ms par déplacement ; le plus lent garde de la marge pour une machine chargée
+            Arrays.sort(durations);
+            long median = durations[durations.length / 2];
+            long slowest = durations[durations.length - 1];
+            assertTrue(median < 50_000_000, "Déplacement médian : " + median / 1000 + " µs");
+            assertTrue(slowest < 250_000_000, "Déplacement le plus lent : " + slowest / 1000 + " µs");
+        }
+
+        @Test
+        void shouldCaptureMissingKeyframesWhileSeeking() {
+            long[] checksums = new long[FIVE_MINUTES + 1];
+            MatchReplay recorded = recordBotMatch(checksums);
+            MatchReplay replay = new MatchReplay(4, recorded.getSeed());
+            for (int tick = 1; tick <= 2000; tick++) {
+                replay.record(recorded.getFrame(tick));
+            }
+            assertEquals(0, replay.getKeyframeCount());
+
+            GameManager playback = replay.createGame(true);
+            replay.seek(playback, 2000);
+            replay.seek(playback, 700);
+            assertEquals(checksums[700], playback.checksum());
+            assertEquals(2000 / MatchReplay.KEYFRAME_INTERVAL, replay.getKeyframeCount());
+        }
+    }
+}
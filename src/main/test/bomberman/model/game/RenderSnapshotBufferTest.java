@@ -0,0 +1,74 @@
+package bomberman.model.game;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderSnapshotBufferTest {
+
+    @Nested
+    class HandOffTests {
+
+        @Test
+        void shouldHandOverPublishedSnapshot() {
+            RenderSnapshotBuffer buffer = new RenderSnapshotBuffer();
+            RenderSnapshot initial = buffer.acquire();
+            RenderSnapshot written = buffer.beginWrite();
+            assertNotSame(initial, written, "Le renderer ne lit jamais l'instantané en écriture");
+            assertFalse(buffer.hasNewSnapshot());
+
+            buffer.publish();
+            assertTrue(buffer.hasNewSnapshot());
+            assertNotSame(written, buffer.beginWrite(), "Une autre instance est remplie ensuite");
+            assertSame(written, buffer.acquire());
+            assertFalse(buffer.hasNewSnapshot());
+            assertSame(written, buffer.acquire(), "Sans publication, la même image est redessinée");
+        }
+
+        @Test
+        void shouldKeepOnlyLatestSnapshotBetweenFrames() {
+            GameManager manager = GameManager.createSeededMatch(2, 4, false);
+            RenderSnapshotBuffer buffer = manager.getRenderSnapshots();
+            for (int i = 0; i < 5; i++) {
+                manager.step(0);
+            }
+
+            RenderSnapshot latest = buffer.acquire();
+            assertEquals(manager.getTickCount(), latest.getTick());
+            assertNotSame(latest, buffer.beginWrite());
+        }
+
+        @Test
+        void shouldNeverHandOverSnapshotBeingWritten() throws InterruptedException {
+            GameManager manager = GameManager.createSeededMatch(2, 4, false);
+            RenderSnapshotBuffer buffer = manager.getRenderSnapshots();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread simulation = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    manager.step(0);
+                }
+                running.set(false);
+            });
+            simulation.start();
+
+            long previous = -1;
+            int frames = 0;
+            while (running.get() || buffer.hasNewSnapshot()) {
+                RenderSnapshot snapshot = buffer.acquire();
+                long tick = snapshot.getTick();
+                // L'instantané reste cohérent pendant la lecture : la simulation ne le réécrit pas
+                assertEquals(tick, snapshot.getTick());
+                assertTrue(tick >= previous, "Tick " + tick + " après " + previous);
+                previous = tick;
+                frames++;
+            }
+            simulation.join();
+
+            assertTrue(frames > 0);
+            assertEquals(manager.getTickCount(), buffer.acquire().getTick());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedProfileStoreTest {
+
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("profiles");
+        file = directory.resolve("profiles.db");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Nested
+    class RecordTests {
+
+        @Test
+        void shouldUpdateRecordInPlaceAndPersist() throws IOException {
+            try (MappedProfileStore store = new MappedProfileStore(file)) {
+                PlayerProfile alice = new PlayerProfile("alice", "Alice");
+                store.put(alice);
+                alice.incrementGamesPlayed();
+                alice.incrementGamesPlayed();
+                alice.incrementGamesWon();
+                store.put(alice);
+                assertEquals(1, store.size());
+                assertNull(store.get("bob"));
+            }
+
+            try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                PlayerProfile alice = reopened.get("alice");
+                assertEquals("Alice", alice.getFirstName());
+                assertEquals(2, alice.getGamesPlayed());
+                assertEquals(1, alice.getGamesWon());
+                assertEquals(1, reopened.size());
+            }
+        }
+
+        @Test
+        void shouldIncrementCountersInPlaceAndPersist() throws IOException {
+            try (MappedProfileStore store = new MappedProfileStore(file)) {
+                store.put(new PlayerProfile("alice", "Alice"));
+                assertTrue(store.incrementGamesPlayed("alice"));
+                assertTrue(store.incrementGamesPlayed("alice"));
+                assertTrue(store.incrementGamesWon("alice"));
+                assertFalse(store.incrementGamesWon("bob"));
+            }
+
+            try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                PlayerProfile alice = reopened.get("alice");
+                assertEquals(2, alice.getGamesPlayed());
+                assertEquals(1, alice.getGamesWon());
+                assertNull(reopened.get("bob"));
+            }
+        }
+
+        @Test
+        void shouldRejectNamesLongerThanRecord() throws IOException {
+            try (MappedProfileStore store = new MappedProfileStore(file)) {
+                String name = "x".repeat(MappedProfileStore.MAX_NAME_BYTES + 1);
+                assertThrows(IllegalArgumentException.class, () -> store.put(new PlayerProfile(name, "X")));
+                assertEquals(0, store.size());
+            }
+        }
+    }
+
+    @Nested
+    class TableTests {
+
+        @Test
+        void shouldGrowAndReuseDeletedSlots() throws IOException {
+            try (MappedProfileStore store = new MappedProfileStore(file, 16)) {
+                for (int i = 0; i < 5000; i++) {
+                    store.put(new PlayerProfile("joueur" + i, "Joueur"));
+                }
+                for (int i = 0; i < 5000; i += 2) {
+                    assertTrue(store.delete("joueur" + i));
+                }
+                for (int i = 0; i < 5000; i += 4) {
+                    store.put(new PlayerProfile("joueur" + i, "Retour"));
+                }
+                assertEquals(2500 + 1250, store.size());
+                assertEquals(3750, store.getAll().size());
+                assertEquals(1, Integer.bitCount(store.getCapacity()));
+                assertTrue(store.getCapacity() >= 3750 / 0.7);
+            }
+            assertFalse(Files.exists(directory.resolve("profiles.db.tmp")));
+
+            try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                assertEquals("Retour", reopened.get("joueur4").getFirstName());
+                assertEquals("Joueur", reopened.get("joueur3").getFirstName());
+                assertNull(reopened.get("joueur2"));
+            }
+        }
+
+        @Test
+        void shouldOpenWithoutReadingProfiles() throws IOException {
+            try (MappedProfileStore store = new MappedProfileStore(file, 131_072)) {
+                PlayerProfile profile = new PlayerProfile("joueur", "Joueur");
+                for (int i = 0; i < 80_000; i++) {
+                    store.put(new PlayerProfile("joueur" + i, "Joueur"));
+                }
+                store.put(profile);
+            }
+
+            long start = System.nanoTime();
+            try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                assertTrue(reopened.incrementGamesWon("joueur79999"));
+                long elapsed = System.nanoTime() - start;
+                assertEquals(80_001, reopened.size());
+                assertTrue(elapsed < 100_000_000L, "Ouverture : " + elapsed / 1_000_000 + " ms");
+            }
+        }
+    }
+
+    @Nested
+    class ManagerTests {
+
+        @Test
+        void shouldBackProfileManager() throws IOException {
+            PlayerProfileManager manager = new PlayerProfileManager(new MappedProfileStore(file));
+            PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+            manager.getOrCreateProfile("bob", "Bob");
+            alice.incrementGamesPlayed();
+            alice.incrementGamesWon();
+            manager.saveProfile(alice);
+            assertTrue(manager.deleteProfile("bob"));
+            assertFalse(manager.deleteProfile("bob"));
+            manager.close();
+
+            PlayerProfileManager reopened = new PlayerProfileManager(new MappedProfileStore(file));
+            assertEquals(1, reopened.getAllProfiles().size());
+            PlayerProfile loaded = reopened.getOrCreateProfile("alice", "Autre");
+            assertEquals("Alice", loaded.getFirstName());
+            assertEquals(1, loaded.getGamesWon());
+            assertSame(loaded, reopened.getAllProfiles().iterator().next());
+            reopened.close();
+        }
+
+        @Test
+        void shouldWriteThroughBackgroundWriter() throws Exception {
+            MappedProfileStore store = new MappedProfileStore(file);
+            PlayerProfileManager manager = new PlayerProfileManager(store);
+            PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+            alice.incrementGamesPlayed();
+            manager.saveProfile(alice);
+            // Écriture confiée à l'écrivain, dans sa fenêtre de regroupement
+            assertTrue(manager.getWriter().getPendingCount() > 0, "Le thread du jeu ne doit pas écrire la base");
+
+            manager.flush();
+            assertEquals(1, store.get("alice").getGamesPlayed());
+            manager.close();
+        }
+
+        @Test
+        void shouldRejectLongNamesBeforeAnyChange() throws IOException {
+            PlayerProfileManager manager = new PlayerProfileManager(new MappedProfileStore(file));
+            String name = "é".repeat(MappedProfileStore.MAX_NAME_BYTES / 2 + 1);
+            assertFalse(PlayerProfileManager.isStorableName(name));
+            assertTrue(PlayerProfileManager.isStorableName("é".repeat(MappedProfileStore.MAX_NAME_BYTES / 2)));
+
+            assertThrows(IllegalArgumentException.class, () -> manager.getOrCreateProfile(name, "X"));
+            assertThrows(IllegalArgumentException.class, () -> manager.getOrCreateProfile("bob", name));
+            PlayerProfile renamed = new PlayerProfile(name, "X");
+            assertThrows(IllegalArgumentException.class, () -> manager.saveProfile(renamed));
+
+            assertNull(manager.getCurrentProfile());
+            assertTrue(manager.getAllProfiles().isEmpty());
+            assertEquals(0, manager.getLeaderboard().size());
+            assertEquals(0, manager.getWriter().getRejectedRecords());
+            manager.close();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchHistoryTest {
+
+    private static MatchRecord match(int placement, int kills) {
+        return new MatchRecord(1_750_000_000L, MatchRecord.MODE_CLASSIC, 4, placement, 95, kills, 12, 3);
+    }
+
+    @Nested
+    class RingTests {
+
+        @Test
+        void shouldKeepMostRecentMatches() {
+            MatchHistory history = new MatchHistory();
+            for (int i = 0; i < MatchHistory.CAPACITY + 5; i++) {
+                history.add(match(i % 4 + 1, i));
+            }
+
+            assertEquals(MatchHistory.CAPACITY, history.size());
+            assertEquals(MatchHistory.CAPACITY + 4, history.get(0).getKills());
+            assertEquals(5, history.get(MatchHistory.CAPACITY - 1).getKills());
+            MatchRecord last = history.get(0);
+            assertEquals(1_750_000_000L, last.getDate());
+            assertEquals(4, last.getPlayerCount());
+            assertEquals(95, last.getDurationSeconds());
+            assertEquals(12, last.getBombsPlaced());
+            assertEquals(3, last.getPowerUpsCollected());
+            assertThrows(IndexOutOfBoundsException.class, () -> history.get(MatchHistory.CAPACITY));
+        }
+
+        @Test
+        void shouldComputeRecentTrends() {
+            MatchHistory history = new MatchHistory();
+            history.add(match(3, 0));
+            history.add(match(1, 2));
+            history.add(match(1, 4));
+
+            assertEquals(100.0, history.getWinRate(2));
+            assertEquals(200.0 / 3, history.getWinRate(10), 1e-9);
+            assertEquals(5.0 / 3, history.getAveragePlacement(10), 1e-9);
+            assertEquals(3.0, history.getAverageKills(2));
+            assertEquals(0.0, new MatchHistory().getWinRate(10));
+        }
+
+        @Test
+        void shouldClampValuesToTheirFields() {
+            MatchHistory history = new MatchHistory();
+            history.add(new MatchRecord(-1, MatchRecord.MODE_AI, 2, 1, 100_000, 300, 70_000, -2));
+
+            MatchRecord record = history.get(0);
+            assertEquals(0, record.getDate());
+            assertEquals(MatchRecord.MODE_AI, record.getMode());
+            assertEquals(0xFFFF, record.getDurationSeconds());
+            assertEquals(255, record.getKills());
+            assertEquals(0xFFFF, record.getBombsPlaced());
+            assertEquals(0, record.getPowerUpsCollected());
+        }
+    }
+
+    @Nested
+    class StorageTests {
+
+        @Test
+        void shouldStoreHistoryWithProfile() throws IOException {
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            for (int i = 0; i < 20; i++) {
+                alice.recordMatch(match(i % 2 + 1, i));
+            }
+
+            PlayerProfile decoded = ProfileCodec.decode(ProfileCodec.encode(List.of(alice))).get("alice");
+            assertEquals(alice.getMatchHistory().toList().toString(), decoded.getMatchHistory().toList().toString());
+            assertEquals(19, decoded.getMatchHistory().get(0).getKills());
+
+            Path directory = Files.createTempDirectory("profiles");
+            Path file = directory.resolve("profiles.db");
+            try {
+                try (MappedProfileStore store = new MappedProfileStore(file)) {
+                    store.put(alice);
+                }
+                try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                    MatchHistory history = reopened.get("alice").getMatchHistory();
+                    assertEquals(MatchHistory.CAPACITY, history.size());
+                    assertEquals(alice.getMatchHistory().getAverageKills(10), history.getAverageKills(10));
+                }
+            } finally {
+                Files.deleteIfExists(file);
+                Files.delete(directory);
+            }
+        }
+    }
+}
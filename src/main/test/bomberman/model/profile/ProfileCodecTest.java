@@ -0,0 +1,143 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileCodecTest {
+
+    private static PlayerProfile profile(String username, String firstName, int played, int won) {
+        PlayerProfile profile = new PlayerProfile(username, firstName);
+        profile.restoreCounters(played, won);
+        return profile;
+    }
+
+    @Nested
+    class FormatTests {
+
+        @Test
+        void shouldRoundTripProfiles() throws IOException {
+            List<PlayerProfile> profiles = List.of(
+                    profile("alice", "Alice", 12, 5),
+                    profile("élodie", "Élodie", 0, 0),
+                    profile("max", "Max", Integer.MAX_VALUE, 300));
+            Map<String, PlayerProfile> decoded = ProfileCodec.decode(ProfileCodec.encode(profiles));
+
+            assertEquals(3, decoded.size());
+            for (PlayerProfile expected : profiles) {
+                PlayerProfile actual = decoded.get(expected.getUsername());
+                assertEquals(expected.getFirstName(), actual.getFirstName());
+                assertEquals(expected.getGamesPlayed(), actual.getGamesPlayed());
+                assertEquals(expected.getGamesWon(), actual.getGamesWon());
+            }
+            assertTrue(ProfileCodec.encodeProfile(profiles.get(0)).length < 24);
+        }
+
+        @Test
+        void shouldSkipUnknownFieldsAndDefaultMissingOnes() {
+            // Profil écrit par une version future (champ 9) et sans parties gagnées
+            byte[] fields = {
+                    ProfileCodec.TAG_USERNAME, 3, 'b', 'o', 'b',
+                    9, 3, 1, 2, 3,
+                    ProfileCodec.TAG_FIRST_NAME, 3, 'B', 'o', 'b',
+                    ProfileCodec.TAG_GAMES_PLAYED, 1, 7};
+            byte[] record = new byte[fields.length + 1];
+            record[0] = (byte) fields.length;
+            System.arraycopy(fields, 0, record, 1, fields.length);
+
+            PlayerProfile bob = ProfileCodec.decodeProfile(record, 0, record.length);
+            assertEquals("bob", bob.getUsername());
+            assertEquals("Bob", bob.getFirstName());
+            assertEquals(7, bob.getGamesPlayed());
+            assertEquals(0, bob.getGamesWon());
+        }
+
+        @Test
+        void shouldRejectCorruptedOrNewerSnapshot() {
+            byte[] bytes = ProfileCodec.encode(List.of(profile("alice", "Alice", 1, 1)));
+            byte[] corrupted = bytes.clone();
+            corrupted[ProfileCodec.HEADER_SIZE + 3] ^= 1;
+            assertThrows(IOException.class, () -> ProfileCodec.decode(corrupted));
+
+            byte[] newer = bytes.clone();
+            newer[4] = (byte) (ProfileCodec.VERSION + 1);
+            assertThrows(IOException.class, () -> ProfileCodec.decode(newer));
+            assertFalse(ProfileCodec.isBinary("autre".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        @Test
+        void shouldDecodeOneMillionProfiles() throws IOException {
+            List<PlayerProfile> profiles = new ArrayList<>(1_000_000);
+            for (int i = 0; i < 1_000_000; i++) {
+                profiles.add(profile("joueur" + i, "Joueur", i % 500, i % 200));
+            }
+            byte[] bytes = ProfileCodec.encode(profiles);
+            profiles = null;
+
+            Map<String, PlayerProfile> decoded = ProfileCodec.decode(bytes);
+            assertEquals(1_000_000, decoded.size());
+            assertEquals(499, decoded.get("joueur999999").getGamesPlayed());
+            assertEquals(199, decoded.get("joueur999999").getGamesWon());
+            // Compteurs en varint : une trentaine d'octets par profil sans historique
+            assertTrue(bytes.length < 1_000_000 * 32, "Instantané : " + bytes.length + " octets");
+        }
+    }
+
+    @Nested
+    class MigrationTests {
+
+        @Test
+        void shouldMigrateSerializedSnapshotOnce() throws IOException {
+            Path directory = Files.createTempDirectory("profiles");
+            Path snapshot = directory.resolve("profiles.dat");
+            Path journal = directory.resolve("profiles.journal");
+            try {
+                Map<String, PlayerProfile> legacy = new HashMap<>();
+                legacy.put("alice", profile("alice", "Alice", 4, 3));
+                legacy.put("bob", profile("bob", "Bob", 2, 0));
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(legacy);
+                }
+                Files.write(snapshot, bytes.toByteArray());
+
+                PlayerProfileManager manager = new PlayerProfileManager(snapshot, journal);
+                assertEquals(2, manager.getAllProfiles().size());
+                manager.close();
+                assertFalse(ProfileCodec.isBinary(Files.readAllBytes(snapshot)), "Une simple lecture ne réécrit rien");
+
+                // La première modification réécrit l'instantané au format binaire
+                manager = new PlayerProfileManager(snapshot, journal);
+                manager.getOrCreateProfile("carol", "Carol");
+                manager.close();
+                assertTrue(ProfileCodec.isBinary(Files.readAllBytes(snapshot)), "L'instantané doit être réécrit");
+
+                PlayerProfileManager reopened = new PlayerProfileManager(snapshot, journal);
+                PlayerProfile alice = reopened.getOrCreateProfile("alice", "Autre");
+                assertEquals("Alice", alice.getFirstName());
+                assertEquals(4, alice.getGamesPlayed());
+                assertEquals(3, alice.getGamesWon());
+                reopened.close();
+            } finally {
+                try (var files = Files.list(directory)) {
+                    for (Path file : files.toList()) {
+                        Files.delete(file);
+                    }
+                }
+                Files.delete(directory);
+            }
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileJournalTest {
+
+    private Path directory;
+    private Path snapshot;
+    private Path journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("profiles");
+        snapshot = directory.resolve("profiles.dat");
+        journal = directory.resolve("profiles.journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private PlayerProfileManager open() {
+        return new PlayerProfileManager(snapshot, journal);
+    }
+
+    @Nested
+    class PersistenceTests {
+
+        @Test
+        void shouldReplayJournalOverSnapshot() {
+            PlayerProfileManager manager = open();
+            PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+            manager.getOrCreateProfile("bob", "Bob");
+            manager.saveProfiles();
+            alice.incrementGamesPlayed();
+            alice.incrementGamesWon();
+            manager.saveProfile(alice);
+            manager.deleteProfile("bob");
+            manager.close();
+
+            PlayerProfileManager reopened = open();
+            assertEquals(1, reopened.getAllProfiles().size());
+            PlayerProfile loaded = reopened.getOrCreateProfile("alice", "Autre");
+            assertEquals("Alice", loaded.getFirstName());
+            assertEquals(1, loaded.getGamesPlayed());
+            assertEquals(1, loaded.getGamesWon());
+            reopened.close();
+        }
+
+        @Test
+        void shouldCreateNoFileUntilFirstChange() {
+            PlayerProfileManager manager = open();
+            assertTrue(manager.getAllProfiles().isEmpty());
+            manager.flush();
+            manager.close();
+            assertFalse(Files.exists(journal), "Le journal n'est créé qu'à la première modification");
+            assertFalse(Files.exists(snapshot));
+
+            PlayerProfileManager reopened = open();
+            reopened.getOrCreateProfile("alice", "Alice");
+            reopened.close();
+            assertTrue(Files.exists(journal));
+            PlayerProfileManager again = open();
+            assertEquals(1, again.getAllProfiles().size());
+            again.close();
+        }
+
+        @Test
+        void shouldOpenSingletonInChosenDirectory() {
+            PlayerProfileManager.setDirectory(directory);
+            try {
+                PlayerProfileManager manager = PlayerProfileManager.getInstance();
+                assertSame(manager, PlayerProfileManager.getInstance());
+                manager.getOrCreateProfile("alice", "Alice");
+                manager.flush();
+                assertTrue(Files.exists(journal));
+            } finally {
+                PlayerProfileManager.setDirectory(null);
+            }
+            PlayerProfileManager reopened = open();
+            assertEquals("Alice", reopened.getOrCreateProfile("alice", "Autre").getFirstName());
+            reopened.close();
+        }
+
+        @Test
+        void shouldAppendOneSmallRecordPerChange() throws IOException {
+            PlayerProfileManager manager = open();
+            for (int i = 0; i < 500; i++) {
+                manager.getOrCreateProfile("joueur" + i, "Joueur");
+            }
+            manager.saveProfiles();
+            long snapshotSize = Files.size(snapshot);
+
+            PlayerProfile profile = manager.getOrCreateProfile("joueur7", "Joueur");
+            profile.incrementGamesPlayed();
+            manager.saveProfile(profile);
+            manager.flush();
+            assertTrue(Files.size(journal) < 64, "Journal : " + Files.size(journal) + " o");
+            assertEquals(snapshotSize, Files.size(snapshot), "L'instantané ne doit pas être réécrit");
+            manager.close();
+        }
+
+        @Test
+        void shouldCompactWhenJournalOutgrowsProfiles() throws IOException {
+            PlayerProfileManager manager = open();
+            PlayerProfile profile = manager.getOrCreateProfile("alice", "Alice");
+            manager.flush();
+            // Une écriture par mise à jour : la dernière trouve le journal plein et le compacte
+            for (int i = 1; i <= ProfileJournal.COMPACTION_MIN_RECORDS; i++) {
+                profile.incrementGamesPlayed();
+                manager.saveProfile(profile);
+                manager.flush();
+            }
+            assertEquals(ProfileJournal.HEADER_SIZE, Files.size(journal));
+            assertFalse(Files.exists(directory.resolve("profiles.dat.tmp")));
+            manager.close();
+
+            PlayerProfileManager reopened = open();
+            assertEquals(ProfileJournal.COMPACTION_MIN_RECORDS,
+                    reopened.getOrCreateProfile("alice", "Alice").getGamesPlayed());
+            reopened.close();
+        }
+    }
+
+    @Nested
+    class CrashTests {
+
+        @Test
+        void shouldDropTornRecordAndKeepEarlierChanges() throws IOException {
+            PlayerProfileManager manager = open();
+            PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+            alice.incrementGamesPlayed();
+            manager.saveProfile(alice);
+            manager.close();
+            long valid = Files.size(journal);
+
+            // Écriture interrompue : taille annoncée, contenu incomplet
+            Files.write(journal, new byte[] {0, 0, 0, 40, ProfileJournal.PUT, 0, 5, 'a'}, StandardOpenOption.APPEND);
+
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            Map<String, PlayerProfile> profiles = reopened.load();
+            assertEquals(1, profiles.get("alice").getGamesPlayed());
+            assertEquals(valid, Files.size(journal), "La fin incomplète doit être effacée");
+
+            reopened.put(profiles.get("alice"));
+            reopened.close();
+            ProfileJournal again = new ProfileJournal(snapshot, journal);
+            assertEquals(1, again.load().get("alice").getGamesPlayed());
+            // Création et mise à jour regroupées en un seul enregistrement
+            assertEquals(2, again.getRecordCount());
+            again.close();
+        }
+
+        @Test
+        void shouldIgnoreJournalAbsorbedByCompaction() throws IOException {
+            ProfileJournal store = new ProfileJournal(snapshot, journal);
+            Map<String, PlayerProfile> profiles = store.load();
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            alice.incrementGamesPlayed();
+            store.put(alice);
+            store.delete("bob");
+            store.sync();
+            byte[] stale = Files.readAllBytes(journal);
+
+            // Instantané plus récent que le journal, puis panne avant la remise à zéro du journal
+            alice.incrementGamesPlayed();
+            profiles.put("alice", alice);
+            profiles.put("bob", new PlayerProfile("bob", "Bob"));
+            store.compact(profiles);
+            store.close();
+            Files.write(journal, stale);
+
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            Map<String, PlayerProfile> loaded = reopened.load();
+            assertEquals(1, reopened.getGeneration());
+            assertEquals(2, loaded.get("alice").getGamesPlayed(), "Le journal absorbé ne doit pas être rejoué");
+            assertTrue(loaded.containsKey("bob"));
+            assertEquals(0, reopened.getRecordCount());
+
+            // Le journal repart de la nouvelle génération
+            loaded.get("alice").incrementGamesPlayed();
+            reopened.put(loaded.get("alice"));
+            reopened.close();
+            ProfileJournal again = new ProfileJournal(snapshot, journal);
+            assertEquals(3, again.load().get("alice").getGamesPlayed());
+            again.close();
+        }
+
+        @Test
+        void shouldRejectCorruptedRecord() throws IOException {
+            PlayerProfileManager manager = open();
+            manager.getOrCreateProfile("alice", "Alice");
+            manager.getOrCreateProfile("bob", "Bob");
+            manager.close();
+
+            byte[] bytes = Files.readAllBytes(journal);
+            bytes[bytes.length - 6] ^= 1;
+            Files.write(journal, bytes);
+
+            PlayerProfileManager reopened = open();
+            assertEquals(1, reopened.getAllProfiles().size());
+            reopened.close();
+        }
+    }
+
+    @Nested
+    class WriterTests {
+
+        @Test
+        void shouldCoalesceBurstIntoOneFlush() throws Exception {
+            ProfileJournal store = new ProfileJournal(snapshot, journal);
+            store.load();
+            ProfileWriter writer = new ProfileWriter(store, 60_000);
+            writer.start();
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            PlayerProfile bob = new PlayerProfile("bob", "Bob");
+            for (int i = 0; i < 50; i++) {
+                alice.incrementGamesPlayed();
+                writer.submitPut(alice);
+                writer.submitPut(bob);
+            }
+            assertEquals(2, writer.getPendingCount());
+            assertFalse(Files.exists(journal), "Rien ne doit être écrit pendant la fenêtre");
+
+            long start = System.nanoTime();
+            writer.flush();
+            assertTrue(System.nanoTime() - start < 5_000_000_000L, "flush ne doit pas attendre la fenêtre");
+            assertEquals(0, writer.getPendingCount());
+            assertEquals(1, writer.getFlushCount());
+            assertEquals(2, writer.getWrittenRecords());
+            assertEquals(2, store.getRecordCount());
+
+            // Le profil déposé est une copie : la suite de la partie ne la modifie pas
+            alice.incrementGamesPlayed();
+            writer.close();
+            store.close();
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            assertEquals(50, reopened.load().get("alice").getGamesPlayed());
+            reopened.close();
+        }
+
+        @Test
+        void shouldCopyProfilesOnWriterThreadWhenCompacting() throws Exception {
+            ProfileJournal store = new ProfileJournal(snapshot, journal);
+            store.load();
+            ProfileWriter writer = new ProfileWriter(store, 60_000);
+            writer.start();
+            Map<String, PlayerProfile> profiles = new ConcurrentHashMap<>();
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            profiles.put("alice", alice);
+            writer.submitPut(alice);
+            writer.submitCompaction(profiles);
+            assertTrue(writer.isCompactionPending());
+
+            // Modifié après le dépôt : la copie n'est prise qu'au moment d'écrire
+            alice.incrementGamesPlayed();
+            writer.flush();
+            assertFalse(writer.isCompactionPending());
+            assertEquals(0, store.getRecordCount());
+            writer.close();
+            store.close();
+
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            assertEquals(1, reopened.load().get("alice").getGamesPlayed());
+            reopened.close();
+        }
+
+        @Test
+        void shouldKeepChangesSubmittedBeforeFailedCompaction() throws Exception {
+            ProfileJournal store = new ProfileJournal(snapshot, journal);
+            store.load();
+            ProfileWriter writer = new ProfileWriter(store, 60_000);
+            writer.start();
+            Map<String, PlayerProfile> profiles = new ConcurrentHashMap<>();
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            profiles.put("alice", alice);
+            writer.submitPut(alice);
+            // Le répertoire temporaire de l'instantané est occupé : le compactage échoue
+            Files.createDirectory(directory.resolve("profiles.dat.tmp"));
+            Files.writeString(directory.resolve("profiles.dat.tmp").resolve("bloque"), "x");
+            writer.submitCompaction(profiles);
+            writer.flush();
+            assertEquals(1, writer.getFailedFlushes());
+            writer.close();
+            store.close();
+            Files.delete(directory.resolve("profiles.dat.tmp").resolve("bloque"));
+            Files.delete(directory.resolve("profiles.dat.tmp"));
+
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            assertEquals("Alice", reopened.load().get("alice").getFirstName());
+            reopened.close();
+        }
+
+        @Test
+        void shouldSkipRejectedProfileAndKeepWriting() throws Exception {
+            ProfileJournal store = new ProfileJournal(snapshot, journal);
+            store.load();
+            ProfileWriter writer = new ProfileWriter(store, 0);
+            writer.start();
+            writer.submitPut(new PlayerProfile("enorme", "x".repeat(70_000)));
+            writer.submitPut(new PlayerProfile("alice", "Alice"));
+            writer.flush();
+            assertEquals(1, writer.getRejectedRecords());
+            assertEquals(1, writer.getWrittenRecords());
+
+            // Le thread d'écriture continue après le refus
+            writer.submitPut(new PlayerProfile("bob", "Bob"));
+            writer.flush();
+            assertEquals(2, writer.getWrittenRecords());
+            writer.close();
+            store.close();
+
+            ProfileJournal reopened = new ProfileJournal(snapshot, journal);
+            Map<String, PlayerProfile> loaded = reopened.load();
+            assertEquals(2, loaded.size());
+            assertFalse(loaded.containsKey("enorme"));
+            reopened.close();
+        }
+
+        @Test
+        void shouldWritePendingChangesOnClose() {
+            PlayerProfileManager manager = open();
+            PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+            alice.incrementGamesPlayed();
+            alice.incrementGamesWon();
+            manager.saveProfile(alice);
+            manager.deleteProfile("alice");
+            manager.getOrCreateProfile("bob", "Bob");
+            assertTrue(manager.getWriter().getPendingCount() > 0);
+            manager.close();
+
+            PlayerProfileManager reopened = open();
+            assertEquals(1, reopened.getAllProfiles().size());
+            assertEquals("Bob", reopened.getOrCreateProfile("bob", "Autre").getFirstName());
+            reopened.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileLeaderboardTest {
+
+    private static PlayerProfile profile(String username, int played, int won, double rating) {
+        PlayerProfile profile = new PlayerProfile(username, "Joueur" + (char) ('A' + won % 5));
+        profile.restoreCounters(played, won);
+        profile.setRating(new Rating(rating, 50));
+        return profile;
+    }
+
+    private static List<String> expected(Map<String, PlayerProfile> profiles, Comparator<PlayerProfile> order) {
+        return profiles.values().stream()
+                .sorted(order.thenComparing(PlayerProfile::getUsername))
+                .map(PlayerProfile::getUsername)
+                .toList();
+    }
+
+    @Nested
+    class IndexTests {
+
+        @Test
+        void shouldStaySortedUnderUpdatesAndRemovals() {
+            Random random = new Random(42);
+            Map<String, PlayerProfile> profiles = new HashMap<>();
+            for (int i = 0; i < 500; i++) {
+                int played = random.nextInt(30);
+                profiles.put("joueur" + i, profile("joueur" + i, played, random.nextInt(played + 1), 1400 + random.nextInt(200)));
+            }
+            ProfileLeaderboard leaderboard = new ProfileLeaderboard(profiles.values());
+
+            for (int step = 0; step < 2000; step++) {
+                String username = "joueur" + random.nextInt(700);
+                if (random.nextInt(10) == 0) {
+                    assertEquals(profiles.remove(username) != null, leaderboard.remove(username));
+                } else {
+                    int played = random.nextInt(30);
+                    PlayerProfile profile = profile(username, played, random.nextInt(played + 1), 1400 + random.nextInt(200));
+                    profiles.put(username, profile);
+                    leaderboard.update(profile);
+                }
+            }
+
+            int size = profiles.size();
+            assertEquals(size, leaderboard.size());
+            assertEquals(expected(profiles, Comparator.comparingDouble((PlayerProfile p) -> p.getRating().getRating()).reversed()),
+                    leaderboard.page(ProfileLeaderboard.Order.RATING, 0, size, false));
+            assertEquals(expected(profiles, Comparator.comparingInt(PlayerProfile::getGamesWon).reversed()),
+                    leaderboard.page(ProfileLeaderboard.Order.GAMES_WON, 0, size, false));
+            List<String> byWinRate = expected(profiles, Comparator.comparingDouble(PlayerProfile::getWinRate).reversed()
+                    .thenComparing(Comparator.comparingInt(PlayerProfile::getGamesPlayed).reversed()));
+            assertEquals(byWinRate, leaderboard.page(ProfileLeaderboard.Order.WIN_RATE, 0, size, false));
+            assertEquals(expected(profiles, Comparator.comparingInt(PlayerProfile::getGamesPlayed).reversed()),
+                    leaderboard.page(ProfileLeaderboard.Order.GAMES_PLAYED, 0, size, false));
+            assertEquals(expected(profiles, Comparator.comparing(PlayerProfile::getUsername)),
+                    leaderboard.page(ProfileLeaderboard.Order.USERNAME, 0, size, false));
+            assertEquals(expected(profiles, Comparator.comparing(PlayerProfile::getFirstName)),
+                    leaderboard.page(ProfileLeaderboard.Order.FIRST_NAME, 0, size, false));
+
+            List<String> reversed = new ArrayList<>(byWinRate).reversed();
+            assertEquals(reversed.subList(10, 20), leaderboard.page(ProfileLeaderboard.Order.WIN_RATE, 10, 10, true));
+            assertEquals(byWinRate.subList(size - 3, size), leaderboard.page(ProfileLeaderboard.Order.WIN_RATE, size - 3, 10, false));
+            assertTrue(leaderboard.page(ProfileLeaderboard.Order.RATING, size, 10, false).isEmpty());
+            assertEquals(byWinRate.indexOf(byWinRate.get(7)), leaderboard.rankOf(ProfileLeaderboard.Order.WIN_RATE, byWinRate.get(7)));
+        }
+    }
+
+    @Nested
+    class ManagerTests {
+
+        @Test
+        void shouldNotRankBots() {
+            PlayerProfile bot = profile(RatingSystem.BOT_USERNAME, 100, 90, 1900);
+            ProfileLeaderboard leaderboard = new ProfileLeaderboard(List.of(bot, profile("alice", 1, 1, 1500)));
+            leaderboard.update(bot);
+
+            assertEquals(1, leaderboard.size());
+            assertEquals(List.of("alice"), leaderboard.page(ProfileLeaderboard.Order.RATING, 0, 10, false));
+            assertEquals(-1, leaderboard.rankOf(ProfileLeaderboard.Order.RATING, RatingSystem.BOT_USERNAME));
+        }
+
+        @Test
+        void shouldBuildMappedLeaderboardInBackground() throws IOException {
+            Path directory = Files.createTempDirectory("profiles");
+            Path file = directory.resolve("profiles.db");
+            try {
+                try (MappedProfileStore store = new MappedProfileStore(file)) {
+                    for (int i = 0; i < 50; i++) {
+                        store.put(profile("joueur" + i, 10, i % 10, 1500));
+                    }
+                }
+                PlayerProfileManager manager = new PlayerProfileManager(new MappedProfileStore(file));
+                // Modifié pendant ou après la construction : le classement suit
+                PlayerProfile best = manager.getOrCreateProfile("joueur3", "Autre");
+                best.restoreCounters(10, 10);
+                manager.saveProfile(best);
+                assertTrue(manager.deleteProfile("joueur9"));
+                manager.getBotProfile();
+
+                assertEquals(49, manager.getLeaderboard().size());
+                List<PlayerProfile> top = manager.getLeaderboardPage(ProfileLeaderboard.Order.GAMES_WON, 0, 60, false);
+                assertEquals(49, top.size());
+                assertEquals("joueur3", top.get(0).getUsername());
+                assertEquals(List.of("joueur0", "joueur1"), manager.getLeaderboardPage(
+                        ProfileLeaderboard.Order.USERNAME, 0, 2, false).stream().map(PlayerProfile::getUsername).toList());
+                manager.close();
+            } finally {
+                Files.deleteIfExists(file);
+                Files.delete(directory);
+            }
+        }
+
+        @Test
+        void shouldFollowProfileChanges() throws IOException {
+            Path directory = Files.createTempDirectory("profiles");
+            PlayerProfileManager manager = new PlayerProfileManager(
+                    directory.resolve("profiles.dat"), directory.resolve("profiles.journal"));
+            try {
+                PlayerProfile alice = manager.getOrCreateProfile("alice", "Alice");
+                manager.getOrCreateProfile("bob", "Bob");
+                manager.getOrCreateProfile("carol", "Carol");
+
+                alice.incrementGamesPlayed();
+                alice.incrementGamesWon();
+                manager.saveProfile(alice);
+                List<PlayerProfile> top = manager.getLeaderboardPage(ProfileLeaderboard.Order.GAMES_WON, 0, 2, false);
+                assertSame(alice, top.get(0));
+                assertEquals("bob", top.get(1).getUsername());
+
+                assertTrue(manager.deleteProfile("bob"));
+                assertEquals(2, manager.getLeaderboard().size());
+                assertEquals("carol", manager.getLeaderboardPage(ProfileLeaderboard.Order.GAMES_WON, 1, 5, false)
+                        .get(0).getUsername());
+            } finally {
+                manager.close();
+                try (var files = Files.list(directory)) {
+                    for (Path path : files.toList()) {
+                        Files.delete(path);
+                    }
+                }
+                Files.delete(directory);
+            }
+        }
+    }
+}
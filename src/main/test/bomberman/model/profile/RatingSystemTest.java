@@ -0,0 +1,144 @@
+package bomberman.model.profile;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingSystemTest {
+
+    @Nested
+    class UpdateTests {
+
+        @Test
+        void shouldRewardPlacementAgainstOpponentStrength() {
+            Rating[] updated = RatingSystem.update(
+                    new Rating[]{Rating.DEFAULT, Rating.DEFAULT, Rating.DEFAULT},
+                    new int[]{1, 2, 3});
+
+            assertTrue(updated[0].getRating() > 1500);
+            assertEquals(1500, updated[1].getRating(), 1e-9);
+            assertTrue(updated[2].getRating() < 1500);
+            assertEquals(updated[0].getRating() - 1500, 1500 - updated[2].getRating(), 1e-9);
+            assertTrue(updated[0].getDeviation() < Rating.DEFAULT.getDeviation());
+
+            Rating strong = new Rating(1900, 60);
+            Rating weak = new Rating(1400, 60);
+            double upset = RatingSystem.update(new Rating[]{weak, strong}, new int[]{1, 2})[0].getRating() - 1400;
+            double expected = RatingSystem.update(new Rating[]{strong, weak}, new int[]{1, 2})[0].getRating() - 1900;
+            assertTrue(upset > 4 * expected, "Exploit : " + upset + ", attendu : " + expected);
+        }
+
+        @Test
+        void shouldReplayHistoryLikeLiveUpdates() {
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            Rating live = Rating.DEFAULT;
+            int[][] matches = {{1, 2}, {3, 4}, {2, 4}, {1, 3}, {4, 4}};
+            for (int[] match : matches) {
+                int placement = match[0];
+                int count = match[1];
+                Rating[] ratings = new Rating[count];
+                int[] placements = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ratings[i] = i == 0 ? live : Rating.DEFAULT;
+                    // Adversaires sans égalité : placements distincts autour de celui d'Alice
+                    placements[i] = i == 0 ? placement : i < placement ? i : i + 1;
+                }
+                live = RatingSystem.update(ratings, placements)[0];
+                alice.recordMatch(new MatchRecord(0, MatchRecord.MODE_CLASSIC, count, placement, 60, 0, 0, 0));
+            }
+
+            Rating replayed = RatingSystem.replay(alice.getMatchHistory(), Rating.DEFAULT);
+            assertEquals(live.getRating(), replayed.getRating(), 1e-6);
+            assertEquals(live.getDeviation(), replayed.getDeviation(), 1e-6);
+        }
+
+        @Test
+        void shouldScoreTiesAsDrawsWhenReplaying() {
+            // Alice à égalité avec un adversaire à la 2e place, puis match nul à quatre
+            int[][] matches = {{2, 1, 2, 2, 4}, {1, 1, 1, 1}};
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            Rating live = Rating.DEFAULT;
+            for (int[] placements : matches) {
+                Rating[] ratings = new Rating[placements.length];
+                Arrays.fill(ratings, Rating.DEFAULT);
+                ratings[0] = live;
+                live = RatingSystem.update(ratings, placements)[0];
+                int tied = 0;
+                for (int i = 1; i < placements.length; i++) {
+                    if (placements[i] == placements[0]) tied++;
+                }
+                alice.recordMatch(new MatchRecord(0, MatchRecord.MODE_CLASSIC, placements.length, placements[0],
+                        tied, 60, 0, 0, 0));
+            }
+
+            assertEquals(3, alice.getMatchHistory().get(0).getTiedOpponents());
+            Rating replayed = RatingSystem.replay(alice.getMatchHistory(), Rating.DEFAULT);
+            assertEquals(live.getRating(), replayed.getRating(), 1e-6);
+            assertEquals(live.getDeviation(), replayed.getDeviation(), 1e-6);
+        }
+
+        @Test
+        void shouldRecomputeProfilesInParallel() {
+            List<PlayerProfile> profiles = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                PlayerProfile profile = new PlayerProfile("joueur" + i, "Joueur");
+                for (int match = 0; match < i % 20; match++) {
+                    int mode = match % 3 == 0 ? MatchRecord.MODE_AI : MatchRecord.MODE_CLASSIC;
+                    profile.recordMatch(new MatchRecord(0, mode, 4, (i + match) % 4 + 1, 60, 0, 0, 0));
+                }
+                profiles.add(profile);
+            }
+            PlayerProfile bot = new PlayerProfile(RatingSystem.BOT_USERNAME, "IA");
+            Rating botRating = new Rating(1700, 80);
+            bot.setRating(botRating);
+            profiles.add(bot);
+
+            RatingSystem.recompute(profiles, botRating);
+
+            assertSame(botRating, bot.getRating());
+            for (PlayerProfile profile : profiles.subList(0, 2000)) {
+                assertEquals(RatingSystem.replay(profile.getMatchHistory(), botRating), profile.getRating());
+            }
+            assertEquals(Rating.DEFAULT, profiles.get(0).getRating());
+        }
+    }
+
+    @Nested
+    class StorageTests {
+
+        @Test
+        void shouldStoreRatingWithProfile() throws IOException {
+            PlayerProfile alice = new PlayerProfile("alice", "Alice");
+            PlayerProfile bob = new PlayerProfile("bob", "Bob");
+            alice.setRating(new Rating(1623.5, 87.25));
+
+            var decoded = ProfileCodec.decode(ProfileCodec.encode(List.of(alice, bob)));
+            assertEquals(alice.getRating(), decoded.get("alice").getRating());
+            assertFalse(decoded.get("bob").isRated());
+
+            Path directory = Files.createTempDirectory("profiles");
+            Path file = directory.resolve("profiles.db");
+            try {
+                try (MappedProfileStore store = new MappedProfileStore(file)) {
+                    store.put(alice);
+                    store.put(bob);
+                }
+                try (MappedProfileStore reopened = new MappedProfileStore(file)) {
+                    assertEquals(alice.getRating(), reopened.get("alice").getRating());
+                    assertFalse(reopened.get("bob").isRated());
+                }
+            } finally {
+                Files.deleteIfExists(file);
+                Files.delete(directory);
+            }
+        }
+    }
+}
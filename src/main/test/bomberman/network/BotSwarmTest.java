@@ -0,0 +1,93 @@
+package bomberman.network;
+
+import bomberman.model.ai.BotBrain;
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameGrid;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotSwarmTest {
+
+    private static GameManager createMatch(int players, long seed) {
+        return GameManager.createSeededMatch(players, seed, true);
+    }
+
+    private static int countDestructibleWalls(GameGrid grid) {
+        int count = 0;
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                if (grid.isDestructibleWall(x, y)) count++;
+            }
+        }
+        return count;
+    }
+
+    @Nested
+    class BrainTests {
+
+        @Test
+        void shouldEscapeOwnBomb() {
+            GameManager manager = createMatch(2, 3);
+            GamePlayer bot = manager.getPlayers().get(0);
+            int lives = bot.getStats().getLives();
+            // Délai de pose de la première bombe
+            while (manager.getTickCount() * GameConstants.TICK_DURATION <= GameConstants.DEFAULT_BOMB_COOLDOWN) {
+                manager.step(0);
+            }
+            manager.step(PlayerInput.pack(0, 0, PlayerInput.of(PlayerInput.NONE, true)));
+            assertEquals(1, manager.getBombSystem().getBombs().size());
+
+            BotBrain brain = new BotBrain(1);
+            int first = brain.nextInput(manager, 0);
+            assertNotEquals(PlayerInput.NONE, PlayerInput.direction(first), "Le bot doit quitter la case de sa bombe");
+            // Au-delà de l'explosion de la bombe (180 ticks)
+            for (int tick = 0; tick < 240; tick++) {
+                manager.step(PlayerInput.pack(0, 0, brain.nextInput(manager, 0)));
+            }
+            assertEquals(lives, bot.getStats().getLives());
+        }
+
+        @Test
+        void shouldDestroyWallsWhenBotsPlayEachOther() {
+            GameManager manager = createMatch(4, 5);
+            int walls = countDestructibleWalls(manager.getGrid());
+            BotBrain[] brains = new BotBrain[4];
+            for (int i = 0; i < 4; i++) {
+                brains[i] = new BotBrain(i);
+            }
+
+            while (manager.isGameRunning() && manager.getTickCount() < 3000) {
+                int frame = 0;
+                for (int i = 0; i < 4; i++) {
+                    frame = PlayerInput.pack(frame, i, brains[i].nextInput(manager, i));
+                }
+                manager.step(frame);
+            }
+            assertTrue(countDestructibleWalls(manager.getGrid()) < walls - 10,
+                    "Les bots doivent ouvrir la carte : " + countDestructibleWalls(manager.getGrid()) + "/" + walls);
+        }
+    }
+
+    @Nested
+    class SwarmTests {
+
+        @Test
+        void shouldFillRoomsAndMeasureLoad() throws Exception {
+            LoadBenchmark.Sample sample = LoadBenchmark.measure(3, 2, 1, 500, 1000);
+
+            assertEquals(3, sample.getOpenRooms());
+            assertEquals(0, sample.getFailedJoins());
+            // Environ 62 ticks par seconde et par salle
+            assertTrue(sample.getTicks().getCount() > 3 * 40, sample.toString());
+            assertTrue(sample.getTicks().getPercentileNanos(99) > 0);
+            // Au moins une trame par tick vers chacun des deux joueurs
+            assertTrue(sample.getBytesPerRoomPerSecond() > 2 * DedicatedProtocol.FRAME_SIZE * 40, sample.toString());
+            assertTrue(sample.getSimulationCpuPerRoom() > 0);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package bomberman.network;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.MatchReplay;
+import bomberman.model.game.PlayerInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DedicatedServerTest {
+
+    private DedicatedServer server;
+    private final List<DedicatedClient> clients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(DedicatedClient::close);
+        clients.clear();
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private void connect(int count, int roomId) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<DedicatedClient>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(() -> new DedicatedClient("localhost", server.getPort(), roomId)));
+            }
+            for (Future<DedicatedClient> future : futures) {
+                clients.add(future.get());
+            }
+        }
+    }
+
+    private static boolean waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @Nested
+    class RoomTests {
+
+        @Test
+        void shouldHostManyRoomsConcurrently() throws Exception {
+            server = new DedicatedServer(0, 2, 2);
+            server.start();
+            connect(40, DedicatedClient.ANY_ROOM);
+
+            Set<String> seats = new HashSet<>();
+            for (DedicatedClient client : clients) {
+                assertTrue(seats.add(client.getRoomId() + ":" + client.getPlayerNumber()));
+                assertTrue(client.awaitTick(60, 5000), "Salle " + client.getRoomId() + " bloquée");
+            }
+            assertEquals(20, server.getRoomCount());
+            assertTrue(server.getMetrics().getCount() >= 20 * 60);
+            assertTrue(server.getMetrics().getPercentileNanos(50) > 0);
+        }
+
+        @Test
+        void shouldReplayInputsAppliedByServer() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            connect(2, 12);
+            DedicatedClient first = clients.get(0).getPlayerNumber() == 1 ? clients.get(0) : clients.get(1);
+            DedicatedClient second = first == clients.get(0) ? clients.get(1) : clients.get(0);
+            assertEquals(12, first.getRoomId());
+            assertEquals(first.getSeed(), second.getSeed());
+
+            first.sendInput(PlayerInput.of(PlayerInput.RIGHT, false));
+            assertTrue(second.awaitTick(60, 5000));
+            synchronized (second) {
+                GamePlayer mirrored = second.getGameManager().getPlayers().get(0);
+                assertTrue(mirrored.getTargetX() > 1, "Le déplacement du joueur 1 n'a pas été rejoué");
+            }
+        }
+
+        @Test
+        void shouldRejectJoinIntoFullRoom() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            connect(2, 5);
+
+            IOException error = assertThrows(IOException.class,
+                    () -> new DedicatedClient("localhost", server.getPort(), 5));
+            assertTrue(error.getMessage().contains("pleine"));
+            assertEquals(1, server.getRejectedJoins());
+        }
+
+        @Test
+        void shouldCloseRoomWhenAllPlayersLeave() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            connect(2, DedicatedClient.ANY_ROOM);
+            assertTrue(clients.get(0).awaitTick(10, 5000));
+
+            clients.forEach(DedicatedClient::close);
+            assertTrue(waitFor(() -> server.getRoomCount() == 0));
+            assertEquals(1, server.getClosedRoomCount());
+            assertTrue(waitFor(() -> server.getConnectionCount() == 0));
+        }
+
+        @Test
+        void shouldReleaseConnectionsAndPortOnClose() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            connect(2, DedicatedClient.ANY_ROOM);
+            assertTrue(clients.get(0).awaitTick(10, 5000));
+            int port = server.getPort();
+
+            server.close();
+            // close() attend la boucle réseau : canaux et port sont libérés à son retour
+            assertEquals(0, server.getRoomCount());
+            server = new DedicatedServer(port, 2, 1);
+            assertEquals(port, server.getPort());
+        }
+
+        @Test
+        void shouldSaveReplayReproducingRoom() throws Exception {
+            Path directory = Files.createTempDirectory("replays");
+            server = new DedicatedServer(0, 2, 1);
+            server.setReplayDirectory(directory);
+            server.start();
+            connect(2, 3);
+            ServerRoom room = server.getRooms().get(0);
+            clients.get(0).sendInput(PlayerInput.of(PlayerInput.DOWN, true));
+            assertTrue(clients.get(1).awaitTick(60, 5000));
+
+            clients.forEach(DedicatedClient::close);
+            Path file = directory.resolve("salle-3-" + Long.toHexString(room.getSeed()) + ".bmr");
+            try {
+                assertTrue(waitFor(() -> Files.exists(file) && room.isClosed()));
+                assertTrue(waitFor(() -> {
+                    try {
+                        return MatchReplay.read(file).getTickCount() == room.getTick();
+                    } catch (IOException e) {
+                        return false;
+                    }
+                }));
+                MatchReplay replay = MatchReplay.read(file);
+                GameManager playback = replay.createGame(true);
+                replay.playTo(playback, replay.getTickCount());
+                assertEquals(room.getGameManager().checksum(), playback.checksum());
+            } finally {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(directory);
+            }
+        }
+    }
+
+    @Nested
+    class MetricsTests {
+
+        @Test
+        void shouldComputePercentilesAndOverruns() {
+            TickMetrics metrics = new TickMetrics();
+            for (int i = 1; i <= 100; i++) {
+                metrics.record(i * 100_000L);
+            }
+            metrics.record(30_000_000L);
+
+            assertEquals(101, metrics.getCount());
+            assertEquals(30_000_000L, metrics.getMaxNanos());
+            assertEquals(1, metrics.getOverruns());
+            assertEquals(5_100_000L, metrics.getPercentileNanos(50), 2 * TickMetrics.BUCKET_MICROS * 1000);
+            assertEquals(30_000_000L, metrics.getPercentileNanos(100));
+        }
+
+        @Test
+        void shouldMergeRoomMetrics() {
+            TickMetrics first = new TickMetrics();
+            TickMetrics second = new TickMetrics();
+            first.record(1_000_000);
+            second.record(3_000_000);
+            second.recordShed(4);
+
+            TickMetrics total = new TickMetrics();
+            total.merge(first);
+            total.merge(second);
+            assertEquals(2, total.getCount());
+            assertEquals(2_000_000, total.getMeanNanos());
+            assertEquals(4, total.getShedTicks());
+        }
+
+        @Test
+        void shouldMeasureWindowSinceBaseline() {
+            TickMetrics metrics = new TickMetrics();
+            metrics.record(20_000_000L);
+            metrics.recordShed(2);
+            TickMetrics baseline = new TickMetrics();
+            baseline.merge(metrics);
+
+            metrics.record(1_000_000L);
+            metrics.record(3_000_000L);
+            TickMetrics window = metrics.since(baseline);
+            assertEquals(2, window.getCount());
+            assertEquals(2_000_000, window.getMeanNanos());
+            assertEquals(0, window.getOverruns());
+            assertEquals(0, window.getShedTicks());
+            assertEquals(3_000_000L, window.getMaxNanos(), TickMetrics.BUCKET_MICROS * 1000);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package bomberman.network;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImpairmentTest {
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            resources.get(i).close();
+        }
+    }
+
+    /** Serveur renvoyant tout ce qu'il reçoit */
+    private ServerSocket startEchoServer() throws IOException {
+        ServerSocket echo = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        resources.add(echo);
+        Thread.ofVirtual().start(() -> {
+            try (Socket socket = echo.accept()) {
+                socket.getInputStream().transferTo(socket.getOutputStream());
+            } catch (IOException e) {
+                // Fin du test
+            }
+        });
+        return echo;
+    }
+
+    private ImpairmentProxy startProxy(int targetPort, ImpairmentScenario scenario) throws IOException {
+        ImpairmentProxy proxy = new ImpairmentProxy(0, "localhost", targetPort, 5);
+        resources.add(proxy);
+        proxy.start();
+        proxy.play(scenario);
+        return proxy;
+    }
+
+    @Nested
+    class ScenarioTests {
+
+        @Test
+        void shouldSelectPhaseFromElapsedTime() {
+            ImpairmentProfile slow = new ImpairmentProfile(300, 0, 0, 0, 0);
+            ImpairmentScenario scenario = new ImpairmentScenario("test")
+                    .then(1000, ImpairmentProfile.LAN)
+                    .then(500, slow);
+
+            assertSame(ImpairmentProfile.LAN, scenario.profileAt(0));
+            assertSame(ImpairmentProfile.LAN, scenario.profileAt(999));
+            assertSame(slow, scenario.profileAt(1000));
+            assertSame(slow, scenario.profileAt(10_000), "La dernière phase se prolonge");
+            assertSame(ImpairmentProfile.LAN, scenario.repeat().profileAt(1600), "Un scénario répété reprend au début");
+            assertEquals(1500, scenario.getDurationMillis());
+            assertSame(ImpairmentProfile.NONE, new ImpairmentScenario("vide").profileAt(0));
+        }
+
+        @Test
+        void shouldRejectInvalidProfile() {
+            assertThrows(IllegalArgumentException.class, () -> new ImpairmentProfile(-1, 0, 0, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> new ImpairmentProfile(0, 0, 1.0, 0, 0));
+        }
+    }
+
+    @Nested
+    class ProxyTests {
+
+        @Test
+        void shouldDeliverStreamInOrderDespiteLossAndReordering() throws Exception {
+            ServerSocket sink = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            resources.add(sink);
+            List<Integer> received = new ArrayList<>();
+            Thread reader = Thread.ofVirtual().start(() -> {
+                try (Socket socket = sink.accept()) {
+                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    while (true) received.add(in.readInt());
+                } catch (IOException e) {
+                    // Fin du flux
+                }
+            });
+            ImpairmentProxy proxy = startProxy(sink.getLocalPort(),
+                    ImpairmentScenario.constant(new ImpairmentProfile(5, 10, 0.1, 0.1, 0)));
+
+            try (Socket socket = new Socket("localhost", proxy.getPort())) {
+                socket.setTcpNoDelay(true);
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                for (int i = 0; i < 200; i++) {
+                    out.writeInt(i);
+                    out.flush();
+                    // Une écriture par segment : le proxy doit l'avoir lue avant la suivante,
+                    // les tirages de perte et de désordre ne dépendent plus du regroupement
+                    long deadline = System.currentTimeMillis() + 5000;
+                    while (proxy.getSegmentCount() <= i && System.currentTimeMillis() < deadline) {
+                        Thread.onSpinWait();
+                    }
+                    assertEquals(i + 1, proxy.getSegmentCount());
+                }
+                socket.shutdownOutput();
+                reader.join(10_000);
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 200; i++) expected.add(i);
+            assertEquals(expected, received);
+            assertEquals(1, proxy.getConnectionCount());
+            assertEquals(800, proxy.getRelayedBytes());
+            assertTrue(proxy.getLostSegments() > 0);
+            assertTrue(proxy.getReorderedSegments() > 0);
+            assertTrue(proxy.getMaxDelayMillis() >= ImpairmentProxy.MIN_RETRANSMIT_MILLIS);
+        }
+
+        @Test
+        void shouldApplyLatencyAndBandwidthCap() throws Exception {
+            ServerSocket echo = startEchoServer();
+            ImpairmentProxy proxy = startProxy(echo.getLocalPort(),
+                    ImpairmentScenario.constant(new ImpairmentProfile(40, 0, 0, 0, 64 * 1024)));
+
+            try (Socket socket = new Socket("localhost", proxy.getPort())) {
+                OutputStream out = socket.getOutputStream();
+                InputStream in = socket.getInputStream();
+
+                long start = System.nanoTime();
+                out.write(1);
+                assertEquals(1, in.read());
+                long roundTripMillis = (System.nanoTime() - start) / 1_000_000;
+                assertTrue(roundTripMillis >= 80, "Aller-retour : " + roundTripMillis + " ms");
+
+                // 16 Ko à 64 Ko/s dans chaque sens : au moins 250 ms
+                start = System.nanoTime();
+                out.write(new byte[16 * 1024]);
+                out.flush();
+                assertEquals(16 * 1024, in.readNBytes(16 * 1024).length);
+                long transferMillis = (System.nanoTime() - start) / 1_000_000;
+                assertTrue(transferMillis >= 250, "Transfert : " + transferMillis + " ms");
+            }
+        }
+    }
+
+    @Nested
+    class GameTests {
+
+        @Test
+        void shouldKeepLockstepPeersInSync() throws Exception {
+            LockstepServer server = new LockstepServer(0, 2, 11, 3);
+            resources.add(server);
+            server.start();
+            ImpairmentProxy proxy = startProxy(server.getPort(), ImpairmentScenario.constant(ImpairmentProfile.WIFI));
+
+            List<LockstepClient> clients = new ArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                List<Future<LockstepClient>> futures = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    futures.add(executor.submit(() -> new LockstepClient("localhost", proxy.getPort())));
+                }
+                for (Future<LockstepClient> future : futures) {
+                    clients.add(future.get());
+                    resources.add(clients.get(clients.size() - 1));
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            Random random = new Random(8);
+            for (int tick = 0; tick < 150; tick++) {
+                for (LockstepClient client : clients) {
+                    client.submitInput(PlayerInput.of(random.nextInt(5), random.nextInt(20) == 0));
+                }
+                for (LockstepClient client : clients) {
+                    assertTrue(client.awaitFrame(5000), "Trame non reçue au tick " + (tick + 1));
+                }
+            }
+            // Laisse le temps aux dernières empreintes d'atteindre le serveur
+            Thread.sleep(200);
+
+            ImpairmentReport report = new ImpairmentReport(proxy.getScenario().getName());
+            report.recordProxy(proxy);
+            clients.forEach(report::recordClient);
+            assertEquals(2, report.getCheckedClients());
+            assertEquals(0, report.getDesyncedClients(), report.toString());
+            assertTrue(report.getMeanDelayMillis() >= ImpairmentProfile.WIFI.getLatencyMillis());
+            assertEquals(clients.get(0).getGameManager().checksum(), clients.get(1).getGameManager().checksum());
+        }
+
+        @Test
+        void shouldReportRollbacksOfPeersBehindProxy() throws Exception {
+            ServerSocket listener = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            resources.add(listener);
+            ImpairmentProxy proxy = startProxy(listener.getLocalPort(),
+                    ImpairmentScenario.constant(new ImpairmentProfile(20, 10, 0.02, 0.02, 0)));
+            Socket first = new Socket("localhost", proxy.getPort());
+            Socket second = listener.accept();
+            resources.add(first);
+            resources.add(second);
+
+            RollbackSession[] sessions = new RollbackSession[2];
+            Socket[] sockets = {first, second};
+            List<ConcurrentLinkedQueue<int[]>> received = List.of(new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>());
+            for (int peer = 0; peer < 2; peer++) {
+                GameManager manager = GameManager.createSeededMatch(2, 17, true);
+                sessions[peer] = new RollbackSession(manager, 2, peer);
+
+                DataInputStream in = new DataInputStream(sockets[peer].getInputStream());
+                ConcurrentLinkedQueue<int[]> inbox = received.get(peer);
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        while (true) inbox.add(new int[] {in.readInt(), in.readByte()});
+                    } catch (IOException e) {
+                        // Fin du test
+                    }
+                });
+            }
+
+            Random random = new Random(12);
+            int[] held = new int[2];
+            long deadline = System.currentTimeMillis() + 10_000;
+            while ((sessions[0].getConfirmedTick() < 120 || sessions[1].getConfirmedTick() < 120)
+                    && System.currentTimeMillis() < deadline) {
+                for (int peer = 0; peer < 2; peer++) {
+                    int[] message;
+                    while ((message = received.get(peer).poll()) != null) {
+                        sessions[peer].addRemoteInput(1 - peer, message[0], message[1]);
+                    }
+                    if (sessions[peer].getCurrentTick() >= 150) continue;
+                    if (random.nextInt(10) == 0) held[peer] = random.nextInt(5);
+                    if (sessions[peer].advance(held[peer])) {
+                        DataOutputStream out = new DataOutputStream(sockets[peer].getOutputStream());
+                        out.writeInt(sessions[peer].getCurrentTick());
+                        out.writeByte(held[peer]);
+                        out.flush();
+                    }
+                }
+                Thread.sleep(GameConstants.TICK_DURATION / 1_000_000);
+            }
+
+            ImpairmentReport report = new ImpairmentReport("rollback");
+            report.recordProxy(proxy);
+            report.recordSession(sessions[0]);
+            report.recordSession(sessions[1]);
+            assertTrue(report.getRollbackCount() > 0, report.toString());
+            assertTrue(report.getResimulatedTicks() >= report.getRollbackCount());
+            int tick = Math.min(sessions[0].getConfirmedTick(), sessions[1].getConfirmedTick());
+            assertTrue(tick >= 120, "Ticks confirmés : " + tick);
+        }
+
+        @Test
+        void shouldReportPredictionCorrectionsOfDedicatedClients() throws Exception {
+            DedicatedServer server = new DedicatedServer(0, 2, 1);
+            resources.add(server);
+            server.start();
+            ImpairmentProxy proxy = startProxy(server.getPort(),
+                    ImpairmentScenario.constant(new ImpairmentProfile(30, 10, 0, 0, 0)));
+            DedicatedClient first = new DedicatedClient("localhost", proxy.getPort(), 4);
+            resources.add(first);
+            DedicatedClient second = new DedicatedClient("localhost", proxy.getPort(), 4);
+            resources.add(second);
+
+            Random random = new Random(9);
+            int input = PlayerInput.NONE;
+            for (int tick = 0; tick < 90; tick++) {
+                if (random.nextInt(8) == 0) input = PlayerInput.of(random.nextInt(5), false);
+                first.sendPredictedInput(input);
+                second.sendPredictedInput(PlayerInput.NONE);
+                Thread.sleep(GameConstants.TICK_DURATION / 1_000_000);
+            }
+
+            ServerRoom room = server.getRooms().get(0);
+            ImpairmentReport report = new ImpairmentReport("dédié");
+            report.recordProxy(proxy);
+            report.recordClient(first, room);
+            report.recordClient(second, room);
+            // La gigue peut, ou non, retarder une commande au-delà de la file du serveur :
+            // le rapport cumule les corrections mesurées par chaque client
+            synchronized (first) {
+                synchronized (second) {
+                    assertTrue(first.getPredictor().getAcknowledged() > 0, "Commandes confirmées par le serveur");
+                    assertEquals(first.getPredictor().getCorrectionCount() + second.getPredictor().getCorrectionCount(),
+                            report.getCorrectionCount(), report.toString());
+                    assertEquals(Math.max(first.getPredictor().getMaxCorrection(), second.getPredictor().getMaxCorrection()),
+                            report.getMaxCorrection());
+                }
+            }
+            assertTrue(report.getMaxCorrection() >= report.getMeanCorrection());
+            assertEquals(0, report.getCheckedClients(), "Partie en cours : synchronisation non vérifiable");
+        }
+
+        @Test
+        void shouldPredictWithoutCorrectionsBehindConstantLatency() throws Exception {
+            DedicatedServer server = new DedicatedServer(0, 2, 1);
+            resources.add(server);
+            server.start();
+            ImpairmentProxy proxy = startProxy(server.getPort(),
+                    ImpairmentScenario.constant(new ImpairmentProfile(40, 0, 0, 0, 0)));
+            DedicatedClient first = new DedicatedClient("localhost", proxy.getPort(), 5);
+            resources.add(first);
+            DedicatedClient second = new DedicatedClient("localhost", proxy.getPort(), 5);
+            resources.add(second);
+
+            // Établissement de la liaison, déplacements, puis arrêt
+            Random random = new Random(3);
+            int input = PlayerInput.NONE;
+            boolean moved = false;
+            long next = System.nanoTime();
+            for (int tick = 0; tick < 240; tick++) {
+                if (tick >= 30 && tick < 180 && random.nextInt(8) == 0) {
+                    input = PlayerInput.of(random.nextInt(5), false);
+                } else if (tick == 180) {
+                    input = PlayerInput.NONE;
+                }
+                first.sendPredictedInput(input);
+                second.sendPredictedInput(PlayerInput.NONE);
+                synchronized (first) {
+                    GamePlayer player = first.getGameManager().getPlayers().get(0);
+                    moved |= player.getTargetX() != player.getSpawnX() || player.getTargetY() != player.getSpawnY();
+                }
+                next += GameConstants.TICK_DURATION;
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+
+            assertTrue(moved, "Le joueur doit s'être déplacé");
+            PlayerPredictor predictor = first.getPredictor();
+            long deadline = System.currentTimeMillis() + 2000;
+            synchronized (first) {
+                while (predictor.getAcknowledged() < predictor.getSequence()
+                        && System.currentTimeMillis() < deadline) {
+                    first.wait(50);
+                }
+                assertEquals(predictor.getSequence(), predictor.getAcknowledged(), "Toutes les commandes sont appliquées");
+                // Sans gigue, chaque commande est appliquée une fois, au tick prévu
+                assertTrue(predictor.getCorrectionCount() <= 2, "Corrections : " + predictor.getCorrectionCount());
+                predictor.reconcile();
+                GamePlayer authoritative = first.getGameManager().getPlayers().get(0);
+                assertEquals(authoritative.getVisualX(), predictor.getVisualX(), 1e-9);
+                assertEquals(authoritative.getVisualY(), predictor.getVisualY(), 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package bomberman.network;
+
+import bomberman.model.game.GameEventListener;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveFeedTest {
+
+    /** Abonné qui conserve le texte des événements reçus */
+    private static final class RecordingViewer implements SpectatorFeed.Viewer {
+        final List<String> events = new ArrayList<>();
+        final List<ByteBuffer> frames = new ArrayList<>();
+        boolean ended;
+
+        @Override
+        public boolean offer(ByteBuffer frame, boolean keyframe) {
+            frames.add(frame);
+            events.add(StandardCharsets.UTF_8.decode(frame.duplicate()).toString());
+            return true;
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+
+    @Nested
+    class FeedTests {
+
+        @Test
+        void shouldEncodeEventsOnceAndKeepExistingListener() {
+            GameManager manager = GameManager.createSeededMatch(4, 21, true);
+
+            int[] flames = new int[1];
+            manager.setEventListener(new GameEventListener() {
+                @Override
+                public void onFlame(int x, int y) {
+                    flames[0]++;
+                }
+            });
+            LiveEventFeed feed = new LiveEventFeed();
+            feed.attach(manager);
+            RecordingViewer first = new RecordingViewer();
+            RecordingViewer second = new RecordingViewer();
+            feed.addViewer(first);
+            feed.addViewer(second);
+
+            Random random = new Random(3);
+            int[] held = new int[4];
+            while (manager.isGameRunning() && manager.getTickCount() < 6000) {
+                int frame = 0;
+                for (int player = 0; player < 4; player++) {
+                    if (random.nextInt(30) == 0) held[player] = random.nextInt(5);
+                    frame = PlayerInput.pack(frame, player, PlayerInput.of(held[player], random.nextInt(60) == 0));
+                }
+                manager.step(frame);
+                feed.publish(manager);
+            }
+            feed.end(manager.getTickCount(), 0);
+
+            assertTrue(flames[0] > 0, "L'écouteur d'origine doit rester notifié");
+            assertEquals(feed.getEncodedEvents(), first.events.size());
+            assertEquals(first.events, second.events);
+            assertTrue(first.frames.get(0).isReadOnly());
+            assertTrue(first.events.get(0).startsWith("event: state\ndata: {\"tick\":6,"));
+            assertTrue(first.events.get(0).contains("\"grid\":["));
+            assertTrue(first.events.stream().anyMatch(e -> e.startsWith("event: events") && e.contains("\"deaths\":[[")));
+            assertTrue(first.events.stream().anyMatch(e -> e.contains("\"walls\":[[")));
+            assertTrue(first.events.get(first.events.size() - 1).startsWith("event: end"));
+            assertTrue(first.ended);
+            for (String event : first.events) {
+                assertTrue(event.endsWith("}\n\n"));
+            }
+        }
+    }
+
+    @Nested
+    class ServerTests {
+
+        private DedicatedServer server;
+        private LiveFeedServer liveFeeds;
+        private final List<DedicatedClient> clients = new ArrayList<>();
+
+        @AfterEach
+        void tearDown() {
+            clients.forEach(DedicatedClient::close);
+            if (liveFeeds != null) liveFeeds.close();
+            if (server != null) server.close();
+        }
+
+        @Test
+        void shouldStreamRoomAsServerSentEvents() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            liveFeeds = new LiveFeedServer(0, server::getLiveFeed);
+            liveFeeds.start();
+            clients.add(new DedicatedClient("localhost", server.getPort(), 3));
+            clients.add(new DedicatedClient("localhost", server.getPort(), 3));
+
+            HttpURLConnection connection = (HttpURLConnection)
+                    URI.create("http://127.0.0.1:" + liveFeeds.getPort() + "/live/3").toURL().openConnection();
+            connection.setReadTimeout(5000);
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(connection.getContentType().startsWith("text/event-stream"));
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                assertEquals("event: state", reader.readLine());
+                String data = reader.readLine();
+                assertTrue(data.startsWith("data: {\"tick\":"));
+                assertTrue(data.contains("\"grid\":["), "Le premier état d'un abonné est une image clé");
+                assertEquals("", reader.readLine());
+                assertEquals("event: state", reader.readLine());
+                assertFalse(reader.readLine().contains("\"grid\""));
+            }
+        }
+
+        @Test
+        void shouldRejectUnknownRoom() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            liveFeeds = new LiveFeedServer(0, server::getLiveFeed);
+            liveFeeds.start();
+
+            HttpURLConnection connection = (HttpURLConnection)
+                    URI.create("http://127.0.0.1:" + liveFeeds.getPort() + "/live/99").toURL().openConnection();
+            assertEquals(404, connection.getResponseCode());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package bomberman.network;
+
+import bomberman.model.game.GameGrid;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockstepTest {
+
+    private LockstepServer server;
+    private final List<LockstepClient> clients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(LockstepClient::close);
+        clients.clear();
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private void connect(int playerCount, long seed, int inputDelay) throws Exception {
+        server = new LockstepServer(0, playerCount, seed, inputDelay);
+        server.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(playerCount);
+        try {
+            List<Future<LockstepClient>> futures = new ArrayList<>();
+            for (int i = 0; i < playerCount; i++) {
+                futures.add(executor.submit(() -> new LockstepClient("localhost", server.getPort())));
+            }
+            for (Future<LockstepClient> future : futures) {
+                clients.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        clients.sort((a, b) -> Integer.compare(a.getPlayerNumber(), b.getPlayerNumber()));
+    }
+
+    private void play(int ticks, Random random) throws Exception {
+        for (int tick = 0; tick < ticks; tick++) {
+            for (LockstepClient client : clients) {
+                int input = PlayerInput.of(random.nextInt(5), random.nextInt(20) == 0);
+                assertTrue(client.submitInput(input));
+            }
+            for (LockstepClient client : clients) {
+                assertTrue(client.awaitFrame(5000), "Trame non reçue au tick " + (tick + 1));
+            }
+        }
+    }
+
+    @Nested
+    class PlayerInputTests {
+
+        @Test
+        void shouldPackFourPlayersInSixteenBits() {
+            int frame = 0;
+            frame = PlayerInput.pack(frame, 0, PlayerInput.of(PlayerInput.LEFT, true));
+            frame = PlayerInput.pack(frame, 1, PlayerInput.of(PlayerInput.DOWN, false));
+            frame = PlayerInput.pack(frame, 3, PlayerInput.of(PlayerInput.NONE, true));
+
+            assertEquals(0, frame & ~0xFFFF);
+            assertEquals(PlayerInput.LEFT, PlayerInput.direction(PlayerInput.unpack(frame, 0)));
+            assertTrue(PlayerInput.isBomb(PlayerInput.unpack(frame, 0)));
+            assertEquals(PlayerInput.DOWN, PlayerInput.direction(PlayerInput.unpack(frame, 1)));
+            assertFalse(PlayerInput.isBomb(PlayerInput.unpack(frame, 1)));
+            assertEquals(PlayerInput.NONE, PlayerInput.unpack(frame, 2));
+            assertTrue(PlayerInput.isBomb(PlayerInput.unpack(frame, 3)));
+        }
+
+        @Test
+        void shouldReplacePreviousInputOfSamePlayer() {
+            int frame = PlayerInput.pack(0, 2, PlayerInput.of(PlayerInput.UP, true));
+            frame = PlayerInput.pack(frame, 2, PlayerInput.of(PlayerInput.RIGHT, false));
+
+            assertEquals(PlayerInput.of(PlayerInput.RIGHT, false), PlayerInput.unpack(frame, 2));
+        }
+    }
+
+    @Nested
+    class DeterminismTests {
+
+        private GameManager createMatch(long seed) {
+            return GameManager.createSeededMatch(4, seed, false);
+        }
+
+        @Test
+        void shouldProduceSameStateFromSameSeedAndInputs() {
+            GameManager first = createMatch(42);
+            GameManager second = createMatch(42);
+            Random inputs = new Random(7);
+
+            for (int tick = 0; tick < 600; tick++) {
+                int frame = 0;
+                for (int player = 0; player < 4; player++) {
+                    frame = PlayerInput.pack(frame, player,
+                            PlayerInput.of(inputs.nextInt(5), inputs.nextInt(15) == 0));
+                }
+                first.step(frame);
+                second.step(frame);
+                assertEquals(first.checksum(), second.checksum(), "Divergence au tick " + (tick + 1));
+            }
+        }
+
+        @Test
+        void shouldDetectDifferentStates() {
+            GameManager first = createMatch(42);
+            GameManager second = createMatch(42);
+            assertEquals(first.checksum(), second.checksum());
+
+            for (int tick = 0; tick < 3; tick++) {
+                first.step(PlayerInput.pack(0, 0, PlayerInput.of(PlayerInput.RIGHT, false)));
+                second.step(0);
+            }
+
+            assertNotEquals(first.checksum(), second.checksum());
+        }
+    }
+
+    @Nested
+    class LoopbackTests {
+
+        @Test
+        void shouldKeepFourClientsInSync() throws Exception {
+            connect(4, 1234, 3);
+
+            for (LockstepClient client : clients) {
+                assertEquals(4, client.getPlayerCount());
+                assertEquals(1234, client.getSeed());
+                assertEquals(3, client.getInputDelay());
+            }
+
+            play(300, new Random(99));
+
+            long expected = clients.get(0).getGameManager().checksum();
+            for (LockstepClient client : clients) {
+                assertEquals(300, client.getSimulatedTick());
+                assertEquals(expected, client.getGameManager().checksum());
+                assertFalse(client.isDesynced());
+            }
+            assertTrue(server.getConfirmedTick() >= 300);
+            assertEquals(-1, server.getDesyncTick());
+        }
+
+        @Test
+        void shouldRefuseInputsBeyondInputDelay() throws Exception {
+            connect(2, 5, 2);
+            LockstepClient client = clients.get(0);
+
+            assertTrue(client.submitInput(PlayerInput.NONE));
+            assertFalse(client.submitInput(PlayerInput.NONE));
+        }
+
+        @Test
+        void shouldReportDesyncToAllClients() throws Exception {
+            connect(2, 77, 1);
+            play(10, new Random(3));
+
+            // Altérer l'état d'un seul client
+            GameGrid grid = clients.get(0).getGameManager().getGrid();
+            grid.setDestructibleWall(1, 1);
+            play(1, new Random(3));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while ((!clients.get(0).isDesynced() || !clients.get(1).isDesynced())
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(clients.get(0).isDesynced());
+            assertTrue(clients.get(1).isDesynced());
+            assertEquals(11, server.getDesyncTick());
+        }
+    }
+}
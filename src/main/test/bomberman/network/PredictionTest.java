@@ -0,0 +1,168 @@
+package bomberman.network;
+
+import bomberman.model.entities.GamePlayer;
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PredictionTest {
+
+    private static GameManager createMatch(long seed) {
+        return GameManager.createSeededMatch(2, seed, true);
+    }
+
+    /** Commandes de déplacement maintenues quelques ticks, sans bombe */
+    private static int[] randomInputs(int ticks, long seed) {
+        Random random = new Random(seed);
+        int[] inputs = new int[ticks + 1];
+        for (int tick = 1; tick <= ticks; tick++) {
+            inputs[tick] = random.nextInt(12) == 0 || tick == 1 ? random.nextInt(5) : inputs[tick - 1];
+        }
+        return inputs;
+    }
+
+    /**
+     * Liaison simulée entre le client et le serveur, tick pour tick : la
+     * commande numérotée du tick local t arrive au serveur au tick t + montée,
+     * le serveur en applique une par tick (la précédente est maintenue s'il n'en
+     * a aucune) et sa trame, avec le numéro de la commande appliquée, arrive au
+     * client {@code downlink} ticks plus tard.
+     */
+    private static final class Link {
+
+        private final GameManager reference;
+        private final PlayerPredictor predictor;
+        private final int uplink;
+        private final int downlink;
+        /** Tous les combien de ticks le serveur ne prend pas de commande (arrivée tardive), 0 jamais */
+        private final int holdEvery;
+        private final ArrayDeque<long[]> pending = new ArrayDeque<>();
+        private final ArrayDeque<long[]> frames = new ArrayDeque<>();
+        private int tick;
+        private int held = PlayerInput.NONE;
+        private long acknowledged;
+        private double largestStep;
+
+        Link(GameManager reference, int uplink, int downlink, int holdEvery) {
+            this.reference = reference;
+            this.predictor = new PlayerPredictor(reference, 0);
+            this.uplink = uplink;
+            this.downlink = downlink;
+            this.holdEvery = holdEvery;
+        }
+
+        /** Avance d'un tick ; sans commande locale (-1), le client ne prédit plus */
+        void tick(int input) {
+            tick++;
+            // Le serveur simule son tick avec les commandes arrivées
+            if (!pending.isEmpty() && pending.peek()[0] <= tick && (holdEvery == 0 || tick % holdEvery != 0)) {
+                long[] message = pending.poll();
+                acknowledged = message[1];
+                held = (int) message[2];
+            }
+            frames.add(new long[] {tick + downlink, PlayerInput.pack(0, 0, held), acknowledged});
+
+            // Le client reçoit les trames arrivées, puis prédit son tick
+            while (!frames.isEmpty() && frames.peek()[0] <= tick) {
+                long[] frame = frames.poll();
+                reference.step((int) frame[1]);
+                predictor.acknowledge(frame[2]);
+            }
+            double previousX = predictor.getVisualX();
+            double previousY = predictor.getVisualY();
+            if (input >= 0 && predictor.predict(input)) {
+                pending.add(new long[] {tick + uplink, predictor.getSequence(), input});
+            }
+            double step = Math.hypot(predictor.getVisualX() - previousX, predictor.getVisualY() - previousY);
+            if (step < PlayerPredictor.SNAP_TILES * GameConstants.TILE_SIZE) {
+                largestStep = Math.max(largestStep, step);
+            }
+        }
+
+        /** Joue les commandes puis s'arrête, et attend que le serveur les ait toutes appliquées */
+        PlayerPredictor play(int[] inputs) {
+            // Le joueur attend que la liaison soit établie : avant la première trame,
+            // le client ignore à quel tick du serveur sa première commande sera appliquée
+            for (int i = 0; i < uplink + downlink + 1; i++) {
+                tick(PlayerInput.NONE);
+            }
+            for (int i = 1; i < inputs.length + 60; i++) {
+                tick(i < inputs.length ? inputs[i] : PlayerInput.NONE);
+            }
+            while (predictor.getAcknowledged() < predictor.getSequence()) {
+                tick(-1);
+            }
+            predictor.reconcile();
+            return predictor;
+        }
+    }
+
+    @Nested
+    class ReconciliationTests {
+
+        @Test
+        void shouldNotCorrectWhenServerAppliesEachInputOnce() {
+            GameManager reference = createMatch(2);
+            PlayerPredictor predictor = new Link(reference, 5, 3, 0).play(randomInputs(600, 4));
+
+            GamePlayer authoritative = reference.getPlayers().get(0);
+            assertTrue(authoritative.getPlayer().getX() != authoritative.getSpawnX()
+                    || authoritative.getPlayer().getY() != authoritative.getSpawnY(), "Le joueur doit s'être déplacé");
+            assertEquals(0, predictor.getCorrectionCount());
+            // Une fois les commandes confirmées, la prédiction rejoint la référence
+            assertEquals(0, predictor.getPendingTicks());
+            assertEquals(authoritative.getVisualX(), predictor.getVisualX(), 1e-9);
+            assertEquals(authoritative.getVisualY(), predictor.getVisualY(), 1e-9);
+        }
+
+        @Test
+        void shouldNotDependOnLatency() {
+            int[] inputs = randomInputs(300, 8);
+            for (int latency : new int[] {0, 1, 7, 20}) {
+                GameManager reference = createMatch(3);
+                PlayerPredictor predictor = new Link(reference, latency, latency + 2, 0).play(inputs);
+
+                assertEquals(0, predictor.getCorrectionCount(), "Latence " + latency);
+            }
+        }
+
+        @Test
+        void shouldCorrectSmoothlyWhenServerHoldsInput() {
+            GameManager reference = createMatch(2);
+            // Une commande sur 25 arrive trop tard : le serveur maintient la précédente un tick de plus
+            Link link = new Link(reference, 8, 8, 25);
+            PlayerPredictor predictor = link.play(randomInputs(600, 4));
+
+            assertTrue(predictor.getCorrectionCount() > 0);
+            assertTrue(predictor.getMeanCorrection() > 0);
+            assertTrue(predictor.getMaxCorrection() >= predictor.getMeanCorrection());
+            // Lissage : l'affichage ne saute jamais d'une case entière d'un tick à l'autre
+            assertTrue(link.largestStep < GameConstants.TILE_SIZE, "Saut d'affichage : " + link.largestStep);
+
+            GamePlayer authoritative = reference.getPlayers().get(0);
+            assertEquals(authoritative.getVisualX(), predictor.getVisualX(), 0.5);
+            assertEquals(authoritative.getVisualY(), predictor.getVisualY(), 0.5);
+        }
+
+        @Test
+        void shouldNotModifyReferenceGame() {
+            GameManager reference = createMatch(6);
+            long checksum = reference.checksum();
+            PlayerPredictor predictor = new PlayerPredictor(reference, 0);
+            for (int tick = 0; tick < 200; tick++) {
+                predictor.predict(PlayerInput.of(tick % 40 < 20 ? PlayerInput.RIGHT : PlayerInput.DOWN, false));
+            }
+
+            assertEquals(checksum, reference.checksum());
+            assertEquals(PlayerPredictor.MAX_PREDICTED_TICKS - 1, predictor.getPendingTicks(),
+                    "La prédiction s'arrête quand la référence ne suit plus");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.GameStateSnapshot;
+import bomberman.model.game.PlayerInput;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollbackTest {
+
+    private static GameManager createMatch(int playerCount, long seed) {
+        return GameManager.createSeededMatch(playerCount, seed, false);
+    }
+
+    private static int[][] randomInputs(int ticks, int playerCount, long seed) {
+        Random random = new Random(seed);
+        int[][] inputs = new int[ticks + 1][playerCount];
+        for (int tick = 1; tick <= ticks; tick++) {
+            for (int player = 0; player < playerCount; player++) {
+                // Commandes maintenues quelques ticks, comme au clavier
+                inputs[tick][player] = random.nextInt(4) == 0 || tick == 1
+                        ? PlayerInput.of(random.nextInt(5), random.nextInt(10) == 0)
+                        : inputs[tick - 1][player];
+            }
+        }
+        return inputs;
+    }
+
+    @Nested
+    class SnapshotTests {
+
+        @Test
+        void shouldRestoreExactState() {
+            GameManager manager = createMatch(4, 11);
+            int[][] inputs = randomInputs(400, 4, 5);
+            for (int tick = 1; tick <= 200; tick++) {
+                manager.step(frame(inputs[tick]));
+            }
+
+            GameStateSnapshot snapshot = new GameStateSnapshot();
+            snapshot.capture(manager);
+            long expected = manager.checksum();
+            for (int tick = 201; tick <= 400; tick++) {
+                manager.step(frame(inputs[tick]));
+            }
+            assertNotEquals(expected, manager.checksum());
+
+            snapshot.restore(manager);
+            assertEquals(expected, manager.checksum());
+            assertEquals(200, snapshot.getTick());
+        }
+
+        @Test
+        void shouldReplaySameFutureAfterRestore() {
+            GameManager manager = createMatch(2, 3);
+            int[][] inputs = randomInputs(300, 2, 9);
+            GameStateSnapshot snapshot = new GameStateSnapshot();
+            snapshot.capture(manager);
+
+            for (int tick = 1; tick <= 300; tick++) {
+                manager.step(frame(inputs[tick]));
+            }
+            long expected = manager.checksum();
+
+            snapshot.restore(manager);
+            for (int tick = 1; tick <= 300; tick++) {
+                manager.step(frame(inputs[tick]));
+            }
+            assertEquals(expected, manager.checksum());
+        }
+
+        @Test
+        void shouldRefuseEmptySnapshot() {
+            assertThrows(IllegalStateException.class, () -> new GameStateSnapshot().restore(createMatch(2, 1)));
+        }
+    }
+
+    @Nested
+    class SessionTests {
+
+        @Test
+        void shouldConvergeToSameStateAsStraightSimulation() {
+            int ticks = 300;
+            int[][] inputs = randomInputs(ticks + 1, 4, 21);
+            GameManager reference = createMatch(4, 77);
+            RollbackSession session = new RollbackSession(createMatch(4, 77), 4, 0);
+            Random latency = new Random(4);
+            int[] delivered = new int[4];
+
+            for (int tick = 1; tick <= ticks; tick++) {
+                reference.step(frame(inputs[tick]));
+                // Chaque joueur distant a entre 0 et 6 ticks de retard
+                for (int player = 1; player < 4; player++) {
+                    int target = tick - latency.nextInt(7);
+                    while (delivered[player] < target) {
+                        delivered[player]++;
+                        session.addRemoteInput(player, delivered[player], inputs[delivered[player]][player]);
+                    }
+                }
+                assertTrue(session.advance(inputs[tick][0]), "Blocage au tick " + tick);
+            }
+
+            // Livrer les commandes restantes puis jouer un dernier tick confirmé
+            reference.step(frame(inputs[ticks + 1]));
+            for (int player = 1; player < 4; player++) {
+                while (delivered[player] <= ticks) {
+                    delivered[player]++;
+                    session.addRemoteInput(player, delivered[player], inputs[delivered[player]][player]);
+                }
+            }
+            assertTrue(session.advance(inputs[ticks + 1][0]));
+
+            assertEquals(ticks + 1, session.getConfirmedTick());
+            assertEquals(reference.checksum(), session.getGameManager().checksum());
+            assertTrue(session.getRollbackCount() > 0);
+        }
+
+        @Test
+        void shouldStallBeyondMaxRollback() {
+            RollbackSession session = new RollbackSession(createMatch(2, 1), 2, 0, 4);
+            for (int tick = 1; tick <= 4; tick++) {
+                assertTrue(session.advance(PlayerInput.NONE));
+            }
+            assertFalse(session.advance(PlayerInput.NONE));
+
+            assertTrue(session.addRemoteInput(1, 1, PlayerInput.NONE));
+            assertEquals(1, session.getConfirmedTick());
+            assertTrue(session.advance(PlayerInput.NONE));
+            assertEquals(5, session.getCurrentTick());
+        }
+
+        @Test
+        void shouldIgnoreDuplicateAndLocalInputs() {
+            RollbackSession session = new RollbackSession(createMatch(2, 1), 2, 0);
+            session.advance(PlayerInput.NONE);
+
+            assertTrue(session.addRemoteInput(1, 1, PlayerInput.NONE));
+            assertFalse(session.addRemoteInput(1, 1, PlayerInput.of(PlayerInput.LEFT, false)));
+            assertFalse(session.addRemoteInput(0, 2, PlayerInput.NONE));
+            assertFalse(session.addRemoteInput(1, 50, PlayerInput.NONE));
+        }
+
+        @Test
+        void shouldResimulateEightTicksWithinOneFrame() {
+            RollbackSession session = new RollbackSession(createMatch(4, 99), 4, 0, 8);
+            int[][] inputs = randomInputs(2000, 4, 13);
+            long[] durations = new long[1000];
+            int measured = 0;
+
+            // Les joueurs distants sont toujours 8 ticks en retard et démentent la prédiction
+            for (int tick = 1; tick < inputs.length && measured < durations.length; tick++) {
+                int late = tick - 8;
+                if (late >= 1) {
+                    for (int player = 1; player < 4; player++) {
+                        session.addRemoteInput(player, late, inputs[late][player] ^ PlayerInput.BOMB);
+                    }
+                }
+                int before = session.getRollbackCount();
+                assertTrue(session.advance(inputs[tick][0]));
+                if (session.getRollbackCount() > before && tick > 200) {
+                    durations[measured++] = session.getLastRollbackNanos();
+                }
+            }
+
+            Arrays.sort(durations, 0, measured);
+            long median = durations[measured / 2];
+            assertTrue(median < GameConstants.TICK_DURATION,
+                    "Re-simulation médiane trop lente : " + median / 1000 + " µs");
+        }
+    }
+
+    private static int frame(int[] inputs) {
+        int frame = 0;
+        for (int player = 0; player < inputs.length; player++) {
+            frame = PlayerInput.pack(frame, player, inputs[player]);
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,238 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import bomberman.model.game.RenderSnapshot;
+import bomberman.utils.GameConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorTest {
+
+    private static GameManager createMatch(long seed) {
+        return GameManager.createSeededMatch(4, seed, true);
+    }
+
+    private static ByteBuffer frame(int size) {
+        return ByteBuffer.allocate(size).asReadOnlyBuffer();
+    }
+
+    /** Spectateur qui conserve tous les messages reçus */
+    private static final class RecordingViewer implements SpectatorFeed.Viewer {
+        final List<ByteBuffer> frames = new ArrayList<>();
+        final List<Boolean> keyframes = new ArrayList<>();
+        boolean ended;
+
+        @Override
+        public boolean offer(ByteBuffer frame, boolean keyframe) {
+            frames.add(frame);
+            keyframes.add(keyframe);
+            return true;
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+
+    /** Canal qui n'accepte qu'un nombre limité d'octets, comme une socket saturée */
+    private static final class ThrottledChannel implements WritableByteChannel {
+        int budget;
+
+        @Override
+        public int write(ByteBuffer source) {
+            int written = Math.min(budget, source.remaining());
+            source.position(source.position() + written);
+            budget -= written;
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() { return true; }
+
+        @Override
+        public void close() {}
+    }
+
+    @Nested
+    class QueueTests {
+
+        @Test
+        void shouldSkipSlowViewerToNextKeyframe() throws Exception {
+            FrameQueue queue = new FrameQueue(4);
+            ThrottledChannel channel = new ThrottledChannel();
+            assertFalse(queue.offer(frame(10), false), "Un delta sans image clé est inutilisable");
+            assertTrue(queue.offer(frame(10), true));
+            for (int i = 0; i < 3; i++) {
+                assertTrue(queue.offer(frame(10), false));
+            }
+
+            // Le premier message est en partie écrit : il doit être conservé
+            channel.budget = 4;
+            queue.writeTo(channel);
+            assertFalse(queue.offer(frame(10), false));
+            assertEquals(1, queue.size());
+            assertFalse(queue.offer(frame(10), false));
+            assertTrue(queue.offer(frame(10), true));
+            assertEquals(2, queue.size());
+            assertEquals(1 + 3 + 1 + 1, queue.getSkippedFrames());
+
+            channel.budget = 100;
+            queue.writeTo(channel);
+            assertTrue(queue.isEmpty());
+            assertEquals(20, queue.getSentBytes());
+        }
+    }
+
+    @Nested
+    class FeedTests {
+
+        @Test
+        void shouldEncodeOnceForAllViewers() {
+            GameManager manager = createMatch(4);
+            SpectatorFeed feed = new SpectatorFeed();
+            RecordingViewer first = new RecordingViewer();
+            RecordingViewer second = new RecordingViewer();
+            feed.addViewer(first);
+            feed.addViewer(second);
+
+            for (int tick = 0; tick < 120; tick++) {
+                manager.step(PlayerInput.pack(0, 0, PlayerInput.of(PlayerInput.RIGHT, tick == 30)));
+                feed.publish(manager);
+            }
+
+            assertEquals(120 / StateCodec.SNAPSHOT_INTERVAL, feed.getEncodedFrames());
+            assertEquals(feed.getEncodedFrames(), first.frames.size());
+            for (int i = 0; i < first.frames.size(); i++) {
+                ByteBuffer a = first.frames.get(i);
+                ByteBuffer b = second.frames.get(i);
+                assertTrue(a.isReadOnly() && a.isDirect());
+                assertNotSame(a, b);
+                assertEquals(a, b);
+            }
+            assertTrue(first.keyframes.get(0));
+        }
+
+        @Test
+        void shouldCatchUpLateViewerFromLastKeyframe() {
+            GameManager manager = createMatch(9);
+            SpectatorFeed feed = new SpectatorFeed();
+            feed.addViewer(new RecordingViewer());
+            for (int tick = 0; tick < 40 * StateCodec.SNAPSHOT_INTERVAL; tick++) {
+                manager.step(PlayerInput.pack(0, 1, PlayerInput.of(PlayerInput.DOWN, false)));
+                feed.publish(manager);
+            }
+
+            RecordingViewer late = new RecordingViewer();
+            feed.addViewer(late);
+            assertEquals(40 - SpectatorFeed.KEYFRAME_INTERVAL, late.frames.size());
+            assertTrue(late.keyframes.get(0));
+
+            StateHistory history = new StateHistory();
+            NetworkState decoded = new NetworkState();
+            for (ByteBuffer frame : late.frames) {
+                frame.getInt();
+                assertTrue(StateCodec.decode(frame, history, decoded));
+                history.record(decoded);
+            }
+            RenderSnapshot snapshot = new RenderSnapshot();
+            snapshot.capture(manager);
+            NetworkState expected = new NetworkState();
+            expected.capture(snapshot);
+            assertTrue(expected.contentEquals(decoded));
+
+            feed.end();
+            assertTrue(late.ended);
+            assertEquals(0, feed.getViewerCount());
+        }
+    }
+
+    @Nested
+    class ServerTests {
+
+        private DedicatedServer server;
+        private SpectatorServer spectators;
+        private final List<AutoCloseable> clients = new ArrayList<>();
+
+        @AfterEach
+        void tearDown() throws Exception {
+            for (AutoCloseable client : clients) {
+                client.close();
+            }
+            if (spectators != null) spectators.close();
+            if (server != null) server.close();
+        }
+
+        @Test
+        void shouldStreamRoomToSpectators() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            spectators = new SpectatorServer(0, server::getSpectatorFeed);
+            spectators.start();
+
+            DedicatedClient first = new DedicatedClient("localhost", server.getPort(), 5);
+            clients.add(first);
+            List<SpectatorClient> viewers = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                SpectatorClient viewer = new SpectatorClient("localhost", spectators.getPort(), 5);
+                clients.add(viewer);
+                viewers.add(viewer);
+            }
+            clients.add(new DedicatedClient("localhost", server.getPort(), 5));
+            int startX = (int) first.getGameManager().getPlayers().get(first.getPlayerNumber() - 1).getVisualX();
+            first.sendInput(PlayerInput.of(PlayerInput.RIGHT, false));
+
+            NetworkState state = new NetworkState();
+            for (SpectatorClient viewer : viewers) {
+                assertTrue(viewer.awaitTick(120, 5000));
+                assertTrue(viewer.copyState(state));
+                assertEquals(2, state.getPlayerCount());
+                assertEquals(GameConstants.GRID_WIDTH, state.getGridWidth());
+                assertNotEquals(startX, state.getPlayerX(first.getPlayerNumber() - 1));
+                assertEquals(0, viewer.getMissedFrames());
+            }
+            assertEquals(20, spectators.getSpectatorCount());
+            assertEquals(20, server.getSpectatorFeed(5).getViewerCount());
+        }
+
+        @Test
+        void shouldDisconnectSpectatorsOnClose() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            spectators = new SpectatorServer(0, server::getSpectatorFeed);
+            spectators.start();
+            clients.add(new DedicatedClient("localhost", server.getPort(), 6));
+            clients.add(new DedicatedClient("localhost", server.getPort(), 6));
+            SpectatorClient viewer = new SpectatorClient("localhost", spectators.getPort(), 6);
+            clients.add(viewer);
+            assertTrue(viewer.awaitTick(10, 5000));
+
+            spectators.close();
+            // close() attend la boucle réseau : les spectateurs sont déjà désabonnés
+            assertEquals(0, spectators.getSpectatorCount());
+            assertEquals(0, server.getSpectatorFeed(6).getViewerCount());
+        }
+
+        @Test
+        void shouldCloseUnknownRoom() throws Exception {
+            server = new DedicatedServer(0, 2, 1);
+            server.start();
+            spectators = new SpectatorServer(0, server::getSpectatorFeed);
+            spectators.start();
+
+            SpectatorClient viewer = new SpectatorClient("localhost", spectators.getPort(), 42);
+            clients.add(viewer);
+            assertFalse(viewer.awaitTick(1, 2000));
+            assertFalse(viewer.isConnected());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package bomberman.network;
+
+import bomberman.model.game.GameManager;
+import bomberman.model.game.PlayerInput;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StateCodecTest {
+
+    private static GameManager createMatch(long seed) {
+        return GameManager.createSeededMatch(4, seed, false);
+    }
+
+    private static NetworkState capture(GameManager manager) {
+        NetworkState state = new NetworkState();
+        state.capture(manager.getRenderSnapshots().acquire());
+        return state;
+    }
+
+    /** Joueurs qui changent de direction toutes les demi-secondes environ et posent des bombes */
+    private static int nextFrame(Random random, int[] held) {
+        int frame = 0;
+        for (int player = 0; player < 4; player++) {
+            if (random.nextInt(30) == 0) {
+                held[player] = random.nextInt(5);
+            }
+            frame = PlayerInput.pack(frame, player, PlayerInput.of(held[player], random.nextInt(90) == 0));
+        }
+        return frame;
+    }
+
+    @Nested
+    class VarintTests {
+
+        @Test
+        void shouldRoundTripVarintsAndZigzag() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            int[] values = {0, 1, 127, 128, 300, -1, -64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+            for (int value : values) {
+                StateCodec.writeVarint(buffer, StateCodec.zigzag(value));
+            }
+            buffer.flip();
+            for (int value : values) {
+                assertEquals(value, StateCodec.unzigzag(StateCodec.readVarint(buffer)));
+            }
+            assertEquals(1, encodedSize(0));
+            assertEquals(1, encodedSize(127));
+            assertEquals(2, encodedSize(128));
+        }
+
+        private int encodedSize(int value) {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            StateCodec.writeVarint(buffer, value);
+            return buffer.position();
+        }
+    }
+
+    @Nested
+    class RoundTripTests {
+
+        @Test
+        void shouldDecodeKeyframeWithoutHistory() {
+            GameManager manager = createMatch(3);
+            NetworkState state = capture(manager);
+            ByteBuffer buffer = ByteBuffer.allocate(StateCodec.MAX_MESSAGE_SIZE);
+            StateCodec.encode(state, null, buffer);
+            buffer.flip();
+
+            NetworkState decoded = new NetworkState();
+            assertTrue(StateCodec.decode(buffer, new StateHistory(), decoded));
+            assertTrue(state.contentEquals(decoded));
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        void shouldReproduceEveryStateThroughDeltas() {
+            GameManager manager = createMatch(8);
+            Random random = new Random(1);
+            int[] held = new int[4];
+            StateHistory serverHistory = new StateHistory();
+            StateHistory clientHistory = new StateHistory();
+            ByteBuffer buffer = ByteBuffer.allocate(StateCodec.MAX_MESSAGE_SIZE);
+            NetworkState decoded = new NetworkState();
+            int acked = -1;
+            int deltas = 0;
+
+            // Jusqu'à la fin de la partie, qui traverse morts, power-ups et explosions
+            for (int tick = 1; tick <= 3000 && manager.isGameRunning(); tick++) {
+                manager.step(nextFrame(random, held));
+                if (tick % StateCodec.SNAPSHOT_INTERVAL != 0) continue;
+
+                NetworkState current = serverHistory.record(capture(manager));
+                buffer.clear();
+                StateCodec.encode(current, acked < 0 ? null : serverHistory.get(acked), buffer);
+                buffer.flip();
+                if ((buffer.get(0) & StateCodec.KEYFRAME) == 0) deltas++;
+
+                assertTrue(StateCodec.decode(buffer, clientHistory, decoded));
+                assertTrue(current.contentEquals(decoded), "État différent au tick " + tick);
+                clientHistory.record(decoded);
+                // Le client confirme avec un aller-retour de deux états de retard
+                acked = current.getTick() - 2 * StateCodec.SNAPSHOT_INTERVAL;
+            }
+            assertTrue(deltas > 200, "Trop peu de deltas : " + deltas);
+        }
+
+        @Test
+        void shouldReportMissingBaseline() {
+            GameManager manager = createMatch(5);
+            NetworkState base = capture(manager);
+            manager.step(0);
+            NetworkState current = capture(manager);
+
+            ByteBuffer buffer = ByteBuffer.allocate(StateCodec.MAX_MESSAGE_SIZE);
+            StateCodec.encode(current, base, buffer);
+            buffer.flip();
+            assertFalse(StateCodec.decode(buffer, new StateHistory(), new NetworkState()));
+        }
+    }
+
+    @Nested
+    class BandwidthTests {
+
+        @Test
+        void shouldStayInLowHundredsOfBytesPerSecond() {
+            GameManager manager = createMatch(42);
+            Random random = new Random(6);
+            int[] held = new int[4];
+            StateHistory history = new StateHistory();
+            ByteBuffer buffer = ByteBuffer.allocate(StateCodec.MAX_MESSAGE_SIZE);
+            long bytes = 0;
+            int ticks = 0;
+            int acked = -1;
+
+            // Une minute de partie, ou jusqu'à la fin de la partie
+            while (ticks < 60 * 60 && manager.isGameRunning()) {
+                manager.step(nextFrame(random, held));
+                ticks++;
+                if (ticks % StateCodec.SNAPSHOT_INTERVAL != 0) continue;
+
+                NetworkState current = history.record(capture(manager));
+                buffer.clear();
+                bytes += StateCodec.encode(current, acked < 0 ? null : history.get(acked), buffer);
+                acked = current.getTick() - StateCodec.SNAPSHOT_INTERVAL;
+            }
+
+            long bytesPerSecond = bytes * 60 / ticks;
+            assertTrue(ticks > 600, "Partie trop courte pour mesurer : " + ticks);
+            assertTrue(bytesPerSecond < 500, "Débit trop élevé : " + bytesPerSecond + " o/s");
+        }
+    }
+}